@@ -22,12 +22,16 @@ import dev.galasa.cicsts.ICeciResponseOutputValue;
 import dev.galasa.cicsts.ICicsRegion;
 import dev.galasa.cicsts.ICicsTerminal;
 import dev.galasa.cicsts.IExecInterfaceBlock;
+import dev.galasa.cicsts.spi.CicsScreen;
+import dev.galasa.cicsts.spi.CicsTerminalImpl;
 import dev.galasa.zos3270.FieldNotFoundException;
 import dev.galasa.zos3270.ITerminal;
 import dev.galasa.zos3270.KeyboardLockedException;
 import dev.galasa.zos3270.TerminalInterruptedException;
 import dev.galasa.zos3270.TimeoutException;
 import dev.galasa.zos3270.spi.NetworkException;
+import dev.galasa.zos3270.spi.Screen;
+import dev.galasa.zos3270.spi.Terminal;
 
 /**
  * Implementation of {@link ICECI}
@@ -54,9 +58,18 @@ public class CECIImpl implements ICeci {
     private static final String VARIABLE_TYPE_PACKED = "P";
     private static final String MESSAGE_DFHAC2206 = "DFHAC2206";
     
+    // Layout of the variable expansion screen
+    private static final int FIRST_PAGE_LINES = 20;
+    private static final int NEXT_PAGE_LINES = 16;
+    private static final int NEXT_PAGE_FIRST_LINE = 6;
+    private static final int TEXT_LINE_LENGTH = 64;
+    private static final int HEX_FIELDS_PER_LINE = 4;
+    private static final int HEX_BYTES_PER_FIELD = 4;
+    
     private String command;
     private ICicsTerminal terminal;
     private final ICicsRegion   cicsRegion;
+    private CeciVariablePageLayout pageLayout;
     
     public CECIImpl(CECIManagerImpl manager, ICicsRegion cicsRegion) {
         this.cicsRegion = cicsRegion;
@@ -95,15 +108,15 @@ public class CECIImpl implements ICeci {
             // Issue the command
             terminal.enter().waitForKeyboard();
             // Check we didn't abend
-            if (terminal.retrieveScreen().contains(MESSAGE_DFHAC2206)) {
+            if (CicsScreen.of(terminal).getMessageIds().contains(MESSAGE_DFHAC2206)) {
                 terminal.reportScreenWithCursor();
                 throw new CeciException("Command abended - see previous screen");
             }
             
             // If on user screen then need enter to return to the command
-            if (!terminal.retrieveScreen().contains(COMMAND_EXECUTION_COMPLETE)) {
+            if (!CicsScreen.of(terminal).contains(COMMAND_EXECUTION_COMPLETE)) {
                 terminal.enter().waitForKeyboard();
-                if (!terminal.retrieveScreen().contains(COMMAND_EXECUTION_COMPLETE)) {
+                if (!CicsScreen.of(terminal).contains(COMMAND_EXECUTION_COMPLETE)) {
                     terminal.reportScreenWithCursor();
                     throw new CeciException("Command failed - see previous screen");
                 }
@@ -287,7 +300,7 @@ public class CECIImpl implements ICeci {
         }
         try {
             hexOff();
-            if (variableScreen().retrieveScreen().contains(name + " ")) {
+            if (CicsScreen.of(variableScreen()).contains(name + " ")) {
                 // Find the variable and delete it
                 String fieldValue = terminal.tab().retrieveFieldAtCursor().trim();
                 while (!fieldValue.equals(name)) {
@@ -297,7 +310,7 @@ public class CECIImpl implements ICeci {
                     fieldValue = terminal.newLine().retrieveFieldAtCursor().trim();
                 }
                 terminal.eraseEof().tab().eraseEof().enter().waitForKeyboard();
-                if (variableScreen().retrieveScreen().contains(name + " ")) {
+                if (CicsScreen.of(variableScreen()).contains(name + " ")) {
                     throw new CeciException("Delete variable failed");
                 }
             }
@@ -487,7 +500,7 @@ public class CECIImpl implements ICeci {
                 }
                 
             }
-            if (isHelpScreen(terminal.retrieveScreen())) {
+            if (isHelpScreen(CicsScreen.of(terminal).getText())) {
                 return (ICicsTerminal)terminal.enter().waitForKeyboard();
             }
             return (ICicsTerminal)terminal.home().eraseEof().home().enter().waitForKeyboard();
@@ -505,7 +518,7 @@ public class CECIImpl implements ICeci {
     }
 
     protected boolean isCECIScreen() {
-        String screen = terminal.retrieveScreen(); 
+        String screen = CicsScreen.of(terminal).getText(); 
         return isInitialScreen(screen) ||
                isHelpScreen(screen) ||
                isCommandBeforeScreen(screen) ||
@@ -636,15 +649,15 @@ public class CECIImpl implements ICeci {
             multipleNewLine(2);
             
             // Data is written in 64 character chunks and if the length > and we need to write data in pages
-            String[] chunks = value.split("(?<=\\G.{64})");
+            String[] chunks = value.split("(?<=\\G.{" + TEXT_LINE_LENGTH + "})");
             
-            // Write the first page 
-            int next = setVariableOnPage(chunks, 0, 20);
+            // Write the first page, PF11 sends each page and shows the next 
+            int next = setVariableOnPage(chunks, 0, FIRST_PAGE_LINES);
             while (next < chunks.length) {
                 // Go to next page and tab to the first entry field
                 terminal.home().pf11().waitForKeyboard();
-                multipleNewLine(6);
-                next = setVariableOnPage(chunks, next, 16);
+                multipleNewLine(NEXT_PAGE_FIRST_LINE);
+                next = setVariableOnPage(chunks, next, NEXT_PAGE_LINES);
             }
             
             terminal.enter().waitForKeyboard();
@@ -657,12 +670,28 @@ public class CECIImpl implements ICeci {
     }
     
     protected int setVariableOnPage(String[] chunks, int start, int numberOfLines) throws CeciException {
-        int chunkPos = start;        
+        int chunkPos = start;
+        Screen screen = getScreen();
+        if (screen != null) {
+            // Fill every data field on the page, the layout is reused for each following page
+            try {
+                CeciVariablePageLayout layout = getPageLayout(screen, 1, numberOfLines);
+                for (int i = 0; i < numberOfLines && chunkPos < chunks.length; i++) {
+                    layout.type(i, chunks[chunkPos]);
+                    chunkPos++;
+                }
+                screenModified();
+            } catch (FieldNotFoundException | KeyboardLockedException e) {
+                throw new CeciException("Unable enter variable data", e);
+            }
+            return chunkPos;
+        }
+        
         // Enter the page of data 
         for (int i = 0; i < numberOfLines; i++) {
             try {
                 terminal.type(chunks[chunkPos]);
-                if (chunks[chunkPos].length() < 64) {
+                if (chunks[chunkPos].length() < TEXT_LINE_LENGTH) {
                     terminal.tab();
                 }
             } catch (FieldNotFoundException | KeyboardLockedException e) {
@@ -706,13 +735,13 @@ public class CECIImpl implements ICeci {
             multipleNewLine(2);
             
             // Data is written in 4 byte chunks and we need to write data in pages            
-            // Write the first page 
-            int next = setVariableHexOnPage(value, 0, 20);
+            // Write the first page, PF11 sends each page and shows the next 
+            int next = setVariableHexOnPage(value, 0, FIRST_PAGE_LINES);
             while (next < value.length) {
                 // Go to next page and tab to the first entry field
                 terminal.home().pf11().waitForKeyboard().home();
-                multipleNewLine(6);
-                next = setVariableHexOnPage(value, next, 16);
+                multipleNewLine(NEXT_PAGE_FIRST_LINE);
+                next = setVariableHexOnPage(value, next, NEXT_PAGE_LINES);
             }
             
             terminal.enter().waitForKeyboard();
@@ -727,18 +756,26 @@ public class CECIImpl implements ICeci {
     protected int setVariableHexOnPage(char[] value, int start, int numberOfLines) throws CeciException {
         try {
             int pos = start;
+            Screen screen = getScreen();
+            if (screen != null) {
+                // Fill every data field on the page, the layout is reused for each following page
+                CeciVariablePageLayout layout = getPageLayout(screen, HEX_FIELDS_PER_LINE, numberOfLines);
+                int field = 0;
+                while (pos < value.length && field < numberOfLines * HEX_FIELDS_PER_LINE) {
+                    layout.type(field, toHex(value, pos, HEX_BYTES_PER_FIELD));
+                    pos += HEX_BYTES_PER_FIELD;
+                    field++;
+                }
+                screenModified();
+                return Math.min(pos, value.length);
+            }
+            
             int lineCount = 0;
             while (pos < value.length && lineCount < numberOfLines) {
                 int blockCount = 0;
-                while (pos < value.length && blockCount < 4) {
-                    int byteCount = 0;
-                    StringBuilder sb = new StringBuilder();
-                    while (pos < value.length && byteCount < 4) {
-                        sb.append(Integer.toHexString((int) value[pos]).toUpperCase());                
-                        pos++;
-                        byteCount++;
-                    }
-                    terminal.type(sb.toString());
+                while (pos < value.length && blockCount < HEX_FIELDS_PER_LINE) {
+                    terminal.type(toHex(value, pos, HEX_BYTES_PER_FIELD));
+                    pos = Math.min(pos + HEX_BYTES_PER_FIELD, value.length);
                     blockCount++;
                 }
                 lineCount++;
@@ -768,12 +805,12 @@ public class CECIImpl implements ICeci {
             terminal.newLine();
             
             // We need to retrieve data in pages
-            sb.append(getVariableFromPage(valueLength, 20));
+            sb.append(getVariableFromPage(valueLength, FIRST_PAGE_LINES));
             while (sb.length() < valueLength) {
                 // Go to next page and tab to the first entry field
                 terminal.home().pf11().waitForKeyboard();
-                multipleNewLine(6);
-                sb.append(getVariableFromPage(valueLength-sb.length(), 16));                
+                multipleNewLine(NEXT_PAGE_FIRST_LINE);
+                sb.append(getVariableFromPage(valueLength-sb.length(), NEXT_PAGE_LINES));                
             }
             
             logger.info("CECI variable \"" + name + "\" retreived");
@@ -801,6 +838,19 @@ public class CECIImpl implements ICeci {
 
     protected String getVariableFromPage(int valueLength, int numberOfLines) throws CeciException {
         StringBuilder sb = new StringBuilder();
+        Screen screen = getScreen();
+        if (screen != null) {
+            // Read every data field on the page from a single parse of the screen
+            CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, 1, numberOfLines);
+            for (int i = 0; i < layout.getNumberOfFields() && sb.length() < valueLength; i++) {
+                sb.append(layout.getValue(i));
+            }
+            if (sb.length() > valueLength) {
+                sb.setLength(valueLength);
+            }
+            return sb.toString();
+        }
+        
         int lineCount = 0;
         while (sb.length() < valueLength && lineCount < numberOfLines) {
             sb.append(terminal.retrieveFieldAtCursor());
@@ -827,12 +877,12 @@ public class CECIImpl implements ICeci {
             terminal.newLine();
             
             // We need to retrieve data in pages
-            sb.append(getVariableHexFromPage(valueLength, 20));
+            sb.append(getVariableHexFromPage(valueLength, FIRST_PAGE_LINES));
             while (sb.length() < valueLength) {
                 // Go to next page and tab to the first entry field
                 terminal.home().pf11().waitForKeyboard();
-                multipleNewLine(6);
-                sb.append(getVariableHexFromPage(valueLength-sb.length(), 16));                
+                multipleNewLine(NEXT_PAGE_FIRST_LINE);
+                sb.append(getVariableHexFromPage(valueLength-sb.length(), NEXT_PAGE_LINES));                
             }
             
             logger.info("CECI variable \"" + name + "\" retreived");
@@ -846,16 +896,25 @@ public class CECIImpl implements ICeci {
     
     protected String getVariableHexFromPage(int valueLength, int numberOfLines) throws CeciException {
         StringBuilder sb = new StringBuilder();
+        Screen screen = getScreen();
+        if (screen != null) {
+            // Read every data field on the page from a single parse of the screen
+            CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, HEX_FIELDS_PER_LINE, numberOfLines);
+            for (int i = 0; i < layout.getNumberOfFields() && sb.length() < valueLength; i++) {
+                fromHex(layout.getValue(i).trim(), sb);
+            }
+            if (sb.length() > valueLength) {
+                sb.setLength(valueLength);
+            }
+            return sb.toString();
+        }
+        
         int lineCount = 0;
         try {
             while (sb.length() < valueLength && lineCount < numberOfLines) {
                 int blockCount = 0;
-                while (sb.length() < valueLength && blockCount < 4) {
-                    String hexField = terminal.retrieveFieldAtCursor();
-                    String[] hexArray = hexField.split("(?<=\\G.{2})");
-                    for (String hexString : hexArray) {
-                        sb.append((char) Long.parseLong(hexString, 16));
-                    }
+                while (sb.length() < valueLength && blockCount < HEX_FIELDS_PER_LINE) {
+                    fromHex(terminal.retrieveFieldAtCursor(), sb);
                     terminal.tab();
                     blockCount++;
                 }
@@ -868,13 +927,63 @@ public class CECIImpl implements ICeci {
         return sb.toString();
     }
 
+    /**
+     * The screen of the terminal, used to fill and read whole pages of variable data. Null if the terminal does not
+     * provide its screen, the data is then entered and read a field at a time
+     * @return
+     */
+    protected Screen getScreen() {
+        if (terminal instanceof Terminal) {
+            return ((Terminal) terminal).getScreen();
+        }
+        return null;
+    }
+
+    /**
+     * The page is typed directly on the screen, so tell a CICS terminal that any cached view of the screen is out of
+     * date
+     */
+    protected void screenModified() {
+        if (terminal instanceof CicsTerminalImpl) {
+            ((CicsTerminalImpl) terminal).screenModified();
+        }
+    }
+
+    /**
+     * The layout of the variable page at the cursor, only calculated again if the page has a different shape
+     * @return
+     */
+    protected CeciVariablePageLayout getPageLayout(Screen screen, int fieldsPerLine, int numberOfLines) {
+        if (pageLayout == null || !pageLayout.isReusable(screen, fieldsPerLine, numberOfLines)) {
+            pageLayout = CeciVariablePageLayout.calculate(screen, fieldsPerLine, numberOfLines);
+        }
+        return pageLayout;
+    }
+
+    protected String toHex(char[] value, int start, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = start; i < value.length && i < start + count; i++) {
+            sb.append(String.format("%02X", (int) value[i]));
+        }
+        return sb.toString();
+    }
+
+    protected void fromHex(String hexField, StringBuilder sb) {
+        String[] hexArray = hexField.split("(?<=\\G.{2})");
+        for (String hexString : hexArray) {
+            if (!hexString.isEmpty()) {
+                sb.append((char) Long.parseLong(hexString, 16));
+            }
+        }
+    }
+
     protected ITerminal moveToVariable(String name) throws CeciException {
         try {
             // Set Hex off
             hexOff();
         
             // Confirm variable exists
-            if (!variableScreen().retrieveScreen().contains(name + " ")) {
+            if (!CicsScreen.of(variableScreen()).contains(name + " ")) {
                 throw new CeciException("Unable to find variable " + name);
             }
             // Go to the first variable on the variable screen 
@@ -939,7 +1048,7 @@ public class CECIImpl implements ICeci {
     }
 
     protected ICeciResponse newCECIResponse(boolean parseOutput) throws CeciException {
-        String screen = terminal.retrieveScreen();
+        String screen = CicsScreen.of(terminal).getText();
 
         String response = getFieldAfter(screen, "RESPONSE: ", "EIBRESP").trim();
         int eibresp = Integer.parseInt(getFieldAfter(screen, "EIBRESP="));
@@ -966,7 +1075,7 @@ public class CECIImpl implements ICeci {
                     // Expand the option value
                     terminal.enter().waitForKeyboard();
                     
-                    String screen = terminal.retrieveScreen();
+                    String screen = CicsScreen.of(terminal).getText();
                     String option = getFieldAfter(screen, "OPTION= ");
                     if (responseOutput.containsKey(option)) {
                         done = true;
@@ -0,0 +1,130 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceci.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.galasa.zos3270.FieldNotFoundException;
+import dev.galasa.zos3270.KeyboardLockedException;
+import dev.galasa.zos3270.spi.Field;
+import dev.galasa.zos3270.spi.Screen;
+
+/**
+ * The data fields of a page of the CECI variable expansion screen, found with a single parse of the screen fields.
+ * Data lines are the screen rows from the cursor onwards, and each line holds the first unprotected fields of its row,
+ * one field for text and four 4 byte fields for hex. The character representation that follows the hex fields is
+ * ignored.
+ */
+public class CeciVariablePageLayout {
+
+    private final Screen   screen;
+    private final int      cursor;
+    private final int      fieldsPerLine;
+    private final int      numberOfLines;
+    private final int[]    positions;
+    private final String[] values;
+
+    private CeciVariablePageLayout(Screen screen, int cursor, int fieldsPerLine, int numberOfLines, List<Field> fields) {
+        this.screen = screen;
+        this.cursor = cursor;
+        this.fieldsPerLine = fieldsPerLine;
+        this.numberOfLines = numberOfLines;
+        this.positions = new int[fields.size()];
+        this.values = new String[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            this.positions[i] = (fields.get(i).getStart() + 1) % screen.getScreenSize();
+            this.values[i] = fields.get(i).getFieldWithoutNulls();
+        }
+    }
+
+    /**
+     * Calculate the layout of the page, starting with the field at the cursor
+     *
+     * @param screen        - the screen
+     * @param fieldsPerLine - the number of data fields on each line
+     * @param numberOfLines - the maximum number of data lines on the page
+     * @return the layout
+     */
+    public static CeciVariablePageLayout calculate(Screen screen, int fieldsPerLine, int numberOfLines) {
+        int cursor = screen.getCursor();
+        int columns = screen.getNoOfColumns();
+
+        List<Field> dataFields = new ArrayList<>();
+        int row = -1;
+        int lineCount = 0;
+        int fieldCount = 0;
+        for (Field field : screen.calculateFields()) {
+            if (field.isProtected() || field.isDummyField() || (field.getStart() < cursor && !field.containsPosition(cursor))) {
+                continue;
+            }
+            int fieldRow = (field.getStart() + 1) / columns;
+            if (fieldRow != row) {
+                if (lineCount == numberOfLines) {
+                    break;
+                }
+                row = fieldRow;
+                lineCount++;
+                fieldCount = 0;
+            }
+            if (fieldCount < fieldsPerLine) {
+                dataFields.add(field);
+                fieldCount++;
+            }
+        }
+        return new CeciVariablePageLayout(screen, cursor, fieldsPerLine, numberOfLines, dataFields);
+    }
+
+    /**
+     * Is this layout for a full page of the same shape, so it can be used to type on the current page without parsing
+     * the screen again
+     *
+     * @param screen        - the screen
+     * @param fieldsPerLine - the number of data fields on each line
+     * @param numberOfLines - the number of data lines on the page
+     * @return true if the layout can be reused
+     */
+    public boolean isReusable(Screen screen, int fieldsPerLine, int numberOfLines) {
+        return this.screen == screen &&
+               this.cursor == screen.getCursor() &&
+               this.fieldsPerLine == fieldsPerLine &&
+               this.numberOfLines == numberOfLines &&
+               this.positions.length == fieldsPerLine * numberOfLines;
+    }
+
+    /**
+     * @return the number of data fields found on the page
+     */
+    public int getNumberOfFields() {
+        return this.positions.length;
+    }
+
+    /**
+     * Type into a data field. The field is modified on the screen and sent with the next AID. The cursor is left at
+     * the start of the page, so the layout still matches the page. The terminal is not told of the change, see
+     * {@link dev.galasa.cicsts.spi.CicsTerminalImpl#screenModified()}
+     *
+     * @param field - the index of the data field
+     * @param text  - the text to type
+     * @throws KeyboardLockedException
+     * @throws FieldNotFoundException
+     */
+    public void type(int field, String text) throws KeyboardLockedException, FieldNotFoundException {
+        if (field >= this.positions.length) {
+            throw new FieldNotFoundException("CECI variable page has no data field " + (field + 1));
+        }
+        this.screen.type(text, this.positions[field]);
+        this.screen.setCursorPosition(this.cursor);
+    }
+
+    /**
+     * @param field - the index of the data field
+     * @return the contents of the data field when the layout was calculated
+     */
+    public String getValue(int field) {
+        return this.values[field];
+    }
+}
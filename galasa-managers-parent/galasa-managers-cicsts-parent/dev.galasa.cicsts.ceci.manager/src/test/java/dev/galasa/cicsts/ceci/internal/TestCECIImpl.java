@@ -19,11 +19,13 @@ import dev.galasa.cicsts.CeciException;
 import dev.galasa.cicsts.ICeciResponse;
 import dev.galasa.cicsts.ICicsRegion;
 import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.cicsts.spi.CicsTerminalImpl;
 import dev.galasa.zos3270.FieldNotFoundException;
 import dev.galasa.zos3270.KeyboardLockedException;
 import dev.galasa.zos3270.TerminalInterruptedException;
 import dev.galasa.zos3270.TimeoutException;
 import dev.galasa.zos3270.spi.NetworkException;
+import dev.galasa.zos3270.spi.Screen;
 
 @RunWith(PowerMockRunner.class)
 public class TestCECIImpl {
@@ -1025,6 +1027,95 @@ public class TestCECIImpl {
         ceciSpy.getVariableHexFromPage(4, 1);
     }
     
+    @Test
+    public void testGetVariableFromPageScreen() throws Exception {
+        Screen screen = TestCeciVariablePageLayout.newVariableScreen(1, 64, 20);
+        screen.setBuffer(8, 2, String.format("%-64s", "A").replace(" ", "A"));
+        screen.setBuffer(8, 3, TEXT_VARIABLE_VALUE);
+        Whitebox.setInternalState(ceciSpy, "terminal", newPagedTerminal(screen));
+        
+        String value = String.format("%-64s", "A").replace(" ", "A") + TEXT_VARIABLE_VALUE;
+        Assert.assertEquals("Error in getVariableFromPage() method", value, ceciSpy.getVariableFromPage(value.length(), 20));
+        Assert.assertEquals("Error in getVariableFromPage() method", value.substring(0, 70), ceciSpy.getVariableFromPage(70, 20));
+    }
+    
+    @Test
+    public void testGetVariableHexFromPageScreen() throws Exception {
+        Screen screen = TestCeciVariablePageLayout.newVariableScreen(4, 8, 20);
+        screen.setBuffer(8, 2, "5A5A5A5A");
+        screen.setBuffer(17, 2, "C1C2");
+        Whitebox.setInternalState(ceciSpy, "terminal", newPagedTerminal(screen));
+        
+        Assert.assertEquals("Error in getVariableHexFromPage() method", "ZZZZ\u00C1\u00C2", ceciSpy.getVariableHexFromPage(6, 20));
+        Assert.assertEquals("Error in getVariableHexFromPage() method", "ZZZ", ceciSpy.getVariableHexFromPage(3, 20));
+    }
+    
+    @Test
+    public void testSetVariableHexOnPageScreen() throws Exception {
+        Screen screen = TestCeciVariablePageLayout.newVariableScreen(4, 8, 20);
+        ICicsTerminal pagedTerminal = newPagedTerminal(screen);
+        Whitebox.setInternalState(ceciSpy, "terminal", pagedTerminal);
+        
+        char[] value = new char[] {0x5A, 0x0A, 0x5A, 0x0A, 0xC1};
+        Assert.assertEquals("Error in setVariableHexOnPage() method", value.length, ceciSpy.setVariableHexOnPage(value, 0, 20));
+        // The page is typed on the screen, so the cached CICS screen view must be rebuilt
+        Mockito.verify((CicsTerminalImpl) pagedTerminal, Mockito.times(1)).screenModified();
+        Assert.assertEquals("Error in setVariableHexOnPage() method", new String(value), ceciSpy.getVariableHexFromPage(value.length, 20));
+    }
+    
+    @Test
+    public void testSetVariableAidsPerKb() throws Exception {
+        // Benchmark - a 32K text variable needs an AID for each page of 64 character lines, not for each field 
+        int length = 32767;
+        setupTestVariable();
+        ICicsTerminal pagedTerminal = newPagedTerminal(TestCeciVariablePageLayout.newVariableScreen(1, 64, 20));
+        Whitebox.setInternalState(ceciSpy, "terminal", pagedTerminal);
+        
+        Assert.assertEquals("Error in setVariable() method", length, ceciSpy.setVariable(TEXT_VARIABLE_NAME, new String(new char[length]).replace("\0", "X"), null));
+        
+        int pages = 1 + (int) Math.ceil((length - (20 * 64)) / (16.0 * 64));
+        assertAidsPerKb(pagedTerminal, length, pages + 3);
+    }
+    
+    @Test
+    public void testSetVariableHexAidsPerKb() throws Exception {
+        // Benchmark - a 32K binary variable needs an AID for each page of 16 byte lines, not for each field
+        int length = 32767;
+        setupTestVariable();
+        ICicsTerminal pagedTerminal = newPagedTerminal(TestCeciVariablePageLayout.newVariableScreen(4, 8, 20));
+        Whitebox.setInternalState(ceciSpy, "terminal", pagedTerminal);
+        
+        Assert.assertEquals("Error in setVariableHex() method", length, ceciSpy.setVariableHex(TEXT_VARIABLE_NAME, new String(new char[length]).replace("\0", "X").toCharArray()));
+        
+        int pages = 1 + (int) Math.ceil((length - (20 * 16)) / (16.0 * 16));
+        assertAidsPerKb(pagedTerminal, length, pages + 3);
+    }
+    
+    private void assertAidsPerKb(ICicsTerminal pagedTerminal, int length, int expectedAids) {
+        long aids = Mockito.mockingDetails(pagedTerminal).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().matches("enter|pf[0-9]+"))
+                .count();
+        double aidsPerKb = aids * 1024.0 / length;
+        Assert.assertEquals("Error in AIDs per KB, " + String.format("%.2f", aidsPerKb) + " AIDs per KB", expectedAids, aids);
+    }
+    
+    private ICicsTerminal newPagedTerminal(Screen screen) throws Exception {
+        CicsTerminalImpl pagedTerminal = Mockito.mock(CicsTerminalImpl.class);
+        Mockito.when(pagedTerminal.getScreen()).thenReturn(screen);
+        Mockito.when(pagedTerminal.getCicsRegion()).thenReturn(cicsRegionMock);
+        Mockito.when(pagedTerminal.retrieveFieldAtCursor()).thenReturn(String.format("%-10s", " "));
+        Mockito.when(pagedTerminal.type(Mockito.any())).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.tab()).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.home()).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.newLine()).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.enter()).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.pf2()).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.pf5()).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.pf11()).thenReturn(pagedTerminal);
+        Mockito.when(pagedTerminal.waitForKeyboard()).thenReturn(pagedTerminal);
+        return pagedTerminal;
+    }
+    
     @Test
     public void testMoveToVariable() throws Exception {
         setupMoveToVariable();
@@ -0,0 +1,133 @@
+package dev.galasa.cicsts.ceci.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import dev.galasa.zos3270.FieldNotFoundException;
+import dev.galasa.zos3270.spi.BufferChar;
+import dev.galasa.zos3270.spi.BufferStartOfField;
+import dev.galasa.zos3270.spi.IBufferHolder;
+import dev.galasa.zos3270.spi.Screen;
+
+public class TestCeciVariablePageLayout {
+
+    private static final int COLUMNS = 80;
+    private static final int FIRST_DATA_ROW = 2;
+    private static final int TEXT_FIELD_LENGTH = 64;
+    private static final int HEX_FIELD_LENGTH = 8;
+
+    @Test
+    public void testCalculateText() throws Exception {
+        Screen screen = newVariableScreen(1, TEXT_FIELD_LENGTH, 20);
+        screen.setBuffer(8, FIRST_DATA_ROW, "FIRST");
+        screen.setBuffer(8, FIRST_DATA_ROW + 19, "LAST");
+
+        CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, 1, 20);
+        Assert.assertEquals("Error in calculate() method", 20, layout.getNumberOfFields());
+        Assert.assertEquals("Error in calculate() method", String.format("%-64s", "FIRST"), layout.getValue(0));
+        Assert.assertEquals("Error in calculate() method", String.format("%-64s", "LAST"), layout.getValue(19));
+        Assert.assertTrue("Error in isReusable() method", layout.isReusable(screen, 1, 20));
+        Assert.assertFalse("Error in isReusable() method", layout.isReusable(screen, 4, 20));
+        Assert.assertFalse("Error in isReusable() method", layout.isReusable(screen, 1, 16));
+    }
+
+    @Test
+    public void testCalculateHex() throws Exception {
+        Screen screen = newVariableScreen(4, HEX_FIELD_LENGTH, 20);
+        screen.setBuffer(8, FIRST_DATA_ROW + 1, "C1C2C3C4");
+
+        CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, 4, 20);
+        Assert.assertEquals("Error in calculate() method", 80, layout.getNumberOfFields());
+        Assert.assertEquals("Error in calculate() method", "C1C2C3C4", layout.getValue(4));
+    }
+
+    @Test
+    public void testCalculatePartialPage() throws Exception {
+        Screen screen = newVariableScreen(1, TEXT_FIELD_LENGTH, 3);
+
+        CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, 1, 16);
+        Assert.assertEquals("Error in calculate() method", 3, layout.getNumberOfFields());
+        Assert.assertFalse("Error in isReusable() method", layout.isReusable(screen, 1, 16));
+    }
+
+    @Test
+    public void testCalculateFromCursor() throws Exception {
+        Screen screen = newVariableScreen(1, TEXT_FIELD_LENGTH, 20);
+        screen.setBuffer(8, FIRST_DATA_ROW + 4, "FIFTH");
+        screen.setCursorPosition(8, FIRST_DATA_ROW + 4);
+
+        CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, 1, 16);
+        Assert.assertEquals("Error in calculate() method", 16, layout.getNumberOfFields());
+        Assert.assertEquals("Error in calculate() method", String.format("%-64s", "FIFTH"), layout.getValue(0));
+    }
+
+    @Test
+    public void testType() throws Exception {
+        Screen screen = newVariableScreen(4, HEX_FIELD_LENGTH, 20);
+
+        CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, 4, 20);
+        layout.type(0, "C1C2C3C4");
+        layout.type(5, "5A5A");
+
+        layout = CeciVariablePageLayout.calculate(screen, 4, 20);
+        Assert.assertEquals("Error in type() method", "C1C2C3C4", layout.getValue(0));
+        Assert.assertEquals("Error in type() method", "5A5A    ", layout.getValue(5));
+    }
+
+    @Test
+    public void testTypeException() throws Exception {
+        Screen screen = newVariableScreen(1, TEXT_FIELD_LENGTH, 1);
+
+        CeciVariablePageLayout layout = CeciVariablePageLayout.calculate(screen, 1, 20);
+        try {
+            layout.type(1, "X");
+            Assert.fail("Expected FieldNotFoundException");
+        } catch (FieldNotFoundException e) {
+            Assert.assertEquals("Error in type() method", "CECI variable page has no data field 2", e.getMessage());
+        }
+    }
+
+    /**
+     * A variable expansion screen with the cursor at the first data field. Each data line has a protected offset
+     * followed by the data fields and, for hex, an unprotected character representation
+     */
+    protected static Screen newVariableScreen(int fieldsPerLine, int fieldLength, int numberOfLines) throws Exception {
+        Screen screen = new Screen();
+        IBufferHolder[] buffer = new IBufferHolder[screen.getScreenSize()];
+        setText(buffer, setField(buffer, 0, true), "EXPANSION OF: &VARIABLE");
+        setText(buffer, setField(buffer, COLUMNS, true), "LENGTH:");
+        setField(buffer, COLUMNS + 9, false);
+        setField(buffer, COLUMNS + 20, true);
+        for (int line = 0; line < numberOfLines; line++) {
+            int pos = (FIRST_DATA_ROW + line) * COLUMNS;
+            setText(buffer, setField(buffer, pos, true), String.format("+%05d", line));
+            pos += 7;
+            for (int field = 0; field < fieldsPerLine; field++) {
+                setField(buffer, pos, false);
+                pos += fieldLength + 1;
+            }
+            if (fieldsPerLine > 1) {
+                setField(buffer, pos, false);
+                pos += 17;
+            }
+            setField(buffer, pos, true);
+        }
+        setText(buffer, setField(buffer, 23 * COLUMNS, true), "PF 1 HELP 2 HEX 3 END");
+        screen.setBuffer(buffer);
+        screen.setCursorPosition(8, FIRST_DATA_ROW);
+        Whitebox.setInternalState(screen, "keyboardLockSet", false);
+        return screen;
+    }
+
+    private static int setField(IBufferHolder[] buffer, int pos, boolean fieldProtected) {
+        buffer[pos] = new BufferStartOfField(pos, fieldProtected, false, true, false, false, false);
+        return pos + 1;
+    }
+
+    private static void setText(IBufferHolder[] buffer, int pos, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer[pos + i] = new BufferChar(text.charAt(i));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.validation.constraints.NotNull;
+
+import dev.galasa.cicsts.CedaException;
+import dev.galasa.cicsts.CedaResourceDefinition;
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.cicsts.ICeda;
+import dev.galasa.cicsts.ICedaDefinitionResult;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.cicsts.spi.ICmciClient;
+
+/**
+ * CEDA implementation that issues CMCI REST requests against the CSD instead of driving a terminal. The terminal is
+ * only used to check the region
+ */
+public class CedaCmciImpl implements ICeda {
+
+	private static final String CSD_GROUP_TABLE = "CICSCSDGroup";
+
+	private static final Pattern PARAMETER_PATTERN = Pattern.compile("(\\w+)\\(([^)]*)\\)");
+
+	private final ICicsRegion cicsRegion;
+	private final ICmciClient cmciClient;
+
+	public CedaCmciImpl(ICicsRegion cicsRegion, ICmciClient cmciClient) {
+		this.cicsRegion = cicsRegion;
+		this.cmciClient = cmciClient;
+	}
+
+	@Override
+	public void createResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType,
+			@NotNull String resourceName, @NotNull String groupName, String resourceParameters) throws CedaException {
+		checkRegion(terminal);
+
+		Map<String, String> attributes = new LinkedHashMap<>();
+		attributes.put("name", resourceName);
+		attributes.put("csdgroup", groupName);
+		if (resourceParameters != null) {
+			Matcher matcher = PARAMETER_PATTERN.matcher(resourceParameters);
+			while (matcher.find()) {
+				attributes.put(matcher.group(1).toLowerCase(), matcher.group(2).trim());
+			}
+		}
+
+		try {
+			this.cmciClient.create(this.cmciClient.getDefinitionTable(resourceType), "CSD", attributes);
+		} catch (CicstsManagerException e) {
+			throw new CedaException("Problem defining " + resourceType + "(" + resourceName + ") in group " + groupName + " with CMCI", e);
+		}
+	}
+
+	@Override
+	public void installGroup(@NotNull ICicsTerminal terminal, @NotNull String groupName) throws CedaException {
+		checkRegion(terminal);
+
+		try {
+			this.cmciClient.action(CSD_GROUP_TABLE, "CSDGROUP=" + groupName, csdGroupParameter(groupName), "CSDINSTALL");
+		} catch (CicstsManagerException e) {
+			throw new CedaException("Problem installing group " + groupName + " with CMCI", e);
+		}
+	}
+
+	@Override
+	public void installResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType,
+			@NotNull String resourceName, @NotNull String cedaGroup) throws CedaException {
+		checkRegion(terminal);
+
+		try {
+			this.cmciClient.action(this.cmciClient.getDefinitionTable(resourceType), "NAME=" + resourceName, csdGroupParameter(cedaGroup), "CSDINSTALL");
+		} catch (CicstsManagerException e) {
+			throw new CedaException("Problem installing " + resourceType + "(" + resourceName + ") from group " + cedaGroup + " with CMCI", e);
+		}
+	}
+
+	@Override
+	public void deleteGroup(@NotNull ICicsTerminal terminal, @NotNull String groupName) throws CedaException {
+		checkRegion(terminal);
+
+		try {
+			this.cmciClient.delete(CSD_GROUP_TABLE, "CSDGROUP=" + groupName, csdGroupParameter(groupName));
+		} catch (CicstsManagerException e) {
+			throw new CedaException("Problem deleting group " + groupName + " with CMCI", e);
+		}
+	}
+
+	@Override
+	public void deleteResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType,
+			@NotNull String resourceName, @NotNull String groupName) throws CedaException {
+		checkRegion(terminal);
+
+		try {
+			this.cmciClient.delete(this.cmciClient.getDefinitionTable(resourceType), "NAME=" + resourceName, csdGroupParameter(groupName));
+		} catch (CicstsManagerException e) {
+			throw new CedaException("Problem deleting " + resourceType + "(" + resourceName + ") from group " + groupName + " with CMCI", e);
+		}
+	}
+
+	@Override
+	public List<ICedaDefinitionResult> defineResources(@NotNull ICicsTerminal terminal, @NotNull String groupName,
+			@NotNull List<CedaResourceDefinition> definitions) throws CedaException {
+		checkRegion(terminal);
+
+		List<ICedaDefinitionResult> results = new ArrayList<>();
+		for (CedaResourceDefinition definition : definitions) {
+			CedaDefinitionResultImpl result = new CedaDefinitionResultImpl(definition);
+			try {
+				createResource(terminal, definition.getResourceType(), definition.getResourceName(), groupName, definition.getResourceParameters());
+				result.setDefined(true);
+			} catch (CedaException e) {
+				result.addMessage(e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+			}
+			results.add(result);
+		}
+
+		CedaDefinitionResultImpl.checkAllDefined(groupName, results);
+
+		installGroup(terminal, groupName);
+
+		return results;
+	}
+
+	private String csdGroupParameter(String groupName) {
+		return "CSDGROUP(" + groupName + ")";
+	}
+
+	private void checkRegion(ICicsTerminal terminal) throws CedaException {
+		if (terminal != null && cicsRegion != terminal.getCicsRegion()) {
+			throw new CedaException("The provided terminal is not from the correct CICS Region");
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.galasa.cicsts.CedaException;
+import dev.galasa.cicsts.CedaResourceDefinition;
+import dev.galasa.cicsts.ICedaDefinitionResult;
+
+public class CedaDefinitionResultImpl implements ICedaDefinitionResult {
+
+	private final CedaResourceDefinition definition;
+	private final List<String> messages = new ArrayList<>();
+	private boolean defined;
+
+	public CedaDefinitionResultImpl(CedaResourceDefinition definition) {
+		this.definition = definition;
+	}
+
+	@Override
+	public CedaResourceDefinition getDefinition() {
+		return this.definition;
+	}
+
+	@Override
+	public boolean isDefined() {
+		return this.defined;
+	}
+
+	protected void setDefined(boolean defined) {
+		this.defined = defined;
+	}
+
+	@Override
+	public List<String> getMessages() {
+		return this.messages;
+	}
+
+	protected void addMessage(String message) {
+		this.messages.add(message);
+	}
+
+	/**
+	 * Check that all the resources were defined
+	 * 
+	 * @throws CedaException listing the definitions that failed
+	 */
+	protected static void checkAllDefined(String groupName, List<ICedaDefinitionResult> results) throws CedaException {
+		List<ICedaDefinitionResult> failed = new ArrayList<>();
+		for (ICedaDefinitionResult result : results) {
+			if (!result.isDefined()) {
+				failed.add(result);
+			}
+		}
+
+		if (!failed.isEmpty()) {
+			throw new CedaException(failed.size() + " of " + results.size() + " resources were not defined in group " + groupName + ": " + failed);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.definition + (this.defined ? " defined" : " not defined") + (this.messages.isEmpty() ? "" : " " + this.messages);
+	}
+}
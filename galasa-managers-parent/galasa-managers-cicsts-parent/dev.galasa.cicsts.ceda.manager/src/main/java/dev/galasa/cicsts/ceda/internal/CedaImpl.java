@@ -5,13 +5,19 @@
  */
 package dev.galasa.cicsts.ceda.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.validation.constraints.NotNull;
 
 import dev.galasa.cicsts.CedaException;
+import dev.galasa.cicsts.CedaResourceDefinition;
 import dev.galasa.cicsts.CicstsManagerException;
 import dev.galasa.cicsts.ICeda;
+import dev.galasa.cicsts.ICedaDefinitionResult;
 import dev.galasa.cicsts.ICicsRegion;
 import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.cicsts.spi.CicsScreen;
 import dev.galasa.zos3270.FieldNotFoundException;
 import dev.galasa.zos3270.KeyboardLockedException;
 import dev.galasa.zos3270.TerminalInterruptedException;
@@ -21,11 +27,17 @@ import dev.galasa.zos3270.spi.NetworkException;
 public class CedaImpl implements ICeda{
 
 	private ICicsRegion cicsRegion;
+	private DfhcsdupBatch dfhcsdup;
 	
 	public CedaImpl(ICicsRegion cicsRegion) {
 		this.cicsRegion = cicsRegion;
 	}
 	
+	public CedaImpl(ICicsRegion cicsRegion, DfhcsdupBatch dfhcsdup) {
+		this.cicsRegion = cicsRegion;
+		this.dfhcsdup = dfhcsdup;
+	}
+	
 
 	@Override
 	public void createResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType, 
@@ -57,8 +69,9 @@ public class CedaImpl implements ICeda{
 		}
 
 		try {
-			if(terminal.retrieveScreen().contains("DEFINE SUCCESSFUL")){
-				if(terminal.retrieveScreen().contains("MESSAGES:")) {
+			CicsScreen screen = CicsScreen.of(terminal);
+			if(screen.contains("DEFINE SUCCESSFUL")){
+				if(screen.contains("MESSAGES:")) {
 					terminal.pf9();
 				}
 			}
@@ -99,7 +112,7 @@ public class CedaImpl implements ICeda{
 		}
 
 		try {
-			if(!terminal.retrieveScreen().contains("INSTALL SUCCESSFUL")) {
+			if(!CicsScreen.of(terminal).contains("INSTALL SUCCESSFUL")) {
 				terminal.pf9();
 				terminal.pf3();
 				terminal.clear();
@@ -149,12 +162,13 @@ public class CedaImpl implements ICeda{
 		try {
 			boolean error = false;
 			try {
-				if (terminal.retrieveScreen().contains("USE P9 FOR S MSGS")) {
+				CicsScreen screen = CicsScreen.of(terminal);
+				if (screen.contains("USE P9 FOR S MSGS")) {
 					error = true;
 
 					//if the terminal contains the error then error = true elseif it contains
 					//the success then error = false
-				}else if(!terminal.retrieveScreen().contains("INSTALL SUCCESSFUL")) {
+				}else if(!screen.contains("INSTALL SUCCESSFUL")) {
 					error = true;
 				}
 
@@ -202,7 +216,7 @@ public class CedaImpl implements ICeda{
 		}
 
 		try {
-			if(!terminal.retrieveScreen().contains("DELETE SUCCESSFUL")) {
+			if(!CicsScreen.of(terminal).contains("DELETE SUCCESSFUL")) {
 				terminal.pf9();
 				terminal.pf3();
 				terminal.clear();
@@ -253,7 +267,7 @@ public class CedaImpl implements ICeda{
 		}
 
 		try {
-			if(!terminal.retrieveScreen().contains("DELETE SUCCESSFUL")) {
+			if(!CicsScreen.of(terminal).contains("DELETE SUCCESSFUL")) {
 				terminal.pf9()
 				.pf3().clear()
 				.waitForKeyboard();
@@ -274,4 +288,37 @@ public class CedaImpl implements ICeda{
 
 	}
 
+	@Override
+	public List<ICedaDefinitionResult> defineResources(@NotNull ICicsTerminal terminal, @NotNull String groupName,
+			@NotNull List<CedaResourceDefinition> definitions) throws CedaException {
+
+		if(cicsRegion != terminal.getCicsRegion()) {
+			 throw new CedaException("The provided terminal is not from the correct CICS Region");
+		}
+
+		List<ICedaDefinitionResult> results;
+		if (dfhcsdup != null) {
+			results = dfhcsdup.define(groupName, definitions);
+		} else {
+			// Carry on after a failed definition, so all the failures are reported together as for DFHCSDUP
+			results = new ArrayList<>();
+			for (CedaResourceDefinition definition : definitions) {
+				CedaDefinitionResultImpl result = new CedaDefinitionResultImpl(definition);
+				try {
+					createResource(terminal, definition.getResourceType(), definition.getResourceName(), groupName, definition.getResourceParameters());
+					result.setDefined(true);
+				} catch (CedaException e) {
+					result.addMessage(e.getMessage());
+				}
+				results.add(result);
+			}
+		}
+
+		CedaDefinitionResultImpl.checkAllDefined(groupName, results);
+
+		installGroup(terminal, groupName);
+
+		return results;
+	}
+
 }
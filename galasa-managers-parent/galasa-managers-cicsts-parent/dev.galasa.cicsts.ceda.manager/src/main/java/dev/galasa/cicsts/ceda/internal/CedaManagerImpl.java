@@ -18,19 +18,24 @@ import dev.galasa.cicsts.CicstsManagerException;
 import dev.galasa.cicsts.ICeda;
 import dev.galasa.cicsts.ICicsRegion;
 import dev.galasa.cicsts.ceda.internal.properties.CedaPropertiesSingleton;
+import dev.galasa.cicsts.ceda.internal.properties.DfhcsdupCsd;
+import dev.galasa.cicsts.ceda.internal.properties.DfhcsdupDatasetPrefix;
 import dev.galasa.cicsts.ceda.spi.ICedaManagerSpi;
 import dev.galasa.cicsts.spi.ICedaProvider;
 import dev.galasa.cicsts.spi.ICicstsManagerSpi;
+import dev.galasa.cicsts.spi.ICmciClient;
 import dev.galasa.framework.spi.AbstractManager;
 import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
 import dev.galasa.framework.spi.IFramework;
 import dev.galasa.framework.spi.IManager;
 import dev.galasa.framework.spi.language.GalasaTest;
+import dev.galasa.zosbatch.spi.IZosBatchSpi;
 
 @Component(service = { IManager.class })
 public class CedaManagerImpl extends AbstractManager implements ICedaManagerSpi,ICedaProvider {
 
 	private ICicstsManagerSpi cicstsManager;
+	private IZosBatchSpi zosBatch;
 	HashMap<ICicsRegion, ICeda> regionCeda = new HashMap<>();
 
 	protected static final String NAMESPACE = "ceda";
@@ -70,16 +75,25 @@ public class CedaManagerImpl extends AbstractManager implements ICedaManagerSpi,
 			throw new CicstsManagerException("CICS Manager is not available");
 		}
 
+		// The zOS Batch Manager is only needed for DFHCSDUP, so is only required when a region has a CSD configured
+		zosBatch = addDependentManager(allManagers,activeManagers,IZosBatchSpi.class);
+
 		cicstsManager.registerCedaProvider(this);
 	}
 
 	@Override
-	public @NotNull ICeda getCeda(ICicsRegion cicsRegion) {
+	public @NotNull ICeda getCeda(ICicsRegion cicsRegion) throws CicstsManagerException {
 
 		ICeda ceda = regionCeda.get(cicsRegion);
 		if(ceda==null) {
 
-			ceda = new CedaImpl(cicsRegion);
+			// Use CMCI for the region if it has been configured, otherwise drive CEDA on the terminal
+			ICmciClient cmciClient = cicstsManager.getCmciClient(cicsRegion);
+			if(cmciClient != null) {
+				ceda = new CedaCmciImpl(cicsRegion, cmciClient);
+			} else {
+				ceda = new CedaImpl(cicsRegion, getDfhcsdupBatch(cicsRegion));
+			}
 			regionCeda.put(cicsRegion, ceda);
 
 		}
@@ -87,5 +101,20 @@ public class CedaManagerImpl extends AbstractManager implements ICedaManagerSpi,
 		return ceda;
 	}
 
+	/**
+	 * @return the DFHCSDUP batch runner for the region, or null if the CSD of the region is not configured
+	 */
+	private DfhcsdupBatch getDfhcsdupBatch(ICicsRegion cicsRegion) throws CicstsManagerException {
+		String csd = DfhcsdupCsd.get(cicsRegion.getTag());
+		if(csd == null) {
+			return null;
+		}
+		if(zosBatch == null) {
+			throw new CedaManagerException("The zOS Batch Manager is not available, required for DFHCSDUP for " + cicsRegion);
+		}
+
+		return new DfhcsdupBatch(zosBatch.getZosBatch(cicsRegion.getZosImage()), csd, DfhcsdupDatasetPrefix.get(cicsRegion.getTag()));
+	}
+
 
 }
\ No newline at end of file
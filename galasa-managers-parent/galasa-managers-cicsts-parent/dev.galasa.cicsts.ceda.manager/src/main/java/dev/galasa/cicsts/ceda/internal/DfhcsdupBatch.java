@@ -0,0 +1,181 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import dev.galasa.cicsts.CedaException;
+import dev.galasa.cicsts.CedaResourceDefinition;
+import dev.galasa.cicsts.ICedaDefinitionResult;
+import dev.galasa.zosbatch.IZosBatch;
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
+import dev.galasa.zosbatch.ZosBatchException;
+
+/**
+ * Defines CSD resources with a single DFHCSDUP batch job, instead of typing each definition through CEDA
+ */
+public class DfhcsdupBatch {
+
+	private static final Log logger = LogFactory.getLog(DfhcsdupBatch.class);
+
+	// SYSIN statements may use columns 1 to 71
+	private static final int MAX_STATEMENT_LENGTH = 71;
+	private static final String CONTINUATION = "       ";
+
+	// The highest return code at which the definitions are processed, 8 when some commands fail 
+	private static final int MAX_RETURN_CODE = 8;
+
+	private static final Pattern TOKEN_PATTERN = Pattern.compile("\\w+\\([^)]*\\)|\\S+");
+	private static final Pattern DEFINE_ECHO_PATTERN = Pattern.compile("^\\s*DEFINE\\s+\\w+\\(", Pattern.CASE_INSENSITIVE);
+	private static final Pattern MESSAGE_PATTERN = Pattern.compile("(DFH\\d{4})\\s+([IWESU])\\s+(.*)$");
+	private static final Pattern DEFINED_PATTERN = Pattern.compile("\\sDEFINED IN GROUP\\s");
+
+	private final IZosBatch zosBatch;
+	private final String csd;
+	private final List<String> datasetPrefixes;
+
+	public DfhcsdupBatch(IZosBatch zosBatch, String csd, List<String> datasetPrefixes) {
+		this.zosBatch = zosBatch;
+		this.csd = csd;
+		this.datasetPrefixes = datasetPrefixes;
+	}
+
+	/**
+	 * Run DFHCSDUP to define the resources in the group
+	 * 
+	 * @return the result of each definition
+	 * @throws CedaException if the job fails to run
+	 */
+	public List<ICedaDefinitionResult> define(String groupName, List<CedaResourceDefinition> definitions) throws CedaException {
+		String jcl = buildJcl(groupName, definitions);
+
+		String sysprint;
+		int returnCode;
+		try {
+			IZosBatchJob job = this.zosBatch.submitJob(jcl, null);
+			logger.debug("Submitted DFHCSDUP job " + job.getJobname().getName() + " to define " + definitions.size() + " resources in group " + groupName);
+			returnCode = job.waitForJob();
+			if (returnCode < 0 || returnCode > MAX_RETURN_CODE) {
+				throw new CedaException("DFHCSDUP job " + job.getJobname().getName() + " failed, " + job.getRetcode());
+			}
+
+			IZosBatchJobOutputSpoolFile spoolFile = job.getSpoolFile("SYSPRINT");
+			if (spoolFile == null) {
+				throw new CedaException("DFHCSDUP job " + job.getJobname().getName() + " has no SYSPRINT");
+			}
+			sysprint = spoolFile.getRecords();
+		} catch (ZosBatchException | IllegalStateException e) {
+			throw new CedaException("Problem running the DFHCSDUP job", e);
+		}
+
+		return parseSysprint(sysprint, definitions, returnCode);
+	}
+
+	protected String buildJcl(String groupName, List<CedaResourceDefinition> definitions) {
+		StringBuilder jcl = new StringBuilder();
+		jcl.append("//CSDUP    EXEC PGM=DFHCSDUP,REGION=0M\n");
+		String ddname = "//STEPLIB  DD ";
+		for (String prefix : this.datasetPrefixes) {
+			jcl.append(ddname).append("DISP=SHR,DSN=").append(prefix).append(".SDFHLOAD\n");
+			ddname = "//         DD ";
+		}
+		jcl.append("//DFHCSD   DD DISP=SHR,DSN=").append(this.csd).append("\n");
+		jcl.append("//SYSPRINT DD SYSOUT=*\n");
+		jcl.append("//SYSIN    DD *\n");
+		for (CedaResourceDefinition definition : definitions) {
+			appendStatement(jcl, definition, groupName);
+		}
+		jcl.append("/*\n");
+		return jcl.toString();
+	}
+
+	/**
+	 * Append a DEFINE command, continued on as many lines as needed. A command continues until the next command starts.
+	 * A value too long for a line is split, filling the line to column 71 and continuing in column 1 of the next line
+	 */
+	private void appendStatement(StringBuilder jcl, CedaResourceDefinition definition, String groupName) {
+		StringBuilder statement = new StringBuilder("DEFINE " + definition.getResourceType() + "(" + definition.getResourceName() + ") GROUP(" + groupName + ")");
+		if (definition.getResourceParameters() != null) {
+			statement.append(" ").append(definition.getResourceParameters());
+		}
+
+		StringBuilder line = new StringBuilder("  ");
+		Matcher matcher = TOKEN_PATTERN.matcher(statement);
+		boolean first = true;
+		while (matcher.find()) {
+			String token = matcher.group();
+			if (!first && line.length() + 1 + token.length() > MAX_STATEMENT_LENGTH) {
+				jcl.append(line).append("\n");
+				line = new StringBuilder(CONTINUATION);
+				first = true;
+			}
+			if (!first) {
+				line.append(" ");
+			}
+			while (line.length() + token.length() > MAX_STATEMENT_LENGTH) {
+				int split = MAX_STATEMENT_LENGTH - line.length();
+				jcl.append(line).append(token, 0, split).append("\n");
+				token = token.substring(split);
+				line = new StringBuilder();
+			}
+			line.append(token);
+			first = false;
+		}
+		jcl.append(line).append("\n");
+	}
+
+	/**
+	 * Allocate the SYSPRINT messages to the definitions, DFHCSDUP echoes each command before its messages
+	 */
+	protected List<ICedaDefinitionResult> parseSysprint(String sysprint, List<CedaResourceDefinition> definitions, int returnCode) {
+		List<CedaDefinitionResultImpl> results = new ArrayList<>();
+		for (CedaResourceDefinition definition : definitions) {
+			results.add(new CedaDefinitionResultImpl(definition));
+		}
+		boolean[] confirmed = new boolean[results.size()];
+		boolean[] failed = new boolean[results.size()];
+
+		int current = -1;
+		for (String line : sysprint.split("\\r?\\n")) {
+			if (DEFINE_ECHO_PATTERN.matcher(line).find()) {
+				if (current < results.size() - 1) {
+					current++;
+				}
+				continue;
+			}
+
+			Matcher matcher = MESSAGE_PATTERN.matcher(line);
+			if (!matcher.find() || current < 0) {
+				continue;
+			}
+
+			String message = matcher.group(1) + " " + matcher.group(2) + " " + matcher.group(3).trim();
+			results.get(current).addMessage(message);
+			String severity = matcher.group(2);
+			if ("E".equals(severity) || "S".equals(severity) || "U".equals(severity)) {
+				failed[current] = true;
+			} else if (DEFINED_PATTERN.matcher(message).find()) {
+				confirmed[current] = true;
+			}
+		}
+
+		// Without a confirmation message, rely on the job having completed cleanly 
+		List<ICedaDefinitionResult> definitionResults = new ArrayList<>();
+		for (int i = 0; i < results.size(); i++) {
+			results.get(i).setDefined(confirmed[i] || (!failed[i] && returnCode == 0));
+			definitionResults.add(results.get(i));
+		}
+		return definitionResults;
+	}
+
+}
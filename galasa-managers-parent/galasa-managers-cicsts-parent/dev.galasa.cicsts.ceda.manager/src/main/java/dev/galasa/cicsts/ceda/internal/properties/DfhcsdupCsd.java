@@ -0,0 +1,46 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal.properties;
+
+import dev.galasa.cicsts.CedaManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * CEDA DFHCSDUP CSD data set
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name ceda.dfhcsdup.tag.[TAG].csd
+ * 
+ * @galasa.description The CSD data set of the CICS TS region. When set, resources defined with 
+ * ICeda.defineResources are defined by a DFHCSDUP batch job instead of CEDA DEFINE on a terminal.
+ * The CSD must be shareable with the running region.
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default None, resources are defined with CEDA
+ * 
+ * @galasa.valid_values A valid data set name
+ * 
+ * @galasa.examples 
+ * <code>ceda.dfhcsdup.tag.PRIMARY.csd=CICS1A.DFHCSD</code><br>
+ *
+ */
+public class DfhcsdupCsd extends CpsProperties {
+
+    public static String get(String tag) throws CedaManagerException {
+        try {
+            String csd = getStringNulled(CedaPropertiesSingleton.cps(), "dfhcsdup.tag." + tag, "csd");
+            if (csd == null) {
+                return null;
+            }
+            return csd.toUpperCase();
+        } catch (ConfigurationPropertyStoreException e) {
+            throw new CedaManagerException("Problem asking CPS for the DFHCSDUP CSD for tag " + tag, e); 
+        }
+    }
+}
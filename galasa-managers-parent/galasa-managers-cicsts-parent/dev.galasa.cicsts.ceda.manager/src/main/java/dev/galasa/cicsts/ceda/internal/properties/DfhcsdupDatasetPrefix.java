@@ -0,0 +1,48 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal.properties;
+
+import java.util.List;
+
+import dev.galasa.cicsts.CedaManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * CEDA DFHCSDUP CICS data set prefix
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name ceda.dfhcsdup.tag.[TAG].dataset.prefix
+ * 
+ * @galasa.description The prefixes of the CICS TS data sets, the SDFHLOAD libraries of which are used 
+ * as the STEPLIB of the DFHCSDUP batch job
+ * 
+ * @galasa.required Yes if ceda.dfhcsdup.tag.[TAG].csd is set
+ * 
+ * @galasa.default None
+ * 
+ * @galasa.valid_values A comma separated list of data set prefixes
+ * 
+ * @galasa.examples 
+ * <code>ceda.dfhcsdup.tag.PRIMARY.dataset.prefix=CICSTS56.CICS</code><br>
+ *
+ */
+public class DfhcsdupDatasetPrefix extends CpsProperties {
+
+    public static List<String> get(String tag) throws CedaManagerException {
+        try {
+            List<String> datasetPrefix = getStringList(CedaPropertiesSingleton.cps(), "dfhcsdup.tag." + tag, "dataset.prefix");
+
+            if (datasetPrefix.isEmpty()) {
+                throw new CedaManagerException("Required property ceda.dfhcsdup.tag." + tag + ".dataset.prefix not supplied");
+            }
+            return datasetPrefix;
+        } catch (ConfigurationPropertyStoreException e) {
+            throw new CedaManagerException("Problem asking CPS for the DFHCSDUP data set prefix for tag " + tag, e); 
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import dev.galasa.cicsts.CedaException;
+import dev.galasa.cicsts.CedaResourceDefinition;
+import dev.galasa.cicsts.ICedaDefinitionResult;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.cicsts.internal.CmciClientImpl;
+import dev.galasa.cicsts.internal.properties.CicstsPropertiesSingleton;
+import dev.galasa.http.HttpClientResponse;
+import dev.galasa.http.IHttpClient;
+import dev.galasa.http.spi.IHttpManagerSpi;
+import dev.galasa.ipnetwork.IIpHost;
+import dev.galasa.testharness.TestHarnessFramework;
+import dev.galasa.zos.IZosImage;
+
+/**
+ * Drives the CMCI CEDA implementation with recorded CMCI responses
+ */
+@RunWith(PowerMockRunner.class)
+public class TestCedaCmciImpl {
+
+	private static final String GROUP_URL = "/CICSSystemManagement/CICSCSDGroup/APPLID1?CRITERIA=%28CSDGROUP%3DGROUP1%29&PARAMETER=CSDGROUP%28GROUP1%29";
+
+	private static final String DEFINITION_URL = "/CICSSystemManagement/CICSDefinitionProgram/APPLID1";
+
+	private static final String CSDINSTALL = "<request><action name=\"CSDINSTALL\"/></request>";
+
+	private CedaCmciImpl ceda;
+
+	private static CicstsPropertiesSingleton cicsProperties;
+
+	@Mock
+	private IHttpManagerSpi httpManager;
+
+	@Mock
+	private IHttpClient httpClient;
+
+	@Mock
+	private ICicsRegion cicsRegion;
+
+	@Mock
+	private ICicsTerminal terminal;
+
+	@Mock
+	private IZosImage zosImage;
+
+	@Mock
+	private IIpHost ipHost;
+
+	@BeforeClass
+	public static void beforeClass() {
+		cicsProperties = new CicstsPropertiesSingleton();
+		cicsProperties.activate();
+	}
+
+	@Before
+	public void before() throws Exception {
+		TestHarnessFramework framework = new TestHarnessFramework();
+		framework.cpsStore.properties.put("cicsts.cmci.tag.PRIMARY.https", "false");
+		CicstsPropertiesSingleton.setCps(framework.getConfigurationPropertyService("cicsts"));
+
+		when(this.httpManager.newHttpClient()).thenReturn(this.httpClient);
+		when(this.cicsRegion.getTag()).thenReturn("PRIMARY");
+		when(this.cicsRegion.getApplid()).thenReturn("APPLID1");
+		when(this.cicsRegion.getZosImage()).thenReturn(this.zosImage);
+		when(this.zosImage.getIpHost()).thenReturn(this.ipHost);
+		when(this.ipHost.getHostname()).thenReturn("cics.example.com");
+		when(this.terminal.getCicsRegion()).thenReturn(this.cicsRegion);
+
+		this.ceda = new CedaCmciImpl(this.cicsRegion, new CmciClientImpl(this.httpManager, framework, this.cicsRegion, 1490));
+	}
+
+	@Test
+	public void testInstallGroup() throws Exception {
+		HttpClientResponse<String> response = response(200, ok("<cicscsdgroup csdgroup=\"GROUP1\"/>"));
+		when(this.httpClient.putText(GROUP_URL, CSDINSTALL)).thenReturn(response);
+
+		this.ceda.installGroup(this.terminal, "GROUP1");
+
+		verify(this.httpClient).putText(GROUP_URL, CSDINSTALL);
+	}
+
+	@Test
+	public void testInstallGroupFailure() throws Exception {
+		HttpClientResponse<String> response = response(400, failed("1028", "INVALIDPARM", "CRITERIA"));
+		when(this.httpClient.putText(GROUP_URL, CSDINSTALL)).thenReturn(response);
+
+		assertThatThrownBy(() -> this.ceda.installGroup(this.terminal, "GROUP1"))
+			.isInstanceOf(CedaException.class)
+			.hasMessage("Problem installing group GROUP1 with CMCI")
+			.satisfies(e -> assertThat(e.getCause()).hasMessage("CMCI request " + GROUP_URL + " failed, response INVALIDPARM CRITERIA, HTTP status 400"));
+	}
+
+	@Test
+	public void testDeleteGroup() throws Exception {
+		HttpClientResponse<String> response = response(200, nodata());
+		when(this.httpClient.deleteText(GROUP_URL)).thenReturn(response);
+
+		this.ceda.deleteGroup(this.terminal, "GROUP1");
+
+		verify(this.httpClient).deleteText(GROUP_URL);
+	}
+
+	@Test
+	public void testDeleteGroupFailure() throws Exception {
+		HttpClientResponse<String> response = response(403, failed("1038", "NOTPERMIT", "USER"));
+		when(this.httpClient.deleteText(GROUP_URL)).thenReturn(response);
+
+		assertThatThrownBy(() -> this.ceda.deleteGroup(this.terminal, "GROUP1"))
+			.isInstanceOf(CedaException.class)
+			.hasMessage("Problem deleting group GROUP1 with CMCI")
+			.satisfies(e -> assertThat(e.getCause()).hasMessage("CMCI request " + GROUP_URL + " failed, response NOTPERMIT USER, HTTP status 403"));
+	}
+
+	@Test
+	public void testInstallResource() throws Exception {
+		String url = DEFINITION_URL + "?CRITERIA=%28NAME%3DPROG1%29&PARAMETER=CSDGROUP%28GROUP1%29";
+		HttpClientResponse<String> response = response(200, ok("<cicsdefinitionprogram name=\"PROG1\" csdgroup=\"GROUP1\"/>"));
+		when(this.httpClient.putText(url, CSDINSTALL)).thenReturn(response);
+
+		this.ceda.installResource(this.terminal, "PROGRAM", "PROG1", "GROUP1");
+
+		verify(this.httpClient).putText(url, CSDINSTALL);
+	}
+
+	@Test
+	public void testDefineResources() throws Exception {
+		HttpClientResponse<String> created = response(200, ok("<cicsdefinitionprogram name=\"PROG1\" csdgroup=\"GROUP1\"/>"));
+		HttpClientResponse<String> installed = response(200, ok("<cicscsdgroup csdgroup=\"GROUP1\"/>"));
+		when(this.httpClient.postText(DEFINITION_URL, "<request><create><parameter name=\"CSD\"/><attributes name=\"PROG1\" csdgroup=\"GROUP1\" language=\"COBOL\"/></create></request>")).thenReturn(created);
+		when(this.httpClient.putText(GROUP_URL, CSDINSTALL)).thenReturn(installed);
+
+		List<CedaResourceDefinition> definitions = new ArrayList<>();
+		definitions.add(new CedaResourceDefinition("PROGRAM", "PROG1", "LANGUAGE(COBOL)"));
+
+		List<ICedaDefinitionResult> results = this.ceda.defineResources(this.terminal, "GROUP1", definitions);
+
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0).isDefined()).isTrue();
+		verify(this.httpClient).putText(GROUP_URL, CSDINSTALL);
+	}
+
+	@Test
+	public void testDefineResourcesReportsEachFailure() throws Exception {
+		HttpClientResponse<String> created = response(200, ok("<cicsdefinitionprogram name=\"PROG1\" csdgroup=\"GROUP1\"/>"));
+		HttpClientResponse<String> failed = response(400, failed("1028", "INVALIDPARM", "NAME"));
+		when(this.httpClient.postText(Mockito.eq(DEFINITION_URL), Mockito.contains("PROG1"))).thenReturn(created);
+		when(this.httpClient.postText(Mockito.eq(DEFINITION_URL), Mockito.contains("PROG#2"))).thenReturn(failed);
+
+		List<CedaResourceDefinition> definitions = new ArrayList<>();
+		definitions.add(new CedaResourceDefinition("PROGRAM", "PROG1", null));
+		definitions.add(new CedaResourceDefinition("PROGRAM", "PROG#2", null));
+
+		assertThatThrownBy(() -> this.ceda.defineResources(this.terminal, "GROUP1", definitions))
+			.isInstanceOf(CedaException.class)
+			.hasMessage("1 of 2 resources were not defined in group GROUP1: "
+					+ "[PROGRAM(PROG#2) not defined [CMCI request " + DEFINITION_URL + " failed, response INVALIDPARM NAME, HTTP status 400]]");
+		verify(this.httpClient, times(2)).postText(Mockito.anyString(), Mockito.anyString());
+		verify(this.httpClient, times(0)).putText(Mockito.anyString(), Mockito.anyString());
+	}
+
+	@SuppressWarnings("unchecked")
+	private HttpClientResponse<String> response(int statusCode, String content) {
+		HttpClientResponse<String> response = Mockito.mock(HttpClientResponse.class);
+		when(response.getStatusCode()).thenReturn(statusCode);
+		when(response.getContent()).thenReturn(content);
+		return response;
+	}
+
+	private String ok(String records) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<response xmlns=\"http://www.ibm.com/xmlns/prod/CICS/smw2int\">"
+				+ "<resultsummary api_response1=\"1024\" api_response2=\"0\" api_response1_alt=\"OK\" api_response2_alt=\"\"/>"
+				+ "<records>" + records + "</records>"
+				+ "</response>";
+	}
+
+	private String nodata() {
+		return "<response><resultsummary api_response1=\"1027\" api_response2=\"0\" api_response1_alt=\"NODATA\" api_response2_alt=\"\" recordcount=\"0\"/></response>";
+	}
+
+	private String failed(String response1, String response1Alt, String response2Alt) {
+		return "<response><resultsummary api_response1=\"" + response1 + "\" api_response2=\"0\" api_response1_alt=\"" + response1Alt
+				+ "\" api_response2_alt=\"" + response2Alt + "\"/></response>";
+	}
+}
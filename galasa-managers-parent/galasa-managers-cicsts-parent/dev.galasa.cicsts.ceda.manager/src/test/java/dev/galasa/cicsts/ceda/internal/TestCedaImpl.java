@@ -0,0 +1,62 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import dev.galasa.cicsts.CedaException;
+import dev.galasa.cicsts.CedaResourceDefinition;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.zos3270.KeyboardLockedException;
+
+@RunWith(PowerMockRunner.class)
+public class TestCedaImpl {
+
+	@Mock
+	private ICicsRegion cicsRegion;
+
+	@Mock
+	private ICicsTerminal terminal;
+
+	@Test
+	public void testDefineResourcesOnTerminalReportsEachFailure() throws Exception {
+		when(this.terminal.getCicsRegion()).thenReturn(this.cicsRegion);
+		when(this.terminal.isClearScreen()).thenReturn(true);
+		when(this.terminal.type(Mockito.contains("PROG1"))).thenThrow(new KeyboardLockedException("locked"));
+		when(this.terminal.type(Mockito.contains("PROG2"))).thenReturn(this.terminal);
+		when(this.terminal.type(Mockito.contains("PROG3"))).thenThrow(new KeyboardLockedException("locked"));
+		when(this.terminal.enter()).thenReturn(this.terminal);
+		when(this.terminal.waitForKeyboard()).thenReturn(this.terminal);
+		when(this.terminal.retrieveScreen()).thenReturn("DEFINE SUCCESSFUL");
+
+		List<CedaResourceDefinition> definitions = new ArrayList<>();
+		definitions.add(new CedaResourceDefinition("PROGRAM", "PROG1", null));
+		definitions.add(new CedaResourceDefinition("PROGRAM", "PROG2", null));
+		definitions.add(new CedaResourceDefinition("PROGRAM", "PROG3", null));
+
+		CedaImpl ceda = new CedaImpl(this.cicsRegion, null);
+		assertThatThrownBy(() -> ceda.defineResources(this.terminal, "GROUP1", definitions))
+			.isInstanceOf(CedaException.class)
+			.hasMessage("2 of 3 resources were not defined in group GROUP1: "
+					+ "[PROGRAM(PROG1) not defined [Problem with starting the CEDA transaction], "
+					+ "PROGRAM(PROG3) not defined [Problem with starting the CEDA transaction]]");
+		verify(this.terminal, times(3)).type(Mockito.anyString());
+		verify(this.terminal, times(0)).type("CEDA INSTALL GROUP(GROUP1)");
+	}
+}
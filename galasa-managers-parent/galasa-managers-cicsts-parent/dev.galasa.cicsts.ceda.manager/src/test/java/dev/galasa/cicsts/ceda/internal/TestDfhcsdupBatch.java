@@ -0,0 +1,104 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.ceda.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import dev.galasa.cicsts.CedaResourceDefinition;
+import dev.galasa.cicsts.ICedaDefinitionResult;
+
+public class TestDfhcsdupBatch {
+
+	private static final String SYSPRINT = 
+			"DFH5120 I PRIMARY CSD OPENED; DDNAME: DFHCSD\n" +
+			"  DEFINE PROGRAM(PROG1) GROUP(GROUP1)\n" +
+			"DFH5159 I PROGRAM PROG1 DEFINED IN GROUP GROUP1\n" +
+			"  DEFINE PROGRAM(PROG2) GROUP(GROUP1) LANGUAGE(COBOL) DATALOCATION(ANY)\n" +
+			"       EXECKEY(USER) CONCURRENCY(THREADSAFE)\n" +
+			"DFH5137 E PROGRAM PROG2 ALREADY EXISTS IN GROUP GROUP1\n" +
+			"  DEFINE URIMAP(URIMAP1) GROUP(GROUP1) USAGE(SERVER)\n" +
+			"DFH5123 I PRIMARY CSD CLOSED; DDNAME: DFHCSD\n";
+
+	private DfhcsdupBatch dfhcsdup;
+
+	private List<CedaResourceDefinition> definitions;
+
+	@Before
+	public void before() {
+		this.dfhcsdup = new DfhcsdupBatch(null, "CICS.CSD", Arrays.asList("CICS.TS56", "CICS.TS56.EXTRA"));
+
+		this.definitions = new ArrayList<>();
+		this.definitions.add(new CedaResourceDefinition("PROGRAM", "PROG1", null));
+		this.definitions.add(new CedaResourceDefinition("PROGRAM", "PROG2", "LANGUAGE(COBOL) DATALOCATION(ANY) EXECKEY(USER) CONCURRENCY(THREADSAFE)"));
+		this.definitions.add(new CedaResourceDefinition("URIMAP", "URIMAP1", "USAGE(SERVER)"));
+	}
+
+	@Test
+	public void testBuildJcl() {
+		assertThat(this.dfhcsdup.buildJcl("GROUP1", this.definitions)).isEqualTo(
+				"//CSDUP    EXEC PGM=DFHCSDUP,REGION=0M\n" +
+				"//STEPLIB  DD DISP=SHR,DSN=CICS.TS56.SDFHLOAD\n" +
+				"//         DD DISP=SHR,DSN=CICS.TS56.EXTRA.SDFHLOAD\n" +
+				"//DFHCSD   DD DISP=SHR,DSN=CICS.CSD\n" +
+				"//SYSPRINT DD SYSOUT=*\n" +
+				"//SYSIN    DD *\n" +
+				"  DEFINE PROGRAM(PROG1) GROUP(GROUP1)\n" +
+				"  DEFINE PROGRAM(PROG2) GROUP(GROUP1) LANGUAGE(COBOL) DATALOCATION(ANY)\n" +
+				"       EXECKEY(USER) CONCURRENCY(THREADSAFE)\n" +
+				"  DEFINE URIMAP(URIMAP1) GROUP(GROUP1) USAGE(SERVER)\n" +
+				"/*\n");
+	}
+
+	@Test
+	public void testBuildJclLongValue() {
+		String path = "/galasa/test/a/very/long/path/that/does/not/fit/on/a/single/dfhcsdup/line/at/all/index.html";
+		List<CedaResourceDefinition> urimap = new ArrayList<>();
+		urimap.add(new CedaResourceDefinition("URIMAP", "URIMAP1", "USAGE(SERVER) PATH(" + path + ") SCHEME(HTTP)"));
+
+		String jcl = this.dfhcsdup.buildJcl("GROUP1", urimap);
+
+		assertThat(jcl).endsWith(
+				"//SYSIN    DD *\n" +
+				"  DEFINE URIMAP(URIMAP1) GROUP(GROUP1) USAGE(SERVER)\n" +
+				"       PATH(/galasa/test/a/very/long/path/that/does/not/fit/on/a/single\n" +
+				"/dfhcsdup/line/at/all/index.html) SCHEME(HTTP)\n" +
+				"/*\n");
+		for (String line : jcl.split("\n")) {
+			assertThat(line.length()).isLessThanOrEqualTo(71);
+		}
+	}
+
+	@Test
+	public void testParseSysprint() {
+		List<ICedaDefinitionResult> results = this.dfhcsdup.parseSysprint(SYSPRINT, this.definitions, 8);
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).getDefinition()).isSameAs(this.definitions.get(0));
+		assertThat(results.get(0).isDefined()).isTrue();
+		assertThat(results.get(0).getMessages()).containsExactly("DFH5159 I PROGRAM PROG1 DEFINED IN GROUP GROUP1");
+		assertThat(results.get(1).isDefined()).isFalse();
+		assertThat(results.get(1).getMessages()).containsExactly("DFH5137 E PROGRAM PROG2 ALREADY EXISTS IN GROUP GROUP1");
+		// Not confirmed, and the job did not complete cleanly
+		assertThat(results.get(2).isDefined()).isFalse();
+		assertThat(results.get(2).getMessages()).containsExactly("DFH5123 I PRIMARY CSD CLOSED; DDNAME: DFHCSD");
+	}
+
+	@Test
+	public void testParseSysprintCleanReturnCode() {
+		List<ICedaDefinitionResult> results = this.dfhcsdup.parseSysprint(SYSPRINT, this.definitions, 0);
+
+		assertThat(results.get(0).isDefined()).isTrue();
+		assertThat(results.get(1).isDefined()).isFalse();
+		assertThat(results.get(2).isDefined()).isTrue();
+	}
+}
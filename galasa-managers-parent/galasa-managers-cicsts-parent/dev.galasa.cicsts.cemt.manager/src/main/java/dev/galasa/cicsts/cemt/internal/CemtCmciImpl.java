@@ -0,0 +1,153 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+
+package dev.galasa.cicsts.cemt.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.validation.constraints.NotNull;
+
+import dev.galasa.cicsts.CemtException;
+import dev.galasa.cicsts.CicstsHashMap;
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.cicsts.ICemt;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.cicsts.spi.ICmciClient;
+
+/**
+ * CEMT implementation that issues CMCI REST requests instead of driving a terminal. The terminal is only used to
+ * check the region and for CEMT PERFORM, which has no CMCI equivalent
+ */
+public class CemtCmciImpl implements ICemt {
+
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("(\\w+)(?:\\(([^)]*)\\))?");
+
+    private final ICicsRegion cicsRegion;
+    private final ICmciClient cmciClient;
+    private final ICemt terminalCemt;
+
+    public CemtCmciImpl(ICicsRegion cicsRegion, ICmciClient cmciClient) {
+        this.cicsRegion = cicsRegion;
+        this.cmciClient = cmciClient;
+        this.terminalCemt = new CemtImpl(cicsRegion);
+    }
+
+    @Override
+    public CicstsHashMap inquireResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType,
+            @NotNull String resourceName) throws CemtException {
+        checkRegion(terminal);
+
+        try {
+            List<CicstsHashMap> records = this.cmciClient.get(this.cmciClient.getResourceTable(resourceType), criteria(resourceType, resourceName), null);
+            if (records.isEmpty()) {
+                return null;
+            }
+            return records.get(0);
+        } catch (CicstsManagerException e) {
+            throw new CemtException("Problem inquiring " + resourceType + "(" + resourceName + ") with CMCI", e);
+        }
+    }
+
+    @Override
+    public Map<String, CicstsHashMap> inquireResources(@NotNull ICicsTerminal terminal, @NotNull String resourceType,
+            @NotNull String resourcePattern) throws CemtException {
+        checkRegion(terminal);
+
+        try {
+            String nameAttribute = this.cmciClient.getResourceNameAttribute(resourceType);
+            List<CicstsHashMap> records = this.cmciClient.get(this.cmciClient.getResourceTable(resourceType), nameAttribute.toUpperCase() + "=" + resourcePattern, null);
+
+            Map<String, CicstsHashMap> resources = new LinkedHashMap<>();
+            for (CicstsHashMap record : records) {
+                resources.put(record.get(nameAttribute), record);
+            }
+            return resources;
+        } catch (CicstsManagerException e) {
+            throw new CemtException("Problem inquiring " + resourceType + "(" + resourcePattern + ") with CMCI", e);
+        }
+    }
+
+    @Override
+    public CicstsHashMap setResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType, String resourceName,
+            @NotNull String action) throws CemtException {
+        checkRegion(terminal);
+
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        List<String> actions = new ArrayList<>();
+        Matcher matcher = PARAMETER_PATTERN.matcher(action);
+        while (matcher.find()) {
+            String keyword = matcher.group(1).toUpperCase();
+            if (matcher.group(2) != null) {
+                attributes.put(keyword.toLowerCase(), matcher.group(2).trim());
+            } else if ("ENABLED".equals(keyword) || "DISABLED".equals(keyword)) {
+                attributes.put(isFile(resourceType) ? "enablestatus" : "status", keyword);
+            } else if (isFile(resourceType) && ("OPEN".equals(keyword) || "CLOSED".equals(keyword))) {
+                attributes.put("openstatus", keyword);
+            } else {
+                actions.add(keyword);
+            }
+        }
+
+        List<CicstsHashMap> records = new ArrayList<>();
+        try {
+            String table = this.cmciClient.getResourceTable(resourceType);
+            String criteria = resourceName == null ? null : criteria(resourceType, resourceName);
+            if (!attributes.isEmpty()) {
+                records = this.cmciClient.update(table, criteria, null, attributes);
+            }
+            for (String cmciAction : actions) {
+                records = this.cmciClient.action(table, criteria, null, cmciAction);
+            }
+        } catch (CicstsManagerException e) {
+            throw new CemtException("Problem setting " + resourceType + " with CMCI", e);
+        }
+
+        if (records.isEmpty()) {
+            throw new CemtException("Errors detected whilst setting resource, no " + resourceType + " found");
+        }
+        return records.get(0);
+    }
+
+    @Override
+    public void discardResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType,
+            @NotNull String resourceName) throws CemtException {
+        checkRegion(terminal);
+
+        try {
+            this.cmciClient.delete(this.cmciClient.getResourceTable(resourceType), criteria(resourceType, resourceName), null);
+        } catch (CicstsManagerException e) {
+            throw new CemtException("Problem discarding " + resourceType + "(" + resourceName + ") with CMCI", e);
+        }
+    }
+
+    @Override
+    public boolean performSystemProperty(@NotNull ICicsTerminal terminal, @NotNull String systemArea,
+            @NotNull String setRequest, @NotNull String expectedResponse) throws CemtException {
+        return this.terminalCemt.performSystemProperty(terminal, systemArea, setRequest, expectedResponse);
+    }
+
+    private String criteria(String resourceType, String resourceName) throws CicstsManagerException {
+        return this.cmciClient.getResourceNameAttribute(resourceType).toUpperCase() + "=" + resourceName;
+    }
+
+    private void checkRegion(ICicsTerminal terminal) throws CemtException {
+        if (terminal != null && this.cicsRegion != terminal.getCicsRegion()) {
+            throw new CemtException("CICS Version Mismatch");
+        }
+    }
+
+    private boolean isFile(String resourceType) {
+        return "FILE".startsWith(resourceType.trim().toUpperCase()) && resourceType.trim().length() >= 2;
+    }
+
+}
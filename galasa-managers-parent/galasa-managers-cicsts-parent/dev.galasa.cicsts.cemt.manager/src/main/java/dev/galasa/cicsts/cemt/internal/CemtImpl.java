@@ -6,6 +6,10 @@
 
 package dev.galasa.cicsts.cemt.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,9 +21,15 @@ import dev.galasa.cicsts.CicstsManagerException;
 import dev.galasa.cicsts.ICemt;
 import dev.galasa.cicsts.ICicsRegion;
 import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.cicsts.spi.CicsScreen;
 
 public class CemtImpl implements ICemt {
 
+    // A summary list entry, eg " Pro(DFHABC  ) Len(0000000) Ass Pro Ena Pri"
+    private static final Pattern SUMMARY_ENTRY_PATTERN = Pattern.compile("^[\\s+]*[A-Z][a-z]+\\(\\s*([^)\\s]+)\\s*\\)", Pattern.MULTILINE);
+
+    private static final int MAX_SUMMARY_PAGES = 100;
+
     private ICicsRegion cicsRegion;
 
     public CemtImpl(ICicsRegion cicsRegion) {
@@ -100,7 +110,7 @@ public class CemtImpl implements ICemt {
         try {
             terminal.type("CEMT INQUIRE " + resourceType + "(" + resourceName + ")").enter().waitForKeyboard();
 
-            if(!terminal.retrieveScreen().contains("E " + "'" + resourceType + "' is not valid and is ignored.")) {
+            if(!CicsScreen.of(terminal).contains("E " + "'" + resourceType + "' is not valid and is ignored.")) {
                 terminal.waitForTextInField("STATUS: ");
             }else {
                 throw new CemtException();
@@ -112,7 +122,7 @@ public class CemtImpl implements ICemt {
 
 
         try {
-            if(!terminal.retrieveScreen().contains("RESPONSE: NORMAL")) {
+            if(!"NORMAL".equals(CicsScreen.of(terminal).getResponse())) {
                 terminal.pf9();
                 terminal.waitForKeyboard();
                 terminal.pf3();
@@ -128,7 +138,7 @@ public class CemtImpl implements ICemt {
         try {
             terminal.tab().waitForKeyboard().enter().waitForKeyboard();
 
-            if(!terminal.retrieveScreen().contains("RESULT - OVERTYPE TO MODIFY")) {
+            if(!CicsScreen.of(terminal).contains("RESULT - OVERTYPE TO MODIFY")) {
                 throw new CemtException("Problem finding properties");
             }
         }catch(Exception e) {
@@ -136,30 +146,132 @@ public class CemtImpl implements ICemt {
         }
 
         try {
+            returnMap = readExpandedResource(terminal, resourceName, returnMap);
+        }catch(Exception e) {
+            throw new CemtException("Problem whilst adding resource properties", e);
+        }
+
+
+        try {
+            terminal.pf3();
+            terminal.waitForKeyboard();
+            terminal.clear();
+            terminal.waitForKeyboard();
+        }catch(Exception e) {
+            throw new CemtException("Unable to return terminal back into reset state", e);
+        }
 
-            String terminalString = terminal.retrieveScreen();
+        return returnMap;
 
-            returnMap = getAttributes(terminalString, resourceName, returnMap);
+    }
 
-            boolean pageDown = terminalString.contains("+");
 
-            while(pageDown) {
+    /**
+     * Read the properties of the expanded resource on the screen, paging down through the properties
+     */
+    private CicstsHashMap readExpandedResource(ICicsTerminal terminal, String resourceName, CicstsHashMap map) throws Exception {
 
-                terminal.pf8().waitForKeyboard();
-                terminalString = terminal.retrieveScreen();
-                returnMap = getAttributes(terminalString, resourceName, returnMap);
+        CicsScreen screen = CicsScreen.of(terminal);
 
-                if(terminalString.indexOf("+") == terminalString.lastIndexOf("+")) {
-                    pageDown = false;
-                }
+        map = getAttributes(screen.getText(), resourceName, map);
+
+        boolean pageDown = screen.isMoreBelow(true);
+
+        while(pageDown) {
+
+            terminal.pf8().waitForKeyboard();
+            screen = CicsScreen.of(terminal);
+            map = getAttributes(screen.getText(), resourceName, map);
+
+            pageDown = screen.isMoreBelow(false);
+
+        }
+
+        return map;
+    }
+
+    @Override
+    public Map<String, CicstsHashMap> inquireResources(@NotNull ICicsTerminal terminal,
+            @NotNull String resourceType,
+            @NotNull String resourcePattern) throws CemtException {
+
+        if(cicsRegion != terminal.getCicsRegion()) {
+            throw new CemtException("CICS Version Mismatch");
+        }
+
+        Map<String, CicstsHashMap> resources = new LinkedHashMap<>();
+
+        if (!terminal.isClearScreen()) {
+            try {
+                terminal.resetAndClear();
+            } catch (CicstsManagerException e) {
+                throw new CemtException("Problem reset and clearing screen for CEMT transaction", e);
+            }
+        }
+
+        try {
+            terminal.type("CEMT INQUIRE " + resourceType + "(" + resourcePattern + ")").enter().waitForKeyboard();
+
+            if(!CicsScreen.of(terminal).contains("E " + "'" + resourceType + "' is not valid and is ignored.")) {
+                terminal.waitForTextInField("STATUS: ");
+            }else {
+                throw new CemtException();
+            }
+
+        }catch(Exception e) {
+            throw new CemtException("Problem with starting CEMT transaction");
+        }
 
+        try {
+            if(!"NORMAL".equals(CicsScreen.of(terminal).getResponse())) {
+                terminal.pf9();
+                terminal.waitForKeyboard();
+                terminal.pf3();
+                terminal.waitForKeyboard();
+                terminal.clear();
+                terminal.waitForKeyboard();
+                return resources;
             }
+        }catch(Exception e){
+            throw new CemtException("Problem determining the result of the CEMT command", e);
+        }
+
+        // Expand each entry of each page of the summary list in turn. Enter on an expanded 
+        // resource returns to the summary list at the same page
+        try {
+            for (int page = 0;; page++) {
+                CicsScreen summary = CicsScreen.of(terminal);
+                List<String> names = getSummaryNames(summary.getText());
+
+                for (String name : names) {
+                    if (resources.containsKey(name)) {
+                        continue;
+                    }
+
+                    terminal.positionCursorToFieldContaining("(" + name).enter().waitForKeyboard();
+                    if(!CicsScreen.of(terminal).contains("RESULT - OVERTYPE TO MODIFY")) {
+                        throw new CemtException("Problem finding properties for " + resourceType + "(" + name + ")");
+                    }
 
+                    resources.put(name, readExpandedResource(terminal, name, new CicstsHashMap()));
+
+                    terminal.enter().waitForKeyboard();
+                }
+
+                if(!summary.isMoreBelow(page == 0) || names.isEmpty()) {
+                    break;
+                }
+                if (page + 1 >= MAX_SUMMARY_PAGES) {
+                    throw new CemtException("The summary list of " + resourceType + "(" + resourcePattern + ") has more than " + MAX_SUMMARY_PAGES + " pages");
+                }
+                terminal.pf8().waitForKeyboard();
+            }
+        }catch(CemtException e) {
+            throw e;
         }catch(Exception e) {
             throw new CemtException("Problem whilst adding resource properties", e);
         }
 
-
         try {
             terminal.pf3();
             terminal.waitForKeyboard();
@@ -169,10 +281,20 @@ public class CemtImpl implements ICemt {
             throw new CemtException("Unable to return terminal back into reset state", e);
         }
 
-        return returnMap;
-
+        return resources;
     }
 
+    /**
+     * Extract the resource names from a page of a CEMT summary list
+     */
+    protected List<String> getSummaryNames(String screen) {
+        List<String> names = new ArrayList<>();
+        Matcher matcher = SUMMARY_ENTRY_PATTERN.matcher(screen);
+        while(matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
 
     @Override
     public CicstsHashMap setResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType, String resourceName,
@@ -209,7 +331,7 @@ public class CemtImpl implements ICemt {
         }
 
         try {
-            if(!terminal.retrieveScreen().contains("RESPONSE: NORMAL")) {
+            if(!"NORMAL".equals(CicsScreen.of(terminal).getResponse())) {
                 terminal.pf9().waitForKeyboard();
                 throw new CemtException("Errors detected whilst setting resource");
             }
@@ -220,7 +342,7 @@ public class CemtImpl implements ICemt {
         try {
             terminal.tab().waitForKeyboard().enter().waitForKeyboard();
 
-            if(!terminal.retrieveScreen().contains("+")) {
+            if(CicsScreen.of(terminal).getPagingIndicatorCount() == 0) {
                 throw new CemtException("Problem finding properties");
             }
         }catch(Exception e) {
@@ -228,25 +350,7 @@ public class CemtImpl implements ICemt {
         }
 
         try {
-
-            String terminalString = terminal.retrieveScreen();
-
-            returnMap = getAttributes(terminalString, resourceName, returnMap);
-
-            boolean pageDown = terminalString.contains("+");
-
-            while(pageDown) {
-
-                terminal.pf8().waitForKeyboard();
-                terminalString = terminal.retrieveScreen();
-                returnMap = getAttributes(terminalString, resourceName, returnMap);
-
-                if(terminalString.indexOf("+") == terminalString.lastIndexOf("+")) {
-                    pageDown = false;
-                }
-
-            }
-
+            returnMap = readExpandedResource(terminal, resourceName, returnMap);
         }catch(Exception e) {
             throw new CemtException("Problem whilst adding resource properties", e);
         }
@@ -296,7 +400,7 @@ public class CemtImpl implements ICemt {
 
         try {
 
-            if(!terminal.retrieveScreen().contains("RESPONSE: NORMAL")) {
+            if(!"NORMAL".equals(CicsScreen.of(terminal).getResponse())) {
                 terminal.pf9();
                 terminal.pf3();
                 terminal.waitForKeyboard();
@@ -341,7 +445,7 @@ public class CemtImpl implements ICemt {
 
         try {
             terminal.type(cemtCmd).enter().waitForKeyboard();
-            boolean success = terminal.retrieveScreen().contains(expectedResponse);
+            boolean success = CicsScreen.of(terminal).contains(expectedResponse);
             if(!success) {
                 throw new CemtException("Expected Response from CEMT PERFORM not found. Expected: "
                         + expectedResponse);
@@ -28,6 +28,7 @@ import dev.galasa.cicsts.cemt.internal.properties.CemtPropertiesSingleton;
 import dev.galasa.cicsts.cemt.spi.spi.ICemtManagerSpi;
 import dev.galasa.cicsts.spi.ICemtProvider;
 import dev.galasa.cicsts.spi.ICicstsManagerSpi;
+import dev.galasa.cicsts.spi.ICmciClient;
 
 @Component(service = { IManager.class })
 public class CemtManagerImpl extends AbstractManager implements ICemtManagerSpi, ICemtProvider {
@@ -73,12 +74,18 @@ public class CemtManagerImpl extends AbstractManager implements ICemtManagerSpi,
 
 
    @Override
-   public @NotNull ICemt getCemt(ICicsRegion cicsRegion) {
+   public @NotNull ICemt getCemt(ICicsRegion cicsRegion) throws CicstsManagerException {
       
       ICemt cemt = regionCemt.get(cicsRegion);
       
       if(cemt == null) {
-         cemt = new CemtImpl(cicsRegion);
+         // Use CMCI for the region if it has been configured, otherwise drive CEMT on the terminal
+         ICmciClient cmciClient = cicstsManager.getCmciClient(cicsRegion);
+         if(cmciClient != null) {
+            cemt = new CemtCmciImpl(cicsRegion, cmciClient);
+         } else {
+            cemt = new CemtImpl(cicsRegion);
+         }
          regionCemt.put(cicsRegion, cemt);
       }
       
@@ -0,0 +1,213 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.cemt.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import dev.galasa.cicsts.CemtException;
+import dev.galasa.cicsts.CicstsHashMap;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.ICicsTerminal;
+import dev.galasa.cicsts.internal.CmciClientImpl;
+import dev.galasa.cicsts.internal.properties.CicstsPropertiesSingleton;
+import dev.galasa.http.HttpClientResponse;
+import dev.galasa.http.IHttpClient;
+import dev.galasa.http.spi.IHttpManagerSpi;
+import dev.galasa.ipnetwork.IIpHost;
+import dev.galasa.testharness.TestHarnessFramework;
+import dev.galasa.zos.IZosImage;
+
+/**
+ * Drives the CMCI CEMT implementation with recorded CMCI responses
+ */
+@RunWith(PowerMockRunner.class)
+public class TestCemtCmciImpl {
+
+    private static final String PROGRAM_URL = "/CICSSystemManagement/CICSProgram/APPLID1";
+
+    private static final String PROG1_URL = PROGRAM_URL + "?CRITERIA=%28PROGRAM%3DPROG1%29";
+
+    private CemtCmciImpl cemt;
+
+    private static CicstsPropertiesSingleton cicsProperties;
+
+    @Mock
+    private IHttpManagerSpi httpManager;
+
+    @Mock
+    private IHttpClient httpClient;
+
+    @Mock
+    private ICicsRegion cicsRegion;
+
+    @Mock
+    private ICicsTerminal terminal;
+
+    @Mock
+    private IZosImage zosImage;
+
+    @Mock
+    private IIpHost ipHost;
+
+    @BeforeClass
+    public static void beforeClass() {
+        cicsProperties = new CicstsPropertiesSingleton();
+        cicsProperties.activate();
+    }
+
+    @Before
+    public void before() throws Exception {
+        TestHarnessFramework framework = new TestHarnessFramework();
+        framework.cpsStore.properties.put("cicsts.cmci.tag.PRIMARY.https", "false");
+        CicstsPropertiesSingleton.setCps(framework.getConfigurationPropertyService("cicsts"));
+
+        when(this.httpManager.newHttpClient()).thenReturn(this.httpClient);
+        when(this.cicsRegion.getTag()).thenReturn("PRIMARY");
+        when(this.cicsRegion.getApplid()).thenReturn("APPLID1");
+        when(this.cicsRegion.getZosImage()).thenReturn(this.zosImage);
+        when(this.zosImage.getIpHost()).thenReturn(this.ipHost);
+        when(this.ipHost.getHostname()).thenReturn("cics.example.com");
+        when(this.terminal.getCicsRegion()).thenReturn(this.cicsRegion);
+
+        this.cemt = new CemtCmciImpl(this.cicsRegion, new CmciClientImpl(this.httpManager, framework, this.cicsRegion, 1490));
+    }
+
+    @Test
+    public void testInquireResource() throws Exception {
+        HttpClientResponse<String> response = response(200, ok("<cicsprogram program=\"PROG1\" status=\"ENABLED\" language=\"COBOL\"/>"));
+        when(this.httpClient.getText(PROG1_URL)).thenReturn(response);
+
+        CicstsHashMap resource = this.cemt.inquireResource(this.terminal, "PROGRAM", "PROG1");
+
+        assertThat(resource).containsEntry("program", "PROG1").containsEntry("status", "ENABLED").containsEntry("language", "COBOL");
+    }
+
+    @Test
+    public void testInquireResourceNoData() throws Exception {
+        HttpClientResponse<String> response = response(200, nodata());
+        when(this.httpClient.getText(PROG1_URL)).thenReturn(response);
+
+        assertThat(this.cemt.inquireResource(this.terminal, "PROGRAM", "PROG1")).isNull();
+    }
+
+    @Test
+    public void testInquireResources() throws Exception {
+        HttpClientResponse<String> response = response(200, ok("<cicsprogram program=\"PROG1\" status=\"ENABLED\"/>"
+                + "<cicsprogram program=\"PROG2\" status=\"DISABLED\"/>"));
+        when(this.httpClient.getText(PROGRAM_URL + "?CRITERIA=%28PROGRAM%3DPROG*%29")).thenReturn(response);
+
+        Map<String, CicstsHashMap> resources = this.cemt.inquireResources(this.terminal, "PROGRAM", "PROG*");
+
+        assertThat(resources).containsOnlyKeys("PROG1", "PROG2");
+        assertThat(resources.get("PROG2")).containsEntry("status", "DISABLED");
+    }
+
+    @Test
+    public void testInquireResourceFailure() throws Exception {
+        HttpClientResponse<String> response = response(400, failed("1028", "INVALIDPARM", "CRITERIA"));
+        when(this.httpClient.getText(PROG1_URL)).thenReturn(response);
+
+        assertThatThrownBy(() -> this.cemt.inquireResource(this.terminal, "PROGRAM", "PROG1"))
+            .isInstanceOf(CemtException.class)
+            .hasMessage("Problem inquiring PROGRAM(PROG1) with CMCI")
+            .satisfies(e -> assertThat(e.getCause()).hasMessage("CMCI request " + PROG1_URL + " failed, response INVALIDPARM CRITERIA, HTTP status 400"));
+    }
+
+    @Test
+    public void testSetResource() throws Exception {
+        HttpClientResponse<String> updated = response(200, ok("<cicsprogram program=\"PROG1\" status=\"ENABLED\"/>"));
+        HttpClientResponse<String> newcopied = response(200, ok("<cicsprogram program=\"PROG1\" status=\"ENABLED\" newcopycnt=\"1\"/>"));
+        when(this.httpClient.putText(PROG1_URL, "<request><update><attributes status=\"ENABLED\"/></update></request>")).thenReturn(updated);
+        when(this.httpClient.putText(PROG1_URL, "<request><action name=\"NEWCOPY\"/></request>")).thenReturn(newcopied);
+
+        CicstsHashMap resource = this.cemt.setResource(this.terminal, "PROGRAM", "PROG1", "ENABLED NEWCOPY");
+
+        assertThat(resource).containsEntry("newcopycnt", "1");
+        verify(this.httpClient, times(2)).putText(Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    public void testSetResourceNoData() throws Exception {
+        HttpClientResponse<String> response = response(200, nodata());
+        when(this.httpClient.putText(Mockito.eq(PROG1_URL), Mockito.anyString())).thenReturn(response);
+
+        assertThatThrownBy(() -> this.cemt.setResource(this.terminal, "PROGRAM", "PROG1", "ENABLED"))
+            .isInstanceOf(CemtException.class)
+            .hasMessage("Errors detected whilst setting resource, no PROGRAM found")
+            .hasNoCause();
+    }
+
+    @Test
+    public void testSetResourceFailure() throws Exception {
+        HttpClientResponse<String> response = response(403, failed("1038", "NOTPERMIT", "USER"));
+        when(this.httpClient.putText(Mockito.eq(PROG1_URL), Mockito.anyString())).thenReturn(response);
+
+        assertThatThrownBy(() -> this.cemt.setResource(this.terminal, "PROGRAM", "PROG1", "NEWCOPY"))
+            .isInstanceOf(CemtException.class)
+            .hasMessage("Problem setting PROGRAM with CMCI")
+            .satisfies(e -> assertThat(e.getCause()).hasMessage("CMCI request " + PROG1_URL + " failed, response NOTPERMIT USER, HTTP status 403"));
+    }
+
+    @Test
+    public void testDiscardResource() throws Exception {
+        HttpClientResponse<String> response = response(200, ok(""));
+        when(this.httpClient.deleteText(PROG1_URL)).thenReturn(response);
+
+        this.cemt.discardResource(this.terminal, "PROGRAM", "PROG1");
+
+        verify(this.httpClient).deleteText(PROG1_URL);
+    }
+
+    @Test
+    public void testDiscardResourceFailure() throws Exception {
+        HttpClientResponse<String> response = response(500, failed("1041", "TABLEERROR", "DATAERROR"));
+        when(this.httpClient.deleteText(PROG1_URL)).thenReturn(response);
+
+        assertThatThrownBy(() -> this.cemt.discardResource(this.terminal, "PROGRAM", "PROG1"))
+            .isInstanceOf(CemtException.class)
+            .hasMessage("Problem discarding PROGRAM(PROG1) with CMCI")
+            .satisfies(e -> assertThat(e.getCause()).hasMessage("CMCI request " + PROG1_URL + " failed, response TABLEERROR DATAERROR, HTTP status 500"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpClientResponse<String> response(int statusCode, String content) {
+        HttpClientResponse<String> response = Mockito.mock(HttpClientResponse.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        when(response.getContent()).thenReturn(content);
+        return response;
+    }
+
+    private String ok(String records) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<response xmlns=\"http://www.ibm.com/xmlns/prod/CICS/smw2int\">"
+                + "<resultsummary api_response1=\"1024\" api_response2=\"0\" api_response1_alt=\"OK\" api_response2_alt=\"\"/>"
+                + "<records>" + records + "</records>"
+                + "</response>";
+    }
+
+    private String nodata() {
+        return "<response><resultsummary api_response1=\"1027\" api_response2=\"0\" api_response1_alt=\"NODATA\" api_response2_alt=\"\" recordcount=\"0\"/></response>";
+    }
+
+    private String failed(String response1, String response1Alt, String response2Alt) {
+        return "<response><resultsummary api_response1=\"" + response1 + "\" api_response2=\"0\" api_response1_alt=\"" + response1Alt
+                + "\" api_response2_alt=\"" + response2Alt + "\"/></response>";
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.cemt.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import dev.galasa.cicsts.CemtException;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.ICicsTerminal;
+
+@RunWith(PowerMockRunner.class)
+public class TestCemtImpl {
+
+    private static final String SUMMARY_SCREEN =
+              "INQUIRE PROGRAM(PROG*)\n"
+            + "STATUS:  RESULTS - OVERTYPE TO MODIFY\n"
+            + "+Pro(PROG1   ) Len(0000000) Ass Pro Ena Pri\n"
+            + "+Pro(PROG1   ) Len(0000000) Ass Pro Ena Pri\n"
+            + "                                         SYSID=CICS APPLID=APPLID1\n"
+            + " RESPONSE: NORMAL                 TIME:  10.15.20  DATE: 01.01.20\n"
+            + " PF 1 HELP       3 END       5 VAR       7 SBH 8 SFH 9 MSG 10 SB 11 SF";
+
+    private static final String EXPANDED_SCREEN =
+              "INQUIRE PROGRAM(PROG1)\n"
+            + "RESULT - OVERTYPE TO MODIFY\n"
+            + "  Program(PROG1)\n"
+            + "  Length(0000000)\n"
+            + " RESPONSE: NORMAL";
+
+    private CemtImpl cemt;
+
+    @Mock
+    private ICicsRegion cicsRegion;
+
+    @Mock
+    private ICicsTerminal terminal;
+
+    @Before
+    public void before() {
+        this.cemt = new CemtImpl(this.cicsRegion);
+    }
+
+    @Test
+    public void testGetSummaryNames() {
+        String screen = "INQUIRE PROGRAM(DFH*)\n"
+                + "STATUS:  RESULTS - OVERTYPE TO MODIFY\n"
+                + " Pro(DFHABC  ) Len(0000000) Ass Pro Ena Pri\n"
+                + " Pro(DFH$XYZ ) Len(0000100) Ass Pro Ena Pri\n"
+                + "+ Pro(DFHLAST ) Len(0000200) Ass Pro Ena Pri\n"
+                + "                                         SYSID=CICS APPLID=APPLID1\n"
+                + " RESPONSE: NORMAL                 TIME:  10.15.20  DATE: 01.01.20\n"
+                + " PF 1 HELP       3 END       5 VAR       7 SBH 8 SFH 9 MSG 10 SB 11 SF";
+
+        assertThat(this.cemt.getSummaryNames(screen)).containsExactly("DFHABC", "DFH$XYZ", "DFHLAST");
+    }
+
+    @Test
+    public void testGetSummaryNamesEmpty() {
+        String screen = "INQUIRE PROGRAM(NONE*)\n"
+                + "STATUS:  NOT FOUND\n"
+                + " RESPONSE: 1 ERROR";
+
+        assertThat(this.cemt.getSummaryNames(screen)).isEmpty();
+    }
+
+    @Test
+    public void testInquireResourcesPageLimit() throws Exception {
+        when(this.terminal.getCicsRegion()).thenReturn(this.cicsRegion);
+        when(this.terminal.isClearScreen()).thenReturn(true);
+        when(this.terminal.type(Mockito.anyString())).thenReturn(this.terminal);
+        when(this.terminal.enter()).thenReturn(this.terminal);
+        when(this.terminal.pf8()).thenReturn(this.terminal);
+        when(this.terminal.waitForKeyboard()).thenReturn(this.terminal);
+        when(this.terminal.positionCursorToFieldContaining(Mockito.anyString())).thenReturn(this.terminal);
+        // Every page of the summary list has more below and only repeats the resource already expanded
+        when(this.terminal.retrieveScreen()).thenReturn(SUMMARY_SCREEN, SUMMARY_SCREEN, SUMMARY_SCREEN, EXPANDED_SCREEN, EXPANDED_SCREEN, SUMMARY_SCREEN);
+
+        assertThatThrownBy(() -> this.cemt.inquireResources(this.terminal, "PROGRAM", "PROG*"))
+            .isInstanceOf(CemtException.class)
+            .hasMessage("The summary list of PROGRAM(PROG*) has more than 100 pages");
+        verify(this.terminal, times(99)).pf8();
+    }
+}
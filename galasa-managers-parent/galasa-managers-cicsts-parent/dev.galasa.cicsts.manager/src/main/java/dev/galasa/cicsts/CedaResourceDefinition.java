@@ -0,0 +1,47 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * A CSD resource definition, as it would be entered on CEDA DEFINE, for use with
+ * {@link ICeda#defineResources(ICicsTerminal, String, java.util.List)}
+ */
+public class CedaResourceDefinition {
+
+    private final String resourceType;
+    private final String resourceName;
+    private final String resourceParameters;
+
+    /**
+     * @param resourceType the resource type, eg PROGRAM
+     * @param resourceName the resource name
+     * @param resourceParameters the attributes of the definition, eg <code>LANGUAGE(COBOL) DATALOCATION(ANY)</code>, or null
+     */
+    public CedaResourceDefinition(@NotNull String resourceType, @NotNull String resourceName, String resourceParameters) {
+        this.resourceType = resourceType;
+        this.resourceName = resourceName;
+        this.resourceParameters = resourceParameters;
+    }
+
+    public String getResourceType() {
+        return this.resourceType;
+    }
+
+    public String getResourceName() {
+        return this.resourceName;
+    }
+
+    public String getResourceParameters() {
+        return this.resourceParameters;
+    }
+
+    @Override
+    public String toString() {
+        return this.resourceType + "(" + this.resourceName + ")";
+    }
+}
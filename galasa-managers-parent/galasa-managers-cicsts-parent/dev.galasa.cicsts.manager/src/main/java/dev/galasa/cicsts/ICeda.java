@@ -5,6 +5,8 @@
  */
 package dev.galasa.cicsts;
 
+import java.util.List;
+
 import javax.validation.constraints.NotNull;
 
 public interface ICeda {
@@ -21,6 +23,20 @@ public interface ICeda {
       
       public void deleteResource(@NotNull ICicsTerminal terminal, @NotNull String resourceType, 
             @NotNull String resourceName, @NotNull String groupName) throws CedaException;
+      
+      /**
+       * Define a list of resources in a group and then install the group once. If the DFHCSDUP properties are set 
+       * for the region, the definitions are made by a single DFHCSDUP batch job, otherwise each is made with CEDA 
+       * DEFINE on the terminal
+       * 
+       * @param terminal a terminal logged on to the CICS region, used to install the group
+       * @param groupName the group
+       * @param definitions the resource definitions
+       * @return the result of each definition, in the order of the definitions
+       * @throws CedaException if any definition fails, or the group cannot be installed
+       */
+      public List<ICedaDefinitionResult> defineResources(@NotNull ICicsTerminal terminal, @NotNull String groupName, 
+            @NotNull List<CedaResourceDefinition> definitions) throws CedaException;
 
 
 }
@@ -0,0 +1,29 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts;
+
+import java.util.List;
+
+/**
+ * The result of one resource definition of {@link ICeda#defineResources(ICicsTerminal, String, List)}
+ */
+public interface ICedaDefinitionResult {
+
+    /**
+     * @return the resource definition
+     */
+    public CedaResourceDefinition getDefinition();
+
+    /**
+     * @return true if the resource was defined
+     */
+    public boolean isDefined();
+
+    /**
+     * @return the messages issued for the definition, eg by DFHCSDUP
+     */
+    public List<String> getMessages();
+}
@@ -6,6 +6,8 @@
 
 package dev.galasa.cicsts;
 
+import java.util.Map;
+
 import javax.validation.constraints.NotNull;
 
 import dev.galasa.zos3270.ITerminal;
@@ -33,6 +35,25 @@ public interface ICemt {
                                                    ) throws CemtException;
     
 
+    /** 
+     * Inquire all the CEMT resources of a type that match a name or generic name, in a single CEMT session.
+     * The summary list is read and each entry expanded in turn, without resetting the terminal between resources.
+     * Will return an empty map if no resources are found.
+     * @param cemtTerminal an {@link ITerminal} object logged on to the CICS region and in an active CEMT session.
+     * If mixed case is required, the terminal should be presented with no upper case translate status. 
+     * For example, the test could first issue <code>CEOT TRANIDONLY</code>
+     * @param resourceType a {@link String} of the resource type you are looking for.
+     * @param resourcePattern a {@link String} of the name or generic name of the resources, eg <code>DFH*</code>
+     * @return a {@link Map} of the resource names to {@link CicstsHashMap} objects containing the properties of each resource.
+     * @throws CemtException.
+     */
+   
+    public Map<String, CicstsHashMap> inquireResources(@NotNull ICicsTerminal cemtTerminal,
+                                                       @NotNull String resourceType,
+                                                       @NotNull String resourcePattern
+                                                       ) throws CemtException;
+    
+
     /** 
      * Set the state of a CEMT resource using the resource type and name.
      * @param cemtTerminal an {@link ITerminal} object logged on to the CICS region and in an active CEMT session.
@@ -9,7 +9,14 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.validation.constraints.NotNull;
 
@@ -27,9 +34,11 @@ import dev.galasa.cicsts.ICicsRegion;
 import dev.galasa.cicsts.ICicsTerminal;
 import dev.galasa.cicsts.internal.dse.DseProvisioningImpl;
 import dev.galasa.cicsts.internal.properties.CicstsPropertiesSingleton;
+import dev.galasa.cicsts.internal.properties.CmciPort;
 import dev.galasa.cicsts.internal.properties.DefaultVersion;
 import dev.galasa.cicsts.internal.properties.ExtraBundles;
 import dev.galasa.cicsts.internal.properties.ProvisionType;
+import dev.galasa.cicsts.internal.properties.StartupThreads;
 import dev.galasa.cicsts.spi.CicsTerminalImpl;
 import dev.galasa.cicsts.spi.ICeciProvider;
 import dev.galasa.cicsts.spi.ICedaProvider;
@@ -38,6 +47,7 @@ import dev.galasa.cicsts.spi.ICicsRegionLogonProvider;
 import dev.galasa.cicsts.spi.ICicsRegionProvisioned;
 import dev.galasa.cicsts.spi.ICicsRegionProvisioner;
 import dev.galasa.cicsts.spi.ICicstsManagerSpi;
+import dev.galasa.cicsts.spi.ICmciClient;
 import dev.galasa.framework.spi.AbstractManager;
 import dev.galasa.framework.spi.AnnotatedField;
 import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
@@ -46,6 +56,7 @@ import dev.galasa.framework.spi.IFramework;
 import dev.galasa.framework.spi.IManager;
 import dev.galasa.framework.spi.ResourceUnavailableException;
 import dev.galasa.framework.spi.language.GalasaTest;
+import dev.galasa.http.spi.IHttpManagerSpi;
 import dev.galasa.zos.spi.IZosManagerSpi;
 import dev.galasa.zos3270.TerminalInterruptedException;
 
@@ -57,12 +68,14 @@ public class CicstsManagerImpl extends AbstractManager implements ICicstsManager
     private boolean required;
 
     private IZosManagerSpi zosManager;
+    private IHttpManagerSpi httpManager;
 
     private final HashMap<String, ICicsRegionProvisioned> provisionedCicsRegions = new HashMap<>();
 
     private final ArrayList<ICicsRegionProvisioner> provisioners = new ArrayList<>();
     private final ArrayList<CicsTerminalImpl> terminals = new ArrayList<>();
     private final ArrayList<ICicsRegionLogonProvider> logonProviders = new ArrayList<>();
+    private final HashMap<String, ICmciClient> cmciClients = new HashMap<>();
 
     private String provisionType;
     
@@ -101,6 +114,9 @@ public class CicstsManagerImpl extends AbstractManager implements ICicstsManager
             throw new CicstsManagerException("Unable to locate the zOS Manager, required for the CICS TS Manager");
         }
 
+        // The HTTP Manager is only needed for CMCI, so is only required when a region has a CMCI port configured
+        this.httpManager = addDependentManager(allManagers, activeManagers, IHttpManagerSpi.class);
+
         this.provisionType = ProvisionType.get();
         this.provisioners.add(new DseProvisioningImpl(this));
     }
@@ -137,6 +153,30 @@ public class CicstsManagerImpl extends AbstractManager implements ICicstsManager
 
         List<AnnotatedField> annotatedFields = findAnnotatedFields(CicstsManagerField.class);
 
+        // Provision the tagged regions concurrently, the first field for each tag supplies the image tag and annotations
+        LinkedHashMap<String, AnnotatedField> regionFields = new LinkedHashMap<>();
+        for (AnnotatedField annotatedField : annotatedFields) {
+            CicsRegion annotation = annotatedField.getField().getAnnotation(CicsRegion.class);
+            if (annotatedField.getField().getType() == ICicsRegion.class && annotation != null) {
+                String tag = defaultString(annotation.cicsTag(), "PRIMARY").toUpperCase();
+                if (!this.provisionedCicsRegions.containsKey(tag)) {
+                    regionFields.putIfAbsent(tag, annotatedField);
+                }
+            }
+        }
+
+        ArrayList<Callable<ICicsRegionProvisioned>> provisionTasks = new ArrayList<>();
+        for (Map.Entry<String, AnnotatedField> regionField : regionFields.entrySet()) {
+            CicsRegion annotation = regionField.getValue().getField().getAnnotation(CicsRegion.class);
+            provisionTasks.add(() -> provisionCicsRegion(regionField.getKey(), annotation.imageTag(), regionField.getValue().getAnnotations()));
+        }
+
+        List<ICicsRegionProvisioned> regions = runConcurrently(provisionTasks, "provision CICS Regions");
+        int regionIndex = 0;
+        for (String tag : regionFields.keySet()) {
+            this.provisionedCicsRegions.put(tag, regions.get(regionIndex++));
+        }
+
         for (AnnotatedField annotatedField : annotatedFields) {
             final Field field = annotatedField.getField();
 
@@ -168,10 +208,18 @@ public class CicstsManagerImpl extends AbstractManager implements ICicstsManager
             return region;
         }
 
+        region = provisionCicsRegion(tag, annotationCics.imageTag(), annotations);
+        this.provisionedCicsRegions.put(tag, region);
+        return region;
+    }
+
+    /**
+     * Ask the provisioners for a region. Called concurrently for different tags
+     */
+    private ICicsRegionProvisioned provisionCicsRegion(String tag, String imageTag, List<Annotation> annotations) throws ManagerException {
         for (ICicsRegionProvisioner provisioner : provisioners) {
-            ICicsRegionProvisioned newRegion = provisioner.provision(tag, annotationCics.imageTag(), annotations);
+            ICicsRegionProvisioned newRegion = provisioner.provision(tag, imageTag, annotations);
             if (newRegion != null) {
-                this.provisionedCicsRegions.put(tag, newRegion);
                 return newRegion;
             }
         }
@@ -222,8 +270,9 @@ public class CicstsManagerImpl extends AbstractManager implements ICicstsManager
 
         // Start the CICS Regions
 
-        // Start the autoconnect terminals
+        // Start the autoconnect terminals, each terminal is connected and logged on independently
         logger.info("Connecting CICS Terminals");
+        ArrayList<Callable<Boolean>> connectTasks = new ArrayList<>();
         for (CicsTerminalImpl terminal : this.terminals) {
             if (!terminal.isConnectAtStartup()) {
                 continue;
@@ -233,12 +282,15 @@ public class CicstsManagerImpl extends AbstractManager implements ICicstsManager
                 continue;
             }
             
-            try {
-                terminal.connectToCicsRegion();
-            } catch (CicstsManagerException e) {
-                throw new CicstsManagerException("Failed to connect to the " + terminal.getCicsRegion(), e);
-            }
+            connectTasks.add(() -> {
+                try {
+                    return terminal.connectToCicsRegion();
+                } catch (CicstsManagerException e) {
+                    throw new CicstsManagerException("Failed to connect to the " + terminal.getCicsRegion(), e);
+                }
+            });
         }
+        runConcurrently(connectTasks, "connect CICS Terminals");
     }
 
     @Override
@@ -338,21 +390,148 @@ public class CicstsManagerImpl extends AbstractManager implements ICicstsManager
         return this.cemtProvider;
     }
 
+    @Override
+    public ICmciClient getCmciClient(ICicsRegion cicsRegion) throws CicstsManagerException {
+        String tag = cicsRegion.getTag();
+        synchronized (this.cmciClients) {
+            if (this.cmciClients.containsKey(tag)) {
+                return this.cmciClients.get(tag);
+            }
+
+            ICmciClient cmciClient = null;
+            int port = CmciPort.get(tag);
+            if (port >= 0) {
+                if (this.httpManager == null) {
+                    throw new CicstsManagerException("Unable to locate the HTTP Manager, required for the CMCI connection to " + cicsRegion);
+                }
+                logger.debug("Using CMCI port " + port + " for " + cicsRegion);
+                cmciClient = new CmciClientImpl(this.httpManager, getFramework(), cicsRegion, port);
+            }
+            this.cmciClients.put(tag, cmciClient);
+            return cmciClient;
+        }
+    }
+
     @Override
     public void cicstsRegionStarted(ICicsRegion region) throws CicstsManagerException {
         // A region has started, so connect everything up
         
         // Connect terminals that are associated with the region
         
+        ArrayList<Callable<Boolean>> connectTasks = new ArrayList<>();
         for(CicsTerminalImpl terminal : terminals) {
             if (terminal.getCicsRegion() == region) {
                 if (terminal.isConnectAtStartup()) {
-                    if (!terminal.connectToCicsRegion()) {
-                        throw new CicstsManagerException("Failed to connect terminal to CICS TS region");
-                    }
+                    connectTasks.add(() -> {
+                        if (!terminal.connectToCicsRegion()) {
+                            throw new CicstsManagerException("Failed to connect terminal to CICS TS region");
+                        }
+                        return true;
+                    });
                 }
             }
         }
+        try {
+            runConcurrently(connectTasks, "connect CICS Terminals to " + region);
+        } catch (CicstsManagerException e) {
+            throw e;
+        } catch (ManagerException e) {
+            throw new CicstsManagerException("Failed to connect CICS Terminals to " + region, e);
+        }
+    }
+
+    /**
+     * Run independent startup tasks concurrently, bounded by the startup threads property
+     * 
+     * @param tasks - the tasks
+     * @param description - what the tasks do, for the failure message
+     * @return the results of the tasks, in task order
+     * @throws ManagerException
+     */
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks, String description) throws ManagerException {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return runConcurrently(tasks, StartupThreads.get(), description);
+    }
+
+    /**
+     * Run independent tasks on up to the given number of threads. With a single thread the tasks run in order on the
+     * calling thread and stop at the first failure. Otherwise every task runs to completion before any failure is
+     * reported. A single failure is thrown as is, several failures are thrown together, the first as the cause and
+     * the rest suppressed
+     * 
+     * @param tasks - the tasks
+     * @param threads - the maximum number of threads
+     * @param description - what the tasks do, for the failure message
+     * @return the results of the tasks, in task order
+     * @throws ManagerException
+     */
+    protected <T> List<T> runConcurrently(List<Callable<T>> tasks, int threads, String description) throws ManagerException {
+        ArrayList<T> results = new ArrayList<>();
+        if (tasks.isEmpty()) {
+            return results;
+        }
+
+        if (threads <= 1 || tasks.size() == 1) {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (Exception e) {
+                    throw rethrow(e, description);
+                }
+            }
+            return results;
+        }
+
+        ArrayList<Throwable> failures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()), runnable -> {
+            Thread thread = new Thread(runnable, "cicsts-startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CicstsManagerException("Interrupted waiting to " + description, e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failures.size() == 1) {
+            throw rethrow(failures.get(0), description);
+        }
+        if (!failures.isEmpty()) {
+            CicstsManagerException exception = new CicstsManagerException("Failed to " + description + ", " + failures.size() + " of " + tasks.size() + " failed", failures.get(0));
+            for (int i = 1; i < failures.size(); i++) {
+                exception.addSuppressed(failures.get(i));
+            }
+            throw exception;
+        }
+        return results;
+    }
+
+    /**
+     * The failure of a single task, rethrown unchanged unless it is a checked exception that is not a ManagerException
+     */
+    private ManagerException rethrow(Throwable failure, String description) throws ManagerException {
+        if (failure instanceof ManagerException) {
+            throw (ManagerException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new CicstsManagerException("Failed to " + description, failure);
     }
 
 }
\ No newline at end of file
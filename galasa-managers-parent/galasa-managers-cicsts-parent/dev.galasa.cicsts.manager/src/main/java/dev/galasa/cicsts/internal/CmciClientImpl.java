@@ -0,0 +1,348 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import dev.galasa.ICredentials;
+import dev.galasa.ICredentialsUsernamePassword;
+import dev.galasa.cicsts.CicstsHashMap;
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.internal.properties.CmciCredentials;
+import dev.galasa.cicsts.internal.properties.CmciHttps;
+import dev.galasa.cicsts.spi.ICmciClient;
+import dev.galasa.framework.spi.IFramework;
+import dev.galasa.framework.spi.creds.CredentialsException;
+import dev.galasa.http.HttpClientException;
+import dev.galasa.http.HttpClientResponse;
+import dev.galasa.http.IHttpClient;
+import dev.galasa.http.spi.IHttpManagerSpi;
+import dev.galasa.zos.ZosManagerException;
+
+/**
+ * CMCI REST client for a single CICS region, addressed by its applid as the CMCI context
+ *
+ */
+public class CmciClientImpl implements ICmciClient {
+
+    private static final Log logger = LogFactory.getLog(CmciClientImpl.class);
+
+    private static final String CMCI_PATH = "/CICSSystemManagement/";
+
+    private static final int CMCI_OK     = 1024;
+    private static final int CMCI_NODATA = 1027;
+
+    private static final Map<String, String> RESOURCE_TABLES   = new LinkedHashMap<>();
+    private static final Map<String, String> DEFINITION_TABLES = new LinkedHashMap<>();
+    private static final Map<String, String> NAME_ATTRIBUTES   = new LinkedHashMap<>();
+
+    private static final String DEFAULT_NAME_ATTRIBUTE = "name";
+
+    static {
+        RESOURCE_TABLES.put("PROGRAM", "CICSProgram");
+        RESOURCE_TABLES.put("TRANSACTION", "CICSLocalTransaction");
+        RESOURCE_TABLES.put("FILE", "CICSLocalFile");
+        RESOURCE_TABLES.put("TDQUEUE", "CICSTDQueue");
+        RESOURCE_TABLES.put("TSQUEUE", "CICSTSQueue");
+        RESOURCE_TABLES.put("URIMAP", "CICSURIMap");
+        RESOURCE_TABLES.put("BUNDLE", "CICSBundle");
+        RESOURCE_TABLES.put("JVMSERVER", "CICSJVMServer");
+        RESOURCE_TABLES.put("LIBRARY", "CICSLibrary");
+        RESOURCE_TABLES.put("TCPIPSERVICE", "CICSTCPIPService");
+        RESOURCE_TABLES.put("PIPELINE", "CICSPipeline");
+        RESOURCE_TABLES.put("WEBSERVICE", "CICSWebService");
+
+        NAME_ATTRIBUTES.put("PROGRAM", "program");
+        NAME_ATTRIBUTES.put("TRANSACTION", "tranid");
+        NAME_ATTRIBUTES.put("FILE", "file");
+
+        DEFINITION_TABLES.put("PROGRAM", "CICSDefinitionProgram");
+        DEFINITION_TABLES.put("TRANSACTION", "CICSDefinitionTransaction");
+        DEFINITION_TABLES.put("FILE", "CICSDefinitionFile");
+        DEFINITION_TABLES.put("TDQUEUE", "CICSDefinitionTDQueue");
+        DEFINITION_TABLES.put("TSMODEL", "CICSDefinitionTSModel");
+        DEFINITION_TABLES.put("URIMAP", "CICSDefinitionURIMap");
+        DEFINITION_TABLES.put("BUNDLE", "CICSDefinitionBundle");
+        DEFINITION_TABLES.put("JVMSERVER", "CICSDefinitionJVMServer");
+        DEFINITION_TABLES.put("LIBRARY", "CICSDefinitionLibrary");
+        DEFINITION_TABLES.put("TCPIPSERVICE", "CICSDefinitionTCPIPService");
+        DEFINITION_TABLES.put("PIPELINE", "CICSDefinitionPipeline");
+        DEFINITION_TABLES.put("WEBSERVICE", "CICSDefinitionWebService");
+    }
+
+    private final ICicsRegion cicsRegion;
+    private final IHttpClient httpClient;
+
+    public CmciClientImpl(IHttpManagerSpi httpManager, IFramework framework, ICicsRegion cicsRegion, int port) throws CicstsManagerException {
+        this.cicsRegion = cicsRegion;
+
+        String tag = cicsRegion.getTag();
+        String scheme = CmciHttps.get(tag) ? "https" : "http";
+
+        this.httpClient = httpManager.newHttpClient();
+        try {
+            ICredentials creds = null;
+            String credsId = CmciCredentials.get(tag);
+            if (credsId != null) {
+                try {
+                    creds = framework.getCredentialsService().getCredentials(credsId);
+                } catch (CredentialsException e) {
+                    throw new CicstsManagerException("Problem accessing credentials store", e);
+                }
+            }
+
+            if (creds == null) {
+                creds = cicsRegion.getZosImage().getDefaultCredentials();
+            }
+
+            this.httpClient.setURI(new URI(scheme + "://" + cicsRegion.getZosImage().getIpHost().getHostname() + ":" + port));
+            if (creds instanceof ICredentialsUsernamePassword) {
+                this.httpClient.setAuthorisation(((ICredentialsUsernamePassword) creds).getUsername(), ((ICredentialsUsernamePassword) creds).getPassword());
+            }
+            if ("https".equals(scheme)) {
+                this.httpClient.setTrustingSSLContext();
+            }
+            this.httpClient.build();
+        } catch (HttpClientException | ZosManagerException | URISyntaxException e) {
+            throw new CicstsManagerException("Unable to create the CMCI HTTP client for " + cicsRegion, e);
+        }
+    }
+
+    @Override
+    public @NotNull String getResourceTable(@NotNull String resourceType) throws CicstsManagerException {
+        return findTable(RESOURCE_TABLES, resourceType);
+    }
+
+    @Override
+    public @NotNull String getResourceNameAttribute(@NotNull String resourceType) throws CicstsManagerException {
+        String nameAttribute = NAME_ATTRIBUTES.get(findType(RESOURCE_TABLES, resourceType));
+        if (nameAttribute == null) {
+            return DEFAULT_NAME_ATTRIBUTE;
+        }
+        return nameAttribute;
+    }
+
+    @Override
+    public @NotNull String getDefinitionTable(@NotNull String resourceType) throws CicstsManagerException {
+        return findTable(DEFINITION_TABLES, resourceType);
+    }
+
+    private String findTable(Map<String, String> tables, String resourceType) throws CicstsManagerException {
+        return tables.get(findType(tables, resourceType));
+    }
+
+    /**
+     * Find the full resource type of a table, which like CEMT may be abbreviated as long as it is unique
+     */
+    private String findType(Map<String, String> tables, String resourceType) throws CicstsManagerException {
+        String type = resourceType.trim().toUpperCase();
+        if (tables.containsKey(type)) {
+            return type;
+        }
+
+        String found = null;
+        if (type.length() >= 2) {
+            for (String key : tables.keySet()) {
+                if (key.startsWith(type)) {
+                    if (found != null) {
+                        throw new CicstsManagerException("Resource type '" + resourceType + "' is ambiguous");
+                    }
+                    found = key;
+                }
+            }
+        }
+
+        if (found == null) {
+            throw new CicstsManagerException("Resource type '" + resourceType + "' is not supported by CMCI");
+        }
+        return found;
+    }
+
+    @Override
+    public @NotNull List<CicstsHashMap> get(@NotNull String resourceTable, String criteria, String parameter) throws CicstsManagerException {
+        String url = buildUrl(resourceTable, criteria, parameter);
+        try {
+            return parseResponse(this.httpClient.getText(url), url);
+        } catch (HttpClientException e) {
+            throw new CicstsManagerException("CMCI GET request " + url + " failed", e);
+        }
+    }
+
+    @Override
+    public @NotNull List<CicstsHashMap> update(@NotNull String resourceTable, String criteria, String parameter, @NotNull Map<String, String> attributes) throws CicstsManagerException {
+        String body = "<request><update>" + buildElement("attributes", attributes) + "</update></request>";
+        return put(buildUrl(resourceTable, criteria, parameter), body);
+    }
+
+    @Override
+    public @NotNull List<CicstsHashMap> action(@NotNull String resourceTable, String criteria, String parameter, @NotNull String action) throws CicstsManagerException {
+        String body = "<request><action name=\"" + escape(action) + "\"/></request>";
+        return put(buildUrl(resourceTable, criteria, parameter), body);
+    }
+
+    @Override
+    public @NotNull List<CicstsHashMap> create(@NotNull String resourceTable, String parameter, @NotNull Map<String, String> attributes) throws CicstsManagerException {
+        StringBuilder body = new StringBuilder("<request><create>");
+        if (parameter != null) {
+            body.append("<parameter name=\"").append(escape(parameter)).append("\"/>");
+        }
+        body.append(buildElement("attributes", attributes));
+        body.append("</create></request>");
+
+        String url = buildUrl(resourceTable, null, null);
+        try {
+            return parseResponse(this.httpClient.postText(url, body.toString()), url);
+        } catch (HttpClientException e) {
+            throw new CicstsManagerException("CMCI POST request " + url + " failed", e);
+        }
+    }
+
+    @Override
+    public void delete(@NotNull String resourceTable, String criteria, String parameter) throws CicstsManagerException {
+        String url = buildUrl(resourceTable, criteria, parameter);
+        try {
+            parseResponse(this.httpClient.deleteText(url), url);
+        } catch (HttpClientException e) {
+            throw new CicstsManagerException("CMCI DELETE request " + url + " failed", e);
+        }
+    }
+
+    private List<CicstsHashMap> put(String url, String body) throws CicstsManagerException {
+        try {
+            return parseResponse(this.httpClient.putText(url, body), url);
+        } catch (HttpClientException e) {
+            throw new CicstsManagerException("CMCI PUT request " + url + " failed", e);
+        }
+    }
+
+    private String buildUrl(String resourceTable, String criteria, String parameter) throws CicstsManagerException {
+        StringBuilder url = new StringBuilder(CMCI_PATH);
+        url.append(resourceTable);
+        url.append("/");
+        url.append(this.cicsRegion.getApplid());
+
+        try {
+            String separator = "?";
+            if (criteria != null) {
+                url.append(separator).append("CRITERIA=").append(URLEncoder.encode("(" + criteria + ")", StandardCharsets.UTF_8.name()));
+                separator = "&";
+            }
+            if (parameter != null) {
+                url.append(separator).append("PARAMETER=").append(URLEncoder.encode(parameter, StandardCharsets.UTF_8.name()));
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new CicstsManagerException("Unable to encode the CMCI request", e);
+        }
+
+        return url.toString();
+    }
+
+    private String buildElement(String name, Map<String, String> attributes) {
+        StringBuilder element = new StringBuilder("<");
+        element.append(name);
+        for (Entry<String, String> attribute : attributes.entrySet()) {
+            element.append(" ").append(attribute.getKey().toLowerCase()).append("=\"").append(escape(attribute.getValue())).append("\"");
+        }
+        element.append("/>");
+        return element.toString();
+    }
+
+    private String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * Check the CMCI result summary and return the records of the response. A NODATA response returns an empty list
+     */
+    private List<CicstsHashMap> parseResponse(HttpClientResponse<String> response, String url) throws CicstsManagerException {
+        String content = response.getContent();
+        if (content == null || content.trim().isEmpty()) {
+            throw new CicstsManagerException("CMCI request " + url + " returned no response, HTTP status " + response.getStatusCode());
+        }
+
+        Document document;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            document = builder.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new CicstsManagerException("Unable to parse the response to CMCI request " + url + ", HTTP status " + response.getStatusCode(), e);
+        }
+
+        NodeList summaries = document.getElementsByTagName("resultsummary");
+        if (summaries.getLength() == 0) {
+            throw new CicstsManagerException("No result summary in the response to CMCI request " + url + ", HTTP status " + response.getStatusCode());
+        }
+        Element summary = (Element) summaries.item(0);
+
+        int apiResponse1;
+        try {
+            apiResponse1 = Integer.parseInt(summary.getAttribute("api_response1"));
+        } catch (NumberFormatException e) {
+            throw new CicstsManagerException("Invalid result summary in the response to CMCI request " + url, e);
+        }
+
+        List<CicstsHashMap> records = new ArrayList<>();
+        if (apiResponse1 == CMCI_NODATA) {
+            logger.trace("CMCI request " + url + " found no records");
+            return records;
+        }
+        if (apiResponse1 != CMCI_OK) {
+            throw new CicstsManagerException("CMCI request " + url + " failed, response " + summary.getAttribute("api_response1_alt") + " " + summary.getAttribute("api_response2_alt")
+            + ", HTTP status " + response.getStatusCode());
+        }
+
+        NodeList recordsList = document.getElementsByTagName("records");
+        if (recordsList.getLength() == 0) {
+            return records;
+        }
+
+        NodeList children = recordsList.item(0).getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+
+            CicstsHashMap record = new CicstsHashMap();
+            NamedNodeMap attributes = child.getAttributes();
+            for (int j = 0; j < attributes.getLength(); j++) {
+                Node attribute = attributes.item(j);
+                record.put(attribute.getNodeName().toLowerCase(), attribute.getNodeValue());
+            }
+            records.add(record);
+        }
+
+        return records;
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.internal.properties;
+
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * CICS TS Region - CMCI credentials
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name cicsts.cmci.tag.[TAG].credentials
+ * 
+ * @galasa.description The credentials id used to authenticate with the CICS management client interface (CMCI) of
+ * the CICS TS region
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default The default credentials of the zOS image of the region
+ * 
+ * @galasa.valid_values A valid credentials id
+ * 
+ * @galasa.examples 
+ * <code>cicsts.cmci.tag.PRIMARY.credentials=CMCIUSER</code><br>
+ *
+ */
+public class CmciCredentials extends CpsProperties {
+
+    public static String get(String tag) throws CicstsManagerException {
+        try {
+            return getStringNulled(CicstsPropertiesSingleton.cps(), "cmci.tag." + tag, "credentials");
+        } catch (ConfigurationPropertyStoreException e) {
+            throw new CicstsManagerException("Problem asking CPS for the CMCI credentials for tag " + tag, e); 
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.internal.properties;
+
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * CICS TS Region - CMCI use https
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name cicsts.cmci.tag.[TAG].https
+ * 
+ * @galasa.description Use https (SSL) for the CICS management client interface (CMCI) of the CICS TS region
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default true
+ * 
+ * @galasa.valid_values true or false
+ * 
+ * @galasa.examples 
+ * <code>cicsts.cmci.tag.PRIMARY.https=false</code><br>
+ *
+ */
+public class CmciHttps extends CpsProperties {
+
+    private static final boolean USE_HTTPS = true;
+
+    public static boolean get(String tag) throws CicstsManagerException {
+        try {
+            String https = getStringNulled(CicstsPropertiesSingleton.cps(), "cmci.tag." + tag, "https");
+
+            if (https == null) {
+                return USE_HTTPS;
+            }
+            return Boolean.valueOf(https);
+        } catch (ConfigurationPropertyStoreException e) {
+            throw new CicstsManagerException("Problem asking CPS for the CMCI use https property for tag " + tag, e); 
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.internal.properties;
+
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * CICS TS Region - CMCI port
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name cicsts.cmci.tag.[TAG].port
+ * 
+ * @galasa.description The port of the CICS management client interface (CMCI) of the CICS TS region. When set,
+ * CEMT and CEDA requests for the region are issued as CMCI REST requests instead of on a 3270 terminal
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default None, CEMT and CEDA use the terminal
+ * 
+ * @galasa.valid_values A valid IP port number
+ * 
+ * @galasa.examples 
+ * <code>cicsts.cmci.tag.PRIMARY.port=1490</code><br>
+ *
+ */
+public class CmciPort extends CpsProperties {
+
+    public static int get(String tag) throws CicstsManagerException {
+        String port = null;
+        try {
+            port = getStringNulled(CicstsPropertiesSingleton.cps(), "cmci.tag." + tag, "port");
+            if (port == null) {
+                return -1;
+            }
+            int portInt = Integer.parseInt(port);
+            if (portInt < 0 || portInt > 65535) {
+                throw new CicstsManagerException("Invalid value '" + port + "' for the CMCI port for tag " + tag + ". Range 0-65535");
+            }
+            return portInt;
+        } catch (NumberFormatException e) {
+            throw new CicstsManagerException("Invalid value '" + port + "' for the CMCI port for tag " + tag + ". Range 0-65535", e);
+        } catch (ConfigurationPropertyStoreException e) {
+            throw new CicstsManagerException("Problem asking CPS for the CMCI port for tag " + tag, e); 
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.internal.properties;
+
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * CICS TS startup threads
+ *
+ * @galasa.cps.property
+ *
+ * @galasa.name cicsts.startup.threads
+ *
+ * @galasa.description The number of threads used to provision the tagged CICS TS regions and to connect and logon
+ * the CICS terminals concurrently at startup. Set to 1 to provision regions and logon terminals one at a time
+ *
+ * @galasa.required No
+ *
+ * @galasa.default 8
+ *
+ * @galasa.valid_values 1 to {@link Integer#MAX_VALUE}
+ *
+ * @galasa.examples
+ * <code>cicsts.startup.threads=4</code><br>
+ *
+ */
+public class StartupThreads extends CpsProperties {
+
+    private static final int DEFAULT_STARTUP_THREADS = 8;
+
+    public static int get() throws CicstsManagerException {
+        try {
+            String threadsString = getStringNulled(CicstsPropertiesSingleton.cps(), "startup", "threads");
+
+            if (threadsString == null) {
+                return DEFAULT_STARTUP_THREADS;
+            } else {
+                int threads = Integer.parseInt(threadsString);
+                if (threads < 1) {
+                    throw new CicstsManagerException("CICS TS startup threads property must be greater than 0");
+                }
+                return threads;
+            }
+        } catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+            throw new CicstsManagerException("Problem asking the CPS for the CICS TS startup threads property", e);
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.validation.constraints.NotNull;
+
+import dev.galasa.zos3270.ITerminal;
+
+/**
+ * A structured view of a screen of a CICS supplied transaction, such as CEMT, CEDA or CECI. The screen text is split
+ * into rows once, and the message lines, the RESPONSE: and STATUS: values, the paging indicators and the
+ * keyword(value) attributes are found once, so condition checks do not rebuild and rescan the screen.
+ * <p>
+ * Use {@link #of(ITerminal)} to get the view of the current screen of a terminal. For a CICS terminal the view is
+ * cached until the screen is updated.
+ */
+public class CicsScreen {
+
+    private static final Pattern MESSAGE_ID_PATTERN = Pattern.compile("\\bDFH[A-Z]{2}\\d{4}\\b");
+    private static final Pattern RESPONSE_PATTERN   = Pattern.compile("RESPONSE:\\s*(\\S+(?: \\S+)*)");
+    private static final Pattern STATUS_PATTERN     = Pattern.compile("STATUS:\\s*(\\S+(?: \\S+)*)");
+    private static final Pattern ATTRIBUTE_PATTERN  = Pattern.compile("([A-Za-z][A-Za-z0-9]*)\\(\\s*([^)]*?)\\s*\\)");
+
+    private final String       text;
+    private final long         version;
+    private final List<String> rows;
+    private final List<String> messageLines = new ArrayList<>();
+    private final List<String> messageIds   = new ArrayList<>();
+    private final String       response;
+    private final String       status;
+    private final int          pagingIndicators;
+
+    private Map<String, String> attributes;
+
+    public CicsScreen(@NotNull String text) {
+        this(text, -1);
+    }
+
+    /**
+     * @param text    - the screen text, rows separated by new lines
+     * @param version - the version of the screen the text was taken from
+     */
+    public CicsScreen(@NotNull String text, long version) {
+        this.text = text;
+        this.version = version;
+        this.rows = Collections.unmodifiableList(Arrays.asList(text.split("\n", -1)));
+
+        String responseValue = null;
+        String statusValue = null;
+        int indicators = 0;
+        for (String row : this.rows) {
+            Matcher matcher = MESSAGE_ID_PATTERN.matcher(row);
+            if (matcher.find()) {
+                this.messageLines.add(row.trim());
+                do {
+                    this.messageIds.add(matcher.group());
+                } while (matcher.find());
+            }
+            if (responseValue == null) {
+                responseValue = find(RESPONSE_PATTERN, row);
+            }
+            if (statusValue == null) {
+                statusValue = find(STATUS_PATTERN, row);
+            }
+            if (row.trim().startsWith("+")) {
+                indicators++;
+            }
+        }
+        this.response = responseValue;
+        this.status = statusValue;
+        this.pagingIndicators = indicators;
+    }
+
+    /**
+     * Return the view of the current screen of the terminal
+     *
+     * @param terminal - the terminal
+     * @return the screen view, cached by screen version for a CICS terminal
+     */
+    public static CicsScreen of(@NotNull ITerminal terminal) {
+        if (terminal instanceof CicsTerminalImpl) {
+            return ((CicsTerminalImpl) terminal).getCicsScreen();
+        }
+        return new CicsScreen(terminal.retrieveScreen());
+    }
+
+    /**
+     * @return the screen text, rows separated by new lines
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * @return the version of the screen the view was built from, -1 if unknown
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    public List<String> getRows() {
+        return this.rows;
+    }
+
+    public boolean contains(@NotNull String text) {
+        return this.text.contains(text);
+    }
+
+    /**
+     * @return the first row containing a DFH message, or null if there is none
+     */
+    public String getMessageLine() {
+        if (this.messageLines.isEmpty()) {
+            return null;
+        }
+        return this.messageLines.get(0);
+    }
+
+    /**
+     * @return the rows containing DFH messages
+     */
+    public List<String> getMessageLines() {
+        return Collections.unmodifiableList(this.messageLines);
+    }
+
+    /**
+     * @return the DFH message ids on the screen, eg DFHAC2206
+     */
+    public List<String> getMessageIds() {
+        return Collections.unmodifiableList(this.messageIds);
+    }
+
+    /**
+     * @return the value of the RESPONSE: line, eg NORMAL, or null if there is none
+     */
+    public String getResponse() {
+        return this.response;
+    }
+
+    /**
+     * @return the value of the STATUS: line, eg COMMAND EXECUTION COMPLETE, or null if there is none
+     */
+    public String getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return the number of rows marked with a "+" paging indicator
+     */
+    public int getPagingIndicatorCount() {
+        return this.pagingIndicators;
+    }
+
+    /**
+     * Is there more data after this page of a scrolling area. CICS supplied transactions mark the first line of the
+     * area with a "+" when there is more above, and the last line when there is more below
+     *
+     * @param firstPage - true if this is the first page, which has nothing above
+     * @return true if there is another page
+     */
+    public boolean isMoreBelow(boolean firstPage) {
+        if (firstPage) {
+            return this.pagingIndicators > 0;
+        }
+        return this.pagingIndicators > 1;
+    }
+
+    /**
+     * @return the keyword(value) attributes on the screen, in screen order. The first value of a repeated keyword
+     * is returned
+     */
+    public Map<String, String> getAttributes() {
+        if (this.attributes == null) {
+            Map<String, String> map = new LinkedHashMap<>();
+            Matcher matcher = ATTRIBUTE_PATTERN.matcher(this.text);
+            while (matcher.find()) {
+                map.putIfAbsent(matcher.group(1), matcher.group(2));
+            }
+            this.attributes = Collections.unmodifiableMap(map);
+        }
+        return this.attributes;
+    }
+
+    private static String find(Pattern pattern, String row) {
+        Matcher matcher = pattern.matcher(row);
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+        return null;
+    }
+
+}
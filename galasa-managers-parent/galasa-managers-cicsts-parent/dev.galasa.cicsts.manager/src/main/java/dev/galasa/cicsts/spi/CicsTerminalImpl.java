@@ -5,6 +5,8 @@
  */
 package dev.galasa.cicsts.spi;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -14,6 +16,10 @@ import dev.galasa.cicsts.ICicsTerminal;
 import dev.galasa.framework.spi.IFramework;
 import dev.galasa.ipnetwork.IIpHost;
 import dev.galasa.ipnetwork.IpNetworkManagerException;
+import dev.galasa.zos3270.AttentionIdentification;
+import dev.galasa.zos3270.FieldNotFoundException;
+import dev.galasa.zos3270.ITerminal;
+import dev.galasa.zos3270.KeyboardLockedException;
 import dev.galasa.zos3270.TerminalInterruptedException;
 import dev.galasa.zos3270.Zos3270ManagerException;
 import dev.galasa.zos3270.spi.Zos3270TerminalImpl;
@@ -27,6 +33,10 @@ public class CicsTerminalImpl extends Zos3270TerminalImpl implements ICicsTermin
 
     public final boolean connectAtStartup;
 
+    // Incremented whenever the screen changes, so the CICS screen view is only rebuilt for a new screen
+    private final AtomicLong screenVersion = new AtomicLong();
+    private volatile CicsScreen cicsScreen;
+
     public CicsTerminalImpl(ICicstsManagerSpi cicstsManager, IFramework framework, ICicsRegionProvisioned cicsRegion, String host, int port, boolean ssl, boolean connectAtStartup)
             throws TerminalInterruptedException, Zos3270ManagerException {
         super(cicsRegion.getNextTerminalId(), host, port, ssl, framework, false);
@@ -108,4 +118,59 @@ public class CicsTerminalImpl extends Zos3270TerminalImpl implements ICicsTermin
         return this.connectAtStartup;
     }
 
+    /**
+     * @return the structured view of the current screen, only built again when the screen has been updated
+     */
+    public CicsScreen getCicsScreen() {
+        long version = this.screenVersion.get();
+        CicsScreen current = this.cicsScreen;
+        if (current == null || current.getVersion() != version) {
+            current = new CicsScreen(retrieveScreen(), version);
+            this.cicsScreen = current;
+        }
+        return current;
+    }
+
+    /**
+     * Record a change made directly to the screen rather than through this terminal, so the CICS screen view is
+     * built again
+     */
+    public void screenModified() {
+        this.screenVersion.incrementAndGet();
+    }
+
+    @Override
+    public synchronized void screenUpdated(Direction direction, AttentionIdentification aid) {
+        this.screenVersion.incrementAndGet();
+        super.screenUpdated(direction, aid);
+    }
+
+    @Override
+    public ITerminal type(String text) throws KeyboardLockedException, FieldNotFoundException {
+        super.type(text);
+        this.screenVersion.incrementAndGet();
+        return this;
+    }
+
+    @Override
+    public ITerminal eraseEof() throws KeyboardLockedException, FieldNotFoundException {
+        super.eraseEof();
+        this.screenVersion.incrementAndGet();
+        return this;
+    }
+
+    @Override
+    public ITerminal eraseInput() throws KeyboardLockedException, FieldNotFoundException {
+        super.eraseInput();
+        this.screenVersion.incrementAndGet();
+        return this;
+    }
+
+    @Override
+    public ITerminal backSpace() throws KeyboardLockedException, FieldNotFoundException {
+        super.backSpace();
+        this.screenVersion.incrementAndGet();
+        return this;
+    }
+
 }
\ No newline at end of file
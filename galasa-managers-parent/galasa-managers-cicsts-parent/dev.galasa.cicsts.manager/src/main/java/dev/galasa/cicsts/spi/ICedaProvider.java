@@ -7,6 +7,7 @@ package dev.galasa.cicsts.spi;
 
 import javax.validation.constraints.NotNull;
 
+import dev.galasa.cicsts.CicstsManagerException;
 import dev.galasa.cicsts.ICeda;
 import dev.galasa.cicsts.ICicsRegion;
 
@@ -21,8 +22,9 @@ public interface ICedaProvider {
      * 
      * @param cicsRegion
      * @return ICeda object for this CICS region, will a different instance for different regions
+     * @throws CicstsManagerException
      */
     @NotNull
-    ICeda getCeda(ICicsRegion cicsRegion);
+    ICeda getCeda(ICicsRegion cicsRegion) throws CicstsManagerException;
 
 }
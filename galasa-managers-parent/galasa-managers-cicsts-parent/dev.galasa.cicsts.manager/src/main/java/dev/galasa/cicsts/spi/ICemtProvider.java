@@ -7,6 +7,7 @@ package dev.galasa.cicsts.spi;
 
 import javax.validation.constraints.NotNull;
 
+import dev.galasa.cicsts.CicstsManagerException;
 import dev.galasa.cicsts.ICemt;
 import dev.galasa.cicsts.ICicsRegion;
 
@@ -21,8 +22,9 @@ public interface ICemtProvider {
      * 
      * @param cicsRegion
      * @return ICemt object for this CICS region, will a different instance for different regions
+     * @throws CicstsManagerException
      */
     @NotNull
-    ICemt getCemt(ICicsRegion cicsRegion);
+    ICemt getCemt(ICicsRegion cicsRegion) throws CicstsManagerException;
 
 }
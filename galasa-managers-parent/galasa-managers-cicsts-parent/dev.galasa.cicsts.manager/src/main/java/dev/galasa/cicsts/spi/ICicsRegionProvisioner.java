@@ -15,6 +15,12 @@ import dev.galasa.framework.spi.ResourceUnavailableException;
 
 public interface ICicsRegionProvisioner {
 
+    /**
+     * Provision a CICS TS region for the tag. The CICS TS Manager provisions the regions of a test concurrently, so
+     * this method can be called on several threads at once, each for a different tag
+     * 
+     * @return the region, or null if this provisioner does not provide a region for the tag
+     */
     ICicsRegionProvisioned provision(@NotNull String cicsTag, @NotNull String imageTag, @NotNull List<Annotation> annotations) throws ManagerException;
 
     void cicsProvisionGenerate() throws ManagerException, ResourceUnavailableException;
@@ -69,6 +69,16 @@ public interface ICicstsManagerSpi {
     @NotNull
     public ICemtProvider getCemtProvider() throws CicstsManagerException;
 
+    /**
+     * Returns the CICS management client interface (CMCI) client of the region, if the CMCI port of the region has
+     * been configured in the CPS
+     * 
+     * @param cicsRegion
+     * @return the CMCI client for the region or null if CMCI is not configured for the region
+     * @throws CicstsManagerException
+     */
+    public ICmciClient getCmciClient(ICicsRegion cicsRegion) throws CicstsManagerException;
+
     
     public void cicstsRegionStarted(ICicsRegion region) throws CicstsManagerException;
 
@@ -0,0 +1,117 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.spi;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+
+import dev.galasa.cicsts.CicstsHashMap;
+import dev.galasa.cicsts.CicstsManagerException;
+
+/**
+ * Issues CICS management client interface (CMCI) REST requests to a CICS region, so that CEMT and CEDA style
+ * operations can be performed without driving a 3270 terminal.
+ * 
+ * The records returned by the requests are mapped to {@link CicstsHashMap}s, keyed by the lowercase CMCI attribute
+ * names
+ *
+ */
+public interface ICmciClient {
+
+    /**
+     * Returns the CMCI resource table of the installed resources of a CEMT resource type
+     * 
+     * @param resourceType - the CEMT resource type, eg PROGRAM
+     * @return the CMCI resource table, eg CICSProgram
+     * @throws CicstsManagerException if the resource type has no CMCI resource table
+     */
+    @NotNull
+    String getResourceTable(@NotNull String resourceType) throws CicstsManagerException;
+
+    /**
+     * Returns the attribute of the CMCI resource table of a CEMT resource type that holds the resource name, for use
+     * in criteria and as the key of returned records
+     * 
+     * @param resourceType - the CEMT resource type, eg PROGRAM
+     * @return the attribute name, eg program
+     * @throws CicstsManagerException if the resource type has no CMCI resource table
+     */
+    @NotNull
+    String getResourceNameAttribute(@NotNull String resourceType) throws CicstsManagerException;
+
+    /**
+     * Returns the CMCI resource table of the CSD definitions of a CEDA resource type
+     * 
+     * @param resourceType - the CEDA resource type, eg PROGRAM
+     * @return the CMCI resource table, eg CICSDefinitionProgram
+     * @throws CicstsManagerException if the resource type has no CMCI resource table
+     */
+    @NotNull
+    String getDefinitionTable(@NotNull String resourceType) throws CicstsManagerException;
+
+    /**
+     * Retrieve the records of a resource table
+     * 
+     * @param resourceTable - the CMCI resource table
+     * @param criteria - the CMCI criteria, eg NAME=PROG1, or null for all records
+     * @param parameter - the CMCI parameter, or null
+     * @return the records found, empty if there were none
+     * @throws CicstsManagerException
+     */
+    @NotNull
+    List<CicstsHashMap> get(@NotNull String resourceTable, String criteria, String parameter) throws CicstsManagerException;
+
+    /**
+     * Update attributes of the records of a resource table
+     * 
+     * @param resourceTable - the CMCI resource table
+     * @param criteria - the CMCI criteria, or null for all records
+     * @param parameter - the CMCI parameter, or null
+     * @param attributes - the attributes to change
+     * @return the updated records
+     * @throws CicstsManagerException
+     */
+    @NotNull
+    List<CicstsHashMap> update(@NotNull String resourceTable, String criteria, String parameter, @NotNull Map<String, String> attributes) throws CicstsManagerException;
+
+    /**
+     * Perform an action on the records of a resource table
+     * 
+     * @param resourceTable - the CMCI resource table
+     * @param criteria - the CMCI criteria, or null for all records
+     * @param parameter - the CMCI parameter, or null
+     * @param action - the CMCI action, eg NEWCOPY
+     * @return the records the action was performed on
+     * @throws CicstsManagerException
+     */
+    @NotNull
+    List<CicstsHashMap> action(@NotNull String resourceTable, String criteria, String parameter, @NotNull String action) throws CicstsManagerException;
+
+    /**
+     * Create a record in a resource table
+     * 
+     * @param resourceTable - the CMCI resource table
+     * @param parameter - the CMCI create parameter, eg CSD
+     * @param attributes - the attributes of the new record
+     * @return the created records
+     * @throws CicstsManagerException
+     */
+    @NotNull
+    List<CicstsHashMap> create(@NotNull String resourceTable, String parameter, @NotNull Map<String, String> attributes) throws CicstsManagerException;
+
+    /**
+     * Delete the records of a resource table
+     * 
+     * @param resourceTable - the CMCI resource table
+     * @param criteria - the CMCI criteria, or null for all records
+     * @param parameter - the CMCI parameter, or null
+     * @throws CicstsManagerException
+     */
+    void delete(@NotNull String resourceTable, String criteria, String parameter) throws CicstsManagerException;
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import dev.galasa.cicsts.CicstsManagerException;
+
+public class TestCicstsManagerImpl {
+
+    private CicstsManagerImpl cicstsManager;
+
+    private final AtomicInteger tasksRun = new AtomicInteger();
+
+    @Before
+    public void before() {
+        this.cicstsManager = new CicstsManagerImpl();
+    }
+
+    @Test
+    public void testRunConcurrentlySingleThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(() -> {
+                this.tasksRun.incrementAndGet();
+                return Thread.currentThread() == caller;
+            });
+        }
+
+        assertThat(this.cicstsManager.runConcurrently(tasks, 1, "run tasks")).containsExactly(true, true, true);
+    }
+
+    @Test
+    public void testRunConcurrentlySingleThreadStopsAtFirstFailure() throws Exception {
+        CicstsManagerException failure = new CicstsManagerException("first");
+        List<Callable<String>> tasks = new ArrayList<>();
+        tasks.add(task("A"));
+        tasks.add(() -> {
+            this.tasksRun.incrementAndGet();
+            throw failure;
+        });
+        tasks.add(task("C"));
+
+        assertThatThrownBy(() -> this.cicstsManager.runConcurrently(tasks, 1, "run tasks")).isSameAs(failure);
+        assertThat(this.tasksRun.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRunConcurrentlyOrder() throws Exception {
+        // Every task waits for the others, so they can only complete if they run at the same time
+        CountDownLatch running = new CountDownLatch(3);
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (String result : new String[] {"A", "B", "C"}) {
+            tasks.add(() -> {
+                running.countDown();
+                if (!running.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Tasks did not run concurrently");
+                }
+                Thread.sleep("A".equals(result) ? 100 : 0);
+                return result;
+            });
+        }
+
+        assertThat(this.cicstsManager.runConcurrently(tasks, 3, "run tasks")).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    public void testRunConcurrentlySingleFailure() throws Exception {
+        CicstsManagerException managerFailure = new CicstsManagerException("manager");
+        List<Callable<String>> tasks = new ArrayList<>();
+        tasks.add(task("A"));
+        tasks.add(() -> {
+            throw managerFailure;
+        });
+        tasks.add(task("C"));
+        assertThatThrownBy(() -> this.cicstsManager.runConcurrently(tasks, 3, "run tasks")).isSameAs(managerFailure);
+        assertThat(this.tasksRun.get()).isEqualTo(2);
+
+        IllegalStateException uncheckedFailure = new IllegalStateException("unchecked");
+        tasks.set(1, () -> {
+            throw uncheckedFailure;
+        });
+        assertThatThrownBy(() -> this.cicstsManager.runConcurrently(tasks, 3, "run tasks")).isSameAs(uncheckedFailure);
+
+        IOException checkedFailure = new IOException("checked");
+        tasks.set(1, () -> {
+            throw checkedFailure;
+        });
+        assertThatThrownBy(() -> this.cicstsManager.runConcurrently(tasks, 3, "run tasks"))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessage("Failed to run tasks")
+            .hasCause(checkedFailure);
+    }
+
+    @Test
+    public void testRunConcurrentlyAggregatesFailures() throws Exception {
+        CicstsManagerException first = new CicstsManagerException("first");
+        IllegalStateException second = new IllegalStateException("second");
+        List<Callable<String>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            throw first;
+        });
+        tasks.add(task("B"));
+        tasks.add(() -> {
+            throw second;
+        });
+
+        assertThatThrownBy(() -> this.cicstsManager.runConcurrently(tasks, 2, "run tasks"))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessage("Failed to run tasks, 2 of 3 failed")
+            .hasCause(first)
+            .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(second));
+        assertThat(this.tasksRun.get()).isEqualTo(1);
+    }
+
+    private Callable<String> task(String result) {
+        return () -> {
+            this.tasksRun.incrementAndGet();
+            return result;
+        };
+    }
+}
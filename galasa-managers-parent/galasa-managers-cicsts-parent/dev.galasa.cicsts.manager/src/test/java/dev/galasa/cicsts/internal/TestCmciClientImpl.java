@@ -0,0 +1,213 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import dev.galasa.cicsts.CicstsHashMap;
+import dev.galasa.cicsts.CicstsManagerException;
+import dev.galasa.cicsts.ICicsRegion;
+import dev.galasa.cicsts.internal.properties.CicstsPropertiesSingleton;
+import dev.galasa.http.HttpClientResponse;
+import dev.galasa.http.IHttpClient;
+import dev.galasa.http.spi.IHttpManagerSpi;
+import dev.galasa.ipnetwork.IIpHost;
+import dev.galasa.testharness.TestHarnessFramework;
+import dev.galasa.zos.IZosImage;
+
+@RunWith(PowerMockRunner.class)
+public class TestCmciClientImpl {
+
+    private static final String PROGRAM_URL = "/CICSSystemManagement/CICSProgram/APPLID1";
+
+    private TestHarnessFramework framework;
+
+    private CmciClientImpl cmciClient;
+
+    private static CicstsPropertiesSingleton cicsProperties;
+
+    @Mock
+    private IHttpManagerSpi httpManager;
+
+    @Mock
+    private IHttpClient httpClient;
+
+    @Mock
+    private ICicsRegion cicsRegion;
+
+    @Mock
+    private IZosImage zosImage;
+
+    @Mock
+    private IIpHost ipHost;
+
+    @Mock
+    private HttpClientResponse<String> response;
+
+    @BeforeClass
+    public static void beforeClass() {
+        cicsProperties = new CicstsPropertiesSingleton();
+        cicsProperties.activate();
+    }
+
+    @Before
+    public void before() throws Exception {
+        this.framework = new TestHarnessFramework();
+        this.framework.cpsStore.properties.put("cicsts.cmci.tag.PRIMARY.https", "false");
+        CicstsPropertiesSingleton.setCps(this.framework.getConfigurationPropertyService("cicsts"));
+
+        when(this.httpManager.newHttpClient()).thenReturn(this.httpClient);
+        when(this.cicsRegion.getTag()).thenReturn("PRIMARY");
+        when(this.cicsRegion.getApplid()).thenReturn("APPLID1");
+        when(this.cicsRegion.getZosImage()).thenReturn(this.zosImage);
+        when(this.zosImage.getIpHost()).thenReturn(this.ipHost);
+        when(this.ipHost.getHostname()).thenReturn("cics.example.com");
+
+        this.cmciClient = new CmciClientImpl(this.httpManager, this.framework, this.cicsRegion, 1490);
+    }
+
+    @Test
+    public void testConstructor() throws Exception {
+        verify(this.httpClient).setURI(new URI("http://cics.example.com:1490"));
+        verify(this.httpClient, Mockito.times(0)).setTrustingSSLContext();
+        verify(this.httpClient).build();
+    }
+
+    @Test
+    public void testTables() throws Exception {
+        assertThat(this.cmciClient.getResourceTable("PROGRAM")).isEqualTo("CICSProgram");
+        assertThat(this.cmciClient.getResourceTable(" prog ")).isEqualTo("CICSProgram");
+        assertThat(this.cmciClient.getResourceTable("TR")).isEqualTo("CICSLocalTransaction");
+        assertThat(this.cmciClient.getDefinitionTable("TSMODEL")).isEqualTo("CICSDefinitionTSModel");
+
+        assertThat(this.cmciClient.getResourceNameAttribute("TRAN")).isEqualTo("tranid");
+        assertThat(this.cmciClient.getResourceNameAttribute("BUNDLE")).isEqualTo("name");
+
+        assertThatThrownBy(() -> this.cmciClient.getResourceTable("T"))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessage("Resource type 'T' is not supported by CMCI");
+        assertThatThrownBy(() -> this.cmciClient.getDefinitionTable("TSQUEUE"))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessage("Resource type 'TSQUEUE' is not supported by CMCI");
+    }
+
+    @Test
+    public void testGetUrl() throws Exception {
+        setResponse(nodata());
+
+        this.cmciClient.get("CICSProgram", null, null);
+        verify(this.httpClient).getText(PROGRAM_URL);
+
+        this.cmciClient.get("CICSProgram", "PROGRAM=PROG1 AND STATUS=ENABLED", null);
+        verify(this.httpClient).getText(PROGRAM_URL + "?CRITERIA=%28PROGRAM%3DPROG1+AND+STATUS%3DENABLED%29");
+
+        this.cmciClient.get("CICSProgram", null, "CSDGROUP(GRP1)");
+        verify(this.httpClient).getText(PROGRAM_URL + "?PARAMETER=CSDGROUP%28GRP1%29");
+
+        this.cmciClient.get("CICSProgram", "PROGRAM=PROG1", "CSDGROUP(GRP1)");
+        verify(this.httpClient).getText(PROGRAM_URL + "?CRITERIA=%28PROGRAM%3DPROG1%29&PARAMETER=CSDGROUP%28GRP1%29");
+    }
+
+    @Test
+    public void testRequestBodies() throws Exception {
+        setResponse(nodata());
+        when(this.httpClient.putText(Mockito.anyString(), Mockito.anyString())).thenReturn(this.response);
+        when(this.httpClient.postText(Mockito.anyString(), Mockito.anyString())).thenReturn(this.response);
+
+        LinkedHashMap<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("NAME", "PROG1");
+        attributes.put("DESCRIPTION", "<A & \"B\">");
+
+        this.cmciClient.create("CICSDefinitionProgram", "CSD", attributes);
+        verify(this.httpClient).postText("/CICSSystemManagement/CICSDefinitionProgram/APPLID1",
+                "<request><create><parameter name=\"CSD\"/><attributes name=\"PROG1\" description=\"&lt;A &amp; &quot;B&quot;&gt;\"/></create></request>");
+
+        this.cmciClient.action("CICSProgram", "PROGRAM=PROG1", null, "NEWCOPY");
+        verify(this.httpClient).putText(PROGRAM_URL + "?CRITERIA=%28PROGRAM%3DPROG1%29", "<request><action name=\"NEWCOPY\"/></request>");
+    }
+
+    @Test
+    public void testParseRecords() throws Exception {
+        setResponse("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<response xmlns=\"http://www.ibm.com/xmlns/prod/CICS/smw2int\">\n"
+                + "  <resultsummary api_response1=\"1024\" api_response2=\"0\" api_response1_alt=\"OK\" api_response2_alt=\"\" recordcount=\"2\" displayed_recordcount=\"2\"/>\n"
+                + "  <records>\n"
+                + "    <cicsprogram PROGRAM=\"PROG1\" status=\"ENABLED\"/>\n"
+                + "    <cicsprogram program=\"PROG2\" status=\"DISABLED\"/>\n"
+                + "  </records>\n"
+                + "</response>");
+
+        List<CicstsHashMap> records = this.cmciClient.get("CICSProgram", null, null);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).containsEntry("program", "PROG1").containsEntry("status", "ENABLED");
+        assertThat(records.get(1)).containsEntry("program", "PROG2").containsEntry("status", "DISABLED");
+    }
+
+    @Test
+    public void testParseNoData() throws Exception {
+        setResponse(nodata());
+
+        assertThat(this.cmciClient.get("CICSProgram", "PROGRAM=PROG1", null)).isEmpty();
+    }
+
+    @Test
+    public void testParseFailure() throws Exception {
+        setResponse("<response><resultsummary api_response1=\"1041\" api_response2=\"0\" api_response1_alt=\"NOTAVAILABLE\" api_response2_alt=\"CICSRGN\"/></response>");
+        when(this.response.getStatusCode()).thenReturn(400);
+
+        assertThatThrownBy(() -> this.cmciClient.get("CICSProgram", null, null))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessage("CMCI request " + PROGRAM_URL + " failed, response NOTAVAILABLE CICSRGN, HTTP status 400");
+    }
+
+    @Test
+    public void testParseInvalidResponses() throws Exception {
+        setResponse("");
+        assertThatThrownBy(() -> this.cmciClient.get("CICSProgram", null, null))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessageStartingWith("CMCI request " + PROGRAM_URL + " returned no response");
+
+        setResponse("<response><records/></response>");
+        assertThatThrownBy(() -> this.cmciClient.get("CICSProgram", null, null))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessageStartingWith("No result summary in the response to CMCI request " + PROGRAM_URL);
+
+        setResponse("<response><resultsummary api_response1=\"OK\"/></response>");
+        assertThatThrownBy(() -> this.cmciClient.get("CICSProgram", null, null))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessage("Invalid result summary in the response to CMCI request " + PROGRAM_URL);
+
+        setResponse("<!DOCTYPE response [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><response>&xxe;</response>");
+        assertThatThrownBy(() -> this.cmciClient.get("CICSProgram", null, null))
+            .isInstanceOf(CicstsManagerException.class)
+            .hasMessageStartingWith("Unable to parse the response to CMCI request " + PROGRAM_URL);
+    }
+
+    private void setResponse(String content) throws Exception {
+        when(this.response.getContent()).thenReturn(content);
+        when(this.httpClient.getText(Mockito.anyString())).thenReturn(this.response);
+    }
+
+    private String nodata() {
+        return "<response><resultsummary api_response1=\"1027\" api_response2=\"0\" api_response1_alt=\"NODATA\" api_response2_alt=\"\" recordcount=\"0\"/></response>";
+    }
+}
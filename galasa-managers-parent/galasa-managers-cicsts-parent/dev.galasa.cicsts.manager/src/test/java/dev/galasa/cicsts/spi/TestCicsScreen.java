@@ -0,0 +1,125 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.cicsts.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import dev.galasa.zos3270.ITerminal;
+
+public class TestCicsScreen {
+
+    private static final String CEMT_EXPANDED_FIRST_PAGE =
+              " INQUIRE PROGRAM(DFHABC)\n"
+            + " STATUS:  RESULTS - OVERTYPE TO MODIFY\n"
+            + "   Program(DFHABC  )\n"
+            + "   Length(0000000)\n"
+            + "   Language(Assembler)\n"
+            + "   Status( Enabled )\n"
+            + " + Sharestatus( Private )\n"
+            + "                                                   SYSID=CICS APPLID=APPLID1\n"
+            + " RESPONSE: NORMAL               TIME:  10.15.20  DATE: 01.01.20\n"
+            + " PF 1 HELP       3 END       5 VAR       7 SBH 8 SFH 9 MSG 10 SB 11 SF";
+
+    private static final String CEMT_SUMMARY_MIDDLE_PAGE =
+              " INQUIRE PROGRAM(DFH*)\n"
+            + " STATUS:  RESULTS - OVERTYPE TO MODIFY\n"
+            + "+ Pro(DFHABC  ) Len(0000000) Ass Pro Ena Pri\n"
+            + "  Pro(DFHDEF  ) Len(0000100) Ass Pro Ena Pri\n"
+            + "+ Pro(DFHGHI  ) Len(0000200) Ass Pro Ena Pri\n"
+            + "                                                   SYSID=CICS APPLID=APPLID1\n"
+            + " RESPONSE: NORMAL               TIME:  10.15.20  DATE: 01.01.20\n"
+            + " PF 1 HELP       3 END       5 VAR       7 SBH 8 SFH 9 MSG 10 SB 11 SF";
+
+    private static final String CEDA_MESSAGES =
+              " DEFINE PROGRAM(PROG1) GROUP(GROUP1)\n"
+            + " DFHCA5120 S  Group GROUP1 is locked to another user\n"
+            + " DFHCA5506 E  Command not executed\n"
+            + "                                                   SYSID=CICS APPLID=APPLID1\n"
+            + " DEFINE UNSUCCESSFUL                           TIME:  10.15.20  DATE: 01.01.20\n"
+            + " PF 1 HELP 2 COM 3 END            6 CRSR 7 SBH 8 SFH 9 MSG 10 SB 11 SF 12 CNCL";
+
+    @Test
+    public void testCemtExpandedResource() {
+        CicsScreen screen = new CicsScreen(CEMT_EXPANDED_FIRST_PAGE, 5);
+
+        assertThat(screen.getVersion()).isEqualTo(5);
+        assertThat(screen.getRows()).hasSize(10);
+        assertThat(screen.getResponse()).isEqualTo("NORMAL");
+        assertThat(screen.getStatus()).isEqualTo("RESULTS - OVERTYPE TO MODIFY");
+        assertThat(screen.getMessageLine()).isNull();
+        assertThat(screen.getMessageIds()).isEmpty();
+
+        assertThat(screen.getAttributes()).containsExactly(
+                entry("PROGRAM", "DFHABC"),
+                entry("Program", "DFHABC"),
+                entry("Length", "0000000"),
+                entry("Language", "Assembler"),
+                entry("Status", "Enabled"),
+                entry("Sharestatus", "Private"));
+    }
+
+    @Test
+    public void testPagingFirstPage() {
+        CicsScreen screen = new CicsScreen(CEMT_EXPANDED_FIRST_PAGE);
+
+        // The first page has a "+" on the last line only
+        assertThat(screen.getPagingIndicatorCount()).isEqualTo(1);
+        assertThat(screen.isMoreBelow(true)).isTrue();
+        assertThat(screen.isMoreBelow(false)).isFalse();
+    }
+
+    @Test
+    public void testPagingMiddlePage() {
+        CicsScreen screen = new CicsScreen(CEMT_SUMMARY_MIDDLE_PAGE);
+
+        assertThat(screen.getPagingIndicatorCount()).isEqualTo(2);
+        assertThat(screen.isMoreBelow(false)).isTrue();
+    }
+
+    @Test
+    public void testPagingNone() {
+        CicsScreen screen = new CicsScreen(CEDA_MESSAGES);
+
+        // A "+" that does not start a row is not a paging indicator
+        assertThat(new CicsScreen("  Description(A + B)\n RESPONSE: NORMAL").getPagingIndicatorCount()).isZero();
+        assertThat(screen.getPagingIndicatorCount()).isZero();
+        assertThat(screen.isMoreBelow(true)).isFalse();
+        assertThat(screen.isMoreBelow(false)).isFalse();
+    }
+
+    @Test
+    public void testCedaMessages() {
+        CicsScreen screen = new CicsScreen(CEDA_MESSAGES);
+
+        assertThat(screen.contains("DEFINE UNSUCCESSFUL")).isTrue();
+        assertThat(screen.getResponse()).isNull();
+        assertThat(screen.getMessageLine()).isEqualTo("DFHCA5120 S  Group GROUP1 is locked to another user");
+        assertThat(screen.getMessageLines()).containsExactly(
+                "DFHCA5120 S  Group GROUP1 is locked to another user",
+                "DFHCA5506 E  Command not executed");
+        assertThat(screen.getMessageIds()).containsExactly("DFHCA5120", "DFHCA5506");
+        assertThat(screen.getAttributes()).containsExactly(
+                entry("PROGRAM", "PROG1"),
+                entry("GROUP", "GROUP1"));
+    }
+
+    @Test
+    public void testOfTerminal() {
+        ITerminal terminal = mock(ITerminal.class);
+        when(terminal.retrieveScreen()).thenReturn(CEMT_SUMMARY_MIDDLE_PAGE);
+
+        CicsScreen screen = CicsScreen.of(terminal);
+
+        assertThat(screen.getText()).isEqualTo(CEMT_SUMMARY_MIDDLE_PAGE);
+        assertThat(screen.getVersion()).isEqualTo(-1);
+        assertThat(screen.getAttributes()).containsEntry("PROGRAM", "DFH*").containsEntry("Pro", "DFHABC").containsEntry("Len", "0000000");
+    }
+}
@@ -8,6 +8,7 @@ package dev.galasa.docker;
 import java.util.List;
 import java.util.Map;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 
 /**
@@ -119,6 +120,23 @@ public interface IDockerContainer {
 	 */
 	public IDockerExec exec(int timeout, String... command) throws DockerManagerException;
 
+	/**
+	 * Issue a command to a running container, writing its output to the output streams as it is 
+	 * received rather than buffering it. The streams are written from a background thread, and a 
+	 * slow stream slows the command output from the Docker Engine rather than it being buffered.
+	 * The streams are not closed.
+	 * <br>Use:-<br>
+	 * <code>container.exec(new FileOutputStream(file), System.err, 10000, "ls","-l","/var/log");</code>
+	 * 
+	 * @param stdout - receives the stdout of the command, or null to buffer it in the {@link IDockerExec}
+	 * @param stderr - receives the stderr of the command, or null to buffer it in the {@link IDockerExec}
+	 * @param timeout - A timeout in milliseconds for the command to send output
+	 * @param command - An array of command and its parameters 
+	 * @return {@link IDockerExec}
+	 * @throws DockerManagerException
+	 */
+	public IDockerExec exec(OutputStream stdout, OutputStream stderr, int timeout, String... command) throws DockerManagerException;
+
 	/**
 	 * Retrieve the full STDOUT for the Docker Container 
 	 * 
@@ -134,6 +152,17 @@ public interface IDockerContainer {
 	 * @throws DockerManagerException
 	 */
 	public String retrieveStdErr() throws DockerManagerException;
+
+	/**
+	 * Write the STDOUT and STDERR of the Docker Container to the output streams as they are received from
+	 * the Docker Engine, so the logs are not held in memory. The streams are not closed.
+	 * 
+	 * @param stdout - receives STDOUT, or null to not retrieve it
+	 * @param stderr - receives STDERR, or null to not retrieve it
+	 * @param follow - true to keep writing the logs until the container stops
+	 * @throws DockerManagerException
+	 */
+	public void streamLogs(OutputStream stdout, OutputStream stderr, boolean follow) throws DockerManagerException;
 	
 	/**
 	 * Checks with the docker engine to find the running state of this container.
@@ -11,6 +11,11 @@ import java.net.HttpURLConnection;
  * Docker Exec Resource Object that represents a command being executed on the
  * container.
  * <p>
+ * The command is run without a TTY, so its stdout and stderr are kept separate. Up to
+ * 0.14.0 the command was run with a TTY, which merged stderr into stdout and ended lines
+ * with CRLF. Commands that behave differently without a terminal, for example ones that
+ * check isatty or prompt for input, may produce different output.
+ * <p>
  * 
  * @author James Davies
  *
@@ -42,12 +47,28 @@ public interface IDockerExec {
 	public boolean isFinished();
 
 	/**
-	 * Returns the current/finished output of the command, will always return all the output
+	 * Returns the current/finished output of the command, will always return all the output. 
+	 * Stdout and stderr are interleaved in the order they were received. If the output is 
+	 * written to output streams, it is not buffered and this returns an empty string
 	 * 
 	 * @return command output
 	 */
 	public String getCurrentOutput();
 
+	/**
+	 * Returns the current/finished stdout of the command
+	 * 
+	 * @return command stdout
+	 */
+	public String getStdOut();
+
+	/**
+	 * Returns the current/finished stderr of the command
+	 * 
+	 * @return command stderr
+	 */
+	public String getStdErr();
+
 	/**
 	 * The exitcode of the command, or -1 if the command has not completed
 	 * 
@@ -55,6 +76,11 @@ public interface IDockerExec {
 	 */
 	public long getExitCode();
 
+	/**
+	 * @deprecated the output is streamed over the http client of the Docker Engine, so this always returns null
+	 * @return null
+	 */
+	@Deprecated
 	public HttpURLConnection getConnection();
 	
 	
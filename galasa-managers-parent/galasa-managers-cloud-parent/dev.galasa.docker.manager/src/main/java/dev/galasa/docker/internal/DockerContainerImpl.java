@@ -14,15 +14,22 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.GZIPOutputStream;
 
 import com.google.gson.JsonArray;
@@ -34,6 +41,7 @@ import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.methods.CloseableHttpResponse;
 
 import dev.galasa.docker.DockerManagerException;
 import dev.galasa.docker.DockerProvisionException;
@@ -42,6 +50,10 @@ import dev.galasa.docker.IDockerContainerConfig;
 import dev.galasa.docker.IDockerExec;
 import dev.galasa.docker.IDockerImage;
 import dev.galasa.docker.IDockerVolume;
+import dev.galasa.docker.internal.properties.DockerContainerPoolReset;
+import dev.galasa.docker.internal.properties.DockerContainerPooled;
+import dev.galasa.docker.internal.properties.DockerContainerReadyLog;
+import dev.galasa.docker.internal.properties.DockerContainerReadyTimeout;
 import dev.galasa.framework.spi.DynamicStatusStoreException;
 import dev.galasa.framework.spi.IDynamicStatusStoreService;
 import dev.galasa.framework.spi.IFramework;
@@ -54,6 +66,8 @@ import dev.galasa.framework.spi.IFramework;
 public class DockerContainerImpl implements IDockerContainer {
 
     private static final String CONTAINER_NAME_PREFIX = "GALASA_";
+    // The RFC 3339 timestamp the docker engine puts at the start of each log line
+    private static final Pattern LOG_TIMESTAMP = Pattern.compile("^(\\d{4}-\\d{2}-\\d{2}T\\S+) ", Pattern.MULTILINE);
 
     private IFramework framework;
     private DockerManagerImpl dockerManager;
@@ -68,6 +82,12 @@ public class DockerContainerImpl implements IDockerContainer {
     private JsonObject metadata;
     private IDockerContainerConfig userConfig;
 
+    // Set while a container is leased from the warm pool of the engine
+    private String poolHash;
+    private String runContainerName;
+    // The leased container is already running, so is not started but is still waited for and its ports found
+    private boolean leasedRunning;
+
     private boolean leaveRunning;
     private boolean alreadyUp;
     private boolean alreadyDefined;
@@ -121,10 +141,13 @@ public class DockerContainerImpl implements IDockerContainer {
     /**
      * Generates the container creation metadata with any included user definedconfig
      * 
+     * Pooled containers outlive the run, so are not labelled with the run or slot.
+     * 
      * @param config
+     * @param pooled
      * @return JsonObject
      */
-    private JsonObject generateMetadata(IDockerContainerConfig config) {
+    private JsonObject generateMetadata(IDockerContainerConfig config, boolean pooled) {
         JsonObject metadata = new JsonObject();
         metadata.addProperty("Image", this.image.getFullName());
 
@@ -135,8 +158,10 @@ public class DockerContainerImpl implements IDockerContainer {
         JsonObject labels = new JsonObject();
         labels.addProperty("GALASA", "GALASA");
         labels.addProperty("EngineId", dockerEngine.getEngineId());
-        labels.addProperty("RunId", framework.getTestRunName());
-        labels.addProperty("SlotId", dockerSlot.getSlotName());
+        if (!pooled) {
+            labels.addProperty("RunId", framework.getTestRunName());
+            labels.addProperty("SlotId", dockerSlot.getSlotName());
+        }
         metadata.add("Labels", labels);
 
         if (config == null) {
@@ -146,7 +171,8 @@ public class DockerContainerImpl implements IDockerContainer {
 
         // Envs
         JsonArray env = new JsonArray();
-        HashMap<String,String> envs = config.getEnvs();
+        // Sorted so the same config always gives the same metadata
+        TreeMap<String,String> envs = new TreeMap<>(config.getEnvs());
         if (envs.keySet().size() > 0) {
             for (String envName: envs.keySet()) {
                 env.add(envName+"="+envs.get(envName));
@@ -198,6 +224,10 @@ public class DockerContainerImpl implements IDockerContainer {
         try {
             logger.debug("Checking if container should be left running");
             checkLeaveRunning();
+            if (checkPooledContainer()) {
+                logger.info("Container '" + tag + "' is pooled under name '" + containerName + "'");
+                return;
+            }
             logger.debug("Checking the current state of the container");
             checkContainerState();
             this.image.locateImage();
@@ -205,7 +235,7 @@ public class DockerContainerImpl implements IDockerContainer {
             if (!alreadyDefined) {
                 this.image.pullImage();
                 try {
-                    this.metadata = generateMetadata(this.userConfig);
+                    this.metadata = generateMetadata(this.userConfig, false);
                     logger.debug("Creating Docker Container '" + tag + "'");
                     JsonObject newContainer = dockerEngine.createContainer(containerName, this.metadata);
                     alreadyDefined = true;
@@ -237,7 +267,10 @@ public class DockerContainerImpl implements IDockerContainer {
     @Override
     public void startWithConfig(IDockerContainerConfig config) throws DockerManagerException {
         // If defined we need to cleanup the container ready for new configuration
-        if (alreadyDefined) {
+        if (poolHash != null) {
+            logger.info("Container is pooled. Releasing it to the pool");
+            releasePooledContainer();
+        } else if (alreadyDefined) {
             logger.info("Container is already defined. Cleaning old container");
             stopDockerContainer();
             deleteContainer();
@@ -269,11 +302,16 @@ public class DockerContainerImpl implements IDockerContainer {
         try {
             logger.info("Checking container before attempting start.");
             checkContainer();
-            logger.debug("Starting docker container: " + tag);
-            dockerEngine.startContainer(containerID);
-            logger.info("Started Docker container: " + tag);
-            Thread.sleep(2000);
+            if (leasedRunning) {
+                logger.info("Using the running pooled Docker container: " + tag);
+            } else if (!alreadyUp) {
+                logger.debug("Starting docker container: " + tag);
+                dockerEngine.startContainer(containerID);
+                logger.info("Started Docker container: " + tag);
+            }
+            waitForReady();
             alreadyUp = true;
+            leasedRunning = false;
         } catch (Exception e) {
             throw new DockerManagerException("Failed to start docker container: " + tag, e);
         }
@@ -301,6 +339,7 @@ public class DockerContainerImpl implements IDockerContainer {
         if (!isRunning()) {
             logger.info("Stop command ignored, container already stopped.");
             alreadyUp = false;
+            leasedRunning = false;
             return;
         }
         try {
@@ -308,6 +347,7 @@ public class DockerContainerImpl implements IDockerContainer {
             killContainer();
             logger.info("Container " + this.tag + " has stopped");
             alreadyUp = false;
+            leasedRunning = false;
         } catch (DockerManagerException e) {
             throw new DockerManagerException("Unable to stop docker container: " + this.tag, e);
         }
@@ -460,6 +500,21 @@ public class DockerContainerImpl implements IDockerContainer {
         return new DockerExecImpl(framework, dockerManager, this, timeout, command);
     }
 
+    /**
+     * Submit exec commands to be executed on the docker container, with the output
+     * written to the output streams as it is received.
+     * 
+     * @param stdout
+     * @param stderr
+     * @param timeout
+     * @param String... commands
+     * @return IDockerExec
+     */
+    @Override
+    public IDockerExec exec(OutputStream stdout, OutputStream stderr, int timeout, String... command) throws DockerManagerException {
+        return new DockerExecImpl(framework, dockerManager, this, timeout, stdout, stderr, command);
+    }
+
     /**
      * Retrieves any stdOut from the container
      * 
@@ -467,7 +522,11 @@ public class DockerContainerImpl implements IDockerContainer {
      */
     @Override
     public String retrieveStdOut() throws DockerManagerException {
-        return dockerEngine.getLog("/containers/" + containerID + "/logs?stdout=true&timestamps=true");
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        if (!writeLogs(stdout, null, false, true)) {
+            return null;
+        }
+        return new String(stdout.toByteArray(), StandardCharsets.UTF_8);
     }
 
     /**
@@ -477,7 +536,86 @@ public class DockerContainerImpl implements IDockerContainer {
      */
     @Override
     public String retrieveStdErr() throws DockerManagerException {
-        return dockerEngine.getLog("/containers/" + containerID + "/logs?stderr=true&timestamps=true");
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        if (!writeLogs(null, stderr, false, true)) {
+            return null;
+        }
+        return new String(stderr.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams the stdOut and stdErr of the container to the output streams
+     * 
+     * @param stdout
+     * @param stderr
+     * @param follow
+     * @throws DockerManagerException
+     */
+    @Override
+    public void streamLogs(OutputStream stdout, OutputStream stderr, boolean follow) throws DockerManagerException {
+        if (!writeLogs(stdout, stderr, follow, false)) {
+            throw new DockerManagerException("Unable to retrieve the logs of Docker Container '" + tag + "' as it does not exist");
+        }
+    }
+
+    /**
+     * Writes the logs of the container to the output streams as they are received, splitting them 
+     * into stdOut and stdErr unless the container has a TTY.
+     * 
+     * @param stdout
+     * @param stderr
+     * @param follow
+     * @param timestamps
+     * @return boolean false if the container does not exist
+     * @throws DockerManagerException
+     */
+    private boolean writeLogs(OutputStream stdout, OutputStream stderr, boolean follow, boolean timestamps) throws DockerManagerException {
+        if (containerID == null) {
+            return false;
+        }
+        JsonObject container = dockerEngine.getContainer(containerID);
+        if (container == null) {
+            return false;
+        }
+        if (stdout == null && stderr == null) {
+            return true;
+        }
+        boolean tty = isTty(container);
+
+        try (CloseableHttpResponse response = dockerEngine.getLogs(containerID, stdout != null, stderr != null, follow, timestamps)) {
+            if (response == null) {
+                return false;
+            }
+            DockerStreamDemultiplexer.copy(response.getEntity().getContent(), !tty, stdout, stderr);
+            return true;
+        } catch (IOException e) {
+            throw new DockerManagerException("Failed to read the logs of Docker Container '" + tag + "'", e);
+        }
+    }
+
+    /**
+     * Reads the log of the container written since a time, each line prefixed with its timestamp
+     * 
+     * @param container - the container information
+     * @param since - the UNIX timestamp of the first line, or null for the whole log
+     * @return String the log
+     * @throws DockerManagerException
+     */
+    private String readLogSince(JsonObject container, String since) throws DockerManagerException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        try (CloseableHttpResponse response = dockerEngine.getLogs(containerID, true, true, false, true, since)) {
+            if (response != null) {
+                DockerStreamDemultiplexer.copy(response.getEntity().getContent(), !isTty(container), log, log);
+            }
+        } catch (IOException e) {
+            throw new DockerManagerException("Failed to read the logs of Docker Container '" + tag + "'", e);
+        }
+        return new String(log.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private boolean isTty(JsonObject container) {
+        JsonObject config = container.getAsJsonObject("Config");
+        return config != null && config.has("Tty") && config.get("Tty").getAsBoolean();
     }
 
     /**
@@ -603,6 +741,203 @@ public class DockerContainerImpl implements IDockerContainer {
         }
     }
 
+    /**
+     * Used by the checkContainer() to lease a container from the warm pool of the docker engine, or to create a new
+     * pooled container if there is no free one, when the container is opted in to the pool.
+     * 
+     * Containers that are to be left running or that mount volumes are not pooled.
+     * 
+     * @return boolean true if the container is pooled
+     * @throws DockerManagerException
+     */
+    private boolean checkPooledContainer() throws DockerManagerException {
+        if (poolHash != null) {
+            return true;
+        }
+        if (leaveRunning || !DockerContainerPooled.get(tag)) {
+            return false;
+        }
+        if (userConfig != null && !userConfig.getVolumes().isEmpty()) {
+            logger.info("Docker Container '" + tag + "' mounts volumes, so is not pooled");
+            return false;
+        }
+
+        this.image.locateImage();
+        this.image.pullImage();
+        this.metadata = generateMetadata(this.userConfig, true);
+        String hash = DockerContainerPool.getConfigHash(this.metadata);
+        this.metadata.getAsJsonObject("Labels").addProperty(DockerContainerPool.LABEL, hash);
+
+        DockerContainerPool pool = dockerEngine.getContainerPool();
+        String runName = framework.getTestRunName();
+        String name;
+        while ((name = pool.lease(hash, runName)) != null) {
+            JsonObject container = dockerEngine.getContainer(name);
+            if (container != null) {
+                containerID = container.get("Id").getAsString();
+                if (resetPooledContainer()) {
+                    usePooledContainer(hash, name, true);
+                    return true;
+                }
+            }
+            pool.remove(hash, name);
+        }
+
+        name = pool.allocate(hash, runName);
+        try {
+            logger.debug("Creating pooled Docker Container '" + tag + "'");
+            JsonObject newContainer = dockerEngine.createContainer(name, this.metadata);
+            containerID = newContainer.get("Id").getAsString();
+        } catch (DockerManagerException | RuntimeException e) {
+            pool.remove(hash, name);
+            throw new DockerManagerException("Unable to create the pooled Docker Container '" + this.tag + "'", e);
+        }
+        usePooledContainer(hash, name, false);
+        return true;
+    }
+
+    private void usePooledContainer(String hash, String name, boolean running) {
+        this.poolHash = hash;
+        this.runContainerName = this.containerName;
+        this.containerName = name;
+        this.alreadyDefined = true;
+        this.alreadyUp = false;
+        this.leasedRunning = running;
+    }
+
+    /**
+     * Runs the pool reset command, if there is one, in a leased pooled container.
+     * 
+     * @return boolean true if the container was reset
+     * @throws DockerManagerException
+     */
+    private boolean resetPooledContainer() throws DockerManagerException {
+        List<String> command = DockerContainerPoolReset.get(tag);
+        if (command.isEmpty()) {
+            return true;
+        }
+
+        int timeout = DockerContainerReadyTimeout.get(tag) * 1000;
+        logger.info("Resetting pooled Docker Container '" + tag + "'");
+        try {
+            IDockerExec exec = new DockerExecImpl(framework, dockerManager, this, timeout, command.toArray(new String[0]));
+            if (!exec.waitForExec(timeout)) {
+                logger.warn("Reset of pooled Docker Container '" + tag + "' did not complete");
+                return false;
+            }
+            if (exec.getExitCode() != 0) {
+                logger.warn("Reset of pooled Docker Container '" + tag + "' ended with exit code " + exec.getExitCode()
+                        + "\n" + exec.getCurrentOutput());
+                return false;
+            }
+        } catch (DockerManagerException e) {
+            logger.warn("Unable to reset pooled Docker Container '" + tag + "'", e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a leased container to the warm pool if it is still running, otherwise removes it from the pool.
+     * 
+     * @throws DockerManagerException
+     */
+    private void releasePooledContainer() throws DockerManagerException {
+        DockerContainerPool pool = dockerEngine.getContainerPool();
+        if (isRunning()) {
+            pool.release(poolHash, containerName, framework.getTestRunName());
+        } else {
+            pool.remove(poolHash, containerName);
+        }
+
+        containerName = runContainerName;
+        containerID = null;
+        poolHash = null;
+        leasedRunning = false;
+        alreadyDefined = false;
+        alreadyUp = false;
+        exposedPorts.clear();
+    }
+
+    /**
+     * Waits for a started container to be ready. The container is ready when the image health check reports it
+     * healthy. If the image has no health check, it is ready when the ready log pattern is found in its log, or as
+     * soon as it is running if no pattern is set.
+     * 
+     * Each poll reads only the log written since the last line of the previous poll, which is read again so a pattern
+     * spanning two lines is still found.
+     * 
+     * @throws DockerManagerException
+     */
+    private void waitForReady() throws DockerManagerException {
+        Pattern readyLog = DockerContainerReadyLog.get(tag);
+        int timeout = DockerContainerReadyTimeout.get(tag);
+        long endTime = System.currentTimeMillis() + timeout * 1000L;
+        String since = null;
+
+        while (true) {
+            JsonObject container = dockerEngine.getContainer(containerID);
+            if (container == null) {
+                throw new DockerManagerException("Docker Container '" + tag + "' no longer exists");
+            }
+            JsonObject state = container.getAsJsonObject("State");
+            if (!state.get("Running").getAsBoolean()) {
+                throw new DockerManagerException("Docker Container '" + tag + "' stopped before it was ready, exit code "
+                        + state.get("ExitCode").getAsLong());
+            }
+
+            JsonElement health = state.get("Health");
+            if (health != null && health.isJsonObject()) {
+                String status = health.getAsJsonObject().get("Status").getAsString();
+                if ("healthy".equals(status)) {
+                    break;
+                }
+                if ("unhealthy".equals(status)) {
+                    throw new DockerManagerException("Docker Container '" + tag + "' health check reports it unhealthy");
+                }
+            } else if (readyLog == null) {
+                break;
+            } else {
+                String log = readLogSince(container, since);
+                Matcher line = LOG_TIMESTAMP.matcher(log);
+                while (line.find()) {
+                    since = getUnixTimestamp(line.group(1), since);
+                }
+                if (readyLog.matcher(line.replaceAll("")).find()) {
+                    break;
+                }
+            }
+
+            if (System.currentTimeMillis() >= endTime) {
+                throw new DockerManagerException("Docker Container '" + tag + "' was not ready within " + timeout + " seconds");
+            }
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DockerManagerException("Interrupted waiting for Docker Container '" + tag + "' to be ready", e);
+            }
+        }
+        logger.info("Docker Container '" + tag + "' is ready");
+    }
+
+    /**
+     * Converts the RFC 3339 timestamp of a log line to the UNIX timestamp the docker engine takes for the logs since a
+     * time
+     * 
+     * @param timestamp - the timestamp of the log line
+     * @param previous - returned if the timestamp is not valid
+     * @return String seconds and nanoseconds since the epoch
+     */
+    private static String getUnixTimestamp(String timestamp, String previous) {
+        try {
+            Instant instant = Instant.parse(timestamp);
+            return instant.getEpochSecond() + "." + String.format("%09d", instant.getNano());
+        } catch (DateTimeParseException e) {
+            return previous;
+        }
+    }
+
     /**
      * Deletes the container from the docker engine
      * 
@@ -654,7 +989,11 @@ public class DockerContainerImpl implements IDockerContainer {
         }
 
         try {
-            deleteContainer();
+            if (poolHash != null) {
+                releasePooledContainer();
+            } else {
+                deleteContainer();
+            }
         } catch (DockerManagerException e) {
             throw new DockerManagerException("Unable to stop container: " + tag, e);
         }
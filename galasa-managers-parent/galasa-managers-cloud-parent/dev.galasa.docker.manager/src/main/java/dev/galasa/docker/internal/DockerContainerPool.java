@@ -0,0 +1,251 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonObject;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.DynamicStatusStoreException;
+import dev.galasa.framework.spi.IDynamicStatusStoreService;
+
+/**
+ * The warm container pool of a docker engine. Pooled containers are kept running on the engine between runs and are
+ * leased to one run at a time. A pool is kept for each image and configuration, identified by a hash of the container
+ * creation metadata.
+ *
+ * The pool is recorded in the DSS, the state of each container being free or the name of the run that has leased it:
+ * <pre>
+ * engine.[engineId].pool.[hash].container.[name]=free|[runName]
+ * engine.[engineId].pool.[hash].container.[name].lastused=[instant]
+ * </pre>
+ * Idle and abandoned containers are removed by the {@link DockerContainerResourceMonitor}.
+ *
+ * Leased containers run in the slot of the run that leased them. Free containers are still running on the engine, so
+ * they count against the slots of the engine too, and are evicted when a run needs the slot.
+ */
+public class DockerContainerPool {
+    public static final String               FREE             = "free";
+    public static final String               LABEL            = "GalasaPool";
+    public static final String               NAME_PREFIX      = "GALASA_POOL_";
+    public static final String               LAST_USED_SUFFIX = ".lastused";
+    public static final String               EVICTING         = "evicting";
+
+    private static final Log                 logger           = LogFactory.getLog(DockerContainerPool.class);
+
+    private final DockerEngineImpl           engine;
+    private final IDynamicStatusStoreService dss;
+
+    public DockerContainerPool(DockerEngineImpl engine, IDynamicStatusStoreService dss) {
+        this.engine = engine;
+        this.dss = dss;
+    }
+
+    /**
+     * Returns the hash identifying the pool of containers created with the metadata. The metadata must not contain
+     * anything specific to a run.
+     *
+     * @param metadata - the container creation metadata
+     * @return String
+     * @throws DockerManagerException
+     */
+    public static String getConfigHash(JsonObject metadata) throws DockerManagerException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(metadata.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                sb.append(String.format("%02x", hash[i]));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new DockerManagerException("Unable to hash the docker container configuration", e);
+        }
+    }
+
+    /**
+     * Lease a free running container from the pool. Containers recorded as free that are no longer running are
+     * removed from the pool.
+     *
+     * @param hash - the pool hash
+     * @param runName - the run leasing the container
+     * @return String the name of the leased container, or null if there is no free container
+     * @throws DockerManagerException
+     */
+    public String lease(String hash, String runName) throws DockerManagerException {
+        String prefix = getPropertyPrefix(hash);
+        try {
+            for (Map.Entry<String, String> entry : this.dss.getPrefix(prefix).entrySet()) {
+                String name = entry.getKey().substring(prefix.length());
+                if (name.contains(".") || !FREE.equals(entry.getValue())) {
+                    continue;
+                }
+                if (!this.dss.putSwap(entry.getKey(), FREE, runName)) {
+                    // Leased by another run in the meantime
+                    continue;
+                }
+
+                JsonObject container = this.engine.getContainer(name);
+                if (container == null || !container.getAsJsonObject("State").get("Running").getAsBoolean()) {
+                    logger.info("Pooled Docker Container " + name + " is no longer running, removing it from the pool");
+                    remove(hash, name);
+                    continue;
+                }
+
+                logger.info("Leased pooled Docker Container " + name + " on engine " + this.engine.getEngineId());
+                return name;
+            }
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to lease a pooled docker container", e);
+        }
+        return null;
+    }
+
+    /**
+     * Reserve the name of a new container of the pool, leased to the run
+     *
+     * @param hash - the pool hash
+     * @param runName - the run leasing the container
+     * @return String the container name
+     * @throws DockerManagerException
+     */
+    public String allocate(String hash, String runName) throws DockerManagerException {
+        String prefix = getPropertyPrefix(hash);
+        try {
+            for (int i = 0;; i++) {
+                String name = NAME_PREFIX + hash + "_" + i;
+                if (this.dss.putSwap(prefix + name, null, runName)) {
+                    return name;
+                }
+            }
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to allocate a pooled docker container", e);
+        }
+    }
+
+    /**
+     * Return a leased container to the pool
+     *
+     * @param hash - the pool hash
+     * @param name - the container name
+     * @param runName - the run that leased the container
+     * @throws DockerManagerException
+     */
+    public void release(String hash, String name, String runName) throws DockerManagerException {
+        String key = getPropertyPrefix(hash) + name;
+        try {
+            this.dss.put(key + LAST_USED_SUFFIX, Instant.now().toString());
+            if (!this.dss.putSwap(key, runName, FREE)) {
+                logger.warn("Pooled Docker Container " + name + " was not leased by run " + runName + ", not releasing it");
+                return;
+            }
+            logger.info("Released pooled Docker Container " + name + " to the pool");
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to release the pooled docker container " + name, e);
+        }
+    }
+
+    /**
+     * Delete a container from the engine and remove it from the pool
+     *
+     * @param hash - the pool hash
+     * @param name - the container name
+     * @throws DockerManagerException
+     */
+    public void remove(String hash, String name) throws DockerManagerException {
+        String key = getPropertyPrefix(hash) + name;
+        if (this.engine.getContainer(name) != null) {
+            this.engine.deleteContainer(name);
+        }
+        try {
+            Set<String> keys = new HashSet<>();
+            keys.add(key);
+            keys.add(key + LAST_USED_SUFFIX);
+            this.dss.delete(keys);
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to remove the pooled docker container " + name + " from the pool", e);
+        }
+        logger.info("Removed Docker Container " + name + " from the pool");
+    }
+
+    /**
+     * Returns the number of free containers in all the pools of the engine
+     *
+     * @return int
+     * @throws DockerManagerException
+     */
+    public int countFree() throws DockerManagerException {
+        try {
+            int free = 0;
+            for (Map.Entry<String, String> entry : this.dss.getPrefix(getPoolPrefix()).entrySet()) {
+                if (!entry.getKey().endsWith(LAST_USED_SUFFIX) && FREE.equals(entry.getValue())) {
+                    free++;
+                }
+            }
+            return free;
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to count the free pooled docker containers", e);
+        }
+    }
+
+    /**
+     * Remove the free container that has been idle the longest from the pools of the engine, to make room for a
+     * container of a run
+     *
+     * @return boolean false if there is no free container
+     * @throws DockerManagerException
+     */
+    public boolean evictFree() throws DockerManagerException {
+        String poolPrefix = getPoolPrefix();
+        try {
+            Map<String, String> pools = this.dss.getPrefix(poolPrefix);
+            List<String> free = new ArrayList<>();
+            for (Map.Entry<String, String> entry : pools.entrySet()) {
+                if (!entry.getKey().endsWith(LAST_USED_SUFFIX) && FREE.equals(entry.getValue())) {
+                    free.add(entry.getKey());
+                }
+            }
+            // Containers without a last used time sort first
+            free.sort(Comparator.comparing(key -> pools.getOrDefault(key + LAST_USED_SUFFIX, "")));
+
+            for (String key : free) {
+                // Make sure the container is not leased while it is evicted
+                if (!this.dss.putSwap(key, FREE, EVICTING)) {
+                    continue;
+                }
+                String hash = key.substring(poolPrefix.length(), key.indexOf('.', poolPrefix.length()));
+                String name = key.substring(key.lastIndexOf('.') + 1);
+                logger.info("Evicting free pooled Docker Container " + name + " from engine " + this.engine.getEngineId());
+                remove(hash, name);
+                return true;
+            }
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to evict a free pooled docker container", e);
+        }
+        return false;
+    }
+
+    private String getPoolPrefix() {
+        return "engine." + this.engine.getEngineId() + ".pool.";
+    }
+
+    private String getPropertyPrefix(String hash) {
+        return getPoolPrefix() + hash + ".container.";
+    }
+}
@@ -2,17 +2,25 @@ package dev.galasa.docker.internal;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.gson.Gson;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import dev.galasa.docker.DockerManagerException;
 import dev.galasa.docker.internal.json.DockerContainerJSON;
+import dev.galasa.docker.internal.properties.DockerImageCacheTimeout;
+import dev.galasa.docker.internal.properties.DockerPoolIdleTimeout;
 import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
 import dev.galasa.framework.spi.FrameworkException;
 import dev.galasa.framework.spi.IConfigurationPropertyStoreService;
@@ -25,7 +33,7 @@ import dev.galasa.http.IHttpClient;
 import dev.galasa.http.StandAloneHttpClient;
 
 /**
- * Resource monitor for cleaning up orphaned containers.
+ * Resource monitor for cleaning up orphaned containers, and for evicting idle containers from the warm container pools.
  * 
  * @author James Davies
  */
@@ -57,6 +65,8 @@ public class DockerContainerResourceMonitor implements Runnable {
         updateDockerEngines();
 
         for (String engine : this.dockerEngines.keySet()) {
+            checkPool(engine);
+            checkImages(engine);
             List<String> containers = getOrphanedContainers(engine, this.dockerEngines.get(engine));
             logger.info("Engine " + engine + " has " + containers.size() + " orphaned containers found");
             if (containers.size() > 0) {
@@ -86,6 +96,106 @@ public class DockerContainerResourceMonitor implements Runnable {
         }        
     }
 
+    /**
+     * Removes the pool records of containers that have been idle for longer than the idle timeout, or that are leased
+     * by runs that have gone. The containers are then orphaned and removed with the others.
+     * @param engine
+     */
+    private void checkPool(String engine) {
+        try {
+            Map<String, String> pool = dss.getPrefix("engine." + engine + ".pool.");
+            if (pool.isEmpty()) {
+                return;
+            }
+            Set<String> activeRunNames = this.framework.getFrameworkRuns().getActiveRunNames();
+            Instant idleLimit = Instant.now().minusSeconds(DockerPoolIdleTimeout.get(cps, engine));
+
+            for (Map.Entry<String, String> entry : pool.entrySet()) {
+                String key = entry.getKey();
+                String state = entry.getValue();
+                if (key.endsWith(DockerContainerPool.LAST_USED_SUFFIX)) {
+                    continue;
+                }
+
+                if (DockerContainerPool.FREE.equals(state)) {
+                    if (!isIdle(pool.get(key + DockerContainerPool.LAST_USED_SUFFIX), idleLimit)) {
+                        continue;
+                    }
+                    // Make sure the container is not leased while it is evicted
+                    if (!dss.putSwap(key, DockerContainerPool.FREE, DockerContainerPool.EVICTING)) {
+                        continue;
+                    }
+                    logger.info("Evicting idle pooled container " + key.substring(key.lastIndexOf('.') + 1) + " from engine " + engine);
+                } else if (!activeRunNames.contains(state)) {
+                    logger.info("Removing pooled container " + key.substring(key.lastIndexOf('.') + 1) + " from engine " + engine + " as run " + state + " has gone");
+                } else {
+                    continue;
+                }
+
+                Set<String> keys = new HashSet<>();
+                keys.add(key);
+                keys.add(key + DockerContainerPool.LAST_USED_SUFFIX);
+                dss.delete(keys);
+            }
+        } catch (FrameworkException | DockerManagerException e) {
+            logger.error("Failed to check the container pool of engine " + engine, e);
+        }
+    }
+
+    /**
+     * Removes the claims on image pulls held by runs that have gone, so other runs waiting for the pull can carry on, 
+     * and the records of pulled images that are older than the image cache timeout
+     * @param engine
+     */
+    private void checkImages(String engine) {
+        try {
+            Map<String, String> images = dss.getPrefix("engine." + engine + ".image.");
+            Set<String> activeRunNames = null;
+            Duration cacheTimeout = null;
+            for (Map.Entry<String, String> entry : images.entrySet()) {
+                String key = entry.getKey();
+                if (key.endsWith(DockerImagePullCoordinator.PULL_SUFFIX)) {
+                    if (activeRunNames == null) {
+                        activeRunNames = this.framework.getFrameworkRuns().getActiveRunNames();
+                    }
+                    if (!activeRunNames.contains(entry.getValue())) {
+                        logger.info("Removing the claim on image pull " + key + " as run " + entry.getValue() + " has gone");
+                        dss.delete(key);
+                    }
+                } else if (key.endsWith(DockerImagePullCoordinator.PULLED_SUFFIX)) {
+                    if (cacheTimeout == null) {
+                        cacheTimeout = Duration.ofSeconds(DockerImageCacheTimeout.get(cps, engine));
+                    }
+                    String prefix = key.substring(0, key.length() - DockerImagePullCoordinator.PULLED_SUFFIX.length() + 1);
+                    String name = images.get(prefix + "name");
+                    if ((name == null || !DockerImagePullCoordinator.isDigest(name))
+                            && DockerImagePullCoordinator.isExpired(entry.getValue(), cacheTimeout)) {
+                        logger.info("Removing the record of pulled image " + (name == null ? key : name) + " as it has expired");
+                        Set<String> keys = new HashSet<>();
+                        keys.add(key);
+                        keys.add(prefix + "name");
+                        keys.add(prefix + "id");
+                        keys.add(prefix + "digest");
+                        dss.delete(keys);
+                    }
+                }
+            }
+        } catch (FrameworkException | DockerManagerException e) {
+            logger.error("Failed to check the images of engine " + engine, e);
+        }
+    }
+
+    private boolean isIdle(String lastUsed, Instant idleLimit) {
+        if (lastUsed == null) {
+            return true;
+        }
+        try {
+            return Instant.parse(lastUsed).isBefore(idleLimit);
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+
     /**
      * Looks at all containers on a Engine, locates Galasa specifics and ensures they have a decicated slot
      * @param engine
@@ -103,6 +213,16 @@ public class DockerContainerResourceMonitor implements Runnable {
 
             DockerContainerJSON[] activeContainers = gson.fromJson(resp.getContent(), DockerContainerJSON[].class);
             for (DockerContainerJSON container : activeContainers) {
+                // Pooled containers are kept while they are recorded in the pool
+                String pool = container.getLabels().getGalasaPool();
+                if (pool != null) {
+                    String name = container.getNames()[0].replaceFirst("^/", "");
+                    if (dss.get("engine." + engine + ".pool." + pool + ".container." + name) == null) {
+                        orphanedContainers.add(container.getId());
+                    }
+                    continue;
+                }
+
                 String runName = container.getLabels().getRunId();
                 String slotId = container.getLabels().getSlotId();
                 // Other non Galasa pod
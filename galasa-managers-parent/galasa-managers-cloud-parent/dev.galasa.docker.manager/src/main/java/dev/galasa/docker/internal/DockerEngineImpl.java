@@ -8,22 +8,32 @@ package dev.galasa.docker.internal;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.validation.constraints.NotNull;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonStreamParser;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
 
 import dev.galasa.docker.DockerManagerException;
 import dev.galasa.docker.DockerProvisionException;
@@ -36,6 +46,7 @@ import dev.galasa.docker.internal.properties.DockerSlots;
 import dev.galasa.framework.spi.DynamicStatusStoreException;
 import dev.galasa.framework.spi.IDynamicStatusStoreService;
 import dev.galasa.framework.spi.IFramework;
+import dev.galasa.http.ContentType;
 import dev.galasa.http.HttpClientException;
 import dev.galasa.http.HttpClientResponse;
 import dev.galasa.http.IHttpClient;
@@ -45,6 +56,8 @@ public class DockerEngineImpl implements IDockerEngine {
 	private DockerManagerImpl dockerManager;
 	private final IHttpClient dockerEngineClient;
 	private final IDynamicStatusStoreService dss;
+	private final DockerImagePullCoordinator imagePulls;
+	private final DockerContainerPool containerPool;
 
 	private URI uri;
 
@@ -69,6 +82,8 @@ public class DockerEngineImpl implements IDockerEngine {
 		this.dockerManager = dockerManager;
 		this.dockerEngineTag = dockerEngineTag;
 		this.dss = dss;
+		this.imagePulls = new DockerImagePullCoordinator(this, dss, framework.getTestRunName());
+		this.containerPool = new DockerContainerPool(this, dss);
 
 		this.dockerEngineClient = dockerManager.httpManager.newHttpClient();
 		try {
@@ -174,53 +189,267 @@ public class DockerEngineImpl implements IDockerEngine {
 	}
 
 	/**
-	 * Retrieve docker logs from a docker container from the url
+	 * Retrieve the logs of a docker container. The response is returned with the logs unread, so they can be
+	 * streamed, and must be closed by the caller. The logs are multiplexed unless the container has a TTY
 	 * 
-	 * @param path
-	 * @return
+	 * @param containerId
+	 * @param stdout - include stdout
+	 * @param stderr - include stderr
+	 * @param follow - keep the logs open until the container stops
+	 * @param timestamps - prefix each line with its timestamp
+	 * @return CloseableHttpResponse, or null if the container does not exist
 	 * @throws DockerManagerException
 	 */
-	public String getLog(String path) throws DockerManagerException {
-		try {
-			HttpClientResponse<String> response = dockerEngineClient.getText(path);
-
-			String repsString = response.getContent();
+	public CloseableHttpResponse getLogs(@NotNull String containerId, boolean stdout, boolean stderr, boolean follow,
+			boolean timestamps) throws DockerManagerException {
+		return getLogs(containerId, stdout, stderr, follow, timestamps, null);
+	}
 
-			switch (response.getStatusCode()) {
-			case HttpStatus.SC_OK:
-				return repsString;
-			case HttpStatus.SC_NOT_FOUND:
+	/**
+	 * Retrieve the logs of a docker container written since a time. The response is returned with the logs unread, 
+	 * so they can be streamed, and must be closed by the caller. The logs are multiplexed unless the container has a TTY
+	 * 
+	 * @param containerId
+	 * @param stdout - include stdout
+	 * @param stderr - include stderr
+	 * @param follow - keep the logs open until the container stops
+	 * @param timestamps - prefix each line with its timestamp
+	 * @param since - the UNIX timestamp of the first line, with fractional seconds, or null for all the logs
+	 * @return CloseableHttpResponse, or null if the container does not exist
+	 * @throws DockerManagerException
+	 */
+	public CloseableHttpResponse getLogs(@NotNull String containerId, boolean stdout, boolean stderr, boolean follow,
+			boolean timestamps, String since) throws DockerManagerException {
+		String path = "/containers/" + containerId + "/logs?stdout=" + stdout + "&stderr=" + stderr + "&follow="
+				+ follow + "&timestamps=" + timestamps;
+		if (since != null) {
+			path += "&since=" + since;
+		}
+		try {
+			CloseableHttpResponse response = dockerEngineClient.getFile(path, ContentType.APPLICATION_OCTET_STREAM);
+			if (response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+				response.close();
 				return null;
 			}
+			return checkStreamResponse("Log get", response);
+		} catch (HttpClientException | IOException e) {
+			throw new DockerManagerException("Log get failed to docker engine", e);
+		}
+	}
 
-			logger.error(
-					"Get Log failed to docker engine - " + response.getStatusLine().toString() + "\n" + repsString);
-			throw new DockerManagerException(
-					"Log Get failed to docker engine - " + response.getStatusLine().toString());
-		} catch (Exception e) {
-			throw new DockerManagerException("Get Log failed to docker engine", e);
+	/**
+	 * Start an exec created on a docker container. The response is returned with the output of the command unread,
+	 * so it can be streamed as the command runs, and must be closed by the caller. The output is multiplexed unless
+	 * the exec was created with a TTY
+	 * 
+	 * @param execId
+	 * @param tty - true if the exec was created with a TTY
+	 * @return CloseableHttpResponse
+	 * @throws DockerManagerException
+	 */
+	public CloseableHttpResponse startExec(@NotNull String execId, boolean tty) throws DockerManagerException {
+		JsonObject start = new JsonObject();
+		start.addProperty("Detach", false);
+		start.addProperty("Tty", tty);
+
+		try {
+			CloseableHttpResponse response = dockerEngineClient.postStream("/exec/" + execId + "/start", null,
+					ContentType.APPLICATION_JSON,
+					new StringEntity(start.toString(), org.apache.http.entity.ContentType.APPLICATION_JSON),
+					ContentType.APPLICATION_OCTET_STREAM);
+			return checkStreamResponse("Exec start", response);
+		} catch (HttpClientException | IOException e) {
+			throw new DockerManagerException("Exec start failed to docker engine", e);
+		}
+	}
+
+	private CloseableHttpResponse checkStreamResponse(String request, CloseableHttpResponse response)
+			throws IOException, DockerManagerException {
+		if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+			return response;
+		}
+
+		try {
+			String message = response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity());
+			logger.error(request + " failed to docker engine - " + response.getStatusLine() + "\n" + message);
+			throw new DockerManagerException(request + " failed to docker engine - " + response.getStatusLine());
+		} finally {
+			response.close();
 		}
 	}
 
+	/**
+	 * Returns the pull coordinator of the engine
+	 * 
+	 * @return DockerImagePullCoordinator
+	 */
+	public DockerImagePullCoordinator getImagePulls() {
+		return this.imagePulls;
+	}
+
+	/**
+	 * Returns the warm container pool of the engine
+	 * 
+	 * @return DockerContainerPool
+	 */
+	public DockerContainerPool getContainerPool() {
+		return this.containerPool;
+	}
+
 	/**
 	 * Pull docker image from registries
 	 * 
 	 * @param fullName
-	 * @return String repsonse
+	 * @return String the digest of the pulled image, or null if the engine did not report it
 	 * @throws DockerManagerException
 	 */
 	public String pullImage(@NotNull String fullName) throws DockerManagerException {
-		return postString("/images/create?fromImage=" + fullName, "");
+		return pullImage(fullName, null);
 	}
 
+	/**
+	 * Pull docker image from registries. The progress is read as the engine sends it, and the registry token is
+	 * sent with this request only
+	 * 
+	 * @param fullName
+	 * @param registryToken - the X-Registry-Auth token, or null
+	 * @return String the digest of the pulled image, or null if the engine did not report it
+	 * @throws DockerManagerException
+	 */
 	public String pullImage(@NotNull String fullName, String registryToken) throws DockerManagerException {
+		Map<String, String> queryParams = new HashMap<>();
+		queryParams.put("fromImage", fullName);
+		Map<String, String> headers = new HashMap<>();
+		if (registryToken != null) {
+			headers.put("X-Registry-Auth", registryToken);
+		}
 
-		dockerEngineClient.addCommonHeader("X-Registry-Auth", registryToken);
-		return pullImage(fullName);
+		try (CloseableHttpResponse response = dockerEngineClient.postStream("/images/create", queryParams, headers,
+				null, null, ContentType.APPLICATION_JSON)) {
+			if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+				String message = response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity());
+				logger.error("Pull failed to docker engine - " + response.getStatusLine() + "\n" + message);
+				throw new DockerManagerException("Pull failed to docker engine - " + response.getStatusLine());
+			}
+
+			String[] digest = new String[1];
+			readProgress("Pull of image " + fullName, response.getEntity().getContent(), message -> {
+				if (message.has("status") && !message.has("progressDetail")) {
+					String status = message.get("status").getAsString();
+					if (status.startsWith("Digest: ")) {
+						digest[0] = status.substring("Digest: ".length()).trim();
+					}
+					if (status.startsWith("Status: ")) {
+						logger.debug(status);
+					} else {
+						logger.trace(status);
+					}
+				}
+			});
+			return digest[0];
+		} catch (HttpClientException | IOException e) {
+			throw new DockerManagerException("Pull of image " + fullName + " failed on docker engine", e);
+		}
 	}
 
-	public byte[] buildImage(String imageName, Path dockerfile) throws DockerManagerException, IOException {
-		return postBinary("/build?t="+imageName, Files.readAllBytes(dockerfile));
+	/**
+	 * Build an image from a tar archive build context. The context is streamed to the engine as it is written and
+	 * the build progress is read as it arrives, so neither is held in memory
+	 * 
+	 * @param imageName
+	 * @param dockerfile - the path of the Dockerfile in the context, or null for Dockerfile
+	 * @param buildArgs - the build time variables, or null
+	 * @param cacheFrom - the images to use as layer cache sources, or null
+	 * @param context - the tar archive of the build context
+	 * @return String the id of the built image
+	 * @throws DockerManagerException
+	 */
+	public String buildImage(@NotNull String imageName, String dockerfile, Map<String, String> buildArgs,
+			List<String> cacheFrom, @NotNull HttpEntity context) throws DockerManagerException {
+		Map<String, String> queryParams = new HashMap<>();
+		queryParams.put("t", imageName);
+		queryParams.put("rm", "true");
+		if (dockerfile != null) {
+			queryParams.put("dockerfile", dockerfile);
+		}
+		if (buildArgs != null && !buildArgs.isEmpty()) {
+			JsonObject args = new JsonObject();
+			for (Map.Entry<String, String> buildArg : buildArgs.entrySet()) {
+				args.addProperty(buildArg.getKey(), buildArg.getValue());
+			}
+			queryParams.put("buildargs", args.toString());
+		}
+		if (cacheFrom != null && !cacheFrom.isEmpty()) {
+			JsonArray images = new JsonArray();
+			for (String image : cacheFrom) {
+				images.add(image);
+			}
+			queryParams.put("cachefrom", images.toString());
+		}
+
+		logger.info("Building Docker image " + imageName);
+		try (CloseableHttpResponse response = dockerEngineClient.postStream("/build", queryParams,
+				ContentType.APPLICATION_X_TAR, context, ContentType.APPLICATION_JSON)) {
+			if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+				String message = response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity());
+				logger.error("Build failed to docker engine - " + response.getStatusLine() + "\n" + message);
+				throw new DockerManagerException("Build failed to docker engine - " + response.getStatusLine());
+			}
+
+			String[] imageId = new String[1];
+			readProgress("Build of image " + imageName, response.getEntity().getContent(), message -> {
+				if (message.has("stream")) {
+					String line = message.get("stream").getAsString().trim();
+					if (!line.isEmpty()) {
+						logger.debug(line);
+					}
+					if (line.startsWith("Successfully built ") && imageId[0] == null) {
+						imageId[0] = line.substring("Successfully built ".length());
+					}
+				} else if (message.has("status")) {
+					logger.trace(message.get("status").getAsString());
+				}
+				if (message.has("aux") && message.get("aux").isJsonObject()) {
+					JsonObject aux = message.getAsJsonObject("aux");
+					if (aux.has("ID")) {
+						imageId[0] = aux.get("ID").getAsString();
+					}
+				}
+			});
+			logger.info("Docker image " + imageName + " built with id " + imageId[0]);
+			return imageId[0];
+		} catch (HttpClientException | IOException e) {
+			throw new DockerManagerException("Build of image " + imageName + " failed on docker engine", e);
+		}
+	}
+
+	/**
+	 * Read the progress of a build or pull, a stream of JSON messages, one message at a time as the engine sends
+	 * them. An error message fails the request
+	 * 
+	 * @param request - the request, for exception messages
+	 * @param progress
+	 * @param listener - receives each message
+	 * @throws DockerManagerException
+	 */
+	private void readProgress(String request, InputStream progress, Consumer<JsonObject> listener) throws DockerManagerException {
+		try {
+			JsonStreamParser parser = new JsonStreamParser(new InputStreamReader(progress, StandardCharsets.UTF_8));
+			while (parser.hasNext()) {
+				JsonElement element = parser.next();
+				if (!element.isJsonObject()) {
+					continue;
+				}
+				JsonObject message = element.getAsJsonObject();
+
+				if (message.has("error")) {
+					throw new DockerManagerException(request + " failed - " + message.get("error").getAsString().trim());
+				}
+				listener.accept(message);
+			}
+		} catch (JsonParseException e) {
+			throw new DockerManagerException("Unable to read the progress of " + request, e);
+		}
 	}
 
 	public byte[] postBinary(String path, byte[] data) throws DockerManagerException {
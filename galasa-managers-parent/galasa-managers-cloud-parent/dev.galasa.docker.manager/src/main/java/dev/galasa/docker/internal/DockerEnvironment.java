@@ -312,6 +312,11 @@ public class DockerEnvironment implements IDockerEnvironment {
             if (usedSlots >= maxSlots) {
                 throw new DockerProvisionException("Not enough available slots");
             }
+            // Free pooled containers are still running on the engine, so one is evicted to make room
+            DockerContainerPool pool = engine.getContainerPool();
+            if (usedSlots + pool.countFree() >= maxSlots && !pool.evictFree()) {
+                throw new DockerProvisionException("Not enough available slots");
+            }
             usedSlots++;
             String slotIncrease = Integer.toString(usedSlots);
 
@@ -341,7 +346,7 @@ public class DockerEnvironment implements IDockerEnvironment {
                 return allocateAndCreateDssSlot(dockerEngineId, runName, engine);
             }
         } catch (DockerManagerException e) {
-            logger.error("Could not find number of docker slots in CPS");
+            logger.error("Could not find number of docker slots in CPS, or the free pooled containers", e);
         } catch (DynamicStatusStoreException e) {
             logger.warn("Could not perform putswap on dss");
         }
@@ -5,20 +5,29 @@
  */
 package dev.galasa.docker.internal;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.methods.CloseableHttpResponse;
 
 import dev.galasa.docker.DockerManagerException;
 import dev.galasa.docker.IDockerExec;
@@ -27,6 +36,10 @@ import dev.galasa.framework.spi.IFramework;
 /**
  * DockerExecImpl. An object passed back used to monitor and control the exec process on a container.
  * 
+ * The command is run without a TTY, so the engine multiplexes stdout and stderr, and the output is streamed over the
+ * http client of the docker engine as the command runs. The output is either buffered, or written to the output
+ * streams given by the test.
+ * 
  * @author James Davies
  */
 public class DockerExecImpl implements IDockerExec {
@@ -39,18 +52,30 @@ public class DockerExecImpl implements IDockerExec {
     private final int                                       timeout;
     private final ExecThread                                execThread;
     private final String                                    id;
-    
-    private HttpURLConnection                               conn = null;
-    private boolean                                         finished;
-    private final StringBuffer                              outputBuffer = new StringBuffer();
-    private long                                            exitCode = -1;
+
+    private final CountDownLatch                            completed = new CountDownLatch(1);
+    private volatile boolean                                finished;
+    private volatile long                                   exitCode = -1;
+    private volatile long                                   lastOutput;
+    private final ByteArrayOutputStream                     outputBuffer = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream                     stdOutBuffer = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream                     stdErrBuffer = new ByteArrayOutputStream();
+    private final OutputStream                              stdOut;
+    private final OutputStream                              stdErr;
     private Gson                                            gson = new Gson();
 
     private static final Log                                logger = LogFactory.getLog(DockerExecImpl.class);
 
+    // Closes the output of commands that have not sent output within their timeout
+    private static final ScheduledExecutorService           idleCheck = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "docker-exec-idle-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * 
-     * Creates the exec Json to be sent to docker engine.
+     * Creates the exec Json to be sent to docker engine. The output is buffered.
      * 
      * @param framework
      * @param dockerManager
@@ -61,15 +86,36 @@ public class DockerExecImpl implements IDockerExec {
      */
     public DockerExecImpl(IFramework framework, DockerManagerImpl dockerManager, DockerContainerImpl 
             dockerContainer, int timeout, String[] commands) throws DockerManagerException {
+        this(framework, dockerManager, dockerContainer, timeout, null, null, commands);
+    }
+
+    /**
+     * 
+     * Creates the exec Json to be sent to docker engine. If output streams are given, the output is written to them
+     * as it is received instead of being buffered.
+     * 
+     * @param framework
+     * @param dockerManager
+     * @param dockerContainer
+     * @param timeout
+     * @param stdOut - receives stdout, or null to buffer it
+     * @param stdErr - receives stderr, or null to buffer it
+     * @param commands
+     * @throws DockerManagerException
+     */
+    public DockerExecImpl(IFramework framework, DockerManagerImpl dockerManager, DockerContainerImpl 
+            dockerContainer, int timeout, OutputStream stdOut, OutputStream stdErr, String[] commands) throws DockerManagerException {
         this.framework                  = framework;
         this.dockerManager              = dockerManager;
         this.dockerContainer            = dockerContainer;
         this.timeout                    = timeout;
         this.commands                   = Arrays.asList(commands);
         this.dockerEngine               = dockerContainer.getDockerEngineImpl();
+        this.stdOut                     = stdOut != null ? stdOut : new TeeOutputStream(stdOutBuffer, outputBuffer);
+        this.stdErr                     = stdErr != null ? stdErr : new TeeOutputStream(stdErrBuffer, outputBuffer);
 
         try{
-            ExecJson eJson = new ExecJson(false, true, true, true, this.commands);
+            ExecJson eJson = new ExecJson(false, true, true, false, this.commands);
             JsonParser parser = new JsonParser();
             String json = gson.toJson(eJson);
 
@@ -101,6 +147,7 @@ public class DockerExecImpl implements IDockerExec {
 
         } catch(Exception e) {
             finished = true;
+            completed.countDown();
             throw new DockerManagerException("Failed to exec: ", e);
         }
 
@@ -116,27 +163,28 @@ public class DockerExecImpl implements IDockerExec {
        return waitForExec(120000);
     }
 
+    /**
+     * The output is streamed over the http client of the docker engine, so there is no connection
+     */
     @Override
+    @Deprecated
     public HttpURLConnection getConnection() {
-        return conn;
+        return null;
     }
 
     /**
-     * Wait for exec with specidied timeout
+     * Wait for exec with specidied timeout. Returns as soon as the output of the command ends.
      * 
      * @param timeout
      * @throws DockerManagerException
      */
     @Override
     public boolean waitForExec(long timeout) throws DockerManagerException {
-        long endTime = System.currentTimeMillis() + timeout;
-        while(!finished && System.currentTimeMillis() < endTime) {
-            try {
-                Thread.sleep(100);
-            } catch(InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new DockerManagerException("Wait for exec was interrupted", e);    
-            }
+        try {
+            completed.await(timeout, TimeUnit.MILLISECONDS);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerManagerException("Wait for exec was interrupted", e);    
         }
         return finished;
     }
@@ -150,11 +198,27 @@ public class DockerExecImpl implements IDockerExec {
     }
 
     /**
-     * Returns the last consoloe output line from the container.
+     * Returns the consoloe output from the container, stdout and stderr in the order received.
      */
     @Override
     public String getCurrentOutput() {
-        return outputBuffer.toString();
+        return toString(outputBuffer);
+    }
+
+    /**
+     * Returns the stdout output from the container.
+     */
+    @Override
+    public String getStdOut() {
+        return toString(stdOutBuffer);
+    }
+
+    /**
+     * Returns the stderr output from the container.
+     */
+    @Override
+    public String getStdErr() {
+        return toString(stdErrBuffer);
     }
 
     /**
@@ -165,6 +229,11 @@ public class DockerExecImpl implements IDockerExec {
         return exitCode;
     }
 
+    private String toString(ByteArrayOutputStream buffer) {
+        // Decoded as a whole, so characters split across frames are not broken
+        return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     /**
      * A separate thread for the exec to the container to be performed in
      */
@@ -175,38 +244,24 @@ public class DockerExecImpl implements IDockerExec {
          */
 		@Override
 		public void run() {
-			InputStream is = null;
-			OutputStream os = null;
-			try {
-				URL url = new URL(dockerEngine.getURI() + "/exec/" + id + "/start");
-				conn = (HttpURLConnection) url.openConnection();
-
-				conn.setConnectTimeout(timeout);
-				conn.setReadTimeout(timeout);
-
-				conn.setDoOutput(true);
-				conn.setDoInput(true);
-
-				conn.addRequestProperty("Content-Type", "application/json");
-
-				conn.connect();
-
-				os = conn.getOutputStream();
-				os.write("{\"Detach\": false, \"Tty\": true}".getBytes());
-				os.close();
-				os = null;
+			ScheduledFuture<?> idle = null;
+			try (CloseableHttpResponse response = dockerEngine.startExec(id, false)) {
+				lastOutput = System.currentTimeMillis();
+				if (timeout > 0) {
+					long interval = Math.max(100, timeout / 4);
+					idle = idleCheck.scheduleWithFixedDelay(() -> closeIfIdle(response), interval, interval, TimeUnit.MILLISECONDS);
+				}
 
-				is = conn.getInputStream();
-				byte[] buffer = new byte[1024];
-				int len = 0;
+				InputStream output = new FilterInputStream(response.getEntity().getContent()) {
+					@Override
+					public int read(byte[] b, int off, int len) throws IOException {
+						int length = super.read(b, off, len);
+						lastOutput = System.currentTimeMillis();
+						return length;
+					}
+				};
+				DockerStreamDemultiplexer.copy(output, true, stdOut, stdErr);
 
-				while((len = is.read(buffer)) >= 0) {
-					String data = new String(buffer, 0, len);
-					outputBuffer.append(data);
-				}
-				is.close();
-				is = null;
-				
 				JsonObject status = dockerEngine.getExecInfo(id);
 				String exitCodeObj = status.get("ExitCode").getAsString();
 				if (exitCodeObj != null) {
@@ -218,20 +273,25 @@ public class DockerExecImpl implements IDockerExec {
 				finished = true;
 			} catch (Exception e) {
                 logger.error("Failure during exec running", e);
-                Thread.currentThread().interrupt();
 			} finally {
-                try{
-					if (is!=null) {
-						is.close();
-					}
-                    if (os!=null)  {
-						os.close();
-					}
-                } catch (IOException e) {
-                    logger.info("Failed to close stream, failing quietly: " + e);
-                }
+				if (idle != null) {
+					idle.cancel(false);
+				}
+				completed.countDown();
 			}			
 		}
+
+		private void closeIfIdle(CloseableHttpResponse response) {
+			if (System.currentTimeMillis() - lastOutput < timeout) {
+				return;
+			}
+			logger.warn("Command did not send output within " + timeout + "ms, closing the exec output");
+			try {
+				response.close();
+			} catch (IOException e) {
+				logger.info("Failed to close exec output, failing quietly: " + e);
+			}
+		}
     }
     
     /**
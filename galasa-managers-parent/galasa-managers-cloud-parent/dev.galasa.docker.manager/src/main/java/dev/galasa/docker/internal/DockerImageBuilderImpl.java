@@ -1,25 +1,37 @@
 package dev.galasa.docker.internal;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.entity.EntityTemplate;
 
+import dev.galasa.artifact.IBundleResources;
+import dev.galasa.artifact.TestBundleResourceException;
 import dev.galasa.docker.DockerManagerException;
 
 public class DockerImageBuilderImpl implements IDockerImageBuilder {
+    private static final Log logger = LogFactory.getLog(DockerImageBuilderImpl.class);
+
+    private static final String DOCKERFILE   = "Dockerfile";
+    private static final String DOCKERIGNORE = ".dockerignore";
+    private static final String SLASH        = "/";
+
     private DockerEngineImpl engine;
 
     /**
@@ -31,9 +43,9 @@ public class DockerImageBuilderImpl implements IDockerImageBuilder {
     }
 
     /**
-     * Build a new image on the docker engine. A dockerfile MUST be passed. Any resources required to build the 
+     * Build a new image on the docker engine. A dockerfile MUST be passed. Any resources required to build the
      * dockerfile need to be passed with there corresponding filename.
-     * 
+     *
      * @param imageName
      * @param dockerfile
      * @param resources
@@ -42,59 +54,216 @@ public class DockerImageBuilderImpl implements IDockerImageBuilder {
     @Override
     public void buildImage(String imageName, InputStream dockerfile, Map<String,InputStream> resources)
             throws DockerManagerException {
+        Path context = createContextDirectory();
         try {
-            engine.buildImage(imageName, createDockerTagGz(dockerfile, resources));
-        } catch (IOException e) {
-            throw new DockerManagerException("Failed to build image", e);
+            writeContextFile(context, DOCKERFILE, dockerfile);
+
+            // Put the rest of the resources in a flat dir
+            for (Map.Entry<String, InputStream> resource : resources.entrySet()) {
+                writeContextFile(context, resource.getKey(), resource.getValue());
+            }
+
+            buildImage(imageName, context, null, null, null);
+        } finally {
+            deleteContextDirectory(context);
+        }
+    }
+
+    @Override
+    public String buildImage(String imageName, Path context, String dockerfile, Map<String,String> buildArgs,
+            List<String> cacheFrom) throws DockerManagerException {
+        if (!Files.isDirectory(context)) {
+            throw new DockerManagerException("Build context '" + context + "' is not a directory");
+        }
+
+        List<Path> paths = listContext(context);
+
+        // The tar is written straight to the connection as the request is sent
+        EntityTemplate entity = new EntityTemplate(out -> writeContext(context, paths, out));
+        entity.setChunked(true);
+
+        return engine.buildImage(imageName, dockerfile, buildArgs, cacheFrom, entity);
+    }
+
+    @Override
+    public String buildImage(String imageName, IBundleResources bundleResources, String directory, String dockerfile,
+            Map<String,String> buildArgs, List<String> cacheFrom) throws DockerManagerException {
+        String prefix = directory;
+        while (prefix.startsWith(SLASH)) {
+            prefix = prefix.substring(1);
+        }
+        if (!prefix.isEmpty() && !prefix.endsWith(SLASH)) {
+            prefix = prefix + SLASH;
         }
 
+        Path context = createContextDirectory();
+        try {
+            for (Map.Entry<String, InputStream> entry : bundleResources.retrieveDirectoryContents(directory).entrySet()) {
+                String name = entry.getKey();
+                while (name.startsWith(SLASH)) {
+                    name = name.substring(1);
+                }
+                if (name.startsWith(prefix)) {
+                    name = name.substring(prefix.length());
+                }
+                writeContextFile(context, name, entry.getValue());
+            }
+
+            return buildImage(imageName, context, dockerfile, buildArgs, cacheFrom);
+        } catch (TestBundleResourceException e) {
+            throw new DockerManagerException("Unable to retrieve the build context directory '" + directory + "' from the bundle", e);
+        } finally {
+            deleteContextDirectory(context);
+        }
     }
 
     /**
-     * Creates a tar.gz in a temp build directory and pass back a path to the file.
-     * 
-     * @param dockerfile
-     * @param buildResources
-     * @return
+     * List the files and directories of the build context, in archive order, leaving out those excluded by the
+     * .dockerignore file. Patterns are globs relative to the context and excluding a directory excludes its contents.
+     * A ! exception includes paths excluded by earlier patterns, the last pattern that matches a path wins
+     *
+     * @param context
+     * @return the paths to archive
      * @throws DockerManagerException
      */
-    private Path createDockerTagGz(InputStream dockerfile, Map<String,InputStream> buildResources) throws DockerManagerException {
-        File buildDir = new File("/tmp/galasa-build-dir");
-        Path outputTar = Paths.get(buildDir.getAbsolutePath() + "/Dockerfile.tar.gz");
+    private List<Path> listContext(Path context) throws DockerManagerException {
+        List<IgnorePattern> ignores = new ArrayList<>();
+        Path dockerignore = context.resolve(DOCKERIGNORE);
+        try {
+            if (Files.isRegularFile(dockerignore)) {
+                for (String line : Files.readAllLines(dockerignore, StandardCharsets.UTF_8)) {
+                    String pattern = line.trim();
+                    if (pattern.isEmpty() || pattern.startsWith("#")) {
+                        continue;
+                    }
+                    boolean exception = pattern.startsWith("!");
+                    if (exception) {
+                        pattern = pattern.substring(1).trim();
+                    }
+                    while (pattern.startsWith(SLASH)) {
+                        pattern = pattern.substring(1);
+                    }
+                    while (pattern.endsWith(SLASH)) {
+                        pattern = pattern.substring(0, pattern.length() - 1);
+                    }
+                    if (pattern.isEmpty()) {
+                        continue;
+                    }
+                    ignores.add(new IgnorePattern(FileSystems.getDefault().getPathMatcher("glob:" + pattern), exception));
+                }
+            }
 
-        if (buildDir.exists()){
-            buildDir.delete();
+            try (Stream<Path> walk = Files.walk(context)) {
+                return walk.filter(path -> !path.equals(context) && !isIgnored(context.relativize(path), ignores))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            throw new DockerManagerException("Unable to list the build context '" + context + "'", e);
         }
-        buildDir.mkdir();
+    }
 
+    private boolean isIgnored(Path relativePath, List<IgnorePattern> ignores) {
+        String name = relativePath.toString();
+        if (DOCKERFILE.equals(name) || DOCKERIGNORE.equals(name)) {
+            return false;
+        }
+
+        boolean ignored = false;
+        for (IgnorePattern ignore : ignores) {
+            if (ignore.matches(relativePath)) {
+                ignored = !ignore.exception;
+            }
+        }
+        return ignored;
+    }
+
+    private void writeContext(Path context, List<Path> paths, OutputStream out) throws IOException {
+        TarArchiveOutputStream tar = new TarArchiveOutputStream(out);
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+        for (Path path : paths) {
+            StringBuilder name = new StringBuilder();
+            for (Path part : context.relativize(path)) {
+                if (name.length() > 0) {
+                    name.append(SLASH);
+                }
+                name.append(part.toString());
+            }
+
+            if (Files.isDirectory(path)) {
+                TarArchiveEntry entry = new TarArchiveEntry(name.toString() + SLASH);
+                entry.setModTime(Files.getLastModifiedTime(path).toMillis());
+                tar.putArchiveEntry(entry);
+                tar.closeArchiveEntry();
+            } else if (Files.isRegularFile(path)) {
+                TarArchiveEntry entry = new TarArchiveEntry(name.toString());
+                entry.setSize(Files.size(path));
+                entry.setModTime(Files.getLastModifiedTime(path).toMillis());
+                if (Files.isExecutable(path)) {
+                    entry.setMode(0100755);
+                }
+                tar.putArchiveEntry(entry);
+                Files.copy(path, tar);
+                tar.closeArchiveEntry();
+            }
+        }
+        // Finish the archive but leave the connection stream to the http client
+        tar.finish();
+        tar.flush();
+    }
+
+    protected Path createContextDirectory() throws DockerManagerException {
         try {
-            OutputStream fOut = Files.newOutputStream(outputTar);
-            BufferedOutputStream buffOut = new BufferedOutputStream(fOut);
-            GzipCompressorOutputStream gzOut = new GzipCompressorOutputStream(buffOut);
-            TarArchiveOutputStream tOut = new TarArchiveOutputStream(gzOut);
-
-            // Create the dockerfile
-            TarArchiveEntry dockerEntry = new TarArchiveEntry("Dockerfile");
-            dockerEntry.setSize(dockerfile.available());
-            tOut.putArchiveEntry(dockerEntry);
-            IOUtils.copy(dockerfile, tOut);
-            tOut.closeArchiveEntry();
+            return Files.createTempDirectory("galasa-docker-build");
+        } catch (IOException e) {
+            throw new DockerManagerException("Failed to create a build context directory", e);
+        }
+    }
 
-            // Put the rest of the resources in a flat dir
-            for (String fileName : buildResources.keySet()) {
-                TarArchiveEntry entry = new TarArchiveEntry(fileName);
-                entry.setSize(buildResources.get(fileName).available());
-                tOut.putArchiveEntry(entry);
-                IOUtils.copy(buildResources.get(fileName), tOut);
-                tOut.closeArchiveEntry();
+    private void writeContextFile(Path context, String name, InputStream data) throws DockerManagerException {
+        Path target = context.resolve(name).normalize();
+        if (!target.startsWith(context) || target.equals(context)) {
+            throw new DockerManagerException("Build resource '" + name + "' is outside the build context");
+        }
+
+        try (InputStream in = data) {
+            Files.createDirectories(target.getParent());
+            Files.copy(in, target);
+        } catch (IOException e) {
+            throw new DockerManagerException("Failed to write build resource '" + name + "'", e);
+        }
+    }
+
+    private void deleteContextDirectory(Path context) {
+        try (Stream<Path> walk = Files.walk(context)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
             }
+        } catch (IOException e) {
+            logger.warn("Failed to delete the build context directory '" + context + "'", e);
+        }
+    }
 
-            tOut.flush();
-            tOut.close();
+    /**
+     * A .dockerignore pattern, which matches a path if it matches the path or one of its parent directories
+     */
+    private static class IgnorePattern {
+        private final PathMatcher matcher;
+        private final boolean     exception;
 
-        } catch(IOException e) {
-            throw new DockerManagerException("Failed to create Dockerfile.tar.gz", e);
+        private IgnorePattern(PathMatcher matcher, boolean exception) {
+            this.matcher = matcher;
+            this.exception = exception;
+        }
+
+        private boolean matches(Path relativePath) {
+            for (Path path = relativePath; path != null; path = path.getParent()) {
+                if (this.matcher.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
         }
-        return outputTar;
     }
-}
\ No newline at end of file
+}
@@ -34,6 +34,7 @@ public class DockerImageImpl implements IDockerImage {
     
     private boolean                     authRequired = false;
     private boolean                     local = false;
+    private boolean                     cached = false;
 
     private static final Log            logger = LogFactory.getLog(DockerImageImpl.class);
 
@@ -83,6 +84,15 @@ public class DockerImageImpl implements IDockerImage {
 
         String workingName = getWorkingName(this.fullImageName);
 
+        // An image pulled by an earlier run that is still on the engine needs no registry lookup or pull
+        String cachedName = dockerEngine.getImagePulls().getCachedImage(workingName);
+        if (cachedName != null) {
+            this.fullName = cachedName;
+            this.cached = true;
+            logger.info("Docker Image " + this.fullName + " already pulled to the engine");
+            return;
+        }
+
 		List<DockerRegistryImpl> registries = dockerManager.getRegistries();
 		for(DockerRegistryImpl registry : registries) {
 			if (registry.doYouHave(this)) {
@@ -129,12 +139,12 @@ public class DockerImageImpl implements IDockerImage {
     }
 
     /**
-     * Pulls the image onto the docker engine.
+     * Pulls the image onto the docker engine. Pulls of the same image on the same engine that are in progress at the
+     * same time are made once.
      * 
      * @throws DockerManagerException
      */
     public void pullImage() throws DockerManagerException {
-        String pull;
         if (this.fullName == null) {
             throw new DockerManagerException("Unable to pull image, full image name not set");
         }
@@ -144,21 +154,13 @@ public class DockerImageImpl implements IDockerImage {
             return;
         }
 
-        if(authRequired) {
-            pull = dockerEngine.pullImage(this.fullName, this.authToken);
-        } else {
-            pull = dockerEngine.pullImage(this.fullName);
-        }
-        if (pull == null) {
-            throw new DockerManagerException("Docker daemon did not respond to pull request");
+        if (this.cached) {
+            logger.info("No need to pull " + this.fullName + ", image was already pulled to the engine");
+            return;
         }
 
-        if (pull.contains("Status: Downloaded newer image")) {
-			logger.info("Docker Image " + this.fullName + " pulled");
-		} else if (pull.contains("Status: Image is up to date")) {
-			logger.info("Docker Image " + this.fullName + " was not pulled, current image up to date");
-		} else {
-			throw new DockerManagerException("Unrecognised response from pull request\n" + pull);
-		}
+        String digest = dockerEngine.getImagePulls().pull(getWorkingName(this.fullImageName), this.fullName,
+                this.authRequired ? this.authToken : null);
+        logger.info("Docker Image " + this.fullName + " pulled" + (digest == null ? "" : " with digest " + digest));
     }
 }
\ No newline at end of file
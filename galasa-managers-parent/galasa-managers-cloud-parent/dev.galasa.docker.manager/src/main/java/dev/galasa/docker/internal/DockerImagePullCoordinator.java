@@ -0,0 +1,289 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.google.gson.JsonObject;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.docker.internal.properties.DockerImageCacheTimeout;
+import dev.galasa.docker.internal.properties.DockerPropertiesSingleton;
+import dev.galasa.framework.spi.DynamicStatusStoreException;
+import dev.galasa.framework.spi.IDynamicStatusStoreService;
+
+/**
+ * Coordinates the image pulls of a docker engine. Pulls of the same image that are in flight at the same time are
+ * made once, with the later callers waiting for the first pull, and the image id and digest of every pull are
+ * recorded in the DSS so later runs can use the image already on the engine without asking the registries or pulling.
+ *
+ * Runs pulling the same image onto the same engine claim the pull in the DSS, and the other runs wait for the claim to
+ * be released and then use the image that was pulled:
+ * <pre>
+ * engine.[engineId].image.[name].pull=[runName]
+ * </pre>
+ * Claims left by runs that have gone are removed by the {@link DockerContainerResourceMonitor}.
+ *
+ * A tag can be pushed again to the registry, so the record of a pulled image is only used until the image cache timeout
+ * of the engine has passed, after which the image is pulled again. Images named by digest never change and are used for
+ * as long as they are on the engine, and images with the latest tag are always pulled, as the tag is expected to move.
+ * Expired records are removed by the {@link DockerContainerResourceMonitor}.
+ */
+public class DockerImagePullCoordinator {
+    public static final String                                      PULL_SUFFIX       = ".pull";
+    public static final String                                      PULLED_SUFFIX     = ".pulled";
+
+    private static final Log                                        logger            = LogFactory.getLog(DockerImagePullCoordinator.class);
+
+    private static final long                                       PULL_POLL_MILLIS  = 1000;
+    private static final Duration                                   PULL_WAIT_TIMEOUT = Duration.ofMinutes(30);
+
+    // Keyed by engine id and image, so pulls are shared by every engine instance for the same engine
+    private static final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final DockerEngineImpl                                  engine;
+    private final IDynamicStatusStoreService                        dss;
+    private final String                                            runName;
+    private final long                                              pollMillis;
+    private final Duration                                          waitTimeout;
+
+    public DockerImagePullCoordinator(DockerEngineImpl engine, IDynamicStatusStoreService dss, String runName) {
+        this(engine, dss, runName, PULL_POLL_MILLIS, PULL_WAIT_TIMEOUT);
+    }
+
+    DockerImagePullCoordinator(DockerEngineImpl engine, IDynamicStatusStoreService dss, String runName, long pollMillis,
+            Duration waitTimeout) {
+        this.engine = engine;
+        this.dss = dss;
+        this.runName = runName;
+        this.pollMillis = pollMillis;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Pull an image onto the engine, or wait for a pull of the same image that is already in flight
+     *
+     * @param workingName - the image name as requested, with a tag
+     * @param fullName - the image name including the registry
+     * @param registryToken - the registry token, or null
+     * @return String the digest of the image, or null if the engine did not report it
+     * @throws DockerManagerException
+     */
+    public String pull(String workingName, String fullName, String registryToken) throws DockerManagerException {
+        String key = this.engine.getEngineId() + "/" + fullName;
+        CompletableFuture<String> pull = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, pull);
+        if (existing != null) {
+            logger.info("Waiting for the pull of Docker Image " + fullName + " already in progress");
+            return waitForPull(fullName, existing);
+        }
+
+        try {
+            String digest = pullClaimed(workingName, fullName, registryToken);
+            pull.complete(digest);
+            return digest;
+        } catch (DockerManagerException | RuntimeException e) {
+            pull.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pull);
+        }
+    }
+
+    /**
+     * Pull the image holding the DSS claim on the pull. If another run held the claim, the image it pulled is used
+     */
+    private String pullClaimed(String workingName, String fullName, String registryToken) throws DockerManagerException {
+        String claimKey = getImageKey(workingName) + PULL_SUFFIX;
+        boolean waited = claimPull(claimKey, fullName);
+        try {
+            if (waited && fullName.equals(getCachedImage(workingName))) {
+                logger.info("Using Docker Image " + fullName + " pulled by another run");
+                return this.dss.get(getPropertyPrefix(workingName) + "digest");
+            }
+
+            String digest = this.engine.pullImage(fullName, registryToken);
+            record(workingName, fullName, digest);
+            return digest;
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to read the pulled image record for " + workingName, e);
+        } finally {
+            try {
+                this.dss.delete(claimKey);
+            } catch (DynamicStatusStoreException e) {
+                logger.warn("Unable to release the claim on the pull of Docker Image " + fullName, e);
+            }
+        }
+    }
+
+    /**
+     * Claim the pull of the image for this run, waiting while another run holds the claim
+     *
+     * @return true if another run held the claim
+     */
+    private boolean claimPull(String claimKey, String fullName) throws DockerManagerException {
+        Instant timeout = Instant.now().plus(this.waitTimeout);
+        boolean waited = false;
+        try {
+            while (!this.dss.putSwap(claimKey, null, this.runName)) {
+                String holder = this.dss.get(claimKey);
+                if (this.runName.equals(holder)) {
+                    // Left by an earlier pull of this run
+                    break;
+                }
+                if (holder != null) {
+                    if (Instant.now().isAfter(timeout)) {
+                        throw new DockerManagerException("Timed out waiting for run " + holder + " to pull Docker Image " + fullName);
+                    }
+                    if (!waited) {
+                        logger.info("Waiting for the pull of Docker Image " + fullName + " by run " + holder);
+                    }
+                    waited = true;
+                    Thread.sleep(this.pollMillis);
+                }
+            }
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to claim the pull of Docker Image " + fullName, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerManagerException("Interrupted waiting for the pull of Docker Image " + fullName, e);
+        }
+        return waited;
+    }
+
+    /**
+     * Find an image pulled by an earlier run that is still on the engine
+     *
+     * @param workingName - the image name as requested, with a tag
+     * @return String the full name the image was pulled as, or null if it must be located and pulled
+     * @throws DockerManagerException
+     */
+    public String getCachedImage(String workingName) throws DockerManagerException {
+        if (workingName.endsWith(":latest")) {
+            return null;
+        }
+
+        String prefix = getPropertyPrefix(workingName);
+        String fullName;
+        String imageId;
+        String pulled;
+        try {
+            fullName = this.dss.get(prefix + "name");
+            imageId = this.dss.get(prefix + "id");
+            pulled = this.dss.get(getImageKey(workingName) + PULLED_SUFFIX);
+        } catch (DynamicStatusStoreException e) {
+            throw new DockerManagerException("Unable to read the pulled image record for " + workingName, e);
+        }
+        if (fullName == null || imageId == null) {
+            return null;
+        }
+        // The property name is sanitised, so make sure the record is for this image
+        if (!fullName.equals(workingName) && !fullName.endsWith("/" + workingName)) {
+            return null;
+        }
+        // The tag may have been pushed again since the image was pulled
+        if (!isDigest(fullName) && isExpired(pulled, getCacheTimeout())) {
+            logger.debug("Record of Docker Image " + fullName + " pulled at " + pulled + " has expired");
+            return null;
+        }
+
+        // The image may have been removed or replaced on the engine since it was recorded
+        JsonObject image = this.engine.getImage(fullName);
+        if (image == null || !image.has("Id") || !imageId.equals(image.get("Id").getAsString())) {
+            logger.debug("Docker Image " + fullName + " recorded as pulled is no longer on engine " + this.engine.getEngineId());
+            return null;
+        }
+        return fullName;
+    }
+
+    private void record(String workingName, String fullName, String digest) {
+        try {
+            JsonObject image = this.engine.getImage(fullName);
+            if (image == null || !image.has("Id")) {
+                return;
+            }
+
+            String prefix = getPropertyPrefix(workingName);
+            Map<String, String> properties = new HashMap<>();
+            properties.put(prefix + "name", fullName);
+            properties.put(prefix + "id", image.get("Id").getAsString());
+            properties.put(getImageKey(workingName) + PULLED_SUFFIX, Instant.now().toString());
+            if (digest != null) {
+                properties.put(prefix + "digest", digest);
+            }
+            this.dss.put(properties);
+        } catch (DockerManagerException | DynamicStatusStoreException e) {
+            logger.warn("Unable to record the pull of Docker Image " + fullName, e);
+        }
+    }
+
+    /**
+     * Returns how long the record of a pulled image is used for on this engine
+     *
+     * @return Duration the image cache timeout
+     * @throws DockerManagerException
+     */
+    protected Duration getCacheTimeout() throws DockerManagerException {
+        return Duration.ofSeconds(DockerImageCacheTimeout.get(DockerPropertiesSingleton.cps(), this.engine.getEngineId()));
+    }
+
+    /**
+     * Whether the record of a pulled image is older than the cache timeout, a record without a pull time has expired
+     *
+     * @param pulled - the time the image was pulled
+     * @param cacheTimeout - how long the record is used for
+     * @return boolean true if the image must be pulled again
+     */
+    public static boolean isExpired(String pulled, Duration cacheTimeout) {
+        if (pulled == null) {
+            return true;
+        }
+        try {
+            return !Instant.parse(pulled).plus(cacheTimeout).isAfter(Instant.now());
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Whether the image is named by digest, so the image can not change
+     *
+     * @param fullName - the image name
+     * @return boolean true if the name has a digest
+     */
+    public static boolean isDigest(String fullName) {
+        return fullName.contains("@");
+    }
+
+    private String waitForPull(String fullName, CompletableFuture<String> pull) throws DockerManagerException {
+        try {
+            return pull.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerManagerException("Interrupted waiting for the pull of Docker Image " + fullName, e);
+        } catch (ExecutionException e) {
+            throw new DockerManagerException("Pull of Docker Image " + fullName + " failed", e.getCause());
+        }
+    }
+
+    private String getPropertyPrefix(String workingName) {
+        return getImageKey(workingName) + ".";
+    }
+
+    private String getImageKey(String workingName) {
+        return "engine." + this.engine.getEngineId() + ".image." + workingName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Splits the output of a docker exec or container log into its stdout and stderr streams.
+ *
+ * Without a TTY the engine multiplexes the streams into frames, each an 8 byte header of the stream type, three
+ * zero bytes and the big endian payload size, followed by the payload. With a TTY the output is a single raw stream,
+ * which is all written to stdout.
+ *
+ * Payloads are copied to the output streams as they are read, so a slow consumer slows the read from the engine
+ * rather than the output being buffered.
+ */
+public class DockerStreamDemultiplexer {
+    private static final int STREAM_STDIN  = 0;
+    private static final int STREAM_STDOUT = 1;
+    private static final int STREAM_STDERR = 2;
+
+    private static final int HEADER_SIZE   = 8;
+    private static final int BUFFER_SIZE   = 8192;
+
+    private DockerStreamDemultiplexer() {
+    }
+
+    /**
+     * Copy the output to the stdout and stderr streams until the engine ends it
+     *
+     * @param in - the output from the engine
+     * @param multiplexed - false if the output is a raw TTY stream
+     * @param stdout - receives stdout, or null to discard it
+     * @param stderr - receives stderr, or null to discard it
+     * @throws IOException
+     */
+    public static void copy(InputStream in, boolean multiplexed, OutputStream stdout, OutputStream stderr) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        if (!multiplexed) {
+            int length;
+            while ((length = in.read(buffer)) >= 0) {
+                write(stdout, buffer, length);
+            }
+            return;
+        }
+
+        byte[] header = new byte[HEADER_SIZE];
+        while (readHeader(in, header)) {
+            int type = header[0];
+            long remaining = ((header[4] & 0xffL) << 24) | ((header[5] & 0xffL) << 16) | ((header[6] & 0xffL) << 8) | (header[7] & 0xffL);
+
+            OutputStream target;
+            switch (type) {
+            case STREAM_STDIN:
+            case STREAM_STDOUT:
+                target = stdout;
+                break;
+            case STREAM_STDERR:
+                target = stderr;
+                break;
+            default:
+                throw new IOException("Invalid stream type " + type + " in multiplexed docker stream");
+            }
+
+            while (remaining > 0) {
+                int length = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (length < 0) {
+                    throw new EOFException("Multiplexed docker stream ended part way through a frame");
+                }
+                write(target, buffer, length);
+                remaining -= length;
+            }
+        }
+    }
+
+    private static boolean readHeader(InputStream in, byte[] header) throws IOException {
+        int read = 0;
+        while (read < header.length) {
+            int length = in.read(header, read, header.length - read);
+            if (length < 0) {
+                if (read == 0) {
+                    return false;
+                }
+                throw new EOFException("Multiplexed docker stream ended part way through a frame header");
+            }
+            read += length;
+        }
+        return true;
+    }
+
+    private static void write(OutputStream out, byte[] buffer, int length) throws IOException {
+        if (out != null && length > 0) {
+            out.write(buffer, 0, length);
+            out.flush();
+        }
+    }
+}
@@ -1,12 +1,45 @@
 package dev.galasa.docker.internal;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
+import dev.galasa.artifact.IBundleResources;
 import dev.galasa.docker.DockerManagerException;
 
 public interface IDockerImageBuilder {
 
     public void buildImage(String imageName, InputStream Dockerfile, Map<String,InputStream> resources) throws DockerManagerException;
-    
-}
\ No newline at end of file
+
+    /**
+     * Build an image from a build context directory. The directory is streamed to the engine as a tar archive, so
+     * the context is never held in memory, and the build progress is logged as it is received.
+     *
+     * @param imageName - the name, and optionally the tag, of the image
+     * @param context - the build context directory
+     * @param dockerfile - the path of the Dockerfile within the context, or null for Dockerfile
+     * @param buildArgs - the build time variables, or null
+     * @param cacheFrom - the images to use as layer cache sources, or null
+     * @return the id of the built image
+     * @throws DockerManagerException
+     */
+    public String buildImage(String imageName, Path context, String dockerfile, Map<String,String> buildArgs, List<String> cacheFrom) throws DockerManagerException;
+
+    /**
+     * Build an image from a directory of a test or manager bundle. The directory is copied to a temporary build
+     * context directory first, as bundle entries do not have a known size.
+     *
+     * @param imageName - the name, and optionally the tag, of the image
+     * @param bundleResources - the bundle resources
+     * @param directory - the directory in the bundle holding the build context
+     * @param dockerfile - the path of the Dockerfile within the context, or null for Dockerfile
+     * @param buildArgs - the build time variables, or null
+     * @param cacheFrom - the images to use as layer cache sources, or null
+     * @return the id of the built image
+     * @throws DockerManagerException
+     */
+    public String buildImage(String imageName, IBundleResources bundleResources, String directory, String dockerfile,
+            Map<String,String> buildArgs, List<String> cacheFrom) throws DockerManagerException;
+
+}
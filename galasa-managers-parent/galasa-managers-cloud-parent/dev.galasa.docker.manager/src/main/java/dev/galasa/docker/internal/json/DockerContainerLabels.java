@@ -5,6 +5,7 @@ public class DockerContainerLabels {
         private String GALASA;
         private String RunId;
         private String SlotId;
+        private String GalasaPool;
 
         public void setEngineId(String EngineId) {
             this.EngineId = EngineId;
@@ -33,5 +34,12 @@ public class DockerContainerLabels {
         public String getSlotId() {
             return this.SlotId;
         }
+
+        public void setGalasaPool(String GalasaPool) {
+            this.GalasaPool = GalasaPool;
+        }
+        public String getGalasaPool() {
+            return this.GalasaPool;
+        }
     
 }
\ No newline at end of file
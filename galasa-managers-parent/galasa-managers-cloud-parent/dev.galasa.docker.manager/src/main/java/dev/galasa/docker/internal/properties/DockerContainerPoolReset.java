@@ -0,0 +1,48 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal.properties;
+
+import java.util.List;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * Docker Container Pool Reset CPS Property
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name docker.container.[tag].pool.reset
+ * 
+ * @galasa.description The command executed in a pooled Docker Container when it is leased to a run, to return it 
+ * to a known state
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default None, the container is leased as it was released by the previous run
+ * 
+ * @galasa.valid_values A comma separated list of the command and its arguments
+ * 
+ * @galasa.examples 
+ * <code>docker.container.GALASA_DATABASE.pool.reset=sh,-c,psql -U postgres -f /reset.sql</code>
+ * 
+ * @galasa.extra
+ * If the command does not end with exit code 0 within the readiness timeout, the container is removed from the 
+ * pool and another container is leased or created.
+ * 
+ */
+public class DockerContainerPoolReset extends CpsProperties {
+
+    public static List<String> get(String tag) throws DockerManagerException {
+		try {
+			return getStringList(DockerPropertiesSingleton.cps(), "container", "pool.reset", tag);
+		} catch (ConfigurationPropertyStoreException e) {
+			throw new DockerManagerException("Problem asking the CPS for the pool reset command of the docker container: " + tag, e);
+		}
+	}
+
+}
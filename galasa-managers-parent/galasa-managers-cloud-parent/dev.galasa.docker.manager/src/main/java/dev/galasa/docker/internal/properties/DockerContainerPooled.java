@@ -0,0 +1,51 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal.properties;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * Docker Container Pooled CPS Property
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name docker.container.[tag].pool
+ * 
+ * @galasa.description Opts the tagged Docker Container in to the warm container pool of the Docker Engine
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default false
+ * 
+ * @galasa.valid_values true or false
+ * 
+ * @galasa.examples 
+ * <code>docker.container.GALASA_DATABASE.pool=true</code>
+ * 
+ * @galasa.extra
+ * A pooled container is not deleted at the end of the run. It is left running on the Docker Engine and leased to the 
+ * next run that asks for a container of the same image and configuration, which saves the start up time of service 
+ * containers such as databases and queue managers.<br>
+ * Containers that mount volumes, or that are to be left running, are never pooled.<br>
+ * See docker.container.[tag].pool.reset for resetting a container as it is leased, and 
+ * docker.engine.[engineId].pool.idle.timeout for when idle containers are removed.
+ * 
+ */
+public class DockerContainerPooled extends CpsProperties {
+
+    public static boolean get(String tag) throws DockerManagerException {
+		try {
+			String pooled = getStringNulled(DockerPropertiesSingleton.cps(), "container", "pool", tag);
+
+			return Boolean.parseBoolean(pooled);
+		} catch (ConfigurationPropertyStoreException e) {
+			throw new DockerManagerException("Problem asking the CPS for the pool property of the docker container: " + tag, e);
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal.properties;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * Docker Container Ready Log CPS Property
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name docker.container.[tag].ready.log
+ * 
+ * @galasa.description A pattern in the log of the Docker Container that shows it is ready for use
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default None
+ * 
+ * @galasa.valid_values A Java regular expression
+ * 
+ * @galasa.examples 
+ * <code>docker.container.GALASA_DATABASE.ready.log=database system is ready to accept connections</code>
+ * 
+ * @galasa.extra
+ * A started container is ready when the image health check reports it healthy. If the image has no health check, the 
+ * container is ready when this pattern is found in its stdout or stderr, or as soon as it is running if no pattern is set.
+ * 
+ */
+public class DockerContainerReadyLog extends CpsProperties {
+
+    public static Pattern get(String tag) throws DockerManagerException {
+		try {
+			String pattern = getStringNulled(DockerPropertiesSingleton.cps(), "container", "ready.log", tag);
+
+			if (pattern == null) {
+				return null;
+			}
+			return Pattern.compile(pattern);
+		} catch (ConfigurationPropertyStoreException | PatternSyntaxException e) {
+			throw new DockerManagerException("Problem asking the CPS for the ready log pattern of the docker container: " + tag, e);
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal.properties;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * Docker Container Ready Timeout CPS Property
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name docker.container.[tag].ready.timeout
+ * 
+ * @galasa.description The number of seconds to wait for a started Docker Container to become ready
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 120
+ * 
+ * @galasa.valid_values 1 to {@link Integer#MAX_VALUE}
+ * 
+ * @galasa.examples 
+ * <code>docker.container.GALASA_DATABASE.ready.timeout=300</code>
+ * 
+ */
+public class DockerContainerReadyTimeout extends CpsProperties {
+
+    private static final int DEFAULT_READY_TIMEOUT = 120;
+
+    public static int get(String tag) throws DockerManagerException {
+		try {
+			String timeout = getStringNulled(DockerPropertiesSingleton.cps(), "container", "ready.timeout", tag);
+
+			if (timeout == null) {
+				return DEFAULT_READY_TIMEOUT;
+			}
+			int seconds = Integer.parseInt(timeout);
+			if (seconds < 1) {
+				throw new DockerManagerException("Docker container ready timeout must be greater than 0 for the docker container: " + tag);
+			}
+			return seconds;
+		} catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+			throw new DockerManagerException("Problem asking the CPS for the ready timeout of the docker container: " + tag, e);
+		}
+	}
+
+}
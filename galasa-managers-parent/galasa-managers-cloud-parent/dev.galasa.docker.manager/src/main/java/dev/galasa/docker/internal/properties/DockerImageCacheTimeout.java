@@ -0,0 +1,59 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal.properties;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.IConfigurationPropertyStoreService;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * Docker Engine Image Cache Timeout CPS Property
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name docker.engine.[engineId].image.cache.timeout
+ * 
+ * @galasa.description The number of seconds the record of a pulled Docker Image is used before the registries are 
+ * asked for the image again
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 3600
+ * 
+ * @galasa.valid_values 0 to {@link Integer#MAX_VALUE}
+ * 
+ * @galasa.examples 
+ * <code>docker.engine.LOCAL.image.cache.timeout=86400</code>
+ * 
+ * @galasa.extra
+ * Until the record expires, runs use the image already on the Docker Engine, so a tag pushed again to the registry 
+ * is not picked up. Images named by digest never change and are used for as long as they are on the engine. A value 
+ * of 0 pulls every image on each run. Expired records are removed by the Docker resource management.
+ * 
+ */
+public class DockerImageCacheTimeout extends CpsProperties {
+
+    private static final int DEFAULT_CACHE_TIMEOUT = 3600;
+
+    public static int get(IConfigurationPropertyStoreService cps, String engineId) throws DockerManagerException {
+		try {
+			String timeout = getStringNulled(cps, "engine", "image.cache.timeout", engineId);
+
+			if (timeout == null) {
+				return DEFAULT_CACHE_TIMEOUT;
+			}
+			int seconds = Integer.parseInt(timeout);
+			if (seconds < 0) {
+				throw new DockerManagerException("Docker image cache timeout must not be negative for the docker engine: " + engineId);
+			}
+			return seconds;
+		} catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+			throw new DockerManagerException("Problem asking the CPS for the image cache timeout for the docker engine: " + engineId, e);
+		}
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal.properties;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.IConfigurationPropertyStoreService;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * Docker Engine Pool Idle Timeout CPS Property
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name docker.engine.[engineId].pool.idle.timeout
+ * 
+ * @galasa.description The number of seconds a pooled Docker Container can be idle before it is removed from the 
+ * Docker Engine
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 1800
+ * 
+ * @galasa.valid_values 0 to {@link Integer#MAX_VALUE}
+ * 
+ * @galasa.examples 
+ * <code>docker.engine.LOCAL.pool.idle.timeout=3600</code>
+ * 
+ * @galasa.extra
+ * Idle pooled containers are removed by the Docker resource management. A value of 0 removes pooled containers as 
+ * soon as they are released, effectively disabling the pool on the Docker Engine.
+ * 
+ */
+public class DockerPoolIdleTimeout extends CpsProperties {
+
+    private static final int DEFAULT_IDLE_TIMEOUT = 1800;
+
+    public static int get(IConfigurationPropertyStoreService cps, String engineId) throws DockerManagerException {
+		try {
+			String timeout = getStringNulled(cps, "engine", "pool.idle.timeout", engineId);
+
+			if (timeout == null) {
+				return DEFAULT_IDLE_TIMEOUT;
+			}
+			int seconds = Integer.parseInt(timeout);
+			if (seconds < 0) {
+				throw new DockerManagerException("Docker pool idle timeout must not be negative for the docker engine: " + engineId);
+			}
+			return seconds;
+		} catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+			throw new DockerManagerException("Problem asking the CPS for the pool idle timeout for the docker engine: " + engineId, e);
+		}
+	}
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import com.google.gson.JsonObject;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.DynamicStatusStoreException;
+import dev.galasa.framework.spi.IDynamicStatusStoreService;
+
+public class TestDockerContainerPool {
+
+    private static final String HASH   = "0123456789abcdef";
+    private static final String PREFIX = "engine.ENGINE1.pool." + HASH + ".container.";
+
+    private DockerEngineImpl           engine;
+    private IDynamicStatusStoreService dss;
+    private DockerContainerPool        pool;
+
+    @Before
+    public void before() {
+        this.engine = mock(DockerEngineImpl.class);
+        this.dss = mock(IDynamicStatusStoreService.class);
+        when(this.engine.getEngineId()).thenReturn("ENGINE1");
+
+        this.pool = new DockerContainerPool(this.engine, this.dss);
+    }
+
+    @Test
+    public void testGetConfigHash() throws Exception {
+        JsonObject metadata = new JsonObject();
+        metadata.addProperty("Image", "library/httpd:2.4");
+        String hash = DockerContainerPool.getConfigHash(metadata);
+
+        assertThat(hash).matches("[0-9a-f]{16}");
+        JsonObject same = new JsonObject();
+        same.addProperty("Image", "library/httpd:2.4");
+        assertThat(DockerContainerPool.getConfigHash(same)).isEqualTo(hash);
+
+        metadata.addProperty("Image", "library/httpd:2.5");
+        assertThat(DockerContainerPool.getConfigHash(metadata)).isNotEqualTo(hash);
+    }
+
+    @Test
+    public void testLease() throws Exception {
+        Map<String, String> containers = new HashMap<>();
+        containers.put(PREFIX + "GALASA_POOL_0", "RUN2");
+        containers.put(PREFIX + "GALASA_POOL_0" + DockerContainerPool.LAST_USED_SUFFIX, Instant.now().toString());
+        containers.put(PREFIX + "GALASA_POOL_1", DockerContainerPool.FREE);
+        containers.put(PREFIX + "GALASA_POOL_1" + DockerContainerPool.LAST_USED_SUFFIX, Instant.now().toString());
+        when(this.dss.getPrefix(PREFIX)).thenReturn(containers);
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_1", DockerContainerPool.FREE, "RUN1")).thenReturn(true);
+        when(this.engine.getContainer("GALASA_POOL_1")).thenReturn(container(true));
+
+        assertThat(this.pool.lease(HASH, "RUN1")).isEqualTo("GALASA_POOL_1");
+        verify(this.dss, times(1)).putSwap(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    public void testLeaseTakenByAnotherRun() throws Exception {
+        Map<String, String> containers = new HashMap<>();
+        containers.put(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE);
+        when(this.dss.getPrefix(PREFIX)).thenReturn(containers);
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE, "RUN1")).thenReturn(false);
+
+        assertThat(this.pool.lease(HASH, "RUN1")).isNull();
+        verify(this.engine, times(0)).getContainer(Mockito.anyString());
+    }
+
+    @Test
+    public void testLeaseNotRunning() throws Exception {
+        Map<String, String> containers = new HashMap<>();
+        containers.put(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE);
+        when(this.dss.getPrefix(PREFIX)).thenReturn(containers);
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE, "RUN1")).thenReturn(true);
+        when(this.engine.getContainer("GALASA_POOL_0")).thenReturn(container(false));
+
+        assertThat(this.pool.lease(HASH, "RUN1")).isNull();
+        verify(this.engine).deleteContainer("GALASA_POOL_0");
+        verify(this.dss).delete(keys("GALASA_POOL_0"));
+    }
+
+    @Test
+    public void testLeaseEmptyPool() throws Exception {
+        when(this.dss.getPrefix(PREFIX)).thenReturn(new HashMap<>());
+
+        assertThat(this.pool.lease(HASH, "RUN1")).isNull();
+    }
+
+    @Test
+    public void testLeaseException() throws Exception {
+        when(this.dss.getPrefix(PREFIX)).thenThrow(new DynamicStatusStoreException("dss failed"));
+
+        assertThatThrownBy(() -> this.pool.lease(HASH, "RUN1"))
+            .isInstanceOf(DockerManagerException.class)
+            .hasMessage("Unable to lease a pooled docker container");
+    }
+
+    @Test
+    public void testAllocate() throws Exception {
+        String name0 = DockerContainerPool.NAME_PREFIX + HASH + "_0";
+        String name1 = DockerContainerPool.NAME_PREFIX + HASH + "_1";
+        when(this.dss.putSwap(PREFIX + name0, null, "RUN1")).thenReturn(false);
+        when(this.dss.putSwap(PREFIX + name1, null, "RUN1")).thenReturn(true);
+
+        assertThat(this.pool.allocate(HASH, "RUN1")).isEqualTo(name1);
+    }
+
+    @Test
+    public void testAllocateException() throws Exception {
+        when(this.dss.putSwap(Mockito.anyString(), Mockito.isNull(), Mockito.anyString())).thenThrow(new DynamicStatusStoreException("dss failed"));
+
+        assertThatThrownBy(() -> this.pool.allocate(HASH, "RUN1"))
+            .isInstanceOf(DockerManagerException.class)
+            .hasMessage("Unable to allocate a pooled docker container");
+    }
+
+    @Test
+    public void testRelease() throws Exception {
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_0", "RUN1", DockerContainerPool.FREE)).thenReturn(true);
+
+        this.pool.release(HASH, "GALASA_POOL_0", "RUN1");
+
+        ArgumentCaptor<String> lastUsed = ArgumentCaptor.forClass(String.class);
+        verify(this.dss).put(Mockito.eq(PREFIX + "GALASA_POOL_0" + DockerContainerPool.LAST_USED_SUFFIX), lastUsed.capture());
+        assertThat(Instant.parse(lastUsed.getValue())).isBeforeOrEqualTo(Instant.now());
+        verify(this.dss).putSwap(PREFIX + "GALASA_POOL_0", "RUN1", DockerContainerPool.FREE);
+    }
+
+    @Test
+    public void testReleaseNotLeased() throws Exception {
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_0", "RUN1", DockerContainerPool.FREE)).thenReturn(false);
+
+        this.pool.release(HASH, "GALASA_POOL_0", "RUN1");
+
+        verify(this.dss, times(0)).delete(Mockito.anyString());
+        verify(this.engine, times(0)).deleteContainer(Mockito.anyString());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        when(this.engine.getContainer("GALASA_POOL_0")).thenReturn(container(true));
+
+        this.pool.remove(HASH, "GALASA_POOL_0");
+
+        verify(this.engine).deleteContainer("GALASA_POOL_0");
+        verify(this.dss).delete(keys("GALASA_POOL_0"));
+    }
+
+    @Test
+    public void testRemoveAlreadyGone() throws Exception {
+        when(this.engine.getContainer("GALASA_POOL_0")).thenReturn(null);
+
+        this.pool.remove(HASH, "GALASA_POOL_0");
+
+        verify(this.engine, times(0)).deleteContainer(Mockito.anyString());
+        verify(this.dss).delete(keys("GALASA_POOL_0"));
+    }
+
+    @Test
+    public void testRemoveException() throws Exception {
+        Mockito.doThrow(new DynamicStatusStoreException("dss failed")).when(this.dss).delete(keys("GALASA_POOL_0"));
+
+        assertThatThrownBy(() -> this.pool.remove(HASH, "GALASA_POOL_0"))
+            .isInstanceOf(DockerManagerException.class)
+            .hasMessage("Unable to remove the pooled docker container GALASA_POOL_0 from the pool");
+    }
+
+    @Test
+    public void testCountFree() throws Exception {
+        Map<String, String> containers = new HashMap<>();
+        containers.put(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE);
+        containers.put(PREFIX + "GALASA_POOL_0" + DockerContainerPool.LAST_USED_SUFFIX, Instant.now().toString());
+        containers.put(PREFIX + "GALASA_POOL_1", "RUN2");
+        containers.put("engine.ENGINE1.pool.fedcba9876543210.container.GALASA_POOL_2", DockerContainerPool.FREE);
+        when(this.dss.getPrefix("engine.ENGINE1.pool.")).thenReturn(containers);
+
+        assertThat(this.pool.countFree()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictFree() throws Exception {
+        Map<String, String> containers = new HashMap<>();
+        containers.put(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE);
+        containers.put(PREFIX + "GALASA_POOL_0" + DockerContainerPool.LAST_USED_SUFFIX, Instant.now().toString());
+        containers.put(PREFIX + "GALASA_POOL_1", DockerContainerPool.FREE);
+        containers.put(PREFIX + "GALASA_POOL_1" + DockerContainerPool.LAST_USED_SUFFIX, Instant.now().minusSeconds(60).toString());
+        containers.put(PREFIX + "GALASA_POOL_2", "RUN2");
+        when(this.dss.getPrefix("engine.ENGINE1.pool.")).thenReturn(containers);
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_1", DockerContainerPool.FREE, DockerContainerPool.EVICTING)).thenReturn(true);
+        when(this.engine.getContainer("GALASA_POOL_1")).thenReturn(container(true));
+
+        // The container idle the longest is evicted
+        assertThat(this.pool.evictFree()).isTrue();
+        verify(this.engine).deleteContainer("GALASA_POOL_1");
+        verify(this.dss).delete(keys("GALASA_POOL_1"));
+        verify(this.dss, times(1)).putSwap(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    public void testEvictFreeLeasedByAnotherRun() throws Exception {
+        Map<String, String> containers = new HashMap<>();
+        containers.put(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE);
+        containers.put(PREFIX + "GALASA_POOL_0" + DockerContainerPool.LAST_USED_SUFFIX, Instant.now().toString());
+        containers.put(PREFIX + "GALASA_POOL_1", DockerContainerPool.FREE);
+        containers.put(PREFIX + "GALASA_POOL_1" + DockerContainerPool.LAST_USED_SUFFIX, Instant.now().minusSeconds(60).toString());
+        when(this.dss.getPrefix("engine.ENGINE1.pool.")).thenReturn(containers);
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_1", DockerContainerPool.FREE, DockerContainerPool.EVICTING)).thenReturn(false);
+        when(this.dss.putSwap(PREFIX + "GALASA_POOL_0", DockerContainerPool.FREE, DockerContainerPool.EVICTING)).thenReturn(true);
+
+        assertThat(this.pool.evictFree()).isTrue();
+        verify(this.dss).delete(keys("GALASA_POOL_0"));
+        verify(this.dss, times(0)).delete(keys("GALASA_POOL_1"));
+    }
+
+    @Test
+    public void testEvictFreeNone() throws Exception {
+        Map<String, String> containers = new HashMap<>();
+        containers.put(PREFIX + "GALASA_POOL_0", "RUN2");
+        when(this.dss.getPrefix("engine.ENGINE1.pool.")).thenReturn(containers);
+
+        assertThat(this.pool.evictFree()).isFalse();
+        verify(this.engine, times(0)).deleteContainer(Mockito.anyString());
+    }
+
+    private JsonObject container(boolean running) {
+        JsonObject state = new JsonObject();
+        state.addProperty("Running", running);
+        JsonObject container = new JsonObject();
+        container.add("State", state);
+        return container;
+    }
+
+    private HashSet<String> keys(String name) {
+        return new HashSet<>(Arrays.asList(PREFIX + name, PREFIX + name + DockerContainerPool.LAST_USED_SUFFIX));
+    }
+}
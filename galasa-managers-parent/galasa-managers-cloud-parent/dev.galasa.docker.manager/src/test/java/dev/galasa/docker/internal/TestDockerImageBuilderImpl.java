@@ -0,0 +1,218 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.http.HttpEntity;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import dev.galasa.artifact.IBundleResources;
+import dev.galasa.docker.DockerManagerException;
+
+public class TestDockerImageBuilderImpl {
+
+    private static final String IMAGE = "galasa/test:1.0";
+    private static final String ID    = "sha256:0123456789abcdef";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private DockerEngineImpl       engine;
+    private DockerImageBuilderImpl builder;
+    private Path                   context;
+
+    // The archive sent to the engine, entry name to content
+    private final Map<String, String>          archive            = new LinkedHashMap<>();
+    private final Map<String, TarArchiveEntry> entries            = new HashMap<>();
+    private final List<Path>                   contextDirectories = new ArrayList<>();
+
+    @Before
+    public void before() throws Exception {
+        this.engine = mock(DockerEngineImpl.class);
+        this.builder = Mockito.spy(new DockerImageBuilderImpl(this.engine));
+        this.context = this.temporaryFolder.newFolder("context").toPath();
+
+        // Record the temporary context directories so the clean up can be checked
+        Mockito.doAnswer(invocation -> {
+            Path directory = Files.createTempDirectory(this.temporaryFolder.getRoot().toPath(), "galasa-docker-build");
+            this.contextDirectories.add(directory);
+            return directory;
+        }).when(this.builder).createContextDirectory();
+
+        when(this.engine.buildImage(Mockito.eq(IMAGE), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(HttpEntity.class))).thenAnswer(invocation -> {
+            HttpEntity entity = invocation.getArgument(4);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            entity.writeTo(out);
+            readArchive(out.toByteArray());
+            return ID;
+        });
+    }
+
+    @Test
+    public void testBuildImageContext() throws Exception {
+        write("Dockerfile", "FROM scratch");
+        write("app/lib/a.jar", "JAR");
+        write("app/run.sh", "#!/bin/sh");
+        this.context.resolve("app/run.sh").toFile().setExecutable(true);
+
+        assertThat(this.builder.buildImage(IMAGE, this.context, "Dockerfile", null, null)).isEqualTo(ID);
+
+        assertThat(this.archive.keySet()).containsExactly("Dockerfile", "app/", "app/lib/", "app/lib/a.jar", "app/run.sh");
+        assertThat(this.archive.get("Dockerfile")).isEqualTo("FROM scratch");
+        assertThat(this.archive.get("app/lib/a.jar")).isEqualTo("JAR");
+        assertThat(this.entries.get("app/").isDirectory()).isTrue();
+        assertThat(this.entries.get("app/run.sh").getMode()).isEqualTo(0100755);
+        assertThat(this.entries.get("app/lib/a.jar").getSize()).isEqualTo(3);
+    }
+
+    @Test
+    public void testBuildImageDockerignore() throws Exception {
+        write(".dockerignore", "# build output\n"
+                + "*.log\n"
+                + "target/\n"
+                + "!target/keep.jar\n"
+                + "/docs\n"
+                + "**/*.tmp\n"
+                + "Dockerfile\n");
+        write("Dockerfile", "FROM scratch");
+        write("build.log", "LOG");
+        write("src/app.log", "LOG");
+        write("src/Main.java", "JAVA");
+        write("src/scratch.tmp", "TMP");
+        write("target/a.class", "CLASS");
+        write("target/keep.jar", "JAR");
+        write("docs/readme.md", "DOC");
+
+        this.builder.buildImage(IMAGE, this.context, null, null, null);
+
+        // *.log only matches the top level, the Dockerfile and .dockerignore are always sent
+        assertThat(this.archive.keySet()).containsExactly(".dockerignore", "Dockerfile", "src/", "src/Main.java", "src/app.log", "target/keep.jar");
+    }
+
+    @Test
+    public void testBuildImageDockerignoreExceptionOrder() throws Exception {
+        write(".dockerignore", "!docs/readme.md\n"
+                + "docs\n");
+        write("docs/readme.md", "DOC");
+
+        this.builder.buildImage(IMAGE, this.context, null, null, null);
+
+        // The last matching pattern wins
+        assertThat(this.archive.keySet()).containsExactly(".dockerignore");
+    }
+
+    @Test
+    public void testBuildImageNotDirectory() throws Exception {
+        Path file = write("Dockerfile", "FROM scratch");
+
+        assertThatThrownBy(() -> this.builder.buildImage(IMAGE, file, null, null, null))
+            .isInstanceOf(DockerManagerException.class)
+            .hasMessage("Build context '" + file + "' is not a directory");
+    }
+
+    @Test
+    public void testBuildImageResources() throws Exception {
+        Map<String, InputStream> resources = new HashMap<>();
+        resources.put("app/run.sh", stream("#!/bin/sh"));
+
+        this.builder.buildImage(IMAGE, stream("FROM scratch"), resources);
+
+        assertThat(this.archive.keySet()).containsExactly("Dockerfile", "app/", "app/run.sh");
+        assertThat(this.archive.get("app/run.sh")).isEqualTo("#!/bin/sh");
+        assertContextDeleted();
+    }
+
+    @Test
+    public void testBuildImageResourceOutsideContext() throws Exception {
+        Map<String, InputStream> resources = new HashMap<>();
+        resources.put("../evil.sh", stream("#!/bin/sh"));
+
+        assertThatThrownBy(() -> this.builder.buildImage(IMAGE, stream("FROM scratch"), resources))
+            .isInstanceOf(DockerManagerException.class)
+            .hasMessage("Build resource '../evil.sh' is outside the build context");
+        assertThat(this.temporaryFolder.getRoot().toPath().resolve("evil.sh")).doesNotExist();
+        assertContextDeleted();
+    }
+
+    @Test
+    public void testBuildImageFailureDeletesContext() throws Exception {
+        Mockito.doThrow(new DockerManagerException("build failed"))
+            .when(this.engine).buildImage(Mockito.eq(IMAGE), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(HttpEntity.class));
+
+        assertThatThrownBy(() -> this.builder.buildImage(IMAGE, stream("FROM scratch"), new HashMap<>()))
+            .isInstanceOf(DockerManagerException.class)
+            .hasMessage("build failed");
+        assertContextDeleted();
+    }
+
+    @Test
+    public void testBuildImageBundleResources() throws Exception {
+        IBundleResources bundleResources = mock(IBundleResources.class);
+        Map<String, InputStream> contents = new HashMap<>();
+        contents.put("/docker/build/Dockerfile", stream("FROM scratch"));
+        contents.put("docker/build/app/a.txt", stream("A"));
+        when(bundleResources.retrieveDirectoryContents("/docker/build")).thenReturn(contents);
+
+        assertThat(this.builder.buildImage(IMAGE, bundleResources, "/docker/build", null, null, null)).isEqualTo(ID);
+
+        assertThat(this.archive.keySet()).containsExactly("Dockerfile", "app/", "app/a.txt");
+        assertContextDeleted();
+    }
+
+    private void assertContextDeleted() {
+        assertThat(this.contextDirectories).hasSize(1);
+        assertThat(this.contextDirectories.get(0)).doesNotExist();
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path path = this.context.resolve(name);
+        Files.createDirectories(path.getParent());
+        return Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void readArchive(byte[] tar) throws IOException {
+        try (TarArchiveInputStream in = new TarArchiveInputStream(new ByteArrayInputStream(tar))) {
+            TarArchiveEntry entry;
+            while ((entry = in.getNextTarEntry()) != null) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int len;
+                while ((len = in.read(buffer)) >= 0) {
+                    content.write(buffer, 0, len);
+                }
+                this.archive.put(entry.getName(), new String(content.toByteArray(), StandardCharsets.UTF_8));
+                this.entries.put(entry.getName(), entry);
+            }
+        }
+    }
+}
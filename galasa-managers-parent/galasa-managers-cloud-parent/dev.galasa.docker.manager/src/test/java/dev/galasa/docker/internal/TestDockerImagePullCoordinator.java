@@ -0,0 +1,295 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.gson.JsonObject;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import dev.galasa.docker.DockerManagerException;
+import dev.galasa.framework.spi.IDynamicStatusStoreService;
+
+public class TestDockerImagePullCoordinator {
+
+    private static final String WORKING_NAME = "library/httpd:2.4";
+    private static final String FULL_NAME    = "registry.example.com/library/httpd:2.4";
+    private static final String PREFIX       = "engine.ENGINE1.image.library_httpd_2.4.";
+    private static final String CLAIM        = "engine.ENGINE1.image.library_httpd_2.4.pull";
+    private static final String IMAGE_ID     = "sha256:1111";
+    private static final String DIGEST       = "sha256:2222";
+
+    private DockerEngineImpl           engine;
+    private IDynamicStatusStoreService dss;
+    private DockerImagePullCoordinator coordinator;
+
+    @Before
+    public void before() throws Exception {
+        this.engine = mock(DockerEngineImpl.class);
+        this.dss = mock(IDynamicStatusStoreService.class);
+        when(this.engine.getEngineId()).thenReturn("ENGINE1");
+        when(this.engine.getImage(FULL_NAME)).thenReturn(image(IMAGE_ID));
+
+        this.coordinator = coordinator(Duration.ofMillis(200));
+    }
+
+    @Test
+    public void testPullRecordsImage() throws Exception {
+        when(this.dss.putSwap(CLAIM, null, "RUN1")).thenReturn(true);
+        when(this.engine.pullImage(FULL_NAME, null)).thenReturn(DIGEST);
+
+        assertThat(this.coordinator.pull(WORKING_NAME, FULL_NAME, null)).isEqualTo(DIGEST);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> record = ArgumentCaptor.forClass(Map.class);
+        verify(this.dss).put(record.capture());
+        assertThat(record.getValue()).containsEntry(PREFIX + "name", FULL_NAME)
+            .containsEntry(PREFIX + "id", IMAGE_ID)
+            .containsEntry(PREFIX + "digest", DIGEST)
+            .containsKey(PREFIX + "pulled");
+        verify(this.dss).delete(CLAIM);
+    }
+
+    @Test
+    public void testPullInFlight() throws Exception {
+        when(this.dss.putSwap(CLAIM, null, "RUN1")).thenReturn(true);
+        CountDownLatch pulling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(this.engine.pullImage(FULL_NAME, null)).thenAnswer(invocation -> {
+            pulling.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return DIGEST;
+        });
+
+        AtomicReference<String> first = new AtomicReference<>();
+        Thread firstPull = new Thread(() -> {
+            try {
+                first.set(this.coordinator.pull(WORKING_NAME, FULL_NAME, null));
+            } catch (DockerManagerException e) {
+                first.set(e.getMessage());
+            }
+        });
+        firstPull.start();
+        assertThat(pulling.await(10, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<String> second = new AtomicReference<>();
+        Thread secondPull = new Thread(() -> {
+            try {
+                second.set(coordinator(Duration.ofMillis(200)).pull(WORKING_NAME, FULL_NAME, null));
+            } catch (DockerManagerException e) {
+                second.set(e.getMessage());
+            }
+        });
+        secondPull.start();
+        // Let the second pull find the first in flight before it completes
+        waitUntilWaiting(secondPull);
+        release.countDown();
+        firstPull.join(10000);
+        secondPull.join(10000);
+
+        assertThat(first.get()).isEqualTo(DIGEST);
+        assertThat(second.get()).isEqualTo(DIGEST);
+        verify(this.engine, times(1)).pullImage(FULL_NAME, null);
+        verify(this.dss, times(1)).putSwap(CLAIM, null, "RUN1");
+    }
+
+    @Test
+    public void testPullInFlightFailure() throws Exception {
+        when(this.dss.putSwap(CLAIM, null, "RUN1")).thenReturn(true);
+        CountDownLatch pulling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DockerManagerException failure = new DockerManagerException("pull failed");
+        when(this.engine.pullImage(FULL_NAME, null)).thenAnswer(invocation -> {
+            pulling.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        Thread firstPull = new Thread(() -> {
+            try {
+                this.coordinator.pull(WORKING_NAME, FULL_NAME, null);
+            } catch (DockerManagerException e) {
+                // Expected
+            }
+        });
+        firstPull.start();
+        assertThat(pulling.await(10, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<DockerManagerException> second = new AtomicReference<>();
+        Thread secondPull = new Thread(() -> {
+            try {
+                this.coordinator.pull(WORKING_NAME, FULL_NAME, null);
+            } catch (DockerManagerException e) {
+                second.set(e);
+            }
+        });
+        secondPull.start();
+        waitUntilWaiting(secondPull);
+        release.countDown();
+        firstPull.join(10000);
+        secondPull.join(10000);
+
+        assertThat(second.get()).hasMessage("Pull of Docker Image " + FULL_NAME + " failed").hasCause(failure);
+        verify(this.engine, times(1)).pullImage(FULL_NAME, null);
+        // The claim is released for the next run
+        verify(this.dss).delete(CLAIM);
+    }
+
+    @Test
+    public void testPullClaimedByAnotherRun() throws Exception {
+        when(this.dss.putSwap(CLAIM, null, "RUN1")).thenReturn(false, false, true);
+        when(this.dss.get(CLAIM)).thenReturn("RUN2");
+        recordPulled(FULL_NAME, Instant.now());
+
+        assertThat(this.coordinator.pull(WORKING_NAME, FULL_NAME, null)).isEqualTo(DIGEST);
+
+        verify(this.dss, times(3)).putSwap(CLAIM, null, "RUN1");
+        verify(this.engine, never()).pullImage(Mockito.anyString(), Mockito.any());
+        verify(this.dss).delete(CLAIM);
+    }
+
+    @Test
+    public void testPullClaimedByAnotherRunFailed() throws Exception {
+        // The other run released the claim without recording the image, so it is pulled
+        when(this.dss.putSwap(CLAIM, null, "RUN1")).thenReturn(false, true);
+        when(this.dss.get(CLAIM)).thenReturn("RUN2");
+        when(this.engine.pullImage(FULL_NAME, null)).thenReturn(DIGEST);
+
+        assertThat(this.coordinator.pull(WORKING_NAME, FULL_NAME, null)).isEqualTo(DIGEST);
+
+        verify(this.engine, times(1)).pullImage(FULL_NAME, null);
+        verify(this.dss).delete(CLAIM);
+    }
+
+    @Test
+    public void testPullClaimTimeout() throws Exception {
+        when(this.dss.putSwap(CLAIM, null, "RUN1")).thenReturn(false);
+        when(this.dss.get(CLAIM)).thenReturn("RUN2");
+
+        assertThatThrownBy(() -> this.coordinator.pull(WORKING_NAME, FULL_NAME, null))
+            .isInstanceOf(DockerManagerException.class)
+            .hasMessage("Timed out waiting for run RUN2 to pull Docker Image " + FULL_NAME);
+
+        verify(this.engine, never()).pullImage(Mockito.anyString(), Mockito.any());
+        // The claim of the other run must be left alone
+        verify(this.dss, never()).delete(CLAIM);
+    }
+
+    @Test
+    public void testGetCachedImage() throws Exception {
+        recordPulled(FULL_NAME, Instant.now());
+
+        assertThat(this.coordinator.getCachedImage(WORKING_NAME)).isEqualTo(FULL_NAME);
+    }
+
+    @Test
+    public void testGetCachedImageExpired() throws Exception {
+        recordPulled(FULL_NAME, Instant.now().minus(Duration.ofHours(2)));
+
+        assertThat(this.coordinator.getCachedImage(WORKING_NAME)).isNull();
+        verify(this.engine, never()).getImage(Mockito.anyString());
+    }
+
+    @Test
+    public void testGetCachedImageNoPullTime() throws Exception {
+        when(this.dss.get(PREFIX + "name")).thenReturn(FULL_NAME);
+        when(this.dss.get(PREFIX + "id")).thenReturn(IMAGE_ID);
+
+        assertThat(this.coordinator.getCachedImage(WORKING_NAME)).isNull();
+    }
+
+    @Test
+    public void testGetCachedImageDigest() throws Exception {
+        String workingName = "library/httpd@" + DIGEST;
+        String fullName = "registry.example.com/" + workingName;
+        String prefix = "engine.ENGINE1.image.library_httpd_sha256_2222.";
+        when(this.dss.get(prefix + "name")).thenReturn(fullName);
+        when(this.dss.get(prefix + "id")).thenReturn(IMAGE_ID);
+        when(this.dss.get(prefix + "pulled")).thenReturn(Instant.now().minus(Duration.ofDays(7)).toString());
+        when(this.engine.getImage(fullName)).thenReturn(image(IMAGE_ID));
+
+        // An image named by digest can not change, so the record does not expire
+        assertThat(this.coordinator.getCachedImage(workingName)).isEqualTo(fullName);
+    }
+
+    @Test
+    public void testGetCachedImageReplaced() throws Exception {
+        recordPulled(FULL_NAME, Instant.now());
+        when(this.engine.getImage(FULL_NAME)).thenReturn(image("sha256:3333"));
+
+        assertThat(this.coordinator.getCachedImage(WORKING_NAME)).isNull();
+    }
+
+    @Test
+    public void testGetCachedImageOtherImage() throws Exception {
+        // library_httpd:2.4 has the same property name as library/httpd:2.4
+        recordPulled("registry.example.com/library_httpd:2.4", Instant.now());
+
+        assertThat(this.coordinator.getCachedImage(WORKING_NAME)).isNull();
+    }
+
+    @Test
+    public void testGetCachedImageLatest() throws Exception {
+        assertThat(this.coordinator.getCachedImage("library/httpd:latest")).isNull();
+        verify(this.dss, never()).get(Mockito.anyString());
+    }
+
+    @Test
+    public void testIsExpired() {
+        Duration timeout = Duration.ofHours(1);
+        assertThat(DockerImagePullCoordinator.isExpired(Instant.now().toString(), timeout)).isFalse();
+        assertThat(DockerImagePullCoordinator.isExpired(Instant.now().minus(Duration.ofMinutes(61)).toString(), timeout)).isTrue();
+        assertThat(DockerImagePullCoordinator.isExpired(Instant.now().toString(), Duration.ZERO)).isTrue();
+        assertThat(DockerImagePullCoordinator.isExpired(null, timeout)).isTrue();
+        assertThat(DockerImagePullCoordinator.isExpired("yesterday", timeout)).isTrue();
+    }
+
+    private DockerImagePullCoordinator coordinator(Duration waitTimeout) {
+        return new DockerImagePullCoordinator(this.engine, this.dss, "RUN1", 10, waitTimeout) {
+            @Override
+            protected Duration getCacheTimeout() {
+                return Duration.ofHours(1);
+            }
+        };
+    }
+
+    private void recordPulled(String fullName, Instant pulled) throws Exception {
+        when(this.dss.get(PREFIX + "name")).thenReturn(fullName);
+        when(this.dss.get(PREFIX + "id")).thenReturn(IMAGE_ID);
+        when(this.dss.get(PREFIX + "digest")).thenReturn(DIGEST);
+        when(this.dss.get(PREFIX + "pulled")).thenReturn(pulled.toString());
+    }
+
+    private JsonObject image(String id) {
+        JsonObject image = new JsonObject();
+        image.addProperty("Id", id);
+        return image;
+    }
+
+    private void waitUntilWaiting(Thread thread) throws InterruptedException {
+        Instant timeout = Instant.now().plusSeconds(10);
+        while (thread.getState() != Thread.State.WAITING && Instant.now().isBefore(timeout)) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.docker.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class TestDockerStreamDemultiplexer {
+
+    private final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    @Test
+    public void testInterleavedFrames() throws Exception {
+        byte[] stream = concat(frame(1, "line 1\n"), frame(2, "error 1\n"), frame(1, "line 2\n"), frame(0, "stdin\n"), frame(2, "error 2\n"));
+
+        DockerStreamDemultiplexer.copy(new ByteArrayInputStream(stream), true, this.stdout, this.stderr);
+
+        assertThat(text(this.stdout)).isEqualTo("line 1\nline 2\nstdin\n");
+        assertThat(text(this.stderr)).isEqualTo("error 1\nerror 2\n");
+    }
+
+    @Test
+    public void testSplitReads() throws Exception {
+        char[] large = new char[20000];
+        Arrays.fill(large, 'x');
+        String largePayload = new String(large);
+        byte[] stream = concat(frame(1, "out"), frame(2, largePayload), frame(1, ""), frame(1, "more"));
+
+        // The frame headers and payloads arrive a few bytes at a time
+        DockerStreamDemultiplexer.copy(new TrickleInputStream(stream, 3), true, this.stdout, this.stderr);
+
+        assertThat(text(this.stdout)).isEqualTo("outmore");
+        assertThat(text(this.stderr)).isEqualTo(largePayload);
+    }
+
+    @Test
+    public void testEmptyStream() throws Exception {
+        DockerStreamDemultiplexer.copy(new ByteArrayInputStream(new byte[0]), true, this.stdout, this.stderr);
+
+        assertThat(this.stdout.size()).isZero();
+        assertThat(this.stderr.size()).isZero();
+    }
+
+    @Test
+    public void testDiscardedStream() throws Exception {
+        byte[] stream = concat(frame(2, "discarded"), frame(1, "kept"));
+
+        DockerStreamDemultiplexer.copy(new ByteArrayInputStream(stream), true, this.stdout, null);
+
+        assertThat(text(this.stdout)).isEqualTo("kept");
+    }
+
+    @Test
+    public void testTruncatedHeader() throws Exception {
+        byte[] stream = concat(frame(1, "complete"), Arrays.copyOf(frame(1, "partial"), 4));
+
+        assertThatThrownBy(() -> DockerStreamDemultiplexer.copy(new ByteArrayInputStream(stream), true, this.stdout, this.stderr))
+            .isInstanceOf(EOFException.class)
+            .hasMessage("Multiplexed docker stream ended part way through a frame header");
+        assertThat(text(this.stdout)).isEqualTo("complete");
+    }
+
+    @Test
+    public void testTruncatedPayload() throws Exception {
+        byte[] full = frame(2, "0123456789");
+        byte[] stream = Arrays.copyOf(full, full.length - 5);
+
+        assertThatThrownBy(() -> DockerStreamDemultiplexer.copy(new ByteArrayInputStream(stream), true, this.stdout, this.stderr))
+            .isInstanceOf(EOFException.class)
+            .hasMessage("Multiplexed docker stream ended part way through a frame");
+        assertThat(text(this.stderr)).isEqualTo("01234");
+    }
+
+    @Test
+    public void testInvalidStreamType() throws Exception {
+        byte[] stream = frame(3, "unknown");
+
+        assertThatThrownBy(() -> DockerStreamDemultiplexer.copy(new ByteArrayInputStream(stream), true, this.stdout, this.stderr))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Invalid stream type 3 in multiplexed docker stream");
+    }
+
+    @Test
+    public void testTtyPassthrough() throws Exception {
+        // A raw stream is not parsed, even if it looks like a frame
+        byte[] stream = concat(frame(2, "not a frame"), "raw output\r\n".getBytes(StandardCharsets.UTF_8));
+
+        DockerStreamDemultiplexer.copy(new TrickleInputStream(stream, 5), false, this.stdout, this.stderr);
+
+        assertThat(this.stdout.toByteArray()).isEqualTo(stream);
+        assertThat(this.stderr.size()).isZero();
+    }
+
+    private static byte[] frame(int type, String payload) {
+        byte[] data = payload.getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[8 + data.length];
+        frame[0] = (byte) type;
+        frame[4] = (byte) (data.length >>> 24);
+        frame[5] = (byte) (data.length >>> 16);
+        frame[6] = (byte) (data.length >>> 8);
+        frame[7] = (byte) data.length;
+        System.arraycopy(data, 0, frame, 8, data.length);
+        return frame;
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static String text(ByteArrayOutputStream out) {
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns at most a few bytes from each read, as a network stream may
+     */
+    private static class TrickleInputStream extends ByteArrayInputStream {
+        private final int maxRead;
+
+        TrickleInputStream(byte[] buf, int maxRead) {
+            super(buf);
+            this.maxRead = maxRead;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, this.maxRead));
+        }
+    }
+}
@@ -7,6 +7,7 @@ package dev.galasa.http;
 
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Path;
 import java.security.KeyStore;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +15,7 @@ import java.util.Map;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 
 import com.google.gson.JsonObject;
@@ -170,6 +172,18 @@ public interface IHttpClient {
      */
     HttpClientResponse<byte[]> putBinary(String url, byte[] binary) throws HttpClientException;
 
+    /**
+     * Issue an HTTP PUT to the provided URL, sending the content of the provided
+     * file and receiving a {@link byte[]} in the response. The file is streamed
+     * to the connection rather than read into memory
+     * 
+     * @param url
+     * @param file
+     * @return - {@link HttpClientResponse} with a byte array content type
+     * @throws HttpClientException
+     */
+    HttpClientResponse<byte[]> putBinary(String url, Path file) throws HttpClientException;
+
     /**
      * Issue an HTTP GET to the provided URL, sending the provided
      * {@link byte[]} and receiving a {@link byte[]} in the response.
@@ -228,6 +242,38 @@ public interface IHttpClient {
      */
     void putFile(String path, InputStream file);
 
+    /**
+     * Issue an HTTP POST with an entity that is written to the connection as it is sent, so a large body is not
+     * held in memory. The response is returned unread, so that it can also be streamed, and must be closed by the
+     * caller
+     * 
+     * @param path        - URL path
+     * @param queryParams - query parameters, encoded by the client, may be null
+     * @param contentType - the content type of the entity
+     * @param entity      - the entity
+     * @param acceptTypes - the accepted response types
+     * @return the response
+     * @throws HttpClientException
+     */
+    CloseableHttpResponse postStream(String path, Map<String, String> queryParams, ContentType contentType, HttpEntity entity,
+            ContentType... acceptTypes) throws HttpClientException;
+
+    /**
+     * Issue an HTTP POST as {@link #postStream(String, Map, ContentType, HttpEntity, ContentType...)}, with headers
+     * that are sent on this request only, rather than on every request of the client
+     * 
+     * @param path        - URL path
+     * @param queryParams - query parameters, encoded by the client, may be null
+     * @param headers     - request headers, may be null
+     * @param contentType - the content type of the entity, may be null if there is no entity
+     * @param entity      - the entity, may be null
+     * @param acceptTypes - the accepted response types
+     * @return the response
+     * @throws HttpClientException
+     */
+    CloseableHttpResponse postStream(String path, Map<String, String> queryParams, Map<String, String> headers, ContentType contentType,
+            HttpEntity entity, ContentType... acceptTypes) throws HttpClientException;
+
     /**
      * Execute an {@link HttpClientRequest} returning a JAXB object available
      * through the returned {@link HttpClientResponse}. In order to unmarshal the
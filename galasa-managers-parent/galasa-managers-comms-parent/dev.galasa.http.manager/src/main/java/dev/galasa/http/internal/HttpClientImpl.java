@@ -14,6 +14,8 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.SecureRandom;
@@ -244,6 +246,18 @@ public class HttpClientImpl implements IHttpClient {
         return executeByteRequest(request);
     }
 
+    @Override
+    public HttpClientResponse<byte[]> putBinary(String url, Path file) throws HttpClientException {
+        HttpPut put = new HttpPut(buildUri(url, null));
+        try {
+            put.setEntity(new InputStreamEntity(Files.newInputStream(file), Files.size(file)));
+        } catch (IOException e) {
+            throw new HttpClientException("Unable to read " + file, e);
+        }
+        addHeaders(put, ContentType.TEXT_PLAIN, new ContentType[] { ContentType.TEXT_PLAIN });
+        return HttpClientResponse.byteResponse(execute(put));
+    }
+
     @Override
     public HttpClientResponse<byte[]> getBinary(String url, byte[] binary) throws HttpClientException {       
         HttpClientRequest request = HttpClientRequest.newGetRequest(buildUri(url, null).toString(),
@@ -779,6 +793,35 @@ public class HttpClientImpl implements IHttpClient {
         }
     }
 
+    @Override
+    public CloseableHttpResponse postStream(String path, Map<String, String> queryParams, ContentType contentType, HttpEntity entity,
+            ContentType... acceptTypes) throws HttpClientException {
+        return postStream(path, queryParams, null, contentType, entity, acceptTypes);
+    }
+
+    @Override
+    public CloseableHttpResponse postStream(String path, Map<String, String> queryParams, Map<String, String> headers, ContentType contentType,
+            HttpEntity entity, ContentType... acceptTypes) throws HttpClientException {
+
+        HttpPost post = new HttpPost(buildUri(path, queryParams));
+        if (entity != null) {
+            post.setEntity(entity);
+        }
+        addHeaders(post, contentType, acceptTypes);
+        if (headers != null) {
+            for (Entry<String, String> header : headers.entrySet()) {
+                post.addHeader(header.getKey(), header.getValue());
+            }
+        }
+
+        this.build();
+        try {
+            return httpClient.execute(post, httpContext);
+        } catch (IOException e) {
+            throw new HttpClientException("Error executing http request", e);
+        }
+    }
+
     @Override
     public void addCommonHeader(String name, String value) {
         List<Header> toRemove = new ArrayList<>();
@@ -0,0 +1,76 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork;
+
+import java.nio.file.Path;
+
+import dev.galasa.ipnetwork.internal.ssh.filesystem.SSHFileSystem;
+import dev.galasa.ipnetwork.internal.ssh.filesystem.SSHFileTreeTransfer;
+
+/**
+ * Copies directory trees between the local file system and a remote file system provided by the IP Network Manager,
+ * for example the root of a Linux image. Files are transferred concurrently, or, when archive is requested, the tree
+ * is streamed as a single gzipped tar archive, which is faster for many small files but needs {@code tar} and
+ * {@code gzip} on the remote host
+ */
+public final class FileTreeTransfer {
+
+    private FileTreeTransfer() {
+    }
+
+    /**
+     * Copy a local directory tree to a remote directory
+     *
+     * @param localPath  - the local directory
+     * @param remotePath - the remote directory, created if it does not exist
+     * @throws IpNetworkManagerException
+     */
+    public static void copyTree(Path localPath, Path remotePath) throws IpNetworkManagerException {
+        copyTree(localPath, remotePath, false);
+    }
+
+    /**
+     * Copy a local directory tree to a remote directory
+     *
+     * @param localPath  - the local directory
+     * @param remotePath - the remote directory, created if it does not exist
+     * @param archive    - true to transfer the tree as a gzipped tar archive
+     * @throws IpNetworkManagerException
+     */
+    public static void copyTree(Path localPath, Path remotePath, boolean archive) throws IpNetworkManagerException {
+        new SSHFileTreeTransfer(getFileSystem(remotePath)).upload(localPath, remotePath.toAbsolutePath().toString(), archive);
+    }
+
+    /**
+     * Copy a remote directory tree to a local directory
+     *
+     * @param remotePath - the remote directory
+     * @param localPath  - the local directory, created if it does not exist
+     * @throws IpNetworkManagerException
+     */
+    public static void downloadTree(Path remotePath, Path localPath) throws IpNetworkManagerException {
+        downloadTree(remotePath, localPath, false);
+    }
+
+    /**
+     * Copy a remote directory tree to a local directory
+     *
+     * @param remotePath - the remote directory
+     * @param localPath  - the local directory, created if it does not exist
+     * @param archive    - true to transfer the tree as a gzipped tar archive
+     * @throws IpNetworkManagerException
+     */
+    public static void downloadTree(Path remotePath, Path localPath, boolean archive) throws IpNetworkManagerException {
+        new SSHFileTreeTransfer(getFileSystem(remotePath)).download(remotePath.toAbsolutePath().toString(), localPath, archive);
+    }
+
+    private static SSHFileSystem getFileSystem(Path remotePath) throws IpNetworkManagerException {
+        if (!(remotePath.getFileSystem() instanceof SSHFileSystem)) {
+            throw new IpNetworkManagerException("Path '" + remotePath + "' is not on an IP Network Manager file system");
+        }
+        return (SSHFileSystem) remotePath.getFileSystem();
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork;
+
+/**
+ * Receives the standard output of a command issued with
+ * {@link ICommandShell#issueExecCommand(String, long, ICommandOutputListener)} a line at a time as it is produced
+ */
+public interface ICommandOutputListener {
+
+    /**
+     * Called for each line of standard output. The next line is not read until this method returns
+     * 
+     * @param line - the line, without the line terminator
+     * @return true to continue, false to end the command
+     * @throws IpNetworkManagerException to end the command and fail it
+     */
+    public boolean lineReceived(String line) throws IpNetworkManagerException;
+
+}
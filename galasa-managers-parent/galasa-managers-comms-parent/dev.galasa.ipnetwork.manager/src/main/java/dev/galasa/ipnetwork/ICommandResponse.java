@@ -0,0 +1,28 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork;
+
+/**
+ * The response to a command issued with {@link ICommandShell#issueExecCommand(String, long)}
+ */
+public interface ICommandResponse {
+
+    /**
+     * @return the standard output of the command
+     */
+    public String getStdout();
+
+    /**
+     * @return the standard error of the command
+     */
+    public String getStderr();
+
+    /**
+     * @return the exit status of the command, or -1 if the host did not return one
+     */
+    public int getExitStatus();
+
+}
@@ -44,6 +44,41 @@ public interface ICommandShell {
      */
     public String issueCommand(String command, boolean newShell, long timeout) throws IpNetworkManagerException;
 
+    /**
+     * Issue a command on its own channel without a terminal, so standard output and
+     * standard error are returned separately with the exit status of the command
+     * 
+     * @param command - command to issue
+     * @param timeout - time (in milliseconds) to wait for the command to complete
+     * @return the response of the command
+     * @throws IpNetworkManagerException
+     */
+    public ICommandResponse issueExecCommand(String command, long timeout) throws IpNetworkManagerException;
+
+    /**
+     * Issue a command on its own channel without a terminal, passing each line of
+     * standard output to the listener as it is produced instead of returning it
+     * 
+     * @param command  - command to issue
+     * @param timeout  - time (in milliseconds) to wait for the command to complete
+     * @param listener - receives the standard output, and can end the command early
+     * @return the response of the command, without the standard output. The exit
+     *         status is -1 if the listener ended the command
+     * @throws IpNetworkManagerException
+     */
+    public ICommandResponse issueExecCommand(String command, long timeout, ICommandOutputListener listener) throws IpNetworkManagerException;
+
+    /**
+     * Issue a command on its own channel without a terminal, returning a stream of
+     * its standard output as it is produced. The stream must be closed
+     * 
+     * @param command - command to issue
+     * @param timeout - time (in milliseconds) to wait for the command to complete
+     * @return the command stream
+     * @throws IpNetworkManagerException
+     */
+    public ICommandStream issueStreamingCommand(String command, long timeout) throws IpNetworkManagerException;
+
 //	public void changeUser(String userid, String password);
 
     public void connect() throws IpNetworkManagerException;
@@ -0,0 +1,44 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork;
+
+import java.io.Closeable;
+import java.io.InputStream;
+
+/**
+ * A command issued with {@link ICommandShell#issueStreamingCommand(String, long)}, whose standard output is read as
+ * it is produced rather than returned in full when the command ends.<br>
+ * The output stream can be passed straight to the Text Scan Manager, for example
+ * <code>textScanner.scan(stream.getInputStream(), searchPattern, failPattern, 1, true)</code>, which stops reading as
+ * soon as the search or fail text is found and leaves the stream open. Close the stream to end a command before all of
+ * its output has been read.
+ */
+public interface ICommandStream extends Closeable {
+
+    /**
+     * Returns the standard output of the command. Reads block until output is available, and output that has not
+     * been read holds back the command, so it should be read promptly
+     * 
+     * @return the standard output stream
+     */
+    public InputStream getInputStream();
+
+    /**
+     * Wait for the command to end, discarding any standard output that has not been read
+     * 
+     * @return the response of the command, with the standard error and exit status. The standard output is not
+     *         included
+     * @throws IpNetworkManagerException if the command times out
+     */
+    public ICommandResponse waitFor() throws IpNetworkManagerException;
+
+    /**
+     * End the command if it is still running and free its channel
+     */
+    @Override
+    public void close();
+
+}
@@ -27,6 +27,7 @@ import dev.galasa.ipnetwork.ICommandShell;
 import dev.galasa.ipnetwork.IIpHost;
 import dev.galasa.ipnetwork.IpNetworkManagerException;
 import dev.galasa.ipnetwork.internal.ssh.SSHClient;
+import dev.galasa.ipnetwork.internal.ssh.SSHSessionPool;
 import dev.galasa.ipnetwork.internal.ssh.filesystem.SSHFileSystem;
 import dev.galasa.ipnetwork.spi.IIpNetworkManagerSpi;
 
@@ -40,6 +41,7 @@ public class IpNetworkManagerImpl extends AbstractManager implements IIpNetworkM
     private IFramework                         framework;
     private IConfigurationPropertyStoreService cps;
     private IDynamicStatusStoreService         dss;
+    private SSHSessionPool                     sshSessionPool;
 
     @Override
     public void initialise(@NotNull IFramework framework, @NotNull List<IManager> allManagers,
@@ -50,6 +52,7 @@ public class IpNetworkManagerImpl extends AbstractManager implements IIpNetworkM
             this.framework = framework;
             this.cps = framework.getConfigurationPropertyService(NAMESPACE);
             this.dss = framework.getDynamicStatusStoreService(NAMESPACE);
+            this.sshSessionPool = new SSHSessionPool(getSshMaxChannels(), getSshIdleTimeout());
         } catch (Exception e) {
             throw new IpNetworkManagerException("Unable to initialise the IP Network Manager", e);
         }
@@ -65,6 +68,13 @@ public class IpNetworkManagerImpl extends AbstractManager implements IIpNetworkM
         activeManagers.add(this);
     }
 
+    @Override
+    public void endOfTestRun() {
+        if (this.sshSessionPool != null) {
+            this.sshSessionPool.close();
+        }
+    }
+
     public IConfigurationPropertyStoreService getCPS() {
         return this.cps;
     }
@@ -80,7 +90,7 @@ public class IpNetworkManagerImpl extends AbstractManager implements IIpNetworkM
     @Override
     public @NotNull ICommandShell getCommandShell(IIpHost ipHost, ICredentials credentials)
             throws IpNetworkManagerException {
-        return new SSHClient(ipHost.getHostname(), ipHost.getSshPort(), credentials, 60000);
+        return new SSHClient(this.sshSessionPool.getSession(ipHost.getHostname(), ipHost.getSshPort(), credentials), 60000);
     }
 
     @Override
@@ -88,4 +98,38 @@ public class IpNetworkManagerImpl extends AbstractManager implements IIpNetworkM
         return new SSHFileSystem(ipHost.getHostname(), ipHost.getSshPort(), ipHost.getDefaultCredentials());
     }
 
+    /**
+     * The maximum number of channels open at the same time on a pooled SSH session, defaults to 10 to match the
+     * OpenSSH MaxSessions default<br>
+     * CPS property: <code>ipnetwork.ssh.max.channels=10</code>
+     */
+    private int getSshMaxChannels() throws IpNetworkManagerException {
+        try {
+            String temp = AbstractManager.nulled(this.cps.getProperty("ssh", "max.channels"));
+            if (temp == null) {
+                return 10;
+            }
+            return Integer.parseInt(temp);
+        } catch (Exception e) {
+            throw new IpNetworkManagerException("Unable to retrieve ssh max channels property", e);
+        }
+    }
+
+    /**
+     * The time in milliseconds a pooled SSH session is kept connected without use, defaults to 5 minutes so
+     * sessions are kept between test methods<br>
+     * CPS property: <code>ipnetwork.ssh.idle.timeout=300000</code>
+     */
+    private long getSshIdleTimeout() throws IpNetworkManagerException {
+        try {
+            String temp = AbstractManager.nulled(this.cps.getProperty("ssh", "idle.timeout"));
+            if (temp == null) {
+                return 300000;
+            }
+            return Long.parseLong(temp);
+        } catch (Exception e) {
+            throw new IpNetworkManagerException("Unable to retrieve ssh idle timeout property", e);
+        }
+    }
+
 }
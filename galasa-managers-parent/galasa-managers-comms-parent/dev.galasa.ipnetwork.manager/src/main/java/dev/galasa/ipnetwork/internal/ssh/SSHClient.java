@@ -5,10 +5,13 @@
  */
 package dev.galasa.ipnetwork.internal.ssh;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.util.Calendar;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -23,21 +26,20 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.jcraft.jsch.Channel;
-import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.ChannelShell;
-import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
-import com.jcraft.jsch.Session;
 
 import dev.galasa.ICredentials;
-import dev.galasa.ICredentialsUsernamePassword;
-import dev.galasa.ICredentialsUsernameToken;
+import dev.galasa.ipnetwork.ICommandOutputListener;
+import dev.galasa.ipnetwork.ICommandResponse;
 import dev.galasa.ipnetwork.ICommandShell;
-import dev.galasa.ipnetwork.SSHAuthFailException;
+import dev.galasa.ipnetwork.ICommandStream;
+import dev.galasa.ipnetwork.IpNetworkManagerException;
 import dev.galasa.ipnetwork.SSHException;
 
 /**
- * SSH client for Galasa
+ * SSH client for Galasa. Commands are issued on exec channels of an {@link SSHSession}, which may be shared with other
+ * clients, so commands can run concurrently
  * 
  * @author James Bartlett
  * 
@@ -46,56 +48,44 @@ public class SSHClient implements ICommandShell {
 
     private final Log           logger        = LogFactory.getLog(SSHClient.class);
 
-    private KeepAliveThread     keepAliveThread;
-
     private final long          defaultTimeout;
 
     private final String        hostname;
-    private final int           port;
-    private final String        userid;
-    private final String        password;
 
-    private JSch                sshClient;
-    private Session             session;
+    private final SSHSession    sshSession;
+    private final boolean       ownSession;
     private Channel             channel       = null;
 
-    private long                lastCommandTimestamp;
-
     private boolean             logShellResults;
 
     private final static String specialPrompt = "[GalasaPrompt]";
 
+    // Output is decoded with the platform charset, as it always has been
+    private final static Charset charset = Charset.defaultCharset();
+
     // Default value: Linux command
     private String changePromptCommand = "PS1=" + specialPrompt;
 
     public SSHClient(String hostname, int port, ICredentials credentials, long defaultTimeout) throws SSHException {
+        this(new SSHSession(hostname, port, credentials, 10, 60000), defaultTimeout, true);
+    }
 
-        this.hostname = hostname;
-        this.port = port;
-        this.defaultTimeout = defaultTimeout;
-
-        this.sshClient = new JSch();
-        this.session = null;
-
-        try {
-            if (credentials instanceof ICredentialsUsernamePassword) {
-                ICredentialsUsernamePassword creds = (ICredentialsUsernamePassword) credentials;
-                this.userid = creds.getUsername();
-                this.password = creds.getPassword();
-            } else if (credentials instanceof ICredentialsUsernameToken) {
-                ICredentialsUsernameToken creds = (ICredentialsUsernameToken) credentials;
-                this.userid = creds.getUsername();
-                this.password = null;
-                this.sshClient.addIdentity(this.userid, creds.getToken(), null, null);
-            } else {
-                throw new SSHException("Unsupported credentials type - " + credentials.getClass().getName());
-            }
-        } catch (SSHException e) {
-            throw e;
-        } catch (JSchException e) {
-            throw new SSHException("Problem adding credentials to SSH", e);
-        }
+    /**
+     * Create a client that issues commands on a shared session. The session is not disconnected when the client is
+     * disconnected
+     * 
+     * @param sshSession     - the session
+     * @param defaultTimeout - the default command timeout in milliseconds
+     */
+    public SSHClient(SSHSession sshSession, long defaultTimeout) {
+        this(sshSession, defaultTimeout, false);
+    }
 
+    private SSHClient(SSHSession sshSession, long defaultTimeout, boolean ownSession) {
+        this.sshSession = sshSession;
+        this.hostname = sshSession.getHostname();
+        this.defaultTimeout = defaultTimeout;
+        this.ownSession = ownSession;
     }
 
     /**
@@ -152,45 +142,100 @@ public class SSHClient implements ICommandShell {
      * @throws SSHException
      */
     @Override
-    public synchronized String issueCommand(String command, boolean newShell, long timeout) throws SSHException {
+    public String issueCommand(String command, boolean newShell, long timeout) throws SSHException {
 
-        // Connect if we are not already connected
-        connect();
-        try {
-            synchronized (sshClient) {
-                // SessionChannelClient session = null;
-                // if (session == null || session.)
-                try {
+        logger.trace("Issuing '" + command + "'");
 
-                    logger.trace("Issuing '" + command + "'");
-                    lastCommandTimestamp = System.currentTimeMillis();
+        // Issue the desired command on its own exec channel with a terminal, so
+        // stdout and stderr are interleaved as they would be on a terminal
+        SSHCommandResponse response = retrieveOutput(command, timeout, true);
+        String output = response.getStdout() + response.getStderr();
 
-                    // Issue the desired command and retrieve the response to a
-                    // string
-                    String response = retrieveOutput(command, timeout);
+        if (logShellResults) {
+            logger.trace("Received '" + output);
+        }
 
-                    if (logShellResults) {
-                        logger.trace("Received '" + response);
-                    }
-                    lastCommandTimestamp = System.currentTimeMillis();
+        return output;
+    }
 
-                    return response;
-                } catch (SSHException e) {
-                    throw e;
-                } catch (IOException e) {
-                    throw new SSHException("Error whilst issuing command to ssh '" + command + "'", e);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new SSHException("Interrupted while trying to retrieve output", e);
-                } catch (ExecutionException e) {
-                    throw new SSHException("Execution error while trying to retrieve output", e);
+    /**
+     * Issue a command on its own exec channel without a terminal, so stdout and
+     * stderr are returned separately with the exit status
+     * 
+     * @param command - command to issue
+     * @param timeout - time (in milliseconds) to wait for the command to complete
+     * @return the response of the command
+     * @throws SSHException
+     */
+    @Override
+    public ICommandResponse issueExecCommand(String command, long timeout) throws SSHException {
+
+        logger.trace("Issuing '" + command + "'");
+
+        SSHCommandResponse response = retrieveOutput(command, timeout, false);
+
+        if (logShellResults) {
+            logger.trace("Received " + response);
+        }
+
+        return response;
+    }
+
+    /**
+     * Issue a command on its own exec channel without a terminal, passing each
+     * line of stdout to the listener as it is read
+     * 
+     * @param command  - command to issue
+     * @param timeout  - time (in milliseconds) to wait for the command to complete
+     * @param listener - receives the stdout, and can end the command early
+     * @return the response of the command, without stdout
+     * @throws IpNetworkManagerException
+     */
+    @Override
+    public ICommandResponse issueExecCommand(String command, long timeout, ICommandOutputListener listener) throws IpNetworkManagerException {
+
+        logger.trace("Issuing '" + command + "'");
+
+        try (SSHCommandStream stream = new SSHCommandStream(sshSession, command, timeout, false, charset)) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream.getInputStream(), charset));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!listener.lineReceived(line)) {
+                        logger.trace("Command '" + command + "' ended by the output listener");
+                        return new SSHCommandResponse("", stream.getStderr(), -1);
+                    }
+                }
+            } catch (IOException e) {
+                if (!stream.isTimedOut()) {
+                    throw new SSHException("Error reading exec output", e);
                 }
             }
-        } finally {
-            // disconnect();
+            if (stream.isTimedOut()) {
+                throw new SSHException("Read of command timed out");
+            }
+
+            return stream.waitFor();
         }
     }
 
+    /**
+     * Issue a command on its own exec channel without a terminal, returning a
+     * stream of stdout as it is produced
+     * 
+     * @param command - command to issue
+     * @param timeout - time (in milliseconds) to wait for the command to complete
+     * @return the command stream
+     * @throws SSHException
+     */
+    @Override
+    public ICommandStream issueStreamingCommand(String command, long timeout) throws SSHException {
+
+        logger.trace("Issuing '" + command + "'");
+
+        return new SSHCommandStream(sshSession, command, timeout, false, charset);
+    }
+
     /**
      * Define the right command used to change the shell prompt
      */
@@ -259,33 +304,31 @@ public class SSHClient implements ICommandShell {
     @Override
     public synchronized String issueCommandToShell(String command, boolean newShell, long timeout) throws SSHException {
 
-        connect();
-
+        sshSession.startUse();
         try {
 
             if (channel == null || channel.isClosed() || newShell) {
-                if (channel != null && !channel.isClosed()) {
-                    logger.trace("Closing old shell session");
-                    channel.disconnect();
+                if (channel != null) {
+                    if (!channel.isClosed()) {
+                        logger.trace("Closing old shell session");
+                    }
+                    sshSession.closeChannel(channel);
+                    channel = null;
                 }
                 logger.trace("Opening new shell session to ssh");
-                channel = session.openChannel("shell");
+                channel = sshSession.openChannel("shell", timeout);
                 ((ChannelShell) channel).setPty(true);
                 ((ChannelShell) channel).setPtyType("ansi", 2048, 24, 0, 0);
                 channel.connect();
-                Thread.sleep(5000); // NOSONAR - Sleep is sufficent
             }
 
-            lastCommandTimestamp = System.currentTimeMillis();
-            // Set a special prompt so we can easily identify responses to our commands
+            // Set a special prompt so we can easily identify responses to our commands.
+            // Waiting for the prompt also waits for a new shell to be ready
             logger.trace("Setting special prompt '" + specialPrompt + "'");
             retrieveOutputFromShell(channel, changePromptCommand, timeout);
-            Thread.sleep(500); // NOSONAR - Sleep is sufficent
 
             // Issue the desired command and retrieve the response to a string
-            lastCommandTimestamp = System.currentTimeMillis();
             String response = retrieveOutputFromShell(channel, command, timeout);
-            lastCommandTimestamp = System.currentTimeMillis();
 
             return response;
 
@@ -299,78 +342,18 @@ public class SSHClient implements ICommandShell {
         } catch (ExecutionException e) {
             throw new SSHException("Execution error while trying to retrieve output", e);
         } finally {
-            // disconnect();
+            sshSession.endUse();
         }
     }
 
-    @Override
-    public void connect() throws SSHException {
-        connect(5);
-    }
-
     /**
-     * Connect to the target system
+     * Connect to the target system if the session is not already connected
      * 
      * @throws SSHException
      */
-    private synchronized void connect(int retry) throws SSHException {
-        // Do nothing if already connected
-        if (session != null && session.isConnected()) {
-            return;
-        }
-
-        try {
-
-            try {
-                session = sshClient.getSession(this.userid, hostname, port);
-                session.setIdentityRepository(sshClient.getIdentityRepository());
-                if (this.password != null) {
-                    session.setPassword(this.password);
-                }
-                session.setConfig("StrictHostKeyChecking", "no");
-
-                session.connect();
-
-                // Slight delay to allow the connection to stabilise
-                try {
-                    Thread.sleep(200); // NOSONAR - Sleep is sufficent
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new SSHException("Interrupted trying to authenticate using SSH", e);
-                }
-
-                logger.trace("SSH Client connected to '" + hostname + ":" + port);
-
-                this.keepAliveThread = new KeepAliveThread(session);
-                this.keepAliveThread.start();
-
-            } catch (Exception e) {
-                if ("Auth fail".equals(e.getMessage())) {
-                    throw new SSHAuthFailException(e);
-                }
-
-                if (retry > 0) {
-                    logger.trace("Exception caught during SSH connection, will retry.", e);
-                    if (session != null && session.isConnected()) {
-                        session.disconnect();
-                        session = null;
-                    }
-                    Thread.sleep(5000); // NOSONAR - Sleep is sufficent
-                    connect(retry - 1);
-                } else {
-                    throw e;
-                }
-            }
-        } catch (SSHException e) {
-            throw e;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new SSHException("Interrupted while trying to retrieve output", e);
-        } catch (Exception e) {
-            throw new SSHException("Unrecognised exception in connection", e);
-        }
-
-        return;
+    @Override
+    public void connect() throws SSHException {
+        sshSession.connect();
     }
 
     @Override
@@ -378,109 +361,56 @@ public class SSHClient implements ICommandShell {
     }
 
     /**
-     * Disconnect the client
+     * Disconnect the client. The session is only disconnected if it is not shared
      * 
      * @throws IOException
      */
     @Override
     public synchronized void disconnect() throws SSHException {
-        if (session == null) {
-            return;
+        if (channel != null) {
+            sshSession.closeChannel(channel);
+            channel = null;
         }
-        synchronized (sshClient) {
-
-            if (!session.isConnected()) {
-                session = null;
-                return;
-            }
-
-            session.disconnect();
-            logger.trace("SSH Client disconnected");
-
-            session = null;
+        if (ownSession) {
+            sshSession.disconnect();
         }
-        return;
     }
 
     /**
-     * Retrieve all output from the shell, returning only that which is found
-     * between the command issued and the next occurrence of the special prompt we
-     * defined in {@link #issueCommand(String)}
+     * Issue a command on an exec channel and retrieve all of its output. The output
+     * is read with blocking reads until the channel reaches end of file, and stdout
+     * is decoded as it arrives
      * 
-     * @param session
      * @param command
      * @param timeout
-     * @return
-     * @throws IOException
-     * @throws InterruptedException
-     * @throws ExecutionException
+     * @param pty     - true to allocate a terminal for the command
+     * @return the response of the command
      * @throws SSHException
      */
-    private String retrieveOutput(String command, long timeout)
-            throws IOException, InterruptedException, ExecutionException, SSHException {
+    private SSHCommandResponse retrieveOutput(String command, long timeout, boolean pty) throws SSHException {
 
         StringBuilder sb = new StringBuilder();
-        ChannelExec channel = null;
-        try {
-            channel = (ChannelExec) session.openChannel("exec");
-            channel.setPty(true);
-            channel.setPtyType("ansi", 2048, 24, 0, 0);
-            channel.setInputStream(null);
-            channel.setErrStream(null);
-            channel.setCommand(command);
-            InputStream is = channel.getInputStream();
-            InputStream err = channel.getErrStream();
-            channel.connect();
-
-            long whenTimeout = Calendar.getInstance().getTimeInMillis() + timeout;
-
-            byte[] tmp = new byte[1024];
-            while (true) {
-                if (whenTimeout <= Calendar.getInstance().getTimeInMillis()) {
-                    throw new SSHException("Read of command timed out, response so far:-\n" + sb.toString());
-                }
-                while (is.available() > 0) {
-                    int i = is.read(tmp);
-
-                    if (i < 0) {
-                        break;
-                    }
-                    String data = new String(tmp, 0, i);
-                    sb.append(data);
-                }
-                while (err.available() > 0) {
-                    int i = err.read(tmp);
-
-                    if (i < 0) {
-                        break;
-                    }
-                    String data = new String(tmp, 0, i);
-                    sb.append(data);
-                }
-                if (channel.isClosed()) {
-                    if (is.available() > 0)
-                        continue;
-                    if (err.available() > 0)
-                        continue;
-                    break;
+        try (SSHCommandStream stream = new SSHCommandStream(sshSession, command, timeout, pty, charset)) {
+            // The reader keeps partial multi-byte characters between reads
+            Reader reader = new InputStreamReader(stream.getInputStream(), charset);
+            char[] buffer = new char[8192];
+            try {
+                int read;
+                while ((read = reader.read(buffer)) >= 0) {
+                    sb.append(buffer, 0, read);
                 }
-                try {
-                    Thread.sleep(100);
-                } catch (Exception ee) {
+            } catch (IOException e) {
+                if (!stream.isTimedOut()) {
+                    throw new SSHException("Error reading exec output", e);
                 }
             }
-        } catch (SSHException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new SSHException("Error reading exec output", e);
-        } finally {
-            if (channel != null) {
-                channel.disconnect();
+            if (stream.isTimedOut()) {
+                throw new SSHException("Read of command timed out, response so far:-\n" + sb.toString() + stream.getStderr());
             }
-        }
-
-        return sb.toString();
 
+            ICommandResponse response = stream.waitFor();
+            return new SSHCommandResponse(sb.toString(), response.getStderr(), response.getExitStatus());
+        }
     }
 
     /**
@@ -504,6 +434,7 @@ public class SSHClient implements ICommandShell {
         final InputStream in = channel.getInputStream();
         OutputStream os = channel.getOutputStream();
         in.skip(in.available()); // NOSONAR - Dont care what is on the buffer to start with
+        final Reader inReader = new InputStreamReader(in, charset);
 
         // Remove any unwanted trailing end-of-line characters
         command = command.trim();
@@ -517,109 +448,61 @@ public class SSHClient implements ICommandShell {
 
         // Submit the command
         logger.trace("Submitting command to host '" + hostname + "':\n'" + command + "'");
-        os.write((command + " \r\n").getBytes());
+        os.write((command + " \r\n").getBytes(charset));
         os.flush();
-        Thread.sleep(500);
 
         // Create a string builder to build the response, and a buffer in to which to
         // read
         // from the input stream
         StringBuilder responseBuilder = new StringBuilder();
-        final byte buffer[] = new byte[5000];
+        final char buffer[] = new char[5000];
 
         // Create an executor and a callable which will allow us to read continuously
         // from
         // the input stream with a timeout
-        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
         Callable<Integer> reader = new Callable<Integer>() {
 
             /**
-             * Return the number of bytes ready to be read from the buffer
+             * Return the number of characters read in to the buffer
              */
             @Override
             public Integer call() throws Exception {
-                return in.read(buffer);
+                return inReader.read(buffer);
             }
         };
 
-        // Retrieve the output
-        while (true) {
-
-            // Submit our callable and wait for it to tell us how many bytes to read
-            Future<Integer> future = executor.submit(reader);
-            int read = 0;
-            try {
-                read = future.get(timeout, TimeUnit.MILLISECONDS);
-            } catch (TimeoutException e) {
-                executor.shutdown();
-                throw new SSHException("Timed out waiting for response from ssh. Response so far: " + responseBuilder);
-            }
-
-            // Append the new output to our response
-            responseBuilder.append(new String(buffer, 0, read));
-
-            // If the output matches <command>...<prompt> then we have found the complete
-            // response
-            Matcher responseMatcher = responsePattern.matcher(responseBuilder.toString());
-            if (responseMatcher.find()) {
-                executor.shutdown();
-                String response = responseMatcher.group(1);
-                logger.trace("Retrieved response from host '" + hostname + "':\n'" + response + "'");
-                return response;
-            }
-        }
-    }
-
-    private class KeepAliveThread extends Thread {
-
-        private final Session monitorSession;
-        private long          idleTimeout = 60000;
-
-        public KeepAliveThread(Session session) {
-            this.monitorSession = session;
-            this.setDaemon(true);
-            this.setName("GalasaSSHClient timeout thread");
-
-            // if (configurationProperties != null) {
-            // String idleTimeoutString =
-            // configurationProperties.getProperty("core.ssh.idle.timeout", "60000");
-            // try {
-            // idleTimeout = Long.parseLong(idleTimeoutString);
-            // } catch(Exception e) {
-            // logger.error("Invalid ssh idle timeout '" + idleTimeoutString + "'",e);
-            // }
-            //
-            // }
-
-            return;
-        }
-
-        @Override
-        public void run() {
-
-            lastCommandTimestamp = System.currentTimeMillis();
-
-            while (this.monitorSession.isConnected()) {
-
-                synchronized (SSHClient.this) {
+        // Retrieve the output until the prompt appears
+        try {
+            while (true) {
 
-                    long timeout = System.currentTimeMillis() - idleTimeout;
-                    if (timeout >= lastCommandTimestamp) {
-                        logger.debug("No command issued after " + idleTimeout + " milliseconds, closing SSH session");
-                        this.monitorSession.disconnect();
-                    }
+                // Submit our callable and wait for it to tell us how many characters were read
+                Future<Integer> future = executor.submit(reader);
+                int read = 0;
+                try {
+                    read = future.get(timeout, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    throw new SSHException("Timed out waiting for response from ssh. Response so far: " + responseBuilder);
+                }
+                if (read < 0) {
+                    throw new SSHException("Shell closed waiting for response from ssh. Response so far: " + responseBuilder);
                 }
 
-                try {
-                    Thread.sleep(100);
-                } catch (Exception e) {
-                    return;
+                // Append the new output to our response
+                responseBuilder.append(buffer, 0, read);
+
+                // If the output matches <command>...<prompt> then we have found the complete
+                // response
+                Matcher responseMatcher = responsePattern.matcher(responseBuilder);
+                if (responseMatcher.find()) {
+                    String response = responseMatcher.group(1);
+                    logger.trace("Retrieved response from host '" + hostname + "':\n'" + response + "'");
+                    return response;
                 }
             }
-
-            return;
+        } finally {
+            executor.shutdownNow();
         }
-
     }
 
     @Override
@@ -0,0 +1,44 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import dev.galasa.ipnetwork.ICommandResponse;
+
+/**
+ * Implementation of {@link ICommandResponse} for an SSH exec channel
+ */
+public class SSHCommandResponse implements ICommandResponse {
+
+    private final String stdout;
+    private final String stderr;
+    private final int    exitStatus;
+
+    public SSHCommandResponse(String stdout, String stderr, int exitStatus) {
+        this.stdout = stdout;
+        this.stderr = stderr;
+        this.exitStatus = exitStatus;
+    }
+
+    @Override
+    public String getStdout() {
+        return this.stdout;
+    }
+
+    @Override
+    public String getStderr() {
+        return this.stderr;
+    }
+
+    @Override
+    public int getExitStatus() {
+        return this.exitStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "EXIT STATUS=" + this.exitStatus + " STDOUT:\n" + this.stdout + "\nSTDERR:\n" + this.stderr;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.jcraft.jsch.ChannelExec;
+
+import dev.galasa.ipnetwork.ICommandResponse;
+import dev.galasa.ipnetwork.ICommandStream;
+import dev.galasa.ipnetwork.SSHException;
+
+/**
+ * An exec channel running a command. Standard output is read from the channel with blocking reads, standard error is
+ * written by the channel to a buffer. If the timeout expires the channel is disconnected, which ends any read and
+ * any wait for the command to end
+ */
+public class SSHCommandStream implements ICommandStream {
+
+    // Disconnects exec channels that exceed their timeout
+    private final static ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "GalasaSSHClient exec timeout thread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SSHSession            sshSession;
+    private final Charset               charset;
+    private final SSHErrorStream        err      = new SSHErrorStream();
+    private final AtomicBoolean         timedOut = new AtomicBoolean();
+
+    private ChannelExec                 channel;
+    private InputStream                 inputStream;
+    private ScheduledFuture<?>          timeoutTask;
+    private boolean                     closed;
+
+    /**
+     * Open an exec channel and start the command
+     *
+     * @param sshSession - the session
+     * @param command    - command to issue
+     * @param timeout    - time (in milliseconds) to wait for the command to complete
+     * @param pty        - true to allocate a terminal for the command
+     * @param charset    - the charset of the command output
+     * @throws SSHException
+     */
+    public SSHCommandStream(SSHSession sshSession, String command, long timeout, boolean pty, Charset charset) throws SSHException {
+        this.sshSession = sshSession;
+        this.charset = charset;
+
+        sshSession.startUse();
+        try {
+            this.channel = (ChannelExec) sshSession.openChannel("exec", timeout);
+            if (pty) {
+                this.channel.setPty(true);
+                this.channel.setPtyType("ansi", 2048, 24, 0, 0);
+            }
+            this.channel.setInputStream(null);
+            this.channel.setErrStream(this.err);
+            this.channel.setCommand(command);
+            this.inputStream = this.channel.getInputStream();
+            this.channel.connect();
+
+            ChannelExec timeoutChannel = this.channel;
+            this.timeoutTask = timeoutScheduler.schedule(() -> {
+                timedOut.set(true);
+                timeoutChannel.disconnect();
+            }, timeout, TimeUnit.MILLISECONDS);
+        } catch (SSHException e) {
+            close();
+            throw e;
+        } catch (Exception e) {
+            close();
+            throw new SSHException("Error starting exec command", e);
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return this.inputStream;
+    }
+
+    @Override
+    public ICommandResponse waitFor() throws SSHException {
+        try {
+            byte[] buffer = new byte[8192];
+            while (this.inputStream.read(buffer) >= 0) {
+                // Discard output that has not been read
+            }
+        } catch (IOException e) {
+            if (!this.timedOut.get()) {
+                // The stream was closed by the reader, so the command is ended
+                close();
+                return new SSHCommandResponse("", getStderr(), -1);
+            }
+        }
+
+        try {
+            // The exit status follows end of file and is set before the channel closes the error stream
+            this.err.awaitClose();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SSHException("Interrupted while trying to retrieve output", e);
+        }
+        if (this.timedOut.get()) {
+            throw new SSHException("Read of command timed out, error output so far:-\n" + getStderr());
+        }
+
+        return new SSHCommandResponse("", getStderr(), this.channel.getExitStatus());
+    }
+
+    /**
+     * @return true if the command was ended because the timeout expired
+     */
+    public boolean isTimedOut() {
+        return this.timedOut.get();
+    }
+
+    /**
+     * @return the standard error received so far
+     */
+    public String getStderr() {
+        return new String(this.err.toByteArray(), this.charset);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (this.timeoutTask != null) {
+            this.timeoutTask.cancel(false);
+        }
+        this.sshSession.closeChannel(this.channel);
+        this.sshSession.endUse();
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Buffers the standard error of an exec channel. The channel closes the stream when it is disconnected, which
+ * happens after the exit status has been received, so the close is used to wait for the command to end
+ */
+public class SSHErrorStream extends ByteArrayOutputStream {
+
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    @Override
+    public void close() {
+        this.closed.countDown();
+    }
+
+    /**
+     * Wait for the channel to close the stream
+     *
+     * @throws InterruptedException
+     */
+    public void awaitClose() throws InterruptedException {
+        this.closed.await();
+    }
+
+}
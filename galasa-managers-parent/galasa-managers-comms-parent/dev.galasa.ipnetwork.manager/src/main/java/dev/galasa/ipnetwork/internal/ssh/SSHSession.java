@@ -0,0 +1,313 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+
+import dev.galasa.ICredentials;
+import dev.galasa.ICredentialsUsernamePassword;
+import dev.galasa.ICredentialsUsernameToken;
+import dev.galasa.ipnetwork.SSHAuthFailException;
+import dev.galasa.ipnetwork.SSHException;
+
+/**
+ * An authenticated SSH session to a host for one set of credentials. Several channels can be open on the session at
+ * the same time, up to the channel limit. The session is disconnected when it has been idle for the idle timeout.
+ */
+public class SSHSession {
+
+    private final Log           logger          = LogFactory.getLog(SSHSession.class);
+
+    private final String        hostname;
+    private final int           port;
+    private final String        userid;
+    private final String        password;
+    private final byte[]        token;
+    private final String        key;
+
+    private final JSch          sshClient;
+    private Session             session;
+    private KeepAliveThread     keepAliveThread;
+
+    private final Semaphore     channelPermits;
+    private final Set<Channel>  openChannels    = new HashSet<>();
+    private final long          idleTimeout;
+
+    private int                 inUse;
+    private long                lastUsedTimestamp;
+
+    public SSHSession(String hostname, int port, ICredentials credentials, int maxChannels, long idleTimeout) throws SSHException {
+        this(hostname, port, credentials, maxChannels, idleTimeout, new JSch());
+    }
+
+    protected SSHSession(String hostname, int port, ICredentials credentials, int maxChannels, long idleTimeout, JSch sshClient) throws SSHException {
+        this.hostname = hostname;
+        this.port = port;
+        this.idleTimeout = idleTimeout;
+        this.channelPermits = new Semaphore(maxChannels, true);
+
+        this.sshClient = sshClient;
+
+        try {
+            if (credentials instanceof ICredentialsUsernamePassword) {
+                ICredentialsUsernamePassword creds = (ICredentialsUsernamePassword) credentials;
+                this.userid = creds.getUsername();
+                this.password = creds.getPassword();
+                this.token = null;
+            } else if (credentials instanceof ICredentialsUsernameToken) {
+                ICredentialsUsernameToken creds = (ICredentialsUsernameToken) credentials;
+                this.userid = creds.getUsername();
+                this.password = null;
+                this.token = creds.getToken();
+                this.sshClient.addIdentity(this.userid, this.token, null, null);
+            } else {
+                throw new SSHException("Unsupported credentials type - " + credentials.getClass().getName());
+            }
+            this.key = hostname + ":" + port + ":" + this.userid;
+        } catch (SSHException e) {
+            throw e;
+        } catch (JSchException e) {
+            throw new SSHException("Problem adding credentials to SSH", e);
+        }
+    }
+
+    /**
+     * @return the key identifying the host, port and userid of the session
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns true if the session was created with the same userid and secret as the credentials
+     *
+     * @param credentials - the credentials
+     * @return true if the credentials match
+     */
+    public boolean hasCredentials(ICredentials credentials) {
+        if (credentials instanceof ICredentialsUsernamePassword) {
+            ICredentialsUsernamePassword creds = (ICredentialsUsernamePassword) credentials;
+            return this.token == null && Objects.equals(this.userid, creds.getUsername()) && Objects.equals(this.password, creds.getPassword());
+        } else if (credentials instanceof ICredentialsUsernameToken) {
+            ICredentialsUsernameToken creds = (ICredentialsUsernameToken) credentials;
+            return this.token != null && Objects.equals(this.userid, creds.getUsername()) && Arrays.equals(this.token, creds.getToken());
+        }
+        return false;
+    }
+
+    public String getHostname() {
+        return this.hostname;
+    }
+
+    public int getPort() {
+        return this.port;
+    }
+
+    /**
+     * Connect to the target system if not already connected
+     *
+     * @throws SSHException
+     */
+    public void connect() throws SSHException {
+        connect(5);
+    }
+
+    private synchronized void connect(int retry) throws SSHException {
+        // Do nothing if already connected
+        if (session != null && session.isConnected()) {
+            return;
+        }
+
+        try {
+
+            try {
+                session = sshClient.getSession(this.userid, hostname, port);
+                session.setIdentityRepository(sshClient.getIdentityRepository());
+                if (this.password != null) {
+                    session.setPassword(this.password);
+                }
+                session.setConfig("StrictHostKeyChecking", "no");
+
+                session.connect();
+
+                // Slight delay to allow the connection to stabilise
+                try {
+                    Thread.sleep(200); // NOSONAR - Sleep is sufficent
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SSHException("Interrupted trying to authenticate using SSH", e);
+                }
+
+                logger.trace("SSH Client connected to '" + hostname + ":" + port);
+
+                this.lastUsedTimestamp = System.currentTimeMillis();
+                this.keepAliveThread = new KeepAliveThread(session);
+                this.keepAliveThread.start();
+
+            } catch (Exception e) {
+                if ("Auth fail".equals(e.getMessage())) {
+                    throw new SSHAuthFailException(e);
+                }
+
+                if (retry > 0) {
+                    logger.trace("Exception caught during SSH connection, will retry.", e);
+                    if (session != null && session.isConnected()) {
+                        session.disconnect();
+                        session = null;
+                    }
+                    Thread.sleep(5000); // NOSONAR - Sleep is sufficent
+                    connect(retry - 1);
+                } else {
+                    throw e;
+                }
+            }
+        } catch (SSHException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SSHException("Interrupted while trying to retrieve output", e);
+        } catch (Exception e) {
+            throw new SSHException("Unrecognised exception in connection", e);
+        }
+    }
+
+    /**
+     * Open a channel on the session, waiting for a free channel if the channel limit has been reached. The channel
+     * must be returned with {@link #closeChannel(Channel)}
+     *
+     * @param type    - the channel type, exec or shell
+     * @param timeout - time (in milliseconds) to wait for a free channel
+     * @return the unconnected channel
+     * @throws SSHException
+     */
+    public Channel openChannel(String type, long timeout) throws SSHException {
+        try {
+            if (!channelPermits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new SSHException("Timed out waiting for a free SSH channel to '" + hostname + ":" + port + "'");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SSHException("Interrupted waiting for a free SSH channel", e);
+        }
+
+        try {
+            Channel channel;
+            synchronized (this) {
+                connect();
+                channel = session.openChannel(type);
+                openChannels.add(channel);
+            }
+            return channel;
+        } catch (SSHException e) {
+            channelPermits.release();
+            throw e;
+        } catch (JSchException e) {
+            channelPermits.release();
+            throw new SSHException("Unable to open SSH " + type + " channel", e);
+        }
+    }
+
+    /**
+     * Disconnect a channel opened by {@link #openChannel(String, long)} and free it for reuse
+     *
+     * @param channel - the channel
+     */
+    public void closeChannel(Channel channel) {
+        if (channel == null) {
+            return;
+        }
+        channel.disconnect();
+        boolean wasOpen;
+        synchronized (this) {
+            wasOpen = openChannels.remove(channel);
+        }
+        if (wasOpen) {
+            channelPermits.release();
+        }
+    }
+
+    /**
+     * Mark the session in use so it will not be disconnected as idle
+     */
+    public synchronized void startUse() {
+        this.inUse++;
+        this.lastUsedTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Mark the end of a use of the session started with {@link #startUse()}
+     */
+    public synchronized void endUse() {
+        this.inUse--;
+        this.lastUsedTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Disconnect the session and all channels open on it
+     */
+    public synchronized void disconnect() {
+        if (session == null) {
+            return;
+        }
+
+        if (session.isConnected()) {
+            session.disconnect();
+            logger.trace("SSH Client disconnected");
+        }
+        session = null;
+
+        channelPermits.release(openChannels.size());
+        openChannels.clear();
+    }
+
+    private class KeepAliveThread extends Thread {
+
+        private final Session monitorSession;
+
+        public KeepAliveThread(Session session) {
+            this.monitorSession = session;
+            this.setDaemon(true);
+            this.setName("GalasaSSHClient timeout thread");
+        }
+
+        @Override
+        public void run() {
+
+            while (this.monitorSession.isConnected()) {
+
+                synchronized (SSHSession.this) {
+
+                    long timeout = System.currentTimeMillis() - idleTimeout;
+                    if (inUse <= 0 && timeout >= lastUsedTimestamp && this.monitorSession == session) {
+                        logger.debug("No command issued after " + idleTimeout + " milliseconds, closing SSH session");
+                        disconnect();
+                    }
+                }
+
+                try {
+                    Thread.sleep(100);
+                } catch (Exception e) {
+                    return;
+                }
+            }
+        }
+
+    }
+
+}
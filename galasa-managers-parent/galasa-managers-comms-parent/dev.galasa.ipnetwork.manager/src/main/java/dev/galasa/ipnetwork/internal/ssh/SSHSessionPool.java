@@ -0,0 +1,70 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.galasa.ICredentials;
+import dev.galasa.ipnetwork.SSHException;
+
+/**
+ * Pool of {@link SSHSession}s, one per host, port and credentials, shared by the command shells of a test run so
+ * commands do not each need a new SSH connection
+ */
+public class SSHSessionPool {
+
+    private final Map<String, List<SSHSession>> sessions = new HashMap<>();
+
+    private final int                     maxChannels;
+    private final long                    idleTimeout;
+
+    /**
+     * @param maxChannels - the maximum number of channels open at the same time on each session
+     * @param idleTimeout - time (in milliseconds) without use after which a session is disconnected
+     */
+    public SSHSessionPool(int maxChannels, long idleTimeout) {
+        this.maxChannels = maxChannels;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Return the session for the host, port and credentials, creating it if necessary. The session is not connected
+     * until it is first used
+     *
+     * @param hostname    - the host
+     * @param port        - the SSH port
+     * @param credentials - the credentials
+     * @return the session
+     * @throws SSHException
+     */
+    public synchronized SSHSession getSession(String hostname, int port, ICredentials credentials) throws SSHException {
+        SSHSession newSession = new SSHSession(hostname, port, credentials, this.maxChannels, this.idleTimeout);
+        // Sessions are keyed by host, port and userid, the secret is compared rather than hashed into the key
+        List<SSHSession> keySessions = this.sessions.computeIfAbsent(newSession.getKey(), key -> new ArrayList<>());
+        for (SSHSession session : keySessions) {
+            if (session.hasCredentials(credentials)) {
+                return session;
+            }
+        }
+        keySessions.add(newSession);
+        return newSession;
+    }
+
+    /**
+     * Disconnect all the sessions in the pool
+     */
+    public synchronized void close() {
+        for (List<SSHSession> keySessions : this.sessions.values()) {
+            for (SSHSession session : keySessions) {
+                session.disconnect();
+            }
+        }
+        this.sessions.clear();
+    }
+}
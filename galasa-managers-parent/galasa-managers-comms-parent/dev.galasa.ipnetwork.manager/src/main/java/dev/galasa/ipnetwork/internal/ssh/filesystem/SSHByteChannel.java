@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
@@ -23,23 +25,31 @@ import com.jcraft.jsch.SftpException;
 import dev.galasa.ipnetwork.SSHException;
 
 /**
- * Dummy Byte Channel for a null Result Archive Store
+ * Byte Channel for a file on the SSH FileSystem. Reads and writes are transferred in bulk, with the sftp channel
+ * keeping several requests outstanding at a time. Reads can be repositioned, the file is reopened at the new offset.
  *
  * @author Michael Baylis
  *
  */
 public class SSHByteChannel implements SeekableByteChannel {
 
+    private static final int    TRANSFER_BUFFER_SIZE = 32768;
+
     private long                size     = 0;
     private long                position = 0;
+    private boolean             closed   = false;
 
     private final SSHFileSystem fileSystem;
     private final Path          path;
+    private final boolean       write;
 
     private final ChannelSftp   channel;
 
-    private final InputStream   inputStream;
-    private final OutputStream  outputStream;
+    private InputStream         inputStream;
+    private OutputStream        outputStream;
+
+    // Used when the caller's buffer is not backed by an array
+    private byte[]              transferBuffer;
 
     public SSHByteChannel(Path path, Set<? extends OpenOption> options, SSHFileSystem fileSystem) throws SSHException {
         this.fileSystem = fileSystem;
@@ -47,16 +57,18 @@ public class SSHByteChannel implements SeekableByteChannel {
 
         this.channel = this.fileSystem.getFileChannel();
 
-        boolean write = options.contains(StandardOpenOption.WRITE);
+        this.write = options.contains(StandardOpenOption.WRITE) || options.contains(StandardOpenOption.APPEND);
 
         try {
             if (write) {
-                inputStream = null;
-
-                outputStream = this.channel.put(this.path.toString());
+                if (options.contains(StandardOpenOption.APPEND)) {
+                    outputStream = this.channel.put(this.path.toString(), ChannelSftp.APPEND);
+                    this.size = this.channel.lstat(this.path.toString()).getSize();
+                    this.position = this.size;
+                } else {
+                    outputStream = this.channel.put(this.path.toString());
+                }
             } else {
-                outputStream = null;
-
                 // Check the file exists and get the size
                 SftpATTRS attrs = this.channel.lstat(this.path.toString());
                 this.size = attrs.getSize();
@@ -64,6 +76,16 @@ public class SSHByteChannel implements SeekableByteChannel {
                 inputStream = this.channel.get(this.path.toString());
             }
         } catch (SftpException e) {
+            // An append opens the file before its size is read
+            if (outputStream != null) {
+                try {
+                    outputStream.close();
+                } catch (IOException e1) {
+                    // The channel is not reused if the file cannot be closed
+                    this.channel.disconnect();
+                }
+            }
+            this.fileSystem.releaseFileChannel(this.channel);
             throw new SSHException("Unable to open SSH file", e);
         }
     }
@@ -75,7 +97,7 @@ public class SSHByteChannel implements SeekableByteChannel {
      */
     @Override
     public boolean isOpen() {
-        return this.channel.isConnected();
+        return !this.closed && this.channel.isConnected();
     }
 
     /*
@@ -85,13 +107,21 @@ public class SSHByteChannel implements SeekableByteChannel {
      */
     @Override
     public void close() throws IOException {
-        if (inputStream != null) {
-            inputStream.close();
+        if (this.closed) {
+            return;
         }
-        if (outputStream != null) {
-            outputStream.close();
+        this.closed = true;
+
+        try {
+            if (inputStream != null) {
+                inputStream.close();
+            }
+            if (outputStream != null) {
+                outputStream.close();
+            }
+        } finally {
+            this.fileSystem.releaseFileChannel(this.channel);
         }
-        this.channel.disconnect();
     }
 
     /*
@@ -104,20 +134,33 @@ public class SSHByteChannel implements SeekableByteChannel {
         if (!isOpen()) {
             throw new ClosedChannelException();
         }
+        if (write) {
+            throw new NonReadableChannelException();
+        }
 
-        int count = 0;
-        byte[] buffer = new byte[1];
-        for (int i = 0; i < dst.remaining(); i++) {
-            int len = this.inputStream.read(buffer);
-            if (len < 1) {
-                break;
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+
+        int len;
+        if (dst.hasArray()) {
+            len = this.inputStream.read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+            if (len > 0) {
+                dst.position(dst.position() + len);
+            }
+        } else {
+            byte[] buffer = getTransferBuffer();
+            len = this.inputStream.read(buffer, 0, Math.min(buffer.length, dst.remaining()));
+            if (len > 0) {
+                dst.put(buffer, 0, len);
             }
-            dst.put(buffer);
-            count++;
-            position++;
         }
 
-        return count;
+        if (len < 0) {
+            return -1;
+        }
+        position += len;
+        return len;
     }
 
     /*
@@ -130,15 +173,26 @@ public class SSHByteChannel implements SeekableByteChannel {
         if (!isOpen()) {
             throw new ClosedChannelException();
         }
+        if (!write) {
+            throw new NonWritableChannelException();
+        }
 
-        int count = 0;
-        while (src.remaining() > 0) { // TODO there has got be a more efficient way of doing this
-            outputStream.write(src.get());
-            count++;
-            size++;
-            position++;
+        int count = src.remaining();
+        if (src.hasArray()) {
+            outputStream.write(src.array(), src.arrayOffset() + src.position(), count);
+            src.position(src.limit());
+        } else {
+            byte[] buffer = getTransferBuffer();
+            while (src.hasRemaining()) {
+                int len = Math.min(buffer.length, src.remaining());
+                src.get(buffer, 0, len);
+                outputStream.write(buffer, 0, len);
+            }
         }
 
+        position += count;
+        size = Math.max(size, position);
+
         return count;
     }
 
@@ -162,7 +216,26 @@ public class SSHByteChannel implements SeekableByteChannel {
         if (!isOpen()) {
             throw new ClosedChannelException();
         }
-        throw new UnsupportedOperationException("need to write");
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Position must not be negative");
+        }
+        if (newPosition == this.position) {
+            return this;
+        }
+        if (write) {
+            throw new UnsupportedOperationException("Writes to the SSH FileSystem are sequential, the position cannot be changed");
+        }
+
+        // Reopen the file at the new offset, discarding any read ahead at the old position
+        this.inputStream.close();
+        try {
+            this.inputStream = this.channel.get(this.path.toString(), null, newPosition);
+        } catch (SftpException e) {
+            throw new IOException("Unable to reposition SSH file", e);
+        }
+        this.position = newPosition;
+
+        return this;
     }
 
     /*
@@ -188,7 +261,39 @@ public class SSHByteChannel implements SeekableByteChannel {
         if (!isOpen()) {
             throw new ClosedChannelException();
         }
-        throw new UnsupportedOperationException("need to write");
+        if (!write) {
+            throw new NonWritableChannelException();
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        if (size >= this.size) {
+            return this;
+        }
+
+        try {
+            // Complete the outstanding writes before changing the size, then continue writing at the new end of file
+            this.outputStream.close();
+
+            SftpATTRS attrs = this.channel.lstat(this.path.toString());
+            attrs.setSIZE(size);
+            this.channel.setStat(this.path.toString(), attrs);
+
+            this.outputStream = this.channel.put(this.path.toString(), ChannelSftp.APPEND);
+        } catch (SftpException e) {
+            throw new IOException("Unable to truncate SSH file", e);
+        }
+        this.size = size;
+        this.position = size;
+
+        return this;
+    }
+
+    private byte[] getTransferBuffer() {
+        if (this.transferBuffer == null) {
+            this.transferBuffer = new byte[TRANSFER_BUFFER_SIZE];
+        }
+        return this.transferBuffer;
     }
 
 }
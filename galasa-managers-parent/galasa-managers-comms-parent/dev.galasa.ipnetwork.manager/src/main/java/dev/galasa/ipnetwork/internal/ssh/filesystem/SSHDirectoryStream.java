@@ -45,9 +45,7 @@ public class SSHDirectoryStream implements DirectoryStream<Path> {
         } catch (Exception e) {
             throw new IOException("Unable to get directory listing", e);
         } finally {
-            if (channel != null) {
-                channel.disconnect();
-            }
+            fileSystem.releaseFileChannel(channel);
         }
 
     }
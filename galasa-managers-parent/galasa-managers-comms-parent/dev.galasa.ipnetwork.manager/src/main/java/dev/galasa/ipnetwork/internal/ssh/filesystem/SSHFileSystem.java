@@ -6,6 +6,9 @@
 package dev.galasa.ipnetwork.internal.ssh.filesystem;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
 import java.nio.file.FileStore;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
@@ -13,7 +16,9 @@ import java.nio.file.PathMatcher;
 import java.nio.file.WatchService;
 import java.nio.file.attribute.UserPrincipalLookupService;
 import java.nio.file.spi.FileSystemProvider;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -21,6 +26,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
@@ -30,9 +36,26 @@ import dev.galasa.ICredentials;
 import dev.galasa.ICredentialsUsernamePassword;
 import dev.galasa.ICredentialsUsernameToken;
 import dev.galasa.ipnetwork.SSHException;
+import dev.galasa.ipnetwork.internal.ssh.SSHErrorStream;
 
 public class SSHFileSystem extends FileSystem {
 
+    /**
+     * Writes the standard input of a command, the input is ended when the method returns
+     */
+    @FunctionalInterface
+    protected interface IStdinWriter {
+        void write(OutputStream stdin) throws IOException;
+    }
+
+    /**
+     * Reads the standard output of a command
+     */
+    @FunctionalInterface
+    protected interface IStdoutReader {
+        void read(InputStream stdout) throws IOException;
+    }
+
     private final Log                   logger = LogFactory.getLog(SSHFileSystemProvider.class);
 
     private final String                hostname;
@@ -46,7 +69,17 @@ public class SSHFileSystem extends FileSystem {
     private final SSHFileStore          fileStore;
     private final SSHFileSystemProvider fileSystemProvider;
 
+    // Connected SFTP channels not currently in use, reused rather than opening a channel per operation
+    private final Deque<ChannelSftp>    idleChannels = new ArrayDeque<>();
+
+    private static final int            MAX_IDLE_CHANNELS   = 4;
+    private static final int            READ_AHEAD_REQUESTS = 32;
+
     public SSHFileSystem(String hostname, int port, ICredentials credentials) throws SSHException {
+        this(hostname, port, credentials, new JSch());
+    }
+
+    protected SSHFileSystem(String hostname, int port, ICredentials credentials, JSch sshClient) throws SSHException {
 
         this.hostname = hostname;
         this.port = port;
@@ -54,7 +87,7 @@ public class SSHFileSystem extends FileSystem {
         this.fileStore = new SSHFileStore("sshfilestore-" + hostname);
         this.fileSystemProvider = new SSHFileSystemProvider(this);
 
-        this.sshClient = new JSch();
+        this.sshClient = sshClient;
         this.session = null;
 
         try {
@@ -140,25 +173,125 @@ public class SSHFileSystem extends FileSystem {
         return;
     }
 
-    protected ChannelSftp getFileChannel() throws SSHException {
+    /**
+     * Get a connected sftp channel, reusing an idle channel if there is one. The channel must be returned with
+     * {@link #releaseFileChannel(ChannelSftp)}
+     * 
+     * @return the channel
+     * @throws SSHException
+     */
+    protected synchronized ChannelSftp getFileChannel() throws SSHException {
+        while (!idleChannels.isEmpty()) {
+            ChannelSftp channel = idleChannels.pop();
+            if (channel.isConnected()) {
+                return channel;
+            }
+        }
+
         connect();
 
         try {
             Channel channel = session.openChannel("sftp");
             channel.connect();
 
-            return (ChannelSftp) channel;
+            // Number of read requests outstanding at a time on a file read, so reads are not a round trip each
+            ChannelSftp sftpChannel = (ChannelSftp) channel;
+            sftpChannel.setBulkRequests(READ_AHEAD_REQUESTS);
+
+            return sftpChannel;
         } catch (Exception e) {
             throw new SSHException("Unable to open a sftp channel to the server", e);
         }
     }
 
+    /**
+     * Return a channel obtained from {@link #getFileChannel()} for reuse, disconnecting it if there are enough idle
+     * channels already
+     * 
+     * @param channel - the channel, can be null
+     */
+    protected synchronized void releaseFileChannel(ChannelSftp channel) {
+        if (channel == null || !channel.isConnected()) {
+            return;
+        }
+
+        if (session != null && idleChannels.size() < MAX_IDLE_CHANNELS) {
+            idleChannels.push(channel);
+        } else {
+            channel.disconnect();
+        }
+    }
+
+    /**
+     * Run a command on the server, for file operations that cannot be done with sftp
+     * 
+     * @param command - the command
+     * @param writer  - writes the standard input of the command, or null for no input
+     * @param reader  - reads the standard output of the command, or null to discard it
+     * @throws SSHException if the command cannot be run or ends with a non zero exit status
+     */
+    protected void executeCommand(String command, IStdinWriter writer, IStdoutReader reader) throws SSHException {
+        ChannelExec channel = null;
+        SSHErrorStream err = new SSHErrorStream();
+        try {
+            synchronized (this) {
+                connect();
+                channel = (ChannelExec) session.openChannel("exec");
+            }
+            channel.setCommand(command);
+            channel.setErrStream(err);
+            InputStream stdout = channel.getInputStream();
+            OutputStream stdin = channel.getOutputStream();
+            channel.connect();
+
+            try {
+                if (writer != null) {
+                    writer.write(stdin);
+                }
+            } finally {
+                stdin.close();
+            }
+
+            if (reader != null) {
+                reader.read(stdout);
+            }
+            byte[] buffer = new byte[8192];
+            while (stdout.read(buffer) >= 0) {
+                // Discard any output not read
+            }
+
+            // The exit status follows end of file and is set before the channel closes the error stream
+            err.awaitClose();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SSHException("Interrupted running command '" + command + "'", e);
+        } catch (SSHException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SSHException("Unable to run command '" + command + "'", e);
+        } finally {
+            if (channel != null) {
+                channel.disconnect();
+            }
+        }
+
+        if (channel.getExitStatus() != 0) {
+            throw new SSHException("Command '" + command + "' failed with exit status " + channel.getExitStatus() + ", error output:-\n"
+                    + new String(err.toByteArray(), Charset.defaultCharset()));
+        }
+    }
+
     /**
      * Disconnect the client
      * 
      * @throws IOException
      */
     public synchronized void disconnect() throws SSHException {
+        for (ChannelSftp channel : idleChannels) {
+            channel.disconnect();
+        }
+        idleChannels.clear();
+
         if (session == null) {
             return;
         }
@@ -287,6 +420,16 @@ public class SSHFileSystem extends FileSystem {
         throw new UnsupportedOperationException("need to write");
     }
 
+    /**
+     * Quote a path for use in a shell command
+     *
+     * @param path - the path
+     * @return - the quoted path
+     */
+    protected static String quote(String path) {
+        return "'" + path.replace("'", "'\"'\"'") + "'";
+    }
+
     /**
      * Convert a glob into a regex
      *
@@ -9,21 +9,26 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessMode;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.CopyOption;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileStore;
 import java.nio.file.FileSystem;
 import java.nio.file.LinkOption;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.FileAttributeView;
 import java.nio.file.spi.FileSystemProvider;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
@@ -44,6 +49,8 @@ import com.jcraft.jsch.SftpException;
  */
 public class SSHFileSystemProvider extends FileSystemProvider {
 
+    private static final String POSIX_RENAME = "posix-rename@openssh.com";
+
     private final SSHFileSystem fileSystem;
 
     public SSHFileSystemProvider(SSHFileSystem fileSystem) {
@@ -71,9 +78,7 @@ public class SSHFileSystemProvider extends FileSystemProvider {
                     } catch (Exception e) {
                         throw new IOException("Unable to check for read via SFTP", e);
                     } finally {
-                        if (channel != null) {
-                            channel.disconnect();
-                        }
+                        fileSystem.releaseFileChannel(channel);
                     }
                     break;
                 case WRITE:
@@ -87,10 +92,53 @@ public class SSHFileSystemProvider extends FileSystemProvider {
 
     }
 
+    /**
+     * Copy a file on the server with the cp command, so the content does not pass through the client. Copying a
+     * directory creates an empty directory. An existing target file is overwritten by cp rather than deleted first, so
+     * it is not lost if the copy fails
+     */
     @Override
     public void copy(Path source, Path target, CopyOption... options) throws IOException {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("need to write");
+        List<CopyOption> copyOptions = Arrays.asList(options);
+        String sourcePath = source.toAbsolutePath().normalize().toString();
+        String targetPath = target.toAbsolutePath().normalize().toString();
+
+        ChannelSftp channel = null;
+        try {
+            channel = fileSystem.getFileChannel();
+
+            SftpATTRS attrs = channel.lstat(sourcePath);
+            if (sourcePath.equals(targetPath)) {
+                return;
+            }
+            boolean targetFileExists = prepareTarget(channel, targetPath, copyOptions.contains(StandardCopyOption.REPLACE_EXISTING));
+
+            if (attrs.isDir()) {
+                if (targetFileExists) {
+                    channel.rm(targetPath);
+                }
+                channel.mkdir(targetPath);
+                return;
+            }
+        } catch (SftpException e) {
+            if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                throw new NoSuchFileException(sourcePath);
+            }
+            throw new IOException("Unable to copy via SFTP", e);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Unable to copy via SFTP", e);
+        } finally {
+            fileSystem.releaseFileChannel(channel);
+        }
+
+        String preserve = copyOptions.contains(StandardCopyOption.COPY_ATTRIBUTES) ? "-p " : "";
+        try {
+            fileSystem.executeCommand("cp -f " + preserve + SSHFileSystem.quote(sourcePath) + " " + SSHFileSystem.quote(targetPath), null, null);
+        } catch (SSHException e) {
+            throw new IOException("Unable to copy '" + sourcePath + "' to '" + targetPath + "'", e);
+        }
     }
 
     @Override
@@ -102,9 +150,7 @@ public class SSHFileSystemProvider extends FileSystemProvider {
         } catch (Exception e) {
             throw new IOException("Unable to create directory via SFTP", e);
         } finally {
-            if (channel != null) {
-                channel.disconnect();
-            }
+            fileSystem.releaseFileChannel(channel);
         }
     }
 
@@ -144,9 +190,7 @@ public class SSHFileSystemProvider extends FileSystemProvider {
         } catch (Exception e) {
             throw new IOException("Unable to delete via SFTP", e);
         } finally {
-            if (channel != null) {
-                channel.disconnect();
-            }
+            fileSystem.releaseFileChannel(channel);
         }
     }
 
@@ -191,10 +235,92 @@ public class SSHFileSystemProvider extends FileSystemProvider {
         throw new UnsupportedOperationException("need to write");
     }
 
+    /**
+     * Move a file or directory on the server with a sftp rename, or the mv command if the rename fails, for example
+     * because the target is on a different file system. An existing target file is replaced by a posix rename if the
+     * server supports it, otherwise by the mv command, rather than deleted first
+     */
     @Override
     public void move(Path source, Path target, CopyOption... options) throws IOException {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("need to write");
+        List<CopyOption> copyOptions = Arrays.asList(options);
+        String sourcePath = source.toAbsolutePath().normalize().toString();
+        String targetPath = target.toAbsolutePath().normalize().toString();
+
+        ChannelSftp channel = null;
+        try {
+            channel = fileSystem.getFileChannel();
+
+            SftpATTRS attrs = channel.lstat(sourcePath);
+            if (sourcePath.equals(targetPath)) {
+                return;
+            }
+            boolean targetFileExists = prepareTarget(channel, targetPath, copyOptions.contains(StandardCopyOption.REPLACE_EXISTING));
+            if (attrs.isDir() && targetFileExists) {
+                // Neither rename nor mv replace a file with a directory
+                channel.rm(targetPath);
+                targetFileExists = false;
+            }
+
+            // A plain sftp rename fails if the target exists, the posix rename extension replaces it
+            if (!targetFileExists || channel.getExtension(POSIX_RENAME) != null) {
+                channel.rename(sourcePath, targetPath);
+                return;
+            }
+            if (copyOptions.contains(StandardCopyOption.ATOMIC_MOVE)) {
+                throw new AtomicMoveNotSupportedException(sourcePath, targetPath, "The server does not support " + POSIX_RENAME);
+            }
+        } catch (SftpException e) {
+            if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                throw new NoSuchFileException(sourcePath);
+            }
+            if (copyOptions.contains(StandardCopyOption.ATOMIC_MOVE)) {
+                throw new AtomicMoveNotSupportedException(sourcePath, targetPath, e.getMessage());
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Unable to move via SFTP", e);
+        } finally {
+            fileSystem.releaseFileChannel(channel);
+        }
+
+        try {
+            fileSystem.executeCommand("mv -f " + SSHFileSystem.quote(sourcePath) + " " + SSHFileSystem.quote(targetPath), null, null);
+        } catch (SSHException e) {
+            throw new IOException("Unable to move '" + sourcePath + "' to '" + targetPath + "'", e);
+        }
+    }
+
+    /**
+     * Check the target of a copy or move does not exist, or can be replaced. A target directory must be empty and is
+     * deleted, a target file is left to be overwritten by the copy or move
+     * 
+     * @return true if the target is an existing file
+     */
+    private boolean prepareTarget(ChannelSftp channel, String targetPath, boolean replace) throws SftpException, IOException {
+        SftpATTRS attrs;
+        try {
+            attrs = channel.lstat(targetPath);
+        } catch (SftpException e) {
+            if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                return false;
+            }
+            throw e;
+        }
+
+        if (!replace) {
+            throw new FileAlreadyExistsException(targetPath);
+        }
+
+        if (attrs.isDir()) {
+            try {
+                channel.rmdir(targetPath);
+            } catch (SftpException e) {
+                throw new DirectoryNotEmptyException(targetPath);
+            }
+            return false;
+        }
+        return true;
     }
 
     @Override
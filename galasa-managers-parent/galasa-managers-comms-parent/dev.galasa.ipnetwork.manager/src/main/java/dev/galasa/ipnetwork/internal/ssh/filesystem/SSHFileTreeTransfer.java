@@ -0,0 +1,291 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh.filesystem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.ChannelSftp.LsEntry;
+import com.jcraft.jsch.SftpException;
+
+import dev.galasa.ipnetwork.SSHException;
+
+/**
+ * Transfers directory trees between the local file system and an {@link SSHFileSystem}. Files are transferred
+ * concurrently, each on its own sftp channel, or the whole tree is streamed as a single gzipped tar archive which is
+ * faster for trees of many small files, but needs tar and gzip on the server
+ */
+public class SSHFileTreeTransfer {
+
+    private static final Log    logger             = LogFactory.getLog(SSHFileTreeTransfer.class);
+
+    private static final int    TRANSFER_THREADS   = 4;
+
+    private static final int    MKDIR_BATCH_SIZE   = 100;
+
+    private static final String SLASH              = "/";
+
+    private final SSHFileSystem fileSystem;
+
+    public SSHFileTreeTransfer(SSHFileSystem fileSystem) {
+        this.fileSystem = fileSystem;
+    }
+
+    /**
+     * Copy a local directory tree to the server, merging it with any existing remote directory
+     *
+     * @param localPath  - the local directory
+     * @param remotePath - the remote directory
+     * @param archive    - true to transfer the tree as a gzipped tar archive
+     * @throws SSHException
+     */
+    public void upload(Path localPath, String remotePath, boolean archive) throws SSHException {
+        logger.trace("Uploading '" + localPath + "' to '" + remotePath + "'");
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(localPath)) {
+            paths = walk.sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new SSHException("Unable to list local directory '" + localPath + "'", e);
+        }
+
+        if (archive) {
+            String command = "mkdir -p " + SSHFileSystem.quote(remotePath) + " && cd " + SSHFileSystem.quote(remotePath) + " && gzip -dc | tar -xf -";
+            this.fileSystem.executeCommand(command, stdin -> writeArchive(localPath, paths, stdin), null);
+            return;
+        }
+
+        Map<Path, String> files = new LinkedHashMap<>();
+        List<String> directories = new ArrayList<>();
+        for (Path path : paths) {
+            String target = remotePath + relativeName(localPath, path);
+            if (Files.isDirectory(path)) {
+                directories.add(target);
+            } else if (Files.isRegularFile(path)) {
+                files.put(path, target);
+            }
+        }
+        mkdirs(directories);
+
+        transfer(files, (sftp, local, remote) -> {
+            try (InputStream in = Files.newInputStream(local)) {
+                sftp.put(in, remote);
+            }
+        });
+    }
+
+    /**
+     * Copy a remote directory tree to the local file system, merging it with any existing local directory
+     *
+     * @param remotePath - the remote directory
+     * @param localPath  - the local directory
+     * @param archive    - true to transfer the tree as a gzipped tar archive
+     * @throws SSHException
+     */
+    public void download(String remotePath, Path localPath, boolean archive) throws SSHException {
+        logger.trace("Downloading '" + remotePath + "' to '" + localPath + "'");
+        try {
+            Files.createDirectories(localPath);
+        } catch (IOException e) {
+            throw new SSHException("Unable to create local directory '" + localPath + "'", e);
+        }
+
+        if (archive) {
+            // The exit status of a pipeline is that of gzip, so the status of tar is passed out through file descriptor 3
+            // to fail the transfer if tar fails part way through, pipefail is not supported by every shell
+            String command = "cd " + SSHFileSystem.quote(remotePath) + " || exit 1; exec 4>&1; "
+                    + "rc=$( { { tar -cf - .; echo $? >&3; } | gzip -c >&4; } 3>&1 ) || exit 1; exit ${rc:-1}";
+            this.fileSystem.executeCommand(command, null, stdout -> readArchive(stdout, localPath));
+            return;
+        }
+
+        Map<Path, String> files = new LinkedHashMap<>();
+        ChannelSftp channel = this.fileSystem.getFileChannel();
+        try {
+            listRemote(channel, remotePath, localPath, files);
+        } catch (IOException | SftpException e) {
+            throw new SSHException("Unable to list remote directory '" + remotePath + "'", e);
+        } finally {
+            this.fileSystem.releaseFileChannel(channel);
+        }
+
+        transfer(files, (sftp, local, remote) -> {
+            try (OutputStream out = Files.newOutputStream(local)) {
+                sftp.get(remote, out);
+            }
+        });
+    }
+
+    private void listRemote(ChannelSftp channel, String remotePath, Path localPath, Map<Path, String> files) throws IOException, SftpException {
+        Vector<?> ls = channel.ls(remotePath);
+        for (Object entry : ls) {
+            LsEntry lsEntry = (LsEntry) entry;
+            String fileName = lsEntry.getFilename();
+            if (".".equals(fileName) || "..".equals(fileName)) {
+                continue;
+            }
+
+            String remoteChild = remotePath + SLASH + fileName;
+            Path localChild = localPath.resolve(fileName);
+            if (lsEntry.getAttrs().isDir()) {
+                Files.createDirectories(localChild);
+                listRemote(channel, remoteChild, localChild, files);
+            } else if (lsEntry.getAttrs().isReg()) {
+                files.put(localChild, remoteChild);
+            }
+        }
+    }
+
+    /**
+     * Create the remote directories and any missing parents, a batch of directories per command
+     */
+    private void mkdirs(List<String> remotePaths) throws SSHException {
+        for (int i = 0; i < remotePaths.size(); i += MKDIR_BATCH_SIZE) {
+            StringBuilder command = new StringBuilder("mkdir -p");
+            for (String remotePath : remotePaths.subList(i, Math.min(i + MKDIR_BATCH_SIZE, remotePaths.size()))) {
+                command.append(" ");
+                command.append(SSHFileSystem.quote(remotePath));
+            }
+            this.fileSystem.executeCommand(command.toString(), null, null);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IFileTransfer {
+        void transfer(ChannelSftp channel, Path localPath, String remotePath) throws IOException, SftpException;
+    }
+
+    /**
+     * Transfer the files concurrently, reusing the idle sftp channels of the file system
+     */
+    private void transfer(Map<Path, String> files, IFileTransfer fileTransfer) throws SSHException {
+        if (files.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(TRANSFER_THREADS, files.size()), runnable -> {
+            Thread thread = new Thread(runnable, "GalasaSSHFileTreeTransfer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Map.Entry<Path, String> file : files.entrySet()) {
+                futures.add(executor.submit(() -> {
+                    ChannelSftp channel = this.fileSystem.getFileChannel();
+                    try {
+                        fileTransfer.transfer(channel, file.getKey(), file.getValue());
+                    } catch (IOException | SftpException e) {
+                        throw new SSHException("Unable to transfer '" + file.getKey() + "' to or from '" + file.getValue() + "'", e);
+                    } finally {
+                        this.fileSystem.releaseFileChannel(channel);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SSHException("Interrupted transferring files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SSHException) {
+                throw (SSHException) e.getCause();
+            }
+            throw new SSHException("Unable to transfer files", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeArchive(Path localPath, List<Path> paths, OutputStream stdin) throws IOException {
+        TarArchiveOutputStream tar = new TarArchiveOutputStream(new GZIPOutputStream(stdin));
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+        for (Path path : paths) {
+            String name = relativeName(localPath, path);
+            if (name.isEmpty()) {
+                continue;
+            }
+            name = name.substring(1);
+            if (Files.isDirectory(path)) {
+                tar.putArchiveEntry(new TarArchiveEntry(name + SLASH));
+                tar.closeArchiveEntry();
+            } else if (Files.isRegularFile(path)) {
+                TarArchiveEntry entry = new TarArchiveEntry(name);
+                entry.setSize(Files.size(path));
+                entry.setModTime(Files.getLastModifiedTime(path).toMillis());
+                if (Files.isExecutable(path)) {
+                    entry.setMode(0100755);
+                }
+                tar.putArchiveEntry(entry);
+                Files.copy(path, tar);
+                tar.closeArchiveEntry();
+            }
+        }
+        tar.finish();
+        tar.close();
+    }
+
+    private void readArchive(InputStream stdout, Path localPath) throws IOException {
+        Path root = localPath.toAbsolutePath().normalize();
+        TarArchiveInputStream tar = new TarArchiveInputStream(new GZIPInputStream(stdout));
+        TarArchiveEntry entry;
+        while ((entry = tar.getNextTarEntry()) != null) {
+            Path target = root.resolve(entry.getName()).normalize();
+            if (!target.startsWith(root)) {
+                throw new IOException("Archive entry '" + entry.getName() + "' is outside the target directory");
+            }
+            if (entry.isDirectory()) {
+                Files.createDirectories(target);
+            } else if (entry.isFile()) {
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    IOUtils.copy(tar, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the path relative to the root, with a leading / and / separators, or an empty string for the root
+     */
+    private String relativeName(Path root, Path path) {
+        StringBuilder name = new StringBuilder();
+        for (Path part : root.relativize(path)) {
+            if (!part.toString().isEmpty()) {
+                name.append(SLASH);
+                name.append(part.toString());
+            }
+        }
+        return name.toString();
+    }
+}
@@ -177,8 +177,8 @@ public class SSHPath implements Path {
 
     @Override
     public Path normalize() {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("need to write");
+        // *** Paths cannot contain . or .. elements, so are always normal
+        return this;
     }
 
     @Override
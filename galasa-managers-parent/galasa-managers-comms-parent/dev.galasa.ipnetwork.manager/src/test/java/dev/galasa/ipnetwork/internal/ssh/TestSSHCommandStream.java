@@ -0,0 +1,144 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.jcraft.jsch.ChannelExec;
+
+import dev.galasa.ipnetwork.ICommandResponse;
+import dev.galasa.ipnetwork.ICommandStream;
+import dev.galasa.ipnetwork.SSHException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestSSHCommandStream {
+
+    @Mock
+    private SSHSession sessionMock;
+
+    @Mock
+    private ChannelExec channelMock;
+
+    private final AtomicReference<OutputStream> errStream = new AtomicReference<>();
+
+    private static final String COMMAND = "command";
+
+    private static final String STDERR = "STDERR";
+
+    @Test
+    public void testIssueExecCommand() throws Exception {
+        mockChannel(new ByteArrayInputStream("LINE1\nLINE2\n".getBytes()));
+        Mockito.when(channelMock.getExitStatus()).thenReturn(3);
+        Mockito.doAnswer(invocation -> {
+            closeErrStreamLater();
+            return null;
+        }).when(channelMock).connect();
+
+        ICommandResponse response = new SSHClient(sessionMock, 60000).issueExecCommand(COMMAND, 60000);
+        Assert.assertEquals("issueExecCommand() should return the standard output", "LINE1\nLINE2\n", response.getStdout());
+        Assert.assertEquals("issueExecCommand() should return the standard error", STDERR, response.getStderr());
+        Assert.assertEquals("issueExecCommand() should return the exit status", 3, response.getExitStatus());
+        Mockito.verify(channelMock, Mockito.times(1)).setCommand(COMMAND);
+        Mockito.verify(sessionMock, Mockito.times(1)).closeChannel(channelMock);
+        Mockito.verify(sessionMock, Mockito.times(1)).endUse();
+    }
+
+    @Test
+    public void testIssueExecCommandListener() throws Exception {
+        mockChannel(new ByteArrayInputStream("LINE1\nLINE2\n".getBytes()));
+
+        List<String> lines = new ArrayList<>();
+        ICommandResponse response = new SSHClient(sessionMock, 60000).issueExecCommand(COMMAND, 60000, line -> {
+            lines.add(line);
+            return false;
+        });
+        Assert.assertEquals("the listener should receive lines until it ends the command", 1, lines.size());
+        Assert.assertEquals("issueExecCommand() should return exit status -1 when the listener ends the command", -1, response.getExitStatus());
+        Mockito.verify(sessionMock, Mockito.times(1)).closeChannel(channelMock);
+    }
+
+    @Test
+    public void testIssueStreamingCommand() throws Exception {
+        PipedOutputStream stdout = new PipedOutputStream();
+        mockChannel(new PipedInputStream(stdout));
+        Mockito.when(channelMock.getExitStatus()).thenReturn(0);
+
+        try (ICommandStream stream = new SSHClient(sessionMock, 60000).issueStreamingCommand(COMMAND, 60000)) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream.getInputStream(), Charset.defaultCharset()));
+            stdout.write("LINE1\n".getBytes());
+            stdout.flush();
+            Assert.assertEquals("the output should be read before the command ends", "LINE1", reader.readLine());
+
+            // The unread output is discarded, then the channel is closed by the server
+            stdout.write("LINE2\n".getBytes());
+            stdout.close();
+            closeErrStreamLater();
+            ICommandResponse response = stream.waitFor();
+            Assert.assertEquals("waitFor() should return the standard error", STDERR, response.getStderr());
+            Assert.assertEquals("waitFor() should return the exit status", 0, response.getExitStatus());
+        }
+        Mockito.verify(sessionMock, Mockito.times(1)).closeChannel(channelMock);
+    }
+
+    @Test
+    public void testWaitForTimeout() throws Exception {
+        mockChannel(new ByteArrayInputStream(new byte[0]));
+        // The timeout disconnects the channel, which closes the error stream
+        Mockito.doAnswer(invocation -> {
+            errStream.get().close();
+            return null;
+        }).when(channelMock).disconnect();
+
+        SSHCommandStream stream = new SSHCommandStream(sessionMock, COMMAND, 200, false, Charset.defaultCharset());
+        SSHException expectedException = Assert.assertThrows("expected exception should be thrown", SSHException.class, ()->{
+        	stream.waitFor();
+        });
+        Assert.assertEquals("exception should contain expected message", "Read of command timed out, error output so far:-\n", expectedException.getMessage());
+        Assert.assertTrue("isTimedOut() should return true", stream.isTimedOut());
+        stream.close();
+        Mockito.verify(sessionMock, Mockito.times(1)).endUse();
+    }
+
+    private void mockChannel(InputStream stdout) throws Exception {
+        Mockito.when(sessionMock.openChannel(Mockito.eq("exec"), Mockito.anyLong())).thenReturn(channelMock);
+        Mockito.when(channelMock.getInputStream()).thenReturn(stdout);
+        Mockito.doAnswer(invocation -> {
+            errStream.set(invocation.getArgument(0));
+            return null;
+        }).when(channelMock).setErrStream(Mockito.any(OutputStream.class));
+    }
+
+    private void closeErrStreamLater() {
+        // The server sends the error output and closes the channel after the command ends
+        Thread server = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                errStream.get().write(STDERR.getBytes());
+                errStream.get().close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        server.start();
+    }
+}
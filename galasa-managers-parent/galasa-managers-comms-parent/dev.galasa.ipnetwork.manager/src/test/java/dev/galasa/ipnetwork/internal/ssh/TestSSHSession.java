@@ -0,0 +1,139 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+
+import dev.galasa.ICredentialsUsernamePassword;
+import dev.galasa.ICredentialsUsernameToken;
+import dev.galasa.ipnetwork.SSHException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestSSHSession {
+    
+    @Mock
+    private JSch sshClientMock;
+    
+    @Mock
+    private Session sessionMock;
+    
+    @Mock
+    private Channel channelMock1;
+    
+    @Mock
+    private Channel channelMock2;
+    
+    @Mock
+    private ICredentialsUsernamePassword credentialsMock;
+    
+    @Mock
+    private ICredentialsUsernamePassword otherCredentialsMock;
+    
+    @Mock
+    private ICredentialsUsernameToken tokenCredentialsMock;
+    
+    private final AtomicBoolean connected = new AtomicBoolean();
+    
+    private static final String HOSTNAME = "hostname";
+    
+    private static final int PORT = 22;
+    
+    private static final String USERID = "USERID";
+    
+    private static final String PASSWORD = "PASSWORD";
+    
+    @Before
+    public void setup() {
+        Mockito.when(credentialsMock.getUsername()).thenReturn(USERID);
+        Mockito.when(credentialsMock.getPassword()).thenReturn(PASSWORD);
+    }
+    
+    @Test
+    public void testHasCredentials() throws SSHException {
+        SSHSession session = new SSHSession(HOSTNAME, PORT, credentialsMock, 1, 60000, sshClientMock);
+        Assert.assertTrue("hasCredentials() should return true for the same secret", session.hasCredentials(credentialsMock));
+        
+        Mockito.when(otherCredentialsMock.getUsername()).thenReturn(USERID);
+        Mockito.when(otherCredentialsMock.getPassword()).thenReturn("OTHER");
+        Assert.assertFalse("hasCredentials() should return false for a different password", session.hasCredentials(otherCredentialsMock));
+        
+        Mockito.when(tokenCredentialsMock.getUsername()).thenReturn(USERID);
+        Mockito.when(tokenCredentialsMock.getToken()).thenReturn(PASSWORD.getBytes());
+        Assert.assertFalse("hasCredentials() should return false for a different credentials type", session.hasCredentials(tokenCredentialsMock));
+        
+        SSHSession tokenSession = new SSHSession(HOSTNAME, PORT, tokenCredentialsMock, 1, 60000, sshClientMock);
+        Assert.assertTrue("hasCredentials() should return true for the same token", tokenSession.hasCredentials(tokenCredentialsMock));
+        Mockito.when(tokenCredentialsMock.getToken()).thenReturn("OTHER".getBytes());
+        Assert.assertFalse("hasCredentials() should return false for a different token", tokenSession.hasCredentials(tokenCredentialsMock));
+        Assert.assertFalse("hasCredentials() should return false for a different credentials type", tokenSession.hasCredentials(credentialsMock));
+    }
+    
+    @Test
+    public void testChannelLimit() throws Exception {
+        mockConnection();
+        Mockito.when(sessionMock.openChannel("exec")).thenReturn(channelMock1, channelMock2);
+        SSHSession session = new SSHSession(HOSTNAME, PORT, credentialsMock, 1, 60000, sshClientMock);
+        
+        Channel channel = session.openChannel("exec", 100);
+        Assert.assertEquals("openChannel() should return the channel", channelMock1, channel);
+        
+        String expectedMessage = "Timed out waiting for a free SSH channel to '" + HOSTNAME + ":" + PORT + "'";
+        SSHException expectedException = Assert.assertThrows("expected exception should be thrown", SSHException.class, ()->{
+        	session.openChannel("exec", 100);
+        });
+        Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+        
+        session.closeChannel(channel);
+        Mockito.verify(channelMock1, Mockito.times(1)).disconnect();
+        Assert.assertEquals("openChannel() should return a channel once one is free", channelMock2, session.openChannel("exec", 100));
+        Mockito.verify(sshClientMock, Mockito.times(1)).getSession(USERID, HOSTNAME, PORT);
+        
+        session.disconnect();
+        Assert.assertEquals("openChannel() should return a channel after the session is disconnected", channelMock2, session.openChannel("exec", 100));
+        session.disconnect();
+    }
+    
+    @Test
+    public void testIdleTimeout() throws Exception {
+        mockConnection();
+        Mockito.when(sessionMock.openChannel("exec")).thenReturn(channelMock1);
+        SSHSession session = new SSHSession(HOSTNAME, PORT, credentialsMock, 1, 200, sshClientMock);
+        
+        session.startUse();
+        session.closeChannel(session.openChannel("exec", 100));
+        Thread.sleep(500);
+        Mockito.verify(sessionMock, Mockito.never()).disconnect();
+        
+        session.endUse();
+        Mockito.verify(sessionMock, Mockito.timeout(5000)).disconnect();
+        Assert.assertFalse("session should be disconnected", connected.get());
+    }
+    
+    private void mockConnection() throws Exception {
+        Mockito.when(sshClientMock.getSession(USERID, HOSTNAME, PORT)).thenReturn(sessionMock);
+        Mockito.doAnswer(invocation -> {
+            connected.set(true);
+            return null;
+        }).when(sessionMock).connect();
+        Mockito.doAnswer(invocation -> {
+            connected.set(false);
+            return null;
+        }).when(sessionMock).disconnect();
+        Mockito.when(sessionMock.isConnected()).thenAnswer(invocation -> connected.get());
+    }
+}
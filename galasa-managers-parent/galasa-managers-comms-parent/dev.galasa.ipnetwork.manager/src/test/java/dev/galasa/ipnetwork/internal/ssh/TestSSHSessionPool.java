@@ -0,0 +1,77 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import dev.galasa.ICredentialsUsernamePassword;
+import dev.galasa.ipnetwork.SSHException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestSSHSessionPool {
+    
+    private SSHSessionPool sessionPool;
+    
+    @Mock
+    private ICredentialsUsernamePassword credentialsMock1;
+    
+    @Mock
+    private ICredentialsUsernamePassword credentialsMock2;
+    
+    private static final String HOSTNAME = "hostname";
+    
+    private static final int PORT = 22;
+    
+    private static final String USERID = "USERID";
+    
+    @Before
+    public void setup() {
+        sessionPool = new SSHSessionPool(2, 60000);
+        Mockito.when(credentialsMock1.getUsername()).thenReturn(USERID);
+        Mockito.when(credentialsMock1.getPassword()).thenReturn("PASSWORD");
+    }
+    
+    @Test
+    public void testGetSessionReused() throws SSHException {
+        Mockito.when(credentialsMock2.getUsername()).thenReturn(USERID);
+        Mockito.when(credentialsMock2.getPassword()).thenReturn("PASSWORD");
+        SSHSession session = sessionPool.getSession(HOSTNAME, PORT, credentialsMock1);
+        Assert.assertEquals("getSession() should return the existing session", session, sessionPool.getSession(HOSTNAME, PORT, credentialsMock1));
+        Assert.assertEquals("getSession() should return the existing session for credentials with the same secret", session, sessionPool.getSession(HOSTNAME, PORT, credentialsMock2));
+        Assert.assertEquals("getKey() should not contain the secret", HOSTNAME + ":" + PORT + ":" + USERID, session.getKey());
+    }
+    
+    @Test
+    public void testGetSessionDifferentSecret() throws SSHException {
+        Mockito.when(credentialsMock2.getUsername()).thenReturn(USERID);
+        Mockito.when(credentialsMock2.getPassword()).thenReturn("CHANGED");
+        SSHSession session = sessionPool.getSession(HOSTNAME, PORT, credentialsMock1);
+        SSHSession otherSession = sessionPool.getSession(HOSTNAME, PORT, credentialsMock2);
+        Assert.assertNotEquals("getSession() should return a new session for a different secret", session, otherSession);
+        Assert.assertEquals("getSession() should return the existing session", session, sessionPool.getSession(HOSTNAME, PORT, credentialsMock1));
+        Assert.assertEquals("getSession() should return the existing session", otherSession, sessionPool.getSession(HOSTNAME, PORT, credentialsMock2));
+    }
+    
+    @Test
+    public void testGetSessionDifferentHost() throws SSHException {
+        SSHSession session = sessionPool.getSession(HOSTNAME, PORT, credentialsMock1);
+        Assert.assertNotEquals("getSession() should return a new session for a different host", session, sessionPool.getSession("otherhost", PORT, credentialsMock1));
+        Assert.assertNotEquals("getSession() should return a new session for a different port", session, sessionPool.getSession(HOSTNAME, 2222, credentialsMock1));
+    }
+    
+    @Test
+    public void testClose() throws SSHException {
+        SSHSession session = sessionPool.getSession(HOSTNAME, PORT, credentialsMock1);
+        sessionPool.close();
+        Assert.assertNotEquals("getSession() should return a new session after the pool is closed", session, sessionPool.getSession(HOSTNAME, PORT, credentialsMock1));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh.filesystem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.SftpATTRS;
+import com.jcraft.jsch.SftpException;
+
+import dev.galasa.ipnetwork.SSHException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestSSHByteChannel {
+
+    @Mock
+    private SSHFileSystem fileSystemMock;
+
+    @Mock
+    private ChannelSftp channelMock;
+
+    @Mock
+    private SftpATTRS attrsMock;
+
+    private SSHPath path;
+
+    private static final String PATH = "/dir/file";
+
+    private static final String CONTENT = "0123456789";
+
+    @Before
+    public void setup() throws SSHException {
+        Mockito.when(fileSystemMock.getFileChannel()).thenReturn(channelMock);
+        path = new SSHPath(fileSystemMock, PATH);
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        InputStream inputStream = Mockito.spy(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)));
+        Mockito.when(channelMock.isConnected()).thenReturn(true);
+        Mockito.when(channelMock.lstat(PATH)).thenReturn(attrsMock);
+        Mockito.when(attrsMock.getSize()).thenReturn(10L);
+        Mockito.when(channelMock.get(PATH)).thenReturn(inputStream);
+
+        SSHByteChannel byteChannel = new SSHByteChannel(path, EnumSet.of(StandardOpenOption.READ), fileSystemMock);
+        Assert.assertEquals("size() should return the file size", 10, byteChannel.size());
+
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        Assert.assertEquals("read() should fill the buffer", 4, byteChannel.read(buffer));
+        Assert.assertEquals("read() should return the expected data", "0123", new String(buffer.array(), StandardCharsets.UTF_8));
+        Assert.assertEquals("read() should return 0 when the buffer is full", 0, byteChannel.read(buffer));
+
+        // A direct buffer is filled through the transfer buffer
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(16);
+        Assert.assertEquals("read() should return the rest of the file", 6, byteChannel.read(directBuffer));
+        Assert.assertEquals("position() should return the bytes read", 10, byteChannel.position());
+        Assert.assertEquals("read() should return -1 at end of file", -1, byteChannel.read(directBuffer));
+        directBuffer.flip();
+        byte[] rest = new byte[directBuffer.remaining()];
+        directBuffer.get(rest);
+        Assert.assertEquals("read() should return the expected data", "456789", new String(rest, StandardCharsets.UTF_8));
+
+        Assert.assertThrows("expected exception should be thrown", NonWritableChannelException.class, ()->{
+        	byteChannel.write(ByteBuffer.allocate(1));
+        });
+
+        byteChannel.close();
+        byteChannel.close();
+        Mockito.verify(inputStream, Mockito.times(1)).close();
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+        Assert.assertFalse("isOpen() should return false once closed", byteChannel.isOpen());
+    }
+
+    @Test
+    public void testPosition() throws Exception {
+        InputStream inputStream = Mockito.spy(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)));
+        Mockito.when(channelMock.isConnected()).thenReturn(true);
+        Mockito.when(channelMock.lstat(PATH)).thenReturn(attrsMock);
+        Mockito.when(channelMock.get(PATH)).thenReturn(inputStream);
+        Mockito.when(channelMock.get(PATH, null, 6L)).thenReturn(new ByteArrayInputStream("6789".getBytes(StandardCharsets.UTF_8)));
+
+        SSHByteChannel byteChannel = new SSHByteChannel(path, EnumSet.of(StandardOpenOption.READ), fileSystemMock);
+        Assert.assertEquals("position() should return the channel", byteChannel, byteChannel.position(6));
+        Mockito.verify(inputStream, Mockito.times(1)).close();
+
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        Assert.assertEquals("read() should read from the new position", 4, byteChannel.read(buffer));
+        Assert.assertEquals("read() should return the expected data", "6789", new String(buffer.array(), StandardCharsets.UTF_8));
+        Assert.assertEquals("position() should return the new position", 10, byteChannel.position());
+
+        Assert.assertThrows("expected exception should be thrown", IllegalArgumentException.class, ()->{
+        	byteChannel.position(-1);
+        });
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Mockito.when(channelMock.isConnected()).thenReturn(true);
+        Mockito.when(channelMock.put(PATH)).thenReturn(outputStream);
+
+        SSHByteChannel byteChannel = new SSHByteChannel(path, EnumSet.of(StandardOpenOption.WRITE), fileSystemMock);
+        Assert.assertEquals("write() should write the whole buffer", 4, byteChannel.write(ByteBuffer.wrap("0123".getBytes(StandardCharsets.UTF_8))));
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(6);
+        directBuffer.put("456789".getBytes(StandardCharsets.UTF_8));
+        directBuffer.flip();
+        Assert.assertEquals("write() should write the whole buffer", 6, byteChannel.write(directBuffer));
+        Assert.assertEquals("size() should return the bytes written", 10, byteChannel.size());
+        Assert.assertEquals("write() should write the expected data", CONTENT, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+
+        String expectedMessage = "Writes to the SSH FileSystem are sequential, the position cannot be changed";
+        UnsupportedOperationException expectedException = Assert.assertThrows("expected exception should be thrown", UnsupportedOperationException.class, ()->{
+        	byteChannel.position(0);
+        });
+        Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+
+        byteChannel.close();
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testAppendLstatException() throws Exception {
+        OutputStream outputStream = Mockito.mock(OutputStream.class);
+        Mockito.when(channelMock.put(PATH, ChannelSftp.APPEND)).thenReturn(outputStream);
+        Mockito.when(channelMock.lstat(PATH)).thenThrow(new SftpException(ChannelSftp.SSH_FX_FAILURE, "failure"));
+
+        SSHException expectedException = Assert.assertThrows("expected exception should be thrown", SSHException.class, ()->{
+        	new SSHByteChannel(path, EnumSet.of(StandardOpenOption.APPEND), fileSystemMock);
+        });
+        Assert.assertEquals("exception should contain expected message", "Unable to open SSH file", expectedException.getMessage());
+        Mockito.verify(outputStream, Mockito.times(1)).close();
+        Mockito.verify(channelMock, Mockito.never()).disconnect();
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+
+        // The channel is not reused if the file cannot be closed
+        Mockito.doThrow(new IOException("close")).when(outputStream).close();
+        Assert.assertThrows("expected exception should be thrown", SSHException.class, ()->{
+        	new SSHByteChannel(path, EnumSet.of(StandardOpenOption.APPEND), fileSystemMock);
+        });
+        Mockito.verify(channelMock, Mockito.times(1)).disconnect();
+        Mockito.verify(fileSystemMock, Mockito.times(2)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testOpenException() throws Exception {
+        Mockito.when(channelMock.lstat(PATH)).thenThrow(new SftpException(ChannelSftp.SSH_FX_NO_SUCH_FILE, "no such file"));
+
+        SSHException expectedException = Assert.assertThrows("expected exception should be thrown", SSHException.class, ()->{
+        	new SSHByteChannel(path, EnumSet.of(StandardOpenOption.READ), fileSystemMock);
+        });
+        Assert.assertEquals("exception should contain expected message", "Unable to open SSH file", expectedException.getMessage());
+        Mockito.verify(channelMock, Mockito.never()).get(Mockito.anyString());
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh.filesystem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+
+import dev.galasa.ICredentialsUsernamePassword;
+import dev.galasa.ipnetwork.SSHException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestSSHFileSystem {
+
+    @Mock
+    private JSch sshClientMock;
+
+    @Mock
+    private Session sessionMock;
+
+    @Mock
+    private ChannelExec execChannelMock;
+
+    @Mock
+    private ICredentialsUsernamePassword credentialsMock;
+
+    private final AtomicBoolean connected = new AtomicBoolean();
+
+    private final AtomicReference<OutputStream> errStream = new AtomicReference<>();
+
+    private SSHFileSystem fileSystem;
+
+    private static final String HOSTNAME = "hostname";
+
+    private static final int PORT = 22;
+
+    private static final String USERID = "USERID";
+
+    private static final String PASSWORD = "PASSWORD";
+
+    private static final String COMMAND = "command";
+
+    @Before
+    public void setup() throws Exception {
+        Mockito.when(credentialsMock.getUsername()).thenReturn(USERID);
+        Mockito.when(credentialsMock.getPassword()).thenReturn(PASSWORD);
+        fileSystem = new SSHFileSystem(HOSTNAME, PORT, credentialsMock, sshClientMock);
+        mockConnection();
+    }
+
+    @Test
+    public void testFileChannelPool() throws Exception {
+        List<ChannelSftp> channels = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ChannelSftp channel = Mockito.mock(ChannelSftp.class);
+            Mockito.when(channel.isConnected()).thenReturn(true);
+            channels.add(channel);
+        }
+        Mockito.when(sessionMock.openChannel("sftp")).thenReturn(channels.get(0), channels.get(1), channels.get(2), channels.get(3), channels.get(4));
+        Mockito.doAnswer(invocation -> {
+            connected.set(false);
+            return null;
+        }).when(sessionMock).disconnect();
+
+        List<ChannelSftp> inUse = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            inUse.add(fileSystem.getFileChannel());
+        }
+        Assert.assertEquals("getFileChannel() should open a channel when none are idle", channels, inUse);
+        Mockito.verify(channels.get(0), Mockito.times(1)).connect();
+        Mockito.verify(channels.get(0), Mockito.times(1)).setBulkRequests(32);
+
+        // Only 4 channels are kept idle
+        for (ChannelSftp channel : inUse) {
+            fileSystem.releaseFileChannel(channel);
+        }
+        Mockito.verify(channels.get(4), Mockito.times(1)).disconnect();
+        Mockito.verify(channels.get(3), Mockito.never()).disconnect();
+
+        Assert.assertEquals("getFileChannel() should reuse the last idle channel", channels.get(3), fileSystem.getFileChannel());
+        Mockito.when(channels.get(2).isConnected()).thenReturn(false);
+        Assert.assertEquals("getFileChannel() should skip a disconnected idle channel", channels.get(1), fileSystem.getFileChannel());
+        Mockito.verify(sessionMock, Mockito.times(5)).openChannel("sftp");
+
+        fileSystem.disconnect();
+        Mockito.verify(channels.get(0), Mockito.times(1)).disconnect();
+        Mockito.verify(sessionMock, Mockito.times(1)).disconnect();
+        Assert.assertFalse("session should be disconnected", connected.get());
+    }
+
+    @Test
+    public void testReleaseFileChannel() throws Exception {
+        ChannelSftp channel = Mockito.mock(ChannelSftp.class);
+        fileSystem.releaseFileChannel(null);
+        fileSystem.releaseFileChannel(channel);
+        Mockito.when(sessionMock.openChannel("sftp")).thenReturn(channel);
+
+        Assert.assertEquals("a disconnected channel should not be kept idle", channel, fileSystem.getFileChannel());
+        Mockito.verify(sessionMock, Mockito.times(1)).openChannel("sftp");
+    }
+
+    @Test
+    public void testExecuteCommand() throws Exception {
+        ByteArrayOutputStream stdin = mockExecChannel("OUTPUT", "", 0);
+
+        StringBuilder stdout = new StringBuilder();
+        fileSystem.executeCommand(COMMAND, in -> in.write("INPUT".getBytes(StandardCharsets.UTF_8)), in -> {
+            byte[] buffer = new byte[2];
+            int len;
+            while ((len = in.read(buffer)) >= 0) {
+                stdout.append(new String(buffer, 0, len, StandardCharsets.UTF_8));
+            }
+        });
+        Assert.assertEquals("executeCommand() should pass the standard output to the reader", "OUTPUT", stdout.toString());
+        Assert.assertEquals("executeCommand() should send the standard input from the writer", "INPUT", new String(stdin.toByteArray(), StandardCharsets.UTF_8));
+        Mockito.verify(execChannelMock, Mockito.times(1)).setCommand(COMMAND);
+        Mockito.verify(execChannelMock, Mockito.times(1)).disconnect();
+    }
+
+    @Test
+    public void testExecuteCommandFailed() throws Exception {
+        mockExecChannel("OUTPUT", "ERROR", 1);
+
+        String expectedMessage = "Command '" + COMMAND + "' failed with exit status 1, error output:-\nERROR";
+        SSHException expectedException = Assert.assertThrows("expected exception should be thrown", SSHException.class, ()->{
+        	fileSystem.executeCommand(COMMAND, null, null);
+        });
+        Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+        Mockito.verify(execChannelMock, Mockito.times(1)).disconnect();
+    }
+
+    private ByteArrayOutputStream mockExecChannel(String stdout, String stderr, int exitStatus) throws Exception {
+        ByteArrayOutputStream stdin = new ByteArrayOutputStream();
+        Mockito.when(sessionMock.openChannel("exec")).thenReturn(execChannelMock);
+        Mockito.when(execChannelMock.getInputStream()).thenReturn(new ByteArrayInputStream(stdout.getBytes(StandardCharsets.UTF_8)));
+        Mockito.when(execChannelMock.getOutputStream()).thenReturn(stdin);
+        Mockito.when(execChannelMock.getExitStatus()).thenReturn(exitStatus);
+        Mockito.doAnswer(invocation -> {
+            errStream.set(invocation.getArgument(0));
+            return null;
+        }).when(execChannelMock).setErrStream(Mockito.any(OutputStream.class));
+        // The server closes the channel after the command ends, which closes the error stream
+        Mockito.doAnswer(invocation -> {
+            errStream.get().write(stderr.getBytes(StandardCharsets.UTF_8));
+            errStream.get().close();
+            return null;
+        }).when(execChannelMock).connect();
+        return stdin;
+    }
+
+    private void mockConnection() throws Exception {
+        Mockito.when(sshClientMock.getSession(USERID, HOSTNAME, PORT)).thenReturn(sessionMock);
+        Mockito.doAnswer(invocation -> {
+            connected.set(true);
+            return null;
+        }).when(sessionMock).connect();
+        Mockito.when(sessionMock.isConnected()).thenAnswer(invocation -> connected.get());
+    }
+}
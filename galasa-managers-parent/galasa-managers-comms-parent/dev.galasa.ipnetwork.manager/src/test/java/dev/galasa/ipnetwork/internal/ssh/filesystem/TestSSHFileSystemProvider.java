@@ -0,0 +1,214 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh.filesystem;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.SftpATTRS;
+import com.jcraft.jsch.SftpException;
+
+import dev.galasa.ipnetwork.SSHException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestSSHFileSystemProvider {
+
+    @Mock
+    private SSHFileSystem fileSystemMock;
+
+    @Mock
+    private ChannelSftp channelMock;
+
+    @Mock
+    private SftpATTRS fileAttrsMock;
+
+    @Mock
+    private SftpATTRS dirAttrsMock;
+
+    private SSHFileSystemProvider provider;
+
+    private SSHPath source;
+
+    private SSHPath target;
+
+    private static final String SOURCE = "/dir/source";
+
+    private static final String TARGET = "/dir/target";
+
+    private static final String POSIX_RENAME = "posix-rename@openssh.com";
+
+    @Before
+    public void setup() throws SSHException {
+        Mockito.when(fileSystemMock.getFileChannel()).thenReturn(channelMock);
+        provider = new SSHFileSystemProvider(fileSystemMock);
+        source = new SSHPath(fileSystemMock, SOURCE);
+        target = new SSHPath(fileSystemMock, TARGET);
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenThrow(noSuchFile());
+
+        provider.copy(source, target);
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand("cp -f '" + SOURCE + "' '" + TARGET + "'", null, null);
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testCopyReplaceExisting() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenReturn(fileAttrsMock);
+
+        Assert.assertThrows("expected exception should be thrown", FileAlreadyExistsException.class, ()->{
+        	provider.copy(source, target);
+        });
+        Mockito.verify(fileSystemMock, Mockito.never()).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+
+        // The existing target file is overwritten by cp rather than deleted first
+        provider.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        Mockito.verify(channelMock, Mockito.never()).rm(TARGET);
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand("cp -f -p '" + SOURCE + "' '" + TARGET + "'", null, null);
+        Mockito.verify(fileSystemMock, Mockito.times(2)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testCopyDirectory() throws Exception {
+        Mockito.when(dirAttrsMock.isDir()).thenReturn(true);
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(dirAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenReturn(dirAttrsMock);
+        Mockito.doThrow(new SftpException(ChannelSftp.SSH_FX_FAILURE, "failure")).when(channelMock).rmdir(TARGET);
+
+        Assert.assertThrows("expected exception should be thrown", DirectoryNotEmptyException.class, ()->{
+        	provider.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        });
+
+        Mockito.doNothing().when(channelMock).rmdir(TARGET);
+        provider.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        Mockito.verify(channelMock, Mockito.times(1)).mkdir(TARGET);
+        Mockito.verify(fileSystemMock, Mockito.never()).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testCopyNoSuchFile() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenThrow(noSuchFile());
+
+        NoSuchFileException expectedException = Assert.assertThrows("expected exception should be thrown", NoSuchFileException.class, ()->{
+        	provider.copy(source, target);
+        });
+        Assert.assertEquals("exception should contain expected file", SOURCE, expectedException.getFile());
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testCopyCommandFailed() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenThrow(noSuchFile());
+        Mockito.doThrow(new SSHException("failed")).when(fileSystemMock).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+
+        IOException expectedException = Assert.assertThrows("expected exception should be thrown", IOException.class, ()->{
+        	provider.copy(source, target);
+        });
+        Assert.assertEquals("exception should contain expected message", "Unable to copy '" + SOURCE + "' to '" + TARGET + "'", expectedException.getMessage());
+    }
+
+    @Test
+    public void testMove() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenThrow(noSuchFile());
+
+        provider.move(source, target);
+        Mockito.verify(channelMock, Mockito.times(1)).rename(SOURCE, TARGET);
+        Mockito.verify(fileSystemMock, Mockito.never()).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testMoveReplaceExistingPosixRename() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.getExtension(POSIX_RENAME)).thenReturn("1");
+
+        provider.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        Mockito.verify(channelMock, Mockito.times(1)).rename(SOURCE, TARGET);
+        Mockito.verify(channelMock, Mockito.never()).rm(TARGET);
+        Mockito.verify(fileSystemMock, Mockito.never()).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testMoveReplaceExistingMv() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenReturn(fileAttrsMock);
+
+        // Without the posix rename extension the existing target is replaced by mv
+        provider.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        Mockito.verify(channelMock, Mockito.never()).rename(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(channelMock, Mockito.never()).rm(TARGET);
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand("mv -f '" + SOURCE + "' '" + TARGET + "'", null, null);
+
+        AtomicMoveNotSupportedException expectedException = Assert.assertThrows("expected exception should be thrown", AtomicMoveNotSupportedException.class, ()->{
+        	provider.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        });
+        Assert.assertEquals("exception should contain expected reason", "The server does not support " + POSIX_RENAME, expectedException.getReason());
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testMoveRenameFailed() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(fileAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenThrow(noSuchFile());
+        Mockito.doThrow(new SftpException(ChannelSftp.SSH_FX_FAILURE, "cross device")).when(channelMock).rename(SOURCE, TARGET);
+
+        // For example, the target is on another file system
+        provider.move(source, target);
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand("mv -f '" + SOURCE + "' '" + TARGET + "'", null, null);
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+
+        AtomicMoveNotSupportedException expectedException = Assert.assertThrows("expected exception should be thrown", AtomicMoveNotSupportedException.class, ()->{
+        	provider.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        });
+        Assert.assertEquals("exception should contain expected reason", "cross device", expectedException.getReason());
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testMoveDirectoryOverFile() throws Exception {
+        Mockito.when(dirAttrsMock.isDir()).thenReturn(true);
+        Mockito.when(channelMock.lstat(SOURCE)).thenReturn(dirAttrsMock);
+        Mockito.when(channelMock.lstat(TARGET)).thenReturn(fileAttrsMock);
+
+        provider.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        Mockito.verify(channelMock, Mockito.times(1)).rm(TARGET);
+        Mockito.verify(channelMock, Mockito.times(1)).rename(SOURCE, TARGET);
+    }
+
+    @Test
+    public void testMoveNoSuchFile() throws Exception {
+        Mockito.when(channelMock.lstat(SOURCE)).thenThrow(noSuchFile());
+
+        Assert.assertThrows("expected exception should be thrown", NoSuchFileException.class, ()->{
+        	provider.move(source, target);
+        });
+        Mockito.verify(fileSystemMock, Mockito.never()).executeCommand(Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    private SftpException noSuchFile() {
+        return new SftpException(ChannelSftp.SSH_FX_NO_SUCH_FILE, "no such file");
+    }
+}
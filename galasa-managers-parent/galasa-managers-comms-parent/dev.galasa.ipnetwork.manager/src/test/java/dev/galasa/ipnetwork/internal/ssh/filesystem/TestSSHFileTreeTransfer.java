@@ -0,0 +1,216 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.ipnetwork.internal.ssh.filesystem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.ChannelSftp.LsEntry;
+import com.jcraft.jsch.SftpATTRS;
+import com.jcraft.jsch.SftpException;
+
+import dev.galasa.ipnetwork.SSHException;
+import dev.galasa.ipnetwork.internal.ssh.filesystem.SSHFileSystem.IStdinWriter;
+import dev.galasa.ipnetwork.internal.ssh.filesystem.SSHFileSystem.IStdoutReader;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestSSHFileTreeTransfer {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private SSHFileSystem fileSystemMock;
+
+    @Mock
+    private ChannelSftp channelMock;
+
+    private SSHFileTreeTransfer fileTreeTransfer;
+
+    private Path localPath;
+
+    private static final String REMOTE = "/remote/dir";
+
+    @Before
+    public void setup() throws IOException {
+        fileTreeTransfer = new SSHFileTreeTransfer(fileSystemMock);
+        localPath = temporaryFolder.newFolder("local").toPath();
+    }
+
+    @Test
+    public void testUpload() throws Exception {
+        createLocalTree();
+        Mockito.when(fileSystemMock.getFileChannel()).thenReturn(channelMock);
+        Map<String, String> uploaded = new ConcurrentHashMap<>();
+        Mockito.doAnswer(invocation -> {
+            uploaded.put(invocation.getArgument(1), readString(invocation.getArgument(0)));
+            return null;
+        }).when(channelMock).put(Mockito.any(InputStream.class), Mockito.anyString());
+
+        fileTreeTransfer.upload(localPath, REMOTE, false);
+
+        // The directories and any missing parents are created before the files are transferred
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand("mkdir -p '" + REMOTE + "' '" + REMOTE + "/sub' '" + REMOTE + "/sub/deeper'", null, null);
+        Assert.assertEquals("upload() should transfer every file", 2, uploaded.size());
+        Assert.assertEquals("upload() should transfer the file content", "A", uploaded.get(REMOTE + "/a.txt"));
+        Assert.assertEquals("upload() should transfer the file content", "B", uploaded.get(REMOTE + "/sub/b.txt"));
+        Mockito.verify(fileSystemMock, Mockito.times(2)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testUploadArchive() throws Exception {
+        createLocalTree();
+        ArgumentCaptor<IStdinWriter> writerCaptor = ArgumentCaptor.forClass(IStdinWriter.class);
+
+        fileTreeTransfer.upload(localPath, REMOTE, true);
+
+        String expectedCommand = "mkdir -p '" + REMOTE + "' && cd '" + REMOTE + "' && gzip -dc | tar -xf -";
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand(Mockito.eq(expectedCommand), writerCaptor.capture(), Mockito.isNull());
+        Mockito.verify(fileSystemMock, Mockito.never()).getFileChannel();
+
+        ByteArrayOutputStream stdin = new ByteArrayOutputStream();
+        writerCaptor.getValue().write(stdin);
+        List<String> names = new ArrayList<>();
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new GZIPInputStream(new ByteArrayInputStream(stdin.toByteArray())))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                names.add(entry.getName());
+                if ("sub/b.txt".equals(entry.getName())) {
+                    Assert.assertEquals("the archive should contain the file content", "B", readString(tar));
+                }
+            }
+        }
+        Assert.assertEquals("the archive should contain the tree", Arrays.asList("a.txt", "sub/", "sub/b.txt", "sub/deeper/"), names);
+    }
+
+    @Test
+    public void testUploadException() throws Exception {
+        Files.write(localPath.resolve("a.txt"), "A".getBytes(StandardCharsets.UTF_8));
+        Mockito.when(fileSystemMock.getFileChannel()).thenReturn(channelMock);
+        Mockito.doThrow(new SftpException(ChannelSftp.SSH_FX_PERMISSION_DENIED, "permission denied")).when(channelMock).put(Mockito.any(InputStream.class), Mockito.anyString());
+
+        String expectedMessage = "Unable to transfer '" + localPath.resolve("a.txt") + "' to or from '" + REMOTE + "/a.txt'";
+        SSHException expectedException = Assert.assertThrows("expected exception should be thrown", SSHException.class, ()->{
+        	fileTreeTransfer.upload(localPath, REMOTE, false);
+        });
+        Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+        Mockito.verify(fileSystemMock, Mockito.times(1)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testDownload() throws Exception {
+        Mockito.when(fileSystemMock.getFileChannel()).thenReturn(channelMock);
+        Vector<LsEntry> rootEntries = new Vector<>(Arrays.asList(lsEntry(".", true), lsEntry("..", true), lsEntry("a.txt", false), lsEntry("sub", true)));
+        Vector<LsEntry> subEntries = new Vector<>(Arrays.asList(lsEntry("b.txt", false)));
+        Mockito.doReturn(rootEntries).when(channelMock).ls(REMOTE);
+        Mockito.doReturn(subEntries).when(channelMock).ls(REMOTE + "/sub");
+        Mockito.doAnswer(invocation -> {
+            String remote = invocation.getArgument(0);
+            OutputStream out = invocation.getArgument(1);
+            out.write(remote.substring(remote.lastIndexOf('/') + 1).getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(channelMock).get(Mockito.anyString(), Mockito.any(OutputStream.class));
+
+        fileTreeTransfer.download(REMOTE, localPath, false);
+
+        Assert.assertEquals("download() should transfer the file content", "a.txt", new String(Files.readAllBytes(localPath.resolve("a.txt")), StandardCharsets.UTF_8));
+        Assert.assertEquals("download() should transfer the file content", "b.txt", new String(Files.readAllBytes(localPath.resolve("sub").resolve("b.txt")), StandardCharsets.UTF_8));
+        Mockito.verify(channelMock, Mockito.never()).ls(REMOTE + "/.");
+        Mockito.verify(fileSystemMock, Mockito.times(3)).releaseFileChannel(channelMock);
+    }
+
+    @Test
+    public void testDownloadArchive() throws Exception {
+        ArgumentCaptor<IStdoutReader> readerCaptor = ArgumentCaptor.forClass(IStdoutReader.class);
+
+        fileTreeTransfer.download(REMOTE, localPath, true);
+
+        Mockito.verify(fileSystemMock, Mockito.times(1)).executeCommand(Mockito.startsWith("cd '" + REMOTE + "' || exit 1;"), Mockito.isNull(), readerCaptor.capture());
+        readerCaptor.getValue().read(new ByteArrayInputStream(createArchive("sub/", "sub/b.txt")));
+        Assert.assertEquals("download() should extract the file content", "sub/b.txt", new String(Files.readAllBytes(localPath.resolve("sub").resolve("b.txt")), StandardCharsets.UTF_8));
+
+        String expectedMessage = "Archive entry '../evil.txt' is outside the target directory";
+        IOException expectedException = Assert.assertThrows("expected exception should be thrown", IOException.class, ()->{
+        	readerCaptor.getValue().read(new ByteArrayInputStream(createArchive("../evil.txt")));
+        });
+        Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+        Assert.assertFalse("the entry should not be extracted", Files.exists(localPath.getParent().resolve("evil.txt")));
+    }
+
+    private void createLocalTree() throws IOException {
+        Files.write(localPath.resolve("a.txt"), "A".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(localPath.resolve("sub").resolve("deeper"));
+        Files.write(localPath.resolve("sub").resolve("b.txt"), "B".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private LsEntry lsEntry(String fileName, boolean dir) {
+        LsEntry entry = Mockito.mock(LsEntry.class);
+        Mockito.when(entry.getFilename()).thenReturn(fileName);
+        if (!".".equals(fileName) && !"..".equals(fileName)) {
+            SftpATTRS attrs = Mockito.mock(SftpATTRS.class);
+            Mockito.when(attrs.isDir()).thenReturn(dir);
+            if (!dir) {
+                Mockito.when(attrs.isReg()).thenReturn(true);
+            }
+            Mockito.when(entry.getAttrs()).thenReturn(attrs);
+        }
+        return entry;
+    }
+
+    private byte[] createArchive(String... names) throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new GZIPOutputStream(archive))) {
+            for (String name : names) {
+                TarArchiveEntry entry = new TarArchiveEntry(name);
+                byte[] content = name.endsWith("/") ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+                entry.setSize(content.length);
+                tar.putArchiveEntry(entry);
+                tar.write(content);
+                tar.closeArchiveEntry();
+            }
+        }
+        return archive.toByteArray();
+    }
+
+    private String readString(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int len;
+        while ((len = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, len);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
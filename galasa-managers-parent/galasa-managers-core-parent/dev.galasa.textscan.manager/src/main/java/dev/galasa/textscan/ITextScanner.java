@@ -101,6 +101,26 @@ public interface ITextScanner {
      */
     ITextScanner scan(InputStream inputStream, Pattern searchPattern, Pattern failPattern, int count) throws FailTextFoundException, MissingTextException, TextScanManagerException;
     
+    /**
+     * Search an InputStream for regex patterns, as {@link #scan(InputStream, Pattern, Pattern, int)}, optionally 
+     * returning as soon as "count" occurrences of the searchPattern have been found rather than reading to the end of 
+     * the stream. This allows a stream that is still being written, such as the output of a running command, to be 
+     * scanned. The failPattern is only searched for in the text read before the searchPattern is found.
+     * <br>
+     * The inputStream is not closed
+     * 
+     * @param inputStream - The inputStream  to be searched
+     * @param searchPattern - The regex to search for
+     * @param failPattern - Failure regex to search for, can be null meaning no fail search
+     * @param count - At least how many occurrences of the searchPattern must exist
+     * @param stopWhenFound - true to stop reading when "count" occurrences of the searchPattern have been found
+     * @return This text scanner for fluent calls
+     * @throws FailTextFoundException - If the failurePattern was found
+     * @throws MissingTextException - If no occurrences of the searchPattern was found 
+     * @throws TextScanManagerException 
+     */
+    ITextScanner scan(InputStream inputStream, Pattern searchPattern, Pattern failPattern, int count, boolean stopWhenFound) throws FailTextFoundException, MissingTextException, TextScanManagerException;
+    
     /**
      * Convenience method for scan(inputStream, Pattern.Compile("\Q" + searchString + "\E"), Pattern.Compile("\Q" + failString + "\E"), count)
      * 
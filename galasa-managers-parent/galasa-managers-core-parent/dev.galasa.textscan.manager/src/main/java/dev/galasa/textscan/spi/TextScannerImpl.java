@@ -143,49 +143,76 @@ public class TextScannerImpl implements ITextScanner {
 			throw new IncorrectOccurancesException("Invalid occurancies number");
 		}
 
+		try (BufferedReader  reader = new BufferedReader (new InputStreamReader(inputStream))){
+			return scan(reader, searchPattern, failPattern, count, false);
+		} catch (IOException e) {
+			throw new TextScanManagerException();
+		}
+	}
+
+	@Override
+	public ITextScanner scan(InputStream inputStream, Pattern searchPattern, Pattern failPattern, int count, boolean stopWhenFound)
+			throws FailTextFoundException, MissingTextException, IncorrectOccurancesException,TextScanManagerException {
+
+		if (count < 1) {
+			throw new IncorrectOccurancesException("Invalid occurancies number");
+		}
+
+		// The reader is not closed, so the caller's stream is left open
+		try {
+			return scan(new BufferedReader(new InputStreamReader(inputStream)), searchPattern, failPattern, count, stopWhenFound);
+		} catch (IOException e) {
+			throw new TextScanManagerException();
+		}
+	}
+
+	private ITextScanner scan(BufferedReader reader, Pattern searchPattern, Pattern failPattern, int count, boolean stopWhenFound)
+			throws FailTextFoundException, MissingTextException, IncorrectOccurancesException, IOException {
+
 		ArrayList<Integer> foundPatternStartPositions = new ArrayList<>();
 		LinkedList<String> buffer = new LinkedList<String>();
 
 		int offset = 0;
 
-		try (BufferedReader  reader = new BufferedReader (new InputStreamReader(inputStream))){
-			String line = "";
-			while ((line = reader.readLine()) != null) {
-				buffer.add(line);
-				if (buffer.size() > 10) {
-					offset = offset + buffer.remove(0).length() + 1;
-				}
+		String line = "";
+		while ((line = reader.readLine()) != null) {
+			buffer.add(line);
+			if (buffer.size() > 10) {
+				offset = offset + buffer.remove(0).length() + 1;
+			}
 
-				// Build a String from the current buffer
-				StringBuffer sb = new StringBuffer();
-				for (String queueLine : buffer) {
-					sb.append(queueLine);
-					sb.append("\n");
-				}
+			// Build a String from the current buffer
+			StringBuffer sb = new StringBuffer();
+			for (String queueLine : buffer) {
+				sb.append(queueLine);
+				sb.append("\n");
+			}
 
-				String currentBuffer = sb.toString();
+			String currentBuffer = sb.toString();
 
-				if (failPattern != null) {
-					if (failPattern.matcher(currentBuffer).find()) {
-						throw new FailTextFoundException("Fail Pattern '" + failPattern + "' was found");
-					}
+			if (failPattern != null) {
+				if (failPattern.matcher(currentBuffer).find()) {
+					throw new FailTextFoundException("Fail Pattern '" + failPattern + "' was found");
 				}
+			}
 
-				Matcher m = searchPattern.matcher(currentBuffer);
-				while (m.find()) {
+			Matcher m = searchPattern.matcher(currentBuffer);
+			while (m.find()) {
 
-					int stp = m.start() + offset;
-					if (!foundPatternStartPositions.contains(stp)) {
-						foundPatternStartPositions.add(stp);
+				int stp = m.start() + offset;
+				if (!foundPatternStartPositions.contains(stp)) {
+					foundPatternStartPositions.add(stp);
 
-					}
 				}
 			}
-			if (foundPatternStartPositions.size() >= count) {
+
+			// The rest of the stream may still be arriving, so stop reading if asked as soon as enough are found
+			if (stopWhenFound && foundPatternStartPositions.size() >= count) {
 				return this;
 			}
-		} catch (IOException e) {
-			throw new TextScanManagerException();
+		}
+		if (foundPatternStartPositions.size() >= count) {
+			return this;
 		}
 
 		if(foundPatternStartPositions.isEmpty()) {
@@ -3,7 +3,9 @@ package dev.galasa.textscan.tests;
 import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 
 import org.junit.Before;
@@ -108,6 +110,55 @@ public class TestTextScannerInputStreamScan {
 		count =0;
 		scanner.scan(stream, searchString, failString, count);
 	}
+	@Test
+	public void testScanForInputStreamStopsReadingWhenFound() throws TextScanManagerException {
+		// The stream fails if read past the first line, as a stream of command output still running would block
+		AtomicBoolean closed = new AtomicBoolean();
+		InputStream firstLineOnly = new InputStream() {
+			private final InputStream firstLine = new ByteArrayInputStream("ready\n".getBytes());
+			@Override
+			public int read() throws IOException {
+				int b = firstLine.read();
+				if (b < 0) {
+					throw new IOException("read past the first line");
+				}
+				return b;
+			}
+			@Override
+			public void close() {
+				closed.set(true);
+			}
+		};
+		searchpattern = Pattern.compile("ready");
+		failpattern = null;
+		count =1;
+		assertTrue(scanner.scan(firstLineOnly, searchpattern, failpattern, count, true) instanceof ITextScanner);
+		assertFalse(closed.get());
+	}
+	@Test(expected = FailTextFoundException.class)
+	public void testScanForInputStreamReadsToEndByDefault() throws TextScanManagerException {
+		stream = new ByteArrayInputStream("ready\nfailed\n".getBytes());
+		searchpattern = Pattern.compile("ready");
+		failpattern = Pattern.compile("failed");
+		count =1;
+		scanner.scan(stream, searchpattern, failpattern, count, false);
+	}
+	@Test(expected = FailTextFoundException.class)
+	public void testScanForInputStreamFailPatternAfterSearchPattern() throws TextScanManagerException {
+		stream = new ByteArrayInputStream("ready\nfailed\n".getBytes());
+		searchpattern = Pattern.compile("ready");
+		failpattern = Pattern.compile("failed");
+		count =1;
+		scanner.scan(stream, searchpattern, failpattern, count);
+	}
+	@Test(expected = IncorrectOccurancesException.class)
+	public void testScanForInputStreamStopWhenFoundIncorrectOccurances() throws TextScanManagerException {
+		stream = new ByteArrayInputStream("ready\n".getBytes());
+		searchpattern = Pattern.compile("ready");
+		failpattern = null;
+		count =2;
+		scanner.scan(stream, searchpattern, failpattern, count, true);
+	}
 
 
 }
@@ -6,6 +6,8 @@
 package dev.galasa.zos.internal;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
@@ -71,18 +73,26 @@ import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.internal.ZosBatchJobOutputImpl;
 import dev.galasa.zosbatch.internal.ZosBatchJobnameImpl;
+import dev.galasa.zosbatch.internal.properties.ArchiveThreads;
+import dev.galasa.zosbatch.internal.properties.JobPollInterval;
+import dev.galasa.zosbatch.internal.properties.JobPollMaxInterval;
 import dev.galasa.zosbatch.internal.properties.JobWaitTimeout;
 import dev.galasa.zosbatch.internal.properties.BatchRestrictToImage;
 import dev.galasa.zosbatch.internal.properties.TruncateJCLRecords;
 import dev.galasa.zosbatch.internal.properties.UseSysaff;
 import dev.galasa.zosbatch.internal.properties.ZosBatchPropertiesSingleton;
 import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi;
+import dev.galasa.zosbatch.spi.ZosBatchSpoolFileArchiver;
 import dev.galasa.zosconsole.ZosConsoleManagerException;
+import dev.galasa.zosconsole.internal.properties.CommandThreads;
 import dev.galasa.zosconsole.internal.properties.ConsoleRestrictToImage;
 import dev.galasa.zosconsole.internal.properties.ZosConsolePropertiesSingleton;
 import dev.galasa.zosfile.ZosFileManagerException;
+import dev.galasa.zosfile.internal.properties.DatasetListMaxItems;
 import dev.galasa.zosfile.internal.properties.DirectoryListMaxItems;
 import dev.galasa.zosfile.internal.properties.FileRestrictToImage;
+import dev.galasa.zosfile.internal.properties.UnixArchiveTimeout;
+import dev.galasa.zosfile.internal.properties.UnixConcurrentRequests;
 import dev.galasa.zosfile.internal.properties.UnixFilePermissions;
 import dev.galasa.zosfile.internal.properties.ZosFilePropertiesSingleton;
 
@@ -108,6 +118,8 @@ public class ZosManagerImpl extends AbstractManager implements IZosManagerSpi {
 
     private final HashMap<String, ZosBaseImageImpl> taggedImages = new HashMap<>();
     private final HashMap<String, ZosBaseImageImpl> images = new HashMap<>();
+    
+    private final HashMap<String, ZosBatchSpoolFileArchiver> zosBatchSpoolFileArchivers = new HashMap<>();
 
     /* 
      * We need to load the default implementations, but provide the ability for them to be overridden
@@ -246,6 +258,13 @@ public class ZosManagerImpl extends AbstractManager implements IZosManagerSpi {
                 ((ZosProvisionedImageImpl)image).freeImage();
             }
         }
+        
+        synchronized (this.zosBatchSpoolFileArchivers) {
+            for (ZosBatchSpoolFileArchiver archiver : this.zosBatchSpoolFileArchivers.values()) {
+                archiver.shutdown();
+            }
+            this.zosBatchSpoolFileArchivers.clear();
+        }
     }
 
     //*** We do not allow auto generate of the zos image fields as they need
@@ -555,11 +574,42 @@ public class ZosManagerImpl extends AbstractManager implements IZosManagerSpi {
 		return JobWaitTimeout.get(imageId);
 	}
 
+	@Override
+	public int getZosBatchPropertyJobPollInterval(String imageId) throws ZosBatchManagerException {
+		return JobPollInterval.get(imageId);
+	}
+
+	@Override
+	public int getZosBatchPropertyJobPollMaxInterval(String imageId) throws ZosBatchManagerException {
+		return JobPollMaxInterval.get(imageId);
+	}
+
 	@Override
 	public boolean getZosBatchPropertyTruncateJCLRecords(String imageId) throws ZosBatchManagerException {
 		return TruncateJCLRecords.get(imageId);
 	}
 
+	@Override
+	public int getZosBatchPropertyArchiveThreads(String imageId) throws ZosBatchManagerException {
+		return ArchiveThreads.get(imageId);
+	}
+
+	@Override
+	public ZosBatchSpoolFileArchiver getZosBatchSpoolFileArchiver(IZosImage image) throws ZosBatchException {
+		synchronized (this.zosBatchSpoolFileArchivers) {
+			ZosBatchSpoolFileArchiver archiver = this.zosBatchSpoolFileArchivers.get(image.getImageID());
+			if (archiver == null) {
+				try {
+					archiver = new ZosBatchSpoolFileArchiver(this, getZosBatchPropertyArchiveThreads(image.getImageID()));
+				} catch (ZosBatchManagerException e) {
+					throw new ZosBatchException("Unable to get archive threads property value", e);
+				}
+				this.zosBatchSpoolFileArchivers.put(image.getImageID(), archiver);
+			}
+			return archiver;
+		}
+	}
+
 	@Override
 	public IZosBatchJobname newZosBatchJobname(IZosImage image) throws ZosBatchException {
 		return new ZosBatchJobnameImpl(image);
@@ -580,6 +630,21 @@ public class ZosManagerImpl extends AbstractManager implements IZosManagerSpi {
 		return DirectoryListMaxItems.get(imageId);
 	}
 
+	@Override
+	public int getZosFilePropertyDatasetListMaxItems(String imageId) throws ZosFileManagerException {
+		return DatasetListMaxItems.get(imageId);
+	}
+
+	@Override
+	public int getZosFilePropertyUnixConcurrentRequests(String imageId) throws ZosFileManagerException {
+		return UnixConcurrentRequests.get(imageId);
+	}
+
+	@Override
+	public int getZosFilePropertyUnixArchiveTimeout(String imageId) throws ZosFileManagerException {
+		return UnixArchiveTimeout.get(imageId);
+	}
+
 	@Override
 	public boolean getZosFilePropertyFileRestrictToImage(String imageId) throws ZosFileManagerException {
 		return FileRestrictToImage.get(imageId);
@@ -595,6 +660,11 @@ public class ZosManagerImpl extends AbstractManager implements IZosManagerSpi {
 		return ConsoleRestrictToImage.get(imageId);
 	}
 
+	@Override
+	public int getZosConsolePropertyCommandThreads(String imageId) throws ZosConsoleManagerException {
+		return CommandThreads.get(imageId);
+	}
+
 	@Override
 	public String buildUniquePathName(Path artifactPath, String name) {
     	int uniqueId = 1;
@@ -625,6 +695,26 @@ public class ZosManagerImpl extends AbstractManager implements IZosManagerSpi {
 		}
 	}
 
+	@Override
+	public void storeArtifactStream(Path artifactPath, InputStream content, ResultArchiveStoreContentType type) throws ZosManagerException {
+		try {
+			if (!Files.exists(artifactPath)) {
+				Files.createFile(artifactPath, type);
+			}
+			if (content != null) {
+				try (OutputStream outputStream = Files.newOutputStream(artifactPath)) {
+					byte[] buffer = new byte[8192];
+					int length;
+					while ((length = content.read(buffer)) != -1) {
+						outputStream.write(buffer, 0, length);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new ZosManagerException("Unable to store artifact", e);
+		}
+	}
+
 	@Override
 	public void createArtifactDirectory(Path artifactPath) throws ZosManagerException {
 		try {
@@ -5,6 +5,7 @@
  */
 package dev.galasa.zos.spi;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 
 import javax.validation.constraints.NotNull;
@@ -18,6 +19,7 @@ import dev.galasa.zosbatch.IZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi;
+import dev.galasa.zosbatch.spi.ZosBatchSpoolFileArchiver;
 import dev.galasa.zosconsole.ZosConsoleManagerException;
 import dev.galasa.zosfile.ZosFileManagerException;
 
@@ -101,6 +103,22 @@ public interface IZosManagerSpi extends IZosManager {
 	 */
 	int getZosBatchPropertyJobWaitTimeout(String imageId) throws ZosBatchManagerException;
 
+	/**
+	 * Provides other managers to the zOS Batch {@code zosbatch.batchjob.[imageid].poll.interval} property
+	 * @param imageId
+	 * @return
+	 * @throws ZosBatchManagerException
+	 */
+	int getZosBatchPropertyJobPollInterval(String imageId) throws ZosBatchManagerException;
+
+	/**
+	 * Provides other managers to the zOS Batch {@code zosbatch.batchjob.[imageid].poll.max.interval} property
+	 * @param imageId
+	 * @return
+	 * @throws ZosBatchManagerException
+	 */
+	int getZosBatchPropertyJobPollMaxInterval(String imageId) throws ZosBatchManagerException;
+
 	/**
 	 * Provides other managers to the zOS Batch {@code zosbatch.batchjob.[imageid].truncate.jcl.records} property
 	 * @param imageId
@@ -109,6 +127,22 @@ public interface IZosManagerSpi extends IZosManager {
 	 */
 	boolean getZosBatchPropertyTruncateJCLRecords(String imageId) throws ZosBatchManagerException;
 
+	/**
+	 * Provides other managers to the zOS Batch {@code zosbatch.batchjob.[imageid].archive.threads} property
+	 * @param imageId
+	 * @return
+	 * @throws ZosBatchManagerException
+	 */
+	int getZosBatchPropertyArchiveThreads(String imageId) throws ZosBatchManagerException;
+
+	/**
+	 * Provides other managers the {@link ZosBatchSpoolFileArchiver} shared by all zOS Batch jobs on a zOS image
+	 * @param image
+	 * @return
+	 * @throws ZosBatchException
+	 */
+	ZosBatchSpoolFileArchiver getZosBatchSpoolFileArchiver(IZosImage image) throws ZosBatchException;
+
 	/**
 	 * Provides other managers a {@link IZosBatchJobname} with a prefix defined by the zOS Batch {@code zosbatch.jobname.[imageid].prefix} property
 	 * @param imageId
@@ -149,6 +183,16 @@ public interface IZosManagerSpi extends IZosManager {
 	 */
 	void storeArtifact(Path artifactPath, String content, ResultArchiveStoreContentType type) throws ZosManagerException;
 
+	/**
+	 * Store an artifact in the results archive on behalf of another manager, copying the content from a stream 
+	 * without holding it all in memory. The stream is not closed. If the artifact already exists, e.g. it was created 
+	 * by {@link #storeArtifact(Path, String, ResultArchiveStoreContentType)} to reserve its name, its content is replaced
+	 * @param archivePath
+	 * @param content
+	 * @param type
+	 */
+	void storeArtifactStream(Path artifactPath, InputStream content, ResultArchiveStoreContentType type) throws ZosManagerException;
+
 	/**
 	 * Create an empty dirictory in the results archive on behalf of another manager
 	 * @param artifactPath
@@ -164,6 +208,30 @@ public interface IZosManagerSpi extends IZosManager {
      */
 	int getZosFilePropertyDirectoryListMaxItems(String imageId) throws ZosFileManagerException;
 	
+    /**
+     * Provides other managers to the zOS File {@code zosfile.dataset.[imageid].list.max.items} property
+     * @param imageId
+     * @return
+     * @throws ZosFileManagerException
+     */
+	int getZosFilePropertyDatasetListMaxItems(String imageId) throws ZosFileManagerException;
+	
+    /**
+     * Provides other managers to the zOS File {@code zosfile.unix.[imageid].concurrent.requests} property
+     * @param imageId
+     * @return
+     * @throws ZosFileManagerException
+     */
+	int getZosFilePropertyUnixConcurrentRequests(String imageId) throws ZosFileManagerException;
+	
+    /**
+     * Provides other managers to the zOS File {@code zosfile.unix.[imageid].archive.timeout} property
+     * @param imageId
+     * @return
+     * @throws ZosFileManagerException
+     */
+	int getZosFilePropertyUnixArchiveTimeout(String imageId) throws ZosFileManagerException;
+	
     /**
      * Provides other managers to the zOS File {@code zosfile.batchjob.[imageid].restrict.to.image} property
      * @param imageId
@@ -187,6 +255,14 @@ public interface IZosManagerSpi extends IZosManager {
      * @throws ZosConsoleManagerException
      */
 	boolean getZosConsolePropertyConsoleRestrictToImage(String imageId) throws ZosConsoleManagerException;
+
+    /**
+     * Provides other managers to the zOS Console {@code zosconsole.console.[imageid].command.threads} property
+     * @param imageId
+     * @return
+     * @throws ZosConsoleManagerException
+     */
+	int getZosConsolePropertyCommandThreads(String imageId) throws ZosConsoleManagerException;
 	
 	/**
 	 * Returns the credentials on the specified image id
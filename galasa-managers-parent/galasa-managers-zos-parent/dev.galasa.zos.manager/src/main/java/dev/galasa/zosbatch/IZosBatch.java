@@ -40,6 +40,17 @@ public interface IZosBatch {
     @NotNull
     public IZosBatchJob submitJob(@NotNull String jcl, IZosBatchJobname jobname, ZosBatchJobcard jobCard) throws ZosBatchException;
 
+    /**
+     * Submit a group of jobs. The jobs are submitted concurrently, each with a new unique jobname, and the returned
+     * {@link IZosBatchJobGroup} can be used to wait for all or any of the jobs to end.
+     * 
+     * @param jcl - The JCL to submit for each job.   Must not include the JOB statement
+     * @return {@link IZosBatchJobGroup} A representation of the group of zOS Batch Jobs
+     * @throws ZosBatchException 
+     */
+    @NotNull
+    public IZosBatchJobGroup submitJobs(@NotNull List<String> jcl) throws ZosBatchException;
+
     /**
      * Return a list of zOS Batch jobs with the given jobname and/or the owner. Jobname and owner can be the full value 
      * or use the * wild card.
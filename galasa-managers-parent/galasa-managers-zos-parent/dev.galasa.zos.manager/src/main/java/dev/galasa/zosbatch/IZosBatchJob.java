@@ -136,6 +136,18 @@ public interface IZosBatchJob {
      */
     public IZosBatchJobOutputSpoolFile getSpoolFile(String ddname) throws ZosBatchException;
     
+    /**
+     * Follow a spool file of the batch job while the job is executing. Each request on the returned tail retrieves only the
+     * records written since the previous request, and the tail can be scanned by an {@link dev.galasa.textscan.ILogScanner}.<p>
+     * <b>NOTE:</b> Follows the first matching instance in the list. If the batch job has multiple steps, there may be multiple 
+     * instances of the ddname. 
+     * 
+     * @param ddname of the spool file
+     * @return the {@link IZosBatchSpoolFileTail}
+     * @throws ZosBatchException
+     */
+    public IZosBatchSpoolFileTail tail(String ddname) throws ZosBatchException;
+    
     /**
      * Cancel the batch job
      * 
@@ -0,0 +1,54 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a group of zOS Batch jobs submitted together by {@link IZosBatch#submitJobs(List)}.<br>
+ * The status of all the jobs in the group is polled together, and the output of each job is retrieved as soon as
+ * the job ends, while the other jobs in the group are still executing
+ *
+ */
+public interface IZosBatchJobGroup {
+
+    /**
+     * Returns the jobs in this group, in the order the JCL was supplied
+     *
+     * @return a {@link List} of {@link IZosBatchJob}
+     */
+    public List<IZosBatchJob> getJobs();
+
+    /**
+     * Wait for all the jobs in this group to end and for their output to be retrieved
+     *
+     * @param timeout the time in seconds to wait
+     * @return true if all the jobs have ended, false if the timeout expired
+     * @throws ZosBatchException if a job in the group did not end within the job wait timeout, or its output could not be retrieved
+     */
+    public boolean waitForAll(long timeout) throws ZosBatchException;
+
+    /**
+     * Wait for the next job in this group to end and for its output to be retrieved. Each job is returned once only
+     *
+     * @param timeout the time in seconds to wait
+     * @return the {@link IZosBatchJob} that ended, or null if the timeout expired or all the jobs have already been returned
+     * @throws ZosBatchException if the job did not end within the job wait timeout, or its output could not be retrieved
+     */
+    public IZosBatchJob waitForAny(long timeout) throws ZosBatchException;
+
+    /**
+     * Returns a {@link CompletableFuture} that is completed when the job has ended and its output has been retrieved.
+     * The future is completed exceptionally with a {@link ZosBatchException} if the job did not end within the job wait
+     * timeout, or its output could not be retrieved
+     *
+     * @param job a job in this group
+     * @return the {@link CompletableFuture} for the job
+     * @throws ZosBatchException if the job is not in this group
+     */
+    public CompletableFuture<IZosBatchJob> getCompletion(IZosBatchJob job) throws ZosBatchException;
+}
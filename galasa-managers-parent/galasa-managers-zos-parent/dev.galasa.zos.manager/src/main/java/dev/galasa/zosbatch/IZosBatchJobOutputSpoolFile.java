@@ -42,9 +42,22 @@ public interface IZosBatchJobOutputSpoolFile {
     public String getDdname();
     
     /**
-     * Return the content of this zOS batch job spool file
+     * Return the content of this zOS batch job spool file. The content is retrieved from the zOS image when it is 
+     * first requested
      * @return the zOS batch job spool file content
+     * @throws IllegalStateException if the content could not be retrieved from the zOS image. The cause is the 
+     * {@link ZosBatchException} from the retrieval, and the same exception is thrown by any later request
      */
     public String getRecords();
+    
+    /**
+     * Return a range of records from this zOS batch job spool file. Only the requested records are retrieved from the 
+     * zOS image, unless the whole spool file has already been retrieved by {@link #getRecords()}
+     * @param first the index of the first record, starting at 0
+     * @param count the number of records
+     * @return the records, or an empty {@link String} if there are no records in the range
+     * @throws ZosBatchException
+     */
+    public String getRecords(long first, long count) throws ZosBatchException;
 
 }
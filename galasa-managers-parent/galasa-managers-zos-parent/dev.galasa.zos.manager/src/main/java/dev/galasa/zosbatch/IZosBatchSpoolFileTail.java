@@ -0,0 +1,55 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch;
+
+import dev.galasa.textscan.ITextScannable;
+
+/**
+ * Follows a spool file of a zOS Batch job while the job is executing, returned by {@link IZosBatchJob#tail(String)}.<br>
+ * Each request retrieves only the records written since the previous request, and only those records are kept. The tail
+ * is an {@link ITextScannable} whose scannable string is the records from the most recent update, so it can be set as the
+ * scannable of an {@link dev.galasa.textscan.ILogScanner} and scanned as the job writes to the spool file
+ *
+ */
+public interface IZosBatchSpoolFileTail extends ITextScannable {
+
+    /**
+     * Returns the job being followed
+     *
+     * @return the {@link IZosBatchJob}
+     */
+    public IZosBatchJob getJob();
+
+    /**
+     * Returns the ddname of the spool file being followed
+     *
+     * @return the ddname
+     */
+    public String getDdname();
+
+    /**
+     * Retrieve the records written to the spool file since the previous request. If the spool file does not exist yet,
+     * e.g. the job step has not started, no records are returned
+     *
+     * @return the new records, or an empty string if there are none
+     * @throws ZosBatchException
+     */
+    public String readNewRecords() throws ZosBatchException;
+
+    /**
+     * Returns the records retrieved by the most recent request. Earlier records are not kept
+     *
+     * @return the records, or an empty string if there were none
+     */
+    public String getLastRecords();
+
+    /**
+     * Returns the number of records retrieved so far, i.e. the record offset of the next request
+     *
+     * @return the number of records
+     */
+    public long getRecordCount();
+}
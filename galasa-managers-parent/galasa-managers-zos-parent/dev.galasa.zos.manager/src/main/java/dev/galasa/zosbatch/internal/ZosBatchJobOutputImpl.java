@@ -5,6 +5,7 @@
  */
 package dev.galasa.zosbatch.internal;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -14,6 +15,7 @@ import dev.galasa.zosbatch.IZosBatchJobOutput;
 import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
 
 /**
  * Implementation of {@link IZosBatchJobOutput}
@@ -41,6 +43,24 @@ public class ZosBatchJobOutputImpl implements IZosBatchJobOutputSpi, Iterable<IZ
         spoolFiles.add(new ZosBatchJobOutputSpoolFileImpl(this.jobname, this.jobid, Objects.toString(stepname, ""), Objects.toString(procstep, ""), ddname, records));
     }
 
+    @Override
+    public void addJcl(ISpoolFileReader reader) {
+        spoolFiles.add(new ZosBatchJobOutputSpoolFileImpl(this.jobname, this.jobid, reader));
+    }
+
+    @Override
+    public void addSpoolFile(String stepname, String procstep, String ddname, ISpoolFileReader reader) {
+        spoolFiles.add(new ZosBatchJobOutputSpoolFileImpl(this.jobname, this.jobid, Objects.toString(stepname, ""), Objects.toString(procstep, ""), ddname, reader));
+    }
+
+    @Override
+    public InputStream getSpoolFileStream(IZosBatchJobOutputSpoolFile spoolFile) throws ZosBatchException {
+        if (!(spoolFile instanceof ZosBatchJobOutputSpoolFileImpl) || !spoolFiles.contains(spoolFile)) {
+            throw new ZosBatchException("Spool file " + spoolFile + " is not in job output " + this.toString());
+        }
+        return ((ZosBatchJobOutputSpoolFileImpl) spoolFile).getRecordsStream();
+    }
+
     @Override
     public String getJobname() throws ZosBatchException {
         return this.jobname;
@@ -5,7 +5,17 @@
  */
 package dev.galasa.zosbatch.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
+import dev.galasa.zosbatch.ZosBatchException;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
 
 /**
  * Implementation of {@link IZosBatchJobOutputSpoolFile}
@@ -19,6 +29,12 @@ public class ZosBatchJobOutputSpoolFileImpl implements IZosBatchJobOutputSpoolFi
     private String procstep;
     private String ddname;
     private String records;
+    private ISpoolFileReader reader;
+    private ZosBatchException readException;
+    
+    private static final String NEWLINE = "\n";
+    
+    private static final Log logger = LogFactory.getLog(ZosBatchJobOutputSpoolFileImpl.class);
     
     /**
      * Constructor for creating JESJCLIN spool file
@@ -36,6 +52,17 @@ public class ZosBatchJobOutputSpoolFileImpl implements IZosBatchJobOutputSpoolFi
         this.records = records;
     }
     
+    /**
+     * Constructor for creating JESJCLIN spool file with records retrieved when first requested
+     * @param jobname
+     * @param jobid
+     * @param reader
+     */
+    public ZosBatchJobOutputSpoolFileImpl(String jobname, String jobid, ISpoolFileReader reader) {
+        this(jobname, jobid, (String) null);
+        this.reader = reader;
+    }
+    
     /**
      * Constructor for creating spool file
      * @param spoolFile
@@ -52,6 +79,20 @@ public class ZosBatchJobOutputSpoolFileImpl implements IZosBatchJobOutputSpoolFi
         this.ddname = ddname;
         this.records = records;
     }
+    
+    /**
+     * Constructor for creating spool file with records retrieved when first requested
+     * @param jobname
+     * @param jobid
+     * @param stepname
+     * @param procstep
+     * @param ddname
+     * @param reader
+     */
+    public ZosBatchJobOutputSpoolFileImpl(String jobname, String jobid, String stepname, String procstep, String ddname, ISpoolFileReader reader) {
+        this(jobname, jobid, stepname, procstep, ddname, (String) null);
+        this.reader = reader;
+    }
 
     @Override
     public String getJobname() {
@@ -79,10 +120,49 @@ public class ZosBatchJobOutputSpoolFileImpl implements IZosBatchJobOutputSpoolFi
     }
 
     @Override
-    public String getRecords() {
+    public synchronized String getRecords() {
+        if (this.records == null && this.reader != null) {
+            if (this.readException == null) {
+                try {
+                    this.records = this.reader.readRecords(0, 0);
+                } catch (ZosBatchException e) {
+                    logger.error("Unable to retrieve records for spool file " + this.toString(), e);
+                    this.readException = e;
+                }
+            }
+            if (this.readException != null) {
+                throw new IllegalStateException("Unable to retrieve records for spool file " + this.toString(), this.readException);
+            }
+        }
         return this.records;        
     }
 
+    @Override
+    public synchronized String getRecords(long first, long count) throws ZosBatchException {
+        if (first < 0 || count < 1) {
+            throw new ZosBatchException("Invalid record range, first: " + first + ", count: " + count);
+        }
+        if (this.records == null && this.reader != null) {
+            return this.reader.readRecords(first, count);
+        }
+        if (this.records == null) {
+            return "";
+        }
+        return Arrays.stream(this.records.split(NEWLINE)).skip(first).limit(count).map(record -> record + NEWLINE).collect(Collectors.joining());
+    }
+
+    /**
+     * Returns the content of this spool file as a stream. The records are not kept by this spool file
+     * @return the content
+     * @throws ZosBatchException
+     */
+    public synchronized InputStream getRecordsStream() throws ZosBatchException {
+        if (this.records == null && this.reader != null) {
+            return this.reader.openRecords();
+        }
+        return new ByteArrayInputStream(this.records != null ? this.records.getBytes() : new byte[0]);
+    }
+
     @Override
     public String toString() {
         return "JOB=" + jobname + " JOBID=" + jobid + " STEP=" + stepname +  " PROCSTEP=" + procstep + " DDNAME=" + ddname;
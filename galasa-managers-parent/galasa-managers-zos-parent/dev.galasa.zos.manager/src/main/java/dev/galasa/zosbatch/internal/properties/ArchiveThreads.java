@@ -0,0 +1,54 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.internal.properties;
+
+import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * zOS Batch job output archive threads
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name zosbatch.batchjob.[imageid].archive.threads
+ * 
+ * @galasa.description The number of threads used to retrieve and archive the spool files of zOS Batch jobs on the zOS image. The threads are shared by all the jobs on the image
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 4
+ * 
+ * @galasa.valid_values 1 to {@link Integer#MAX_VALUE}
+ * 
+ * @galasa.examples 
+ * <code>zosbatch.batchjob.MVSA.archive.threads=8</code><br>
+ * <code>zosbatch.batchjob.default.archive.threads=2</code>
+ *
+ */
+public class ArchiveThreads extends CpsProperties {
+
+    private static final int DEFAULT_ARCHIVE_THREADS = 4;
+
+    public static int get(String imageId) throws ZosBatchManagerException {
+        try {
+            String threadsString = getStringNulled(ZosBatchPropertiesSingleton.cps(), "batchjob", "archive.threads", imageId);
+
+            if (threadsString == null) {
+                return DEFAULT_ARCHIVE_THREADS;
+            } else {
+                int threads = Integer.parseInt(threadsString);
+                if (threads < 1) {
+                    throw new ZosBatchManagerException("Batch job archive threads property must be greater than 0");
+                }
+                return threads;
+            }
+        } catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+            throw new ZosBatchManagerException("Problem asking the CPS for the batch job archive threads property for zOS image "  + imageId, e);
+        }
+    }
+
+}
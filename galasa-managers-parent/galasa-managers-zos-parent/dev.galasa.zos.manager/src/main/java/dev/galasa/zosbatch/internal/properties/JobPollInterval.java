@@ -0,0 +1,55 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.internal.properties;
+
+import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * zOS Batch job status initial poll interval
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name zosbatch.batchjob.[imageid].poll.interval
+ * 
+ * @galasa.description The value in milliseconds to wait before the first request for the status of a submitted zOS Batch job.
+ * The interval is doubled after each request, up to the value of the {@code zosbatch.batchjob.[imageid].poll.max.interval} property
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 250
+ * 
+ * @galasa.valid_values 1 to {@link Integer#MAX_VALUE}
+ * 
+ * @galasa.examples 
+ * <code>zosbatch.batchjob.MVSA.poll.interval=100</code><br>
+ * <code>zosbatch.batchjob.default.poll.interval=500</code>
+ *
+ */
+public class JobPollInterval extends CpsProperties {
+
+    private static final int DEFAULT_JOB_POLL_INTERVAL = 250;
+
+    public static int get(String imageId) throws ZosBatchManagerException {
+        try {
+            String intervalString = getStringNulled(ZosBatchPropertiesSingleton.cps(), "batchjob", "poll.interval", imageId);
+
+            if (intervalString == null) {
+                return DEFAULT_JOB_POLL_INTERVAL;
+            } else {
+                int interval = Integer.parseInt(intervalString);
+                if (interval < 1) {
+                    throw new ZosBatchManagerException("Batch job poll interval property must be greater than 0");
+                }
+                return interval;
+            }
+        } catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+            throw new ZosBatchManagerException("Problem asking the CPS for the batch job poll interval property for zOS image "  + imageId, e);
+        }
+    }
+
+}
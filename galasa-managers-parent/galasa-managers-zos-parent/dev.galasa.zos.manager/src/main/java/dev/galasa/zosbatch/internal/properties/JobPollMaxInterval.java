@@ -0,0 +1,54 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.internal.properties;
+
+import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+
+/**
+ * zOS Batch job status maximum poll interval
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name zosbatch.batchjob.[imageid].poll.max.interval
+ * 
+ * @galasa.description The maximum value in milliseconds to wait between requests for the status of a submitted zOS Batch job
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 10000
+ * 
+ * @galasa.valid_values 1 to {@link Integer#MAX_VALUE}
+ * 
+ * @galasa.examples 
+ * <code>zosbatch.batchjob.MVSA.poll.max.interval=5000</code><br>
+ * <code>zosbatch.batchjob.default.poll.max.interval=30000</code>
+ *
+ */
+public class JobPollMaxInterval extends CpsProperties {
+
+    private static final int DEFAULT_JOB_POLL_MAX_INTERVAL = 10000;
+
+    public static int get(String imageId) throws ZosBatchManagerException {
+        try {
+            String intervalString = getStringNulled(ZosBatchPropertiesSingleton.cps(), "batchjob", "poll.max.interval", imageId);
+
+            if (intervalString == null) {
+                return DEFAULT_JOB_POLL_MAX_INTERVAL;
+            } else {
+                int interval = Integer.parseInt(intervalString);
+                if (interval < 1) {
+                    throw new ZosBatchManagerException("Batch job poll maximum interval property must be greater than 0");
+                }
+                return interval;
+            }
+        } catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+            throw new ZosBatchManagerException("Problem asking the CPS for the batch job poll maximum interval property for zOS image "  + imageId, e);
+        }
+    }
+
+}
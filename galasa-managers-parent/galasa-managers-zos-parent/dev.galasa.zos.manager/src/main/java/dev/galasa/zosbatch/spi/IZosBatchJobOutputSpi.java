@@ -5,13 +5,40 @@
  */
 package dev.galasa.zosbatch.spi;
 
+import java.io.InputStream;
+
 import dev.galasa.zosbatch.IZosBatchJobOutput;
+import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
+import dev.galasa.zosbatch.ZosBatchException;
 
 /**
  * SPI to zOS Batch Job output
  *
  */
 public interface IZosBatchJobOutputSpi extends IZosBatchJobOutput {	
+	
+	/**
+	 * Server specific retrieval of the records of a single spool file
+	 */
+	public interface ISpoolFileReader {
+		
+		/**
+		 * Returns records from the spool file
+		 * @param first the index of the first record, starting at 0
+		 * @param count the number of records, or 0 for the whole spool file
+		 * @return the records
+		 * @throws ZosBatchException
+		 */
+		public String readRecords(long first, long count) throws ZosBatchException;
+		
+		/**
+		 * Returns the content of the whole spool file as a stream. The caller must close the stream
+		 * @return the content
+		 * @throws ZosBatchException
+		 */
+		public InputStream openRecords() throws ZosBatchException;
+	}
+	
 	/**
 	 * Add a spool file to the job output
 	 * @param stepname
@@ -27,4 +54,28 @@ public interface IZosBatchJobOutputSpi extends IZosBatchJobOutput {
 	 */
 	public void addJcl(String fileOutput);
 
+	/**
+	 * Add a spool file to the job output. The records are retrieved by the reader when first requested
+	 * @param stepname
+	 * @param procstep
+	 * @param ddname
+	 * @param reader
+	 */
+	public void addSpoolFile(String stepname, String procstep, String ddname, ISpoolFileReader reader);
+
+	/**
+	 * Add JCL to the job output. The records are retrieved by the reader when first requested
+	 * @param reader
+	 */
+	public void addJcl(ISpoolFileReader reader);
+
+	/**
+	 * Returns the content of a spool file in this job output as a stream, without keeping the records in the 
+	 * job output. The caller must close the stream
+	 * @param spoolFile
+	 * @return the content
+	 * @throws ZosBatchException
+	 */
+	public InputStream getSpoolFileStream(IZosBatchJobOutputSpoolFile spoolFile) throws ZosBatchException;
+
 }
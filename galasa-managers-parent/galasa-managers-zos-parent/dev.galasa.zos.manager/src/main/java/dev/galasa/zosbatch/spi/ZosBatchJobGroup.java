@@ -0,0 +1,204 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.IZosBatchJobGroup;
+import dev.galasa.zosbatch.ZosBatchException;
+
+/**
+ * A group of zOS Batch jobs on a single zOS image. The jobs are submitted concurrently and are then waited for by a
+ * shared {@link ZosBatchJobStatusWatcher}, so the status of all the jobs is requested together. The output of each
+ * job is retrieved, by a thread per job, as soon as the job ends
+ * @param <T> the server specific {@link IZosBatchJob} implementation
+ */
+public class ZosBatchJobGroup<T extends IZosBatchJob> implements IZosBatchJobGroup {
+
+    /**
+     * Server specific job submission
+     * @param <T> the server specific {@link IZosBatchJob} implementation
+     */
+    public interface IJobSubmitter<T extends IZosBatchJob> {
+
+        /**
+         * Submit the job
+         * @param job the job
+         * @throws ZosBatchException
+         */
+        public void submitJob(T job) throws ZosBatchException;
+    }
+
+    private final List<T> jobs;
+    private final ZosBatchJobStatusWatcher<T> watcher;
+    private final long jobWaitTimeout;
+
+    private final Map<IZosBatchJob, CompletableFuture<IZosBatchJob>> completions = new IdentityHashMap<>();
+    private final BlockingQueue<CompletableFuture<IZosBatchJob>> ended = new LinkedBlockingQueue<>();
+    private final AtomicInteger unreturned;
+    private final ExecutorService executor;
+
+    private static final Log logger = LogFactory.getLog(ZosBatchJobGroup.class);
+
+    /**
+     * @param jobs the jobs in the group, not yet submitted
+     * @param watcher the status watcher for the zOS image the jobs are submitted to
+     * @param jobWaitTimeout the time in seconds to wait for each job to end
+     */
+    public ZosBatchJobGroup(List<T> jobs, ZosBatchJobStatusWatcher<T> watcher, long jobWaitTimeout) {
+        this.jobs = new ArrayList<>(jobs);
+        this.watcher = watcher;
+        this.jobWaitTimeout = jobWaitTimeout;
+        this.unreturned = new AtomicInteger(this.jobs.size());
+        this.executor = Executors.newFixedThreadPool(Math.max(1, jobs.size()), runnable -> {
+            Thread thread = new Thread(runnable, "zosbatch-job-group");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submit all the jobs in the group concurrently, then start waiting for them to end
+     * @param submitter submits each job
+     * @throws ZosBatchException if any of the jobs could not be submitted
+     */
+    public void submit(IJobSubmitter<T> submitter) throws ZosBatchException {
+        List<Callable<T>> tasks = new ArrayList<>();
+        for (T job : this.jobs) {
+            tasks.add(() -> {
+                submitter.submitJob(job);
+                return job;
+            });
+        }
+        try {
+            for (Future<T> future : this.executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new ZosBatchException("Interrupted while submitting job group", e);
+        } catch (ExecutionException e) {
+            this.executor.shutdownNow();
+            throw zosBatchException("Unable to submit job group", e.getCause());
+        }
+
+        for (T job : this.jobs) {
+            this.watcher.watch(job);
+        }
+        List<CompletableFuture<IZosBatchJob>> futures = new ArrayList<>();
+        synchronized (this.completions) {
+            for (T job : this.jobs) {
+                CompletableFuture<IZosBatchJob> completion = CompletableFuture.supplyAsync(() -> complete(job), this.executor);
+                completion.whenComplete((result, throwable) -> this.ended.add(completion));
+                this.completions.put(job, completion);
+                futures.add(completion);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((result, throwable) -> this.executor.shutdown());
+    }
+
+    @Override
+    public List<IZosBatchJob> getJobs() {
+        return Collections.unmodifiableList(this.jobs);
+    }
+
+    @Override
+    public boolean waitForAll(long timeout) throws ZosBatchException {
+        CompletableFuture<Void> all;
+        synchronized (this.completions) {
+            all = CompletableFuture.allOf(this.completions.values().toArray(new CompletableFuture<?>[0]));
+        }
+        try {
+            all.get(timeout, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ZosBatchException("Interrupted while waiting for job group", e);
+        } catch (ExecutionException e) {
+            throw zosBatchException("Problem waiting for job group", e.getCause());
+        }
+        return true;
+    }
+
+    @Override
+    public IZosBatchJob waitForAny(long timeout) throws ZosBatchException {
+        // Reserve one of the jobs not yet returned, so there is no wait once every job has been returned
+        if (this.unreturned.getAndUpdate(count -> Math.max(0, count - 1)) == 0) {
+            return null;
+        }
+        CompletableFuture<IZosBatchJob> completion;
+        try {
+            completion = this.ended.poll(timeout, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            this.unreturned.incrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new ZosBatchException("Interrupted while waiting for job group", e);
+        }
+        if (completion == null) {
+            this.unreturned.incrementAndGet();
+            return null;
+        }
+        try {
+            return completion.join();
+        } catch (CompletionException e) {
+            throw zosBatchException("Problem waiting for job group", e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<IZosBatchJob> getCompletion(IZosBatchJob job) throws ZosBatchException {
+        CompletableFuture<IZosBatchJob> completion;
+        synchronized (this.completions) {
+            completion = this.completions.get(job);
+        }
+        if (completion == null) {
+            throw new ZosBatchException("Job " + job + " is not in this job group");
+        }
+        return completion;
+    }
+
+    protected IZosBatchJob complete(T job) {
+        try {
+            if (!this.watcher.waitForJob(job, this.jobWaitTimeout)) {
+                throw new ZosBatchException("Timeout waiting for job " + job + " to end after " + this.jobWaitTimeout + " seconds");
+            }
+            job.retrieveOutput();
+        } catch (ZosBatchException e) {
+            logger.error(e.getMessage(), e);
+            throw new CompletionException(e);
+        }
+        return job;
+    }
+
+    protected ZosBatchException zosBatchException(String message, Throwable cause) {
+        if (cause instanceof ZosBatchException) {
+            return (ZosBatchException) cause;
+        }
+        return new ZosBatchException(message, cause);
+    }
+}
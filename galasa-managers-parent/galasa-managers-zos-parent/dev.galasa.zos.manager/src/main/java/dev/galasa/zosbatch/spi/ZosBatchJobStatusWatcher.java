@@ -0,0 +1,157 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.ZosBatchException;
+
+/**
+ * Waits for zOS Batch jobs on a single zOS image to end. All jobs being waited for are polled together, by a
+ * single {@link IJobStatusPoller} request, and the interval between requests starts at the initial poll interval
+ * and is doubled after each request, up to the maximum poll interval. The interval is reset when a new job is watched.
+ * The request is made by one of the waiting threads without holding the watcher's lock, so jobs can be watched and
+ * unwatched while it is in progress, and the other waiting threads are notified when it completes.
+ * @param <T> the server specific {@link IZosBatchJob} implementation
+ */
+public class ZosBatchJobStatusWatcher<T extends IZosBatchJob> {
+
+    /**
+     * Server specific request for the status of a list of jobs
+     * @param <T> the server specific {@link IZosBatchJob} implementation
+     */
+    public interface IJobStatusPoller<T extends IZosBatchJob> {
+
+        /**
+         * Update the status of the supplied jobs, using a single request where possible
+         * @param jobs the jobs that have not ended
+         * @return the jobs that have ended or cannot be found
+         * @throws ZosBatchException
+         */
+        public List<T> pollJobStatus(List<T> jobs) throws ZosBatchException;
+    }
+
+    private final IJobStatusPoller<T> poller;
+    private final long initialInterval;
+    private final long maxInterval;
+
+    private final Set<T> watchedJobs = new LinkedHashSet<>();
+    private final Set<T> endedJobs = new LinkedHashSet<>();
+    private long interval;
+    private long nextPoll;
+    private boolean polling;
+
+    private static final Log logger = LogFactory.getLog(ZosBatchJobStatusWatcher.class);
+
+    /**
+     * @param poller requests the status of the watched jobs
+     * @param initialInterval the time in milliseconds to wait before the first request
+     * @param maxInterval the maximum time in milliseconds to wait between requests
+     */
+    public ZosBatchJobStatusWatcher(IJobStatusPoller<T> poller, long initialInterval, long maxInterval) {
+        this.poller = poller;
+        this.initialInterval = Math.max(1, initialInterval);
+        this.maxInterval = Math.max(this.initialInterval, maxInterval);
+        this.interval = this.initialInterval;
+    }
+
+    /**
+     * Add a job to the list of jobs polled by this watcher
+     * @param job the job
+     */
+    public synchronized void watch(T job) {
+        if (this.endedJobs.contains(job) || this.watchedJobs.contains(job)) {
+            return;
+        }
+        this.interval = this.initialInterval;
+        long firstPoll = currentTimeMillis() + this.interval;
+        this.nextPoll = this.watchedJobs.isEmpty() ? firstPoll : Math.min(this.nextPoll, firstPoll);
+        this.watchedJobs.add(job);
+    }
+
+    /**
+     * Wait for a job to end
+     * @param job the job
+     * @param timeout the time in seconds to wait
+     * @return true if the job has ended or cannot be found, false if the timeout expired. The job is no longer watched when false is returned
+     * @throws ZosBatchException
+     */
+    public boolean waitForJob(T job, long timeout) throws ZosBatchException {
+        watch(job);
+        long timeoutTime = currentTimeMillis() + timeout * 1000;
+        while (true) {
+            List<T> jobs = null;
+            synchronized (this) {
+                try {
+                    while (jobs == null) {
+                        if (this.endedJobs.remove(job)) {
+                            return true;
+                        }
+                        long now = currentTimeMillis();
+                        if (now >= timeoutTime) {
+                            this.watchedJobs.remove(job);
+                            return false;
+                        }
+                        if (!this.polling && now >= this.nextPoll) {
+                            // This thread makes the request for all the waiting threads
+                            this.polling = true;
+                            jobs = new ArrayList<>(this.watchedJobs);
+                        } else {
+                            wait((this.polling ? timeoutTime : Math.min(this.nextPoll, timeoutTime)) - now);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    logger.error("waitForJob Interrupted", e);
+                    Thread.currentThread().interrupt();
+                    throw new ZosBatchException(e);
+                }
+            }
+            poll(jobs);
+        }
+    }
+
+    /**
+     * Stop watching a job
+     * @param job the job
+     */
+    public synchronized void unwatch(T job) {
+        this.watchedJobs.remove(job);
+        this.endedJobs.remove(job);
+    }
+
+    protected void poll(List<T> jobs) throws ZosBatchException {
+        List<T> ended = null;
+        try {
+            ended = this.poller.pollJobStatus(jobs);
+        } finally {
+            synchronized (this) {
+                if (ended != null) {
+                    for (T job : ended) {
+                        // A job unwatched during the request is not recorded
+                        if (this.watchedJobs.remove(job)) {
+                            this.endedJobs.add(job);
+                        }
+                    }
+                }
+                this.nextPoll = currentTimeMillis() + this.interval;
+                this.interval = Math.min(this.interval * 2, this.maxInterval);
+                this.polling = false;
+                notifyAll();
+            }
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import dev.galasa.ResultArchiveStoreContentType;
+import dev.galasa.zos.ZosManagerException;
+import dev.galasa.zos.spi.IZosManagerSpi;
+import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
+import dev.galasa.zosbatch.ZosBatchException;
+
+/**
+ * Archives the spool files of zOS Batch jobs on a single zOS image to the results archive. The spool files are
+ * retrieved and stored by a bounded pool of threads, shared by all the jobs on the image. The artifact names are
+ * allocated in spool file order before the spool files are retrieved, so the names do not depend on the order the
+ * retrievals complete
+ */
+public class ZosBatchSpoolFileArchiver {
+
+    private final IZosManagerSpi zosManager;
+    private final ExecutorService executor;
+
+    private static final Log logger = LogFactory.getLog(ZosBatchSpoolFileArchiver.class);
+
+    /**
+     * @param zosManager the zOS Manager used to store the artifacts
+     * @param threads the maximum number of spool files retrieved at the same time
+     */
+    public ZosBatchSpoolFileArchiver(IZosManagerSpi zosManager, int threads) {
+        this.zosManager = zosManager;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "zosbatch-spool-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Archive all the spool files in the job output, and wait for them to be stored
+     * @param jobOutput the job output
+     * @param artifactPath the results archive directory for the spool files
+     * @throws ZosBatchException if any of the spool files could not be retrieved or stored
+     */
+    public void archive(IZosBatchJobOutputSpi jobOutput, Path artifactPath) throws ZosBatchException {
+        List<Future<Void>> futures = new ArrayList<>();
+        ZosBatchException exception = null;
+        try {
+            for (IZosBatchJobOutputSpoolFile spoolFile : jobOutput) {
+                Path path = artifactPath.resolve(this.zosManager.buildUniquePathName(artifactPath, spoolFileName(spoolFile)));
+                // Create the artifact now so the next spool file with the same name is given the next unique name
+                this.zosManager.storeArtifact(path, "", ResultArchiveStoreContentType.TEXT);
+                futures.add(this.executor.submit(() -> {
+                    store(jobOutput, spoolFile, path);
+                    return null;
+                }));
+            }
+        } catch (ZosManagerException e) {
+            exception = new ZosBatchException(e);
+        }
+
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ZosBatchException("Interrupted while archiving job output " + jobOutput, e);
+            } catch (ExecutionException e) {
+                if (exception == null) {
+                    exception = e.getCause() instanceof ZosBatchException ? (ZosBatchException) e.getCause() : new ZosBatchException(e.getCause());
+                } else {
+                    logger.error("Unable to archive spool file of job output " + jobOutput, e.getCause());
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Stop the archive threads. Spool files already being archived are completed
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    protected void store(IZosBatchJobOutputSpi jobOutput, IZosBatchJobOutputSpoolFile spoolFile, Path path) throws ZosBatchException {
+        try (InputStream records = jobOutput.getSpoolFileStream(spoolFile)) {
+            this.zosManager.storeArtifactStream(path, records, ResultArchiveStoreContentType.TEXT);
+        } catch (ZosManagerException | IOException e) {
+            throw new ZosBatchException(e);
+        }
+    }
+
+    /**
+     * Returns the results archive name for a spool file, i.e. JOBNAME_JOBID[_STEPNAME][_PROCSTEP]_DDNAME
+     * @param spoolFile the spool file
+     * @return the name
+     */
+    public static String spoolFileName(IZosBatchJobOutputSpoolFile spoolFile) {
+        StringBuilder name = new StringBuilder();
+        name.append(spoolFile.getJobname());
+        name.append("_");
+        name.append(spoolFile.getJobid());
+        if (!spoolFile.getStepname().isEmpty()){
+            name.append("_");
+            name.append(spoolFile.getStepname());
+        }
+        if (!spoolFile.getProcstep().isEmpty()){
+            name.append("_");
+            name.append(spoolFile.getProcstep());
+        }
+        name.append("_");
+        name.append(spoolFile.getDdname());
+        return name.toString();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.io.InputStream;
+import java.util.Objects;
+
+import dev.galasa.ManagerException;
+import dev.galasa.textscan.ITextScannable;
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
+import dev.galasa.zosbatch.IZosBatchSpoolFileTail;
+import dev.galasa.zosbatch.ZosBatchException;
+
+/**
+ * Implementation of {@link IZosBatchSpoolFileTail} shared by the zOS Batch managers. The offset of the next record is
+ * kept, and new records are requested in blocks using {@link IZosBatchJobOutputSpoolFile#getRecords(long, long)}
+ * until a partial block is returned. Only the records from the most recent request are kept, so following a large
+ * spool file does not hold all of it in storage
+ */
+public class ZosBatchSpoolFileTail implements IZosBatchSpoolFileTail {
+
+    private static final long BLOCK_RECORDS = 1000;
+    private static final String NEWLINE = "\n";
+
+    private final IZosBatchJob job;
+    private final String ddname;
+
+    private IZosBatchJobOutputSpoolFile spoolFile;
+    private long recordCount;
+    private String lastRecords = "";
+
+    /**
+     * @param job the job
+     * @param ddname the ddname of the spool file to follow. The first spool file with the ddname is followed
+     */
+    public ZosBatchSpoolFileTail(IZosBatchJob job, String ddname) {
+        this.job = job;
+        this.ddname = ddname;
+    }
+
+    @Override
+    public IZosBatchJob getJob() {
+        return this.job;
+    }
+
+    @Override
+    public String getDdname() {
+        return this.ddname;
+    }
+
+    @Override
+    public synchronized String readNewRecords() throws ZosBatchException {
+        // The spool files of the job are listed again while it is executing, so the current entry is used
+        IZosBatchJobOutputSpoolFile currentSpoolFile = this.job.getSpoolFile(this.ddname);
+        if (currentSpoolFile != null) {
+            if (this.spoolFile != null && !sameSpoolFile(this.spoolFile, currentSpoolFile)) {
+                // A different spool file with the ddname is now the first, so it is followed from its first record
+                this.recordCount = 0;
+            }
+            this.spoolFile = currentSpoolFile;
+        }
+        if (this.spoolFile == null) {
+            this.lastRecords = "";
+            return this.lastRecords;
+        }
+        StringBuilder newRecords = new StringBuilder();
+        long blockCount;
+        do {
+            String block = this.spoolFile.getRecords(this.recordCount, BLOCK_RECORDS);
+            blockCount = countRecords(block);
+            if (blockCount > 0) {
+                newRecords.append(block);
+                if (!block.endsWith(NEWLINE)) {
+                    newRecords.append(NEWLINE);
+                }
+                this.recordCount += blockCount;
+            }
+        } while (blockCount == BLOCK_RECORDS);
+        this.lastRecords = newRecords.toString();
+        return this.lastRecords;
+    }
+
+    @Override
+    public synchronized String getLastRecords() {
+        return this.lastRecords;
+    }
+
+    @Override
+    public synchronized long getRecordCount() {
+        return this.recordCount;
+    }
+
+    @Override
+    public boolean isScannableInputStream() {
+        return false;
+    }
+
+    @Override
+    public boolean isScannableString() {
+        return true;
+    }
+
+    @Override
+    public String getScannableName() {
+        return this.job.toString() + " " + this.ddname;
+    }
+
+    @Override
+    public ITextScannable updateScannable() throws ManagerException {
+        readNewRecords();
+        return this;
+    }
+
+    @Override
+    public InputStream getScannableInputStream() throws ManagerException {
+        throw new ZosBatchException("Spool file tail " + getScannableName() + " is not an InputStream scannable");
+    }
+
+    @Override
+    public String getScannableString() throws ManagerException {
+        return getLastRecords();
+    }
+
+    protected boolean sameSpoolFile(IZosBatchJobOutputSpoolFile spoolFile1, IZosBatchJobOutputSpoolFile spoolFile2) {
+        return Objects.equals(spoolFile1.getStepname(), spoolFile2.getStepname()) &&
+               Objects.equals(spoolFile1.getProcstep(), spoolFile2.getProcstep());
+    }
+
+    protected long countRecords(String block) {
+        if (block == null || block.isEmpty()) {
+            return 0;
+        }
+        long count = block.chars().filter(c -> c == '\n').count();
+        return block.endsWith(NEWLINE) ? count : count + 1;
+    }
+}
@@ -5,6 +5,9 @@
  */
 package dev.galasa.zosconsole;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javax.validation.constraints.NotNull;
 
 /**
@@ -33,5 +36,32 @@ public interface IZosConsole {
      */
     @NotNull
     public IZosConsoleCommand issueCommand(@NotNull String command, String consoleName) throws ZosConsoleException;
+    
+    /**
+     * Issue a group of commands to the zOS Console concurrently using a named console. Each returned {@link CompletableFuture} 
+     * is completed when the immediate response to its command is received, or is completed exceptionally with a 
+     * {@link ZosConsoleException} if the command fails
+     * 
+     * @param commands The console commands
+     * @param consoleName The name of the EMCS console that is used to issue the commands. If null, the default named console is used
+     * @return a {@link List} of {@link CompletableFuture} for the {@link IZosConsoleCommand}s, in the order the commands were supplied
+     * @throws ZosConsoleException if the console name is not valid
+     */
+    @NotNull
+    public List<CompletableFuture<IZosConsoleCommand>> issueCommands(@NotNull List<String> commands, String consoleName) throws ZosConsoleException;
+    
+    /**
+     * Add a listener to be notified of the response messages received for the commands issued on this console
+     * 
+     * @param listener the {@link IZosConsoleMessageListener}
+     */
+    public void addMessageListener(@NotNull IZosConsoleMessageListener listener);
+    
+    /**
+     * Remove a listener added by {@link #addMessageListener(IZosConsoleMessageListener)}
+     * 
+     * @param listener the {@link IZosConsoleMessageListener}
+     */
+    public void removeMessageListener(@NotNull IZosConsoleMessageListener listener);
 
 }
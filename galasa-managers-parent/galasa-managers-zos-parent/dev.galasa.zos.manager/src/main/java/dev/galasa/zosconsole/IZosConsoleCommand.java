@@ -29,6 +29,18 @@ public interface IZosConsoleCommand {
      */
     public String requestResponse() throws ZosConsoleException;
     
+    /**
+     * Wait for the delayed response messages from the current console command. The delayed response is requested 
+     * repeatedly, at an interval that increases while no new messages are received, until the completion pattern is 
+     * found in the response or no new messages have been received for the quiet period
+     * @param completionPattern a regular expression that identifies the end of the response, or null to wait for the quiet period
+     * @param quietPeriod the time in seconds without new messages after which the response is complete, or 0 to wait for the completion pattern only
+     * @param timeout the maximum time in seconds to wait
+     * @return the delayed response messages received while waiting
+     * @throws ZosConsoleException if the timeout expires before the response is complete
+     */
+    public String waitForResponse(String completionPattern, long quietPeriod, long timeout) throws ZosConsoleException;
+    
     /**
      * Return the command
      * @return the command String
@@ -0,0 +1,20 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosconsole;
+
+/**
+ * Receives the response messages for commands issued on an {@link IZosConsole}, as they are received from the 
+ * zOS Console. Add to a console with {@link IZosConsole#addMessageListener(IZosConsoleMessageListener)}
+ */
+public interface IZosConsoleMessageListener {
+
+    /**
+     * Called when response messages are received for a command. May be called on a thread other than the test thread
+     * @param command the {@link IZosConsoleCommand}
+     * @param messages the messages received
+     */
+    public void messagesReceived(IZosConsoleCommand command, String messages);
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosconsole.internal.properties;
+
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+import dev.galasa.zosconsole.ZosConsoleManagerException;
+
+/**
+ * zOS Console command threads
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name zosconsole.console.[imageid].command.threads
+ * 
+ * @galasa.description The maximum number of threads used to issue a group of zOS Console commands on the zOS image at the same time
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 4
+ * 
+ * @galasa.valid_values 1 to {@link Integer#MAX_VALUE}
+ * 
+ * @galasa.examples 
+ * <code>zosconsole.console.MVSA.command.threads=8</code><br>
+ * <code>zosconsole.console.default.command.threads=2</code>
+ *
+ */
+public class CommandThreads extends CpsProperties {
+
+    private static final int DEFAULT_COMMAND_THREADS = 4;
+
+    public static int get(String imageId) throws ZosConsoleManagerException {
+        try {
+            String threadsString = getStringNulled(ZosConsolePropertiesSingleton.cps(), "console", "command.threads", imageId);
+
+            if (threadsString == null) {
+                return DEFAULT_COMMAND_THREADS;
+            } else {
+                int threads = Integer.parseInt(threadsString);
+                if (threads < 1) {
+                    throw new ZosConsoleManagerException("Console command threads property must be greater than 0");
+                }
+                return threads;
+            }
+        } catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+            throw new ZosConsoleManagerException("Problem asking the CPS for the console command threads property for zOS image "  + imageId, e);
+        }
+    }
+
+}
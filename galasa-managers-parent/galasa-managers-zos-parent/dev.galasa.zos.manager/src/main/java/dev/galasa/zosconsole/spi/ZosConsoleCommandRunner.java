@@ -0,0 +1,146 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosconsole.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
+import dev.galasa.zosconsole.ZosConsoleException;
+
+/**
+ * Issues zOS Console commands concurrently, and waits for delayed command responses, for the zOS Console managers
+ */
+public class ZosConsoleCommandRunner {
+
+    /**
+     * Server specific command issue
+     */
+    public interface ICommandIssuer {
+
+        /**
+         * Issue the command and receive the immediate response
+         * @param command the console command
+         * @return the {@link IZosConsoleCommand}
+         * @throws ZosConsoleException
+         */
+        public IZosConsoleCommand issueCommand(String command) throws ZosConsoleException;
+    }
+
+    protected static final long MIN_POLL_INTERVAL = 250;
+    protected static final long MAX_POLL_INTERVAL = 5000;
+
+    private ZosConsoleCommandRunner() {
+    }
+
+    /**
+     * Issue the commands concurrently, on a pool of threads that is shut down when all the commands have been issued
+     * @param commands the console commands
+     * @param threads the maximum number of commands issued at the same time
+     * @param issuer issues each command
+     * @return a {@link CompletableFuture} per command, in the order the commands were supplied
+     */
+    public static List<CompletableFuture<IZosConsoleCommand>> issueCommands(List<String> commands, int threads, ICommandIssuer issuer) {
+        List<CompletableFuture<IZosConsoleCommand>> futures = new ArrayList<>();
+        if (commands.isEmpty()) {
+            return futures;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, commands.size())), runnable -> {
+            Thread thread = new Thread(runnable, "zosconsole-command");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String command : commands) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return issuer.issueCommand(command);
+                } catch (ZosConsoleException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+        executor.shutdown();
+        return futures;
+    }
+
+    /**
+     * Wait for the delayed response to a command. {@link IZosConsoleCommand#requestResponse()} is called at
+     * {@value #MIN_POLL_INTERVAL}ms after new messages are received, doubling to {@value #MAX_POLL_INTERVAL}ms
+     * while there are none
+     * @param command the command
+     * @param completionPattern a regular expression that identifies the end of the response, or null
+     * @param quietPeriod the time in seconds without new messages after which the response is complete, or 0
+     * @param timeout the maximum time in seconds to wait
+     * @return the delayed response messages received while waiting
+     * @throws ZosConsoleException if the timeout expires before the response is complete
+     */
+    public static String waitForResponse(IZosConsoleCommand command, String completionPattern, long quietPeriod, long timeout) throws ZosConsoleException {
+        Pattern pattern = null;
+        if (completionPattern != null) {
+            try {
+                pattern = Pattern.compile(completionPattern, Pattern.MULTILINE);
+            } catch (PatternSyntaxException e) {
+                throw new ZosConsoleException("Invalid completion pattern \"" + completionPattern + "\"", e);
+            }
+        }
+        if (pattern == null && quietPeriod <= 0) {
+            throw new ZosConsoleException("A completion pattern or a quiet period must be specified");
+        }
+        StringBuilder response = new StringBuilder();
+        long startTime = System.currentTimeMillis();
+        long lastMessageTime = startTime;
+        long pollInterval = MIN_POLL_INTERVAL;
+        while (true) {
+            String messages = command.requestResponse();
+            long now = System.currentTimeMillis();
+            if (messages != null && !messages.isEmpty()) {
+                response.append(messages);
+                lastMessageTime = now;
+                pollInterval = MIN_POLL_INTERVAL;
+                if (pattern != null && pattern.matcher(response).find()) {
+                    return response.toString();
+                }
+            } else {
+                pollInterval = Math.min(pollInterval * 2, MAX_POLL_INTERVAL);
+            }
+            if (quietPeriod > 0 && now - lastMessageTime >= quietPeriod * 1000) {
+                return response.toString();
+            }
+            long remaining = timeout * 1000 - (now - startTime);
+            if (remaining <= 0) {
+                throw new ZosConsoleException("Timeout waiting for the response to console command \"" + command.getCommand() + "\"");
+            }
+            try {
+                Thread.sleep(Math.min(pollInterval, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ZosConsoleException("Interrupted waiting for the response to console command \"" + command.getCommand() + "\"", e);
+            }
+        }
+    }
+
+    /**
+     * Notify the listeners of messages received for a command
+     * @param listeners the listeners
+     * @param command the command
+     * @param messages the messages received
+     */
+    public static void notifyListeners(List<IZosConsoleMessageListener> listeners, IZosConsoleCommand command, String messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        for (IZosConsoleMessageListener listener : listeners) {
+            listener.messagesReceived(command, messages);
+        }
+    }
+}
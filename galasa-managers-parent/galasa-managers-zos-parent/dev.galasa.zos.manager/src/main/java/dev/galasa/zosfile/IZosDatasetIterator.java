@@ -0,0 +1,27 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile;
+
+/**
+ * A lazily paged iterator over the data sets returned by {@link IZosFileHandler#listDatasets(String, dev.galasa.zos.IZosImage, IZosFileHandler.DatasetListAttributes)}.<br>
+ * Each page of data sets is requested from the server only when the previous page has been consumed
+ */
+public interface IZosDatasetIterator {
+    
+    /**
+     * Returns true if there are more data sets in the list. This may cause the next page of data sets to be requested from the server
+     * @return
+     * @throws ZosDatasetException
+     */
+    public boolean hasNext() throws ZosDatasetException;
+    
+    /**
+     * Returns the next data set in the list. The data set attributes will be populated if requested when the list was created
+     * @return
+     * @throws ZosDatasetException if there are no more data sets or the next page could not be retrieved
+     */
+    public IZosDataset next() throws ZosDatasetException;
+}
@@ -27,6 +27,33 @@ import dev.galasa.zos.IZosImage;
  * 
  */
 public interface IZosFileHandler {
+    
+    /**
+     * Enumeration of the attributes returned when listing data sets:
+     * <li>{@link #NAME}</li>
+     * <li>{@link #BASE}</li>
+     */
+    public enum DatasetListAttributes {
+        /**
+         * Return the data set name only
+         */
+        NAME("dsname"),
+        /**
+         * Return the data set name and its base attributes
+         */
+        BASE("base");
+        
+        private String attributes;
+        
+        DatasetListAttributes(String attributes) {
+            this.attributes = attributes;
+        }
+        
+        @Override
+        public String toString() {
+            return attributes;
+        }
+    }
 
     /**
      * Instantiate a new {@link IZosDataset}, which can represent either an
@@ -64,4 +91,18 @@ public interface IZosFileHandler {
      * @throws ZosVSAMDatasetException 
      */
     public IZosVSAMDataset newVSAMDataset(String dsname, IZosImage image) throws ZosVSAMDatasetException;
+
+    /**
+     * List the data sets matching the supplied pattern, e.g. {@code RUNHLQ.**}. The returned iterator is lazy and
+     * requests the data sets from the server a page at a time, the page size being controlled by the
+     * {@code zosfile.dataset.[imageid].list.max.items} property.<br>
+     * The returned {@link IZosDataset} objects are not created by this handler and so will not be archived or deleted during cleanup
+     * 
+     * @param pattern the data set name pattern
+     * @param image
+     * @param attributes the attributes to return for each data set
+     * @return
+     * @throws ZosDatasetException
+     */
+    public IZosDatasetIterator listDatasets(String pattern, IZosImage image, DatasetListAttributes attributes) throws ZosDatasetException;
 }
@@ -5,7 +5,9 @@
  */
 package dev.galasa.zosfile;
 
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Representation of a UNIX file or directory.
@@ -107,6 +109,34 @@ public interface IZosUNIXFile {
      */
     public Map<String, String> directoryListRecursive() throws ZosUNIXFileException;
     
+    /**
+     * Returns sorted {@link Map} the zOS UNIX files and directories in this zOS UNIX directory, walking the directory tree 
+     * breadth first. The directories at each level are listed concurrently, up to the limit set by the 
+     * {@code zosfile.unix.[imageid].concurrent.requests} property
+     * @param maxDepth the number of directory levels to walk, where 1 lists this directory only. A value less than 1 walks the whole tree
+     * @param filter only paths accepted by the filter are returned, and only accepted directories are walked. If null, all paths are accepted
+     * @return
+     * @throws ZosUNIXFileException
+     */
+    public Map<String, String> walk(int maxDepth, Predicate<String> filter) throws ZosUNIXFileException;
+    
+    /**
+     * Download this zOS UNIX directory tree, or this zOS UNIX file, to a local directory or to the Results Archive Store.
+     * The files are retrieved concurrently, up to the limit set by the {@code zosfile.unix.[imageid].concurrent.requests} property.
+     * When bulk transfer is set, a directory tree is packaged on the zOS image and retrieved as a single archive
+     * @param localPath the {@link Path} the content is created under
+     * @throws ZosUNIXFileException
+     */
+    public void downloadTree(Path localPath) throws ZosUNIXFileException;
+    
+    /**
+     * Upload the content of a local directory to this zOS UNIX directory. Directories that do not exist are created.
+     * When bulk transfer is set, the local directory is sent as a single archive and unpacked on the zOS image
+     * @param localPath the local directory
+     * @throws ZosUNIXFileException
+     */
+    public void uploadTree(Path localPath) throws ZosUNIXFileException;
+    
     /**
      * Set the data type ({@link UNIXFileDataType}) for store and retrieve of the zOS UNIX file content
      * @param dataType
@@ -163,4 +193,16 @@ public interface IZosUNIXFile {
      * Return flag that controls if the zOS UNIX path should be automatically deleted from zOS at test end
      */    
     public boolean shouldCleanup();
+
+    /**
+     * Set flag to control if directory trees are transferred as a single archive, packaged and unpacked on the zOS image 
+     * by the {@code pax} command using the zOS UNIX Command Manager. Applies to {@link #downloadTree(Path)}, {@link #uploadTree(Path)}
+     * and storing directories to the test output. Defaults to false
+     */    
+    public void setUseBulkTransfer(boolean useBulkTransfer);
+
+    /**
+     * Return flag that controls if directory trees are transferred as a single archive
+     */    
+    public boolean useBulkTransfer();
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.internal.properties;
+
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+import dev.galasa.zosfile.ZosFileManagerException;
+
+/**
+ * zOS File the time to wait for the zOS UNIX command that creates or extracts an archive during a bulk UNIX transfer
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name zosfile.unix.[imageid].archive.timeout
+ * 
+ * @galasa.description The time in seconds to wait with no new output from the pax command that packages or unpacks
+ * a UNIX directory tree on the zOS image when bulk transfer is used
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 300
+ * 
+ * @galasa.valid_values 
+ * 
+ * @galasa.examples 
+ * <code>zosfile.unix.[imageid].archive.timeout=300</code><br>
+ *
+ */
+public class UnixArchiveTimeout extends CpsProperties {
+
+    private static final int ARCHIVE_TIMEOUT = 300;
+
+    public static int get(String imageId) throws ZosFileManagerException {
+        try {
+            String timeoutString = getStringNulled(ZosFilePropertiesSingleton.cps(), "unix", "archive.timeout", imageId);
+
+            if (timeoutString == null) {
+                return ARCHIVE_TIMEOUT;
+            } else {
+                int timeout = Integer.parseInt(timeoutString);
+                if (timeout <=0 ) {
+                    throw new ZosFileManagerException("UNIX archive timeout property must be greater than 0");
+                }
+                return timeout;
+            }
+        } catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+            throw new ZosFileManagerException("Problem asking the CPS for the UNIX archive timeout property for zOS image "  + imageId, e);
+        }
+    }
+
+}
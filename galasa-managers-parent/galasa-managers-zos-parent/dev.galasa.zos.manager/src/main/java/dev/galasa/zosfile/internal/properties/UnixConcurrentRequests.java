@@ -0,0 +1,54 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.internal.properties;
+
+import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.cps.CpsProperties;
+import dev.galasa.zosfile.ZosFileManagerException;
+
+/**
+ * zOS File the maximum number of concurrent requests when walking or downloading a UNIX directory tree
+ * 
+ * @galasa.cps.property
+ * 
+ * @galasa.name zosfile.unix.[imageid].concurrent.requests
+ * 
+ * @galasa.description The maximum number of requests sent concurrently to the server (e.g. zOSMF, RSE API, etc) when 
+ * listing or retrieving the content of a UNIX directory tree
+ * 
+ * @galasa.required No
+ * 
+ * @galasa.default 4
+ * 
+ * @galasa.valid_values 
+ * 
+ * @galasa.examples 
+ * <code>zosfile.unix.[imageid].concurrent.requests=4</code><br>
+ *
+ */
+public class UnixConcurrentRequests extends CpsProperties {
+
+    private static final int CONCURRENT_REQUESTS = 4;
+
+    public static int get(String imageId) throws ZosFileManagerException {
+        try {
+            String concurrentRequestsString = getStringNulled(ZosFilePropertiesSingleton.cps(), "unix", "concurrent.requests", imageId);
+
+            if (concurrentRequestsString == null) {
+                return CONCURRENT_REQUESTS;
+            } else {
+                int concurrentRequests = Integer.parseInt(concurrentRequestsString);
+                if (concurrentRequests <=0 ) {
+                    throw new ZosFileManagerException("UNIX concurrent requests property must be greater than 0");
+                }
+                return concurrentRequests;
+            }
+        } catch (ConfigurationPropertyStoreException | NumberFormatException e) {
+            throw new ZosFileManagerException("Problem asking the CPS for the UNIX concurrent requests property for zOS image "  + imageId, e);
+        }
+    }
+
+}
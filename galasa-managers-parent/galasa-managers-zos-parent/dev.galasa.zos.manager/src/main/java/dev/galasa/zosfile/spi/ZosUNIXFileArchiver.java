@@ -0,0 +1,253 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.spi;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.z.ZCompressorInputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import dev.galasa.zosfile.ZosUNIXFileException;
+import dev.galasa.zosunixcommand.IZosUNIXCommand;
+import dev.galasa.zosunixcommand.ZosUNIXCommandException;
+
+/**
+ * Transfers a zOS UNIX directory tree as a single archive. The tree is packaged or unpacked on the zOS image by the
+ * {@code pax} command, issued using {@link IZosUNIXCommand}, and the archive is moved between the zOS image and
+ * the local file system by an {@link IArchiveTransport}.<br>
+ * Downloaded archives are compressed on the zOS image ({@code pax -z}). Uploaded archives are not compressed because
+ * the {@code compress} format can only be read locally
+ */
+public class ZosUNIXFileArchiver {
+
+    /**
+     * Server specific transfer of an archive file to and from the zOS image
+     */
+    public interface IArchiveTransport {
+
+        /**
+         * Returns the binary content of an archive file on the zOS image
+         * @param archivePath the zOS UNIX archive file
+         * @return
+         * @throws ZosUNIXFileException
+         */
+        public InputStream retrieveArchive(String archivePath) throws ZosUNIXFileException;
+
+        /**
+         * Store the binary content of an archive file on the zOS image
+         * @param archivePath the zOS UNIX archive file
+         * @param archive the local archive file, which should be streamed rather than read into memory
+         * @throws ZosUNIXFileException
+         */
+        public void storeArchive(String archivePath, Path archive) throws ZosUNIXFileException;
+    }
+
+    private static final String SLASH = "/";
+    private static final String ARCHIVE_DIRECTORY = "/tmp/";
+    private static final String ARCHIVE_PREFIX = "galasa.";
+    private static final String RC_EQUALS = "RC=";
+    private static final String RC_OK = RC_EQUALS + "0";
+
+    private static final String ZOS_CODESET = "IBM-1047";
+    private static final String LOCAL_CODESET = "ISO8859-1";
+
+    private final IZosUNIXCommand zosUNIXCommand;
+    private final IArchiveTransport transport;
+    private final boolean convert;
+    private final long timeout;
+
+    private static final Log logger = LogFactory.getLog(ZosUNIXFileArchiver.class);
+
+    /**
+     * @param zosUNIXCommand the {@link IZosUNIXCommand} used to issue {@code pax} on the zOS image
+     * @param transport moves the archive file to and from the zOS image
+     * @param convert true if file content is converted between EBCDIC and ASCII, i.e. the data type is text
+     * @param timeout the time in milliseconds to wait with no new output from the {@code pax} command
+     */
+    public ZosUNIXFileArchiver(IZosUNIXCommand zosUNIXCommand, IArchiveTransport transport, boolean convert, long timeout) {
+        this.zosUNIXCommand = zosUNIXCommand;
+        this.transport = transport;
+        this.convert = convert;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Download the content of a zOS UNIX directory to a local directory or to the Results Archive Store
+     * @param directory the zOS UNIX directory
+     * @param localPath the {@link Path} the content is extracted to
+     * @throws ZosUNIXFileException
+     */
+    public void download(String directory, Path localPath) throws ZosUNIXFileException {
+        String archivePath = newArchivePath() + ".pax.Z";
+        try {
+            issueCommand("cd " + shellQuoted(directory) + " && pax -w -z -x pax" + codesetOptions(ZOS_CODESET, LOCAL_CODESET) + " -f " + archivePath + " .");
+            try (InputStream archive = this.transport.retrieveArchive(archivePath)) {
+                extract(archive, localPath);
+            } catch (IOException e) {
+                throw new ZosUNIXFileException("Unable to extract archive " + quoted(archivePath) + " to " + localPath, e);
+            }
+        } finally {
+            removeArchive(archivePath);
+        }
+        logger.trace(quoted(directory) + " downloaded to " + localPath + " using archive " + quoted(archivePath));
+    }
+
+    /**
+     * Upload the content of a local directory to a zOS UNIX directory. The zOS UNIX directory is created if it does not exist
+     * @param localPath the local directory
+     * @param directory the zOS UNIX directory
+     * @throws ZosUNIXFileException
+     */
+    public void upload(Path localPath, String directory) throws ZosUNIXFileException {
+        if (!Files.isDirectory(localPath)) {
+            throw new ZosUNIXFileException("Invalid request, " + localPath + " is not a directory");
+        }
+        Path archive;
+        try {
+            archive = Files.createTempFile(ARCHIVE_PREFIX, ".pax");
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to create archive of " + localPath, e);
+        }
+        try {
+            pack(localPath, archive);
+            String archivePath = newArchivePath() + ".pax";
+            try {
+                this.transport.storeArchive(archivePath, archive);
+                issueCommand("mkdir -p " + shellQuoted(directory) + " && cd " + shellQuoted(directory) + " && pax -r" + codesetOptions(LOCAL_CODESET, ZOS_CODESET) + " -f " + archivePath);
+            } finally {
+                removeArchive(archivePath);
+            }
+            logger.trace(localPath + " uploaded to " + quoted(directory) + " using archive " + quoted(archivePath));
+        } finally {
+            try {
+                Files.deleteIfExists(archive);
+            } catch (IOException e) {
+                logger.warn("Unable to delete local archive " + archive, e);
+            }
+        }
+    }
+
+    protected void extract(InputStream archive, Path localPath) throws IOException, ZosUNIXFileException {
+        Path root = localPath.normalize();
+        Files.createDirectories(root);
+        try (TarArchiveInputStream tarInputStream = new TarArchiveInputStream(new ZCompressorInputStream(new BufferedInputStream(archive)))) {
+            TarArchiveEntry entry;
+            while ((entry = tarInputStream.getNextTarEntry()) != null) {
+                String name = entry.getName();
+                if (name.startsWith("./")) {
+                    name = name.substring(2);
+                }
+                if (name.isEmpty() || name.equals(".")) {
+                    continue;
+                }
+                Path target = root.resolve(name).normalize();
+                if (!target.startsWith(root)) {
+                    throw new ZosUNIXFileException("Invalid archive entry " + quoted(entry.getName()) + " is outside of " + localPath);
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else if (entry.isFile()) {
+                    Files.createDirectories(target.getParent());
+                    try (OutputStream outputStream = Files.newOutputStream(target)) {
+                        IOUtils.copy(tarInputStream, outputStream);
+                    }
+                } else {
+                    logger.trace("Archive entry " + quoted(entry.getName()) + " ignored, it is not a regular file or directory");
+                }
+            }
+        }
+    }
+
+    /**
+     * Write a tar archive of a local directory to a local file. File content is streamed into the archive, so the
+     * size of the tree is not limited by memory
+     * @param localPath the local directory
+     * @param archive the local archive file
+     * @throws ZosUNIXFileException
+     */
+    protected void pack(Path localPath, Path archive) throws ZosUNIXFileException {
+        try (Stream<Path> walk = Files.walk(localPath); TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)))) {
+            tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tarOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+            List<Path> paths = walk.sorted().collect(Collectors.toList());
+            for (Path path : paths) {
+                if (path.equals(localPath)) {
+                    continue;
+                }
+                String name = localPath.relativize(path).toString().replace(path.getFileSystem().getSeparator(), SLASH);
+                if (Files.isDirectory(path)) {
+                    tarOutputStream.putArchiveEntry(new TarArchiveEntry(name + SLASH));
+                    tarOutputStream.closeArchiveEntry();
+                } else if (Files.isRegularFile(path)) {
+                    TarArchiveEntry entry = new TarArchiveEntry(name);
+                    entry.setSize(Files.size(path));
+                    tarOutputStream.putArchiveEntry(entry);
+                    Files.copy(path, tarOutputStream);
+                    tarOutputStream.closeArchiveEntry();
+                }
+            }
+            tarOutputStream.finish();
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to create archive of " + localPath, e);
+        }
+    }
+
+    protected void issueCommand(String command) throws ZosUNIXFileException {
+        String response;
+        try {
+            response = this.zosUNIXCommand.issueCommand(command + "; echo " + RC_EQUALS + "$?", this.timeout);
+        } catch (ZosUNIXCommandException e) {
+            throw new ZosUNIXFileException("Unable to issue zOS UNIX command " + quoted(command), e);
+        }
+        if (response == null || !response.trim().endsWith(RC_OK)) {
+            String displayMessage = "zOS UNIX command " + quoted(command) + " failed. Response:\n" + response;
+            logger.error(displayMessage);
+            throw new ZosUNIXFileException(displayMessage);
+        }
+    }
+
+    protected void removeArchive(String archivePath) {
+        try {
+            this.zosUNIXCommand.issueCommand("rm -f " + archivePath, this.timeout);
+        } catch (ZosUNIXCommandException e) {
+            logger.warn("Unable to remove archive " + quoted(archivePath), e);
+        }
+    }
+
+    protected String codesetOptions(String from, String to) {
+        if (!this.convert) {
+            return "";
+        }
+        return " -o from=" + from + ",to=" + to;
+    }
+
+    protected String newArchivePath() {
+        return ARCHIVE_DIRECTORY + ARCHIVE_PREFIX + UUID.randomUUID().toString();
+    }
+
+    protected String shellQuoted(String path) {
+        return "'" + path.replace("'", "'\\''") + "'";
+    }
+
+    protected String quoted(String name) {
+        return "\"" + name + "\"";
+    }
+}
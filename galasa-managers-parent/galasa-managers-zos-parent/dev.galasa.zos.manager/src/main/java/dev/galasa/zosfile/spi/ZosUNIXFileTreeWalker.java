@@ -0,0 +1,234 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.spi;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import dev.galasa.zosfile.ZosUNIXFileException;
+
+/**
+ * Walks a zOS UNIX directory tree breadth first. The directories at each level of the tree are listed concurrently,
+ * and the files in the tree are retrieved concurrently, by a bounded number of worker threads. Each worker thread
+ * uses its own {@link ITreeAccessor} so that server connections are not shared between threads. The worker threads
+ * and accessors are kept for the life of the walker, and {@link #close()} must be called when it is no longer needed
+ */
+public class ZosUNIXFileTreeWalker implements AutoCloseable {
+
+    /**
+     * Server specific access to a zOS UNIX directory tree. An instance is only used by a single thread
+     */
+    public interface ITreeAccessor {
+
+        /**
+         * Returns sorted {@link Map} of the paths and types of the files and directories in a single zOS UNIX directory.
+         * The content of sub directories is not returned
+         * @param path the zOS UNIX directory
+         * @return
+         * @throws ZosUNIXFileException
+         */
+        public SortedMap<String, String> listDirectory(String path) throws ZosUNIXFileException;
+
+        /**
+         * Returns the content of a zOS UNIX file as a {@link String} or byte array
+         * @param path the zOS UNIX file
+         * @return
+         * @throws ZosUNIXFileException
+         */
+        public Object retrieve(String path) throws ZosUNIXFileException;
+
+        /**
+         * Release the server connections used by this accessor
+         */
+        public void close();
+    }
+
+    /**
+     * Creates the {@link ITreeAccessor} for each worker thread
+     */
+    public interface ITreeAccessorFactory {
+
+        /**
+         * Returns a new {@link ITreeAccessor}
+         * @return
+         * @throws ZosUNIXFileException
+         */
+        public ITreeAccessor newTreeAccessor() throws ZosUNIXFileException;
+    }
+
+    private static final String SLASH = "/";
+
+    private final ITreeAccessorFactory accessorFactory;
+    private final int concurrentRequests;
+    private final String directoryType;
+    private final String fileType;
+
+    private final ThreadLocal<ITreeAccessor> accessors = new ThreadLocal<>();
+    private final List<ITreeAccessor> allAccessors = Collections.synchronizedList(new ArrayList<>());
+    private ExecutorService executor;
+
+    /**
+     * @param accessorFactory creates the {@link ITreeAccessor} for each worker thread
+     * @param concurrentRequests the maximum number of worker threads
+     * @param directoryType the type returned by {@link ITreeAccessor#listDirectory(String)} for a directory
+     * @param fileType the type returned by {@link ITreeAccessor#listDirectory(String)} for a regular file
+     */
+    public ZosUNIXFileTreeWalker(ITreeAccessorFactory accessorFactory, int concurrentRequests, String directoryType, String fileType) {
+        this.accessorFactory = accessorFactory;
+        this.concurrentRequests = Math.max(1, concurrentRequests);
+        this.directoryType = directoryType;
+        this.fileType = fileType;
+    }
+
+    /**
+     * Returns sorted {@link Map} of the paths and types of the files and directories in a zOS UNIX directory tree
+     * @param root the zOS UNIX directory at the top of the tree
+     * @param maxDepth the number of directory levels to walk, where 1 lists the root directory only. A value less than 1 walks the whole tree
+     * @param filter only paths accepted by the filter are returned, and only accepted directories are walked. If null, all paths are accepted
+     * @return
+     * @throws ZosUNIXFileException
+     */
+    public SortedMap<String, String> walk(String root, int maxDepth, Predicate<String> filter) throws ZosUNIXFileException {
+        SortedMap<String, String> paths = new TreeMap<>();
+        List<String> level = Collections.singletonList(root);
+        int depth = 1;
+        while (!level.isEmpty() && (maxDepth < 1 || depth <= maxDepth)) {
+            List<Callable<SortedMap<String, String>>> tasks = new ArrayList<>();
+            for (String directory : level) {
+                tasks.add(() -> accessor().listDirectory(directory));
+            }
+            List<String> nextLevel = new ArrayList<>();
+            for (SortedMap<String, String> listing : invokeAll(tasks)) {
+                for (Map.Entry<String, String> entry : listing.entrySet()) {
+                    if (filter == null || filter.test(entry.getKey())) {
+                        paths.put(entry.getKey(), entry.getValue());
+                        if (this.directoryType.equals(entry.getValue())) {
+                            nextLevel.add(entry.getKey());
+                        }
+                    }
+                }
+            }
+            level = nextLevel;
+            depth++;
+        }
+        return paths;
+    }
+
+    /**
+     * Download the files and directories in a zOS UNIX directory tree to a local directory or to the Results Archive Store.
+     * Paths that are not regular files or directories (e.g. symbolic links) are ignored
+     * @param root the zOS UNIX directory at the top of the tree
+     * @param paths the paths and types in the tree, as returned by {@link #walk(String, int, Predicate)}
+     * @param localPath the {@link Path} the tree is created under
+     * @throws ZosUNIXFileException
+     */
+    public void download(String root, Map<String, String> paths, Path localPath) throws ZosUNIXFileException {
+        if (!root.endsWith(SLASH)) {
+            root = root + SLASH;
+        }
+        List<Callable<Path>> tasks = new ArrayList<>();
+        try {
+            Files.createDirectories(localPath);
+            for (Map.Entry<String, String> entry : paths.entrySet()) {
+                String path = entry.getKey();
+                Path target = localPath.resolve(path.substring(root.length()));
+                if (this.directoryType.equals(entry.getValue())) {
+                    Files.createDirectories(target);
+                } else if (this.fileType.equals(entry.getValue())) {
+                    tasks.add(() -> store(target, accessor().retrieve(path)));
+                }
+            }
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to create directory under " + localPath, e);
+        }
+
+        invokeAll(tasks);
+    }
+
+    /**
+     * Stop the worker threads and close the {@link ITreeAccessor}s they used
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (this.executor != null) {
+                this.executor.shutdownNow();
+                this.executor = null;
+            }
+        }
+        synchronized (this.allAccessors) {
+            for (ITreeAccessor accessor : this.allAccessors) {
+                accessor.close();
+            }
+            this.allAccessors.clear();
+        }
+    }
+
+    protected Path store(Path target, Object content) throws ZosUNIXFileException {
+        try {
+            Files.createDirectories(target.getParent());
+            if (content instanceof String) {
+                Files.write(target, ((String) content).getBytes(StandardCharsets.UTF_8));
+            } else if (content instanceof byte[]) {
+                Files.write(target, (byte[]) content);
+            } else {
+                throw new ZosUNIXFileException("Unable to store " + target + ". Invalid content object type: " + content.getClass().getName());
+            }
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to store " + target, e);
+        }
+        return target;
+    }
+
+    protected ITreeAccessor accessor() throws ZosUNIXFileException {
+        ITreeAccessor accessor = this.accessors.get();
+        if (accessor == null) {
+            accessor = this.accessorFactory.newTreeAccessor();
+            this.accessors.set(accessor);
+            this.allAccessors.add(accessor);
+        }
+        return accessor;
+    }
+
+    protected synchronized ExecutorService executor() {
+        if (this.executor == null) {
+            this.executor = Executors.newFixedThreadPool(this.concurrentRequests);
+        }
+        return this.executor;
+    }
+
+    protected <T> List<T> invokeAll(List<Callable<T>> tasks) throws ZosUNIXFileException {
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : executor().invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ZosUNIXFileException("Interrupted while waiting for zOS UNIX requests to complete", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ZosUNIXFileException) {
+                throw (ZosUNIXFileException) e.getCause();
+            }
+            throw new ZosUNIXFileException("Problem with zOS UNIX request", e.getCause());
+        }
+        return results;
+    }
+}
@@ -7,6 +7,8 @@ package dev.galasa.zostsocommand;
 
 import javax.validation.constraints.NotNull;
 
+import dev.galasa.ipnetwork.ICommandStream;
+
 /**
  * Provides the test code access to zOS TSO Commands via the zOS Manager 
  *
@@ -31,4 +33,15 @@ public interface IZosTSOCommand {
      * @throws ZosTSOCommandException 
      */
     public String issueCommand(@NotNull String command, long timeout) throws ZosTSOCommandException;
+    
+    /**
+     * Issue a zOS TSO command and return its output as a stream while the command is still running. The stream
+     * must be closed when no longer required
+     * 
+     * @param command The TSO command
+     * @param timeout time (in milliseconds) to wait for the command to complete
+     * @return the {@link ICommandStream} of the running command
+     * @throws ZosTSOCommandException 
+     */
+    public ICommandStream issueStreamingCommand(@NotNull String command, long timeout) throws ZosTSOCommandException;
 }
@@ -8,6 +8,7 @@ package dev.galasa.zosunixcommand;
 import javax.validation.constraints.NotNull;
 
 import dev.galasa.ICredentials;
+import dev.galasa.ipnetwork.ICommandStream;
 
 /**
  * Provides the test code access to zOS UNIX Commands via the zOS Manager 
@@ -54,5 +55,29 @@ public interface IZosUNIXCommand {
      * @throws ZosUNIXCommandException 
      */
     public String issueCommand(@NotNull String command, long timeout, ICredentials credentials) throws ZosUNIXCommandException;
+    
+    /**
+     * Issue a zOS UNIX command and return its output as a stream while the command is still running, for long
+     * running commands whose output is monitored or scanned as it arrives. The stream must be closed when no
+     * longer required
+     * 
+     * @param command The command
+     * @param timeout time (in milliseconds) to wait for the command to complete
+     * @return the {@link ICommandStream} of the running command
+     * @throws ZosUNIXCommandException 
+     */
+    public ICommandStream issueStreamingCommand(@NotNull String command, long timeout) throws ZosUNIXCommandException;
+    
+    /**
+     * Issue a zOS UNIX command with specified credentials and return its output as a stream while the command is
+     * still running. The stream must be closed when no longer required
+     * 
+     * @param command The command
+     * @param timeout time (in milliseconds) to wait for the command to complete
+     * @param credentials the credentials
+     * @return the {@link ICommandStream} of the running command
+     * @throws ZosUNIXCommandException 
+     */
+    public ICommandStream issueStreamingCommand(@NotNull String command, long timeout, ICredentials credentials) throws ZosUNIXCommandException;
 
 }
@@ -5,8 +5,10 @@
  */
 package dev.galasa.zos.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -70,12 +72,18 @@ import dev.galasa.zos.internal.properties.TSOCommandExtraBundle;
 import dev.galasa.zos.internal.properties.UNIXCommandExtraBundle;
 import dev.galasa.zos.internal.properties.ZosPropertiesSingleton;
 import dev.galasa.zosbatch.ZosBatchException;
+import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.internal.properties.BatchRestrictToImage;
+import dev.galasa.zosbatch.internal.properties.ArchiveThreads;
+import dev.galasa.zosbatch.internal.properties.JobPollInterval;
+import dev.galasa.zosbatch.internal.properties.JobPollMaxInterval;
 import dev.galasa.zosbatch.internal.properties.JobWaitTimeout;
 import dev.galasa.zosbatch.internal.properties.JobnamePrefix;
 import dev.galasa.zosbatch.internal.properties.TruncateJCLRecords;
 import dev.galasa.zosbatch.internal.properties.UseSysaff;
+import dev.galasa.zosbatch.spi.ZosBatchSpoolFileArchiver;
 import dev.galasa.zosbatch.internal.properties.ZosBatchPropertiesSingleton;
+import dev.galasa.zosconsole.internal.properties.CommandThreads;
 import dev.galasa.zosconsole.internal.properties.ConsoleRestrictToImage;
 import dev.galasa.zosconsole.internal.properties.ZosConsolePropertiesSingleton;
 import dev.galasa.zosfile.internal.properties.DirectoryListMaxItems;
@@ -87,7 +95,8 @@ import dev.galasa.zosfile.internal.properties.ZosFilePropertiesSingleton;
 @PrepareForTest({LogFactory.class, BatchExtraBundle.class, ConsoleExtraBundle.class, FileExtraBundle.class, TSOCommandExtraBundle.class, UNIXCommandExtraBundle.class, 
                  DseImageIdForTag.class, ImageIdForTag.class, ImageSysname.class, DseClusterIdForTag.class, AbstractManager.class, ImageMaxSlots.class, DssUtils.class, 
                  ClusterIdForTag.class, ClusterImages.class, RunDatasetHLQ.class, RunUNIXPathPrefix.class, BatchRestrictToImage.class, UseSysaff.class, JobWaitTimeout.class, TruncateJCLRecords.class, 
-                 JobnamePrefix.class, DirectoryListMaxItems.class, FileRestrictToImage.class, ConsoleRestrictToImage.class, UnixFilePermissions.class})
+                 JobPollInterval.class, JobPollMaxInterval.class, ArchiveThreads.class, 
+                 JobnamePrefix.class, DirectoryListMaxItems.class, FileRestrictToImage.class, ConsoleRestrictToImage.class, CommandThreads.class, UnixFilePermissions.class})
 public class TestZosManagerImpl {
 
     private ZosManagerImpl zosManager;
@@ -733,6 +742,44 @@ public class TestZosManagerImpl {
         Assert.assertEquals("getZosBatchPropertyJobWaitTimeout() should return the expected value", 99, zosManagerSpy.getZosBatchPropertyJobWaitTimeout(IMAGE_ID));        
     }
     
+    @Test
+    public void testGetZosBatchPropertyJobPollInterval() throws Exception {
+        PowerMockito.mockStatic(JobPollInterval.class);
+        PowerMockito.doReturn(99).when(JobPollInterval.class, "get", Mockito.any());
+        Assert.assertEquals("getZosBatchPropertyJobPollInterval() should return the expected value", 99, zosManagerSpy.getZosBatchPropertyJobPollInterval(IMAGE_ID));        
+    }
+    
+    @Test
+    public void testGetZosBatchPropertyJobPollMaxInterval() throws Exception {
+        PowerMockito.mockStatic(JobPollMaxInterval.class);
+        PowerMockito.doReturn(99).when(JobPollMaxInterval.class, "get", Mockito.any());
+        Assert.assertEquals("getZosBatchPropertyJobPollMaxInterval() should return the expected value", 99, zosManagerSpy.getZosBatchPropertyJobPollMaxInterval(IMAGE_ID));        
+    }
+    
+    @Test
+    public void testGetZosBatchPropertyArchiveThreads() throws Exception {
+        PowerMockito.mockStatic(ArchiveThreads.class);
+        PowerMockito.doReturn(99).when(ArchiveThreads.class, "get", Mockito.any());
+        Assert.assertEquals("getZosBatchPropertyArchiveThreads() should return the expected value", 99, zosManagerSpy.getZosBatchPropertyArchiveThreads(IMAGE_ID));        
+    }
+    
+    @Test
+    public void testGetZosBatchSpoolFileArchiver() throws Exception {
+        Mockito.when(zosImageMock.getImageID()).thenReturn(IMAGE_ID);
+        PowerMockito.doReturn(2).when(zosManagerSpy).getZosBatchPropertyArchiveThreads(Mockito.any());
+        ZosBatchSpoolFileArchiver archiver = zosManagerSpy.getZosBatchSpoolFileArchiver(zosImageMock);
+        Assert.assertNotNull("getZosBatchSpoolFileArchiver() should return an archiver", archiver);
+        Assert.assertEquals("getZosBatchSpoolFileArchiver() should return the same archiver for the image", archiver, zosManagerSpy.getZosBatchSpoolFileArchiver(zosImageMock));
+        Mockito.verify(zosManagerSpy, Mockito.times(1)).getZosBatchPropertyArchiveThreads(IMAGE_ID);
+        
+        Mockito.when(zosImageMock.getImageID()).thenReturn("IMAGE2");
+        PowerMockito.doThrow(new ZosBatchManagerException()).when(zosManagerSpy).getZosBatchPropertyArchiveThreads(Mockito.any());
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosManagerSpy.getZosBatchSpoolFileArchiver(zosImageMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", "Unable to get archive threads property value", expectedException.getMessage());
+    }
+    
     @Test
     public void testGetZosBatchPropertyTruncateJCLRecords() throws Exception {
         PowerMockito.mockStatic(TruncateJCLRecords.class);
@@ -788,6 +835,13 @@ public class TestZosManagerImpl {
         Assert.assertTrue("ConsoleRestrictToImage() should return the expected value", zosManagerSpy.getZosConsolePropertyConsoleRestrictToImage(IMAGE_ID));        
     }
     
+    @Test
+    public void testGetZosConsolePropertyCommandThreads() throws Exception {
+        PowerMockito.mockStatic(CommandThreads.class);
+        PowerMockito.doReturn(99).when(CommandThreads.class, "get", Mockito.any());
+        Assert.assertEquals("getZosConsolePropertyCommandThreads() should return the expected value", 99, zosManagerSpy.getZosConsolePropertyCommandThreads(IMAGE_ID));        
+    }
+    
     @Test 
     public void testStoreArtifact() throws ZosManagerException, IOException {
     	Path archivePathMock = newMockedPath(true);
@@ -795,6 +849,24 @@ public class TestZosManagerImpl {
     	Mockito.verify(archivePathMock, Mockito.times(2)).getFileSystem();
     }
     
+    @Test
+    public void testStoreArtifactStream() throws ZosManagerException, IOException {
+    	Path archivePathMock = newMockedPath(true);
+    	zosManagerSpy.storeArtifactStream(archivePathMock, new ByteArrayInputStream("content".getBytes()), ResultArchiveStoreContentType.TEXT);
+    	Mockito.verify(archivePathMock, Mockito.times(2)).getFileSystem();
+    	
+    	archivePathMock = newMockedPath(false);
+    	zosManagerSpy.storeArtifactStream(archivePathMock, new ByteArrayInputStream("content".getBytes()), ResultArchiveStoreContentType.TEXT);
+    	Mockito.verify(archivePathMock, Mockito.times(3)).getFileSystem();
+    	
+    	InputStream inputStreamMock = Mockito.mock(InputStream.class);
+    	Mockito.when(inputStreamMock.read(Mockito.any())).thenThrow(new IOException());
+    	ZosManagerException expectedException = Assert.assertThrows("expected exception should be thrown", ZosManagerException.class, ()->{
+    		zosManagerSpy.storeArtifactStream(archivePathMock, inputStreamMock, ResultArchiveStoreContentType.TEXT);
+    	});
+    	Assert.assertEquals("exception should contain expected message", "Unable to store artifact", expectedException.getMessage());
+    }
+    
     @Test 
     public void testCreateArtifactDirectory() throws IOException, ZosManagerException {
     	Path archivePathMock = newMockedPath(true);
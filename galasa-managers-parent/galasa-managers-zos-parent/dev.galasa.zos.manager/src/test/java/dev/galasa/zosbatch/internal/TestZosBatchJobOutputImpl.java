@@ -5,17 +5,21 @@
  */
 package dev.galasa.zosbatch.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Iterator;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
 
 @RunWith(MockitoJUnitRunner.class)
 public class TestZosBatchJobOutputImpl {
@@ -54,6 +58,35 @@ public class TestZosBatchJobOutputImpl {
         Assert.assertEquals("getJobid() should return the supplied value", JOBID, zosBatchJobOutput.getJobid());
         Assert.assertEquals("toString() should return the supplied values of JOBNAME_JOBID", JOBNAME + "_" + JOBID, zosBatchJobOutput.toString());
     }
+
+    @Test
+    public void testAddReader() throws ZosBatchException {
+        ISpoolFileReader readerMock = Mockito.mock(ISpoolFileReader.class);
+        Mockito.when(readerMock.readRecords(0, 0)).thenReturn(RECORDS);
+        zosBatchJobOutput.addJcl(readerMock);
+        zosBatchJobOutput.addSpoolFile(STEPNAME, PROCSTEP, DDNAME, readerMock);
+        Assert.assertEquals("size() should return a 2", 2, zosBatchJobOutput.size());
+        Assert.assertEquals("getDdname() should return 'JESJCLIN'", "JESJCLIN", zosBatchJobOutput.getSpoolFiles().get(0).getDdname());
+        Assert.assertEquals("getDdname() should return the supplied value", DDNAME, zosBatchJobOutput.getSpoolFiles().get(1).getDdname());
+        Mockito.verify(readerMock, Mockito.times(0)).readRecords(Mockito.anyLong(), Mockito.anyLong());
+        Assert.assertEquals("getRecords() should return the records from the reader", RECORDS, zosBatchJobOutput.getSpoolFiles().get(1).getRecords());
+    }
+
+    @Test
+    public void testGetSpoolFileStream() throws ZosBatchException, IOException {
+        zosBatchJobOutput.addSpoolFile(STEPNAME, PROCSTEP, DDNAME, RECORDS);
+        try (InputStream inputStream = zosBatchJobOutput.getSpoolFileStream(zosBatchJobOutput.getSpoolFiles().get(0))) {
+            Assert.assertEquals("getSpoolFileStream() should return the records", RECORDS, new String(readAll(inputStream)));
+        }
+        
+        IZosBatchJobOutputSpoolFile spoolFileMock = Mockito.mock(IZosBatchJobOutputSpoolFile.class);
+        String expectedMessage = "Spool file " + spoolFileMock + " is not in job output " + JOBNAME + "_" + JOBID;
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchJobOutput.getSpoolFileStream(spoolFileMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+    
     @Test
     public void testGetSpoolFiles() throws ZosBatchException {
         zosBatchJobOutput.addJcl("JCL");
@@ -92,4 +125,10 @@ public class TestZosBatchJobOutputImpl {
     public void testIsEmpty() throws ZosBatchException {
         Assert.assertTrue("isEmpty() should return a true", zosBatchJobOutput.isEmpty());
     }
+    
+    private byte[] readAll(InputStream inputStream) throws IOException {
+        byte[] content = new byte[inputStream.available()];
+        inputStream.read(content);
+        return content;
+    }
 }
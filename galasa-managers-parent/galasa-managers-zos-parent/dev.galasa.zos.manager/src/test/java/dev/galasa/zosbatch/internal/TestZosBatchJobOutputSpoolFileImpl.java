@@ -5,11 +5,19 @@
  */
 package dev.galasa.zosbatch.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import dev.galasa.zosbatch.ZosBatchException;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
+
 @RunWith(MockitoJUnitRunner.class)
 public class TestZosBatchJobOutputSpoolFileImpl { 
 
@@ -49,4 +57,68 @@ public class TestZosBatchJobOutputSpoolFileImpl {
         String expectedString = "JOB=" + JOBNAME + " JOBID=" + JOBID + " STEP=" + STEPNAME +  " PROCSTEP=" + PROCSTEP + " DDNAME=" + DDNAME;
         Assert.assertEquals("toString() should return the values of JOBNAME JOBID STEPNAME PROCSTEP DDNAME", expectedString , zosBatchJobOutputSpoolFile.toString());
     }
+    
+    @Test
+    public void testLazyRecords() throws ZosBatchException {
+        ISpoolFileReader readerMock = Mockito.mock(ISpoolFileReader.class);
+        Mockito.when(readerMock.readRecords(0, 0)).thenReturn("R1\nR2\nR3\n");
+        ZosBatchJobOutputSpoolFileImpl zosBatchJobOutputSpoolFile = new ZosBatchJobOutputSpoolFileImpl(JOBNAME, JOBID, STEPNAME, PROCSTEP, DDNAME, readerMock);
+        Mockito.verify(readerMock, Mockito.times(0)).readRecords(Mockito.anyLong(), Mockito.anyLong());
+        
+        Assert.assertEquals("getRecords() should return the records from the reader", "R1\nR2\nR3\n", zosBatchJobOutputSpoolFile.getRecords());
+        Assert.assertEquals("getRecords() should return the records from the reader", "R1\nR2\nR3\n", zosBatchJobOutputSpoolFile.getRecords());
+        Mockito.verify(readerMock, Mockito.times(1)).readRecords(0, 0);
+        
+        Assert.assertEquals("getRecords() should return the range from the retrieved records", "R2\nR3\n", zosBatchJobOutputSpoolFile.getRecords(1, 5));
+        Assert.assertEquals("getRecords() should return an empty range", "", zosBatchJobOutputSpoolFile.getRecords(3, 1));
+        Mockito.verify(readerMock, Mockito.times(1)).readRecords(Mockito.anyLong(), Mockito.anyLong());
+    }
+    
+    @Test
+    public void testRecordRange() throws ZosBatchException {
+        ISpoolFileReader readerMock = Mockito.mock(ISpoolFileReader.class);
+        Mockito.when(readerMock.readRecords(1, 2)).thenReturn("R2\nR3\n");
+        ZosBatchJobOutputSpoolFileImpl zosBatchJobOutputSpoolFile = new ZosBatchJobOutputSpoolFileImpl(JOBNAME, JOBID, readerMock);
+        Assert.assertEquals("getRecords() should return the range from the reader", "R2\nR3\n", zosBatchJobOutputSpoolFile.getRecords(1, 2));
+        
+        String expectedMessage = "Invalid record range, first: -1, count: 1";
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchJobOutputSpoolFile.getRecords(-1, 1);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testGetRecordsException() throws ZosBatchException {
+        ISpoolFileReader readerMock = Mockito.mock(ISpoolFileReader.class);
+        Mockito.when(readerMock.readRecords(0, 0)).thenThrow(new ZosBatchException("exception"));
+        ZosBatchJobOutputSpoolFileImpl zosBatchJobOutputSpoolFile = new ZosBatchJobOutputSpoolFileImpl(JOBNAME, JOBID, STEPNAME, PROCSTEP, DDNAME, readerMock);
+        String expectedMessage = "Unable to retrieve records for spool file " + zosBatchJobOutputSpoolFile.toString();
+        IllegalStateException expectedException = Assert.assertThrows("expected exception should be thrown", IllegalStateException.class, ()->{
+        	zosBatchJobOutputSpoolFile.getRecords();
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    	Assert.assertEquals("exception should contain expected cause", "exception", expectedException.getCause().getMessage());
+        
+        // The failure is not retried, and is not returned as null
+        expectedException = Assert.assertThrows("expected exception should be thrown", IllegalStateException.class, ()->{
+        	zosBatchJobOutputSpoolFile.getRecords();
+        });
+    	Assert.assertEquals("exception should contain expected cause", "exception", expectedException.getCause().getMessage());
+        Mockito.verify(readerMock, Mockito.times(1)).readRecords(0, 0);
+    }
+    
+    @Test
+    public void testGetRecordsStream() throws ZosBatchException, IOException {
+        ISpoolFileReader readerMock = Mockito.mock(ISpoolFileReader.class);
+        InputStream inputStream = new ByteArrayInputStream(RECORDS.getBytes());
+        Mockito.when(readerMock.openRecords()).thenReturn(inputStream);
+        ZosBatchJobOutputSpoolFileImpl zosBatchJobOutputSpoolFile = new ZosBatchJobOutputSpoolFileImpl(JOBNAME, JOBID, STEPNAME, PROCSTEP, DDNAME, readerMock);
+        Assert.assertEquals("getRecordsStream() should return the stream from the reader", inputStream, zosBatchJobOutputSpoolFile.getRecordsStream());
+        
+        zosBatchJobOutputSpoolFile = new ZosBatchJobOutputSpoolFileImpl(JOBNAME, JOBID, RECORDS);
+        try (InputStream recordsStream = zosBatchJobOutputSpoolFile.getRecordsStream()) {
+            Assert.assertEquals("getRecordsStream() should return the records", RECORDS.length(), recordsStream.available());
+        }
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.ZosBatchException;
+import dev.galasa.zosbatch.spi.ZosBatchJobGroup.IJobSubmitter;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher.IJobStatusPoller;
+
+public class TestZosBatchJobGroup {
+
+    private ZosBatchJobGroup<IZosBatchJob> jobGroup;
+
+    private IJobStatusPoller<IZosBatchJob> pollerMock;
+
+    private IJobSubmitter<IZosBatchJob> submitterMock;
+
+    private IZosBatchJob jobMock1;
+
+    private IZosBatchJob jobMock2;
+
+    private static final String EXCEPTION = "exception";
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setup() {
+        pollerMock = Mockito.mock(IJobStatusPoller.class);
+        submitterMock = Mockito.mock(IJobSubmitter.class);
+        jobMock1 = Mockito.mock(IZosBatchJob.class);
+        jobMock2 = Mockito.mock(IZosBatchJob.class);
+
+        jobGroup = new ZosBatchJobGroup<>(Arrays.asList(jobMock1, jobMock2), new ZosBatchJobStatusWatcher<>(pollerMock, 1, 10), 2);
+    }
+
+    @Test
+    public void testWaitForAll() throws ZosBatchException {
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenReturn(Arrays.asList(jobMock1, jobMock2));
+
+        jobGroup.submit(submitterMock);
+        Mockito.verify(submitterMock, Mockito.times(1)).submitJob(jobMock1);
+        Mockito.verify(submitterMock, Mockito.times(1)).submitJob(jobMock2);
+        Assert.assertEquals("getJobs() should return the jobs in order", Arrays.asList(jobMock1, jobMock2), jobGroup.getJobs());
+
+        Assert.assertTrue("waitForAll() should return true", jobGroup.waitForAll(10));
+        Mockito.verify(pollerMock, Mockito.times(1)).pollJobStatus(Arrays.asList(jobMock1, jobMock2));
+        Mockito.verify(jobMock1, Mockito.times(1)).retrieveOutput();
+        Mockito.verify(jobMock2, Mockito.times(1)).retrieveOutput();
+        Assert.assertTrue("getCompletion() should return a completed future", jobGroup.getCompletion(jobMock1).isDone());
+    }
+
+    @Test
+    public void testWaitForAny() throws ZosBatchException {
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenAnswer(invocation -> {
+            List<IZosBatchJob> jobs = invocation.getArgument(0);
+            return jobs.contains(jobMock2) ? Arrays.asList(jobMock2) : Collections.emptyList();
+        });
+
+        jobGroup.submit(submitterMock);
+        Assert.assertEquals("waitForAny() should return the ended job", jobMock2, jobGroup.waitForAny(10));
+        Assert.assertNull("waitForAny() should return null when the timeout expires", jobGroup.waitForAny(1));
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	jobGroup.waitForAny(10);
+        });
+    	Assert.assertTrue("exception should contain expected message", expectedException.getMessage().startsWith("Timeout waiting for job"));
+    	long start = System.currentTimeMillis();
+    	Assert.assertNull("waitForAny() should return null when all jobs have been returned", jobGroup.waitForAny(60));
+    	Assert.assertTrue("waitForAny() should not wait when all jobs have been returned", System.currentTimeMillis() - start < 30000);
+    	Mockito.verify(jobMock1, Mockito.times(0)).retrieveOutput();
+    }
+
+    @Test
+    public void testWaitForAllTimeout() throws ZosBatchException {
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenReturn(Collections.emptyList());
+
+        jobGroup.submit(submitterMock);
+        Assert.assertFalse("waitForAll() should return false", jobGroup.waitForAll(1));
+    }
+
+    @Test
+    public void testRetrieveOutputException() throws ZosBatchException {
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenReturn(Arrays.asList(jobMock1, jobMock2));
+        Mockito.when(jobMock1.retrieveOutput()).thenThrow(new ZosBatchException(EXCEPTION));
+
+        jobGroup.submit(submitterMock);
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	jobGroup.waitForAll(10);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getMessage());
+    	CompletableFuture<IZosBatchJob> completion = jobGroup.getCompletion(jobMock1);
+    	Assert.assertTrue("getCompletion() should return an exceptionally completed future", completion.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testSubmitException() throws ZosBatchException {
+        Mockito.doThrow(new ZosBatchException(EXCEPTION)).when(submitterMock).submitJob(jobMock2);
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	jobGroup.submit(submitterMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getMessage());
+    	Mockito.verify(pollerMock, Mockito.times(0)).pollJobStatus(Mockito.any());
+    }
+
+    @Test
+    public void testGetCompletionException() throws ZosBatchException {
+        IZosBatchJob jobMock3 = Mockito.mock(IZosBatchJob.class);
+        jobGroup.submit(submitterMock);
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	jobGroup.getCompletion(jobMock3);
+        });
+    	Assert.assertEquals("exception should contain expected message", "Job " + jobMock3 + " is not in this job group", expectedException.getMessage());
+    }
+}
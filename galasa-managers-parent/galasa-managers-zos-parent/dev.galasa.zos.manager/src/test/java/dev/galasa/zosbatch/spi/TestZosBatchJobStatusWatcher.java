@@ -0,0 +1,132 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.reflect.Whitebox;
+
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.ZosBatchException;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher.IJobStatusPoller;
+
+public class TestZosBatchJobStatusWatcher {
+
+    private ZosBatchJobStatusWatcher<IZosBatchJob> watcher;
+
+    private IJobStatusPoller<IZosBatchJob> pollerMock;
+
+    private IZosBatchJob jobMock1;
+
+    private IZosBatchJob jobMock2;
+
+    private static final String JOBID = "JOB12345";
+
+    private static final String EXCEPTION = "exception";
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setup() {
+        pollerMock = Mockito.mock(IJobStatusPoller.class);
+        jobMock1 = Mockito.mock(IZosBatchJob.class);
+        jobMock2 = Mockito.mock(IZosBatchJob.class);
+        Mockito.when(jobMock1.getJobId()).thenReturn(JOBID);
+
+        watcher = new ZosBatchJobStatusWatcher<>(pollerMock, 1, 4);
+    }
+
+    @Test
+    public void testWaitForJob() throws ZosBatchException {
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenReturn(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Arrays.asList(jobMock1));
+
+        Assert.assertTrue("waitForJob() should return true", watcher.waitForJob(jobMock1, 10));
+        Mockito.verify(pollerMock, Mockito.times(4)).pollJobStatus(Arrays.asList(jobMock1));
+        Assert.assertEquals("the poll interval should not exceed the maximum", 4L, (long) Whitebox.getInternalState(watcher, "interval"));
+
+        watcher.watch(jobMock2);
+        Assert.assertEquals("the poll interval should be reset when a job is watched", 1L, (long) Whitebox.getInternalState(watcher, "interval"));
+    }
+
+    @Test
+    public void testWaitForJobShared() throws ZosBatchException {
+        List<List<IZosBatchJob>> polledJobs = new ArrayList<>();
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenAnswer(invocation -> {
+            polledJobs.add(new ArrayList<>(invocation.getArgument(0)));
+            return Arrays.asList(jobMock1, jobMock2);
+        });
+
+        watcher.watch(jobMock1);
+        watcher.watch(jobMock2);
+        Assert.assertTrue("waitForJob() should return true", watcher.waitForJob(jobMock1, 10));
+        Assert.assertTrue("waitForJob() should return true", watcher.waitForJob(jobMock2, 10));
+        Assert.assertEquals("all watched jobs should be polled in a single request", 1, polledJobs.size());
+        Assert.assertEquals("all watched jobs should be polled in a single request", Arrays.asList(jobMock1, jobMock2), polledJobs.get(0));
+    }
+
+    @Test
+    public void testWaitForJobTimeout() throws ZosBatchException {
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenReturn(Collections.emptyList());
+
+        Assert.assertFalse("waitForJob() should return false", watcher.waitForJob(jobMock1, 1));
+        Mockito.verify(pollerMock, Mockito.atLeastOnce()).pollJobStatus(Mockito.any());
+
+        watcher.watch(jobMock2);
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenReturn(Arrays.asList(jobMock2));
+        Assert.assertTrue("waitForJob() should return true", watcher.waitForJob(jobMock2, 10));
+        Mockito.verify(pollerMock, Mockito.times(1)).pollJobStatus(Arrays.asList(jobMock2));
+    }
+
+    @Test
+    public void testPollWithoutLock() throws Exception {
+        CountDownLatch polling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenAnswer(invocation -> {
+            polling.countDown();
+            release.await();
+            return Arrays.asList(jobMock1, jobMock2);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> waiter = executor.submit(() -> watcher.waitForJob(jobMock1, 10));
+            Assert.assertTrue("the poll should start", polling.await(10, TimeUnit.SECONDS));
+
+            // The watcher is not locked while the request is in progress
+            watcher.watch(jobMock2);
+            watcher.unwatch(jobMock2);
+            release.countDown();
+
+            Assert.assertTrue("waitForJob() should return true", waiter.get(10, TimeUnit.SECONDS));
+            Assert.assertTrue("a job unwatched during the poll should not be recorded", ((Set<?>) Whitebox.getInternalState(watcher, "endedJobs")).isEmpty());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPollException() throws ZosBatchException {
+        Mockito.when(pollerMock.pollJobStatus(Mockito.any())).thenThrow(new ZosBatchException(EXCEPTION));
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	watcher.waitForJob(jobMock1, 10);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getMessage());
+    }
+}
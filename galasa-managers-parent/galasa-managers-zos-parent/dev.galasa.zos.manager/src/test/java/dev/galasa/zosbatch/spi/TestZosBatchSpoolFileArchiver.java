@@ -0,0 +1,130 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import dev.galasa.ResultArchiveStoreContentType;
+import dev.galasa.zos.ZosManagerException;
+import dev.galasa.zos.spi.IZosManagerSpi;
+import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
+import dev.galasa.zosbatch.ZosBatchException;
+
+public class TestZosBatchSpoolFileArchiver {
+
+    private ZosBatchSpoolFileArchiver archiver;
+
+    private IZosManagerSpi zosManagerMock;
+
+    private IZosBatchJobOutputSpi jobOutputMock;
+
+    private IZosBatchJobOutputSpoolFile spoolFileMock1;
+
+    private IZosBatchJobOutputSpoolFile spoolFileMock2;
+
+    private Path artifactPathMock;
+
+    private Path pathMock1;
+
+    private Path pathMock2;
+
+    private static final String JOBNAME = "JOBNAME";
+
+    private static final String JOBID = "JOB12345";
+
+    private static final String EXCEPTION = "exception";
+
+    @Before
+    public void setup() throws ZosBatchException {
+        zosManagerMock = Mockito.mock(IZosManagerSpi.class);
+        jobOutputMock = Mockito.mock(IZosBatchJobOutputSpi.class);
+        spoolFileMock1 = newSpoolFile("", "", "JESMSGLG");
+        spoolFileMock2 = newSpoolFile("STEP1", "PROC1", "SYSPRINT");
+        artifactPathMock = Mockito.mock(Path.class);
+        pathMock1 = Mockito.mock(Path.class);
+        pathMock2 = Mockito.mock(Path.class);
+        Mockito.when(jobOutputMock.iterator()).thenAnswer(invocation -> Arrays.asList(spoolFileMock1, spoolFileMock2).iterator());
+        Mockito.when(zosManagerMock.buildUniquePathName(Mockito.any(), Mockito.any())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(artifactPathMock.resolve(JOBNAME + "_" + JOBID + "_JESMSGLG")).thenReturn(pathMock1);
+        Mockito.when(artifactPathMock.resolve(JOBNAME + "_" + JOBID + "_STEP1_PROC1_SYSPRINT")).thenReturn(pathMock2);
+        Mockito.when(jobOutputMock.getSpoolFileStream(Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream("records".getBytes()));
+
+        archiver = new ZosBatchSpoolFileArchiver(zosManagerMock, 2);
+    }
+
+    @After
+    public void tearDown() {
+        archiver.shutdown();
+    }
+
+    @Test
+    public void testArchive() throws ZosManagerException {
+        archiver.archive(jobOutputMock, artifactPathMock);
+
+        InOrder inOrder = Mockito.inOrder(zosManagerMock);
+        inOrder.verify(zosManagerMock).storeArtifact(pathMock1, "", ResultArchiveStoreContentType.TEXT);
+        inOrder.verify(zosManagerMock).storeArtifact(pathMock2, "", ResultArchiveStoreContentType.TEXT);
+        Mockito.verify(zosManagerMock, Mockito.times(1)).storeArtifactStream(Mockito.eq(pathMock1), Mockito.any(), Mockito.eq(ResultArchiveStoreContentType.TEXT));
+        Mockito.verify(zosManagerMock, Mockito.times(1)).storeArtifactStream(Mockito.eq(pathMock2), Mockito.any(), Mockito.eq(ResultArchiveStoreContentType.TEXT));
+    }
+
+    @Test
+    public void testArchiveStoreException() throws ZosManagerException {
+        Mockito.doThrow(new ZosManagerException(EXCEPTION)).when(zosManagerMock).storeArtifactStream(Mockito.eq(pathMock1), Mockito.any(), Mockito.any());
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	archiver.archive(jobOutputMock, artifactPathMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    	Mockito.verify(zosManagerMock, Mockito.times(1)).storeArtifactStream(Mockito.eq(pathMock2), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testArchiveRetrieveException() throws ZosManagerException {
+        Mockito.when(jobOutputMock.getSpoolFileStream(spoolFileMock2)).thenThrow(new ZosBatchException(EXCEPTION));
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	archiver.archive(jobOutputMock, artifactPathMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    }
+
+    @Test
+    public void testArchiveCreateException() throws ZosManagerException {
+        Mockito.doThrow(new ZosManagerException(EXCEPTION)).when(zosManagerMock).storeArtifact(Mockito.eq(pathMock2), Mockito.any(), Mockito.any());
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	archiver.archive(jobOutputMock, artifactPathMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    	Mockito.verify(zosManagerMock, Mockito.times(1)).storeArtifactStream(Mockito.eq(pathMock1), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testSpoolFileName() {
+        Assert.assertEquals("spoolFileName() should return the expected value", JOBNAME + "_" + JOBID + "_JESMSGLG", ZosBatchSpoolFileArchiver.spoolFileName(spoolFileMock1));
+        Assert.assertEquals("spoolFileName() should return the expected value", JOBNAME + "_" + JOBID + "_STEP1_PROC1_SYSPRINT", ZosBatchSpoolFileArchiver.spoolFileName(spoolFileMock2));
+    }
+
+    private IZosBatchJobOutputSpoolFile newSpoolFile(String stepname, String procstep, String ddname) {
+        IZosBatchJobOutputSpoolFile spoolFileMock = Mockito.mock(IZosBatchJobOutputSpoolFile.class);
+        Mockito.when(spoolFileMock.getJobname()).thenReturn(JOBNAME);
+        Mockito.when(spoolFileMock.getJobid()).thenReturn(JOBID);
+        Mockito.when(spoolFileMock.getStepname()).thenReturn(stepname);
+        Mockito.when(spoolFileMock.getProcstep()).thenReturn(procstep);
+        Mockito.when(spoolFileMock.getDdname()).thenReturn(ddname);
+        return spoolFileMock;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosbatch.spi;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import dev.galasa.ManagerException;
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
+import dev.galasa.zosbatch.ZosBatchException;
+
+public class TestZosBatchSpoolFileTail {
+
+    private ZosBatchSpoolFileTail tail;
+
+    private IZosBatchJob jobMock;
+
+    private IZosBatchJobOutputSpoolFile spoolFileMock;
+
+    private static final String DDNAME = "SYSPRINT";
+
+    private static final String JOB = "JOBNAME(JOB12345)";
+
+    private static final String EXCEPTION = "exception";
+
+    @Before
+    public void setup() {
+        jobMock = Mockito.mock(IZosBatchJob.class);
+        Mockito.when(jobMock.toString()).thenReturn(JOB);
+        spoolFileMock = Mockito.mock(IZosBatchJobOutputSpoolFile.class);
+
+        tail = new ZosBatchSpoolFileTail(jobMock, DDNAME);
+    }
+
+    @Test
+    public void testGetters() {
+        Assert.assertEquals("getJob() should return the expected value", jobMock, tail.getJob());
+        Assert.assertEquals("getDdname() should return the expected value", DDNAME, tail.getDdname());
+        Assert.assertEquals("getScannableName() should return the expected value", JOB + " " + DDNAME, tail.getScannableName());
+        Assert.assertTrue("isScannableString() should return true", tail.isScannableString());
+        Assert.assertFalse("isScannableInputStream() should return false", tail.isScannableInputStream());
+    }
+
+    @Test
+    public void testReadNewRecords() throws ZosBatchException {
+        Mockito.when(jobMock.getSpoolFile(DDNAME)).thenReturn(null, spoolFileMock);
+        Mockito.when(spoolFileMock.getRecords(0, 1000)).thenReturn("record1\nrecord2\n");
+        Mockito.when(spoolFileMock.getRecords(2, 1000)).thenReturn("", "record3");
+        Mockito.when(spoolFileMock.getRecords(3, 1000)).thenReturn("");
+
+        Assert.assertEquals("readNewRecords() should return no records before the spool file exists", "", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should return the expected value", "record1\nrecord2\n", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should return no records when there are no new records", "", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should return the expected value", "record3\n", tail.readNewRecords());
+        Assert.assertEquals("getLastRecords() should only return the records from the last request", "record3\n", tail.getLastRecords());
+        Assert.assertEquals("getRecordCount() should return the expected value", 3, tail.getRecordCount());
+        Mockito.verify(jobMock, Mockito.times(4)).getSpoolFile(DDNAME);
+    }
+
+    @Test
+    public void testReadNewRecordsSpoolFileChanged() throws ZosBatchException {
+        IZosBatchJobOutputSpoolFile sameSpoolFileMock = Mockito.mock(IZosBatchJobOutputSpoolFile.class);
+        IZosBatchJobOutputSpoolFile otherSpoolFileMock = Mockito.mock(IZosBatchJobOutputSpoolFile.class);
+        Mockito.when(spoolFileMock.getStepname()).thenReturn("STEP2");
+        Mockito.when(sameSpoolFileMock.getStepname()).thenReturn("STEP2");
+        Mockito.when(otherSpoolFileMock.getStepname()).thenReturn("STEP1");
+        Mockito.when(jobMock.getSpoolFile(DDNAME)).thenReturn(spoolFileMock, null, sameSpoolFileMock, otherSpoolFileMock);
+        Mockito.when(spoolFileMock.getRecords(0, 1000)).thenReturn("record1\n");
+        Mockito.when(spoolFileMock.getRecords(1, 1000)).thenReturn("");
+        Mockito.when(sameSpoolFileMock.getRecords(1, 1000)).thenReturn("record2\n");
+        Mockito.when(otherSpoolFileMock.getRecords(0, 1000)).thenReturn("step1\n");
+
+        Assert.assertEquals("readNewRecords() should return the expected value", "record1\n", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should keep following the spool file when it is not listed", "", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should continue from the record count for the same spool file", "record2\n", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should follow a different spool file from its first record", "step1\n", tail.readNewRecords());
+        Assert.assertEquals("getRecordCount() should return the expected value", 1, tail.getRecordCount());
+    }
+
+    @Test
+    public void testReadNewRecordsBlocks() throws ZosBatchException {
+        String block = String.join("\n", Collections.nCopies(1000, "record")) + "\n";
+        Mockito.when(jobMock.getSpoolFile(DDNAME)).thenReturn(spoolFileMock);
+        Mockito.when(spoolFileMock.getRecords(0, 1000)).thenReturn(block);
+        Mockito.when(spoolFileMock.getRecords(1000, 1000)).thenReturn("last\n");
+
+        Assert.assertEquals("readNewRecords() should return the expected value", block + "last\n", tail.readNewRecords());
+        Assert.assertEquals("getRecordCount() should return the expected value", 1001, tail.getRecordCount());
+    }
+
+    @Test
+    public void testReadNewRecordsException() throws ZosBatchException {
+        Mockito.when(jobMock.getSpoolFile(DDNAME)).thenReturn(spoolFileMock);
+        Mockito.when(spoolFileMock.getRecords(Mockito.anyLong(), Mockito.anyLong())).thenThrow(new ZosBatchException(EXCEPTION));
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	tail.readNewRecords();
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getMessage());
+    	Assert.assertEquals("getRecordCount() should return the expected value", 0, tail.getRecordCount());
+    }
+
+    @Test
+    public void testScannable() throws ManagerException {
+        Mockito.when(jobMock.getSpoolFile(DDNAME)).thenReturn(spoolFileMock);
+        Mockito.when(spoolFileMock.getRecords(0, 1000)).thenReturn("record1\n");
+
+        Assert.assertEquals("updateScannable() should return the tail", tail, tail.updateScannable());
+        Assert.assertEquals("getScannableString() should return the expected value", "record1\n", tail.getScannableString());
+
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	tail.getScannableInputStream();
+        });
+    	Assert.assertEquals("exception should contain expected message", "Spool file tail " + JOB + " " + DDNAME + " is not an InputStream scannable", expectedException.getMessage());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosconsole.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
+import dev.galasa.zosconsole.ZosConsoleException;
+
+public class TestZosConsoleCommandRunner {
+
+    private IZosConsoleCommand commandMock;
+
+    private static final String COMMAND = "D A,L";
+
+    private static final String EXCEPTION = "exception";
+
+    @Before
+    public void setup() {
+        commandMock = Mockito.mock(IZosConsoleCommand.class);
+        Mockito.when(commandMock.getCommand()).thenReturn(COMMAND);
+    }
+
+    @Test
+    public void testIssueCommands() throws InterruptedException, ExecutionException {
+        IZosConsoleCommand commandMock2 = Mockito.mock(IZosConsoleCommand.class);
+        List<CompletableFuture<IZosConsoleCommand>> futures = ZosConsoleCommandRunner.issueCommands(Arrays.asList("CMD1", "CMD2", "CMD3"), 4, command -> {
+            if ("CMD1".equals(command)) {
+                return commandMock;
+            } else if ("CMD2".equals(command)) {
+                return commandMock2;
+            }
+            throw new ZosConsoleException(EXCEPTION);
+        });
+
+        Assert.assertEquals("issueCommands() should return a future per command", 3, futures.size());
+        Assert.assertEquals("issueCommands() should return the futures in command order", commandMock, futures.get(0).get());
+        Assert.assertEquals("issueCommands() should return the futures in command order", commandMock2, futures.get(1).get());
+        ExecutionException expectedException = Assert.assertThrows("expected exception should be thrown", ExecutionException.class, ()->{
+        	futures.get(2).get();
+        });
+        Assert.assertTrue("exception should contain expected cause", expectedException.getCause() instanceof ZosConsoleException);
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+
+        Assert.assertTrue("issueCommands() should return no futures when there are no commands", ZosConsoleCommandRunner.issueCommands(Collections.emptyList(), 4, command -> commandMock).isEmpty());
+    }
+
+    @Test
+    public void testIssueCommandsThreads() throws InterruptedException, ExecutionException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<IZosConsoleCommand>> futures = ZosConsoleCommandRunner.issueCommands(Arrays.asList("CMD1", "CMD2", "CMD3", "CMD4", "CMD5", "CMD6"), 2, command -> {
+            threads.add(Thread.currentThread());
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+            return commandMock;
+        });
+        for (CompletableFuture<IZosConsoleCommand> future : futures) {
+            Assert.assertEquals("issueCommands() should return the expected command", commandMock, future.get());
+        }
+        Assert.assertTrue("issueCommands() should issue no more commands at the same time than the number of threads", maxActive.get() <= 2);
+        Assert.assertTrue("issueCommands() should use no more threads than requested", threads.size() <= 2);
+
+        threads.clear();
+        futures = ZosConsoleCommandRunner.issueCommands(Arrays.asList("CMD1", "CMD2"), 0, command -> {
+            threads.add(Thread.currentThread());
+            return commandMock;
+        });
+        for (CompletableFuture<IZosConsoleCommand> future : futures) {
+            Assert.assertEquals("issueCommands() should return the expected command", commandMock, future.get());
+        }
+        Assert.assertEquals("issueCommands() should use at least one thread", 1, threads.size());
+    }
+
+    @Test
+    public void testWaitForResponsePattern() throws ZosConsoleException {
+        Mockito.when(commandMock.requestResponse()).thenReturn("LINE1\n", "", "LINE2\nEND OF DISPLAY\n", "LINE3\n");
+
+        Assert.assertEquals("waitForResponse() should return the expected value", "LINE1\nLINE2\nEND OF DISPLAY\n", ZosConsoleCommandRunner.waitForResponse(commandMock, "^END OF DISPLAY$", 0, 10));
+        Mockito.verify(commandMock, Mockito.times(3)).requestResponse();
+    }
+
+    @Test
+    public void testWaitForResponseQuietPeriod() throws ZosConsoleException {
+        Mockito.when(commandMock.requestResponse()).thenReturn("LINE1\n", "LINE2\n", "");
+
+        Assert.assertEquals("waitForResponse() should return the expected value", "LINE1\nLINE2\n", ZosConsoleCommandRunner.waitForResponse(commandMock, null, 1, 10));
+    }
+
+    @Test
+    public void testWaitForResponseException() throws ZosConsoleException {
+        Mockito.when(commandMock.requestResponse()).thenReturn("");
+        ZosConsoleException expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	ZosConsoleCommandRunner.waitForResponse(commandMock, "NEVER", 0, 1);
+        });
+        Assert.assertEquals("exception should contain expected message", "Timeout waiting for the response to console command \"" + COMMAND + "\"", expectedException.getMessage());
+
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	ZosConsoleCommandRunner.waitForResponse(commandMock, "[", 0, 1);
+        });
+        Assert.assertEquals("exception should contain expected message", "Invalid completion pattern \"[\"", expectedException.getMessage());
+
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	ZosConsoleCommandRunner.waitForResponse(commandMock, null, 0, 1);
+        });
+        Assert.assertEquals("exception should contain expected message", "A completion pattern or a quiet period must be specified", expectedException.getMessage());
+
+        Mockito.when(commandMock.requestResponse()).thenThrow(new ZosConsoleException(EXCEPTION));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	ZosConsoleCommandRunner.waitForResponse(commandMock, null, 1, 1);
+        });
+        Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getMessage());
+    }
+
+    @Test
+    public void testNotifyListeners() {
+        IZosConsoleMessageListener listenerMock1 = Mockito.mock(IZosConsoleMessageListener.class);
+        IZosConsoleMessageListener listenerMock2 = Mockito.mock(IZosConsoleMessageListener.class);
+        List<IZosConsoleMessageListener> listeners = Arrays.asList(listenerMock1, listenerMock2);
+
+        ZosConsoleCommandRunner.notifyListeners(listeners, commandMock, null);
+        ZosConsoleCommandRunner.notifyListeners(listeners, commandMock, "");
+        Mockito.verify(listenerMock1, Mockito.never()).messagesReceived(Mockito.any(), Mockito.any());
+        Mockito.verify(listenerMock2, Mockito.never()).messagesReceived(Mockito.any(), Mockito.any());
+
+        ZosConsoleCommandRunner.notifyListeners(listeners, commandMock, "MESSAGES");
+        Mockito.verify(listenerMock1, Mockito.times(1)).messagesReceived(commandMock, "MESSAGES");
+        Mockito.verify(listenerMock2, Mockito.times(1)).messagesReceived(commandMock, "MESSAGES");
+    }
+}
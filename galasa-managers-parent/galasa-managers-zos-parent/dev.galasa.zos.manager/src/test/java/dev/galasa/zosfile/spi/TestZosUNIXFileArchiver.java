@@ -0,0 +1,153 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import dev.galasa.zosfile.ZosUNIXFileException;
+import dev.galasa.zosfile.spi.ZosUNIXFileArchiver.IArchiveTransport;
+import dev.galasa.zosunixcommand.IZosUNIXCommand;
+import dev.galasa.zosunixcommand.ZosUNIXCommandException;
+
+public class TestZosUNIXFileArchiver {
+
+    private ZosUNIXFileArchiver archiver;
+
+    private IZosUNIXCommand zosUNIXCommandMock;
+
+    private IArchiveTransport transportMock;
+
+    private Path localPath;
+
+    private static final String DIRECTORY = "/u/galasa/dir";
+
+    private static final String CONTENT = "content";
+
+    private static final String EXCEPTION = "exception";
+
+    private static final long TIMEOUT = 1000;
+
+    @Before
+    public void setup() throws ZosUNIXCommandException, IOException {
+        zosUNIXCommandMock = Mockito.mock(IZosUNIXCommand.class);
+        transportMock = Mockito.mock(IArchiveTransport.class);
+        Mockito.when(zosUNIXCommandMock.issueCommand(Mockito.anyString(), Mockito.anyLong())).thenReturn("RC=0");
+        localPath = Files.createTempDirectory("galasa");
+
+        archiver = new ZosUNIXFileArchiver(zosUNIXCommandMock, transportMock, true, TIMEOUT);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(localPath)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testUpload() throws ZosUNIXFileException, ZosUNIXCommandException, IOException {
+        Files.createDirectories(localPath.resolve("dir1").resolve("dir2"));
+        Files.write(localPath.resolve("dir1").resolve("file1"), CONTENT.getBytes());
+
+        Map<String, String> entries = new HashMap<>();
+        List<Path> archives = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            Path archive = invocation.getArgument(1);
+            archives.add(archive);
+            try (TarArchiveInputStream tarInputStream = new TarArchiveInputStream(Files.newInputStream(archive))) {
+                TarArchiveEntry entry;
+                while ((entry = tarInputStream.getNextTarEntry()) != null) {
+                    entries.put(entry.getName(), entry.isDirectory() ? null : new String(IOUtils.toByteArray(tarInputStream)));
+                }
+            }
+            return null;
+        }).when(transportMock).storeArchive(Mockito.anyString(), Mockito.any());
+
+        archiver.upload(localPath, DIRECTORY);
+
+        ArgumentCaptor<String> archivePath = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(transportMock, Mockito.times(1)).storeArchive(archivePath.capture(), Mockito.any());
+        Assert.assertTrue("upload() should use a temporary archive", archivePath.getValue().startsWith("/tmp/galasa."));
+        Mockito.verify(zosUNIXCommandMock, Mockito.times(1)).issueCommand("mkdir -p '" + DIRECTORY + "' && cd '" + DIRECTORY + "' && pax -r -o from=ISO8859-1,to=IBM-1047 -f " + archivePath.getValue() + "; echo RC=$?", TIMEOUT);
+        Mockito.verify(zosUNIXCommandMock, Mockito.times(1)).issueCommand("rm -f " + archivePath.getValue(), TIMEOUT);
+
+        Assert.assertFalse("upload() should delete the local archive", Files.exists(archives.get(0)));
+        Assert.assertEquals("upload() should archive all paths", 3, entries.size());
+        Assert.assertTrue("upload() should archive directories", entries.containsKey("dir1/dir2/"));
+        Assert.assertEquals("upload() should archive file content", CONTENT, entries.get("dir1/file1"));
+    }
+
+    @Test
+    public void testUploadNotDirectory() throws ZosUNIXFileException {
+        Path filePath = localPath.resolve("file");
+        String expectedMessage = "Invalid request, " + filePath + " is not a directory";
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	archiver.upload(filePath, DIRECTORY);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    	Mockito.verify(transportMock, Mockito.times(0)).storeArchive(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testDownload() throws ZosUNIXFileException, ZosUNIXCommandException, IOException {
+        archiver = new ZosUNIXFileArchiver(zosUNIXCommandMock, transportMock, false, TIMEOUT);
+        ZosUNIXFileArchiver archiverSpy = Mockito.spy(archiver);
+        InputStream archive = new ByteArrayInputStream(CONTENT.getBytes());
+        Mockito.when(transportMock.retrieveArchive(Mockito.any())).thenReturn(archive);
+        Mockito.doNothing().when(archiverSpy).extract(Mockito.any(), Mockito.any());
+
+        archiverSpy.download(DIRECTORY, localPath);
+
+        ArgumentCaptor<String> archivePath = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(transportMock, Mockito.times(1)).retrieveArchive(archivePath.capture());
+        Assert.assertTrue("download() should use a compressed archive", archivePath.getValue().endsWith(".pax.Z"));
+        Mockito.verify(zosUNIXCommandMock, Mockito.times(1)).issueCommand("cd '" + DIRECTORY + "' && pax -w -z -x pax -f " + archivePath.getValue() + " .; echo RC=$?", TIMEOUT);
+        Mockito.verify(archiverSpy, Mockito.times(1)).extract(archive, localPath);
+        Mockito.verify(zosUNIXCommandMock, Mockito.times(1)).issueCommand("rm -f " + archivePath.getValue(), TIMEOUT);
+    }
+
+    @Test
+    public void testCommandFailure() throws ZosUNIXFileException, ZosUNIXCommandException {
+        Mockito.when(zosUNIXCommandMock.issueCommand(Mockito.startsWith("cd "), Mockito.anyLong())).thenReturn("pax: error\nRC=1");
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	archiver.download(DIRECTORY, localPath);
+        });
+    	Assert.assertTrue("exception should contain the command response", expectedException.getMessage().endsWith("pax: error\nRC=1"));
+    	Mockito.verify(transportMock, Mockito.times(0)).retrieveArchive(Mockito.any());
+    	Mockito.verify(zosUNIXCommandMock, Mockito.times(1)).issueCommand(Mockito.startsWith("rm -f "), Mockito.anyLong());
+
+        Mockito.when(zosUNIXCommandMock.issueCommand(Mockito.startsWith("cd "), Mockito.anyLong())).thenThrow(new ZosUNIXCommandException(EXCEPTION));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	archiver.download(DIRECTORY, localPath);
+        });
+    	Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+
+    @Test
+    public void testShellQuoted() {
+        Assert.assertEquals("shellQuoted() should escape single quotes", "'/u/it'\\''s'", archiver.shellQuoted("/u/it's"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.spi;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import dev.galasa.zosfile.ZosUNIXFileException;
+import dev.galasa.zosfile.spi.ZosUNIXFileTreeWalker.ITreeAccessor;
+
+public class TestZosUNIXFileTreeWalker {
+
+    private ZosUNIXFileTreeWalker treeWalker;
+
+    private ITreeAccessor treeAccessorMock;
+
+    private Path localPath;
+
+    private static final String ROOT = "/root";
+
+    private static final String TYPE_FILE = "file";
+
+    private static final String TYPE_DIRECTORY = "directory";
+
+    private static final String TYPE_SYMBLINK = "symblink";
+
+    private static final String CONTENT = "content";
+
+    private static final String EXCEPTION = "exception";
+
+    @Before
+    public void setup() throws ZosUNIXFileException {
+        treeAccessorMock = Mockito.mock(ITreeAccessor.class);
+        SortedMap<String, String> rootPaths = new TreeMap<>();
+        rootPaths.put(ROOT + "/dir1", TYPE_DIRECTORY);
+        rootPaths.put(ROOT + "/dir2", TYPE_DIRECTORY);
+        rootPaths.put(ROOT + "/file1", TYPE_FILE);
+        rootPaths.put(ROOT + "/link1", TYPE_SYMBLINK);
+        SortedMap<String, String> dir1Paths = new TreeMap<>();
+        dir1Paths.put(ROOT + "/dir1/dir3", TYPE_DIRECTORY);
+        dir1Paths.put(ROOT + "/dir1/file2", TYPE_FILE);
+        SortedMap<String, String> dir3Paths = new TreeMap<>();
+        dir3Paths.put(ROOT + "/dir1/dir3/file3", TYPE_FILE);
+        Mockito.when(treeAccessorMock.listDirectory(ROOT)).thenReturn(rootPaths);
+        Mockito.when(treeAccessorMock.listDirectory(ROOT + "/dir1")).thenReturn(dir1Paths);
+        Mockito.when(treeAccessorMock.listDirectory(ROOT + "/dir2")).thenReturn(new TreeMap<>());
+        Mockito.when(treeAccessorMock.listDirectory(ROOT + "/dir1/dir3")).thenReturn(dir3Paths);
+
+        treeWalker = new ZosUNIXFileTreeWalker(() -> treeAccessorMock, 2, TYPE_DIRECTORY, TYPE_FILE);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        treeWalker.close();
+        if (localPath != null) {
+            try (Stream<Path> paths = Files.walk(localPath)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void testWalk() throws ZosUNIXFileException {
+        Map<String, String> paths = treeWalker.walk(ROOT, 0, null);
+        Assert.assertEquals("walk() should return all paths in the tree", 7, paths.size());
+        Assert.assertEquals("walk() should return the expected type", TYPE_FILE, paths.get(ROOT + "/dir1/dir3/file3"));
+
+        paths = treeWalker.walk(ROOT, 1, null);
+        Assert.assertEquals("walk() should only return the root directory content", 4, paths.size());
+
+        paths = treeWalker.walk(ROOT, 2, null);
+        Assert.assertEquals("walk() should return two levels of the tree", 6, paths.size());
+        Assert.assertFalse("walk() should not return the third level of the tree", paths.containsKey(ROOT + "/dir1/dir3/file3"));
+    }
+
+    @Test
+    public void testWalkFilter() throws ZosUNIXFileException {
+        Map<String, String> paths = treeWalker.walk(ROOT, 0, path -> !path.endsWith("/dir1"));
+        Assert.assertEquals("walk() should only return paths accepted by the filter", 3, paths.size());
+        Assert.assertFalse("walk() should not return rejected paths", paths.containsKey(ROOT + "/dir1"));
+        Mockito.verify(treeAccessorMock, Mockito.times(0)).listDirectory(ROOT + "/dir1");
+    }
+
+    @Test
+    public void testWalkException() throws ZosUNIXFileException {
+        Mockito.when(treeAccessorMock.listDirectory(ROOT + "/dir2")).thenThrow(new ZosUNIXFileException(EXCEPTION));
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	treeWalker.walk(ROOT, 0, null);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getMessage());
+    }
+
+    @Test
+    public void testDownload() throws ZosUNIXFileException, IOException {
+        Mockito.when(treeAccessorMock.retrieve(Mockito.any())).thenReturn(CONTENT);
+        Mockito.when(treeAccessorMock.retrieve(ROOT + "/dir1/file2")).thenReturn(CONTENT.getBytes());
+        localPath = Files.createTempDirectory("galasa");
+
+        treeWalker.download(ROOT, treeWalker.walk(ROOT, 0, null), localPath);
+        Assert.assertEquals("download() should store the expected content", CONTENT, new String(Files.readAllBytes(localPath.resolve("file1"))));
+        Assert.assertEquals("download() should store the expected content", CONTENT, new String(Files.readAllBytes(localPath.resolve("dir1/file2"))));
+        Assert.assertEquals("download() should store the expected content", CONTENT, new String(Files.readAllBytes(localPath.resolve("dir1/dir3/file3"))));
+        Assert.assertTrue("download() should create empty directories", Files.isDirectory(localPath.resolve("dir2")));
+        Assert.assertFalse("download() should ignore other types", Files.exists(localPath.resolve("link1")));
+    }
+
+    @Test
+    public void testAccessorsReusedAndClosed() throws ZosUNIXFileException, IOException {
+        Mockito.when(treeAccessorMock.retrieve(Mockito.any())).thenReturn(CONTENT);
+        localPath = Files.createTempDirectory("galasa");
+        AtomicInteger created = new AtomicInteger();
+        ZosUNIXFileTreeWalker countingTreeWalker = new ZosUNIXFileTreeWalker(() -> {
+            created.incrementAndGet();
+            return treeAccessorMock;
+        }, 2, TYPE_DIRECTORY, TYPE_FILE);
+
+        countingTreeWalker.download(ROOT, countingTreeWalker.walk(ROOT, 0, null), localPath);
+        countingTreeWalker.walk(ROOT, 0, null);
+        Assert.assertTrue("the worker threads should be reused", created.get() <= 2);
+        Mockito.verify(treeAccessorMock, Mockito.times(0)).close();
+
+        countingTreeWalker.close();
+        Mockito.verify(treeAccessorMock, Mockito.times(created.get())).close();
+    }
+
+    @Test
+    public void testDownloadException() throws ZosUNIXFileException, IOException {
+        Mockito.when(treeAccessorMock.retrieve(Mockito.any())).thenThrow(new ZosUNIXFileException(EXCEPTION));
+        localPath = Files.createTempDirectory("galasa");
+
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	treeWalker.download(ROOT, treeWalker.walk(ROOT, 0, null), localPath);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getMessage());
+    }
+}
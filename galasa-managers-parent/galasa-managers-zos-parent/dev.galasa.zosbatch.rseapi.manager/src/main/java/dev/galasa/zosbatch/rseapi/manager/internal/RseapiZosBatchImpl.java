@@ -24,10 +24,12 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zosbatch.IZosBatch;
 import dev.galasa.zosbatch.IZosBatchJob;
 import dev.galasa.zosbatch.IZosBatchJob.JobStatus;
+import dev.galasa.zosbatch.IZosBatchJobGroup;
 import dev.galasa.zosbatch.IZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
 import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.zosbatch.spi.ZosBatchJobGroup;
 import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
 import dev.galasa.zosrseapi.IRseapiResponse;
 import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
@@ -74,6 +76,29 @@ public class RseapiZosBatchImpl implements IZosBatch {
         
         return zosBatchJob.submitJob();
     }
+    
+    @Override
+    public @NotNull IZosBatchJobGroup submitJobs(@NotNull List<String> jcl) throws ZosBatchException {
+        List<RseapiZosBatchJobImpl> jobs = new ArrayList<>();
+        int jobWaitTimeout;
+        try {
+            for (String jobJcl : jcl) {
+                IZosBatchJobname jobname = this.zosBatchManager.newZosBatchJobname(this.image);
+                RseapiZosBatchJobImpl zosBatchJob = new RseapiZosBatchJobImpl(this.zosBatchManager, this.image, jobname, jobJcl, new ZosBatchJobcard());
+                // The jobs are submitted and their output retrieved concurrently, so they cannot share server connections
+                zosBatchJob.useDedicatedApiProcessor();
+                this.zosBatchJobs.add(zosBatchJob);
+                jobs.add(zosBatchJob);
+            }
+            jobWaitTimeout = this.zosBatchManager.getZosManager().getZosBatchPropertyJobWaitTimeout(this.image.getImageID());
+        } catch (ZosBatchManagerException e) {
+            throw new ZosBatchException(e);
+        }
+        
+        ZosBatchJobGroup<RseapiZosBatchJobImpl> jobGroup = new ZosBatchJobGroup<>(jobs, this.zosBatchManager.getJobStatusWatcher(this.image), jobWaitTimeout);
+        jobGroup.submit(RseapiZosBatchJobImpl::submitJob);
+        return jobGroup;
+    }
 
 
     @Override
@@ -104,6 +129,7 @@ public class RseapiZosBatchImpl implements IZosBatch {
 					    	if (zosBatchJobImpl.shouldCleanup()) {
 					    		zosBatchJobImpl.purge();
 					    	}
+					    	zosBatchJobImpl.useSharedApiProcessor();
 					        iterator.remove();
 				    	}
 				    } else {
@@ -115,6 +141,7 @@ public class RseapiZosBatchImpl implements IZosBatch {
 					            zosBatchJobImpl.purge();
 					        }
 				    	}
+				    	zosBatchJobImpl.useSharedApiProcessor();
 			            iterator.remove();
 				    }
 				}
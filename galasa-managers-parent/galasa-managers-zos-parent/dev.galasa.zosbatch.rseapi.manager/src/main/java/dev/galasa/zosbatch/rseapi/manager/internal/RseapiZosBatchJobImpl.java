@@ -5,13 +5,17 @@
  */
 package dev.galasa.zosbatch.rseapi.manager.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,10 +35,13 @@ import dev.galasa.zosbatch.IZosBatchJob;
 import dev.galasa.zosbatch.IZosBatchJobOutput;
 import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
 import dev.galasa.zosbatch.IZosBatchJobname;
+import dev.galasa.zosbatch.IZosBatchSpoolFileTail;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
 import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
+import dev.galasa.zosbatch.spi.ZosBatchSpoolFileTail;
 import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
 import dev.galasa.zosrseapi.IRseapiResponse;
 import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
@@ -143,6 +150,32 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
         }
     }
     
+    /**
+     * Use RSE API server connections that are not shared with any other job, so that this job can be submitted, 
+     * and its output retrieved, on a different thread to other jobs
+     * @throws ZosBatchException
+     */
+    protected void useDedicatedApiProcessor() throws ZosBatchException {
+        try {
+            this.rseapiApiProcessor = this.zosBatchManager.getRseapiManager().newDedicatedRseapiRestApiProcessor(this.jobImage, this.zosBatchManager.getZosManager().getZosBatchPropertyBatchRestrictToImage(this.jobImage.getImageID()));
+        } catch (RseapiManagerException | ZosBatchManagerException e) {
+            throw new ZosBatchException(e);
+        }
+    }
+    
+    /**
+     * Close any dedicated RSE API server connections used by this job and return to the shared connections
+     * @throws ZosBatchException
+     */
+    protected void useSharedApiProcessor() throws ZosBatchException {
+        this.rseapiApiProcessor.close();
+        try {
+            this.rseapiApiProcessor = this.zosBatchManager.getRseapiManager().newRseapiRestApiProcessor(this.jobImage, this.zosBatchManager.getZosManager().getZosBatchPropertyBatchRestrictToImage(this.jobImage.getImageID()));
+        } catch (RseapiManagerException | ZosBatchManagerException e) {
+            throw new ZosBatchException(e);
+        }
+    }
+    
     public @NotNull IZosBatchJob submitJob() throws ZosBatchException {
         HashMap<String, String> headers = new HashMap<>();
         IRseapiResponse response;
@@ -256,27 +289,15 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
         }
         logger.info("Waiting up to " + jobWaitTimeout + " second(s) for "+ this.jobid + " " + this.jobname.getName() + " to complete");
         
-        LocalDateTime timeoutTime = LocalDateTime.now().plusSeconds(jobWaitTimeout);
-        while (LocalDateTime.now().isBefore(timeoutTime)) {
-            updateJobStatus();
-            if (this.jobNotFound) {
-                return Integer.MIN_VALUE;
-            }
-            try {
-                if (isComplete()) {
-                    String[] rc = this.retcode.split(" ");
-                    if (rc.length == 2) {
-                        return StringUtils.isNumeric(rc[1]) ? Integer.parseInt(rc[1]) : Integer.MIN_VALUE;
-                    }
-                    return Integer.MIN_VALUE;
-                }
-                
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                logger.error("waitForJob Interrupted", e);
-                Thread.currentThread().interrupt();
-                throw new ZosBatchException(e);
-            }
+        if (!isComplete() && !this.zosBatchManager.getJobStatusWatcher(this.jobImage).waitForJob(this, this.jobWaitTimeout)) {
+            return Integer.MIN_VALUE;
+        }
+        if (this.jobNotFound) {
+            return Integer.MIN_VALUE;
+        }
+        String[] rc = this.retcode.split(" ");
+        if (rc.length == 2) {
+            return StringUtils.isNumeric(rc[1]) ? Integer.parseInt(rc[1]) : Integer.MIN_VALUE;
         }
         return Integer.MIN_VALUE;
     }    
@@ -293,7 +314,11 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
 	@Override
 	public String retrieveOutputAsString() throws ZosBatchException {
 		StringBuilder output = new StringBuilder();
-		retrieveOutput().getSpoolFiles().forEach(records -> output.append(records.getRecords()));
+		try {
+			retrieveOutput().getSpoolFiles().forEach(records -> output.append(records.getRecords()));
+		} catch (IllegalStateException e) {
+			throw new ZosBatchException(e.getMessage(), e.getCause());
+		}
         return output.toString();		
 	}
     
@@ -323,6 +348,14 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
         return null;
     }
 
+    @Override
+    public IZosBatchSpoolFileTail tail(@NotNull String ddname) throws ZosBatchException {
+        if (!submitted()) {
+            throw new ZosBatchException(LOG_JOB_NOT_SUBMITTED);
+        }
+        return new ZosBatchSpoolFileTail(this, ddname);
+    }
+
     @Override
     public void saveOutputToResultsArchive(String rasPath) throws ZosBatchException {
         if (jobOutput() == null) {
@@ -331,30 +364,7 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
         Path artifactPath = this.zosBatchManager.getArtifactsRoot().resolve(rasPath);
 		logger.info("Archiving batch job " + this.toString() + " to " + artifactPath.toString());
         
-        Iterator<IZosBatchJobOutputSpoolFile> iterator = jobOutput().iterator();
-        while (iterator.hasNext()) {
-            IZosBatchJobOutputSpoolFile spoolFile = iterator.next();
-            StringBuilder name = new StringBuilder();
-            name.append(spoolFile.getJobname());
-            name.append("_");
-            name.append(spoolFile.getJobid());
-            if (!spoolFile.getStepname().isEmpty()){
-                name.append("_");
-                name.append(spoolFile.getStepname());
-            }
-            if (!spoolFile.getProcstep().isEmpty()){
-                name.append("_");
-                name.append(spoolFile.getProcstep());
-            }
-            name.append("_");
-            name.append(spoolFile.getDdname());
-            String fileName = this.zosBatchManager.getZosManager().buildUniquePathName(artifactPath, name.toString());
-            try {
-            	this.zosBatchManager.getZosManager().storeArtifact(artifactPath.resolve(fileName), spoolFile.getRecords(), ResultArchiveStoreContentType.TEXT);
-			} catch (ZosManagerException e) {
-				throw new ZosBatchException(e);
-			}
-        }
+        this.zosBatchManager.getZosManager().getZosBatchSpoolFileArchiver(this.jobImage).archive(jobOutput(), artifactPath);
         if (isComplete()) {
         	this.jobArchived = true;
         }
@@ -418,7 +428,7 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
                 String stepname = jsonNull(responseBody, "step name");
                 String procstep = jsonNull(responseBody, "proc step");
                 String ddname = responseBody.get("ddName").getAsString();
-                this.jobOutput.addSpoolFile(stepname, procstep, ddname, getOutputFileContent(this.jobFilesPath + "/" + id + "/content"));
+                this.jobOutput.addSpoolFile(stepname, procstep, ddname, newSpoolFileReader(this.jobFilesPath + "/" + id + "/content"));
             }
         } else {            
             // Error case
@@ -515,7 +525,7 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
         return this.jobPurged;
     }
 
-    public IZosBatchJobOutput jobOutput() {
+    public IZosBatchJobOutputSpi jobOutput() {
         return this.jobOutput;
     }
 
@@ -552,26 +562,7 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
             }
         
             logger.trace(responseBody);
-            this.jobNotFound = false;
-            this.owner = jsonNull(responseBody, PROP_OWNER);
-            this.type = jsonNull(responseBody, PROP_TYPE);
-            this.statusString = jsonNull(responseBody, PROP_STATUS);
-            if (this.statusString != null && "COMPLETION".equals(this.statusString) ||
-            	this.statusString != null && "ABEND".equals(this.statusString)) {
-                this.jobComplete = true;
-            } else if (this.statusString != null && "NOT_FOUND".equals(this.statusString)) {
-        		logger.trace("JOBID=" + this.jobid + " JOBNAME=" + this.jobname.getName() + " NOT FOUND");
-                this.jobNotFound = true;
-                this.status = JobStatus.NOTFOUND;
-            }
-            setStatus(this.statusString);
-            String retcodeProperty = jsonNull(responseBody, PROP_RETCODE);
-            if (retcodeProperty != null) {
-                this.retcode = retcodeProperty;
-            } else {
-                this.retcode = StringUtils.repeat(QUERY, 4);
-            }
-            logger.trace(jobStatus());
+            setJobStatus(responseBody);
         } else {
             // Error case
             String displayMessage = buildErrorString("Update job status", response); 
@@ -580,13 +571,107 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
         }            
     }
 
+    protected void setJobStatus(JsonObject responseBody) {
+        this.jobNotFound = false;
+        this.owner = jsonNull(responseBody, PROP_OWNER);
+        this.type = jsonNull(responseBody, PROP_TYPE);
+        this.statusString = jsonNull(responseBody, PROP_STATUS);
+        if (this.statusString != null && "COMPLETION".equals(this.statusString) ||
+        	this.statusString != null && "ABEND".equals(this.statusString)) {
+            this.jobComplete = true;
+        } else if (this.statusString != null && "NOT_FOUND".equals(this.statusString)) {
+    		logger.trace("JOBID=" + this.jobid + " JOBNAME=" + this.jobname.getName() + " NOT FOUND");
+            this.jobNotFound = true;
+            this.status = JobStatus.NOTFOUND;
+        }
+        setStatus(this.statusString);
+        String retcodeProperty = jsonNull(responseBody, PROP_RETCODE);
+        if (retcodeProperty != null) {
+            this.retcode = retcodeProperty;
+        } else {
+            this.retcode = StringUtils.repeat(QUERY, 4);
+        }
+        logger.trace(jobStatus());
+    }
+
+    /**
+     * Update the status of a list of jobs. Jobs with the same owner and a common job name prefix are listed in a single
+     * request, so the list is never unscoped. Other jobs, and a job missing from the list, are requested individually
+     * @param jobs the jobs that have not ended
+     * @return the jobs that have ended or cannot be found
+     * @throws ZosBatchException
+     */
+    protected static List<RseapiZosBatchJobImpl> pollJobStatus(List<RseapiZosBatchJobImpl> jobs) throws ZosBatchException {
+        Map<String, List<RseapiZosBatchJobImpl>> jobsByOwner = new LinkedHashMap<>();
+        for (RseapiZosBatchJobImpl job : jobs) {
+            jobsByOwner.computeIfAbsent(job.owner, k -> new ArrayList<>()).add(job);
+        }
+        List<RseapiZosBatchJobImpl> endedJobs = new ArrayList<>();
+        for (Map.Entry<String, List<RseapiZosBatchJobImpl>> entry : jobsByOwner.entrySet()) {
+            List<RseapiZosBatchJobImpl> ownerJobs = entry.getValue();
+            String prefix = StringUtils.getCommonPrefix(ownerJobs.stream().map(job -> job.jobname.getName()).toArray(String[]::new));
+            boolean listable = entry.getKey() != null && ownerJobs.size() > 1 && !prefix.isEmpty();
+            Map<String, JsonObject> jobStatuses = listable ? ownerJobs.get(0).listJobStatus(entry.getKey(), ownerJobs) : new HashMap<>();
+            for (RseapiZosBatchJobImpl job : ownerJobs) {
+                JsonObject jobStatus = jobStatuses.get(job.jobid);
+                if (jobStatus != null) {
+                    job.setJobStatus(jobStatus);
+                } else {
+                    job.updateJobStatus();
+                }
+                if (job.jobComplete || job.jobNotFound) {
+                    endedJobs.add(job);
+                }
+            }
+        }
+        return endedJobs;
+    }
+
+    protected Map<String, JsonObject> listJobStatus(String jobOwner, List<RseapiZosBatchJobImpl> jobs) throws ZosBatchException {
+        String[] jobnames = jobs.stream().map(job -> job.jobname.getName()).toArray(String[]::new);
+        String listJobsPath = RESTJOBS_PATH + QUERY + "owner=" + jobOwner + "&prefix=" + StringUtils.getCommonPrefix(jobnames) + "*";
+        HashMap<String, String> headers = new HashMap<>();
+        
+        IRseapiResponse response;
+        try {
+            response = this.rseapiApiProcessor.sendRequest(RseapiRequestType.GET, listJobsPath, headers, null, VALID_STATUS_CODES, true);
+        } catch (RseapiException e) {
+            throw new ZosBatchException(e);
+        }
+        
+        Map<String, JsonObject> jobStatuses = new HashMap<>();
+        if (response.getStatusCode() == HttpStatus.SC_OK) {
+            JsonArray jsonArray;
+            try {
+                jsonArray = response.getJsonArrayContent();
+            } catch (RseapiException e) {
+                throw new ZosBatchException(e);
+            }
+            logger.trace(jsonArray);
+            for (JsonElement jsonElement : jsonArray) {
+                JsonObject responseBody = jsonElement.getAsJsonObject();
+                jobStatuses.put(jsonNull(responseBody, "jobID"), responseBody);
+            }
+        } else {
+            // Error case
+            String displayMessage = buildErrorString("List job status", response); 
+            logger.error(displayMessage);
+            throw new ZosBatchException(displayMessage);
+        }
+        return jobStatuses;
+    }
+
     protected String getOutputFileContent(String path) throws ZosBatchException {    
         HashMap<String, String> headers = new HashMap<>();
         IRseapiResponse response;
+        IRseapiRestApiProcessor spoolFileApiProcessor = this.zosBatchManager.takeSpoolFileApiProcessor(this.jobImage);
         try {
-            response = this.rseapiApiProcessor.sendRequest(RseapiRequestType.GET, path, headers, null, VALID_STATUS_CODES, true);
+            response = spoolFileApiProcessor.sendRequest(RseapiRequestType.GET, path, headers, null, VALID_STATUS_CODES, true);
         } catch (RseapiException e) {
             throw new ZosBatchException(e);
+        } finally {
+            // The converted response content has been read, so the connections are free
+            this.zosBatchManager.releaseSpoolFileApiProcessor(this.jobImage, spoolFileApiProcessor);
         }
     
         String fileOutput;
@@ -609,6 +694,30 @@ public class RseapiZosBatchJobImpl implements IZosBatchJob {
         return fileOutput;
     }
 
+    protected ISpoolFileReader newSpoolFileReader(String path) {
+        // The RSE API has no record range, so the whole spool file is retrieved and the range returned from it. The
+        // records may be retrieved on a spool file archiver thread, so with a processor from the spool file pool
+        return new ISpoolFileReader() {
+            @Override
+            public String readRecords(long first, long count) throws ZosBatchException {
+                return recordRange(getOutputFileContent(path), first, count);
+            }
+            
+            @Override
+            public InputStream openRecords() throws ZosBatchException {
+                String content = getOutputFileContent(path);
+                return new ByteArrayInputStream(content != null ? content.getBytes() : new byte[0]);
+            }
+        };
+    }
+
+    protected String recordRange(String content, long first, long count) {
+        if (content == null || count < 1) {
+            return content;
+        }
+        return Arrays.stream(content.split("\n")).skip(first).limit(count).map(record -> record + "\n").collect(Collectors.joining());
+    }
+
     protected boolean spoolFileNotFound(JsonObject errorResponseBody) {
         return (jsonZero(errorResponseBody, PROP_CATEGORY) == 6 &&
                 jsonZero(errorResponseBody, PROP_RC) == 4 &&
@@ -12,6 +12,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -37,6 +38,7 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosbatch.IZosBatchJob;
 import dev.galasa.zosbatch.IZosBatchJob.JobStatus;
+import dev.galasa.zosbatch.IZosBatchJobGroup;
 import dev.galasa.zosbatch.IZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
@@ -44,6 +46,7 @@ import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.internal.properties.InputClass;
 import dev.galasa.zosbatch.internal.properties.MsgClass;
 import dev.galasa.zosbatch.internal.properties.MsgLevel;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher;
 import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
 import dev.galasa.zosrseapi.IRseapiResponse;
 import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
@@ -177,6 +180,7 @@ public class TestRseapiZosBatchImpl {
         Mockito.when(MsgLevel.get(Mockito.any())).thenReturn("X");
 
         PowerMockito.doReturn(rseapiApiProcessorMock).when(rseapiManagerMock).newRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        PowerMockito.doReturn(rseapiApiProcessorMock).when(rseapiManagerMock).newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
         Mockito.when(zosBatchManagerMock.getRseapiManager()).thenReturn(rseapiManagerMock);
 
         Mockito.when(rseapiApiProcessorMock.sendRequest(Mockito.eq(RseapiRequestType.POST_JSON), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(rseapiResponseMockSubmit);
@@ -212,6 +216,35 @@ public class TestRseapiZosBatchImpl {
     	Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
     }
     
+    @Test
+    public void testSubmitJobs() throws Exception {
+        @SuppressWarnings("unchecked")
+        ZosBatchJobStatusWatcher<RseapiZosBatchJobImpl> watcherMock = Mockito.mock(ZosBatchJobStatusWatcher.class);
+        Mockito.when(watcherMock.waitForJob(Mockito.any(), Mockito.anyLong())).thenReturn(false);
+        Mockito.when(zosBatchManagerMock.getJobStatusWatcher(Mockito.any())).thenReturn(watcherMock);
+        
+        IZosBatchJobGroup jobGroup = zosBatchSpy.submitJobs(Arrays.asList("JCL1", "JCL2", "JCL3"));
+        Assert.assertEquals("submitJobs() should submit a job for each JCL", 3, jobGroup.getJobs().size());
+        Mockito.verify(rseapiManagerMock, Mockito.times(3)).newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        for (IZosBatchJob zosBatchJob : jobGroup.getJobs()) {
+            Assert.assertEquals("getJobId() should return FIXED_JOBID", "????????", zosBatchJob.getJobId());
+            Mockito.verify(watcherMock, Mockito.times(1)).watch((RseapiZosBatchJobImpl) zosBatchJob);
+            Assert.assertNotNull("getCompletion() should return the job future", jobGroup.getCompletion(zosBatchJob));
+        }
+        Assert.assertEquals("submitted jobs should be cleaned up", 3, ((List<?>) Whitebox.getInternalState(zosBatchSpy, "zosBatchJobs")).size());
+        
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	jobGroup.waitForAll(10);
+        });
+        Assert.assertTrue("exception should contain expected message", expectedException.getMessage().startsWith("Timeout waiting for job"));
+
+        Mockito.doThrow(new ZosBatchException(EXCEPTION)).when(zosBatchManagerMock).newZosBatchJobname(Mockito.any(IZosImage.class));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchSpy.submitJobs(Arrays.asList("JCL"));
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
     @Test
     public void testGetJobs() throws Exception {
         Mockito.doReturn(zosBatchJobListMock).when(zosBatchSpy).getBatchJobs(Mockito.any(), Mockito.any());
@@ -462,6 +495,25 @@ public class TestRseapiZosBatchImpl {
         String expectedMessage = "Problem in cleanup phase";
 		Assert.assertEquals("cleanup(true) should log expected message", expectedMessage, logMessage);
     }
+    
+    @Test
+    public void testCleanupUsesSharedApiProcessor() throws Exception {
+        List<RseapiZosBatchJobImpl> zosBatchJobs = new ArrayList<>();
+        Mockito.when(zosBatchJobMock.submitted()).thenReturn(true);
+        Mockito.when(zosBatchJobMock.isComplete()).thenReturn(true);
+        Mockito.when(zosBatchJobMock.getStatus()).thenReturn(JobStatus.OUTPUT);
+        Mockito.doThrow(new ZosBatchException(EXCEPTION)).when(zosBatchJobMock).archiveJobOutput();
+        zosBatchJobs.add(zosBatchJobMock);
+        Whitebox.setInternalState(zosBatchSpy, "zosBatchJobs", zosBatchJobs);
+        zosBatchSpy.cleanup(true);
+        Assert.assertEquals("zosBatchJobs should have 1 entry", 1, zosBatchJobs.size());
+        Mockito.verify(zosBatchJobMock, Mockito.times(0)).useSharedApiProcessor();
+        
+        Mockito.doNothing().when(zosBatchJobMock).archiveJobOutput();
+        zosBatchSpy.cleanup(true);
+        Assert.assertEquals("zosBatchJobs should have 0 entries", 0, zosBatchJobs.size());
+        Mockito.verify(zosBatchJobMock, Mockito.times(1)).useSharedApiProcessor();
+    }
    
     private JsonObject getJsonObject() {
         JsonObject responseBody = new JsonObject();
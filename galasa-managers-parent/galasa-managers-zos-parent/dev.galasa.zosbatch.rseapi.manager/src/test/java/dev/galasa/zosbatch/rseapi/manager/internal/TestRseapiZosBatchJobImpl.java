@@ -12,6 +12,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -42,10 +43,14 @@ import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosbatch.IZosBatchJob.JobStatus;
 import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
 import dev.galasa.zosbatch.IZosBatchJobname;
+import dev.galasa.zosbatch.IZosBatchSpoolFileTail;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
 import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher;
+import dev.galasa.zosbatch.spi.ZosBatchSpoolFileArchiver;
 import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
 import dev.galasa.zosrseapi.IRseapiResponse;
 import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
@@ -190,12 +195,15 @@ public class TestRseapiZosBatchJobImpl {
         Mockito.when(zosBatchManagerMock.getCurrentTestMethodArchiveFolder()).thenReturn(currentTestMethodArchiveFolderMock);
 
         PowerMockito.doReturn(rseapiApiProcessorMock).when(rseapiManagerMock).newRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        Mockito.when(zosBatchManagerMock.takeSpoolFileApiProcessor(Mockito.any())).thenReturn(rseapiApiProcessorMock);
         Mockito.when(zosBatchManagerMock.getRseapiManager()).thenReturn(rseapiManagerMock);
         Mockito.when(zosBatchManagerMock.getZosManager()).thenReturn(zosManagerMock);
         Mockito.when(zosManagerMock.buildUniquePathName(Mockito.any(), Mockito.any())).thenReturn(FIXED_PATH_NAME);
         
         Mockito.when(zosBatchJobcardMock.getJobcard(Mockito.any(), Mockito.any())).thenReturn(FIXED_JOBCARD);
         
+        Mockito.when(zosBatchManagerMock.getJobStatusWatcher(Mockito.any())).thenReturn(new ZosBatchJobStatusWatcher<>(RseapiZosBatchJobImpl::pollJobStatus, 1, 10));
+        
         zosBatchJob = new RseapiZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock);
         zosBatchJobSpy = Mockito.spy(zosBatchJob);
     }
@@ -211,6 +219,18 @@ public class TestRseapiZosBatchJobImpl {
         Assert.assertEquals("getJobname() should return the supplied job name", FIXED_JOBNAME, zosBatchJobSpy.getJobname().getName());
     }
     
+    @Test
+    public void testUseSharedApiProcessor() throws Exception {
+        IRseapiRestApiProcessor dedicatedApiProcessorMock = Mockito.mock(IRseapiRestApiProcessor.class);
+        PowerMockito.doReturn(dedicatedApiProcessorMock).when(rseapiManagerMock).newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        zosBatchJob.useDedicatedApiProcessor();
+        Assert.assertEquals("useDedicatedApiProcessor() should replace the shared processor", dedicatedApiProcessorMock, Whitebox.getInternalState(zosBatchJob, "rseapiApiProcessor"));
+        
+        zosBatchJob.useSharedApiProcessor();
+        Mockito.verify(dedicatedApiProcessorMock, Mockito.times(1)).close();
+        Assert.assertEquals("useSharedApiProcessor() should restore the shared processor", rseapiApiProcessorMock, Whitebox.getInternalState(zosBatchJob, "rseapiApiProcessor"));
+    }
+    
     @Test
     public void testConstructorJobWaitTimeoutException() throws ZosBatchManagerException {
         String expectedMessage = "Unable to get job timeout property value";
@@ -402,26 +422,93 @@ public class TestRseapiZosBatchJobImpl {
         Mockito.when(rseapiResponseMockStatus.getJsonContent()).thenReturn(responseBody);
         Mockito.when(rseapiResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
         Assert.assertEquals("waitForJob() should return zero", 0, zosBatchJobSpy.waitForJob());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(1)).updateJobStatus();
 
-        responseBody = getJsonObject();
-        responseBody.addProperty("returnCode", FIXED_RETCODE_0020);
-        Mockito.when(rseapiResponseMockStatus.getJsonContent()).thenReturn(responseBody);
-        Mockito.when(rseapiResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        Whitebox.setInternalState(zosBatchJobSpy, "retcode", FIXED_RETCODE_0020);
         Assert.assertEquals("waitForJob() should return the supplied value", 20, zosBatchJobSpy.waitForJob());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(1)).updateJobStatus();
         
-        responseBody.addProperty("returnCode", "CC UNKNOWN");
+        Whitebox.setInternalState(zosBatchJobSpy, "retcode", "CC UNKNOWN");
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
 
-        responseBody.remove("returnCode");
+        Whitebox.setInternalState(zosBatchJobSpy, "retcode", "????");
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
 
-        Mockito.doReturn(false).when(zosBatchJobSpy).isComplete();
+        Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", false);
+        Mockito.doNothing().when(zosBatchJobSpy).updateJobStatus();
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
 
         Whitebox.setInternalState(zosBatchJobSpy, "jobNotFound", true);
-        Mockito.doNothing().when(zosBatchJobSpy).updateJobStatus();
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
     }
+    
+    @Test
+    public void testPollJobStatus() throws ZosBatchException, RseapiException {
+        RseapiZosBatchJobImpl zosBatchJob2 = new RseapiZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock);
+        RseapiZosBatchJobImpl zosBatchJobSpy2 = Mockito.spy(zosBatchJob2);
+        Whitebox.setInternalState(zosBatchJobSpy, "jobid", FIXED_JOBID);
+        Whitebox.setInternalState(zosBatchJobSpy, "owner", FIXED_OWNER);
+        Whitebox.setInternalState(zosBatchJobSpy2, "jobid", "JOB00002");
+        Whitebox.setInternalState(zosBatchJobSpy2, "owner", FIXED_OWNER);
+        Mockito.doNothing().when(zosBatchJobSpy2).updateJobStatus();
+        
+        JsonObject jobStatus = getJsonObject();
+        jobStatus.addProperty("jobID", FIXED_JOBID);
+        jobStatus.addProperty("status", "COMPLETION");
+        JsonArray jobList = new JsonArray();
+        jobList.add(jobStatus);
+        Mockito.when(rseapiApiProcessorMock.sendRequest(Mockito.eq(RseapiRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(rseapiResponseMockStatus);
+        Mockito.when(rseapiResponseMockStatus.getJsonArrayContent()).thenReturn(jobList);
+        Mockito.when(rseapiResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        
+        List<RseapiZosBatchJobImpl> endedJobs = RseapiZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy, zosBatchJobSpy2));
+        Assert.assertEquals("pollJobStatus() should return the ended jobs", Arrays.asList(zosBatchJobSpy), endedJobs);
+        Assert.assertEquals("pollJobStatus() should update the job status", FIXED_RETCODE_0000, zosBatchJobSpy.getRetcode());
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.eq(RseapiRequestType.GET), Mockito.eq("/rseapi/api/v1/jobs?owner=" + FIXED_OWNER + "&prefix=" + FIXED_JOBNAME + "*"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(0)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy2, Mockito.times(1)).updateJobStatus();
+        
+        endedJobs = RseapiZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy2));
+        Assert.assertTrue("pollJobStatus() should not return running jobs", endedJobs.isEmpty());
+        Mockito.verify(zosBatchJobSpy2, Mockito.times(2)).updateJobStatus();
+    }
+    
+    @Test
+    public void testPollJobStatusUnscoped() throws ZosBatchException, RseapiException {
+        IZosBatchJobname zosJobnameMock2 = Mockito.mock(IZosBatchJobname.class);
+        Mockito.when(zosJobnameMock2.getName()).thenReturn("XYZ45678");
+        RseapiZosBatchJobImpl zosBatchJobSpy2 = Mockito.spy(new RseapiZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock2, "JCL", zosBatchJobcardMock));
+        RseapiZosBatchJobImpl zosBatchJobSpy3 = Mockito.spy(new RseapiZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock));
+        RseapiZosBatchJobImpl zosBatchJobSpy4 = Mockito.spy(new RseapiZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock));
+        Whitebox.setInternalState(zosBatchJobSpy, "owner", FIXED_OWNER);
+        Whitebox.setInternalState(zosBatchJobSpy2, "owner", FIXED_OWNER);
+        Mockito.doNothing().when(zosBatchJobSpy).updateJobStatus();
+        Mockito.doNothing().when(zosBatchJobSpy2).updateJobStatus();
+        Mockito.doNothing().when(zosBatchJobSpy3).updateJobStatus();
+        Mockito.doNothing().when(zosBatchJobSpy4).updateJobStatus();
+        
+        // No common job name prefix, and no known owner
+        RseapiZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy, zosBatchJobSpy2));
+        RseapiZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy3, zosBatchJobSpy4));
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(0)).sendRequest(Mockito.eq(RseapiRequestType.GET), Mockito.startsWith("/rseapi/api/v1/jobs?"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(1)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy2, Mockito.times(1)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy3, Mockito.times(1)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy4, Mockito.times(1)).updateJobStatus();
+    }
+    
+    @Test
+    public void testListJobStatusBadHttpResponseException() throws ZosBatchException, RseapiException {
+        Mockito.when(rseapiApiProcessorMock.sendRequest(Mockito.eq(RseapiRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(rseapiResponseMockStatus);
+        Mockito.when(rseapiResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_BAD_REQUEST);
+        Mockito.when(rseapiResponseMockStatus.getStatusLine()).thenReturn("BAD_REQUEST");
+        
+        String expectedMessage = "Error List job status, HTTP Status Code 400 : BAD_REQUEST";
+    	ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+    		zosBatchJobSpy.listJobStatus(FIXED_OWNER, Arrays.asList(zosBatchJobSpy));
+    	});
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
 
     @Test
     public void testWaitForJobNotSubmittedException() throws ZosBatchException {
@@ -476,6 +563,12 @@ public class TestRseapiZosBatchJobImpl {
 		Mockito.doReturn(spoolFiles).when(zosBatchJobOutputMock).getSpoolFiles();
 		String expected = "RECORDS\nRECORDS\n";
 		Assert.assertEquals("retrieveOutputAsString() should return the expected value", expected, zosBatchJobSpy.retrieveOutputAsString());
+		
+        Mockito.doThrow(new IllegalStateException(EXCEPTION, new ZosBatchException(EXCEPTION))).when(zosBatchJobOutputSpoolFileMock).getRecords();
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchJobSpy.retrieveOutputAsString();
+        });
+    	Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
     }
 
     @Test
@@ -571,23 +664,37 @@ public class TestRseapiZosBatchJobImpl {
 		Assert.assertNull("getSpoolFile() should return the mocked IZosBatchJobOutputSpoolFile", zosBatchJobSpy.getSpoolFile("DUMMY"));
     }
     
+    @Test
+    public void testTail() throws ZosBatchException {
+    	Whitebox.setInternalState(zosBatchJobSpy, "jobid", FIXED_JOBID);
+        Mockito.doReturn(zosBatchJobOutputSpoolFileMock).when(zosBatchJobSpy).getSpoolFile(FIXED_DDNAME);
+        Mockito.doReturn("RECORD1\nRECORD2\n").when(zosBatchJobOutputSpoolFileMock).getRecords(0, 1000);
+        Mockito.doReturn("").when(zosBatchJobOutputSpoolFileMock).getRecords(2, 1000);
+        IZosBatchSpoolFileTail tail = zosBatchJobSpy.tail(FIXED_DDNAME);
+        Assert.assertEquals("tail() should return the expected ddname", FIXED_DDNAME, tail.getDdname());
+        Assert.assertEquals("readNewRecords() should return the expected value", "RECORD1\nRECORD2\n", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should return the expected value", "", tail.readNewRecords());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(2)).getSpoolFile(FIXED_DDNAME);
+    }
+    
+    @Test
+    public void testTailNotSubmittedException() throws ZosBatchException {
+    	Mockito.doReturn("????????").when(zosBatchJobSpy).getJobId();
+        String expectedMessage = "Job has not been submitted by manager";
+    	ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+    		zosBatchJobSpy.tail(FIXED_DDNAME);
+    	});
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+    
     @Test
     public void testSaveOutputToTestResultsArchive() throws ZosManagerException {
     	Mockito.when(zosBatchManagerMock.getZosManager()).thenReturn(zosManagerMock);
-        PowerMockito.doNothing().when(zosManagerMock).storeArtifact(Mockito.any(), Mockito.any(), Mockito.any());
-        PowerMockito.doReturn(FIXED_PATH_NAME).when(zosManagerMock).buildUniquePathName(Mockito.any(), Mockito.any());
+        ZosBatchSpoolFileArchiver archiverMock = Mockito.mock(ZosBatchSpoolFileArchiver.class);
+        Mockito.when(zosManagerMock.getZosBatchSpoolFileArchiver(Mockito.any())).thenReturn(archiverMock);
     	Whitebox.setInternalState(zosBatchJobSpy, "jobid", FIXED_JOBID);
     	Whitebox.setInternalState(zosBatchJobSpy, "retcode", FIXED_RETCODE_0000);
     	Whitebox.setInternalState(zosBatchJobSpy, "jobOutput", zosBatchJobOutputMock);
-        Mockito.doReturn(zosBatchJobOutputSpoolFileIteratorMock).when(zosBatchJobOutputMock).iterator();
-        Mockito.doReturn(true, false).when(zosBatchJobOutputSpoolFileIteratorMock).hasNext();
-        Mockito.doReturn(zosBatchJobOutputSpoolFileMock).when(zosBatchJobOutputSpoolFileIteratorMock).next();
-        Mockito.doReturn(FIXED_JOBNAME).when(zosBatchJobOutputSpoolFileMock).getJobname();
-        Mockito.doReturn(FIXED_JOBID).when(zosBatchJobOutputSpoolFileMock).getJobid();
-        Mockito.doReturn("").when(zosBatchJobOutputSpoolFileMock).getStepname();
-        Mockito.doReturn("").when(zosBatchJobOutputSpoolFileMock).getProcstep();
-        Mockito.doReturn(FIXED_DDNAME).when(zosBatchJobOutputSpoolFileMock).getDdname();
-        Mockito.doReturn("content").when(zosBatchJobOutputSpoolFileMock).getRecords();
         Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", false);
 
         String expectedMessage = "Archiving batch job " + FIXED_JOBNAME + "(" + FIXED_JOBID + ") to "+ FIXED_PATH_NAME;
@@ -597,16 +704,14 @@ public class TestRseapiZosBatchJobImpl {
         Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", true);
     	Mockito.doReturn(null, zosBatchJobOutputMock).when(zosBatchJobSpy).jobOutput();
     	Mockito.doReturn(zosBatchJobOutputMock).when(zosBatchJobSpy).retrieveOutput();
-        Mockito.doReturn(FIXED_STEPNAME).when(zosBatchJobOutputSpoolFileMock).getStepname();
-        Mockito.doReturn(FIXED_PROCSTEP).when(zosBatchJobOutputSpoolFileMock).getProcstep();
-        Mockito.doReturn(true, false).when(zosBatchJobOutputSpoolFileIteratorMock).hasNext();
 		
     	zosBatchJobSpy.saveOutputToResultsArchive(FIXED_PATH_NAME);
         Assert.assertEquals("saveOutputToTestResultsArchive() should log expected message", expectedMessage, logMessage);
+        Mockito.verify(archiverMock, Mockito.times(2)).archive(Mockito.eq(zosBatchJobOutputMock), Mockito.any());
+        Assert.assertTrue("saveOutputToTestResultsArchive() should set jobArchived to true", Whitebox.getInternalState(zosBatchJobSpy, "jobArchived"));
 
     	Mockito.doReturn(zosBatchJobOutputMock).when(zosBatchJobSpy).jobOutput();
-        Mockito.doReturn(true, false).when(zosBatchJobOutputSpoolFileIteratorMock).hasNext();
-        PowerMockito.doThrow(new ZosManagerException(EXCEPTION)).when(zosManagerMock).storeArtifact(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doThrow(new ZosBatchException(new ZosManagerException(EXCEPTION))).when(archiverMock).archive(Mockito.any(), Mockito.any());
         ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
     		zosBatchJobSpy.saveOutputToResultsArchive(FIXED_PATH_NAME);
     	});
@@ -623,6 +728,7 @@ public class TestRseapiZosBatchJobImpl {
         Mockito.when(rseapiResponseMockStatus.getContent()).thenReturn(getJsonObject());
         PowerMockito.doReturn(FIXED_CONTENT).when(zosBatchJobSpy).getOutputFileContent(Mockito.any());
     	zosBatchJobSpy.getOutput();
+    	Mockito.verify(zosBatchJobSpy, Mockito.times(0)).getOutputFileContent(Mockito.any());
     	
     	Whitebox.setInternalState(zosBatchJobSpy, "jobNotFound", true);
     	zosBatchJobSpy.getOutput();
@@ -764,6 +870,7 @@ public class TestRseapiZosBatchJobImpl {
     		zosBatchJobSpy.getOutputFileContent(FIXED_PATH);
     	});
     	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+        Mockito.verify(zosBatchManagerMock, Mockito.times(3)).releaseSpoolFileApiProcessor(Mockito.any(), Mockito.eq(rseapiApiProcessorMock));
     }
     
     @Test
@@ -787,6 +894,20 @@ public class TestRseapiZosBatchJobImpl {
     	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
     }
     
+    @Test
+    public void testNewSpoolFileReader() throws ZosBatchException, IOException {
+        PowerMockito.doReturn("R1\nR2\nR3\n").when(zosBatchJobSpy).getOutputFileContent(Mockito.any());
+        ISpoolFileReader reader = zosBatchJobSpy.newSpoolFileReader(FIXED_PATH);
+        Assert.assertEquals("readRecords() should return the whole spool file", "R1\nR2\nR3\n", reader.readRecords(0, 0));
+        Assert.assertEquals("readRecords() should return the requested records", "R2\n", reader.readRecords(1, 1));
+        Assert.assertEquals("readRecords() should return the remaining records", "R3\n", reader.readRecords(2, 5));
+        Assert.assertEquals("openRecords() should return the whole spool file", 9, reader.openRecords().available());
+        
+        PowerMockito.doReturn(null).when(zosBatchJobSpy).getOutputFileContent(Mockito.any());
+        Assert.assertNull("readRecords() should return null", reader.readRecords(0, 1));
+        Assert.assertEquals("openRecords() should return an empty stream", 0, reader.openRecords().available());
+    }
+    
     @Test
     public void testJclWithJobcard() throws ZosBatchManagerException {
         Whitebox.setInternalState(zosBatchJobSpy, "useSysaff", false);
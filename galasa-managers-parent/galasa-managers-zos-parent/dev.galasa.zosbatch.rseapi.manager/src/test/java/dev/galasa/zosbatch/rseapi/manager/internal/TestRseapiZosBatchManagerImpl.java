@@ -39,6 +39,9 @@ import dev.galasa.zosbatch.IZosBatch;
 import dev.galasa.zosbatch.IZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher;
+import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
+import dev.galasa.zosrseapi.RseapiManagerException;
 import dev.galasa.zosrseapi.internal.RseapiManagerImpl;
 
 @RunWith(PowerMockRunner.class)
@@ -76,6 +79,12 @@ public class TestRseapiZosBatchManagerImpl {
     @Mock
     private IZosImage zosImageMock;
 
+    @Mock
+    private IRseapiRestApiProcessor apiProcessorMock1;
+
+    @Mock
+    private IRseapiRestApiProcessor apiProcessorMock2;
+
     @Mock
     private IZosBatchJobname zosJobnameMock;
     
@@ -314,6 +323,51 @@ public class TestRseapiZosBatchManagerImpl {
         Assert.assertEquals("getZosBatch() should return the existing IZosBatch instance", zosBatch, zosBatch2);
     }
     
+    @Test
+    public void testGetJobStatusWatcher() throws ZosBatchException, ZosBatchManagerException {
+        Mockito.when(zosManagerMock.getZosBatchPropertyJobPollInterval(Mockito.any())).thenReturn(250);
+        Mockito.when(zosManagerMock.getZosBatchPropertyJobPollMaxInterval(Mockito.any())).thenReturn(10000);
+        ZosBatchJobStatusWatcher<RseapiZosBatchJobImpl> jobStatusWatcher = zosBatchManagerSpy.getJobStatusWatcher(zosImageMock);
+        Assert.assertNotNull("getJobStatusWatcher() should not be null", jobStatusWatcher);
+        Assert.assertEquals("getJobStatusWatcher() should return the existing instance", jobStatusWatcher, zosBatchManagerSpy.getJobStatusWatcher(zosImageMock));
+        Mockito.verify(zosManagerMock, Mockito.times(1)).getZosBatchPropertyJobPollInterval(Mockito.any());
+    }
+    
+    @Test
+    public void testGetJobStatusWatcherException() throws ZosBatchManagerException {
+        Mockito.when(zosManagerMock.getZosBatchPropertyJobPollInterval(Mockito.any())).thenThrow(new ZosBatchManagerException(EXCEPTION));
+        String expectedMessage = "Unable to get job poll interval property values";
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchManagerSpy.getJobStatusWatcher(zosImageMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testSpoolFileApiProcessorPool() throws Exception {
+        Mockito.when(rseapiManagerMock.newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenReturn(apiProcessorMock1, apiProcessorMock2);
+        Assert.assertEquals("takeSpoolFileApiProcessor() should return a dedicated processor", apiProcessorMock1, zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock));
+        Assert.assertEquals("takeSpoolFileApiProcessor() should not return a processor that is in use", apiProcessorMock2, zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock));
+        
+        zosBatchManagerSpy.releaseSpoolFileApiProcessor(zosImageMock, apiProcessorMock1);
+        Assert.assertEquals("takeSpoolFileApiProcessor() should reuse a released processor", apiProcessorMock1, zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock));
+        Mockito.verify(rseapiManagerMock, Mockito.times(2)).newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        
+        zosBatchManagerSpy.releaseSpoolFileApiProcessor(zosImageMock, apiProcessorMock1);
+        zosBatchManagerSpy.endOfTestRun();
+        Mockito.verify(apiProcessorMock1, Mockito.times(1)).close();
+        Mockito.verify(apiProcessorMock2, Mockito.times(1)).close();
+    }
+    
+    @Test
+    public void testGetSpoolFileApiProcessorException() throws Exception {
+        Mockito.when(rseapiManagerMock.newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenThrow(new RseapiManagerException(EXCEPTION));
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
     class DummyTestClass {
         @dev.galasa.zosbatch.ZosBatch(imageTag="TAG")
         public dev.galasa.zosbatch.IZosBatch zosBatch;
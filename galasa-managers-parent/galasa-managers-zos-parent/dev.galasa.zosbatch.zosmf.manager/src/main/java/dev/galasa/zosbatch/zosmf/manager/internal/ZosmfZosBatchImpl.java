@@ -25,10 +25,12 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zosbatch.IZosBatch;
 import dev.galasa.zosbatch.IZosBatchJob;
 import dev.galasa.zosbatch.IZosBatchJob.JobStatus;
+import dev.galasa.zosbatch.IZosBatchJobGroup;
 import dev.galasa.zosbatch.IZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
 import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.zosbatch.spi.ZosBatchJobGroup;
 import dev.galasa.zosmf.IZosmf.ZosmfCustomHeaders;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
@@ -76,6 +78,29 @@ public class ZosmfZosBatchImpl implements IZosBatch {
         
         return zosBatchJob.submitJob();
     }
+    
+    @Override
+    public @NotNull IZosBatchJobGroup submitJobs(@NotNull List<String> jcl) throws ZosBatchException {
+        List<ZosmfZosBatchJobImpl> jobs = new ArrayList<>();
+        int jobWaitTimeout;
+        try {
+            for (String jobJcl : jcl) {
+                IZosBatchJobname jobname = this.zosBatchManager.newZosBatchJobname(this.image);
+                ZosmfZosBatchJobImpl zosBatchJob = new ZosmfZosBatchJobImpl(this.zosBatchManager, this.image, jobname, jobJcl, new ZosBatchJobcard());
+                // The jobs are submitted and their output retrieved concurrently, so they cannot share server connections
+                zosBatchJob.useDedicatedApiProcessor();
+                this.zosBatchJobs.add(zosBatchJob);
+                jobs.add(zosBatchJob);
+            }
+            jobWaitTimeout = this.zosBatchManager.getZosManager().getZosBatchPropertyJobWaitTimeout(this.image.getImageID());
+        } catch (ZosBatchManagerException e) {
+            throw new ZosBatchException(e);
+        }
+        
+        ZosBatchJobGroup<ZosmfZosBatchJobImpl> jobGroup = new ZosBatchJobGroup<>(jobs, this.zosBatchManager.getJobStatusWatcher(this.image), jobWaitTimeout);
+        jobGroup.submit(ZosmfZosBatchJobImpl::submitJob);
+        return jobGroup;
+    }
 
 
     @Override
@@ -106,6 +131,7 @@ public class ZosmfZosBatchImpl implements IZosBatch {
 					    	if (zosBatchJobImpl.shouldCleanup()) {
 					    		zosBatchJobImpl.purge();
 					    	}
+					    	zosBatchJobImpl.useSharedApiProcessor();
 					        iterator.remove();
 				    	}
 				    } else {
@@ -117,6 +143,7 @@ public class ZosmfZosBatchImpl implements IZosBatch {
 					            zosBatchJobImpl.purge();
 					        }
 				    	}
+				    	zosBatchJobImpl.useSharedApiProcessor();
 			            iterator.remove();
 				    }
 				}
@@ -5,14 +5,19 @@
  */
 package dev.galasa.zosbatch.zosmf.manager.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import javax.validation.constraints.NotNull;
 
@@ -32,10 +37,13 @@ import dev.galasa.zosbatch.IZosBatchJob;
 import dev.galasa.zosbatch.IZosBatchJobOutput;
 import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
 import dev.galasa.zosbatch.IZosBatchJobname;
+import dev.galasa.zosbatch.IZosBatchSpoolFileTail;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
 import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
+import dev.galasa.zosbatch.spi.ZosBatchSpoolFileTail;
 import dev.galasa.zosmf.IZosmf.ZosmfCustomHeaders;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
@@ -140,6 +148,32 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
         }
     }
     
+    /**
+     * Use zOSMF server connections that are not shared with any other job, so that this job can be submitted, 
+     * and its output retrieved, on a different thread to other jobs
+     * @throws ZosBatchException
+     */
+    protected void useDedicatedApiProcessor() throws ZosBatchException {
+        try {
+            this.zosmfApiProcessor = this.zosBatchManager.getZosmfManager().newDedicatedZosmfRestApiProcessor(this.jobImage, this.zosBatchManager.getZosManager().getZosBatchPropertyBatchRestrictToImage(this.jobImage.getImageID()));
+        } catch (ZosmfManagerException | ZosBatchManagerException e) {
+            throw new ZosBatchException(e);
+        }
+    }
+    
+    /**
+     * Close any dedicated zOSMF server connections used by this job and return to the shared connections
+     * @throws ZosBatchException
+     */
+    protected void useSharedApiProcessor() throws ZosBatchException {
+        this.zosmfApiProcessor.close();
+        try {
+            this.zosmfApiProcessor = this.zosBatchManager.getZosmfManager().newZosmfRestApiProcessor(this.jobImage, this.zosBatchManager.getZosManager().getZosBatchPropertyBatchRestrictToImage(this.jobImage.getImageID()));
+        } catch (ZosmfManagerException | ZosBatchManagerException e) {
+            throw new ZosBatchException(e);
+        }
+    }
+    
     public @NotNull IZosBatchJob submitJob() throws ZosBatchException {
         HashMap<String, String> headers = new HashMap<>();
         headers.put(ZosmfCustomHeaders.X_IBM_JOB_MODIFY_VERSION.toString(), "2.0");
@@ -255,27 +289,15 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
         }
         logger.info("Waiting up to " + jobWaitTimeout + " second(s) for "+ this.jobid + " " + this.jobname.getName() + " to complete");
         
-        LocalDateTime timeoutTime = LocalDateTime.now().plusSeconds(jobWaitTimeout);
-        while (LocalDateTime.now().isBefore(timeoutTime)) {
-            updateJobStatus();
-            if (this.jobNotFound) {
-                return Integer.MIN_VALUE;
-            }
-            try {
-                if (isComplete()) {
-                    String[] rc = this.retcode.split(" ");
-                    if (rc.length == 2) {
-                        return StringUtils.isNumeric(rc[1]) ? Integer.parseInt(rc[1]) : Integer.MIN_VALUE;
-                    }
-                    return Integer.MIN_VALUE;
-                }
-                
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                logger.error("waitForJob Interrupted", e);
-                Thread.currentThread().interrupt();
-                throw new ZosBatchException(e);
-            }
+        if (!isComplete() && !this.zosBatchManager.getJobStatusWatcher(this.jobImage).waitForJob(this, this.jobWaitTimeout)) {
+            return Integer.MIN_VALUE;
+        }
+        if (this.jobNotFound) {
+            return Integer.MIN_VALUE;
+        }
+        String[] rc = this.retcode.split(" ");
+        if (rc.length == 2) {
+            return StringUtils.isNumeric(rc[1]) ? Integer.parseInt(rc[1]) : Integer.MIN_VALUE;
         }
         return Integer.MIN_VALUE;
     }    
@@ -292,7 +314,11 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
 	@Override
 	public String retrieveOutputAsString() throws ZosBatchException {
 		StringBuilder output = new StringBuilder();
-		retrieveOutput().getSpoolFiles().forEach(records -> output.append(records.getRecords()));
+		try {
+			retrieveOutput().getSpoolFiles().forEach(records -> output.append(records.getRecords()));
+		} catch (IllegalStateException e) {
+			throw new ZosBatchException(e.getMessage(), e.getCause());
+		}
         return output.toString();		
 	}
     
@@ -322,6 +348,14 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
         return null;
     }
 
+    @Override
+    public IZosBatchSpoolFileTail tail(@NotNull String ddname) throws ZosBatchException {
+        if (!submitted()) {
+            throw new ZosBatchException(LOG_JOB_NOT_SUBMITTED);
+        }
+        return new ZosBatchSpoolFileTail(this, ddname);
+    }
+
     @Override
     public void saveOutputToResultsArchive(String rasPath) throws ZosBatchException {
         if (jobOutput() == null) {
@@ -330,30 +364,7 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
         Path artifactPath = this.zosBatchManager.getArtifactsRoot().resolve(rasPath);
 		logger.info("Archiving batch job " + this.toString() + " to " + artifactPath.toString());
         
-        Iterator<IZosBatchJobOutputSpoolFile> iterator = jobOutput().iterator();
-        while (iterator.hasNext()) {
-            IZosBatchJobOutputSpoolFile spoolFile = iterator.next();
-            StringBuilder name = new StringBuilder();
-            name.append(spoolFile.getJobname());
-            name.append("_");
-            name.append(spoolFile.getJobid());
-            if (!spoolFile.getStepname().isEmpty()){
-                name.append("_");
-                name.append(spoolFile.getStepname());
-            }
-            if (!spoolFile.getProcstep().isEmpty()){
-                name.append("_");
-                name.append(spoolFile.getProcstep());
-            }
-            name.append("_");
-            name.append(spoolFile.getDdname());
-            String fileName = this.zosBatchManager.getZosManager().buildUniquePathName(artifactPath, name.toString());
-            try {
-				this.zosBatchManager.getZosManager().storeArtifact(artifactPath.resolve(fileName), spoolFile.getRecords(), ResultArchiveStoreContentType.TEXT);
-			} catch (ZosManagerException e) {
-				throw new ZosBatchException(e);
-			}
-        }
+        this.zosBatchManager.getZosManager().getZosBatchSpoolFileArchiver(this.jobImage).archive(jobOutput(), artifactPath);
         if (isComplete()) {
         	this.jobArchived = true;
         }
@@ -521,7 +532,7 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
         return this.jobPurged;
     }
 
-    public IZosBatchJobOutput jobOutput() {
+    public IZosBatchJobOutputSpi jobOutput() {
         return this.jobOutput;
     }
 
@@ -559,21 +570,7 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
             
         logger.trace(responseBody);
         if (response.getStatusCode() == HttpStatus.SC_OK) {
-            this.jobNotFound = false;
-            this.owner = jsonNull(responseBody, PROP_OWNER);
-            this.type = jsonNull(responseBody, PROP_TYPE);
-            this.statusString = jsonNull(responseBody, PROP_STATUS);
-            if (this.statusString != null && "OUTPUT".equals(this.statusString)) {
-                this.jobComplete = true;
-            }
-            this.status = JobStatus.valueOfLabel(statusString);
-            String retcodeProperty = jsonNull(responseBody, PROP_RETCODE);
-            if (retcodeProperty != null) {
-                this.retcode = retcodeProperty;
-            } else {
-                this.retcode = StringUtils.repeat(QUERY, 4);
-            }
-            logger.trace(jobStatus());
+            setJobStatus(responseBody);
         } else {
             if (response.getStatusCode() == HttpStatus.SC_BAD_REQUEST &&
                     jsonZero(responseBody, PROP_RC) == 4 &&
@@ -590,15 +587,138 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
         }            
     }
 
+    protected void setJobStatus(JsonObject responseBody) {
+        this.jobNotFound = false;
+        this.owner = jsonNull(responseBody, PROP_OWNER);
+        this.type = jsonNull(responseBody, PROP_TYPE);
+        this.statusString = jsonNull(responseBody, PROP_STATUS);
+        if (this.statusString != null && "OUTPUT".equals(this.statusString)) {
+            this.jobComplete = true;
+        }
+        this.status = JobStatus.valueOfLabel(statusString);
+        String retcodeProperty = jsonNull(responseBody, PROP_RETCODE);
+        if (retcodeProperty != null) {
+            this.retcode = retcodeProperty;
+        } else {
+            this.retcode = StringUtils.repeat(QUERY, 4);
+        }
+        logger.trace(jobStatus());
+    }
+
+    /**
+     * Update the status of a list of jobs. Jobs with the same owner and a common job name prefix are listed in a single
+     * request, so the list is never unscoped. Other jobs, and a job missing from the list, are requested individually
+     * @param jobs the jobs that have not ended
+     * @return the jobs that have ended or cannot be found
+     * @throws ZosBatchException
+     */
+    protected static List<ZosmfZosBatchJobImpl> pollJobStatus(List<ZosmfZosBatchJobImpl> jobs) throws ZosBatchException {
+        Map<String, List<ZosmfZosBatchJobImpl>> jobsByOwner = new LinkedHashMap<>();
+        for (ZosmfZosBatchJobImpl job : jobs) {
+            jobsByOwner.computeIfAbsent(job.owner, k -> new ArrayList<>()).add(job);
+        }
+        List<ZosmfZosBatchJobImpl> endedJobs = new ArrayList<>();
+        for (Map.Entry<String, List<ZosmfZosBatchJobImpl>> entry : jobsByOwner.entrySet()) {
+            List<ZosmfZosBatchJobImpl> ownerJobs = entry.getValue();
+            String prefix = StringUtils.getCommonPrefix(ownerJobs.stream().map(job -> job.jobname.getName()).toArray(String[]::new));
+            boolean listable = entry.getKey() != null && ownerJobs.size() > 1 && !prefix.isEmpty();
+            Map<String, JsonObject> jobStatuses = listable ? ownerJobs.get(0).listJobStatus(entry.getKey(), ownerJobs) : new HashMap<>();
+            for (ZosmfZosBatchJobImpl job : ownerJobs) {
+                JsonObject jobStatus = jobStatuses.get(job.jobid);
+                if (jobStatus != null) {
+                    job.setJobStatus(jobStatus);
+                } else {
+                    job.updateJobStatus();
+                }
+                if (job.jobComplete || job.jobNotFound) {
+                    endedJobs.add(job);
+                }
+            }
+        }
+        return endedJobs;
+    }
+
+    protected Map<String, JsonObject> listJobStatus(String jobOwner, List<ZosmfZosBatchJobImpl> jobs) throws ZosBatchException {
+        String[] jobnames = jobs.stream().map(job -> job.jobname.getName()).toArray(String[]::new);
+        String listJobsPath = RESTJOBS_PATH + QUERY + "owner=" + jobOwner + "&prefix=" + StringUtils.getCommonPrefix(jobnames) + "*";
+        HashMap<String, String> headers = new HashMap<>();
+        headers.put(ZosmfCustomHeaders.X_CSRF_ZOSMF_HEADER.toString(), "");
+        
+        IZosmfResponse response;
+        try {
+            response = this.zosmfApiProcessor.sendRequest(ZosmfRequestType.GET, listJobsPath, headers, null, new ArrayList<>(Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), true);
+        } catch (ZosmfException e) {
+            throw new ZosBatchException(e);
+        }
+        
+        Map<String, JsonObject> jobStatuses = new HashMap<>();
+        if (response.getStatusCode() == HttpStatus.SC_OK) {
+            JsonArray jsonArray;
+            try {
+                jsonArray = response.getJsonArrayContent();
+            } catch (ZosmfException e) {
+                throw new ZosBatchException(e);
+            }
+            logger.trace(jsonArray);
+            for (JsonElement jsonElement : jsonArray) {
+                JsonObject responseBody = jsonElement.getAsJsonObject();
+                jobStatuses.put(jsonNull(responseBody, PROP_JOBID), responseBody);
+            }
+        } else {
+            // Error case - BAD_REQUEST or INTERNAL_SERVER_ERROR
+            JsonObject responseBody;
+            try {
+                responseBody = response.getJsonContent();
+            } catch (ZosmfException e) {
+                throw new ZosBatchException(e);
+            }
+            String displayMessage = buildErrorString("List job status", responseBody); 
+            logger.error(displayMessage);
+            throw new ZosBatchException(displayMessage);
+        }
+        return jobStatuses;
+    }
+
     protected void addOutputFileContent(JsonObject responseBody, String path) throws ZosBatchException {
+        // Only the spool file metadata is retrieved here, the records are retrieved when first requested, possibly
+        // on a spool file archiver thread, so with a processor from the spool file pool rather than the job's processor
+        ISpoolFileReader reader = new ISpoolFileReader() {
+            @Override
+            public String readRecords(long first, long count) throws ZosBatchException {
+                return readOutputFileRecords(path, first, count);
+            }
+            
+            @Override
+            public InputStream openRecords() throws ZosBatchException {
+                return openOutputFileRecords(path);
+            }
+        };
+        if (responseBody != null) {
+            String stepname = jsonNull(responseBody, "stepname");
+            String procstep = jsonNull(responseBody, "procstep");
+            String ddname = responseBody.get("ddname").getAsString();
+            this.jobOutput.addSpoolFile(stepname, procstep, ddname, reader);
+        } else {
+            this.jobOutput.addJcl(reader);
+        }
+    }
+
+    protected String readOutputFileRecords(String path, long first, long count) throws ZosBatchException {
     
         HashMap<String, String> headers = new HashMap<>();
         headers.put(ZosmfCustomHeaders.X_CSRF_ZOSMF_HEADER.toString(), "");
+        if (count > 0) {
+            headers.put(ZosmfCustomHeaders.X_IBM_RECORD_RANGE.toString(), first + "," + count);
+        }
         IZosmfResponse response;
+        IZosmfRestApiProcessor spoolFileApiProcessor = this.zosBatchManager.takeSpoolFileApiProcessor(this.jobImage);
         try {
-            response = this.zosmfApiProcessor.sendRequest(ZosmfRequestType.GET, path, headers, null, new ArrayList<>(Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), true);
+            response = spoolFileApiProcessor.sendRequest(ZosmfRequestType.GET, path, headers, null, new ArrayList<>(Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), true);
         } catch (ZosmfException e) {
             throw new ZosBatchException(e);
+        } finally {
+            // The converted response content has been read, so the connections are free
+            this.zosBatchManager.releaseSpoolFileApiProcessor(this.jobImage, spoolFileApiProcessor);
         }
     
         String fileOutput;
@@ -617,23 +737,81 @@ public class ZosmfZosBatchJobImpl implements IZosBatchJob {
                 throw new ZosBatchException(e);
             }
             if (this.jobComplete && spoolFileNotFound(errorResponseBody)) {
-                return; 
+                return ""; 
             } else {
                 String displayMessage = buildErrorString("Retrieve job output", errorResponseBody);
                 logger.error(displayMessage);
                 throw new ZosBatchException(displayMessage);
             }
         }
-        if (responseBody != null) {
-            String stepname = jsonNull(responseBody, "stepname");
-            String procstep = jsonNull(responseBody, "procstep");
-            String ddname = responseBody.get("ddname").getAsString();
-            this.jobOutput.addSpoolFile(stepname, procstep, ddname, fileOutput);
-        } else {
-            this.jobOutput.addJcl(fileOutput);
+        return fileOutput;
+    }
+
+    protected InputStream openOutputFileRecords(String path) throws ZosBatchException {
+    
+        HashMap<String, String> headers = new HashMap<>();
+        headers.put(ZosmfCustomHeaders.X_CSRF_ZOSMF_HEADER.toString(), "");
+        IZosmfResponse response;
+        IZosmfRestApiProcessor spoolFileApiProcessor = this.zosBatchManager.takeSpoolFileApiProcessor(this.jobImage);
+        boolean streaming = false;
+        try {
+            try {
+                response = spoolFileApiProcessor.sendRequest(ZosmfRequestType.GET, path, headers, null, new ArrayList<>(Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), false);
+            } catch (ZosmfException e) {
+                throw new ZosBatchException(e);
+            }
+            
+            if (response.getStatusCode() != HttpStatus.SC_OK) {
+                // Error case
+                JsonObject errorResponseBody;
+                try {
+                    errorResponseBody = response.getJsonContent();
+                } catch (ZosmfException e) {
+                    throw new ZosBatchException(e);
+                }
+                if (this.jobComplete && spoolFileNotFound(errorResponseBody)) {
+                    return new ByteArrayInputStream(new byte[0]); 
+                }
+                String displayMessage = buildErrorString("Retrieve job output", errorResponseBody);
+                logger.error(displayMessage);
+                throw new ZosBatchException(displayMessage);
+            }
+            try {
+                Object content = response.getContent();
+                if (content instanceof InputStream) {
+                    // The records are read from the connection, so the processor is only released when the stream is closed
+                    streaming = true;
+                    return releaseOnClose((InputStream) content, spoolFileApiProcessor);
+                }
+                return new ByteArrayInputStream(response.getTextContent().getBytes());
+            } catch (ZosmfException e) {
+                throw new ZosBatchException(e);
+            }
+        } finally {
+            if (!streaming) {
+                this.zosBatchManager.releaseSpoolFileApiProcessor(this.jobImage, spoolFileApiProcessor);
+            }
         }
     }
 
+    protected InputStream releaseOnClose(InputStream records, IZosmfRestApiProcessor spoolFileApiProcessor) {
+        return new FilterInputStream(records) {
+            private boolean closed;
+            
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (!this.closed) {
+                        this.closed = true;
+                        zosBatchManager.releaseSpoolFileApiProcessor(jobImage, spoolFileApiProcessor);
+                    }
+                }
+            }
+        };
+    }
+
     protected boolean spoolFileNotFound(JsonObject errorResponseBody) {
         return (jsonZero(errorResponseBody, PROP_CATEGORY) == 6 &&
                 jsonZero(errorResponseBody, PROP_RC) == 4 &&
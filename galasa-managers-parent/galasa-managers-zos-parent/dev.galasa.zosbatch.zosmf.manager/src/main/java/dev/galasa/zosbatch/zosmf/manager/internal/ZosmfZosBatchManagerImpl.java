@@ -8,7 +8,9 @@ package dev.galasa.zosbatch.zosmf.manager.internal;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -38,6 +40,9 @@ import dev.galasa.zosbatch.ZosBatchField;
 import dev.galasa.zosbatch.ZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.spi.IZosBatchSpi;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher;
+import dev.galasa.zosmf.IZosmfRestApiProcessor;
+import dev.galasa.zosmf.ZosmfManagerException;
 import dev.galasa.zosmf.spi.IZosmfManagerSpi;
 
 /**
@@ -65,6 +70,9 @@ public class ZosmfZosBatchManagerImpl extends AbstractManager implements IZosBat
 
     private final HashMap<String, ZosmfZosBatchImpl> taggedZosBatches = new HashMap<>();
     private final HashMap<String, ZosmfZosBatchImpl> zosBatches = new HashMap<>();
+    private final HashMap<String, ZosBatchJobStatusWatcher<ZosmfZosBatchJobImpl>> jobStatusWatchers = new HashMap<>();
+    private final HashMap<String, LinkedList<IZosmfRestApiProcessor>> idleSpoolFileApiProcessors = new HashMap<>();
+    private final List<IZosmfRestApiProcessor> spoolFileApiProcessors = new ArrayList<>();
 
     private Path artifactsRoot;
     public Path getArtifactsRoot() {
@@ -200,6 +208,7 @@ public class ZosmfZosBatchManagerImpl extends AbstractManager implements IZosBat
         } catch (ZosBatchException e) {
             logger.error("Problem in endOfTestRun()", e);
         }
+        closeSpoolFileApiProcessors();
     }
     
     protected void cleanup(boolean endOfTest) throws ZosBatchException {
@@ -263,4 +272,77 @@ public class ZosmfZosBatchManagerImpl extends AbstractManager implements IZosBat
             return zosBatch;
         }
     }
+
+    /**
+     * Returns the {@link ZosBatchJobStatusWatcher} shared by all jobs on a zOS image
+     * @param image zOS Image
+     * @return
+     * @throws ZosBatchException
+     */
+    protected ZosBatchJobStatusWatcher<ZosmfZosBatchJobImpl> getJobStatusWatcher(IZosImage image) throws ZosBatchException {
+        synchronized (this.jobStatusWatchers) {
+            ZosBatchJobStatusWatcher<ZosmfZosBatchJobImpl> jobStatusWatcher = this.jobStatusWatchers.get(image.getImageID());
+            if (jobStatusWatcher == null) {
+                try {
+                    jobStatusWatcher = new ZosBatchJobStatusWatcher<>(ZosmfZosBatchJobImpl::pollJobStatus, 
+                            zosManager.getZosBatchPropertyJobPollInterval(image.getImageID()), 
+                            zosManager.getZosBatchPropertyJobPollMaxInterval(image.getImageID()));
+                } catch (ZosBatchManagerException e) {
+                    throw new ZosBatchException("Unable to get job poll interval property values", e);
+                }
+                this.jobStatusWatchers.put(image.getImageID(), jobStatusWatcher);
+            }
+            return jobStatusWatcher;
+        }
+    }
+
+    /**
+     * Takes an {@link IZosmfRestApiProcessor} used to retrieve spool files from the pool for the image. Spool files are retrieved at 
+     * the same time by the spool file archiver threads, so each retrieval has its own zOSMF server connections. The 
+     * processor is returned to the pool with {@link #releaseSpoolFileApiProcessor(IZosImage, IZosmfRestApiProcessor)} when the 
+     * retrieval is complete
+     * @param image zOS Image
+     * @return
+     * @throws ZosBatchException
+     */
+    protected IZosmfRestApiProcessor takeSpoolFileApiProcessor(IZosImage image) throws ZosBatchException {
+        synchronized (this.spoolFileApiProcessors) {
+            LinkedList<IZosmfRestApiProcessor> idleProcessors = this.idleSpoolFileApiProcessors.get(image.getImageID());
+            if (idleProcessors != null && !idleProcessors.isEmpty()) {
+                return idleProcessors.removeFirst();
+            }
+        }
+        IZosmfRestApiProcessor processor;
+        try {
+            processor = this.zosmfManager.newDedicatedZosmfRestApiProcessor(image, zosManager.getZosBatchPropertyBatchRestrictToImage(image.getImageID()));
+        } catch (ZosmfManagerException | ZosBatchManagerException e) {
+            throw new ZosBatchException(e);
+        }
+        synchronized (this.spoolFileApiProcessors) {
+            this.spoolFileApiProcessors.add(processor);
+        }
+        return processor;
+    }
+
+    /**
+     * Returns a processor taken by {@link #takeSpoolFileApiProcessor(IZosImage)} to the pool for the image
+     * @param image zOS Image
+     * @param processor the processor
+     */
+    protected void releaseSpoolFileApiProcessor(IZosImage image, IZosmfRestApiProcessor processor) {
+        synchronized (this.spoolFileApiProcessors) {
+            this.idleSpoolFileApiProcessors.computeIfAbsent(image.getImageID(), key -> new LinkedList<>()).addFirst(processor);
+        }
+    }
+
+    /**
+     * Close the zOSMF server connections of all the processors used to retrieve spool files
+     */
+    protected void closeSpoolFileApiProcessors() {
+        synchronized (this.spoolFileApiProcessors) {
+            this.spoolFileApiProcessors.forEach(IZosmfRestApiProcessor::close);
+            this.spoolFileApiProcessors.clear();
+            this.idleSpoolFileApiProcessors.clear();
+        }
+    }
 }
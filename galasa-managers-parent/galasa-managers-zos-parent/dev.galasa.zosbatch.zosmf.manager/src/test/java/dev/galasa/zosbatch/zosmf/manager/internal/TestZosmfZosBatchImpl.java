@@ -12,6 +12,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -37,6 +38,7 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosbatch.IZosBatchJob;
 import dev.galasa.zosbatch.IZosBatchJob.JobStatus;
+import dev.galasa.zosbatch.IZosBatchJobGroup;
 import dev.galasa.zosbatch.IZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
@@ -44,6 +46,7 @@ import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.internal.properties.InputClass;
 import dev.galasa.zosbatch.internal.properties.MsgClass;
 import dev.galasa.zosbatch.internal.properties.MsgLevel;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
 import dev.galasa.zosmf.IZosmfRestApiProcessor;
@@ -173,6 +176,7 @@ public class TestZosmfZosBatchImpl {
         Mockito.when(MsgLevel.get(Mockito.any())).thenReturn("X");
 
         PowerMockito.doReturn(zosmfApiProcessorMock).when(zosmfManagerMock).newZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        PowerMockito.doReturn(zosmfApiProcessorMock).when(zosmfManagerMock).newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
         Mockito.when(zosBatchManagerMock.getZosmfManager()).thenReturn(zosmfManagerMock);
 
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.PUT_TEXT), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockSubmit);
@@ -208,6 +212,35 @@ public class TestZosmfZosBatchImpl {
         Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
     }
     
+    @Test
+    public void testSubmitJobs() throws Exception {
+        @SuppressWarnings("unchecked")
+        ZosBatchJobStatusWatcher<ZosmfZosBatchJobImpl> watcherMock = Mockito.mock(ZosBatchJobStatusWatcher.class);
+        Mockito.when(watcherMock.waitForJob(Mockito.any(), Mockito.anyLong())).thenReturn(false);
+        Mockito.when(zosBatchManagerMock.getJobStatusWatcher(Mockito.any())).thenReturn(watcherMock);
+        
+        IZosBatchJobGroup jobGroup = zosBatchSpy.submitJobs(Arrays.asList("JCL1", "JCL2", "JCL3"));
+        Assert.assertEquals("submitJobs() should submit a job for each JCL", 3, jobGroup.getJobs().size());
+        Mockito.verify(zosmfManagerMock, Mockito.times(3)).newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        for (IZosBatchJob zosBatchJob : jobGroup.getJobs()) {
+            Assert.assertEquals("getJobId() should return FIXED_JOBID", FIXED_JOBID, zosBatchJob.getJobId());
+            Mockito.verify(watcherMock, Mockito.times(1)).watch((ZosmfZosBatchJobImpl) zosBatchJob);
+            Assert.assertNotNull("getCompletion() should return the job future", jobGroup.getCompletion(zosBatchJob));
+        }
+        Assert.assertEquals("submitted jobs should be cleaned up", 3, ((List<?>) Whitebox.getInternalState(zosBatchSpy, "zosBatchJobs")).size());
+        
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	jobGroup.waitForAll(10);
+        });
+        Assert.assertTrue("exception should contain expected message", expectedException.getMessage().startsWith("Timeout waiting for job"));
+
+        Mockito.doThrow(new ZosBatchException(EXCEPTION)).when(zosBatchManagerMock).newZosBatchJobname(Mockito.any(IZosImage.class));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchSpy.submitJobs(Arrays.asList("JCL"));
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
     @Test
     public void testGetJobs() throws Exception {
         Mockito.doReturn(zosBatchJobListMock).when(zosBatchSpy).getBatchJobs(Mockito.any(), Mockito.any());
@@ -459,6 +492,25 @@ public class TestZosmfZosBatchImpl {
         String expectedMessage = "Problem in cleanup phase";
 		Assert.assertEquals("cleanup(true) should log expected message", expectedMessage, logMessage);
     }
+    
+    @Test
+    public void testCleanupUsesSharedApiProcessor() throws Exception {
+        List<ZosmfZosBatchJobImpl> zosBatchJobs = new ArrayList<>();
+        Mockito.when(zosBatchJobMock.submitted()).thenReturn(true);
+        Mockito.when(zosBatchJobMock.isComplete()).thenReturn(true);
+        Mockito.when(zosBatchJobMock.getStatus()).thenReturn(JobStatus.OUTPUT);
+        Mockito.doThrow(new ZosBatchException(EXCEPTION)).when(zosBatchJobMock).archiveJobOutput();
+        zosBatchJobs.add(zosBatchJobMock);
+        Whitebox.setInternalState(zosBatchSpy, "zosBatchJobs", zosBatchJobs);
+        zosBatchSpy.cleanup(true);
+        Assert.assertEquals("zosBatchJobs should have 1 entry", 1, zosBatchJobs.size());
+        Mockito.verify(zosBatchJobMock, Mockito.times(0)).useSharedApiProcessor();
+        
+        Mockito.doNothing().when(zosBatchJobMock).archiveJobOutput();
+        zosBatchSpy.cleanup(true);
+        Assert.assertEquals("zosBatchJobs should have 0 entries", 0, zosBatchJobs.size());
+        Mockito.verify(zosBatchJobMock, Mockito.times(1)).useSharedApiProcessor();
+    }
    
     private JsonObject getJsonObject() {
         JsonObject responseBody = new JsonObject();
@@ -5,13 +5,16 @@
  */
 package dev.galasa.zosbatch.zosmf.manager.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -43,10 +46,15 @@ import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosbatch.IZosBatchJob.JobStatus;
 import dev.galasa.zosbatch.IZosBatchJobOutputSpoolFile;
 import dev.galasa.zosbatch.IZosBatchJobname;
+import dev.galasa.zosbatch.IZosBatchSpoolFileTail;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchJobcard;
 import dev.galasa.zosbatch.ZosBatchManagerException;
 import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi;
+import dev.galasa.zosbatch.spi.IZosBatchJobOutputSpi.ISpoolFileReader;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher;
+import dev.galasa.zosbatch.spi.ZosBatchSpoolFileArchiver;
+import dev.galasa.zosmf.IZosmf.ZosmfCustomHeaders;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
 import dev.galasa.zosmf.IZosmfRestApiProcessor;
@@ -117,6 +125,7 @@ public class TestZosmfZosBatchJobImpl {
     
     private static final String FIXED_OWNER = "USERID";
     
+    
     private static final String FIXED_JOBCARD = "//" + FIXED_JOBNAME + " JOB \n";
     
     private static final String FIXED_TYPE = "TYP";
@@ -180,12 +189,15 @@ public class TestZosmfZosBatchJobImpl {
         Mockito.when(zosBatchManagerMock.getArtifactsRoot()).thenReturn(archivePathMock);
 
         PowerMockito.doReturn(zosmfApiProcessorMock).when(zosmfManagerMock).newZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        Mockito.when(zosBatchManagerMock.takeSpoolFileApiProcessor(Mockito.any())).thenReturn(zosmfApiProcessorMock);
         Mockito.when(zosBatchManagerMock.getZosmfManager()).thenReturn(zosmfManagerMock);
         Mockito.when(zosBatchManagerMock.getZosManager()).thenReturn(zosManagerMock);
         Mockito.when(zosManagerMock.buildUniquePathName(Mockito.any(), Mockito.any())).thenReturn(FIXED_PATH_NAME);
         
         Mockito.when(zosBatchJobcardMock.getJobcard(Mockito.any(), Mockito.any())).thenReturn(FIXED_JOBCARD);
         
+        Mockito.when(zosBatchManagerMock.getJobStatusWatcher(Mockito.any())).thenReturn(new ZosBatchJobStatusWatcher<>(ZosmfZosBatchJobImpl::pollJobStatus, 1, 10));
+        
         zosBatchJob = new ZosmfZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock);
         zosBatchJobSpy = Mockito.spy(zosBatchJob);
     }
@@ -201,6 +213,18 @@ public class TestZosmfZosBatchJobImpl {
         Assert.assertEquals("getJobname() should return the supplied job name", FIXED_JOBNAME, zosBatchJobSpy.getJobname().getName());
     }
     
+    @Test
+    public void testUseSharedApiProcessor() throws Exception {
+        IZosmfRestApiProcessor dedicatedApiProcessorMock = Mockito.mock(IZosmfRestApiProcessor.class);
+        PowerMockito.doReturn(dedicatedApiProcessorMock).when(zosmfManagerMock).newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        zosBatchJob.useDedicatedApiProcessor();
+        Assert.assertEquals("useDedicatedApiProcessor() should replace the shared processor", dedicatedApiProcessorMock, Whitebox.getInternalState(zosBatchJob, "zosmfApiProcessor"));
+        
+        zosBatchJob.useSharedApiProcessor();
+        Mockito.verify(dedicatedApiProcessorMock, Mockito.times(1)).close();
+        Assert.assertEquals("useSharedApiProcessor() should restore the shared processor", zosmfApiProcessorMock, Whitebox.getInternalState(zosBatchJob, "zosmfApiProcessor"));
+    }
+    
     @Test
     public void testConstructorJobWaitTimeoutException() throws ZosBatchManagerException {
         String expectedMessage = "Unable to get job timeout property value";
@@ -388,26 +412,88 @@ public class TestZosmfZosBatchJobImpl {
         Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenReturn(responseBody);
         Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
         Assert.assertEquals("waitForJob() should return zero", 0, zosBatchJobSpy.waitForJob());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(1)).updateJobStatus();
 
-        responseBody = getJsonObject();
-        responseBody.addProperty("retcode", FIXED_RETCODE_0020);
-        Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenReturn(responseBody);
-        Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        Whitebox.setInternalState(zosBatchJobSpy, "retcode", FIXED_RETCODE_0020);
         Assert.assertEquals("waitForJob() should return the supplied value", 20, zosBatchJobSpy.waitForJob());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(1)).updateJobStatus();
         
-        responseBody.addProperty("retcode", "CC UNKNOWN");
+        Whitebox.setInternalState(zosBatchJobSpy, "retcode", "CC UNKNOWN");
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
 
-        responseBody.remove("retcode");
+        Whitebox.setInternalState(zosBatchJobSpy, "retcode", "????");
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
 
-        Mockito.doReturn(false).when(zosBatchJobSpy).isComplete();
+        Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", false);
+        Mockito.doNothing().when(zosBatchJobSpy).updateJobStatus();
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
 
         Whitebox.setInternalState(zosBatchJobSpy, "jobNotFound", true);
-        Mockito.doNothing().when(zosBatchJobSpy).updateJobStatus();
         Assert.assertEquals("waitForJob() should return the Integer.MIN_VALUE", Integer.MIN_VALUE, zosBatchJobSpy.waitForJob());
     }
+    
+    @Test
+    public void testPollJobStatus() throws ZosBatchException, ZosmfException {
+        ZosmfZosBatchJobImpl zosBatchJob2 = new ZosmfZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock);
+        ZosmfZosBatchJobImpl zosBatchJobSpy2 = Mockito.spy(zosBatchJob2);
+        Whitebox.setInternalState(zosBatchJobSpy, "jobid", FIXED_JOBID);
+        Whitebox.setInternalState(zosBatchJobSpy, "owner", FIXED_OWNER);
+        Whitebox.setInternalState(zosBatchJobSpy2, "jobid", "JOB00002");
+        Whitebox.setInternalState(zosBatchJobSpy2, "owner", FIXED_OWNER);
+        Mockito.doNothing().when(zosBatchJobSpy2).updateJobStatus();
+        
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockStatus);
+        Mockito.when(zosmfResponseMockStatus.getJsonArrayContent()).thenReturn(getJsonArray());
+        Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        
+        List<ZosmfZosBatchJobImpl> endedJobs = ZosmfZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy, zosBatchJobSpy2));
+        Assert.assertEquals("pollJobStatus() should return the ended jobs", Arrays.asList(zosBatchJobSpy), endedJobs);
+        Assert.assertEquals("pollJobStatus() should update the job status", FIXED_RETCODE_0000, zosBatchJobSpy.getRetcode());
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.eq("/zosmf/restjobs/jobs?owner=" + FIXED_OWNER + "&prefix=" + FIXED_JOBNAME + "*"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(0)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy2, Mockito.times(1)).updateJobStatus();
+        
+        endedJobs = ZosmfZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy2));
+        Assert.assertTrue("pollJobStatus() should not return running jobs", endedJobs.isEmpty());
+        Mockito.verify(zosBatchJobSpy2, Mockito.times(2)).updateJobStatus();
+    }
+    
+    @Test
+    public void testPollJobStatusUnscoped() throws ZosBatchException, ZosmfException {
+        IZosBatchJobname zosJobnameMock2 = Mockito.mock(IZosBatchJobname.class);
+        Mockito.when(zosJobnameMock2.getName()).thenReturn("XYZ45678");
+        ZosmfZosBatchJobImpl zosBatchJobSpy2 = Mockito.spy(new ZosmfZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock2, "JCL", zosBatchJobcardMock));
+        ZosmfZosBatchJobImpl zosBatchJobSpy3 = Mockito.spy(new ZosmfZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock));
+        ZosmfZosBatchJobImpl zosBatchJobSpy4 = Mockito.spy(new ZosmfZosBatchJobImpl(zosBatchManagerMock, zosImageMock, zosJobnameMock, "JCL", zosBatchJobcardMock));
+        Whitebox.setInternalState(zosBatchJobSpy, "owner", FIXED_OWNER);
+        Whitebox.setInternalState(zosBatchJobSpy2, "owner", FIXED_OWNER);
+        Mockito.doNothing().when(zosBatchJobSpy).updateJobStatus();
+        Mockito.doNothing().when(zosBatchJobSpy2).updateJobStatus();
+        Mockito.doNothing().when(zosBatchJobSpy3).updateJobStatus();
+        Mockito.doNothing().when(zosBatchJobSpy4).updateJobStatus();
+        
+        // No common job name prefix, and no known owner
+        ZosmfZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy, zosBatchJobSpy2));
+        ZosmfZosBatchJobImpl.pollJobStatus(Arrays.asList(zosBatchJobSpy3, zosBatchJobSpy4));
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(0)).sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.startsWith("/zosmf/restjobs/jobs?"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(1)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy2, Mockito.times(1)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy3, Mockito.times(1)).updateJobStatus();
+        Mockito.verify(zosBatchJobSpy4, Mockito.times(1)).updateJobStatus();
+    }
+    
+    @Test
+    public void testListJobStatusBadHttpResponseException() throws ZosBatchException, ZosmfException {
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockStatus);
+        Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenReturn(getJsonObject());
+        Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        
+        String expectedMessage = "Error List job status, category:0, rc:0, reason:0, message:message\nstack:\nstack";
+    	ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+    		zosBatchJobSpy.listJobStatus(FIXED_OWNER, Arrays.asList(zosBatchJobSpy));
+    	});
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
 
     @Test
     public void testWaitForJobNotSubmittedException() throws ZosBatchException {
@@ -515,6 +601,12 @@ public class TestZosmfZosBatchJobImpl {
 		Mockito.doReturn(spoolFiles).when(zosBatchJobOutputMock).getSpoolFiles();
 		String expected = "RECORDS\nRECORDS\n";
 		Assert.assertEquals("retrieveOutputAsString() should return the expected value", expected, zosBatchJobSpy.retrieveOutputAsString());
+		
+        Mockito.doThrow(new IllegalStateException(EXCEPTION, new ZosBatchException(EXCEPTION))).when(zosBatchJobOutputSpoolFileMock).getRecords();
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchJobSpy.retrieveOutputAsString();
+        });
+    	Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
     }
 
     @Test
@@ -633,23 +725,37 @@ public class TestZosmfZosBatchJobImpl {
 		Assert.assertNull("getSpoolFile() should return the mocked IZosBatchJobOutputSpoolFile", zosBatchJobSpy.getSpoolFile("DUMMY"));
     }
     
+    @Test
+    public void testTail() throws ZosBatchException {
+    	Whitebox.setInternalState(zosBatchJobSpy, "jobid", FIXED_JOBID);
+        Mockito.doReturn(zosBatchJobOutputSpoolFileMock).when(zosBatchJobSpy).getSpoolFile(FIXED_DDNAME);
+        Mockito.doReturn("RECORD1\nRECORD2\n").when(zosBatchJobOutputSpoolFileMock).getRecords(0, 1000);
+        Mockito.doReturn("").when(zosBatchJobOutputSpoolFileMock).getRecords(2, 1000);
+        IZosBatchSpoolFileTail tail = zosBatchJobSpy.tail(FIXED_DDNAME);
+        Assert.assertEquals("tail() should return the expected ddname", FIXED_DDNAME, tail.getDdname());
+        Assert.assertEquals("readNewRecords() should return the expected value", "RECORD1\nRECORD2\n", tail.readNewRecords());
+        Assert.assertEquals("readNewRecords() should return the expected value", "", tail.readNewRecords());
+        Mockito.verify(zosBatchJobSpy, Mockito.times(2)).getSpoolFile(FIXED_DDNAME);
+    }
+    
+    @Test
+    public void testTailNotSubmittedException() throws ZosBatchException {
+    	Mockito.doReturn("????????").when(zosBatchJobSpy).getJobId();
+        String expectedMessage = "Job has not been submitted by manager";
+    	ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+    		zosBatchJobSpy.tail(FIXED_DDNAME);
+    	});
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+    
     @Test
     public void testSaveOutputToTestResultsArchive() throws ZosManagerException {
     	Mockito.when(zosBatchManagerMock.getZosManager()).thenReturn(zosManagerMock);
-        PowerMockito.doNothing().when(zosManagerMock).storeArtifact(Mockito.any(), Mockito.any(), Mockito.any());
-        PowerMockito.doReturn("PATH_NAME").when(zosManagerMock).buildUniquePathName(Mockito.any(), Mockito.any());
+        ZosBatchSpoolFileArchiver archiverMock = Mockito.mock(ZosBatchSpoolFileArchiver.class);
+        Mockito.when(zosManagerMock.getZosBatchSpoolFileArchiver(Mockito.any())).thenReturn(archiverMock);
     	Whitebox.setInternalState(zosBatchJobSpy, "jobid", FIXED_JOBID);
     	Whitebox.setInternalState(zosBatchJobSpy, "retcode", FIXED_RETCODE_0000);
     	Whitebox.setInternalState(zosBatchJobSpy, "jobOutput", zosBatchJobOutputMock);
-        Mockito.doReturn(zosBatchJobOutputSpoolFileIteratorMock).when(zosBatchJobOutputMock).iterator();
-        Mockito.doReturn(true, false).when(zosBatchJobOutputSpoolFileIteratorMock).hasNext();
-        Mockito.doReturn(zosBatchJobOutputSpoolFileMock).when(zosBatchJobOutputSpoolFileIteratorMock).next();
-        Mockito.doReturn(FIXED_JOBNAME).when(zosBatchJobOutputSpoolFileMock).getJobname();
-        Mockito.doReturn(FIXED_JOBID).when(zosBatchJobOutputSpoolFileMock).getJobid();
-        Mockito.doReturn("").when(zosBatchJobOutputSpoolFileMock).getStepname();
-        Mockito.doReturn("").when(zosBatchJobOutputSpoolFileMock).getProcstep();
-        Mockito.doReturn(FIXED_DDNAME).when(zosBatchJobOutputSpoolFileMock).getDdname();
-        Mockito.doReturn("content").when(zosBatchJobOutputSpoolFileMock).getRecords();
         Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", false);
 
         String expectedMessage = "Archiving batch job " + FIXED_JOBNAME + "(" + FIXED_JOBID + ") to "+ FIXED_PATH_NAME;
@@ -659,16 +765,14 @@ public class TestZosmfZosBatchJobImpl {
         Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", true);
     	Mockito.doReturn(null, zosBatchJobOutputMock).when(zosBatchJobSpy).jobOutput();
     	Mockito.doReturn(zosBatchJobOutputMock).when(zosBatchJobSpy).retrieveOutput();
-        Mockito.doReturn(FIXED_STEPNAME).when(zosBatchJobOutputSpoolFileMock).getStepname();
-        Mockito.doReturn(FIXED_PROCSTEP).when(zosBatchJobOutputSpoolFileMock).getProcstep();
-        Mockito.doReturn(true, false).when(zosBatchJobOutputSpoolFileIteratorMock).hasNext();
 		
     	zosBatchJobSpy.saveOutputToResultsArchive(FIXED_PATH_NAME);
         Assert.assertEquals("saveOutputToTestResultsArchive() should log expected message", expectedMessage, logMessage);
+        Mockito.verify(archiverMock, Mockito.times(2)).archive(Mockito.eq(zosBatchJobOutputMock), Mockito.any());
+        Assert.assertTrue("saveOutputToTestResultsArchive() should set jobArchived to true", Whitebox.getInternalState(zosBatchJobSpy, "jobArchived"));
 
     	Mockito.doReturn(zosBatchJobOutputMock).when(zosBatchJobSpy).jobOutput();
-        Mockito.doReturn(true, false).when(zosBatchJobOutputSpoolFileIteratorMock).hasNext();
-        PowerMockito.doThrow(new ZosManagerException(EXCEPTION)).when(zosManagerMock).storeArtifact(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doThrow(new ZosBatchException(new ZosManagerException(EXCEPTION))).when(archiverMock).archive(Mockito.any(), Mockito.any());
         ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
     		zosBatchJobSpy.saveOutputToResultsArchive(FIXED_PATH_NAME);
     	});
@@ -825,54 +929,63 @@ public class TestZosmfZosBatchJobImpl {
     public void testAddOutputFileContent() throws ZosBatchException, ZosmfException {
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockStatus);
         Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        Mockito.when(zosmfResponseMockStatus.getTextContent()).thenReturn("content");
         Whitebox.setInternalState(zosBatchJobSpy, "jobOutput", zosBatchJobOutputMock);
 
-        zosBatchJobSpy.addOutputFileContent(null, null);
+        zosBatchJobSpy.addOutputFileContent(null, "path");
+        Mockito.verify(zosBatchJobOutputMock, Mockito.times(1)).addJcl(Mockito.any(ISpoolFileReader.class));
         
         JsonObject jsonObject = getJsonObject();
-        zosBatchJobSpy.addOutputFileContent(jsonObject, null);
+        zosBatchJobSpy.addOutputFileContent(jsonObject, "path");
+        Mockito.verify(zosBatchJobOutputMock, Mockito.times(1)).addSpoolFile(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(ISpoolFileReader.class));
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(0)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+
+        Assert.assertEquals("readOutputFileRecords() should return the expected content", "content", zosBatchJobSpy.readOutputFileRecords("path", 0, 0));
+        Assert.assertEquals("readOutputFileRecords() should return the expected content", "content", zosBatchJobSpy.readOutputFileRecords("path", 10, 5));
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.eq("path"), Mockito.argThat(headers -> "10,5".equals(headers.get(ZosmfCustomHeaders.X_IBM_RECORD_RANGE.toString()))), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
 
         Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_NOT_FOUND);
         Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", true);
         PowerMockito.doReturn(true).when(zosBatchJobSpy).spoolFileNotFound(Mockito.any());
-        zosBatchJobSpy.addOutputFileContent(jsonObject, null);
+        Assert.assertEquals("readOutputFileRecords() should return empty content", "", zosBatchJobSpy.readOutputFileRecords("path", 0, 0));
         
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenThrow(new ZosmfException(EXCEPTION));
         
         ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
-    		zosBatchJobSpy.addOutputFileContent(null, null);
+    		zosBatchJobSpy.readOutputFileRecords("path", 0, 0);
     	});
     	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+        Mockito.verify(zosBatchManagerMock, Mockito.times(4)).releaseSpoolFileApiProcessor(Mockito.any(), Mockito.eq(zosmfApiProcessorMock));
     }
     
     @Test
-    public void testAddOutputFileContentZosmfResponseException1() throws ZosBatchException, ZosmfException {
+    public void testReadOutputFileRecordsZosmfResponseException1() throws ZosBatchException, ZosmfException {
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockStatus);
         Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenReturn(getJsonObject());
         Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
         
         Mockito.when(zosmfResponseMockStatus.getTextContent()).thenThrow(new ZosmfException(EXCEPTION));
         ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
-    		zosBatchJobSpy.addOutputFileContent(null, null);
+    		zosBatchJobSpy.readOutputFileRecords(null, 0, 0);
     	});
     	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
     }
     
     @Test
-    public void testAddOutputFileContentZosmfResponseException2() throws ZosBatchException, ZosmfException {
+    public void testReadOutputFileRecordsZosmfResponseException2() throws ZosBatchException, ZosmfException {
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockStatus);
         Mockito.when(zosmfResponseMockStatus.getTextContent()).thenReturn("content");
         Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_NOT_FOUND); 
         Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenThrow(new ZosmfException(EXCEPTION));
         
         ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
-    		zosBatchJobSpy.addOutputFileContent(null, null);
+    		zosBatchJobSpy.readOutputFileRecords(null, 0, 0);
     	});
     	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
     }
     
     @Test
-    public void testAddOutputBadHttpResponseException1() throws ZosBatchException, ZosmfException {
+    public void testReadOutputFileRecordsBadHttpResponseException1() throws ZosBatchException, ZosmfException {
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockStatus);
         Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenReturn(getJsonObject());
         Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_NOT_FOUND);
@@ -881,13 +994,13 @@ public class TestZosmfZosBatchJobImpl {
         		"stack:\n" + 
         		"stack";
     	ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
-    		zosBatchJobSpy.addOutputFileContent(null, null);
+    		zosBatchJobSpy.readOutputFileRecords(null, 0, 0);
     	});
     	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
     }
     
     @Test
-    public void testAddOutputBadHttpResponseException2() throws ZosBatchException, ZosmfException {
+    public void testReadOutputFileRecordsBadHttpResponseException2() throws ZosBatchException, ZosmfException {
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMockStatus);
         Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenReturn(getJsonObject());
         Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_NOT_FOUND);
@@ -897,11 +1010,44 @@ public class TestZosmfZosBatchJobImpl {
         		"stack:\n" + 
         		"stack";
     	ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
-    		zosBatchJobSpy.addOutputFileContent(null, null);
+    		zosBatchJobSpy.readOutputFileRecords(null, 0, 0);
     	});
     	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
     }
     
+    @Test
+    public void testOpenOutputFileRecords() throws ZosBatchException, ZosmfException, IOException {
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(false))).thenReturn(zosmfResponseMockStatus);
+        Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        InputStream inputStream = new ByteArrayInputStream("content".getBytes());
+        Mockito.when(zosmfResponseMockStatus.getContent()).thenReturn(inputStream);
+        InputStream recordsStream = zosBatchJobSpy.openOutputFileRecords("path");
+        Assert.assertEquals("openOutputFileRecords() should return the response stream", 7, recordsStream.available());
+        Mockito.verify(zosBatchManagerMock, Mockito.times(0)).releaseSpoolFileApiProcessor(Mockito.any(), Mockito.any());
+        recordsStream.close();
+        recordsStream.close();
+        Mockito.verify(zosBatchManagerMock, Mockito.times(1)).releaseSpoolFileApiProcessor(Mockito.any(), Mockito.eq(zosmfApiProcessorMock));
+
+        Mockito.when(zosmfResponseMockStatus.getContent()).thenReturn("content");
+        Mockito.when(zosmfResponseMockStatus.getTextContent()).thenReturn("content");
+        Assert.assertEquals("openOutputFileRecords() should return the response content", 7, zosBatchJobSpy.openOutputFileRecords("path").available());
+        
+        Mockito.when(zosmfResponseMockStatus.getJsonContent()).thenReturn(getJsonObject());
+        Mockito.when(zosmfResponseMockStatus.getStatusCode()).thenReturn(HttpStatus.SC_NOT_FOUND);
+        String expectedMessage = "Error Retrieve job output, category:0, rc:0, reason:0, message:message\n" + 
+        		"stack:\n" + 
+        		"stack";
+    	ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+    		zosBatchJobSpy.openOutputFileRecords("path");
+    	});
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+        
+        Whitebox.setInternalState(zosBatchJobSpy, "jobComplete", true);
+        PowerMockito.doReturn(true).when(zosBatchJobSpy).spoolFileNotFound(Mockito.any());
+        Assert.assertEquals("openOutputFileRecords() should return an empty stream", 0, zosBatchJobSpy.openOutputFileRecords("path").available());
+        Mockito.verify(zosBatchManagerMock, Mockito.times(4)).releaseSpoolFileApiProcessor(Mockito.any(), Mockito.eq(zosmfApiProcessorMock));
+    }
+    
     @Test
     public void testJclWithJobcard() throws ZosBatchManagerException {
         Whitebox.setInternalState(zosBatchJobSpy, "useSysaff", false);
@@ -39,6 +39,9 @@ import dev.galasa.zosbatch.IZosBatch;
 import dev.galasa.zosbatch.IZosBatchJobname;
 import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.ZosBatchManagerException;
+import dev.galasa.zosbatch.spi.ZosBatchJobStatusWatcher;
+import dev.galasa.zosmf.IZosmfRestApiProcessor;
+import dev.galasa.zosmf.ZosmfManagerException;
 import dev.galasa.zosmf.internal.ZosmfManagerImpl;
 
 @RunWith(PowerMockRunner.class)
@@ -76,6 +79,12 @@ public class TestZosmfZosBatchManagerImpl {
     @Mock
     private IZosImage zosImageMock;
 
+    @Mock
+    private IZosmfRestApiProcessor apiProcessorMock1;
+
+    @Mock
+    private IZosmfRestApiProcessor apiProcessorMock2;
+
     @Mock
     private IZosBatchJobname zosJobnameMock;
     
@@ -313,6 +322,51 @@ public class TestZosmfZosBatchManagerImpl {
         Assert.assertEquals("getZosBatch() should return the existing IZosBatch instance", zosBatch, zosBatch2);
     }
     
+    @Test
+    public void testGetJobStatusWatcher() throws ZosBatchException, ZosBatchManagerException {
+        Mockito.when(zosManagerMock.getZosBatchPropertyJobPollInterval(Mockito.any())).thenReturn(250);
+        Mockito.when(zosManagerMock.getZosBatchPropertyJobPollMaxInterval(Mockito.any())).thenReturn(10000);
+        ZosBatchJobStatusWatcher<ZosmfZosBatchJobImpl> jobStatusWatcher = zosBatchManagerSpy.getJobStatusWatcher(zosImageMock);
+        Assert.assertNotNull("getJobStatusWatcher() should not be null", jobStatusWatcher);
+        Assert.assertEquals("getJobStatusWatcher() should return the existing instance", jobStatusWatcher, zosBatchManagerSpy.getJobStatusWatcher(zosImageMock));
+        Mockito.verify(zosManagerMock, Mockito.times(1)).getZosBatchPropertyJobPollInterval(Mockito.any());
+    }
+    
+    @Test
+    public void testGetJobStatusWatcherException() throws ZosBatchManagerException {
+        Mockito.when(zosManagerMock.getZosBatchPropertyJobPollInterval(Mockito.any())).thenThrow(new ZosBatchManagerException(EXCEPTION));
+        String expectedMessage = "Unable to get job poll interval property values";
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchManagerSpy.getJobStatusWatcher(zosImageMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testSpoolFileApiProcessorPool() throws Exception {
+        Mockito.when(zosmfManagerMock.newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenReturn(apiProcessorMock1, apiProcessorMock2);
+        Assert.assertEquals("takeSpoolFileApiProcessor() should return a dedicated processor", apiProcessorMock1, zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock));
+        Assert.assertEquals("takeSpoolFileApiProcessor() should not return a processor that is in use", apiProcessorMock2, zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock));
+        
+        zosBatchManagerSpy.releaseSpoolFileApiProcessor(zosImageMock, apiProcessorMock1);
+        Assert.assertEquals("takeSpoolFileApiProcessor() should reuse a released processor", apiProcessorMock1, zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock));
+        Mockito.verify(zosmfManagerMock, Mockito.times(2)).newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        
+        zosBatchManagerSpy.releaseSpoolFileApiProcessor(zosImageMock, apiProcessorMock1);
+        zosBatchManagerSpy.endOfTestRun();
+        Mockito.verify(apiProcessorMock1, Mockito.times(1)).close();
+        Mockito.verify(apiProcessorMock2, Mockito.times(1)).close();
+    }
+    
+    @Test
+    public void testGetSpoolFileApiProcessorException() throws Exception {
+        Mockito.when(zosmfManagerMock.newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenThrow(new ZosmfManagerException(EXCEPTION));
+        ZosBatchException expectedException = Assert.assertThrows("expected exception should be thrown", ZosBatchException.class, ()->{
+        	zosBatchManagerSpy.takeSpoolFileApiProcessor(zosImageMock);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
     class DummyTestClass {
         @dev.galasa.zosbatch.ZosBatch(imageTag="TAG")
         public dev.galasa.zosbatch.IZosBatch zosBatch;
@@ -5,13 +5,18 @@
  */
 package dev.galasa.zosconsole.oeconsol.manager;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import dev.galasa.ICredentials;
 import dev.galasa.ICredentialsUsername;
 import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
 import dev.galasa.zosconsole.ZosConsoleException;
+import dev.galasa.zosconsole.spi.ZosConsoleCommandRunner;
 import dev.galasa.zosunixcommand.IZosUNIXCommand;
 import dev.galasa.zosunixcommand.ZosUNIXCommandAuthFailException;
 import dev.galasa.zosunixcommand.ZosUNIXCommandException;
@@ -31,6 +36,7 @@ public class OeconsolZosConsoleCommandImpl implements IZosConsoleCommand {
     private String commandImmediateResponse;
 	private String consoleName;
 	private ICredentials credentials;
+	private List<IZosConsoleMessageListener> messageListeners = Collections.emptyList();
 
     public OeconsolZosConsoleCommandImpl(IZosUNIXCommand zosUnixCommand, String oeconsolPath, String imageId, String command, String consoleName, ICredentials credentials) {
         this.zosUnixCommand = zosUnixCommand;
@@ -56,6 +62,7 @@ public class OeconsolZosConsoleCommandImpl implements IZosConsoleCommand {
 		} catch (ZosUNIXCommandException e) {
 			throw new ZosConsoleException("Unable to issue console command '" + this.command + "'", e);
 		}
+    	ZosConsoleCommandRunner.notifyListeners(this.messageListeners, this, this.commandImmediateResponse);
         return this;
     }
 
@@ -69,11 +76,20 @@ public class OeconsolZosConsoleCommandImpl implements IZosConsoleCommand {
     	throw new ZosConsoleException("oeconsol does not provide support delayed response");
     }
 
+    @Override
+    public String waitForResponse(String completionPattern, long quietPeriod, long timeout) throws ZosConsoleException {
+    	throw new ZosConsoleException("Unable to wait for the response to console command '" + this.command + "' - oeconsol does not support delayed responses");
+    }
+
     @Override
     public String getCommand() {
         return this.command;
     }
 
+    protected void setMessageListeners(List<IZosConsoleMessageListener> messageListeners) {
+        this.messageListeners = messageListeners;
+    }
+
     protected String buildCommand(String command) {
         StringBuilder builtCommand = new StringBuilder();
         builtCommand.append(this.oeconsolPath);
@@ -5,13 +5,19 @@
  */
 package dev.galasa.zosconsole.oeconsol.manager;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import dev.galasa.ICredentials;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zosconsole.IZosConsole;
 import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
 import dev.galasa.zosconsole.ZosConsoleException;
 import dev.galasa.zosconsole.ZosConsoleManagerException;
 import dev.galasa.zosconsole.oeconsol.manager.internal.properties.OeconsolPath;
+import dev.galasa.zosconsole.spi.ZosConsoleCommandRunner;
 import dev.galasa.zosunixcommand.IZosUNIXCommand;
 
 /**
@@ -23,6 +29,7 @@ public class OeconsolZosConsoleImpl implements IZosConsole {
     private OeconsolZosConsoleManagerImpl oeconsolZosConsoleManager;
     private IZosImage image;
 	private String oeconsolPath;
+	private List<IZosConsoleMessageListener> messageListeners = new CopyOnWriteArrayList<>();
     
     public OeconsolZosConsoleImpl(OeconsolZosConsoleManagerImpl oeconsolZosConsoleManager, IZosImage image) throws ZosConsoleManagerException {
         this.oeconsolZosConsoleManager = oeconsolZosConsoleManager;
@@ -46,9 +53,31 @@ public class OeconsolZosConsoleImpl implements IZosConsole {
         	}
         }
 		OeconsolZosConsoleCommandImpl zosConsoleCommand = new OeconsolZosConsoleCommandImpl(unixCommand, this.oeconsolPath, this.image.getImageID(), command, consoleName, credentials);
+		zosConsoleCommand.setMessageListeners(this.messageListeners);
 
     	return zosConsoleCommand.issueCommand();
     }
+
+    @Override
+    public List<CompletableFuture<IZosConsoleCommand>> issueCommands(List<String> commands, String consoleName) throws ZosConsoleException {
+        int threads;
+        try {
+            threads = this.oeconsolZosConsoleManager.getZosManager().getZosConsolePropertyCommandThreads(this.image.getImageID());
+        } catch (ZosConsoleManagerException e) {
+            throw new ZosConsoleException(e);
+        }
+        return ZosConsoleCommandRunner.issueCommands(commands, threads, command -> issueCommand(command, consoleName));
+    }
+
+    @Override
+    public void addMessageListener(IZosConsoleMessageListener listener) {
+        this.messageListeners.add(listener);
+    }
+
+    @Override
+    public void removeMessageListener(IZosConsoleMessageListener listener) {
+        this.messageListeners.remove(listener);
+    }
     
     @Override
     public String toString() {
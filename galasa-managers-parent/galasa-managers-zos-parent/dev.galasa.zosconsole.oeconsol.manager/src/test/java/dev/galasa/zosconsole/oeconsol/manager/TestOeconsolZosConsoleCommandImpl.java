@@ -133,6 +133,15 @@ public class TestOeconsolZosConsoleCommandImpl {
 		Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
     }
 
+    @Test
+    public void testWaitForResponse() {
+        String expectedMessage = "Unable to wait for the response to console command '" + CONSOLE_COMMAND + "' - oeconsol does not support delayed responses";
+        ZosConsoleException expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+			zosConsoleCommandSpy.waitForResponse(null, 1, 1);
+        });
+		Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+    }
+
     @Test
     public void testGetCommand() {    
         Assert.assertEquals("getCommand() should return the expected response", CONSOLE_COMMAND, zosConsoleCommandSpy.getCommand());
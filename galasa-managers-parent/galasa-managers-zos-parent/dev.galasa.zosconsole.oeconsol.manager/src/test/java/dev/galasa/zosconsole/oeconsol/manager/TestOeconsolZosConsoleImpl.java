@@ -5,6 +5,10 @@
  */
 package dev.galasa.zosconsole.oeconsol.manager;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,6 +24,7 @@ import dev.galasa.ICredentialsUsername;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.spi.IZosManagerSpi;
 import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
 import dev.galasa.zosconsole.ZosConsoleException;
 import dev.galasa.zosconsole.ZosConsoleManagerException;
 import dev.galasa.zosconsole.oeconsol.manager.internal.properties.OeconsolPath;
@@ -50,6 +55,9 @@ public class TestOeconsolZosConsoleImpl {
     
     @Mock
     private ICredentialsToken credentialsTokenMock;
+    
+    @Mock
+    private IZosConsoleMessageListener messageListenerMock;
 
     private static final String CONSOLE_COMMAND = "ZOS CONSOLE_COMMAND";
 
@@ -99,6 +107,34 @@ public class TestOeconsolZosConsoleImpl {
         Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
     }
     
+    @Test
+    public void testIssueCommands() throws Exception {
+        Mockito.when(zosManagerMock.getZosConsolePropertyCommandThreads(Mockito.any())).thenReturn(2);
+        List<CompletableFuture<IZosConsoleCommand>> futures = zosConsole.issueCommands(Arrays.asList(CONSOLE_COMMAND + "1", CONSOLE_COMMAND + "2"), CONSOLE_NAME);
+        Assert.assertEquals("issueCommands() should return a future per command", 2, futures.size());
+        Assert.assertEquals("IZosConsoleCommand.getCommand() should return the supplied value", CONSOLE_COMMAND + "1", futures.get(0).get().getCommand());
+        Assert.assertEquals("IZosConsoleCommand.getCommand() should return the supplied value", CONSOLE_COMMAND + "2", futures.get(1).get().getCommand());
+        Mockito.verify(zosManagerMock, Mockito.times(1)).getZosConsolePropertyCommandThreads(IMAGE_NAME);
+
+        Mockito.when(zosManagerMock.getZosConsolePropertyCommandThreads(Mockito.any())).thenThrow(new ZosConsoleManagerException("exception"));
+        ZosConsoleException expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	zosConsole.issueCommands(Arrays.asList(CONSOLE_COMMAND), CONSOLE_NAME);
+        });
+        Assert.assertEquals("exception should contain expected cause", "exception", expectedException.getCause().getMessage());
+    }
+    
+    @Test
+    public void testMessageListener() throws Exception {
+        Mockito.when(zosUnixCommandMock.issueCommand(Mockito.any(), Mockito.any())).thenReturn("RESPONSE");
+        zosConsole.addMessageListener(messageListenerMock);
+        IZosConsoleCommand zosConsoleCommand = zosConsole.issueCommand(CONSOLE_COMMAND, CONSOLE_NAME);
+        Mockito.verify(messageListenerMock, Mockito.times(1)).messagesReceived(zosConsoleCommand, "RESPONSE");
+        
+        zosConsole.removeMessageListener(messageListenerMock);
+        zosConsole.issueCommand(CONSOLE_COMMAND, CONSOLE_NAME);
+        Mockito.verify(messageListenerMock, Mockito.times(1)).messagesReceived(Mockito.any(), Mockito.any());
+    }
+    
     @Test
     public void testToString() {
     	Assert.assertEquals("toString() should return the default console name", IMAGE_NAME, zosConsoleSpy.toString());
@@ -7,6 +7,8 @@ package dev.galasa.zosconsole.zosmf.manager.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
@@ -18,7 +20,9 @@ import com.google.gson.JsonObject;
 
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
 import dev.galasa.zosconsole.ZosConsoleException;
+import dev.galasa.zosconsole.spi.ZosConsoleCommandRunner;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
 import dev.galasa.zosmf.IZosmfRestApiProcessor;
@@ -38,6 +42,7 @@ public class ZosmfZosConsoleCommandImpl implements IZosConsoleCommand {
     private String commandImmediateResponse;
     private String commandResponseKey;
     private String commandDelayedResponse = "";
+    private List<IZosConsoleMessageListener> messageListeners = Collections.emptyList();
     
     private static final String SLASH = "/";
     private static final String RESTCONSOLE_PATH = SLASH + "zosmf" + SLASH + "restconsoles" + SLASH + "consoles" + SLASH;
@@ -87,6 +92,7 @@ public class ZosmfZosConsoleCommandImpl implements IZosConsoleCommand {
             throw new ZosConsoleException("Console command \"" + this.command + "\" failed. Reason \"" + this.commandImmediateResponse + "\"");
         }
         logger.info("Issued command: " + this.command);
+        ZosConsoleCommandRunner.notifyListeners(this.messageListeners, this, this.commandImmediateResponse);
                 
         return this;
     }
@@ -97,7 +103,7 @@ public class ZosmfZosConsoleCommandImpl implements IZosConsoleCommand {
     }
 
     @Override
-    public String requestResponse() throws ZosConsoleException {
+    public synchronized String requestResponse() throws ZosConsoleException {
         IZosmfResponse response;
         try {
             response = this.zosmfApiProcessor.sendRequest(ZosmfRequestType.GET, RESTCONSOLE_PATH + this.consoleName + "/solmsgs/" + this.commandResponseKey, null, null, new ArrayList<>(Arrays.asList(HttpStatus.SC_OK)), true);
@@ -115,15 +121,33 @@ public class ZosmfZosConsoleCommandImpl implements IZosConsoleCommand {
         
             logger.trace(content);
             this.commandDelayedResponse = content.get("cmd-response").getAsString();
+            ZosConsoleCommandRunner.notifyListeners(this.messageListeners, this, this.commandDelayedResponse);
         }
         return this.commandDelayedResponse;
     }
 
+    /**
+     * Replace the processor used to request delayed responses, once a request in progress has completed
+     * @param zosmfApiProcessor the zOSMF processor
+     */
+    protected synchronized void setZosmfApiProcessor(IZosmfRestApiProcessor zosmfApiProcessor) {
+        this.zosmfApiProcessor = zosmfApiProcessor;
+    }
+
+    @Override
+    public String waitForResponse(String completionPattern, long quietPeriod, long timeout) throws ZosConsoleException {
+        return ZosConsoleCommandRunner.waitForResponse(this, completionPattern, quietPeriod, timeout);
+    }
+
     @Override
     public String getCommand() {
         return this.command;
     }
     
+    protected void setMessageListeners(List<IZosConsoleMessageListener> messageListeners) {
+        this.messageListeners = messageListeners;
+    }
+    
     protected String logUnableToIsuueCommand() {
         return "Unable to issue console command \"" + this.command + "\"";
     }
@@ -6,7 +6,12 @@
 package dev.galasa.zosconsole.zosmf.manager.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.validation.constraints.NotNull;
 
@@ -16,8 +21,10 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zosconsole.IZosConsole;
 import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
 import dev.galasa.zosconsole.ZosConsoleException;
 import dev.galasa.zosconsole.ZosConsoleManagerException;
+import dev.galasa.zosconsole.spi.ZosConsoleCommandRunner;
 import dev.galasa.zosmf.IZosmfRestApiProcessor;
 import dev.galasa.zosmf.ZosmfManagerException;
 
@@ -27,12 +34,15 @@ import dev.galasa.zosmf.ZosmfManagerException;
  */
 public class ZosmfZosConsoleImpl implements IZosConsole {
 
-    private List<ZosmfZosConsoleCommandImpl> zosConsoleCommands = new ArrayList<>();
+    private List<ZosmfZosConsoleCommandImpl> zosConsoleCommands = Collections.synchronizedList(new ArrayList<>());
+    private List<IZosConsoleMessageListener> messageListeners = new CopyOnWriteArrayList<>();
     private IZosmfRestApiProcessor zosmfApiProcessor;
     private IZosImage image;
+    private ZosmfZosConsoleManagerImpl zosConsoleManager;
     
     public ZosmfZosConsoleImpl(IZosImage image, ZosmfZosConsoleManagerImpl zosConsoleManager) throws ZosConsoleException {
         this.image = image;
+        this.zosConsoleManager = zosConsoleManager;
         try {
 			this.zosmfApiProcessor = zosConsoleManager.getZosmfManager().newZosmfRestApiProcessor(image, zosConsoleManager.getZosManager().getZosConsolePropertyConsoleRestrictToImage(image.getImageID()));
 		} catch (ZosmfManagerException | ZosConsoleManagerException e) {
@@ -47,10 +57,72 @@ public class ZosmfZosConsoleImpl implements IZosConsole {
 
     @Override
     public @NotNull IZosConsoleCommand issueCommand(@NotNull String command, String consoleName) throws ZosConsoleException {
-        ZosmfZosConsoleCommandImpl zosConsoleCommand = new ZosmfZosConsoleCommandImpl(this.zosmfApiProcessor, command, consoleName(consoleName), this.image);
+        return issueCommand(this.zosmfApiProcessor, command, consoleName(consoleName));
+    }
+
+    @Override
+    public @NotNull List<CompletableFuture<IZosConsoleCommand>> issueCommands(@NotNull List<String> commands, String consoleName) throws ZosConsoleException {
+        String name = consoleName(consoleName);
+        int threads;
+        try {
+            threads = this.zosConsoleManager.getZosManager().getZosConsolePropertyCommandThreads(this.image.getImageID());
+        } catch (ZosConsoleManagerException e) {
+            throw new ZosConsoleException(e);
+        }
+        // Each worker thread is given its own zOSMF server connections. When all the commands have been issued, the
+        // commands are switched to the shared connections for any delayed responses and the worker connections are closed
+        Map<Thread, IZosmfRestApiProcessor> apiProcessors = new ConcurrentHashMap<>();
+        List<ZosmfZosConsoleCommandImpl> batchCommands = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<IZosConsoleCommand>> futures = ZosConsoleCommandRunner.issueCommands(commands, threads, command -> {
+            IZosmfRestApiProcessor apiProcessor = apiProcessors.get(Thread.currentThread());
+            if (apiProcessor == null) {
+                apiProcessor = newDedicatedApiProcessor();
+                apiProcessors.put(Thread.currentThread(), apiProcessor);
+            }
+            ZosmfZosConsoleCommandImpl zosConsoleCommand = newZosConsoleCommand(apiProcessor, command, name);
+            batchCommands.add(zosConsoleCommand);
+            return zosConsoleCommand.issueCommand();
+        });
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((result, e) -> {
+            synchronized (batchCommands) {
+                for (ZosmfZosConsoleCommandImpl zosConsoleCommand : batchCommands) {
+                    zosConsoleCommand.setZosmfApiProcessor(this.zosmfApiProcessor);
+                }
+            }
+            for (IZosmfRestApiProcessor apiProcessor : apiProcessors.values()) {
+                apiProcessor.close();
+            }
+        });
+        return futures;
+    }
+
+    protected IZosConsoleCommand issueCommand(IZosmfRestApiProcessor apiProcessor, String command, String consoleName) throws ZosConsoleException {
+        return newZosConsoleCommand(apiProcessor, command, consoleName).issueCommand();
+    }
+
+    protected ZosmfZosConsoleCommandImpl newZosConsoleCommand(IZosmfRestApiProcessor apiProcessor, String command, String consoleName) {
+        ZosmfZosConsoleCommandImpl zosConsoleCommand = new ZosmfZosConsoleCommandImpl(apiProcessor, command, consoleName, this.image);
+        zosConsoleCommand.setMessageListeners(this.messageListeners);
         this.zosConsoleCommands.add(zosConsoleCommand);
-        
-        return zosConsoleCommand.issueCommand();
+        return zosConsoleCommand;
+    }
+
+    protected IZosmfRestApiProcessor newDedicatedApiProcessor() throws ZosConsoleException {
+        try {
+            return this.zosConsoleManager.getZosmfManager().newDedicatedZosmfRestApiProcessor(this.image, this.zosConsoleManager.getZosManager().getZosConsolePropertyConsoleRestrictToImage(this.image.getImageID()));
+        } catch (ZosmfManagerException | ZosConsoleManagerException e) {
+            throw new ZosConsoleException(e);
+        }
+    }
+
+    @Override
+    public void addMessageListener(@NotNull IZosConsoleMessageListener listener) {
+        this.messageListeners.add(listener);
+    }
+
+    @Override
+    public void removeMessageListener(@NotNull IZosConsoleMessageListener listener) {
+        this.messageListeners.remove(listener);
     }
 
     protected String consoleName(String consoleName) throws ZosConsoleException {
@@ -5,6 +5,8 @@
  */
 package dev.galasa.zosconsole.zosmf.manager.internal;
 
+import java.util.Arrays;
+
 import org.apache.http.HttpStatus;
 import org.junit.Assert;
 import org.junit.Before;
@@ -19,6 +21,7 @@ import org.powermock.reflect.Whitebox;
 import com.google.gson.JsonObject;
 
 import dev.galasa.zos.IZosImage;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
 import dev.galasa.zosconsole.ZosConsoleException;
 import dev.galasa.zosconsole.ZosConsoleManagerException;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
@@ -46,6 +49,9 @@ public class TestZosmfZosConsoleCommandImpl {
     
     @Mock
     private IZosmfResponse zosmfResponseMock;
+    
+    @Mock
+    private IZosConsoleMessageListener messageListenerMock;
 
     private static final String CONSOLE_COMMAND = "ZOS CONSOLE_COMMAND";
 
@@ -121,6 +127,23 @@ public class TestZosmfZosConsoleCommandImpl {
         Assert.assertEquals("requestResponse() should return the expected response", CONSOLE_RESOPNSE, zosConsoleCommand.requestResponse());
     }
 
+    @Test
+    public void testMessageListeners() throws ZosConsoleException, ZosmfException {
+        zosConsoleCommand.setMessageListeners(Arrays.asList(messageListenerMock));
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        
+        zosConsoleCommand.issueCommand();
+        zosConsoleCommand.requestResponse();
+        Mockito.verify(messageListenerMock, Mockito.times(2)).messagesReceived(zosConsoleCommand, CONSOLE_RESOPNSE);
+    }
+
+    @Test
+    public void testWaitForResponse() throws ZosConsoleException, ZosmfException {
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        
+        Assert.assertEquals("waitForResponse() should return the expected response", CONSOLE_RESOPNSE, zosConsoleCommand.waitForResponse(CONSOLE_RESOPNSE, 0, 10));
+    }
+
     @Test
     public void testRequestResponseNotFound() throws ZosConsoleException, ZosmfException {
         Whitebox.setInternalState(zosConsoleCommandSpy, "commandDelayedResponse", "NONE");
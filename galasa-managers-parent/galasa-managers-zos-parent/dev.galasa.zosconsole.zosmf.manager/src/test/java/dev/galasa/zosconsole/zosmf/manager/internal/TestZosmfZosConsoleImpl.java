@@ -5,6 +5,10 @@
  */
 package dev.galasa.zosconsole.zosmf.manager.internal;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.http.HttpStatus;
 import org.junit.Assert;
 import org.junit.Before;
@@ -23,7 +27,9 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zos.spi.IZosManagerSpi;
 import dev.galasa.zosconsole.IZosConsoleCommand;
+import dev.galasa.zosconsole.IZosConsoleMessageListener;
 import dev.galasa.zosconsole.ZosConsoleException;
+import dev.galasa.zosconsole.ZosConsoleManagerException;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
 import dev.galasa.zosmf.IZosmfRestApiProcessor;
@@ -53,6 +59,9 @@ public class TestZosmfZosConsoleImpl {
     @Mock
     private IZosmfRestApiProcessor zosmfApiProcessorMock;
     
+    @Mock
+    private IZosmfRestApiProcessor dedicatedZosmfApiProcessorMock;
+    
     @Mock
     private IZosmfResponse zosmfResponseMock;
     
@@ -61,6 +70,9 @@ public class TestZosmfZosConsoleImpl {
     
     @Mock
     private ICredentialsToken credentialsTokenMock;
+    
+    @Mock
+    private IZosConsoleMessageListener messageListenerMock;
 
     private static final String CONSOLE_COMMAND = "ZOS CONSOLE_COMMAND";
 
@@ -74,9 +86,12 @@ public class TestZosmfZosConsoleImpl {
 
         Mockito.when(zosConsoleManagerMock.getZosmfManager()).thenReturn(zosmfManagerMock);
         Mockito.when(zosmfManagerMock.newZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfApiProcessorMock);
+        Mockito.when(zosmfManagerMock.newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenReturn(dedicatedZosmfApiProcessorMock);
         Mockito.when(zosConsoleManagerMock.getZosManager()).thenReturn(zosManagerMock);
+        Mockito.when(zosManagerMock.getZosConsolePropertyCommandThreads(Mockito.any())).thenReturn(1);
         
         Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.PUT_JSON), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        Mockito.when(dedicatedZosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.PUT_JSON), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
         JsonObject jsonObject = new JsonObject();
         jsonObject.addProperty("cmd-response", "cmd-response");
         jsonObject.addProperty("cmd-response-key", "cmd-response-key");
@@ -106,6 +121,15 @@ public class TestZosmfZosConsoleImpl {
         Assert.assertEquals("IZosConsoleCommand.getCommand() should return the supplied value", CONSOLE_COMMAND, zosConsoleCommand.getCommand());
     }
     
+    @Test
+    public void testNewDedicatedApiProcessor() throws ZosmfManagerException {
+        Mockito.when(zosmfManagerMock.newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenThrow(new ZosmfManagerException("exception"));
+        ZosConsoleException expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	zosConsole.newDedicatedApiProcessor();
+        });
+        Assert.assertEquals("exception should contain expected cause", "exception", expectedException.getCause().getMessage());
+    }
+    
     @Test
     public void testIssueCommandConsoleName() throws ZosConsoleException, ZosmfException {        
         IZosConsoleCommand zosConsoleCommand = zosConsole.issueCommand(CONSOLE_COMMAND, CONSOLE_NAME);
@@ -113,6 +137,51 @@ public class TestZosmfZosConsoleImpl {
         Assert.assertEquals("IZosConsoleCommand.getCommand() should return the supplied value", CONSOLE_COMMAND, zosConsoleCommand.getCommand());        
     }
 
+    @Test
+    public void testIssueCommands() throws Exception {
+        List<CompletableFuture<IZosConsoleCommand>> futures = zosConsole.issueCommands(Arrays.asList(CONSOLE_COMMAND + "1", CONSOLE_COMMAND + "2"), CONSOLE_NAME);
+
+        Assert.assertEquals("issueCommands() should return a future per command", 2, futures.size());
+        Assert.assertEquals("IZosConsoleCommand.getCommand() should return the supplied value", CONSOLE_COMMAND + "1", futures.get(0).get().getCommand());
+        Assert.assertEquals("IZosConsoleCommand.getCommand() should return the supplied value", CONSOLE_COMMAND + "2", futures.get(1).get().getCommand());
+        // A single worker thread reuses its processor, which is closed when all the commands have been issued
+        Mockito.verify(zosmfManagerMock, Mockito.times(1)).newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(dedicatedZosmfApiProcessorMock, Mockito.times(2)).sendRequest(Mockito.eq(ZosmfRequestType.PUT_JSON), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(0)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(dedicatedZosmfApiProcessorMock, Mockito.timeout(10000).times(1)).close();
+
+        // Delayed responses are requested using the shared processor
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        futures.get(0).get().requestResponse();
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(dedicatedZosmfApiProcessorMock, Mockito.times(0)).sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+
+        Mockito.when(zosManagerMock.getZosConsolePropertyCommandThreads(Mockito.any())).thenThrow(new ZosConsoleManagerException("exception"));
+        ZosConsoleException expectedThreadsException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	zosConsole.issueCommands(Arrays.asList(CONSOLE_COMMAND), CONSOLE_NAME);
+        });
+        Assert.assertEquals("exception should contain expected cause", "exception", expectedThreadsException.getCause().getMessage());
+        
+
+        String consoleName = "1";
+        String expectedMessage = "Invalid console name \"" + consoleName + "\" must be between 2 and 8 characters long";
+        ZosConsoleException expectedException = Assert.assertThrows("expected exception should be thrown", ZosConsoleException.class, ()->{
+        	zosConsole.issueCommands(Arrays.asList(CONSOLE_COMMAND), consoleName);
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testMessageListener() throws ZosConsoleException {
+        zosConsole.addMessageListener(messageListenerMock);
+        IZosConsoleCommand zosConsoleCommand = zosConsole.issueCommand(CONSOLE_COMMAND, CONSOLE_NAME);
+        Mockito.verify(messageListenerMock, Mockito.times(1)).messagesReceived(zosConsoleCommand, "cmd-response");
+        
+        zosConsole.removeMessageListener(messageListenerMock);
+        zosConsole.issueCommand(CONSOLE_COMMAND, CONSOLE_NAME);
+        Mockito.verify(messageListenerMock, Mockito.times(1)).messagesReceived(Mockito.any(), Mockito.any());
+    }
+
     @Test
     public void testConsoleName() throws Exception {
          Assert.assertEquals("setConsoleName() should return " + CONSOLE_NAME, CONSOLE_NAME, zosConsole.consoleName(CONSOLE_NAME));
@@ -0,0 +1,137 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.rseapi.manager.internal;
+
+import java.util.LinkedList;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import dev.galasa.zos.IZosImage;
+import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.IZosDatasetIterator;
+import dev.galasa.zosfile.IZosFileHandler.DatasetListAttributes;
+import dev.galasa.zosfile.ZosDatasetException;
+import dev.galasa.zosfile.ZosFileManagerException;
+import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
+import dev.galasa.zosrseapi.IRseapiResponse;
+import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
+import dev.galasa.zosrseapi.RseapiException;
+
+/**
+ * Implementation of {@link IZosDatasetIterator} using RSE API. Each page is requested with the {@code start} and
+ * {@code limit} query parameters, and the list is complete when a page returns fewer than {@code limit} data sets
+ */
+public class RseapiZosDatasetIteratorImpl implements IZosDatasetIterator {
+
+    private RseapiZosFileHandlerImpl zosFileHandler;
+    private IZosImage image;
+    private String pattern;
+    private DatasetListAttributes attributes;
+    private IRseapiRestApiProcessor rseapiApiProcessor;
+    private int maxItems;
+
+    private LinkedList<JsonObject> page = new LinkedList<>();
+    private int start = 0;
+    private boolean moreRows = true;
+
+    private static final String SLASH = "/";
+    private static final String RESTFILES_DATASET_PATH = SLASH + "rseapi" + SLASH + "api" + SLASH + "v1" + SLASH + "datasets";
+
+    private static final String PROP_NAME = "name";
+    private static final String PROP_ITEMS = "items";
+
+    private static final Log logger = LogFactory.getLog(RseapiZosDatasetIteratorImpl.class);
+
+    public RseapiZosDatasetIteratorImpl(RseapiZosFileHandlerImpl zosFileHandler, IZosImage image, String pattern, DatasetListAttributes attributes) throws ZosDatasetException {
+        this.zosFileHandler = zosFileHandler;
+        this.image = image;
+        this.pattern = pattern;
+        this.attributes = attributes != null ? attributes : DatasetListAttributes.NAME;
+        this.rseapiApiProcessor = new RseapiZosDatasetImpl(zosFileHandler, image, pattern).getRseapiApiProcessor();
+        try {
+            this.maxItems = this.zosFileHandler.getZosManager().getZosFilePropertyDatasetListMaxItems(image.getImageID());
+        } catch (ZosFileManagerException e) {
+            throw new ZosDatasetException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws ZosDatasetException {
+        while (this.page.isEmpty() && this.moreRows) {
+            nextPage();
+        }
+        return !this.page.isEmpty();
+    }
+
+    @Override
+    public IZosDataset next() throws ZosDatasetException {
+        if (!hasNext()) {
+            throw new ZosDatasetException("No more data sets matching " + quoted(this.pattern) + logOnImage());
+        }
+        JsonObject item = this.page.removeFirst();
+        RseapiZosDatasetImpl zosDataset = new RseapiZosDatasetImpl(this.zosFileHandler, this.image, item.get(PROP_NAME).getAsString());
+        if (this.attributes == DatasetListAttributes.BASE) {
+            try {
+                zosDataset.setAttributes(item);
+            } catch (IllegalArgumentException e) {
+                logger.trace("Unable to set all attributes of data set " + quoted(zosDataset.getName()) + logOnImage(), e);
+            }
+        }
+        return zosDataset;
+    }
+
+    protected void nextPage() throws ZosDatasetException {
+        String urlPath = RESTFILES_DATASET_PATH + SLASH + this.pattern + "?start=" + this.start + "&limit=" + this.maxItems;
+        IRseapiResponse response;
+        try {
+            response = this.rseapiApiProcessor.sendRequest(RseapiRequestType.GET, urlPath, null, null, RseapiZosFileHandlerImpl.VALID_STATUS_CODES, true);
+        } catch (RseapiException e) {
+            throw new ZosDatasetException(e);
+        }
+
+        if (response.getStatusCode() != HttpStatus.SC_OK) {
+            // Error case
+            String displayMessage = this.zosFileHandler.buildErrorString("List data sets", response);
+            logger.error(displayMessage);
+            throw new ZosDatasetException(displayMessage);
+        }
+
+        JsonObject responseBody;
+        try {
+            responseBody = response.getJsonContent();
+        } catch (RseapiException e) {
+            throw new ZosDatasetException("Unable to list data sets matching " + quoted(this.pattern) + logOnImage(), e);
+        }
+
+        logger.trace(responseBody);
+        int returnedRows = 0;
+        JsonArray itemsArray = responseBody.getAsJsonArray(PROP_ITEMS);
+        if (itemsArray != null) {
+            for (JsonElement item : itemsArray) {
+                this.page.add(item.getAsJsonObject());
+                returnedRows++;
+            }
+        }
+        this.start += returnedRows;
+        // A short page is the last one
+        this.moreRows = returnedRows > 0 && returnedRows >= this.maxItems;
+        logger.trace(returnedRows + " data sets matching " + quoted(this.pattern) + " retrieved from image " + this.image.getImageID());
+    }
+
+    private String quoted(String name) {
+        return "\"" + name + "\"";
+    }
+
+    private String logOnImage() {
+        return " on image " + this.image.getImageID();
+    }
+}
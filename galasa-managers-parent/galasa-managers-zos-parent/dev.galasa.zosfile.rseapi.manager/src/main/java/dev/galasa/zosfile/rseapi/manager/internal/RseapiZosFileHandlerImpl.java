@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.spi.IZosManagerSpi;
 import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.IZosDatasetIterator;
 import dev.galasa.zosfile.IZosFileHandler;
 import dev.galasa.zosfile.IZosUNIXFile;
 import dev.galasa.zosfile.IZosVSAMDataset;
@@ -94,6 +95,11 @@ public class RseapiZosFileHandlerImpl implements IZosFileHandler {
         this.zosVsamDatasets.add(zosVsamDataset);
         return zosVsamDataset;
     }
+
+    @Override
+    public IZosDatasetIterator listDatasets(String pattern, IZosImage image, DatasetListAttributes attributes) throws ZosDatasetException {
+        return new RseapiZosDatasetIteratorImpl(this, image, pattern, attributes);
+    }
     
     public void cleanup() throws ZosFileManagerException {
         cleanupDatasets();
@@ -28,6 +28,7 @@ import dev.galasa.framework.spi.IManager;
 import dev.galasa.framework.spi.ResourceUnavailableException;
 import dev.galasa.framework.spi.language.GalasaMethod;
 import dev.galasa.framework.spi.language.GalasaTest;
+import dev.galasa.ipnetwork.spi.IIpNetworkManagerSpi;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zos.spi.IZosManagerSpi;
@@ -37,6 +38,7 @@ import dev.galasa.zosfile.ZosFileHandler;
 import dev.galasa.zosfile.ZosFileManagerException;
 import dev.galasa.zosfile.spi.IZosFileSpi;
 import dev.galasa.zosrseapi.spi.IRseapiManagerSpi;
+import dev.galasa.zosunixcommand.spi.IZosUNIXCommandSpi;
 
 /**
  * zOS File Manager implemented using RSE API
@@ -58,6 +60,26 @@ public class RseapiZosFileManagerImpl extends AbstractManager implements IZosFil
         return this.rseapiManager;
     }
 
+    // Only required for bulk UNIX transfer and binary upload, so they are not activated until first used
+    private List<IManager> allManagers;
+    private List<IManager> activeManagers;
+
+    private IZosUNIXCommandSpi zosUnixCommandManager;
+    public synchronized IZosUNIXCommandSpi getZosUnixCommandManager() throws ZosFileManagerException {
+        if (this.zosUnixCommandManager == null) {
+            this.zosUnixCommandManager = addOptionalManager(IZosUNIXCommandSpi.class);
+        }
+        return this.zosUnixCommandManager;
+    }
+
+    private IIpNetworkManagerSpi ipNetworkManager;
+    public synchronized IIpNetworkManagerSpi getIpNetworkManager() throws ZosFileManagerException {
+        if (this.ipNetworkManager == null) {
+            this.ipNetworkManager = addOptionalManager(IIpNetworkManagerSpi.class);
+        }
+        return this.ipNetworkManager;
+    }
+
     private final Map<String, RseapiZosFileHandlerImpl> zosFileHandlers = new HashMap<>();
 
     private static final String ZOS_DATASETS = "zOS_Datasets";
@@ -175,6 +197,19 @@ public class RseapiZosFileManagerImpl extends AbstractManager implements IZosFil
         if (rseapiManager == null) {
             throw new ZosFileManagerException("The RSE API Manager is not available");
         }
+        this.allManagers = allManagers;
+        this.activeManagers = activeManagers;
+    }
+
+    protected <T> T addOptionalManager(Class<T> managerInterface) throws ZosFileManagerException {
+        if (this.allManagers == null) {
+            return null;
+        }
+        try {
+            return addDependentManager(this.allManagers, this.activeManagers, managerInterface);
+        } catch (ManagerException e) {
+            throw new ZosFileManagerException("Unable to activate " + managerInterface.getSimpleName(), e);
+        }
     }
 
     /*
@@ -185,7 +220,9 @@ public class RseapiZosFileManagerImpl extends AbstractManager implements IZosFil
     @Override
     public boolean areYouProvisionalDependentOn(@NotNull IManager otherManager) {
         return otherManager instanceof IZosManagerSpi ||
-                otherManager instanceof IRseapiManagerSpi;
+                otherManager instanceof IRseapiManagerSpi ||
+                otherManager instanceof IZosUNIXCommandSpi ||
+                otherManager instanceof IIpNetworkManagerSpi;
     }
 
     /*
@@ -6,12 +6,21 @@
 package dev.galasa.zosfile.rseapi.manager.internal;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.constraints.NotEmpty;
 
@@ -25,15 +34,21 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import dev.galasa.ResultArchiveStoreContentType;
+import dev.galasa.ipnetwork.IpNetworkManagerException;
+import dev.galasa.ipnetwork.spi.IIpNetworkManagerSpi;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zosfile.IZosUNIXFile;
 import dev.galasa.zosfile.ZosFileManagerException;
 import dev.galasa.zosfile.ZosUNIXFileException;
+import dev.galasa.zosfile.spi.ZosUNIXFileArchiver;
+import dev.galasa.zosfile.spi.ZosUNIXFileTreeWalker;
 import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
 import dev.galasa.zosrseapi.IRseapiResponse;
 import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
 import dev.galasa.zosrseapi.RseapiException;
 import dev.galasa.zosrseapi.RseapiManagerException;
+import dev.galasa.zosunixcommand.IZosUNIXCommand;
+import dev.galasa.zosunixcommand.spi.IZosUNIXCommandSpi;
 
 public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
     
@@ -70,6 +85,8 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
     private boolean shouldArchive = false;
 
     private boolean shouldCleanup = true;
+
+    private boolean useBulkTransfer = false;
     
 	private static final String PROP_PERMISSIONS_SYMBOLIC = "permissionsSymbolic";
 	private static final String PROP_SIZE = "size";
@@ -171,19 +188,22 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
         if (isDirectory()) {
             throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(this.unixPath) + " is a directory");
         }
-        
+        store(this.unixPath, content);
+    }
+
+    protected void store(String path, String content) throws ZosUNIXFileException {
         String urlPath;
         RseapiRequestType requestType;
         Object requestBody;   
         Map<String, String> headers = new HashMap<>();
         if (getDataType().equals(UNIXFileDataType.TEXT)) {
-        	urlPath = RESTFILES_FILE_PATH + this.unixPath;
+        	urlPath = RESTFILES_FILE_PATH + path;
         	requestType = RseapiRequestType.PUT_JSON;
 	        requestBody = new JsonObject();
 	        headers.put(HEADER_CONVERT, "true");
 	        ((JsonObject) requestBody).addProperty(PROP_CONTENT, content);
         } else {        	
-        	urlPath = RESTFILES_FILE_PATH + this.unixPath + RESTFILES_FILE_PATH_RAW_CONTENT;
+        	urlPath = RESTFILES_FILE_PATH + path + RESTFILES_FILE_PATH_RAW_CONTENT;
         	requestType = RseapiRequestType.PUT_TEXT;
         	requestBody = content;
         	headers.put(HEADER_CONVERT, "false");
@@ -198,13 +218,12 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
         
         if (response.getStatusCode() != HttpStatus.SC_OK) {
             // Error case
-        	String displayMessage = this.zosFileHandler.buildErrorString("writing to " + quoted(this.unixPath), response); 
+        	String displayMessage = this.zosFileHandler.buildErrorString("writing to " + quoted(path), response); 
             logger.error(displayMessage);
             throw new ZosUNIXFileException(displayMessage);
         }
     
-        logger.trace(LOG_UNIX_PATH + quoted(this.directoryPath) + " updated" + logOnImage());
-        
+        logger.trace(LOG_UNIX_PATH + quoted(path) + " updated" + logOnImage());
     }
 
     @Override
@@ -238,6 +257,54 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
         return listDirectory(this.unixPath, true);
     }
 
+    @Override
+    public Map<String, String> walk(int maxDepth, Predicate<String> filter) throws ZosUNIXFileException {
+        if (!isDirectory()) {
+            throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(this.unixPath) + " is not a directory");
+        }
+        try (ZosUNIXFileTreeWalker treeWalker = newTreeWalker()) {
+            return treeWalker.walk(this.unixPath, maxDepth, filter);
+        }
+    }
+
+    @Override
+    public void downloadTree(Path localPath) throws ZosUNIXFileException {
+        if (!exists()) {
+            throw new ZosUNIXFileException(LOG_UNIX_PATH + quoted(this.unixPath) + LOG_DOES_NOT_EXIST + logOnImage());
+        }
+        if (!isDirectory()) {
+            try (ZosUNIXFileTreeWalker treeWalker = newTreeWalker()) {
+                treeWalker.download(this.directoryPath, Collections.singletonMap(this.unixPath, TYPE_FILE), localPath);
+            }
+        } else if (useBulkTransfer()) {
+            newArchiver().download(this.unixPath, localPath);
+        } else {
+            try (ZosUNIXFileTreeWalker treeWalker = newTreeWalker()) {
+                treeWalker.download(this.unixPath, treeWalker.walk(this.unixPath, 0, null), localPath);
+            }
+        }
+        logger.info(quoted(this.unixPath) + " downloaded to " + localPath);
+    }
+
+    @Override
+    public void uploadTree(Path localPath) throws ZosUNIXFileException {
+        if (!Files.isDirectory(localPath)) {
+            throw new ZosUNIXFileException(LOG_INVALID_REQUETS + localPath + " is not a directory");
+        }
+        if (!isDirectory()) {
+            throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(this.unixPath) + " is not a directory");
+        }
+        if (!exists()) {
+            create();
+        }
+        if (useBulkTransfer()) {
+            newArchiver().upload(localPath, this.unixPath);
+        } else {
+            uploadPaths(localPath);
+        }
+        logger.info(localPath + " uploaded to " + quoted(this.unixPath) + logOnImage());
+    }
+
 
     @Override
     public void setDataType(UNIXFileDataType dataType) {
@@ -295,6 +362,16 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
 	public boolean shouldCleanup() {
 		return this.shouldCleanup;
 	}
+
+    @Override
+	public void setUseBulkTransfer(boolean useBulkTransfer) {
+		this.useBulkTransfer = useBulkTransfer;
+	}
+
+	@Override
+	public boolean useBulkTransfer() {
+		return this.useBulkTransfer;
+	}
     
     protected String getAttributesAsString(String path) throws ZosUNIXFileException {
         if (path.endsWith(SLASH)) {
@@ -459,10 +536,10 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
         Map<String, String> headers = new HashMap<>();
         boolean convert;
         if (getDataType().equals(UNIXFileDataType.TEXT)) {
-        	urlPath = RESTFILES_FILE_PATH + this.unixPath;
+        	urlPath = RESTFILES_FILE_PATH + path;
         	convert = true;
         } else {        	
-        	urlPath = RESTFILES_FILE_PATH + this.unixPath + RESTFILES_FILE_PATH_RAW_CONTENT;
+        	urlPath = RESTFILES_FILE_PATH + path + RESTFILES_FILE_PATH_RAW_CONTENT;
         	convert = false;
         }
     	headers.put(HEADER_CONVERT, String.valueOf(convert));
@@ -507,7 +584,11 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
         if (!exists(path)) {
             throw new ZosUNIXFileException(LOG_UNIX_PATH + quoted(path) + LOG_DOES_NOT_EXIST + logOnImage());
         }
-        if (isDirectory(path)) {
+        if (isDirectory(path) && useBulkTransfer()) {
+            Path artifactPath = this.zosFileHandler.getArtifactsRoot().resolve(rasPath);
+            newArchiver().download(path, artifactPath);
+            logger.info(quoted(path) + LOG_ARCHIVED_TO + artifactPath);
+        } else if (isDirectory(path)) {
             Map<String, String> paths = listDirectory(path, true);
             for (Map.Entry<String,String> entry : paths.entrySet()) {
                 String entryPath = entry.getKey();
@@ -539,7 +620,11 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
         if (!isDirectory(path)) {
             throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(path) + " is not a directory");
         }
+        return listDirectoryContent(path, recursive);
+    }
 
+
+    protected Map<String, String> listDirectoryContent(String path, boolean recursive) throws ZosUNIXFileException {
         if (path.endsWith(SLASH)) {
             path = path.substring(0, path.length()-1);
         }
@@ -590,6 +675,143 @@ public class RseapiZosUNIXFileImpl implements IZosUNIXFile {
         return paths;
     }
     
+    protected ZosUNIXFileTreeWalker newTreeWalker() throws ZosUNIXFileException {
+        int concurrentRequests;
+        try {
+            concurrentRequests = this.zosFileHandler.getZosManager().getZosFilePropertyUnixConcurrentRequests(this.image.getImageID());
+        } catch (ZosFileManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        return new ZosUNIXFileTreeWalker(this::newTreeAccessor, concurrentRequests, TYPE_DIRECTORY, TYPE_FILE);
+    }
+
+    protected ZosUNIXFileTreeWalker.ITreeAccessor newTreeAccessor() throws ZosUNIXFileException {
+        // Each worker thread has its own RSE API server connections because request headers are held by the server
+        RseapiZosUNIXFileImpl worker = new RseapiZosUNIXFileImpl(this.zosFileHandler, this.image, this.unixPath);
+        worker.setDataType(getDataType());
+        try {
+            worker.rseapiApiProcessor = this.zosFileHandler.getZosFileManager().getRseapiManager().newDedicatedRseapiRestApiProcessor(this.image, this.zosFileHandler.getZosManager().getZosFilePropertyFileRestrictToImage(this.image.getImageID()));
+        } catch (ZosFileManagerException | RseapiManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        return new ZosUNIXFileTreeWalker.ITreeAccessor() {
+            @Override
+            public SortedMap<String, String> listDirectory(String path) throws ZosUNIXFileException {
+                return new TreeMap<>(worker.listDirectoryContent(path, false));
+            }
+
+            @Override
+            public Object retrieve(String path) throws ZosUNIXFileException {
+                return worker.retrieve(path);
+            }
+
+            @Override
+            public void close() {
+                worker.rseapiApiProcessor.close();
+            }
+        };
+    }
+    
+    protected void uploadPaths(Path localPath) throws ZosUNIXFileException {
+        String root = this.unixPath.endsWith(SLASH) ? this.unixPath : this.unixPath + SLASH;
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(localPath)) {
+            paths = walk.sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to list " + localPath, e);
+        }
+        try {
+            for (Path path : paths) {
+                if (path.equals(localPath)) {
+                    continue;
+                }
+                String target = root + localPath.relativize(path).toString().replace(path.getFileSystem().getSeparator(), SLASH);
+                if (Files.isDirectory(path)) {
+                    if (!exists(target)) {
+                        createPath(target, TYPE_DIRECTORY);
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    if (!exists(target)) {
+                        createPath(target, TYPE_FILE);
+                    }
+                    if (getDataType() == UNIXFileDataType.BINARY) {
+                        storeBinary(target, path);
+                    } else {
+                        store(target, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to read " + localPath, e);
+        }
+    }
+
+    protected void storeBinary(String path, Path localFile) throws ZosUNIXFileException {
+        // RSE API cannot store binary content, so the file is transferred using SFTP
+        IIpNetworkManagerSpi ipNetworkManager;
+        try {
+            ipNetworkManager = this.zosFileHandler.getZosFileManager().getIpNetworkManager();
+        } catch (ZosFileManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        if (ipNetworkManager == null) {
+            throw new ZosUNIXFileException("Binary upload requires the IP Network Manager");
+        }
+        try {
+            FileSystem fileSystem = ipNetworkManager.getFileSystem(this.image.getIpHost());
+            try (OutputStream outputStream = Files.newOutputStream(fileSystem.getPath(path))) {
+                Files.copy(localFile, outputStream);
+            }
+        } catch (IpNetworkManagerException | IOException e) {
+            throw new ZosUNIXFileException("Unable to write to " + LOG_UNIX_PATH + quoted(path) + logOnImage(), e);
+        }
+        logger.trace(LOG_UNIX_PATH + quoted(path) + " updated" + logOnImage());
+    }
+
+    protected ZosUNIXFileArchiver newArchiver() throws ZosUNIXFileException {
+        // RSE API cannot store binary content, so the archive is transferred using SFTP
+        RseapiZosFileManagerImpl zosFileManager = this.zosFileHandler.getZosFileManager();
+        IZosUNIXCommandSpi zosUnixCommandManager;
+        IIpNetworkManagerSpi ipNetworkManager;
+        try {
+            zosUnixCommandManager = zosFileManager.getZosUnixCommandManager();
+            ipNetworkManager = zosFileManager.getIpNetworkManager();
+        } catch (ZosFileManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        if (zosUnixCommandManager == null || ipNetworkManager == null) {
+            throw new ZosUNIXFileException("Bulk transfer requires the zOS UNIX Command Manager and the IP Network Manager");
+        }
+        IZosUNIXCommand zosUNIXCommand = zosUnixCommandManager.getZosUNIXCommand(this.image);
+        FileSystem fileSystem;
+        int timeout;
+        try {
+            fileSystem = ipNetworkManager.getFileSystem(this.image.getIpHost());
+            timeout = this.zosFileHandler.getZosManager().getZosFilePropertyUnixArchiveTimeout(this.image.getImageID());
+        } catch (IpNetworkManagerException | ZosFileManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        return new ZosUNIXFileArchiver(zosUNIXCommand, new ZosUNIXFileArchiver.IArchiveTransport() {
+            @Override
+            public InputStream retrieveArchive(String archivePath) throws ZosUNIXFileException {
+                try {
+                    return Files.newInputStream(fileSystem.getPath(archivePath));
+                } catch (IOException e) {
+                    throw new ZosUNIXFileException("Unable to retrieve content of " + quoted(archivePath) + logOnImage(), e);
+                }
+            }
+
+            @Override
+            public void storeArchive(String archivePath, Path archive) throws ZosUNIXFileException {
+                try (OutputStream outputStream = Files.newOutputStream(fileSystem.getPath(archivePath))) {
+                    Files.copy(archive, outputStream);
+                } catch (IOException e) {
+                    throw new ZosUNIXFileException("Unable to write to " + LOG_UNIX_PATH + quoted(archivePath) + logOnImage(), e);
+                }
+            }
+        }, getDataType() == UNIXFileDataType.TEXT, timeout * 1000L);
+    }
+    
     protected String storeArtifact(String rasPath, Object content, boolean directory, @NotEmpty String ... artifactPathElements) throws ZosUNIXFileException {
         Path artifactPath;
         try {
@@ -0,0 +1,210 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.rseapi.manager.internal;
+
+import java.nio.file.Path;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import dev.galasa.zos.IZosImage;
+import dev.galasa.zos.internal.ZosManagerImpl;
+import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.IZosDataset.DatasetOrganization;
+import dev.galasa.zosfile.IZosFileHandler.DatasetListAttributes;
+import dev.galasa.zosfile.ZosDatasetException;
+import dev.galasa.zosfile.ZosFileManagerException;
+import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
+import dev.galasa.zosrseapi.IRseapiResponse;
+import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
+import dev.galasa.zosrseapi.RseapiException;
+import dev.galasa.zosrseapi.internal.RseapiManagerImpl;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({LogFactory.class})
+public class TestRseapiZosDatasetIteratorImpl {
+
+    @Mock
+    private IZosImage zosImageMock;
+
+    @Mock
+    private ZosManagerImpl zosManagerMock;
+
+    @Mock
+    private RseapiZosFileManagerImpl zosFileManagerMock;
+
+    @Mock
+    private RseapiZosFileHandlerImpl zosFileHandlerMock;
+
+    @Mock
+    private RseapiManagerImpl rseapiManagerMock;
+
+    @Mock
+    private IRseapiRestApiProcessor rseapiApiProcessorMock;
+
+    @Mock
+    private IRseapiResponse rseapiResponseMock;
+
+    @Mock
+    private Log logMock;
+
+    private static final String PATTERN = "RUNHLQ.**";
+
+    private static final String IMAGE = "IMAGE";
+
+    private static final String EXCEPTION = "exception";
+
+    private static final String LIST_PATH = "/rseapi/api/v1/datasets/" + PATTERN;
+
+    @Before
+    public void setup() throws Exception {
+        PowerMockito.mockStatic(LogFactory.class);
+        Mockito.when(LogFactory.getLog(Mockito.any(Class.class))).thenReturn(logMock);
+
+        Mockito.when(zosImageMock.getImageID()).thenReturn(IMAGE);
+
+        Mockito.when(zosManagerMock.getZosFilePropertyFileRestrictToImage(Mockito.any())).thenReturn(true);
+        Mockito.when(zosManagerMock.getZosFilePropertyDatasetListMaxItems(Mockito.any())).thenReturn(2);
+
+        PowerMockito.doReturn(rseapiApiProcessorMock).when(rseapiManagerMock).newRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        Mockito.when(zosFileHandlerMock.getRseapiManager()).thenReturn(rseapiManagerMock);
+        Mockito.when(zosFileHandlerMock.getZosManager()).thenReturn(zosManagerMock);
+        Mockito.when(zosFileManagerMock.getDatasetCurrentTestMethodArchiveFolder()).thenReturn(Mockito.mock(Path.class));
+        Mockito.when(zosFileHandlerMock.getZosFileManager()).thenReturn(zosFileManagerMock);
+
+        Mockito.when(rseapiApiProcessorMock.sendRequest(Mockito.eq(RseapiRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(rseapiResponseMock);
+        Mockito.when(rseapiResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+    }
+
+    @Test
+    public void testConstructorException() throws ZosFileManagerException {
+        Mockito.when(zosManagerMock.getZosFilePropertyDatasetListMaxItems(Mockito.any())).thenThrow(new ZosFileManagerException(EXCEPTION));
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    }
+
+    @Test
+    public void testPaging() throws Exception {
+        Mockito.when(rseapiResponseMock.getJsonContent()).thenReturn(getJsonObject("RUNHLQ.A", "RUNHLQ.B"), getJsonObject("RUNHLQ.C"));
+        RseapiZosDatasetIteratorImpl iterator = new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        Assert.assertTrue("hasNext() should return true", iterator.hasNext());
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.A", iterator.next().getName());
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.B", iterator.next().getName());
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.any(), Mockito.eq(LIST_PATH + "?start=0&limit=2"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.C", iterator.next().getName());
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.any(), Mockito.eq(LIST_PATH + "?start=2&limit=2"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+
+        // The short page was the last one
+        Assert.assertFalse("hasNext() should return false", iterator.hasNext());
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(2)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+
+        String expectedMessage = "No more data sets matching \"" + PATTERN + "\" on image " + IMAGE;
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.next();
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+
+    @Test
+    public void testPagingFullLastPage() throws Exception {
+        Mockito.when(rseapiResponseMock.getJsonContent()).thenReturn(getJsonObject("RUNHLQ.A", "RUNHLQ.B"), getJsonObject());
+        RseapiZosDatasetIteratorImpl iterator = new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.A", iterator.next().getName());
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.B", iterator.next().getName());
+        Assert.assertFalse("hasNext() should return false", iterator.hasNext());
+        Assert.assertFalse("hasNext() should return false", iterator.hasNext());
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(2)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    public void testBaseAttributes() throws Exception {
+        JsonObject responseBody = getJsonObject("RUNHLQ.A");
+        JsonObject item = responseBody.getAsJsonArray("items").get(0).getAsJsonObject();
+        item.addProperty("volumeSerial", "VOL001");
+        item.addProperty("dataSetOrganization", "PO");
+        Mockito.when(rseapiResponseMock.getJsonContent()).thenReturn(responseBody);
+        RseapiZosDatasetIteratorImpl iterator = new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.BASE);
+
+        IZosDataset zosDataset = iterator.next();
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.A", zosDataset.getName());
+        Assert.assertEquals("next() should set the volumes", "VOL001", zosDataset.getVolumes());
+        Assert.assertEquals("next() should set the organization", DatasetOrganization.PARTITIONED, zosDataset.getDatasetOrganization());
+    }
+
+    @Test
+    public void testNoItems() throws Exception {
+        Mockito.when(rseapiResponseMock.getJsonContent()).thenReturn(new JsonObject());
+        RseapiZosDatasetIteratorImpl iterator = new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        Assert.assertFalse("hasNext() should return false", iterator.hasNext());
+    }
+
+    @Test
+    public void testRseapiException() throws Exception {
+        Mockito.when(rseapiApiProcessorMock.sendRequest(Mockito.eq(RseapiRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenThrow(new RseapiException(EXCEPTION));
+        RseapiZosDatasetIteratorImpl iterator = new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.hasNext();
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    }
+
+    @Test
+    public void testRseapiResponseException() throws Exception {
+        Mockito.when(rseapiResponseMock.getJsonContent()).thenThrow(new RseapiException(EXCEPTION));
+        RseapiZosDatasetIteratorImpl iterator = new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        String expectedMessage = "Unable to list data sets matching \"" + PATTERN + "\" on image " + IMAGE;
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.hasNext();
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+
+    @Test
+    public void testBadHttpResponse() throws Exception {
+        Mockito.when(rseapiResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        Mockito.when(zosFileHandlerMock.buildErrorString(Mockito.any(), Mockito.any())).thenReturn("Error listing");
+        RseapiZosDatasetIteratorImpl iterator = new RseapiZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.hasNext();
+        });
+    	Assert.assertEquals("exception should contain expected message", "Error listing", expectedException.getMessage());
+    }
+
+    private JsonObject getJsonObject(String... dsnames) {
+        JsonObject responseBody = new JsonObject();
+        JsonArray items = new JsonArray();
+        for (String dsname : dsnames) {
+            JsonObject item = new JsonObject();
+            item.addProperty("name", dsname);
+            items.add(item);
+        }
+        responseBody.add("items", items);
+        return responseBody;
+    }
+}
@@ -29,6 +29,7 @@ import com.google.gson.JsonObject;
 
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.internal.ZosManagerImpl;
+import dev.galasa.zosfile.IZosFileHandler.DatasetListAttributes;
 import dev.galasa.zosfile.ZosDatasetException;
 import dev.galasa.zosfile.ZosUNIXFileException;
 import dev.galasa.zosfile.ZosVSAMDatasetException;
@@ -134,6 +135,12 @@ public class TestRseapiZosFileHandlerImpl {
         Assert.assertTrue("Error in newVSAMDataset() method", obj instanceof RseapiZosVSAMDatasetImpl);
     }
     
+    @Test
+    public void testListDatasets() throws ZosDatasetException {
+        Object obj = zosFileHandlerSpy.listDatasets(DATASET_NAME + ".**", zosImageMock, DatasetListAttributes.BASE);
+        Assert.assertTrue("Error in listDatasets() method", obj instanceof RseapiZosDatasetIteratorImpl);
+    }
+    
     @Test
     public void testCleanupMethods() throws Exception {
         Mockito.doNothing().when(zosFileHandlerSpy).cleanupDatasets();
@@ -34,6 +34,7 @@ import dev.galasa.framework.spi.IManager;
 import dev.galasa.framework.spi.IResultArchiveStore;
 import dev.galasa.framework.spi.language.GalasaMethod;
 import dev.galasa.framework.spi.language.GalasaTest;
+import dev.galasa.ipnetwork.spi.IIpNetworkManagerSpi;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zos.internal.ZosManagerImpl;
@@ -42,6 +43,7 @@ import dev.galasa.zosfile.ZosFileManagerException;
 import dev.galasa.zosfile.ZosUNIXFileException;
 import dev.galasa.zosfile.ZosVSAMDatasetException;
 import dev.galasa.zosrseapi.internal.RseapiManagerImpl;
+import dev.galasa.zosunixcommand.spi.IZosUNIXCommandSpi;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({LogFactory.class})
@@ -149,6 +151,11 @@ public class TestRseapiZosFileManagerImpl {
         zosFileManagerSpy.youAreRequired(allManagers, activeManagers);
         PowerMockito.verifyPrivate(zosFileManagerSpy, Mockito.times(2)).invoke("addDependentManager", Mockito.any(), Mockito.any(), Mockito.any());
         
+        // The bulk transfer managers are only looked up when first used
+        Assert.assertNull("Method should return null when the zOS UNIX Command Manager is not available", zosFileManagerSpy.getZosUnixCommandManager());
+        Assert.assertNull("Method should return null when the IP Network Manager is not available", zosFileManagerSpy.getIpNetworkManager());
+        PowerMockito.verifyPrivate(zosFileManagerSpy, Mockito.times(4)).invoke("addDependentManager", Mockito.any(), Mockito.any(), Mockito.any());
+        
         Mockito.clearInvocations(zosFileManagerSpy);        
         zosFileManagerSpy.youAreRequired(allManagers, activeManagers);
         PowerMockito.verifyPrivate(zosFileManagerSpy, Mockito.times(0)).invoke("addDependentManager", Mockito.any(), Mockito.any(), Mockito.any());
@@ -179,6 +186,8 @@ public class TestRseapiZosFileManagerImpl {
     public void testAreYouProvisionalDependentOn() {
         Assert.assertTrue("Should be dependent on IZosManagerSpi" , zosFileManagerSpy.areYouProvisionalDependentOn(zosManagerMock));
         Assert.assertTrue("Should be dependent on IRseapiManagerSpi" , zosFileManagerSpy.areYouProvisionalDependentOn(rseapiManagerMock));
+        Assert.assertTrue("Should be dependent on IZosUNIXCommandSpi" , zosFileManagerSpy.areYouProvisionalDependentOn(Mockito.mock(IManager.class, Mockito.withSettings().extraInterfaces(IZosUNIXCommandSpi.class))));
+        Assert.assertTrue("Should be dependent on IIpNetworkManagerSpi" , zosFileManagerSpy.areYouProvisionalDependentOn(Mockito.mock(IManager.class, Mockito.withSettings().extraInterfaces(IIpNetworkManagerSpi.class))));
         Assert.assertFalse("Should not be dependent on IManager" , zosFileManagerSpy.areYouProvisionalDependentOn(managerMock));
     }
 
@@ -9,12 +9,16 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -35,17 +39,23 @@ import org.powermock.reflect.Whitebox;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
+import dev.galasa.ipnetwork.IpNetworkManagerException;
+import dev.galasa.ipnetwork.spi.IIpNetworkManagerSpi;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosfile.IZosUNIXFile.UNIXFileDataType;
 import dev.galasa.zosfile.ZosFileManagerException;
 import dev.galasa.zosfile.ZosUNIXFileException;
+import dev.galasa.zosfile.spi.ZosUNIXFileArchiver;
+import dev.galasa.zosfile.spi.ZosUNIXFileTreeWalker;
 import dev.galasa.zosrseapi.IRseapi.RseapiRequestType;
 import dev.galasa.zosrseapi.IRseapiResponse;
 import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
 import dev.galasa.zosrseapi.RseapiException;
 import dev.galasa.zosrseapi.RseapiManagerException;
 import dev.galasa.zosrseapi.internal.RseapiManagerImpl;
+import dev.galasa.zosunixcommand.IZosUNIXCommand;
+import dev.galasa.zosunixcommand.spi.IZosUNIXCommandSpi;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({LogFactory.class})
@@ -823,6 +833,204 @@ public class TestRseapiZosUNIXFileImpl {
         Assert.assertEquals("getPaths() should return expected content", expectedResult, result);
     }
     
+    @Test
+    public void testWalk() throws ZosUNIXFileException {
+        ZosUNIXFileTreeWalker treeWalkerMock = Mockito.mock(ZosUNIXFileTreeWalker.class);
+        PowerMockito.doReturn(treeWalkerMock).when(zosUNIXFileSpy).newTreeWalker();
+        SortedMap<String, String> paths = new TreeMap<>();
+        paths.put(UNIX_PATH, TYPE_FILE);
+        Mockito.when(treeWalkerMock.walk(Mockito.any(), Mockito.anyInt(), Mockito.any())).thenReturn(paths);
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        
+        Assert.assertEquals("walk() should return expected content", paths, zosUNIXFileSpy.walk(2, null));
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).walk(UNIX_PATH, 2, null);
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).close();
+        
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        String expectedMessage = "Invalid request, \"" + UNIX_PATH + "\" is not a directory";
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.walk(0, null);
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testDownloadTree() throws ZosUNIXFileException {
+        ZosUNIXFileTreeWalker treeWalkerMock = Mockito.mock(ZosUNIXFileTreeWalker.class);
+        PowerMockito.doReturn(treeWalkerMock).when(zosUNIXFileSpy).newTreeWalker();
+        SortedMap<String, String> paths = new TreeMap<>();
+        Mockito.when(treeWalkerMock.walk(Mockito.any(), Mockito.anyInt(), Mockito.any())).thenReturn(paths);
+        Path pathMock = Mockito.mock(Path.class);
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).exists(Mockito.any());
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        
+        zosUNIXFileSpy.downloadTree(pathMock);
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).download(UNIX_PATH, paths, pathMock);
+        
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        zosUNIXFileSpy.downloadTree(pathMock);
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).download(UNIX_DIRECTORY, Collections.singletonMap(UNIX_PATH, TYPE_FILE), pathMock);
+        Mockito.verify(treeWalkerMock, Mockito.times(2)).close();
+        
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).exists(Mockito.any());
+        String expectedMessage = "UNIX path \"" + UNIX_PATH + "\" does not exist on image " + IMAGE;
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.downloadTree(pathMock);
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testNewTreeWalker() throws ZosUNIXFileException, ZosFileManagerException {
+        Mockito.when(zosManagerMock.getZosFilePropertyUnixConcurrentRequests(Mockito.any())).thenReturn(2);
+        Assert.assertNotNull("newTreeWalker() should return a tree walker", zosUNIXFileSpy.newTreeWalker());
+        
+        Mockito.when(zosManagerMock.getZosFilePropertyUnixConcurrentRequests(Mockito.any())).thenThrow(new ZosFileManagerException(EXCEPTION));
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.newTreeWalker();
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
+    @Test
+    public void testNewTreeAccessor() throws ZosUNIXFileException, RseapiException, RseapiManagerException {
+        IRseapiRestApiProcessor dedicatedApiProcessorMock = Mockito.mock(IRseapiRestApiProcessor.class);
+        Mockito.when(rseapiManagerMock.newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenReturn(dedicatedApiProcessorMock);
+        Mockito.when(dedicatedApiProcessorMock.sendRequest(Mockito.eq(RseapiRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(rseapiResponseMock);
+        Mockito.when(rseapiResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        JsonObject responseBody = new JsonObject();
+        responseBody.addProperty(CONTENT, CONTENT);
+        Mockito.when(rseapiResponseMock.getJsonContent()).thenReturn(responseBody);
+        
+        ZosUNIXFileTreeWalker.ITreeAccessor treeAccessor = zosUNIXFileSpy.newTreeAccessor();
+        Assert.assertEquals("retrieve() should return expected content", CONTENT, treeAccessor.retrieve(UNIX_DIRECTORY + "/file2"));
+        Mockito.verify(dedicatedApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.any(), Mockito.eq("/rseapi/api/v1/unixfiles" + UNIX_DIRECTORY + "/file2"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(rseapiApiProcessorMock, Mockito.times(0)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        
+        Assert.assertTrue("listDirectory() should return expected content", treeAccessor.listDirectory(UNIX_DIRECTORY).isEmpty());
+        
+        treeAccessor.close();
+        Mockito.verify(dedicatedApiProcessorMock, Mockito.times(1)).close();
+        
+        Mockito.when(rseapiManagerMock.newDedicatedRseapiRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenThrow(new RseapiManagerException(EXCEPTION));
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.newTreeAccessor();
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
+    @Test
+    public void testDownloadTreeBulk() throws ZosUNIXFileException {
+        ZosUNIXFileArchiver archiverMock = Mockito.mock(ZosUNIXFileArchiver.class);
+        PowerMockito.doReturn(archiverMock).when(zosUNIXFileSpy).newArchiver();
+        Path pathMock = Mockito.mock(Path.class);
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).exists(Mockito.any());
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        zosUNIXFileSpy.setUseBulkTransfer(true);
+        Assert.assertTrue("useBulkTransfer() should return true", zosUNIXFileSpy.useBulkTransfer());
+        
+        zosUNIXFileSpy.downloadTree(pathMock);
+        Mockito.verify(archiverMock, Mockito.times(1)).download(UNIX_PATH, pathMock);
+        Mockito.verify(zosUNIXFileSpy, Mockito.times(0)).newTreeWalker();
+        
+        Mockito.when(zosFileHandlerMock.getArtifactsRoot()).thenReturn(pathMock);
+        Mockito.when(pathMock.resolve(RAS_PATH)).thenReturn(pathMock);
+        zosUNIXFileSpy.saveToResultsArchive(UNIX_PATH, RAS_PATH);
+        Mockito.verify(archiverMock, Mockito.times(2)).download(UNIX_PATH, pathMock);
+    }
+    
+    @Test
+    public void testUploadTree() throws ZosUNIXFileException, IOException {
+        ZosUNIXFileArchiver archiverMock = Mockito.mock(ZosUNIXFileArchiver.class);
+        PowerMockito.doReturn(archiverMock).when(zosUNIXFileSpy).newArchiver();
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).exists();
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory();
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).exists(Mockito.anyString());
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).createPath(Mockito.any(), Mockito.any());
+        PowerMockito.doNothing().when(zosUNIXFileSpy).store(Mockito.anyString(), Mockito.anyString());
+        Path localPath = Files.createTempDirectory("galasa");
+        try {
+            Files.createDirectories(localPath.resolve("dir"));
+            Files.write(localPath.resolve("dir").resolve("file"), CONTENT.getBytes());
+            
+            zosUNIXFileSpy.uploadTree(localPath);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).createPath(UNIX_PATH + "/dir", TYPE_DIRECTORY);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).createPath(UNIX_PATH + "/dir/file", TYPE_FILE);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).store(UNIX_PATH + "/dir/file", CONTENT);
+            Mockito.verify(archiverMock, Mockito.times(0)).upload(Mockito.any(), Mockito.any());
+            
+            PowerMockito.doNothing().when(zosUNIXFileSpy).storeBinary(Mockito.anyString(), Mockito.any());
+            zosUNIXFileSpy.setDataType(UNIXFileDataType.BINARY);
+            zosUNIXFileSpy.uploadTree(localPath);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).storeBinary(UNIX_PATH + "/dir/file", localPath.resolve("dir").resolve("file"));
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).store(Mockito.anyString(), Mockito.anyString());
+            zosUNIXFileSpy.setDataType(UNIXFileDataType.TEXT);
+            
+            zosUNIXFileSpy.setUseBulkTransfer(true);
+            zosUNIXFileSpy.uploadTree(localPath);
+            Mockito.verify(archiverMock, Mockito.times(1)).upload(localPath, UNIX_PATH);
+            
+            PowerMockito.doReturn(false).when(zosUNIXFileSpy).isDirectory();
+            String expectedMessage = "Invalid request, \"" + UNIX_PATH + "\" is not a directory";
+            ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+            	zosUNIXFileSpy.uploadTree(localPath);
+            });
+            Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+        } finally {
+            try (Stream<Path> paths = Files.walk(localPath)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+    
+    @Test
+    public void testStoreBinary() throws ZosUNIXFileException, ZosFileManagerException, IpNetworkManagerException {
+        Path localFile = Paths.get("file");
+        String expectedMessage = "Binary upload requires the IP Network Manager";
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.storeBinary(UNIX_PATH, localFile);
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+        
+        IIpNetworkManagerSpi ipNetworkManagerMock = Mockito.mock(IIpNetworkManagerSpi.class);
+        Mockito.when(ipNetworkManagerMock.getFileSystem(Mockito.any())).thenThrow(new IpNetworkManagerException(EXCEPTION));
+        Mockito.when(zosFileManagerMock.getIpNetworkManager()).thenReturn(ipNetworkManagerMock);
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.storeBinary(UNIX_PATH, localFile);
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+        
+        Mockito.when(zosFileManagerMock.getIpNetworkManager()).thenThrow(new ZosFileManagerException(EXCEPTION));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.storeBinary(UNIX_PATH, localFile);
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
+    @Test
+    public void testNewArchiver() throws ZosUNIXFileException, ZosFileManagerException, IpNetworkManagerException {
+        String expectedMessage = "Bulk transfer requires the zOS UNIX Command Manager and the IP Network Manager";
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.newArchiver();
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+        
+        IZosUNIXCommandSpi zosUnixCommandManagerMock = Mockito.mock(IZosUNIXCommandSpi.class);
+        Mockito.when(zosUnixCommandManagerMock.getZosUNIXCommand(Mockito.any())).thenReturn(Mockito.mock(IZosUNIXCommand.class));
+        Mockito.when(zosFileManagerMock.getZosUnixCommandManager()).thenReturn(zosUnixCommandManagerMock);
+        IIpNetworkManagerSpi ipNetworkManagerMock = Mockito.mock(IIpNetworkManagerSpi.class);
+        Mockito.when(ipNetworkManagerMock.getFileSystem(Mockito.any())).thenReturn(Mockito.mock(FileSystem.class));
+        Mockito.when(zosFileManagerMock.getIpNetworkManager()).thenReturn(ipNetworkManagerMock);
+        Mockito.when(zosManagerMock.getZosFilePropertyUnixArchiveTimeout(Mockito.any())).thenReturn(300);
+        Assert.assertNotNull("newArchiver() should return an archiver", zosUNIXFileSpy.newArchiver());
+        
+        Mockito.when(ipNetworkManagerMock.getFileSystem(Mockito.any())).thenThrow(new IpNetworkManagerException(EXCEPTION));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.newArchiver();
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
     @Test
     public void testStoreArtifact() throws ZosFileManagerException, IOException {
         setupTestStoreArtifact();
@@ -0,0 +1,161 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.zosmf.manager.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import dev.galasa.zos.IZosImage;
+import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.IZosDatasetIterator;
+import dev.galasa.zosfile.IZosFileHandler.DatasetListAttributes;
+import dev.galasa.zosfile.ZosDatasetException;
+import dev.galasa.zosfile.ZosFileManagerException;
+import dev.galasa.zosmf.IZosmf.ZosmfCustomHeaders;
+import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
+import dev.galasa.zosmf.IZosmfResponse;
+import dev.galasa.zosmf.IZosmfRestApiProcessor;
+import dev.galasa.zosmf.ZosmfException;
+
+/**
+ * Implementation of {@link IZosDatasetIterator} using zOS/MF. Each page is requested with the {@code X-IBM-Max-Items} header
+ * and the next page is requested from the last data set name returned when zOS/MF reports {@code moreRows}
+ */
+public class ZosmfZosDatasetIteratorImpl implements IZosDatasetIterator {
+
+    private ZosmfZosFileHandlerImpl zosFileHandler;
+    private IZosImage image;
+    private String pattern;
+    private DatasetListAttributes attributes;
+    private IZosmfRestApiProcessor zosmfApiProcessor;
+    private ZosmfZosDatasetImpl patternDataset;
+    private int maxItems;
+
+    private LinkedList<JsonObject> page = new LinkedList<>();
+    private String start = null;
+    private boolean moreRows = true;
+
+    private static final String SLASH = "/";
+    private static final String RESTFILES_DATASET_PATH = SLASH + "zosmf" + SLASH + "restfiles" + SLASH + "ds";
+
+    private static final String PROP_DSNAME = "dsname";
+    private static final String PROP_RETURNED_ROWS = "returnedRows";
+    private static final String PROP_MORE_ROWS = "moreRows";
+    private static final String PROP_ITEMS = "items";
+
+    private static final Log logger = LogFactory.getLog(ZosmfZosDatasetIteratorImpl.class);
+
+    public ZosmfZosDatasetIteratorImpl(ZosmfZosFileHandlerImpl zosFileHandler, IZosImage image, String pattern, DatasetListAttributes attributes) throws ZosDatasetException {
+        this.zosFileHandler = zosFileHandler;
+        this.image = image;
+        this.pattern = pattern;
+        this.attributes = attributes != null ? attributes : DatasetListAttributes.NAME;
+        this.patternDataset = new ZosmfZosDatasetImpl(zosFileHandler, image, pattern);
+        this.zosmfApiProcessor = this.patternDataset.getZosmfApiProcessor();
+        try {
+            this.maxItems = this.zosFileHandler.getZosManager().getZosFilePropertyDatasetListMaxItems(image.getImageID());
+        } catch (ZosFileManagerException e) {
+            throw new ZosDatasetException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws ZosDatasetException {
+        while (this.page.isEmpty() && this.moreRows) {
+            nextPage();
+        }
+        return !this.page.isEmpty();
+    }
+
+    @Override
+    public IZosDataset next() throws ZosDatasetException {
+        if (!hasNext()) {
+            throw new ZosDatasetException("No more data sets matching " + quoted(this.pattern) + logOnImage());
+        }
+        JsonObject item = this.page.removeFirst();
+        ZosmfZosDatasetImpl zosDataset = new ZosmfZosDatasetImpl(this.zosFileHandler, this.image, item.get(PROP_DSNAME).getAsString());
+        if (this.attributes == DatasetListAttributes.BASE) {
+            try {
+                zosDataset.setAttributes(item);
+            } catch (IllegalArgumentException e) {
+                logger.trace("Unable to set all attributes of data set " + quoted(zosDataset.getName()) + logOnImage(), e);
+            }
+        }
+        return zosDataset;
+    }
+
+    protected void nextPage() throws ZosDatasetException {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(ZosmfCustomHeaders.X_IBM_MAX_ITEMS.toString(), Integer.toString(this.maxItems));
+        headers.put(ZosmfCustomHeaders.X_IBM_ATTRIBUTES.toString(), this.attributes.toString());
+        String urlPath = RESTFILES_DATASET_PATH + "?dslevel=" + this.pattern + (this.start != null ? "&start=" + this.start : "");
+        IZosmfResponse response;
+        try {
+            response = this.zosmfApiProcessor.sendRequest(ZosmfRequestType.GET, urlPath, headers, null,
+                    new ArrayList<>(Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), true);
+        } catch (ZosmfException e) {
+            throw new ZosDatasetException(e);
+        }
+
+        JsonObject responseBody;
+        try {
+            responseBody = response.getJsonContent();
+        } catch (ZosmfException e) {
+            throw new ZosDatasetException("Unable to list data sets matching " + quoted(this.pattern) + logOnImage(), e);
+        }
+
+        logger.trace(responseBody);
+        if (response.getStatusCode() != HttpStatus.SC_OK) {
+            // Error case - BAD_REQUEST or INTERNAL_SERVER_ERROR
+            String displayMessage = this.patternDataset.buildErrorString("listing", responseBody);
+            logger.error(displayMessage);
+            throw new ZosDatasetException(displayMessage);
+        }
+
+        this.moreRows = false;
+        JsonElement moreRowsElement = responseBody.get(PROP_MORE_ROWS);
+        if (moreRowsElement != null) {
+            this.moreRows = moreRowsElement.getAsBoolean();
+        }
+        int returnedRows = responseBody.get(PROP_RETURNED_ROWS).getAsInt();
+        JsonArray items = responseBody.getAsJsonArray(PROP_ITEMS);
+        String previousStart = this.start;
+        for (int i = 0; i < returnedRows; i++) {
+            JsonObject item = items.get(i).getAsJsonObject();
+            String dsname = item.get(PROP_DSNAME).getAsString();
+            // The start data set is returned again as the first item of the next page
+            if (i == 0 && dsname.equals(previousStart)) {
+                continue;
+            }
+            this.page.add(item);
+            this.start = dsname;
+        }
+        if (this.moreRows && this.start != null && this.start.equals(previousStart)) {
+            // No progress has been made, so stop rather than requesting the same page again
+            this.moreRows = false;
+        }
+        logger.trace(returnedRows + " data sets matching " + quoted(this.pattern) + " retrieved from image " + this.image.getImageID());
+    }
+
+    private String quoted(String name) {
+        return "\"" + name + "\"";
+    }
+
+    private String logOnImage() {
+        return " on image " + this.image.getImageID();
+    }
+}
@@ -16,6 +16,7 @@ import org.apache.commons.logging.LogFactory;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.spi.IZosManagerSpi;
 import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.IZosDatasetIterator;
 import dev.galasa.zosfile.IZosFileHandler;
 import dev.galasa.zosfile.IZosUNIXFile;
 import dev.galasa.zosfile.IZosVSAMDataset;
@@ -79,6 +80,11 @@ public class ZosmfZosFileHandlerImpl implements IZosFileHandler {
         this.zosVsamDatasets.add(zosVsamDataset);
         return zosVsamDataset;
     }
+
+    @Override
+    public IZosDatasetIterator listDatasets(String pattern, IZosImage image, DatasetListAttributes attributes) throws ZosDatasetException {
+        return new ZosmfZosDatasetIteratorImpl(this, image, pattern, attributes);
+    }
     
     public void cleanup() throws ZosFileManagerException {
         cleanupDatasets();
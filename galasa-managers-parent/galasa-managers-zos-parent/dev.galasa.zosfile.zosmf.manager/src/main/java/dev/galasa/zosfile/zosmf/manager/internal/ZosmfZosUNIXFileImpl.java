@@ -6,14 +6,21 @@
 package dev.galasa.zosfile.zosmf.manager.internal;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.constraints.NotEmpty;
 
@@ -31,12 +38,15 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zosfile.IZosUNIXFile;
 import dev.galasa.zosfile.ZosFileManagerException;
 import dev.galasa.zosfile.ZosUNIXFileException;
+import dev.galasa.zosfile.spi.ZosUNIXFileArchiver;
+import dev.galasa.zosfile.spi.ZosUNIXFileTreeWalker;
 import dev.galasa.zosmf.IZosmf.ZosmfCustomHeaders;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
 import dev.galasa.zosmf.IZosmfRestApiProcessor;
 import dev.galasa.zosmf.ZosmfException;
 import dev.galasa.zosmf.ZosmfManagerException;
+import dev.galasa.zosunixcommand.IZosUNIXCommand;
 
 public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
     
@@ -74,6 +84,8 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
 
     private boolean shouldCleanup = true;
 
+    private boolean useBulkTransfer = false;
+
     private int maxItems;
 
     private static final String PROP_TYPE = "type";
@@ -188,35 +200,7 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
         if (isDirectory()) {
             throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(this.unixPath) + " is a directory");
         }
-        
-        Map<String, String> headers = new HashMap<>();
-        headers.put(ZosmfCustomHeaders.X_IBM_DATA_TYPE.toString(), getDataType().toString());
-    
-        String urlPath = RESTFILES_FILE_SYSTEM_PATH + this.unixPath;
-        IZosmfResponse response;
-        try {
-            response = this.zosmfApiProcessor.sendRequest(ZosmfRequestType.PUT_TEXT, urlPath, headers, content, 
-                    new ArrayList<>(Arrays.asList(HttpStatus.SC_NO_CONTENT, HttpStatus.SC_CREATED, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), true);
-        } catch (ZosmfException e) {
-            throw new ZosUNIXFileException(e);
-        }
-        
-        if (response.getStatusCode() != HttpStatus.SC_NO_CONTENT && response.getStatusCode() != HttpStatus.SC_CREATED) {
-            // Error case - BAD_REQUEST or INTERNAL_SERVER_ERROR            
-            JsonObject responseBody;
-            try {
-                responseBody = response.getJsonContent();
-            } catch (ZosmfException e) {
-                throw new ZosUNIXFileException("Unable to write to " + LOG_UNIX_PATH + quoted(this.unixPath) + logOnImage(), e);
-            }
-            logger.trace(responseBody);
-            String displayMessage = buildErrorString(LOG_WRITING_TO, responseBody, this.unixPath); 
-            logger.error(displayMessage);
-            throw new ZosUNIXFileException(displayMessage);
-        }
-    
-        logger.trace(LOG_UNIX_PATH + quoted(this.directoryPath) + " updated" + logOnImage());
-        
+        store(this.unixPath, content);
     }
 
     @Override
@@ -247,7 +231,55 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
 
     @Override
     public Map<String, String> directoryListRecursive() throws ZosUNIXFileException {
-        return listDirectory(this.unixPath, false);
+        return listDirectory(this.unixPath, true);
+    }
+
+    @Override
+    public Map<String, String> walk(int maxDepth, Predicate<String> filter) throws ZosUNIXFileException {
+        if (!isDirectory()) {
+            throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(this.unixPath) + " is not a directory");
+        }
+        try (ZosUNIXFileTreeWalker treeWalker = newTreeWalker()) {
+            return treeWalker.walk(this.unixPath, maxDepth, filter);
+        }
+    }
+
+    @Override
+    public void downloadTree(Path localPath) throws ZosUNIXFileException {
+        if (!exists()) {
+            throw new ZosUNIXFileException(LOG_UNIX_PATH + quoted(this.unixPath) + LOG_DOES_NOT_EXIST + logOnImage());
+        }
+        if (!isDirectory()) {
+            try (ZosUNIXFileTreeWalker treeWalker = newTreeWalker()) {
+                treeWalker.download(this.directoryPath, Collections.singletonMap(this.unixPath, TYPE_FILE), localPath);
+            }
+        } else if (useBulkTransfer()) {
+            newArchiver().download(this.unixPath, localPath);
+        } else {
+            try (ZosUNIXFileTreeWalker treeWalker = newTreeWalker()) {
+                treeWalker.download(this.unixPath, treeWalker.walk(this.unixPath, 0, null), localPath);
+            }
+        }
+        logger.info(quoted(this.unixPath) + " downloaded to " + localPath);
+    }
+
+    @Override
+    public void uploadTree(Path localPath) throws ZosUNIXFileException {
+        if (!Files.isDirectory(localPath)) {
+            throw new ZosUNIXFileException(LOG_INVALID_REQUETS + localPath + " is not a directory");
+        }
+        if (!isDirectory()) {
+            throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(this.unixPath) + " is not a directory");
+        }
+        if (!exists()) {
+            create();
+        }
+        if (useBulkTransfer()) {
+            newArchiver().upload(localPath, this.unixPath);
+        } else {
+            uploadPaths(localPath);
+        }
+        logger.info(localPath + " uploaded to " + quoted(this.unixPath) + logOnImage());
     }
 
 
@@ -307,6 +339,16 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
 	public boolean shouldCleanup() {
 		return this.shouldCleanup;
 	}
+
+    @Override
+	public void setUseBulkTransfer(boolean useBulkTransfer) {
+		this.useBulkTransfer = useBulkTransfer;
+	}
+
+	@Override
+	public boolean useBulkTransfer() {
+		return this.useBulkTransfer;
+	}
     
     protected String getAttributesAsString(String path) throws ZosUNIXFileException {
         if (path.endsWith(SLASH)) {
@@ -551,12 +593,128 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
         return content;
     }
 
+
+    protected InputStream retrieveArchive(String path) throws ZosUNIXFileException {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(ZosmfCustomHeaders.X_IBM_DATA_TYPE.toString(), UNIXFileDataType.BINARY.toString());
+        String urlPath = RESTFILES_FILE_SYSTEM_PATH + path;
+        IZosmfResponse response;
+        try {
+            response = this.zosmfApiProcessor.sendRequest(ZosmfRequestType.GET, urlPath, headers, null,
+                    new ArrayList<>(Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), false);
+        } catch (ZosmfException e) {
+            throw new ZosUNIXFileException(e);
+        }
+
+        if (response.getStatusCode() != HttpStatus.SC_OK) {
+            JsonObject responseBody;
+            try {
+                responseBody = response.getJsonContent();
+            } catch (ZosmfException e) {
+                throw new ZosUNIXFileException("Unable to retrieve content of " + quoted(path) + logOnImage(), e);
+            }
+            logger.trace(responseBody);    
+            // Error case - BAD_REQUEST or INTERNAL_SERVER_ERROR
+            String displayMessage = buildErrorString(LOG_READING_FROM, responseBody, path); 
+            logger.error(displayMessage);
+            throw new ZosUNIXFileException(displayMessage);
+        }
+
+        Object content;
+        try {
+            content = response.getContent();
+        } catch (ZosmfException e) {
+            throw new ZosUNIXFileException("Unable to retrieve content of " + quoted(path) + logOnImage(), e);
+        }
+        if (!(content instanceof InputStream)) {
+            throw new ZosUNIXFileException("Unable to retrieve content of " + quoted(path) + logOnImage() + ". Invalid content object type: " + (content == null ? null : content.getClass().getName()));
+        }
+        return (InputStream) content;
+    }
+
+
+    protected void store(String path, Object content) throws ZosUNIXFileException {
+        Map<String, String> headers = new HashMap<>();
+        ZosmfRequestType requestType;
+        if (content instanceof byte[] || content instanceof Path) {
+            headers.put(ZosmfCustomHeaders.X_IBM_DATA_TYPE.toString(), UNIXFileDataType.BINARY.toString());
+            requestType = ZosmfRequestType.PUT_BINARY;
+        } else {
+            headers.put(ZosmfCustomHeaders.X_IBM_DATA_TYPE.toString(), getDataType().toString());
+            requestType = ZosmfRequestType.PUT_TEXT;
+        }
+    
+        String urlPath = RESTFILES_FILE_SYSTEM_PATH + path;
+        IZosmfResponse response;
+        try {
+            response = this.zosmfApiProcessor.sendRequest(requestType, urlPath, headers, content, 
+                    new ArrayList<>(Arrays.asList(HttpStatus.SC_NO_CONTENT, HttpStatus.SC_CREATED, HttpStatus.SC_BAD_REQUEST, HttpStatus.SC_INTERNAL_SERVER_ERROR)), true);
+        } catch (ZosmfException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        
+        if (response.getStatusCode() != HttpStatus.SC_NO_CONTENT && response.getStatusCode() != HttpStatus.SC_CREATED) {
+            // Error case - BAD_REQUEST or INTERNAL_SERVER_ERROR            
+            JsonObject responseBody;
+            try {
+                responseBody = response.getJsonContent();
+            } catch (ZosmfException e) {
+                throw new ZosUNIXFileException("Unable to write to " + LOG_UNIX_PATH + quoted(path) + logOnImage(), e);
+            }
+            logger.trace(responseBody);
+            String displayMessage = buildErrorString(LOG_WRITING_TO, responseBody, path); 
+            logger.error(displayMessage);
+            throw new ZosUNIXFileException(displayMessage);
+        }
+    
+        logger.trace(LOG_UNIX_PATH + quoted(path) + " updated" + logOnImage());
+    }
+
+
+    protected void uploadPaths(Path localPath) throws ZosUNIXFileException {
+        String root = this.unixPath.endsWith(SLASH) ? this.unixPath : this.unixPath + SLASH;
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(localPath)) {
+            paths = walk.sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to list " + localPath, e);
+        }
+        try {
+            for (Path path : paths) {
+                if (path.equals(localPath)) {
+                    continue;
+                }
+                String target = root + localPath.relativize(path).toString().replace(path.getFileSystem().getSeparator(), SLASH);
+                if (Files.isDirectory(path)) {
+                    if (!exists(target)) {
+                        createPath(target, TYPE_DIRECTORY);
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    if (!exists(target)) {
+                        createPath(target, TYPE_FILE);
+                    }
+                    if (getDataType() == UNIXFileDataType.BINARY) {
+                        store(target, path);
+                    } else {
+                        store(target, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ZosUNIXFileException("Unable to read " + localPath, e);
+        }
+    }
+
     
     protected void saveToResultsArchive(String path, String rasPath) throws ZosUNIXFileException {
         if (!exists(path)) {
             throw new ZosUNIXFileException(LOG_UNIX_PATH + quoted(path) + LOG_DOES_NOT_EXIST + logOnImage());
         }
-        if (isDirectory(path)) {
+        if (isDirectory(path) && useBulkTransfer()) {
+            Path artifactPath = this.zosFileHandler.getArtifactsRoot().resolve(rasPath);
+            newArchiver().download(path, artifactPath);
+            logger.info(quoted(path) + LOG_ARCHIVED_TO + artifactPath);
+        } else if (isDirectory(path)) {
             Map<String, String> paths = listDirectory(path, true);
             for (Map.Entry<String,String> entry : paths.entrySet()) {
                 String entryPath = entry.getKey();
@@ -588,7 +746,11 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
         if (!isDirectory(path)) {
             throw new ZosUNIXFileException(LOG_INVALID_REQUETS + quoted(path) + " is not a directory");
         }
+        return listDirectoryContent(path, recursive);
+    }
 
+
+    protected Map<String, String> listDirectoryContent(String path, boolean recursive) throws ZosUNIXFileException {
         if (path.endsWith(SLASH)) {
             path = path.substring(0, path.length()-1);
         }
@@ -641,7 +803,7 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
                 String pathType = determineType(item.get(PROP_MODE).getAsString());
                 if (!(path.endsWith("/.") || path.endsWith("/.."))) {
                     paths.put(path, pathType);
-                    if (pathType.equals(TYPE_DIRECTORY)) {
+                    if (recursive && pathType.equals(TYPE_DIRECTORY)) {
                         paths.putAll(listDirectory(path, recursive));
                     }
                 }
@@ -650,6 +812,64 @@ public class ZosmfZosUNIXFileImpl implements IZosUNIXFile {
         return paths;
     }
     
+    protected ZosUNIXFileTreeWalker newTreeWalker() throws ZosUNIXFileException {
+        int concurrentRequests;
+        try {
+            concurrentRequests = this.zosFileHandler.getZosManager().getZosFilePropertyUnixConcurrentRequests(this.image.getImageID());
+        } catch (ZosFileManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        return new ZosUNIXFileTreeWalker(this::newTreeAccessor, concurrentRequests, TYPE_DIRECTORY, TYPE_FILE);
+    }
+
+    protected ZosUNIXFileTreeWalker.ITreeAccessor newTreeAccessor() throws ZosUNIXFileException {
+        // Each worker thread has its own zOSMF server connections because request headers are held by the server
+        ZosmfZosUNIXFileImpl worker = new ZosmfZosUNIXFileImpl(this.zosFileHandler, this.image, this.unixPath);
+        worker.setDataType(getDataType());
+        try {
+            worker.zosmfApiProcessor = this.zosFileHandler.getZosmfManager().newDedicatedZosmfRestApiProcessor(this.image, this.zosFileHandler.getZosManager().getZosFilePropertyFileRestrictToImage(this.image.getImageID()));
+        } catch (ZosFileManagerException | ZosmfManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        return new ZosUNIXFileTreeWalker.ITreeAccessor() {
+            @Override
+            public SortedMap<String, String> listDirectory(String path) throws ZosUNIXFileException {
+                return new TreeMap<>(worker.listDirectoryContent(path, false));
+            }
+
+            @Override
+            public Object retrieve(String path) throws ZosUNIXFileException {
+                return worker.retrieve(path);
+            }
+
+            @Override
+            public void close() {
+                worker.zosmfApiProcessor.close();
+            }
+        };
+    }
+    
+    protected ZosUNIXFileArchiver newArchiver() throws ZosUNIXFileException {
+        IZosUNIXCommand zosUNIXCommand = this.zosFileHandler.getZosFileManager().getZosUnixCommandManager().getZosUNIXCommand(this.image);
+        int timeout;
+        try {
+            timeout = this.zosFileHandler.getZosManager().getZosFilePropertyUnixArchiveTimeout(this.image.getImageID());
+        } catch (ZosFileManagerException e) {
+            throw new ZosUNIXFileException(e);
+        }
+        return new ZosUNIXFileArchiver(zosUNIXCommand, new ZosUNIXFileArchiver.IArchiveTransport() {
+            @Override
+            public InputStream retrieveArchive(String archivePath) throws ZosUNIXFileException {
+                return ZosmfZosUNIXFileImpl.this.retrieveArchive(archivePath);
+            }
+
+            @Override
+            public void storeArchive(String archivePath, Path archive) throws ZosUNIXFileException {
+                store(archivePath, archive);
+            }
+        }, getDataType() == UNIXFileDataType.TEXT, timeout * 1000L);
+    }
+    
     protected String storeArtifact(String rasPath, Object content, boolean directory, @NotEmpty String ... artifactPathElements) throws ZosUNIXFileException {
         Path artifactPath;
         try {
@@ -0,0 +1,184 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosfile.zosmf.manager.internal;
+
+import java.nio.file.Path;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import dev.galasa.zos.IZosImage;
+import dev.galasa.zos.internal.ZosManagerImpl;
+import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.IZosDataset.RecordFormat;
+import dev.galasa.zosfile.IZosFileHandler.DatasetListAttributes;
+import dev.galasa.zosfile.ZosDatasetException;
+import dev.galasa.zosfile.ZosFileManagerException;
+import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
+import dev.galasa.zosmf.IZosmfResponse;
+import dev.galasa.zosmf.IZosmfRestApiProcessor;
+import dev.galasa.zosmf.ZosmfException;
+import dev.galasa.zosmf.internal.ZosmfManagerImpl;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({LogFactory.class})
+public class TestZosmfZosDatasetIteratorImpl {
+
+    @Mock
+    private IZosImage zosImageMock;
+
+    @Mock
+    private ZosManagerImpl zosManagerMock;
+
+    @Mock
+    private ZosmfZosFileManagerImpl zosFileManagerMock;
+
+    @Mock
+    private ZosmfZosFileHandlerImpl zosFileHandlerMock;
+
+    @Mock
+    private ZosmfManagerImpl zosmfManagerMock;
+
+    @Mock
+    private IZosmfRestApiProcessor zosmfApiProcessorMock;
+
+    @Mock
+    private IZosmfResponse zosmfResponseMock;
+
+    @Mock
+    private Log logMock;
+
+    private static final String PATTERN = "RUNHLQ.**";
+
+    private static final String IMAGE = "IMAGE";
+
+    private static final String EXCEPTION = "exception";
+
+    @Before
+    public void setup() throws Exception {
+        PowerMockito.mockStatic(LogFactory.class);
+        Mockito.when(LogFactory.getLog(Mockito.any(Class.class))).thenReturn(logMock);
+
+        Mockito.when(zosImageMock.getImageID()).thenReturn(IMAGE);
+
+        Mockito.when(zosManagerMock.getZosFilePropertyFileRestrictToImage(Mockito.any())).thenReturn(true);
+        Mockito.when(zosManagerMock.getZosFilePropertyDatasetListMaxItems(Mockito.any())).thenReturn(2);
+
+        PowerMockito.doReturn(zosmfApiProcessorMock).when(zosmfManagerMock).newZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean());
+        Mockito.when(zosFileHandlerMock.getZosmfManager()).thenReturn(zosmfManagerMock);
+        Mockito.when(zosFileHandlerMock.getZosManager()).thenReturn(zosManagerMock);
+        Mockito.when(zosFileManagerMock.getDatasetCurrentTestMethodArchiveFolder()).thenReturn(Mockito.mock(Path.class));
+        Mockito.when(zosFileHandlerMock.getZosFileManager()).thenReturn(zosFileManagerMock);
+
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        Mockito.when(zosmfResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+    }
+
+    @Test
+    public void testConstructorException() throws ZosFileManagerException {
+        Mockito.when(zosManagerMock.getZosFilePropertyDatasetListMaxItems(Mockito.any())).thenThrow(new ZosFileManagerException(EXCEPTION));
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	new ZosmfZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    }
+
+    @Test
+    public void testPaging() throws Exception {
+        Mockito.when(zosmfResponseMock.getJsonContent()).thenReturn(getJsonObject(true, "RUNHLQ.A", "RUNHLQ.B"), getJsonObject(false, "RUNHLQ.B", "RUNHLQ.C"));
+        ZosmfZosDatasetIteratorImpl iterator = new ZosmfZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        Assert.assertTrue("hasNext() should return true", iterator.hasNext());
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.A", iterator.next().getName());
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.B", iterator.next().getName());
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+
+        Assert.assertEquals("next() should return the expected data set", "RUNHLQ.C", iterator.next().getName());
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.any(), Mockito.eq("/zosmf/restfiles/ds?dslevel=" + PATTERN + "&start=RUNHLQ.B"), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Assert.assertFalse("hasNext() should return false", iterator.hasNext());
+
+        String expectedMessage = "No more data sets matching \"" + PATTERN + "\" on image " + IMAGE;
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.next();
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+
+    @Test
+    public void testBaseAttributes() throws Exception {
+        JsonObject jsonObject = getJsonObject(false, "RUNHLQ.A");
+        jsonObject.getAsJsonArray("items").get(0).getAsJsonObject().addProperty("recfm", "FB");
+        Mockito.when(zosmfResponseMock.getJsonContent()).thenReturn(jsonObject);
+        ZosmfZosDatasetIteratorImpl iterator = new ZosmfZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.BASE);
+
+        IZosDataset zosDataset = iterator.next();
+        Assert.assertEquals("getRecordFormat() should return the expected value", RecordFormat.FIXED_BLOCKED, zosDataset.getRecordFormat());
+    }
+
+    @Test
+    public void testZosmfException() throws Exception {
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenThrow(new ZosmfException(EXCEPTION));
+        ZosmfZosDatasetIteratorImpl iterator = new ZosmfZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.hasNext();
+        });
+    	Assert.assertEquals("exception should contain expected message", EXCEPTION, expectedException.getCause().getMessage());
+    }
+
+    @Test
+    public void testZosmfResponseException() throws Exception {
+        Mockito.when(zosmfResponseMock.getJsonContent()).thenThrow(new ZosmfException(EXCEPTION));
+        ZosmfZosDatasetIteratorImpl iterator = new ZosmfZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        String expectedMessage = "Unable to list data sets matching \"" + PATTERN + "\" on image " + IMAGE;
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.hasNext();
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+
+    @Test
+    public void testBadHttpResponse() throws Exception {
+        Mockito.when(zosmfResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_BAD_REQUEST);
+        Mockito.when(zosmfResponseMock.getJsonContent()).thenReturn(new JsonObject());
+        ZosmfZosDatasetIteratorImpl iterator = new ZosmfZosDatasetIteratorImpl(zosFileHandlerMock, zosImageMock, PATTERN, DatasetListAttributes.NAME);
+
+        ZosDatasetException expectedException = Assert.assertThrows("expected exception should be thrown", ZosDatasetException.class, ()->{
+        	iterator.hasNext();
+        });
+    	Assert.assertEquals("exception should contain expected message", "Error listing", expectedException.getMessage());
+    }
+
+    private JsonObject getJsonObject(boolean moreRows, String... dsnames) {
+        JsonObject responseBody = new JsonObject();
+        JsonArray items = new JsonArray();
+        for (String dsname : dsnames) {
+            JsonObject item = new JsonObject();
+            item.addProperty("dsname", dsname);
+            items.add(item);
+        }
+        responseBody.add("items", items);
+        responseBody.addProperty("returnedRows", dsnames.length);
+        if (moreRows) {
+            responseBody.addProperty("moreRows", true);
+        }
+        return responseBody;
+    }
+}
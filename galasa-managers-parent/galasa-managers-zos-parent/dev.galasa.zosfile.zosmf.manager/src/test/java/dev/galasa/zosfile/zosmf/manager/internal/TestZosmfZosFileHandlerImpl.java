@@ -26,6 +26,7 @@ import org.powermock.reflect.Whitebox;
 
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.internal.ZosManagerImpl;
+import dev.galasa.zosfile.IZosFileHandler.DatasetListAttributes;
 import dev.galasa.zosfile.ZosDatasetException;
 import dev.galasa.zosfile.ZosUNIXFileException;
 import dev.galasa.zosfile.ZosVSAMDatasetException;
@@ -126,6 +127,12 @@ public class TestZosmfZosFileHandlerImpl {
         Assert.assertTrue("Error in newVSAMDataset() method", obj instanceof ZosmfZosVSAMDatasetImpl);
     }
     
+    @Test
+    public void testListDatasets() throws ZosDatasetException {
+        Object obj = zosFileHandlerSpy.listDatasets(DATASET_NAME + ".**", zosImageMock, DatasetListAttributes.BASE);
+        Assert.assertTrue("Error in listDatasets() method", obj instanceof ZosmfZosDatasetIteratorImpl);
+    }
+    
     @Test
     public void testCleanupMethods() throws Exception {
         Mockito.doNothing().when(zosFileHandlerSpy).cleanupDatasets();
@@ -5,16 +5,22 @@
  */
 package dev.galasa.zosfile.zosmf.manager.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import org.apache.http.HttpStatus;
 import org.junit.Assert;
@@ -38,12 +44,16 @@ import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosfile.IZosUNIXFile.UNIXFileDataType;
 import dev.galasa.zosfile.ZosFileManagerException;
 import dev.galasa.zosfile.ZosUNIXFileException;
+import dev.galasa.zosfile.spi.ZosUNIXFileArchiver;
+import dev.galasa.zosfile.spi.ZosUNIXFileTreeWalker;
 import dev.galasa.zosmf.IZosmf.ZosmfRequestType;
 import dev.galasa.zosmf.IZosmfResponse;
 import dev.galasa.zosmf.IZosmfRestApiProcessor;
 import dev.galasa.zosmf.ZosmfException;
 import dev.galasa.zosmf.ZosmfManagerException;
 import dev.galasa.zosmf.internal.ZosmfManagerImpl;
+import dev.galasa.zosunixcommand.IZosUNIXCommand;
+import dev.galasa.zosunixcommand.spi.IZosUNIXCommandSpi;
 
 @RunWith(PowerMockRunner.class)
 public class TestZosmfZosUNIXFileImpl {
@@ -851,6 +861,218 @@ public class TestZosmfZosUNIXFileImpl {
         Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
     }
     
+    @Test
+    public void testWalk() throws ZosUNIXFileException {
+        ZosUNIXFileTreeWalker treeWalkerMock = Mockito.mock(ZosUNIXFileTreeWalker.class);
+        PowerMockito.doReturn(treeWalkerMock).when(zosUNIXFileSpy).newTreeWalker();
+        SortedMap<String, String> paths = new TreeMap<>();
+        paths.put(UNIX_PATH, TYPE_FILE);
+        Mockito.when(treeWalkerMock.walk(Mockito.any(), Mockito.anyInt(), Mockito.any())).thenReturn(paths);
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        
+        Assert.assertEquals("walk() should return expected content", paths, zosUNIXFileSpy.walk(2, null));
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).walk(UNIX_PATH, 2, null);
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).close();
+        
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        String expectedMessage = "Invalid request, \"" + UNIX_PATH + "\" is not a directory";
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.walk(0, null);
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testDownloadTree() throws ZosUNIXFileException {
+        ZosUNIXFileTreeWalker treeWalkerMock = Mockito.mock(ZosUNIXFileTreeWalker.class);
+        PowerMockito.doReturn(treeWalkerMock).when(zosUNIXFileSpy).newTreeWalker();
+        SortedMap<String, String> paths = new TreeMap<>();
+        Mockito.when(treeWalkerMock.walk(Mockito.any(), Mockito.anyInt(), Mockito.any())).thenReturn(paths);
+        Path pathMock = Mockito.mock(Path.class);
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).exists(Mockito.any());
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        
+        zosUNIXFileSpy.downloadTree(pathMock);
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).download(UNIX_PATH, paths, pathMock);
+        
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        zosUNIXFileSpy.downloadTree(pathMock);
+        Mockito.verify(treeWalkerMock, Mockito.times(1)).download(UNIX_DIRECTORY, Collections.singletonMap(UNIX_PATH, TYPE_FILE), pathMock);
+        Mockito.verify(treeWalkerMock, Mockito.times(2)).close();
+        
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).exists(Mockito.any());
+        String expectedMessage = "UNIX path \"" + UNIX_PATH + "\" does not exist on image " + IMAGE;
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.downloadTree(pathMock);
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testNewTreeWalker() throws ZosUNIXFileException, ZosFileManagerException {
+        Mockito.when(zosManagerMock.getZosFilePropertyUnixConcurrentRequests(Mockito.any())).thenReturn(2);
+        Assert.assertNotNull("newTreeWalker() should return a tree walker", zosUNIXFileSpy.newTreeWalker());
+        
+        Mockito.when(zosManagerMock.getZosFilePropertyUnixConcurrentRequests(Mockito.any())).thenThrow(new ZosFileManagerException(EXCEPTION));
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.newTreeWalker();
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
+    @Test
+    public void testNewTreeAccessor() throws ZosUNIXFileException, ZosmfException, ZosmfManagerException {
+        IZosmfRestApiProcessor dedicatedApiProcessorMock = Mockito.mock(IZosmfRestApiProcessor.class);
+        Mockito.when(zosmfManagerMock.newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenReturn(dedicatedApiProcessorMock);
+        Mockito.when(dedicatedApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        Mockito.when(zosmfResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        Mockito.when(zosmfResponseMock.getTextContent()).thenReturn(CONTENT);
+        
+        ZosUNIXFileTreeWalker.ITreeAccessor treeAccessor = zosUNIXFileSpy.newTreeAccessor();
+        Assert.assertEquals("retrieve() should return expected content", CONTENT, treeAccessor.retrieve(UNIX_PATH));
+        Mockito.verify(dedicatedApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(0)).sendRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("returnedRows", 0);
+        jsonObject.addProperty("totalRows", 0);
+        Mockito.when(zosmfResponseMock.getJsonContent()).thenReturn(jsonObject);
+        Assert.assertTrue("listDirectory() should return expected content", treeAccessor.listDirectory(UNIX_DIRECTORY).isEmpty());
+        
+        treeAccessor.close();
+        Mockito.verify(dedicatedApiProcessorMock, Mockito.times(1)).close();
+        
+        Mockito.when(zosmfManagerMock.newDedicatedZosmfRestApiProcessor(Mockito.any(), Mockito.anyBoolean())).thenThrow(new ZosmfManagerException(EXCEPTION));
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.newTreeAccessor();
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
+    @Test
+    public void testDownloadTreeBulk() throws ZosUNIXFileException {
+        ZosUNIXFileArchiver archiverMock = Mockito.mock(ZosUNIXFileArchiver.class);
+        PowerMockito.doReturn(archiverMock).when(zosUNIXFileSpy).newArchiver();
+        Path pathMock = Mockito.mock(Path.class);
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).exists(Mockito.any());
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory(Mockito.any());
+        zosUNIXFileSpy.setUseBulkTransfer(true);
+        Assert.assertTrue("useBulkTransfer() should return true", zosUNIXFileSpy.useBulkTransfer());
+        
+        zosUNIXFileSpy.downloadTree(pathMock);
+        Mockito.verify(archiverMock, Mockito.times(1)).download(UNIX_PATH, pathMock);
+        Mockito.verify(zosUNIXFileSpy, Mockito.times(0)).newTreeWalker();
+        
+        Mockito.when(zosFileHandlerMock.getArtifactsRoot()).thenReturn(pathMock);
+        Mockito.when(pathMock.resolve(RAS_PATH)).thenReturn(pathMock);
+        zosUNIXFileSpy.saveToResultsArchive(UNIX_PATH, RAS_PATH);
+        Mockito.verify(archiverMock, Mockito.times(2)).download(UNIX_PATH, pathMock);
+    }
+    
+    @Test
+    public void testUploadTree() throws ZosUNIXFileException, IOException {
+        ZosUNIXFileArchiver archiverMock = Mockito.mock(ZosUNIXFileArchiver.class);
+        PowerMockito.doReturn(archiverMock).when(zosUNIXFileSpy).newArchiver();
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).exists();
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).isDirectory();
+        PowerMockito.doReturn(false).when(zosUNIXFileSpy).exists(Mockito.anyString());
+        PowerMockito.doReturn(true).when(zosUNIXFileSpy).createPath(Mockito.any(), Mockito.any());
+        PowerMockito.doNothing().when(zosUNIXFileSpy).store(Mockito.anyString(), Mockito.any());
+        Path localPath = Files.createTempDirectory("galasa");
+        try {
+            Files.createDirectories(localPath.resolve("dir"));
+            Files.write(localPath.resolve("dir").resolve("file"), CONTENT.getBytes());
+            
+            zosUNIXFileSpy.uploadTree(localPath);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).createPath(UNIX_PATH + "/dir", TYPE_DIRECTORY);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).createPath(UNIX_PATH + "/dir/file", TYPE_FILE);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).store(UNIX_PATH + "/dir/file", CONTENT);
+            Mockito.verify(archiverMock, Mockito.times(0)).upload(Mockito.any(), Mockito.any());
+            
+            zosUNIXFileSpy.setDataType(UNIXFileDataType.BINARY);
+            zosUNIXFileSpy.uploadTree(localPath);
+            Mockito.verify(zosUNIXFileSpy, Mockito.times(1)).store(UNIX_PATH + "/dir/file", localPath.resolve("dir").resolve("file"));
+            zosUNIXFileSpy.setDataType(UNIXFileDataType.TEXT);
+            
+            zosUNIXFileSpy.setUseBulkTransfer(true);
+            zosUNIXFileSpy.uploadTree(localPath);
+            Mockito.verify(archiverMock, Mockito.times(1)).upload(localPath, UNIX_PATH);
+            
+            Path filePath = localPath.resolve("dir").resolve("file");
+            String expectedMessage = "Invalid request, " + filePath + " is not a directory";
+            ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+            	zosUNIXFileSpy.uploadTree(filePath);
+            });
+            Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+            
+            PowerMockito.doReturn(false).when(zosUNIXFileSpy).isDirectory();
+            expectedMessage = "Invalid request, \"" + UNIX_PATH + "\" is not a directory";
+            expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+            	zosUNIXFileSpy.uploadTree(localPath);
+            });
+            Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+        } finally {
+            try (Stream<Path> paths = Files.walk(localPath)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+    
+    @Test
+    public void testStoreBinary() throws ZosUNIXFileException, ZosmfException {
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.PUT_BINARY), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        Mockito.when(zosmfResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_CREATED);
+        byte[] content = CONTENT.getBytes();
+        
+        zosUNIXFileSpy.store(UNIX_PATH, content);
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.eq(ZosmfRequestType.PUT_BINARY), Mockito.any(), Mockito.any(), Mockito.eq(content), Mockito.any(), Mockito.anyBoolean());
+        
+        Path archive = Paths.get("archive.pax");
+        zosUNIXFileSpy.store(UNIX_PATH, archive);
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.eq(ZosmfRequestType.PUT_BINARY), Mockito.any(), Mockito.any(), Mockito.eq(archive), Mockito.any(), Mockito.anyBoolean());
+    }
+    
+    @Test
+    public void testRetrieveArchive() throws ZosUNIXFileException, ZosmfException {
+        Mockito.when(zosmfApiProcessorMock.sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenReturn(zosmfResponseMock);
+        Mockito.when(zosmfResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        InputStream content = new ByteArrayInputStream(CONTENT.getBytes());
+        Mockito.when(zosmfResponseMock.getContent()).thenReturn(content);
+        
+        Assert.assertEquals("retrieveArchive() should return the expected content", content, zosUNIXFileSpy.retrieveArchive(UNIX_PATH));
+        Mockito.verify(zosmfApiProcessorMock, Mockito.times(1)).sendRequest(Mockito.eq(ZosmfRequestType.GET), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(false));
+        
+        Mockito.when(zosmfResponseMock.getContent()).thenReturn(CONTENT);
+        String expectedMessage = "Unable to retrieve content of \"" + UNIX_PATH + "\" on image " + IMAGE + ". Invalid content object type: " + String.class.getName();
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.retrieveArchive(UNIX_PATH);
+        });
+        Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+        
+        Mockito.when(zosmfResponseMock.getStatusCode()).thenReturn(HttpStatus.SC_BAD_REQUEST);
+        Mockito.when(zosmfResponseMock.getJsonContent()).thenReturn(new JsonObject());
+        PowerMockito.doReturn(ERROR).when(zosUNIXFileSpy).buildErrorString(Mockito.any(), Mockito.any(), Mockito.any());
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.retrieveArchive(UNIX_PATH);
+        });
+        Assert.assertEquals("exception should contain expected cause", ERROR, expectedException.getMessage());
+    }
+    
+    @Test
+    public void testNewArchiver() throws ZosUNIXFileException, ZosFileManagerException {
+        IZosUNIXCommandSpi zosUnixCommandManagerMock = Mockito.mock(IZosUNIXCommandSpi.class);
+        Mockito.when(zosUnixCommandManagerMock.getZosUNIXCommand(Mockito.any())).thenReturn(Mockito.mock(IZosUNIXCommand.class));
+        Mockito.when(zosFileManagerMock.getZosUnixCommandManager()).thenReturn(zosUnixCommandManagerMock);
+        Mockito.when(zosManagerMock.getZosFilePropertyUnixArchiveTimeout(Mockito.any())).thenReturn(300);
+        Assert.assertNotNull("newArchiver() should return an archiver", zosUNIXFileSpy.newArchiver());
+        
+        Mockito.when(zosManagerMock.getZosFilePropertyUnixArchiveTimeout(Mockito.any())).thenThrow(new ZosFileManagerException(EXCEPTION));
+        ZosUNIXFileException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXFileException.class, ()->{
+        	zosUNIXFileSpy.newArchiver();
+        });
+        Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getCause().getMessage());
+    }
+    
     @Test
     public void testStoreArtifact() throws ZosFileManagerException, IOException {
         setupTestStoreArtifact();
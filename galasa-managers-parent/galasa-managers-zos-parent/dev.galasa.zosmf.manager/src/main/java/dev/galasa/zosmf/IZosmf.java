@@ -5,6 +5,7 @@
  */
 package dev.galasa.zosmf;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import javax.validation.constraints.NotNull;
@@ -102,6 +103,10 @@ public interface IZosmf {
          * {@code X-IBM-Option}
          */
         X_IBM_OPTION("X-IBM-Option"),
+        /**
+         * {@code X-IBM-Record-Range}
+         */
+        X_IBM_RECORD_RANGE("X-IBM-Record-Range"),
         /**
          * {@code X-IBM-Requested-Method}
          */
@@ -200,6 +205,18 @@ public interface IZosmf {
      */
     public @NotNull IZosmfResponse putBinary(String path, byte[] body, List<Integer> validStatusCodes) throws ZosmfException;
 
+    /**
+     * Issue an HTTP PUT request to the zOSMF server with the content of a local file as the request body. The file is
+     * streamed to the server rather than read into memory
+     * 
+     * @param path identifies the zOSMF REST API
+     * @param body the local file containing the request body
+     * @param validStatusCodes a {@link List} of acceptable HTTP Status codes. Default to {@link HttpStatus.HttpStatus.SC_OK} when null
+     * @return the zOSMF server response
+     * @throws ZosmfException
+     */
+    public @NotNull IZosmfResponse putBinary(String path, Path body, List<Integer> validStatusCodes) throws ZosmfException;
+
     /**
      * Issue an HTTP DELETE request to the zOSMF server with no request body
      * 
@@ -28,4 +28,10 @@ public interface IZosmfRestApiProcessor {
      * @throws ZosBatchException
      */
     public @NotNull IZosmfResponse sendRequest(ZosmfRequestType requestType, String path, Map<String, String> headers, Object body, List<Integer> validStatusCodes, boolean convert) throws ZosmfException;
+
+    /**
+     * Close the zOSMF server connections of a processor returned by the manager's newDedicatedZosmfRestApiProcessor method.
+     * A processor that shares its server connections with other processors is not affected
+     */
+    public void close();
 }
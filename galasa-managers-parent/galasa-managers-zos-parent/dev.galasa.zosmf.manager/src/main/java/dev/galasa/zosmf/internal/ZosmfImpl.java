@@ -9,6 +9,7 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -84,6 +85,13 @@ public class ZosmfImpl implements IZosmf {
         this.commonHeaders.put(key, value);
     }
 
+    /**
+     * Close the HTTP client of this server instance
+     */
+    public void close() {
+        this.httpClient.close();
+    }
+
     @Override
     public void clearHeaders() {
         this.commonHeaders.clear();
@@ -225,6 +233,33 @@ public class ZosmfImpl implements IZosmf {
         return zosmfResponse;
     }
 
+    @Override
+    public @NotNull IZosmfResponse putBinary(String path, Path requestBody, List<Integer> validStatusCodes) throws ZosmfException  {
+        String method = ZosmfRequestType.PUT.name();
+        if (validStatusCodes == null) {
+            validStatusCodes = new ArrayList<>(Arrays.asList(HttpStatus.SC_OK));
+        }
+        ZosmfResponseImpl zosmfResponse;
+
+        try {
+            setHeader(ZosmfCustomHeaders.X_IBM_REQUESTED_METHOD.toString(), method);
+            addCommonHeaders();
+            zosmfResponse = new ZosmfResponseImpl(this.zosmfUrl, validPath(path));
+            logger.trace(logRequest(method, zosmfResponse.getRequestUrl()));
+            logger.trace(LOG_BODY + requestBody);
+            zosmfResponse.setHttpClientresponse(this.httpClient.putBinary(path, requestBody));
+            logger.trace(logResponse(zosmfResponse.getStatusLine(), method, zosmfResponse.getRequestUrl()));
+            if (!validStatusCodes.contains(zosmfResponse.getStatusCode())) {
+                throw new ZosmfException(logBadStatusCode(zosmfResponse.getStatusCode()));
+            }
+        } catch (MalformedURLException | HttpClientException  e) {
+            logger.error(e);
+            throw new ZosmfException(logBadRequest(method), e);
+        }
+
+        return zosmfResponse;
+    }
+
     @Override
     public @NotNull IZosmfResponse delete(String path, List<Integer> validStatusCodes) throws ZosmfException {
         String method = ZosmfRequestType.DELETE.name();
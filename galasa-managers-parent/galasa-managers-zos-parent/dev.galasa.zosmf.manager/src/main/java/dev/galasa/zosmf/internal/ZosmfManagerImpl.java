@@ -208,6 +208,24 @@ public class ZosmfManagerImpl extends AbstractManager implements IZosmfManagerSp
         return new ZosmfRestApiProcessor(getZosmfs(image));
     }
 
+    @Override
+    public IZosmfRestApiProcessor newDedicatedZosmfRestApiProcessor(IZosImage image, boolean restrictToImage) throws ZosmfManagerException {
+        Map<String, IZosmf> zosmfMap = getZosmfs(image);
+        boolean imageServer = false;
+        Map<String, IZosmf> dedicatedZosmfMap = new HashMap<>();
+        for (Map.Entry<String, IZosmf> entry : zosmfMap.entrySet()) {
+            if (entry.getValue().getImage().getImageID().equals(image.getImageID())) {
+                imageServer = true;
+            }
+            // A new server instance has its own HTTP client and headers, so it is not shared with other processors
+            dedicatedZosmfMap.put(entry.getKey(), new ZosmfImpl(this, entry.getKey()));
+        }
+        if (restrictToImage && !imageServer) {
+            throw new ZosmfManagerException("No zOSMF server configured on " + image.getImageID());
+        }
+        return new ZosmfRestApiProcessor(dedicatedZosmfMap, true);
+    }
+
 
     public IZosManagerSpi getZosManager() {
         return this.zosManager;
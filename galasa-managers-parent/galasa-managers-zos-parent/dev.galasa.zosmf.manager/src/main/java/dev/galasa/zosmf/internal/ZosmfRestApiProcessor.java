@@ -5,6 +5,7 @@
  */
 package dev.galasa.zosmf.internal;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -37,9 +38,16 @@ public class ZosmfRestApiProcessor implements IZosmfRestApiProcessor {
     
     private final HashMap<String, IZosmf> zosmfs = new LinkedHashMap<>();
     
+    private final boolean dedicated;
+    
     private static final Log logger = LogFactory.getLog(ZosmfRestApiProcessor.class);
     
     public ZosmfRestApiProcessor(Map<String, IZosmf> zosmfs) {
+        this(zosmfs, false);
+    }
+    
+    public ZosmfRestApiProcessor(Map<String, IZosmf> zosmfs, boolean dedicated) {
+        this.dedicated = dedicated;
         this.zosmfs.putAll(zosmfs);
         this.currentZosmfImageId = this.zosmfs.entrySet().iterator().next().getKey();
         this.currentZosmf = this.zosmfs.get(this.currentZosmfImageId);
@@ -83,7 +91,11 @@ public class ZosmfRestApiProcessor implements IZosmfRestApiProcessor {
                     response = zosmfServer.putJson(path, (JsonObject) body, validStatusCodes);
                     break;
                 case PUT_BINARY:
-                    response = zosmfServer.putBinary(path, (byte[]) body, validStatusCodes);
+                    if (body instanceof Path) {
+                        response = zosmfServer.putBinary(path, (Path) body, validStatusCodes);
+                    } else {
+                        response = zosmfServer.putBinary(path, (byte[]) body, validStatusCodes);
+                    }
                     break;
                 case DELETE:
                     response = zosmfServer.delete(path, validStatusCodes);
@@ -106,6 +118,15 @@ public class ZosmfRestApiProcessor implements IZosmfRestApiProcessor {
         throw new ZosmfException("Unable to get valid response from zOS/MF server");
     }
     
+    @Override
+    public void close() {
+        if (this.dedicated) {
+            for (IZosmf server : this.zosmfs.values()) {
+                ((ZosmfImpl) server).close();
+            }
+        }
+    }
+    
     protected IZosmf getCurrentZosmfServer() {
         logger.trace("Using zOSMF on " + this.currentZosmf);
         this.currentZosmf.clearHeaders();
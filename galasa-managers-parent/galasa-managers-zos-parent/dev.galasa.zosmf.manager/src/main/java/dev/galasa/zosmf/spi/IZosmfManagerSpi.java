@@ -45,4 +45,14 @@ public interface IZosmfManagerSpi extends IZosmfManager {
      * @throws ZosmfManagerException
      */
     public IZosmfRestApiProcessor newZosmfRestApiProcessor(IZosImage image, boolean restrictToImage) throws ZosmfManagerException;
+
+    /**
+     * Returns a {@link IZosmfRestApiProcessor} for a single image that does not share its zOSMF server 
+     * connections with any other processor, so it can be used on a different thread to other processors
+     * @param image
+     * @param restrictToImage
+     * @return {@link IZosmfRestApiProcessor}
+     * @throws ZosmfManagerException
+     */
+    public IZosmfRestApiProcessor newDedicatedZosmfRestApiProcessor(IZosImage image, boolean restrictToImage) throws ZosmfManagerException;
 }
@@ -41,6 +41,7 @@ public class TestEnumsAndExeptions {
         Assert.assertEquals("Problem with ZosmfCustomHeaders", "X-IBM-Lstat", ZosmfCustomHeaders.X_IBM_LSTAT.toString());
         Assert.assertEquals("Problem with ZosmfCustomHeaders", "X-IBM-Max-Items", ZosmfCustomHeaders.X_IBM_MAX_ITEMS.toString());
         Assert.assertEquals("Problem with ZosmfCustomHeaders", "X-IBM-Option", ZosmfCustomHeaders.X_IBM_OPTION.toString());
+        Assert.assertEquals("Problem with ZosmfCustomHeaders", "X-IBM-Record-Range", ZosmfCustomHeaders.X_IBM_RECORD_RANGE.toString());
         Assert.assertEquals("Problem with ZosmfCustomHeaders", "X-IBM-Requested-Method", ZosmfCustomHeaders.X_IBM_REQUESTED_METHOD.toString());
     }
     
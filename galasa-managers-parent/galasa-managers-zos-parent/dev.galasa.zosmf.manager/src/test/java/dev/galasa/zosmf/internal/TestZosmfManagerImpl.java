@@ -38,6 +38,7 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosmf.IZosmf;
+import dev.galasa.zosmf.IZosmfRestApiProcessor;
 import dev.galasa.zosmf.ZosmfException;
 import dev.galasa.zosmf.ZosmfManagerException;
 import dev.galasa.zosmf.internal.properties.Https;
@@ -287,6 +288,32 @@ public class TestZosmfManagerImpl {
     	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
         
     }
+        
+    @Test
+    public void testNewDedicatedZosmfRestApiProcessor() throws Exception {
+        setupZosmfImplInitialize();
+        
+        HashMap<String, IZosmf> zosmfs = new HashMap<>();
+        zosmfs.put(SERVER_ID, zosmfMock);
+        Mockito.doReturn(zosmfs).when(zosmfManagerSpy).getZosmfs(Mockito.any());
+        Mockito.when(zosmfMock.getImage()).thenReturn(zosImageMock);
+        
+        IZosmfRestApiProcessor processor = zosmfManagerSpy.newDedicatedZosmfRestApiProcessor(zosImageMock, true);
+        IZosmf zosmf = ((ZosmfRestApiProcessor) processor).getCurrentZosmfServer();
+        Assert.assertNotNull("newDedicatedZosmfRestApiProcessor() should return a zOSMF server", zosmf);
+        Assert.assertNotEquals("newDedicatedZosmfRestApiProcessor() should not return the shared zOSMF server", zosmfMock, zosmf);
+        
+        processor.close();
+        Mockito.verify(httpClientMock, Mockito.times(1)).close();
+        
+        IZosImage zosImageMock1 = Mockito.mock(IZosImage.class);
+		Mockito.when(zosImageMock1 .getImageID()).thenReturn(IMAGE + "1");
+        String expectedMessage = "No zOSMF server configured on " + IMAGE + "1";
+        ZosmfManagerException expectedException = Assert.assertThrows("expected exception should be thrown", ZosmfManagerException.class, ()->{
+        	zosmfManagerSpy.newDedicatedZosmfRestApiProcessor(zosImageMock1, true);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
 
     private void setupZosmfImplInitialize() throws ZosmfManagerException {        
         Mockito.when(zosImageMock.getImageID()).thenReturn(IMAGE);
@@ -37,6 +37,10 @@ public class AbstractZosProgramCompiler {
 
 	private static final String PROGRAM = " program ";
 
+    private String compileHash;
+
+    private boolean useCompileCache = true;
+
     public AbstractZosProgramCompiler(ZosProgramImpl zosProgram) throws ZosProgramException {
         this.zosProgram = zosProgram;
         if (zosProgram.getLoadlib() == null) {
@@ -45,11 +49,36 @@ public class AbstractZosProgramCompiler {
             } catch (ZosProgramManagerException e) {
                 throw new ZosProgramException(e);
             }
+            // The run loadlib is new for each run, so a compile into it can never be reused by another run
+            this.useCompileCache = false;
         }
     }
     
     protected void compile() throws ZosProgramException {
-        submitCompileJob(buildCompileJcl());
+        String compileJcl = prepareCompile();
+        if (compileJcl != null) {
+            submitCompileJob(compileJcl);
+        }
+    }
+
+    /**
+     * Build the compile JCL and check the compile cache. The cache is only used for loadlibs supplied by the test
+     * @return the compile JCL, or null if the load module was built by an identical compile and the compile can be skipped
+     * @throws ZosProgramException
+     */
+    protected String prepareCompile() throws ZosProgramException {
+        String compileJcl = buildCompileJcl();
+        if (!this.useCompileCache) {
+            return compileJcl;
+        }
+        this.compileHash = ZosProgramCompileCache.hash(compileJcl);
+        ZosProgramCompileCache compileCache = this.zosProgram.getZosProgramManager().getCompileCache();
+        if (compileCache.isCached(this.zosProgram.getImage(), this.zosProgram.getLoadlib(), this.zosProgram.getName(), this.compileHash)) {
+            logger.info("Compile for " + this.zosProgram.getLanguage() + PROGRAM + this.zosProgram.getName() + this.zosProgram.logForField() + " skipped, load module " + this.zosProgram.getLoadlib().getName() + "(" + this.zosProgram.getName() + ") is up to date");
+            return null;
+        }
+        compileCache.remove(this.zosProgram.getImage(), this.zosProgram.getLoadlib(), this.zosProgram.getName());
+        return compileJcl;
     }
 
     protected String buildCompileJcl() throws ZosProgramException {
@@ -66,10 +95,19 @@ public class AbstractZosProgramCompiler {
         IZosBatchJob compileJob;
         try {
             compileJob = this.zosProgram.getZosProgramManager().getZosBatchForImage(zosProgram.getImage()).submitJob(compileJcl, null);
-            this.zosProgram.setCompileJob(compileJob);
         } catch (ZosBatchException e) {
             throw new ZosProgramException("Problem submitting compile job for " + this.zosProgram.getLanguage() + PROGRAM + this.zosProgram.getName() + this.zosProgram.logForField(), e);
         }
+        compileJobSubmitted(compileJob);
+    }
+
+    /**
+     * Wait for a submitted compile job, save its output and check the return code
+     * @param compileJob the compile job
+     * @throws ZosProgramException
+     */
+    protected void compileJobSubmitted(IZosBatchJob compileJob) throws ZosProgramException {
+        this.zosProgram.setCompileJob(compileJob);
         int maxCc;
         try {
             maxCc = compileJob.waitForJob();
@@ -93,6 +131,9 @@ public class AbstractZosProgramCompiler {
         } else {
             logger.info("Compile job for " + this.zosProgram.getLanguage() + PROGRAM + this.zosProgram.getName() + this.zosProgram.logForField() + " complete: " + compileJob.getRetcode() + ". " + compileJob.toString());
         }
+        if (this.compileHash != null) {
+            this.zosProgram.getZosProgramManager().getCompileCache().put(this.zosProgram.getImage(), this.zosProgram.getLoadlib(), this.zosProgram.getName(), this.compileHash);
+        }
     }
     
     protected String getSkelName() {
@@ -0,0 +1,106 @@
+/*
+ * Licensed Materials - Property of IBM
+ * 
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosprogram.internal;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import dev.galasa.framework.spi.DynamicStatusStoreException;
+import dev.galasa.framework.spi.IDynamicStatusStoreService;
+import dev.galasa.zos.IZosImage;
+import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.ZosDatasetException;
+import dev.galasa.zosprogram.ZosProgramException;
+
+/**
+ * Records in the DSS the content hash of the compile that last built each load module member, so a compile with the
+ * same hash can be skipped while the member still exists. The hash is taken over the compile JCL, which contains the
+ * program source, the compiler and binder options, the language and the loadlib. Only loadlibs supplied by the test are
+ * cached, as the run loadlib is named for the run and its entries could never be reused.<br>
+ * DSS property: <code>zosprogram.image.[imageid].compile.[loadlib].[member]=[hash]</code>
+ */
+public class ZosProgramCompileCache {
+
+    private final IDynamicStatusStoreService dss;
+
+    public ZosProgramCompileCache(IDynamicStatusStoreService dss) {
+        this.dss = dss;
+    }
+
+    /**
+     * Returns true if the member was built by a compile with the same hash and still exists in the loadlib
+     * @param image the zOS image
+     * @param loadlib the loadlib
+     * @param member the load module member name
+     * @param hash the compile hash
+     * @return true if the compile can be skipped
+     * @throws ZosProgramException
+     */
+    public boolean isCached(IZosImage image, IZosDataset loadlib, String member, String hash) throws ZosProgramException {
+        try {
+            if (!hash.equals(this.dss.get(key(image, loadlib, member)))) {
+                return false;
+            }
+            return loadlib.memberExists(member);
+        } catch (DynamicStatusStoreException e) {
+            throw new ZosProgramException("Problem reading the compile cache for " + loadlib.getName() + "(" + member + ")", e);
+        } catch (ZosDatasetException e) {
+            throw new ZosProgramException("Problem checking the load module " + loadlib.getName() + "(" + member + ")", e);
+        }
+    }
+
+    /**
+     * Record the hash of the compile that built the member
+     * @param image the zOS image
+     * @param loadlib the loadlib
+     * @param member the load module member name
+     * @param hash the compile hash
+     * @throws ZosProgramException
+     */
+    public void put(IZosImage image, IZosDataset loadlib, String member, String hash) throws ZosProgramException {
+        try {
+            this.dss.put(key(image, loadlib, member), hash);
+        } catch (DynamicStatusStoreException e) {
+            throw new ZosProgramException("Problem updating the compile cache for " + loadlib.getName() + "(" + member + ")", e);
+        }
+    }
+
+    /**
+     * Remove the entry for the member before it is rebuilt, so a failed compile does not leave a stale entry
+     * @param image the zOS image
+     * @param loadlib the loadlib
+     * @param member the load module member name
+     * @throws ZosProgramException
+     */
+    public void remove(IZosImage image, IZosDataset loadlib, String member) throws ZosProgramException {
+        try {
+            this.dss.delete(key(image, loadlib, member));
+        } catch (DynamicStatusStoreException e) {
+            throw new ZosProgramException("Problem updating the compile cache for " + loadlib.getName() + "(" + member + ")", e);
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of the compile content as a hex string
+     * @param content the compile content
+     * @return the hash
+     * @throws ZosProgramException
+     */
+    public static String hash(String content) throws ZosProgramException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new ZosProgramException("Unable to hash compile content", e);
+        }
+    }
+
+    protected String key(IZosImage image, IZosDataset loadlib, String member) {
+        return "image." + image.getImageID() + ".compile." + loadlib.getName() + "." + member;
+    }
+}
@@ -171,27 +171,23 @@ public class ZosProgramImpl implements IZosProgram {
     @Override
     public IZosProgram compile() throws ZosProgramManagerException {
         logger.info("Compile " + getLanguage() + " program \"" + getName() + "\"" + logForField());
+        newCompiler().compile();
+        return this;
+    }
+
+    protected AbstractZosProgramCompiler newCompiler() throws ZosProgramManagerException {
         switch (getLanguage()) {
         case ASSEMBLER:
-            ZosAssemblerProgramCompiler assemblerProgram = new ZosAssemblerProgramCompiler(this);
-            assemblerProgram.compile();
-            break;
+            return new ZosAssemblerProgramCompiler(this);
         case COBOL:
-            ZosCobolProgramCompiler cobolProgram = new ZosCobolProgramCompiler(this);
-            cobolProgram.compile();
-            break;
+            return new ZosCobolProgramCompiler(this);
         case C:
-            ZosCProgramCompiler cProgram = new ZosCProgramCompiler(this);
-            cProgram.compile();
-            break;
+            return new ZosCProgramCompiler(this);
         case PL1:
-            ZosPl1ProgramCompiler pl1Program = new ZosPl1ProgramCompiler(this);
-            pl1Program.compile();
-            break;
+            return new ZosPl1ProgramCompiler(this);
         default:
             throw new ZosProgramManagerException("Invalid program language: " + getLanguage());
         }
-        return this;
     }
 
     protected boolean getCompile() {
@@ -8,9 +8,13 @@ package dev.galasa.zosprogram.internal;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotNull;
 
@@ -24,7 +28,9 @@ import dev.galasa.artifact.IBundleResources;
 import dev.galasa.framework.spi.AbstractManager;
 import dev.galasa.framework.spi.AnnotatedField;
 import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.DynamicStatusStoreException;
 import dev.galasa.framework.spi.GenerateAnnotatedField;
+import dev.galasa.framework.spi.IDynamicStatusStoreService;
 import dev.galasa.framework.spi.IFramework;
 import dev.galasa.framework.spi.IManager;
 import dev.galasa.framework.spi.ResourceUnavailableException;
@@ -33,6 +39,8 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zos.spi.IZosManagerSpi;
 import dev.galasa.zosbatch.IZosBatch;
+import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.spi.IZosBatchSpi;
 import dev.galasa.zosfile.IZosDataset;
 import dev.galasa.zosfile.IZosDataset.DSType;
@@ -43,6 +51,7 @@ import dev.galasa.zosfile.spi.IZosFileSpi;
 import dev.galasa.zosprogram.IZosProgram;
 import dev.galasa.zosprogram.ZosProgram;
 import dev.galasa.zosprogram.ZosProgram.Language;
+import dev.galasa.zosprogram.ZosProgramException;
 import dev.galasa.zosprogram.ZosProgramManagerException;
 import dev.galasa.zosprogram.internal.properties.ZosProgramPropertiesSingleton;
 import dev.galasa.zosprogram.spi.IZosProgramManagerSpi;
@@ -100,6 +109,11 @@ public class ZosProgramManagerImpl extends AbstractManager implements IZosProgra
         return this.runId;
     }
 
+    private ZosProgramCompileCache compileCache;
+    protected ZosProgramCompileCache getCompileCache() {
+        return this.compileCache;
+    }
+
     protected IZosDataset runLoadlib;
 
     private final LinkedHashMap<String, ZosProgramImpl> zosPrograms = new LinkedHashMap<>();
@@ -112,7 +126,9 @@ public class ZosProgramManagerImpl extends AbstractManager implements IZosProgra
         super.initialise(framework, allManagers, activeManagers, galasaTest);
         try {
             ZosProgramPropertiesSingleton.setCps(framework.getConfigurationPropertyService(NAMESPACE));
-        } catch (ConfigurationPropertyStoreException e) {
+            IDynamicStatusStoreService dss = framework.getDynamicStatusStoreService(NAMESPACE);
+            this.compileCache = new ZosProgramCompileCache(dss);
+        } catch (ConfigurationPropertyStoreException | DynamicStatusStoreException e) {
             throw new ZosProgramManagerException("Unable to request framework services", e);
         }
 
@@ -185,13 +201,81 @@ public class ZosProgramManagerImpl extends AbstractManager implements IZosProgra
     	this.archivePath = getFramework().getResultArchiveStore().getStoredArtifactsRoot().resolve(PROVISIONING).resolve(ZOSBATCH_JOBS).resolve(PRE_TEST);
         this.managerBundleResources = artifactManager.getBundleResources(this.getClass());
         this.testBundleResources = artifactManager.getBundleResources(getTestClass());
+        List<ZosProgramImpl> compilePrograms = new ArrayList<>();
         for (Entry<String, ZosProgramImpl> entry : zosPrograms.entrySet()) {
             if (entry.getValue().getCompile()) {
-                entry.getValue().compile();
+                compilePrograms.add(entry.getValue());
             } else {
                 logger.warn("WARNING: " + entry.getValue().getLanguage() + " program \"" + entry.getValue().getName() + "\"" + ((ZosProgramImpl) entry.getValue()).logForField() + " is set to \"compile = false\" and has not been compiled");
             }
         }
+        compilePrograms(compilePrograms);
+    }
+    
+    /**
+     * Compile the programs. Programs already built by an identical compile are skipped. The remaining compile jobs
+     * on each image are submitted together and run concurrently, except that compiles into the same loadlib supplied
+     * by the test run one after another, as the loadlib may not be a PDSE
+     * 
+     * @param programs the programs to compile
+     * @throws ZosProgramManagerException
+     */
+    protected void compilePrograms(List<ZosProgramImpl> programs) throws ZosProgramManagerException {
+        List<LinkedHashMap<AbstractZosProgramCompiler, String>> waves = new ArrayList<>();
+        HashMap<String, Integer> loadlibCompiles = new HashMap<>();
+        for (ZosProgramImpl zosProgram : programs) {
+            logger.info("Compile " + zosProgram.getLanguage() + " program \"" + zosProgram.getName() + "\"" + zosProgram.logForField());
+            AbstractZosProgramCompiler compiler = zosProgram.newCompiler();
+            String compileJcl = compiler.prepareCompile();
+            if (compileJcl == null) {
+                continue;
+            }
+            int wave = 0;
+            if (zosProgram.getLoadlib() != this.runLoadlib) {
+                wave = loadlibCompiles.merge(zosProgram.getImage().getImageID() + "." + zosProgram.getLoadlib().getName(), 1, Integer::sum) - 1;
+            }
+            while (waves.size() <= wave) {
+                waves.add(new LinkedHashMap<>());
+            }
+            waves.get(wave).put(compiler, compileJcl);
+        }
+        for (LinkedHashMap<AbstractZosProgramCompiler, String> wave : waves) {
+            compileWave(wave);
+        }
+    }
+
+    protected void compileWave(Map<AbstractZosProgramCompiler, String> wave) throws ZosProgramException {
+        LinkedHashMap<IZosImage, List<AbstractZosProgramCompiler>> imageCompilers = new LinkedHashMap<>();
+        for (AbstractZosProgramCompiler compiler : wave.keySet()) {
+            imageCompilers.computeIfAbsent(compiler.zosProgram.getImage(), k -> new ArrayList<>()).add(compiler);
+        }
+        LinkedHashMap<AbstractZosProgramCompiler, IZosBatchJob> compileJobs = new LinkedHashMap<>();
+        ZosProgramException exception = null;
+        for (Entry<IZosImage, List<AbstractZosProgramCompiler>> entry : imageCompilers.entrySet()) {
+            List<String> compileJcl = entry.getValue().stream().map(wave::get).collect(Collectors.toList());
+            try {
+                List<IZosBatchJob> jobs = getZosBatchForImage(entry.getKey()).submitJobs(compileJcl).getJobs();
+                for (int i = 0; i < jobs.size(); i++) {
+                    compileJobs.put(entry.getValue().get(i), jobs.get(i));
+                }
+            } catch (ZosBatchException e) {
+                exception = new ZosProgramException("Problem submitting compile jobs on zOS image " + entry.getKey().getImageID(), e);
+                break;
+            }
+        }
+        // Process every submitted job, so all the output is archived and purged, before reporting the first failure
+        for (Entry<AbstractZosProgramCompiler, IZosBatchJob> entry : compileJobs.entrySet()) {
+            try {
+                entry.getKey().compileJobSubmitted(entry.getValue());
+            } catch (ZosProgramException e) {
+                if (exception == null) {
+                    exception = e;
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
     }
     
     @GenerateAnnotatedField(annotation=ZosProgram.class)
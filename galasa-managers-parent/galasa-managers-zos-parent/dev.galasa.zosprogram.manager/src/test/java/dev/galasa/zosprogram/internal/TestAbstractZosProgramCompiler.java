@@ -67,6 +67,9 @@ public class TestAbstractZosProgramCompiler {
     @Mock
     private IZosDataset loadlibMock;
 
+    @Mock
+    private ZosProgramCompileCache compileCacheMock;
+
 	private static final String NAME = "NAME";
 
     private static final String SKEL = "SKEL";
@@ -93,6 +96,7 @@ public class TestAbstractZosProgramCompiler {
         Mockito.when(zosProgramMock.getZosProgramManager()).thenReturn(zosProgramManagerMock);
         Mockito.when(zosProgramManagerMock.getZosBatch()).thenReturn(zosBatchSpiMock);
         Mockito.when(zosProgramManagerMock.getZosBatchForImage(Mockito.any())).thenReturn(zosBatchMock);
+        Mockito.when(zosProgramManagerMock.getCompileCache()).thenReturn(compileCacheMock);
         abstractZosProgramCompiler = new AbstractZosProgramCompiler(zosProgramMock);
         abstractZosProgramCompilerSpy = Mockito.spy(abstractZosProgramCompiler);
     }
@@ -102,6 +106,7 @@ public class TestAbstractZosProgramCompiler {
         Mockito.when(zosProgramMock.getLoadlib()).thenReturn(null);
         Mockito.when(zosProgramManagerMock.getRunLoadlib(Mockito.any())).thenReturn(loadlibMock);
         new AbstractZosProgramCompiler(zosProgramMock);
+        Mockito.verify(zosProgramMock, Mockito.times(1)).setLoadlib(loadlibMock);
         
         Mockito.when(zosProgramManagerMock.getRunLoadlib(Mockito.any())).thenThrow(new ZosProgramManagerException(EXCEPTION));
         ZosProgramException expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
@@ -115,6 +120,12 @@ public class TestAbstractZosProgramCompiler {
         Mockito.doReturn("DUMMY").when(abstractZosProgramCompilerSpy).buildCompileJcl();
         Mockito.doNothing().when(abstractZosProgramCompilerSpy).submitCompileJob(Mockito.any());
         abstractZosProgramCompilerSpy.compile();
+        Mockito.verify(abstractZosProgramCompilerSpy, Mockito.times(1)).submitCompileJob("DUMMY");
+
+        Mockito.doReturn(null).when(abstractZosProgramCompilerSpy).prepareCompile();
+        abstractZosProgramCompilerSpy.compile();
+        Mockito.verify(abstractZosProgramCompilerSpy, Mockito.times(1)).submitCompileJob(Mockito.any());
+        Mockito.doCallRealMethod().when(abstractZosProgramCompilerSpy).prepareCompile();
 
         Mockito.doThrow(new ZosProgramException(EXCEPTION)).when(abstractZosProgramCompilerSpy).submitCompileJob(Mockito.any());
         ZosProgramException expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
@@ -123,6 +134,33 @@ public class TestAbstractZosProgramCompiler {
     	Assert.assertEquals("exception should contain expected cause", EXCEPTION, expectedException.getMessage());
     }
     
+    @Test
+    public void testPrepareCompile() throws ZosProgramException {
+        Mockito.when(zosProgramMock.getImage()).thenReturn(zosImageMock);
+        Mockito.when(zosProgramMock.getName()).thenReturn(NAME);
+        Mockito.when(loadlibMock.getName()).thenReturn("LOADLIB");
+        Mockito.doReturn(JCL).when(abstractZosProgramCompilerSpy).buildCompileJcl();
+        String hash = ZosProgramCompileCache.hash(JCL);
+        Assert.assertEquals("prepareCompile() should return the compile JCL", JCL, abstractZosProgramCompilerSpy.prepareCompile());
+        Mockito.verify(compileCacheMock, Mockito.times(1)).isCached(zosImageMock, loadlibMock, NAME, hash);
+        Mockito.verify(compileCacheMock, Mockito.times(1)).remove(zosImageMock, loadlibMock, NAME);
+
+        Mockito.when(compileCacheMock.isCached(zosImageMock, loadlibMock, NAME, hash)).thenReturn(true);
+        Assert.assertNull("prepareCompile() should return null when the load module is up to date", abstractZosProgramCompilerSpy.prepareCompile());
+        Mockito.verify(compileCacheMock, Mockito.times(1)).remove(zosImageMock, loadlibMock, NAME);
+    }
+    
+    @Test
+    public void testPrepareCompileRunLoadlib() throws ZosProgramException, ZosProgramManagerException {
+        Mockito.when(zosProgramMock.getLoadlib()).thenReturn(null);
+        Mockito.when(zosProgramManagerMock.getRunLoadlib(Mockito.any())).thenReturn(loadlibMock);
+        abstractZosProgramCompilerSpy = Mockito.spy(new AbstractZosProgramCompiler(zosProgramMock));
+        Mockito.doReturn(JCL).when(abstractZosProgramCompilerSpy).buildCompileJcl();
+        Assert.assertEquals("prepareCompile() should return the compile JCL", JCL, abstractZosProgramCompilerSpy.prepareCompile());
+        Mockito.verify(compileCacheMock, Mockito.times(0)).isCached(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(compileCacheMock, Mockito.times(0)).remove(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+    
     @Test
     public void testBuildCompileJcl() throws ZosProgramException, IOException, TestBundleResourceException {
     	Mockito.when(zosProgramManagerMock.getManagerBundleResources()).thenReturn(bundleResourcesMock);
@@ -147,6 +185,12 @@ public class TestAbstractZosProgramCompiler {
         Mockito.doCallRealMethod().when(zosProgramMock).getCompileJob();
         abstractZosProgramCompilerSpy.submitCompileJob(JCL);
         Assert.assertEquals("Error in submitCompileJob() method", zosBatchJobMock, abstractZosProgramCompilerSpy.zosProgram.getCompileJob());
+        Mockito.verify(compileCacheMock, Mockito.times(0)).put(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        
+        Mockito.doReturn(JCL).when(abstractZosProgramCompilerSpy).buildCompileJcl();
+        abstractZosProgramCompilerSpy.prepareCompile();
+        abstractZosProgramCompilerSpy.submitCompileJob(JCL);
+        Mockito.verify(compileCacheMock, Mockito.times(1)).put(zosImageMock, loadlibMock, NAME, ZosProgramCompileCache.hash(JCL));
     }
     
     @Test
@@ -0,0 +1,108 @@
+/*
+ * Licensed Materials - Property of IBM
+ *
+ * (c) Copyright IBM Corp. 2020.
+ */
+package dev.galasa.zosprogram.internal;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import dev.galasa.framework.spi.DynamicStatusStoreException;
+import dev.galasa.framework.spi.IDynamicStatusStoreService;
+import dev.galasa.zos.IZosImage;
+import dev.galasa.zosfile.IZosDataset;
+import dev.galasa.zosfile.ZosDatasetException;
+import dev.galasa.zosprogram.ZosProgramException;
+
+@RunWith(PowerMockRunner.class)
+public class TestZosProgramCompileCache {
+
+    private ZosProgramCompileCache compileCache;
+
+    @Mock
+    private IDynamicStatusStoreService dssMock;
+
+    @Mock
+    private IZosImage zosImageMock;
+
+    @Mock
+    private IZosDataset loadlibMock;
+
+    private static final String IMAGE = "IMAGE";
+
+    private static final String LOADLIB = "HLQ.LOAD";
+
+    private static final String NAME = "NAME";
+
+    private static final String KEY = "image." + IMAGE + ".compile." + LOADLIB + "." + NAME;
+
+    private static final String HASH = "HASH";
+
+    private static final String EXCEPTION = "EXCEPTION";
+
+    @Before
+    public void setup() {
+        Mockito.when(zosImageMock.getImageID()).thenReturn(IMAGE);
+        Mockito.when(loadlibMock.getName()).thenReturn(LOADLIB);
+        compileCache = new ZosProgramCompileCache(dssMock);
+    }
+
+    @Test
+    public void testIsCached() throws ZosProgramException, DynamicStatusStoreException, ZosDatasetException {
+        Assert.assertFalse("isCached() should return false", compileCache.isCached(zosImageMock, loadlibMock, NAME, HASH));
+
+        Mockito.when(dssMock.get(KEY)).thenReturn("OTHER");
+        Assert.assertFalse("isCached() should return false", compileCache.isCached(zosImageMock, loadlibMock, NAME, HASH));
+
+        Mockito.when(dssMock.get(KEY)).thenReturn(HASH);
+        Assert.assertFalse("isCached() should return false", compileCache.isCached(zosImageMock, loadlibMock, NAME, HASH));
+
+        Mockito.when(loadlibMock.memberExists(NAME)).thenReturn(true);
+        Assert.assertTrue("isCached() should return true", compileCache.isCached(zosImageMock, loadlibMock, NAME, HASH));
+
+        Mockito.when(loadlibMock.memberExists(NAME)).thenThrow(new ZosDatasetException(EXCEPTION));
+        ZosProgramException expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
+        	compileCache.isCached(zosImageMock, loadlibMock, NAME, HASH);
+        });
+    	Assert.assertEquals("exception should contain expected cause", "Problem checking the load module " + LOADLIB + "(" + NAME + ")", expectedException.getMessage());
+
+        Mockito.when(dssMock.get(KEY)).thenThrow(new DynamicStatusStoreException(EXCEPTION));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
+        	compileCache.isCached(zosImageMock, loadlibMock, NAME, HASH);
+        });
+    	Assert.assertEquals("exception should contain expected cause", "Problem reading the compile cache for " + LOADLIB + "(" + NAME + ")", expectedException.getMessage());
+    }
+
+    @Test
+    public void testPutAndRemove() throws ZosProgramException, DynamicStatusStoreException {
+        compileCache.put(zosImageMock, loadlibMock, NAME, HASH);
+        Mockito.verify(dssMock, Mockito.times(1)).put(KEY, HASH);
+        compileCache.remove(zosImageMock, loadlibMock, NAME);
+        Mockito.verify(dssMock, Mockito.times(1)).delete(KEY);
+
+        Mockito.doThrow(new DynamicStatusStoreException(EXCEPTION)).when(dssMock).put(Mockito.anyString(), Mockito.anyString());
+        ZosProgramException expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
+        	compileCache.put(zosImageMock, loadlibMock, NAME, HASH);
+        });
+    	Assert.assertEquals("exception should contain expected cause", "Problem updating the compile cache for " + LOADLIB + "(" + NAME + ")", expectedException.getMessage());
+
+        Mockito.doThrow(new DynamicStatusStoreException(EXCEPTION)).when(dssMock).delete(Mockito.anyString());
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
+        	compileCache.remove(zosImageMock, loadlibMock, NAME);
+        });
+    	Assert.assertEquals("exception should contain expected cause", "Problem updating the compile cache for " + LOADLIB + "(" + NAME + ")", expectedException.getMessage());
+    }
+
+    @Test
+    public void testHash() throws ZosProgramException {
+        Assert.assertEquals("hash() should return the expected value", "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", ZosProgramCompileCache.hash(""));
+        Assert.assertEquals("hash() should return the same value for the same content", ZosProgramCompileCache.hash("JCL"), ZosProgramCompileCache.hash("JCL"));
+        Assert.assertNotEquals("hash() should return a different value for different content", ZosProgramCompileCache.hash("JCL1"), ZosProgramCompileCache.hash("JCL2"));
+    }
+}
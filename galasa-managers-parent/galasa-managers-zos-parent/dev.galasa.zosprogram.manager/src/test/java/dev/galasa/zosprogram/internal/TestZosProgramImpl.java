@@ -231,7 +231,15 @@ public class TestZosProgramImpl {
         Path archivePathMock = Mockito.mock(Path.class);
         Mockito.when(zosProgramManagerMock.getArchivePath()).thenReturn(archivePathMock);
         Mockito.when(archivePathMock.resolve(Mockito.anyString())).thenReturn(archivePathMock);
+        ZosProgramCompileCache compileCacheMock = Mockito.mock(ZosProgramCompileCache.class);
+        Mockito.when(zosProgramManagerMock.getCompileCache()).thenReturn(compileCacheMock);
         Assert.assertEquals("Error in compile() method", zosProgramSpy, zosProgramSpy.compile());
+        Mockito.verify(zosBatchMock, Mockito.times(1)).submitJob(Mockito.any(), Mockito.isNull());
+
+        Mockito.when(compileCacheMock.isCached(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        Assert.assertEquals("Error in compile() method", zosProgramSpy, zosProgramSpy.compile());
+        Mockito.verify(zosBatchMock, Mockito.times(1)).submitJob(Mockito.any(), Mockito.isNull());
+        Mockito.when(compileCacheMock.isCached(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(false);
 
         Mockito.when(zosProgramSpy.getLanguage()).thenReturn(Language.COBOL);
         Assert.assertEquals("Error in compile() method", zosProgramSpy, zosProgramSpy.compile());
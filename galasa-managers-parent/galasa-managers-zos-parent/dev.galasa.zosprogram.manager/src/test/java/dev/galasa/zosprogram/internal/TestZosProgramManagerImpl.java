@@ -9,6 +9,7 @@ import java.io.File;
 import java.lang.annotation.Annotation;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 
@@ -30,6 +31,7 @@ import dev.galasa.artifact.IBundleResources;
 import dev.galasa.artifact.internal.ArtifactManagerImpl;
 import dev.galasa.framework.spi.AbstractManager;
 import dev.galasa.framework.spi.ConfigurationPropertyStoreException;
+import dev.galasa.framework.spi.DynamicStatusStoreException;
 import dev.galasa.framework.spi.IFramework;
 import dev.galasa.framework.spi.IManager;
 import dev.galasa.framework.spi.IResultArchiveStore;
@@ -39,6 +41,8 @@ import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosbatch.IZosBatch;
 import dev.galasa.zosbatch.IZosBatchJob;
+import dev.galasa.zosbatch.IZosBatchJobGroup;
+import dev.galasa.zosbatch.ZosBatchException;
 import dev.galasa.zosbatch.spi.IZosBatchSpi;
 import dev.galasa.zosfile.IZosDataset;
 import dev.galasa.zosfile.IZosFileHandler;
@@ -153,6 +157,9 @@ public class TestZosProgramManagerImpl {
     	Assert.assertEquals("Method should return expected object", zosProgramManagerSpy.getZosBatch(), zosBatchSpiMock);
     	Whitebox.setInternalState(zosProgramManagerSpy, "zosFile", zosFileSpiMock);
     	Assert.assertEquals("Method should return expected object", zosProgramManagerSpy.getZosFile(), zosFileSpiMock);
+    	ZosProgramCompileCache compileCacheMock = Mockito.mock(ZosProgramCompileCache.class);
+    	Whitebox.setInternalState(zosProgramManagerSpy, "compileCache", compileCacheMock);
+    	Assert.assertEquals("Method should return expected object", zosProgramManagerSpy.getCompileCache(), compileCacheMock);
     }
     
     @Test
@@ -182,6 +189,16 @@ public class TestZosProgramManagerImpl {
         });
     	Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
     }
+
+    @Test
+    public void testInitialiseDssException() throws DynamicStatusStoreException, ManagerException {
+        Mockito.when(frameworkMock.getDynamicStatusStoreService(Mockito.any())).thenThrow(new DynamicStatusStoreException("exception"));
+        String expectedMessage = "Unable to request framework services";
+        ZosProgramManagerException expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramManagerException.class, ()->{
+        	zosProgramManagerSpy.initialise(frameworkMock, allManagers, activeManagers, new GalasaTest(DummyTestClass.class));
+        });
+    	Assert.assertEquals("exception should contain expected cause", expectedMessage, expectedException.getMessage());
+    }
     
     @Test
     public void testProvisionGenerate() throws Exception {
@@ -200,10 +217,11 @@ public class TestZosProgramManagerImpl {
         LinkedHashMap<String, ZosProgramImpl> zosPrograms = new LinkedHashMap<>();
         zosPrograms.put("DUMMY", zosProgramMock);
         Whitebox.setInternalState(zosProgramManagerSpy, "zosPrograms", zosPrograms);
-        PowerMockito.doReturn(zosProgramMock).when(zosProgramMock).compile();
+        Mockito.doNothing().when(zosProgramManagerSpy).compilePrograms(Mockito.any());
         PowerMockito.doReturn(true).when(zosProgramMock).getCompile();
         zosProgramManagerSpy.startOfTestClass();
         PowerMockito.verifyPrivate(artifactManagerMock, Mockito.times(2)).invoke("getBundleResources", Mockito.any());
+        Mockito.verify(zosProgramManagerSpy, Mockito.times(1)).compilePrograms(Arrays.asList(zosProgramMock));
         
         Mockito.clearInvocations(artifactManagerMock);
         PowerMockito.doReturn(false).when(zosProgramMock).getCompile();
@@ -211,6 +229,59 @@ public class TestZosProgramManagerImpl {
         PowerMockito.verifyPrivate(artifactManagerMock, Mockito.times(2)).invoke("getBundleResources", Mockito.any());
     }
     
+    @Test
+    public void testCompilePrograms() throws ZosManagerException {
+        IZosDataset userLoadlibMock = Mockito.mock(IZosDataset.class);
+        Mockito.when(userLoadlibMock.getName()).thenReturn("USER.LOAD");
+        Whitebox.setInternalState(zosProgramManagerSpy, "runLoadlib", loadlibMock);
+        ZosProgramImpl zosProgramMock1 = newZosProgram(loadlibMock, "JCL1");
+        ZosProgramImpl zosProgramMock2 = newZosProgram(loadlibMock, "JCL2");
+        ZosProgramImpl zosProgramMock3 = newZosProgram(userLoadlibMock, "JCL3");
+        ZosProgramImpl zosProgramMock4 = newZosProgram(userLoadlibMock, "JCL4");
+        ZosProgramImpl zosProgramMock5 = newZosProgram(loadlibMock, null);
+        Whitebox.setInternalState(zosProgramManagerSpy, "zosBatch", zosBatchSpiMock);
+        Mockito.when(zosBatchSpiMock.getZosBatch(Mockito.any())).thenReturn(zosBatchMock);
+        IZosBatchJobGroup jobGroupMock1 = Mockito.mock(IZosBatchJobGroup.class);
+        Mockito.when(jobGroupMock1.getJobs()).thenReturn(Arrays.asList(zosBatchJobMock, zosBatchJobMock, zosBatchJobMock));
+        IZosBatchJobGroup jobGroupMock2 = Mockito.mock(IZosBatchJobGroup.class);
+        Mockito.when(jobGroupMock2.getJobs()).thenReturn(Arrays.asList(zosBatchJobMock));
+        IZosBatchJobGroup jobGroupMock3 = Mockito.mock(IZosBatchJobGroup.class);
+        Mockito.when(jobGroupMock3.getJobs()).thenReturn(Arrays.asList(zosBatchJobMock, zosBatchJobMock));
+        Mockito.when(zosBatchMock.submitJobs(Mockito.any())).thenReturn(jobGroupMock1, jobGroupMock2, jobGroupMock3);
+        
+        zosProgramManagerSpy.compilePrograms(Arrays.asList(zosProgramMock1, zosProgramMock2, zosProgramMock3, zosProgramMock4, zosProgramMock5));
+        Mockito.verify(zosBatchMock, Mockito.times(1)).submitJobs(Arrays.asList("JCL1", "JCL2", "JCL3"));
+        Mockito.verify(zosBatchMock, Mockito.times(1)).submitJobs(Arrays.asList("JCL4"));
+        Mockito.verify(zosProgramMock1.newCompiler(), Mockito.times(1)).compileJobSubmitted(zosBatchJobMock);
+        Mockito.verify(zosProgramMock4.newCompiler(), Mockito.times(1)).compileJobSubmitted(zosBatchJobMock);
+        Mockito.verify(zosProgramMock5.newCompiler(), Mockito.times(0)).compileJobSubmitted(Mockito.any());
+        
+        Mockito.doThrow(new ZosProgramException("EXCEPTION")).when(zosProgramMock1.newCompiler()).compileJobSubmitted(Mockito.any());
+        ZosProgramException expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
+        	zosProgramManagerSpy.compilePrograms(Arrays.asList(zosProgramMock1, zosProgramMock2));
+        });
+    	Assert.assertEquals("exception should contain expected cause", "EXCEPTION", expectedException.getMessage());
+        Mockito.verify(zosProgramMock2.newCompiler(), Mockito.times(2)).compileJobSubmitted(zosBatchJobMock);
+        
+        Mockito.when(zosBatchMock.submitJobs(Mockito.any())).thenThrow(new ZosBatchException("EXCEPTION"));
+        expectedException = Assert.assertThrows("expected exception should be thrown", ZosProgramException.class, ()->{
+        	zosProgramManagerSpy.compilePrograms(Arrays.asList(zosProgramMock2));
+        });
+    	Assert.assertEquals("exception should contain expected cause", "Problem submitting compile jobs on zOS image " + IMAGE, expectedException.getMessage());
+    }
+    
+    private ZosProgramImpl newZosProgram(IZosDataset loadlib, String compileJcl) throws ZosManagerException {
+        ZosProgramImpl zosProgram = Mockito.mock(ZosProgramImpl.class);
+        AbstractZosProgramCompiler compilerMock = Mockito.mock(AbstractZosProgramCompiler.class);
+        Whitebox.setInternalState(compilerMock, "zosProgram", zosProgram);
+        Mockito.when(zosProgram.getImage()).thenReturn(zosImageMock);
+        Mockito.when(zosProgram.getLoadlib()).thenReturn(loadlib);
+        Mockito.when(zosProgram.getLanguage()).thenReturn(Language.COBOL);
+        Mockito.when(zosProgram.newCompiler()).thenReturn(compilerMock);
+        Mockito.when(compilerMock.prepareCompile()).thenReturn(compileJcl);
+        return zosProgram;
+    }
+    
     @Test
     public void testYouAreRequired() throws Exception {
         allManagers.add(zosManagerMock);
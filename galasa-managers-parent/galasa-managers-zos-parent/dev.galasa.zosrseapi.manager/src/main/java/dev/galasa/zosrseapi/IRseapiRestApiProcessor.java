@@ -27,4 +27,10 @@ public interface IRseapiRestApiProcessor {
      * @throws ZosBatchException
      */
     public @NotNull IRseapiResponse sendRequest(RseapiRequestType requestType, String path, Map<String, String> headers, Object body, List<Integer> validStatusCodes, boolean convert) throws RseapiException;
+
+    /**
+     * Close the RSE API server connections of a processor returned by the manager's newDedicatedRseapiRestApiProcessor method.
+     * A processor that shares its server connections with other processors is not affected
+     */
+    public void close();
 }
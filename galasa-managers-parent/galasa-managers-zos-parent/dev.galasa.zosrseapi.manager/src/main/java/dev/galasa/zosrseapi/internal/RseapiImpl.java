@@ -84,6 +84,13 @@ public class RseapiImpl implements IRseapi {
         this.commonHeaders.put(key, value);
     }
 
+    /**
+     * Close the HTTP client of this server instance
+     */
+    public void close() {
+        this.httpClient.close();
+    }
+
     @Override
     public void clearHeaders() {
         this.commonHeaders.clear();
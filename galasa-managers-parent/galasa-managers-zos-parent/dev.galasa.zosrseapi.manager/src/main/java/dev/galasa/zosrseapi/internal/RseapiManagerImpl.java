@@ -218,4 +218,22 @@ public class RseapiManagerImpl extends AbstractManager implements IRseapiManager
         }
         return new RseapiRestApiProcessor(getRseapis(image));
     }
+
+    @Override
+    public IRseapiRestApiProcessor newDedicatedRseapiRestApiProcessor(IZosImage image, boolean restrictToImage) throws RseapiManagerException {
+        Map<String, IRseapi> rseapiMap = getRseapis(image);
+        boolean imageServer = false;
+        Map<String, IRseapi> dedicatedRseapiMap = new HashMap<>();
+        for (Map.Entry<String, IRseapi> entry : rseapiMap.entrySet()) {
+            if (entry.getValue().getImage().getImageID().equals(image.getImageID())) {
+                imageServer = true;
+            }
+            // A new server instance has its own HTTP client and headers, so it is not shared with other processors
+            dedicatedRseapiMap.put(entry.getKey(), new RseapiImpl(this, entry.getKey()));
+        }
+        if (restrictToImage && !imageServer) {
+            throw new RseapiManagerException("No RSE API server configured on " + image.getImageID());
+        }
+        return new RseapiRestApiProcessor(dedicatedRseapiMap, true);
+    }
 }
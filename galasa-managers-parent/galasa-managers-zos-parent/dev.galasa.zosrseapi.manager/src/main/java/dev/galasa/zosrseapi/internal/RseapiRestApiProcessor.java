@@ -37,9 +37,16 @@ public class RseapiRestApiProcessor implements IRseapiRestApiProcessor {
     
     private final HashMap<String, IRseapi> rseapis = new LinkedHashMap<>();
     
+    private final boolean dedicated;
+    
     private static final Log logger = LogFactory.getLog(RseapiRestApiProcessor.class);
     
     public RseapiRestApiProcessor(Map<String, IRseapi> rseapis) {
+        this(rseapis, false);
+    }
+    
+    public RseapiRestApiProcessor(Map<String, IRseapi> rseapis, boolean dedicated) {
+        this.dedicated = dedicated;
         this.rseapis.putAll(rseapis);
         this.currentRseapiImageId = this.rseapis.entrySet().iterator().next().getKey();
         this.currentRseapi = this.rseapis.get(this.currentRseapiImageId);
@@ -104,6 +111,15 @@ public class RseapiRestApiProcessor implements IRseapiRestApiProcessor {
         throw new RseapiException("Unable to get valid response from RSE API server");
     }
     
+    @Override
+    public void close() {
+        if (this.dedicated) {
+            for (IRseapi server : this.rseapis.values()) {
+                ((RseapiImpl) server).close();
+            }
+        }
+    }
+    
     protected IRseapi getCurrentRseapiServer() {
         logger.debug("Using RSE API server on " + this.currentRseapi);
         this.currentRseapi.clearHeaders();
@@ -45,4 +45,14 @@ public interface IRseapiManagerSpi extends IRseapiManager {
      * @throws RseapiManagerException
      */
     public IRseapiRestApiProcessor newRseapiRestApiProcessor(IZosImage image, boolean restrictToImage) throws RseapiManagerException;
+
+    /**
+     * Returns a {@link IRseapiRestApiProcessor} for a single image that does not share its RSE API server 
+     * connections with any other processor, so it can be used on a different thread to other processors
+     * @param image
+     * @param restrictToImage
+     * @return {@link IRseapiRestApiProcessor}
+     * @throws RseapiManagerException
+     */
+    public IRseapiRestApiProcessor newDedicatedRseapiRestApiProcessor(IZosImage image, boolean restrictToImage) throws RseapiManagerException;
 }
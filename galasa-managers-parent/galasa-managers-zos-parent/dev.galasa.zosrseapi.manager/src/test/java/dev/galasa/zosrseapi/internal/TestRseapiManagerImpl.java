@@ -39,6 +39,7 @@ import dev.galasa.zos.IZosImage;
 import dev.galasa.zos.ZosManagerException;
 import dev.galasa.zos.internal.ZosManagerImpl;
 import dev.galasa.zosrseapi.IRseapi;
+import dev.galasa.zosrseapi.IRseapiRestApiProcessor;
 import dev.galasa.zosrseapi.RseapiException;
 import dev.galasa.zosrseapi.RseapiManagerException;
 import dev.galasa.zosrseapi.internal.properties.Https;
@@ -286,6 +287,32 @@ public class TestRseapiManagerImpl {
         });
     	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
     }
+    
+    @Test
+    public void testNewDedicatedRseapiRestApiProcessor() throws ZosManagerException, CredentialsException {
+        setupRseapiImplInitialize();
+        
+        HashMap<String, IRseapi> rseapis = new HashMap<>();
+        rseapis.put(SERVER, rseapiMock);
+        Mockito.doReturn(rseapis).when(rseapiManagerSpy).getRseapis(Mockito.any());
+        Mockito.when(rseapiMock.getImage()).thenReturn(zosImageMock);
+        
+        IRseapiRestApiProcessor processor = rseapiManagerSpy.newDedicatedRseapiRestApiProcessor(zosImageMock, true);
+        IRseapi rseapi = ((RseapiRestApiProcessor) processor).getCurrentRseapiServer();
+        Assert.assertNotNull("newDedicatedRseapiRestApiProcessor() should return a RSE API server", rseapi);
+        Assert.assertNotEquals("newDedicatedRseapiRestApiProcessor() should not return the shared RSE API server", rseapiMock, rseapi);
+        
+        processor.close();
+        Mockito.verify(httpClientMock, Mockito.times(1)).close();
+        
+        IZosImage zosImageMock1 = Mockito.mock(IZosImage.class);
+		Mockito.when(zosImageMock1 .getImageID()).thenReturn(IMAGE + "1");
+        String expectedMessage = "No RSE API server configured on " + IMAGE + "1";
+        RseapiManagerException expectedException = Assert.assertThrows("expected exception should be thrown", RseapiManagerException.class, ()->{
+        	rseapiManagerSpy.newDedicatedRseapiRestApiProcessor(zosImageMock1, true);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
 
     private void setupRseapiImplInitialize() throws ZosManagerException, CredentialsException {        
         PowerMockito.mockStatic(ServerCreds.class);
@@ -7,6 +7,8 @@ package dev.galasa.zostsocommand.ssh.manager.internal;
 
 import javax.validation.constraints.NotNull;
 
+import dev.galasa.ipnetwork.ICommandStream;
+
 import dev.galasa.zostsocommand.IZosTSOCommand;
 import dev.galasa.zostsocommand.ZosTSOCommandException;
 import dev.galasa.zosunixcommand.IZosUNIXCommand;
@@ -48,6 +50,15 @@ public class ZosTSOCommandImpl implements IZosTSOCommand {
         return commandResponse;
     }
 
+    @Override
+    public ICommandStream issueStreamingCommand(@NotNull String command, long timeout) throws ZosTSOCommandException {
+        try {
+            return this.zosUnixCommand.issueStreamingCommand(buildCommand(command), timeout);
+        } catch (ZosUNIXCommandException e) {
+            throw new ZosTSOCommandException("Unable to issue zOS TSO Command", e);
+        }
+    }
+
     protected String buildCommand(String command) {
         StringBuilder builtCommand = new StringBuilder();
         builtCommand.append(tsocmdPath);
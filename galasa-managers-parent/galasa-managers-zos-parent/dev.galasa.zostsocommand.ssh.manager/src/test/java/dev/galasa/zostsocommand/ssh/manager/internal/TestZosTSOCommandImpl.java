@@ -14,6 +14,7 @@ import org.mockito.Mockito;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import dev.galasa.ICredentials;
+import dev.galasa.ipnetwork.ICommandStream;
 import dev.galasa.ipnetwork.IIpHost;
 import dev.galasa.zos.IZosImage;
 import dev.galasa.zostsocommand.ZosTSOCommandException;
@@ -85,4 +86,19 @@ public class TestZosTSOCommandImpl {
         });
     	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
     }
+    
+    @Test
+    public void testIssueStreamingCommand() throws ZosTSOCommandException, ZosUNIXCommandException {
+        ICommandStream commandStreamMock = Mockito.mock(ICommandStream.class);
+        Mockito.when(zosUNIXCommandMock.issueStreamingCommand(Mockito.any(), Mockito.anyLong())).thenReturn(commandStreamMock);
+        Assert.assertEquals("Error in issueStreamingCommand() method", commandStreamMock, zosTSOCommandSpy.issueStreamingCommand(FIXED_COMMAND, 1L));
+        Mockito.verify(zosUNIXCommandMock).issueStreamingCommand(TSOCMD_PATH + " '" + FIXED_COMMAND + "'", 1L);
+
+        Mockito.when(zosUNIXCommandMock.issueStreamingCommand(Mockito.any(), Mockito.anyLong())).thenThrow(new ZosUNIXCommandException());
+        String expectedMessage = "Unable to issue zOS TSO Command";
+        ZosTSOCommandException expectedException = Assert.assertThrows("expected exception should be thrown", ZosTSOCommandException.class, ()->{
+        	zosTSOCommandSpy.issueStreamingCommand(FIXED_COMMAND, 1L);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
 }
\ No newline at end of file
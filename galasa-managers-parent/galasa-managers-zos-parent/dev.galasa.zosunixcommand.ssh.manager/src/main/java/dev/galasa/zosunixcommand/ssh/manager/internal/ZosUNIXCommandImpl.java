@@ -13,6 +13,7 @@ import org.apache.commons.logging.LogFactory;
 import dev.galasa.ICredentials;
 import dev.galasa.ICredentialsUsername;
 import dev.galasa.ipnetwork.ICommandShell;
+import dev.galasa.ipnetwork.ICommandStream;
 import dev.galasa.ipnetwork.IIpHost;
 import dev.galasa.ipnetwork.IpNetworkManagerException;
 import dev.galasa.ipnetwork.SSHAuthFailException;
@@ -80,6 +81,21 @@ public class ZosUNIXCommandImpl implements IZosUNIXCommand {
 	    return commandResponse;
 	}
 
+    @Override
+    public ICommandStream issueStreamingCommand(@NotNull String command, long timeout) throws ZosUNIXCommandException {
+        return issueStreamingCommand(command, timeout, getDefaultCredentials());
+    }
+
+	@Override
+	public ICommandStream issueStreamingCommand(@NotNull String command, long timeout, ICredentials credentials) throws ZosUNIXCommandException {
+	    try {
+	        logger.debug("About to issue streaming command :" + command);
+	        return getCommandShell(credentials).issueStreamingCommand(command, timeout);
+        } catch (IpNetworkManagerException e) {
+        	throw new ZosUNIXCommandException(UNABLE_TO_ISSUE_ZOS_UNIX_COMMAND, e);
+        }
+	}
+
 	protected ICredentials getDefaultCredentials() throws ZosUNIXCommandException {
 		if (this.defaultCredentials == null) {
 	        try {
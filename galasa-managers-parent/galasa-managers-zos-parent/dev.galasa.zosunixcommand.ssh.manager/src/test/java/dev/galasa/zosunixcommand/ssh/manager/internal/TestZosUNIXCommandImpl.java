@@ -17,6 +17,7 @@ import org.powermock.reflect.Whitebox;
 import dev.galasa.ICredentials;
 import dev.galasa.ICredentialsUsername;
 import dev.galasa.ipnetwork.ICommandShell;
+import dev.galasa.ipnetwork.ICommandStream;
 import dev.galasa.ipnetwork.IIpHost;
 import dev.galasa.ipnetwork.IpNetworkManagerException;
 import dev.galasa.ipnetwork.SSHAuthFailException;
@@ -89,6 +90,22 @@ public class TestZosUNIXCommandImpl {
     	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
     }
     
+    @Test
+    public void testIssueStreamingCommand() throws ZosUNIXCommandException, IpNetworkManagerException {
+        ICommandStream commandStreamMock = Mockito.mock(ICommandStream.class);
+        Mockito.doReturn(credentialsMock).when(zosUNIXCommandSpy).getDefaultCredentials();
+        Mockito.doReturn(commandShellMock).when(zosUNIXCommandSpy).getCommandShell(Mockito.any());
+        Mockito.doReturn(commandStreamMock).when(commandShellMock).issueStreamingCommand(Mockito.any(), Mockito.anyLong());
+        Assert.assertEquals("Error in issueStreamingCommand() method", commandStreamMock, zosUNIXCommandSpy.issueStreamingCommand(FIXED_COMMAND, 1L));
+        
+        Mockito.when(commandShellMock.issueStreamingCommand(Mockito.any(), Mockito.anyLong())).thenThrow(new IpNetworkManagerException());
+        String expectedMessage = "Unable to issue zOS UNIX Command";
+        ZosUNIXCommandException expectedException = Assert.assertThrows("expected exception should be thrown", ZosUNIXCommandException.class, ()->{
+        	zosUNIXCommandSpy.issueStreamingCommand(FIXED_COMMAND, 1L);
+        });
+    	Assert.assertEquals("exception should contain expected message", expectedMessage, expectedException.getMessage());
+    }
+    
     @Test
 	public void testGetDefaultCredentials() throws ZosManagerException {
 		Whitebox.setInternalState(zosUNIXCommandSpy, "defaultCredentials", (ICredentials) null);